@@ -1,46 +1,75 @@
 package base;
 
+import utils.ClickEngine;
+import utils.CommandStats;
+import utils.ConcurrencyController;
 import utils.ConfigReader;
 import base.DriverFactory;
+import listeners.RetryLane;
+import listeners.TestLifecycleListener;
 import org.openqa.selenium.WebDriver;
-import org.testng.ITestResult;
 import org.testng.annotations.*;
 import utils.ExtentReportManager;
-import com.aventstack.extentreports.ExtentReports;
-import com.aventstack.extentreports.ExtentTest;
-import utils.ScreenshotUtil;
+import utils.ElementCache;
+import utils.FlightEvents;
+import utils.Log;
+import utils.PageScripts;
+import utils.ReportTest;
+import utils.ResultCache;
+import utils.ScreencastRecorder;
+import utils.StepTimeline;
 
 import java.lang.reflect.Method;
 
+@Listeners({ TestLifecycleListener.class, RetryLane.class })
 public class BaseTest {
 
     protected WebDriver driver;
-    protected ExtentReports extent;
-    protected ExtentTest test;
+    protected ReportTest test;
     protected boolean retainSession = false; // Flag to skip auto-navigation to login
 
-    @BeforeSuite
-    public void setupReport() {
-        extent = ExtentReportManager.getExtentReports();
-    }
-
     @BeforeClass
     public void setUpDriverOnce() {
-        DriverFactory.initializeDriver();
-        driver = DriverFactory.getDriver();
-        // Initial navigation
-        driver.get(ConfigReader.get("url"));
+        if (FixtureManager.isFixtureClass(getClass())) {
+            // Fixture classes get a driver per worker thread in beforeEachTest
+            return;
+        }
+        FlightEvents.ClassSetupEvent setup = FlightEvents.classSetup(getClass().getSimpleName());
+        try {
+            SessionAffinity.enterClass(getClass());
+            driver = SessionAffinity.takeCarriedDriver();
+            if (driver != null) {
+                // Same browser and session as the previous class of this role lane
+                return;
+            }
+            DriverFactory.initializeDriver();
+            driver = DriverFactory.getDriver();
+            // Initial navigation
+            driver.get(ConfigReader.get("url"));
+        } finally {
+            setup.done();
+        }
     }
 
     @BeforeMethod
     public void beforeEachTest(Method method) {
-        test = ExtentReportManager.createTest(method.getName());
-        ExtentReportManager.resetStepCounter(); // Reset step counter for each new test
+        // Created with its log and metric context by TestLifecycleListener
+        test = ExtentReportManager.getTest();
+        Fixture fixture = FixtureManager.find(method);
+
+        // Declared state: restore it on this thread's driver instead of relying on
+        // the previous test in the chain
+        if (fixture != null) {
+            WebDriver threadDriver = FixtureManager.driverForCurrentThread(getClass());
+            FixtureManager.apply(threadDriver, fixture);
+            ElementCache.forDriver(threadDriver).resetStats();
+            return;
+        }
 
         // Robust Session Check & Self-Healing
         try {
             if (driver == null) {
-                System.out.println("[WARN] Driver is null. Re-initializing for test: " + method.getName());
+                Log.warn("Driver is null. Re-initializing for test: " + method.getName());
                 DriverFactory.initializeDriver();
                 driver = DriverFactory.getDriver();
                 driver.get(ConfigReader.get("url"));
@@ -49,7 +78,7 @@ public class BaseTest {
                 driver.getCurrentUrl();
             }
         } catch (Exception e) {
-            System.err.println(
+            Log.error(
                     "[CRITICAL] Driver session lost/crashed for test " + method.getName() + ". Restarting driver...");
             try {
                 DriverFactory.quitDriver();
@@ -65,15 +94,15 @@ public class BaseTest {
             String targetUrl = ConfigReader.get("url"); // Login URL
             boolean isOnLoginPage = currentUrl.contains("login") || currentUrl.equals(targetUrl);
 
-            System.out.println(
-                    "[DEBUG] Test=" + method.getName() + " URL=" + currentUrl + " RetainSession=" + retainSession);
+            Log.debug(
+                    "Test=" + method.getName() + " URL=" + currentUrl + " RetainSession=" + retainSession);
 
             if (retainSession) {
                 // If we want to retain session, but we are back on login page (e.g. prev test
                 // logged out or crashed)
                 if (isOnLoginPage) {
-                    System.out.println(
-                            "[WARN] retainSession=true but on Login page. Forcing navigation to Login to allow re-login.");
+                    Log.warn(
+                            "retainSession=true but on Login page. Forcing navigation to Login to allow re-login.");
 
                     // Most tests call `loginPage.loginWith...`. If that method sees dashboard, it
                     // skips login.
@@ -86,47 +115,64 @@ public class BaseTest {
             } else {
                 // !retainSession => Ensure we are at Login Page
                 if (!isOnLoginPage) {
-                    System.out.println("[INFO] Navigating to login page for test: " + method.getName());
+                    Log.info("Navigating to login page for test: " + method.getName());
                     driver.get(targetUrl);
                 }
             }
+            ElementCache.forDriver(driver).resetStats();
         }
     }
 
-    @AfterMethod
-    public void afterEachTest(ITestResult result) {
-        if (result.getStatus() == ITestResult.FAILURE) {
-            // Log the failure with exception details
-            test.fail("<b><font color='red'>Test Failed:</font></b> " + result.getName());
-            test.fail(result.getThrowable());
-
-            // Capture and embed screenshot as Base64
-            String base64Screenshot = ScreenshotUtil.captureScreenshotAsBase64(driver);
-            if (base64Screenshot != null) {
-                test.addScreenCaptureFromBase64String(base64Screenshot, "Failure Screenshot");
-                System.out.println("[INFO] Screenshot captured for failed test: " + result.getName());
-            } else {
-                test.info("Could not capture screenshot for this failure");
-            }
-        } else if (result.getStatus() == ITestResult.SUCCESS) {
-            test.pass("<b><font color='green'>Test Passed:</font></b> " + result.getName());
-        } else if (result.getStatus() == ITestResult.SKIP) {
-            test.skip("<b><font color='orange'>Test Skipped:</font></b> " + result.getName());
-            if (result.getThrowable() != null) {
-                test.skip(result.getThrowable());
-            }
-        }
-
-        ExtentReportManager.removeTest();
-    }
-
     @AfterClass
     public void tearDownDriverOnce() {
+        FixtureManager.releaseDrivers(getClass());
+        if (SessionAffinity.keepForNextClass(DriverFactory.getDriver())) {
+            return;
+        }
         DriverFactory.quitDriver();
     }
 
+    /**
+     * Driver of the current thread. Fixture-based tests must use this instead of
+     * the {@code driver} field, which belongs to the chained-style class thread.
+     */
+    protected WebDriver getDriver() {
+        return DriverFactory.getDriver();
+    }
+
     @AfterSuite
     public void tearDownReport() {
-        extent.flush();
+        Log.info(ElementCache.describeSuiteStats());
+        Log.info(PageScripts.describeStats());
+        Log.info(ClickEngine.describeStats());
+        Log.info(FixtureManager.describeStats());
+        Log.info(SessionAffinity.describeStats());
+        SessionAffinity.quitKeptDrivers();
+        if (BrowserContextPool.isEnabled()) {
+            Log.info(BrowserContextPool.get().describeStats());
+        }
+        if (ConcurrencyController.isEnabled()) {
+            ConcurrencyController.get().finish();
+            Log.info(ConcurrencyController.get().describeStats());
+        }
+        if (ResultCache.isEnabled()) {
+            ResultCache.get().save();
+            Log.info(ResultCache.get().describeStats());
+        }
+        if (!RetryLane.isRunning()) {
+            // The lane runs after this JVM exits (RetryLane.main)
+            RetryLane.writeLane();
+            Log.info(RetryLane.describeStats());
+            RetryLane.saveHistory();
+        }
+        if (ScreencastRecorder.isEnabled()) {
+            Log.info(ScreencastRecorder.describeStats());
+        }
+        ClickEngine.saveHistory();
+        StepTimeline.writeSuiteTimeline();
+        if (CommandStats.isEnabled()) {
+            Log.info(CommandStats.describeStats());
+        }
+        // TestLifecycleListener renders the report once the suite is done
     }
 }
@@ -0,0 +1,326 @@
+package base;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.v133.browser.model.BrowserContextID;
+import org.openqa.selenium.devtools.v133.target.Target;
+import org.openqa.selenium.devtools.v133.target.model.TargetID;
+import org.openqa.selenium.devtools.v133.target.model.TargetInfo;
+import org.openqa.selenium.support.decorators.Decorated;
+import org.openqa.selenium.support.decorators.WebDriverDecorator;
+import utils.ConfigReader;
+import utils.Log;
+import utils.ResourceMonitor;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Runs several isolated browser contexts in one Chrome instead of one Chrome
+ * per test thread.
+ *
+ * A host Chrome is launched with the usual options. Each lease creates a new
+ * browser context through CDP {@code Target.createBrowserContext} (own
+ * cookies, storage and cache, like an incognito profile), opens a tab in it
+ * and attaches a separate ChromeDriver session to that tab via the host's
+ * debugger address, so every thread still has its own WebDriver. Window
+ * handles are filtered to the lease's context, so code that switches to "the
+ * new tab" never sees another thread's tabs. A new host is started when all
+ * hosts have {@code browser.contextsPerBrowser} contexts; a host is quit when
+ * its last context is released.
+ *
+ * Chrome memory (Linux only) is sampled at host launch and at each release
+ * so the cost of a context can be compared with the cost of a browser.
+ *
+ * Enable with {@code browser.contextsPerBrowser} greater than 1.
+ */
+public class BrowserContextPool {
+
+    private static final long MB = 1024 * 1024;
+
+    private static BrowserContextPool instance;
+
+    /** One shared Chrome and the contexts open in it. */
+    private static class Host {
+        final ChromeDriver driver;
+        final DevTools devTools;
+        final String debuggerAddress;
+        int contexts;
+
+        Host(ChromeDriver driver, String debuggerAddress) {
+            this.driver = driver;
+            this.debuggerAddress = debuggerAddress;
+            this.devTools = driver.getDevTools();
+            // No session: Target.* browser-level commands go to the browser endpoint
+        }
+
+        Set<String> pageTargets(BrowserContextID context) {
+            Set<String> ids = new LinkedHashSet<>();
+            synchronized (this) {
+                for (TargetInfo info : devTools.send(Target.getTargets(Optional.empty()))) {
+                    if ("page".equals(info.getType()) && info.getBrowserContextId()
+                            .map(id -> id.toString().equals(context.toString())).orElse(false)) {
+                        ids.add(info.getTargetId().toString());
+                    }
+                }
+            }
+            return ids;
+        }
+    }
+
+    /** A leased context: its host, CDP context id and attached driver. */
+    private static class Lease {
+        final Host host;
+        final BrowserContextID context;
+
+        Lease(Host host, BrowserContextID context) {
+            this.host = host;
+            this.context = context;
+        }
+    }
+
+    private final int contextsPerBrowser;
+    private final List<Host> hosts = new ArrayList<>();
+    private final Map<WebDriver, Lease> leases = new ConcurrentHashMap<>();
+
+    // Memory accounting (bytes); -1 where /proc is not available
+    private long hostLaunchRss;
+    private int hostLaunches;
+    private long contextRss;
+    private int contextSamples;
+    private int peakContexts;
+
+    private BrowserContextPool(int contextsPerBrowser) {
+        this.contextsPerBrowser = contextsPerBrowser;
+    }
+
+    public static boolean isEnabled() {
+        return contextsPerBrowser() > 1;
+    }
+
+    public static synchronized BrowserContextPool get() {
+        if (instance == null) {
+            instance = new BrowserContextPool(contextsPerBrowser());
+        }
+        return instance;
+    }
+
+    private static int contextsPerBrowser() {
+        try {
+            return Integer.parseInt(ConfigReader.get("browser.contextsPerBrowser", "1").trim());
+        } catch (NumberFormatException e) {
+            return 1;
+        }
+    }
+
+    // ==================== Leases ====================
+
+    /**
+     * A driver on a fresh, isolated context. Falls back to a separate browser
+     * if the context cannot be created or attached.
+     */
+    public WebDriver lease(ChromeOptions hostOptions) {
+        Host host;
+        BrowserContextID context;
+        String targetId;
+        synchronized (this) {
+            host = hostWithRoom(hostOptions);
+            try {
+                synchronized (host) {
+                    context = host.devTools.send(Target.createBrowserContext(Optional.empty(),
+                            Optional.empty(), Optional.empty(), Optional.empty()));
+                    TargetID target = host.devTools.send(Target.createTarget("about:blank", Optional.empty(),
+                            Optional.empty(), Optional.empty(), Optional.empty(), Optional.of(context),
+                            Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty()));
+                    targetId = target.toString();
+                }
+            } catch (Exception e) {
+                Log.error("[Contexts] Could not create a browser context: " + e.getMessage()
+                        + ". Launching a separate browser.");
+                releaseHostIfIdle(host);
+                return new ChromeDriver(hostOptions);
+            }
+            host.contexts++;
+            peakContexts = Math.max(peakContexts, totalContexts());
+        }
+
+        try {
+            ChromeOptions attach = new ChromeOptions();
+            attach.setExperimentalOption("debuggerAddress", host.debuggerAddress);
+            ChromeDriver child = new ChromeDriver(attach);
+            child.switchTo().window(targetId);
+            WebDriver driver = new ContextWindows(host, context).decorate(child);
+            leases.put(driver, new Lease(host, context));
+            Log.info("[Contexts] " + Thread.currentThread().getName() + " got context " + context
+                    + " (" + host.contexts + "/" + contextsPerBrowser + " in this browser)");
+            return driver;
+        } catch (RuntimeException e) {
+            Log.error("[Contexts] Could not attach to context " + context + ": " + e.getMessage()
+                    + ". Launching a separate browser.");
+            dispose(host, context);
+            return new ChromeDriver(hostOptions);
+        }
+    }
+
+    /**
+     * Detach a leased driver and dispose its context. Returns false for
+     * drivers that are not from this pool (quit them normally).
+     */
+    public boolean release(WebDriver driver) {
+        Lease lease = leases.remove(driver);
+        if (lease == null) {
+            return false;
+        }
+        sampleContextMemory();
+        try {
+            // Attached via debuggerAddress: ends the ChromeDriver session, Chrome keeps running
+            driver.quit();
+        } catch (Exception e) {
+            /* Session already gone */ }
+        dispose(lease.host, lease.context);
+        return true;
+    }
+
+    private Host hostWithRoom(ChromeOptions hostOptions) {
+        for (Host host : hosts) {
+            if (host.contexts < contextsPerBrowser) {
+                return host;
+            }
+        }
+        long before = ResourceMonitor.chromeRss()[0];
+        ChromeDriver driver = new ChromeDriver(hostOptions);
+        String address = debuggerAddress(driver.getCapabilities());
+        Host host = new Host(driver, address);
+        hosts.add(host);
+        long after = ResourceMonitor.chromeRss()[0];
+        if (before >= 0 && after >= 0) {
+            hostLaunchRss += after - before;
+            hostLaunches++;
+        }
+        Log.info("[Contexts] Started browser " + hosts.size() + " for up to " + contextsPerBrowser
+                + " contexts at " + address);
+        return host;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String debuggerAddress(Capabilities capabilities) {
+        Object chromeOptions = capabilities.getCapability("goog:chromeOptions");
+        if (chromeOptions instanceof Map) {
+            Object address = ((Map<String, Object>) chromeOptions).get("debuggerAddress");
+            if (address != null) {
+                return address.toString();
+            }
+        }
+        throw new IllegalStateException("Chrome did not report a debugger address");
+    }
+
+    private void dispose(Host host, BrowserContextID context) {
+        try {
+            synchronized (host) {
+                host.devTools.send(Target.disposeBrowserContext(context));
+            }
+        } catch (Exception e) {
+            Log.info("[Contexts] Could not dispose context " + context + ": " + e.getMessage());
+        }
+        synchronized (this) {
+            host.contexts--;
+            releaseHostIfIdle(host);
+        }
+    }
+
+    private synchronized void releaseHostIfIdle(Host host) {
+        if (host.contexts > 0 || !hosts.remove(host)) {
+            return;
+        }
+        try {
+            host.driver.quit();
+        } catch (Exception e) {
+            /* Already gone */ }
+    }
+
+    private synchronized int totalContexts() {
+        int total = 0;
+        for (Host host : hosts) {
+            total += host.contexts;
+        }
+        return total;
+    }
+
+    /**
+     * Chrome memory now, less the browsers' own footprint, spread over the
+     * open contexts. Taken at release, when the context has done real work.
+     */
+    private synchronized void sampleContextMemory() {
+        long rss = ResourceMonitor.chromeRss()[0];
+        int contexts = totalContexts();
+        if (rss < 0 || hostLaunches == 0 || contexts == 0) {
+            return;
+        }
+        long browsers = hosts.size() * (hostLaunchRss / hostLaunches);
+        contextRss += Math.max(0, rss - browsers) / contexts;
+        contextSamples++;
+    }
+
+    // ==================== Window filtering ====================
+
+    /**
+     * Limits getWindowHandles() to the tabs of one context; everything else
+     * goes straight to the attached driver.
+     */
+    private static class ContextWindows extends WebDriverDecorator<WebDriver> {
+        private final Host host;
+        private final BrowserContextID context;
+
+        ContextWindows(Host host, BrowserContextID context) {
+            this.host = host;
+            this.context = context;
+        }
+
+        @Override
+        public Object call(Decorated<?> target, Method method, Object[] args) throws Throwable {
+            Object result = super.call(target, method, args);
+            if ("getWindowHandles".equals(method.getName()) && result instanceof Set) {
+                Set<String> own = host.pageTargets(context);
+                Set<String> filtered = new LinkedHashSet<>();
+                for (Object handle : (Set<?>) result) {
+                    if (own.contains(handle.toString())) {
+                        filtered.add(handle.toString());
+                    }
+                }
+                return filtered;
+            }
+            return result;
+        }
+    }
+
+    // ==================== Metrics ====================
+
+    /**
+     * Browsers and contexts used, and Chrome memory per browser and per
+     * context (Linux only).
+     */
+    public synchronized String describeStats() {
+        StringBuilder summary = new StringBuilder(String.format(
+                "Browser contexts: up to %d per browser, peak %d context(s) open", contextsPerBrowser,
+                peakContexts));
+        if (hostLaunches > 0 && contextSamples > 0) {
+            long perBrowser = hostLaunchRss / hostLaunches;
+            long perContext = contextRss / contextSamples;
+            summary.append(String.format("%n  browser itself: ~%d MB, each context in use: ~%d MB"
+                    + " (a separate browser per worker: ~%d MB)", perBrowser / MB, perContext / MB,
+                    (perBrowser + perContext) / MB));
+        } else {
+            summary.append(String.format("%n  memory per context not measured (needs /proc)"));
+        }
+        return summary.toString();
+    }
+}
@@ -0,0 +1,66 @@
+package base;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.decorators.Decorated;
+import org.openqa.selenium.support.decorators.WebDriverDecorator;
+import utils.CommandStats;
+import utils.StepTimeline;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Times every WebDriver, WebElement, navigation and options call for the
+ * step timeline ({@link StepTimeline}) and the command statistics
+ * ({@link CommandStats}). Elements found through the driver are decorated
+ * too, so element clicks and reads are timed as well.
+ */
+class CommandTracer extends WebDriverDecorator<WebDriver> {
+
+    // Calls that only return another local view of the driver
+    private static final Set<String> LOCAL = Set.of("navigate", "manage", "switchTo", "timeouts", "window",
+            "getWrappedDriver", "getWrappedElement", "equals", "hashCode", "toString");
+
+    private static final Map<WebDriver, WebDriver> ORIGINALS = new ConcurrentHashMap<>();
+
+    /**
+     * The traced driver; the original stays reachable through
+     * {@link #release(WebDriver)}.
+     */
+    static WebDriver trace(WebDriver driver) {
+        WebDriver traced = new CommandTracer().decorate(driver);
+        ORIGINALS.put(traced, driver);
+        return traced;
+    }
+
+    /**
+     * Forget a traced driver; returns the driver it wraps, or the argument
+     * itself when it is not traced.
+     */
+    static WebDriver release(WebDriver driver) {
+        WebDriver original = ORIGINALS.remove(driver);
+        return original != null ? original : driver;
+    }
+
+    @Override
+    public Object call(Decorated<?> target, Method method, Object[] args) throws Throwable {
+        String name = method.getName();
+        if (LOCAL.contains(name)) {
+            return super.call(target, method, args);
+        }
+        long entered = System.nanoTime();
+        String callSite = CommandStats.isEnabled() ? CommandStats.callSite() : null;
+        long start = System.nanoTime();
+        try {
+            return super.call(target, method, args);
+        } finally {
+            long end = System.nanoTime();
+            StepTimeline.command(name, StepTimeline.categorize(target.getOriginal(), name), start, end);
+            if (callSite != null) {
+                CommandStats.record(name, callSite, end - start, start - entered + System.nanoTime() - end);
+            }
+        }
+    }
+}
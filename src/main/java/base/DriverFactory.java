@@ -4,7 +4,14 @@ import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
 import io.github.bonigarcia.wdm.WebDriverManager;
+import utils.CommandStats;
+import utils.ConcurrencyController;
 import utils.ConfigReader;
+import utils.ElementCache;
+import utils.FlightEvents;
+import utils.Log;
+import utils.ScreencastRecorder;
+import utils.StepTimeline;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -21,11 +28,60 @@ public class DriverFactory {
      * 3. Default: false (GUI mode for manual testing)
      */
     public static void initializeDriver() {
+        initializeDriver(false);
+    }
+
+    /**
+     * {@code classLease}: the driver is kept until its class ends (fixture
+     * worker threads), see {@link ConcurrencyController#acquire(boolean)}.
+     */
+    static void initializeDriver(boolean classLease) {
         // Suppress Selenium CDP Warnings
         Logger.getLogger("org.openqa.selenium").setLevel(Level.SEVERE);
 
         WebDriverManager.chromedriver().setup();
 
+        ChromeOptions options = buildOptions();
+        FlightEvents.DriverLaunchEvent launch = FlightEvents.driverLaunch((isHeadlessModeEnabled() ? "headless" : "gui")
+                + (BrowserContextPool.isEnabled() ? ", browser context" : ""));
+
+        // Wait for a browser slot when the concurrency controller is on
+        ConcurrencyController controller = ConcurrencyController.isEnabled() ? ConcurrencyController.get() : null;
+        if (controller != null) {
+            controller.acquire(classLease);
+        }
+        try {
+            // Context mode: an isolated context (own tab, cookies, storage) in a shared Chrome
+            WebDriver browser = BrowserContextPool.isEnabled() ? BrowserContextPool.get().lease(options)
+                    : new ChromeDriver(options);
+            // Commands are timed for the step timeline and command statistics
+            driver.set(StepTimeline.isEnabled() || CommandStats.isEnabled() ? CommandTracer.trace(browser)
+                    : browser);
+        } catch (RuntimeException e) {
+            if (controller != null) {
+                controller.cancel(classLease);
+            }
+            launch.done(false);
+            throw e;
+        }
+        if (controller != null) {
+            controller.leased(driver.get(), classLease);
+        }
+        driver.get().manage().window().maximize();
+        launch.done(true);
+        ScreencastRecorder.start(driver.get());
+
+        // Reduce implicit wait to avoid conflicts with explicit waits and speed up
+        // execution
+        int implicitWait = 2;
+        driver.get().manage().timeouts().implicitlyWait(java.time.Duration.ofSeconds(implicitWait));
+        Log.info("[DriverFactory] Driver initialized with " + implicitWait + "s implicit wait.");
+    }
+
+    /**
+     * Chrome options for the current mode (headless or GUI).
+     */
+    static ChromeOptions buildOptions() {
         ChromeOptions options = new ChromeOptions();
 
         // Common options for both modes
@@ -50,19 +106,11 @@ public class DriverFactory {
             options.addArguments("--log-level=3");
             options.addArguments(
                     "--user-agent=Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/144.0.0.0 Safari/537.36");
-            System.out.println("[DriverFactory] INITIALIZING IN HEADLESS MODE (Chrome 144)");
+            Log.info("[DriverFactory] INITIALIZING IN HEADLESS MODE (Chrome 144)");
         } else {
-            System.out.println("[DriverFactory] INITIALIZING IN GUI MODE (Chrome 144)");
+            Log.info("[DriverFactory] INITIALIZING IN GUI MODE (Chrome 144)");
         }
-
-        driver.set(new ChromeDriver(options));
-        driver.get().manage().window().maximize();
-
-        // Reduce implicit wait to avoid conflicts with explicit waits and speed up
-        // execution
-        int implicitWait = 2;
-        driver.get().manage().timeouts().implicitlyWait(java.time.Duration.ofSeconds(implicitWait));
-        System.out.println("[DriverFactory] Driver initialized with " + implicitWait + "s implicit wait.");
+        return options;
     }
 
     // Store headless mode state for access by other classes
@@ -110,8 +158,28 @@ public class DriverFactory {
 
     public static void quitDriver() {
         if (driver.get() != null) {
-            driver.get().quit();
+            WebDriver current = driver.get();
             driver.remove();
+            quit(current);
+        }
+    }
+
+    /**
+     * Quit any driver (also one owned by another thread) and free its
+     * browser slot.
+     */
+    public static void quit(WebDriver webDriver) {
+        ElementCache.remove(webDriver);
+        ScreencastRecorder.stop(webDriver);
+        WebDriver browser = CommandTracer.release(webDriver);
+        try {
+            if (!BrowserContextPool.isEnabled() || !BrowserContextPool.get().release(browser)) {
+                browser.quit();
+            }
+        } finally {
+            if (ConcurrencyController.isEnabled()) {
+                ConcurrencyController.get().release(webDriver);
+            }
         }
     }
 }
@@ -0,0 +1,54 @@
+package base;
+
+import enums.UserRole;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the application state a test needs before it starts.
+ *
+ * BaseTest restores the state on the current thread's driver before each
+ * annotated method, so the methods of a class do not depend on each other and
+ * can run with {@code parallel="methods"}. Put it on the class to apply it to
+ * every test method; a method-level annotation overrides the class one.
+ *
+ * Classes without the annotation keep the chained style: one driver per class
+ * and state carried from one priority/dependsOnMethods step to the next.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE, ElementType.METHOD })
+public @interface Fixture {
+
+    /** Opens the first wallet on the wallet selection screen. */
+    String FIRST_WALLET = "first";
+
+    /** Opens the wallet with the most services. */
+    String MAX_SERVICES_WALLET = "max-services";
+
+    UserRole role();
+
+    /**
+     * Wallet to open after an Enterprise login; ignored for other roles.
+     */
+    String wallet() default FIRST_WALLET;
+
+    /**
+     * Deep link relative to the application origin (e.g. "/ep/reports").
+     * Empty means the page the user lands on after login.
+     */
+    String page() default "";
+
+    /**
+     * Visible text of a tab to open after navigating, empty for none.
+     */
+    String tab() default "";
+
+    /**
+     * Log in for real instead of reusing the shared session, for tests that
+     * end the session (logout) or change the logged-in user's state.
+     */
+    boolean freshLogin() default false;
+}
@@ -0,0 +1,203 @@
+package base;
+
+import enums.UserRole;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import pages.LoginPage;
+import utils.ClickEngine;
+import utils.ConfigReader;
+import utils.ExtentReportManager;
+import utils.Log;
+
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Brings a driver into the state declared by a {@link Fixture}.
+ *
+ * The first test needing a role/wallet combination logs in for real and the
+ * resulting cookies and storage are kept as a {@link SessionSnapshot}. Every
+ * later test with the same combination, on any thread, applies the snapshot
+ * and deep-links to its page, which takes a couple of navigations instead of
+ * a full login. A snapshot that no longer works (redirect to login) is
+ * replaced by a new login.
+ */
+public class FixtureManager {
+
+    private static final Map<String, SessionSnapshot> SNAPSHOTS = new ConcurrentHashMap<>();
+    private static final Map<String, Object> LOCKS = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Set<WebDriver>> DRIVERS = new ConcurrentHashMap<>();
+
+    private static final AtomicInteger LOGINS = new AtomicInteger();
+    private static final AtomicInteger RESTORES = new AtomicInteger();
+    private static final AtomicInteger STALE_SNAPSHOTS = new AtomicInteger();
+
+    /**
+     * Fixture of a test method, falling back to the class annotation.
+     */
+    public static Fixture find(Method method) {
+        Fixture fixture = method.getAnnotation(Fixture.class);
+        return fixture != null ? fixture : method.getDeclaringClass().getAnnotation(Fixture.class);
+    }
+
+    public static boolean isFixtureClass(Class<?> testClass) {
+        return testClass.getAnnotation(Fixture.class) != null;
+    }
+
+    // ==================== Drivers ====================
+
+    /**
+     * Live driver of the current thread, launching one if needed. Drivers
+     * launched here are quit by {@link #releaseDrivers(Class)}.
+     */
+    public static WebDriver driverForCurrentThread(Class<?> testClass) {
+        WebDriver driver = DriverFactory.getDriver();
+        if (driver != null) {
+            try {
+                driver.getCurrentUrl();
+                return driver;
+            } catch (Exception e) {
+                Log.error("[Fixture] Driver session lost on " + Thread.currentThread().getName()
+                        + ". Restarting driver...");
+                try {
+                    DriverFactory.quitDriver();
+                } catch (Exception ex) {
+                    /* Ignore cleanup errors */ }
+            }
+        }
+        DriverFactory.initializeDriver(true);
+        driver = DriverFactory.getDriver();
+        DRIVERS.computeIfAbsent(testClass, k -> ConcurrentHashMap.newKeySet()).add(driver);
+        return driver;
+    }
+
+    /**
+     * Quit every driver launched for the given class's fixtures.
+     */
+    public static void releaseDrivers(Class<?> testClass) {
+        Set<WebDriver> drivers = DRIVERS.remove(testClass);
+        if (drivers == null) {
+            return;
+        }
+        for (WebDriver driver : drivers) {
+            try {
+                DriverFactory.quit(driver);
+            } catch (Exception e) {
+                /* Already gone */ }
+        }
+    }
+
+    // ==================== State ====================
+
+    /**
+     * Put the driver into the declared state: logged-in session, page and tab.
+     */
+    public static void apply(WebDriver driver, Fixture fixture) {
+        String key = snapshotKey(fixture);
+        ExtentReportManager.logStep("Restore fixture: " + describe(fixture));
+
+        if (fixture.freshLogin()) {
+            login(driver, fixture);
+        } else if (!restore(driver, key)) {
+            synchronized (LOCKS.computeIfAbsent(key, k -> new Object())) {
+                // Another thread may have logged in while we waited
+                if (!restore(driver, key)) {
+                    login(driver, fixture);
+                    SNAPSHOTS.put(key, SessionSnapshot.capture(driver));
+                }
+            }
+        }
+
+        if (!fixture.page().isEmpty()) {
+            driver.get(origin() + fixture.page());
+        }
+        if (!fixture.tab().isEmpty()) {
+            ClickEngine.click(driver, By.xpath("//*[@role='tab' or contains(@class,'tab') or self::a or self::button]"
+                    + "[normalize-space()='" + fixture.tab() + "']"));
+        }
+    }
+
+    private static boolean restore(WebDriver driver, String key) {
+        SessionSnapshot snapshot = SNAPSHOTS.get(key);
+        if (snapshot == null) {
+            return false;
+        }
+        openOrigin(driver);
+        snapshot.applyTo(driver);
+        driver.get(snapshot.getLandingUrl());
+        String url = driver.getCurrentUrl();
+        if (url.contains("login") || url.contains("select-wallet")) {
+            Log.info("[Fixture] Snapshot for " + key + " no longer valid (" + url + ")");
+            SNAPSHOTS.remove(key, snapshot);
+            STALE_SNAPSHOTS.incrementAndGet();
+            return false;
+        }
+        RESTORES.incrementAndGet();
+        return true;
+    }
+
+    private static void login(WebDriver driver, Fixture fixture) {
+        openOrigin(driver);
+        driver.manage().deleteAllCookies();
+        ((JavascriptExecutor) driver).executeScript("localStorage.clear(); sessionStorage.clear();");
+        SessionAffinity.loggedOut(driver);
+        driver.get(ConfigReader.get("url"));
+
+        LoginPage loginPage = new LoginPage(driver);
+        UserRole role = fixture.role();
+        switch (role) {
+            case SUPERADMIN:
+                loginPage.loginWithSuperAdminCredentials();
+                break;
+            case RESELLER:
+                loginPage.loginWithResellerCredentials();
+                break;
+            case ENTERPRISE:
+                if (Fixture.MAX_SERVICES_WALLET.equals(fixture.wallet())) {
+                    loginPage.loginWithEnterpriseMaxServices();
+                } else {
+                    loginPage.loginWithEnterpriseCredentials();
+                }
+                break;
+        }
+        LOGINS.incrementAndGet();
+    }
+
+    private static void openOrigin(WebDriver driver) {
+        if (!driver.getCurrentUrl().startsWith(origin())) {
+            driver.get(ConfigReader.get("url"));
+        }
+    }
+
+    private static String origin() {
+        URI uri = URI.create(ConfigReader.get("url"));
+        return uri.getScheme() + "://" + uri.getAuthority();
+    }
+
+    private static String snapshotKey(Fixture fixture) {
+        return SessionAffinity.key(fixture.role(), fixture.wallet());
+    }
+
+    private static String describe(Fixture fixture) {
+        return snapshotKey(fixture)
+                + (fixture.page().isEmpty() ? "" : " page=" + fixture.page())
+                + (fixture.tab().isEmpty() ? "" : " tab=" + fixture.tab())
+                + (fixture.freshLogin() ? " (fresh login)" : "");
+    }
+
+    // ==================== Metrics ====================
+
+    public static int getRestores() {
+        return RESTORES.get();
+    }
+
+    public static String describeStats() {
+        return String.format("Fixtures: %d login(s), %d snapshot restore(s), %d stale snapshot(s)",
+                LOGINS.get(), RESTORES.get(), STALE_SNAPSHOTS.get());
+    }
+}
@@ -0,0 +1,30 @@
+package base;
+
+import enums.UserRole;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the user a chained-style test class logs in as.
+ *
+ * With {@code scheduler.roleAffinity=true} the scheduler groups classes with
+ * the same role and wallet into lanes, and {@link SessionAffinity} hands the
+ * browser and its logged-in session from one class of a lane to the next
+ * instead of logging out and in again. Classes without the annotation keep
+ * their own {@code <test>} block and browser.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface RunAs {
+
+    UserRole role();
+
+    /**
+     * Wallet opened after an Enterprise login ({@link Fixture#FIRST_WALLET} or
+     * {@link Fixture#MAX_SERVICES_WALLET}); ignored for other roles.
+     */
+    String wallet() default Fixture.FIRST_WALLET;
+}
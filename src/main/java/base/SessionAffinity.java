@@ -0,0 +1,266 @@
+package base;
+
+import enums.UserRole;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import utils.ConfigReader;
+import utils.ExtentReportManager;
+import utils.Log;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hands one authenticated browser from class to class within a role lane.
+ *
+ * The scheduler registers each lane (classes with the same {@link RunAs}
+ * identity, run back-to-back on one thread). While a class has a successor in
+ * its lane, its browser is kept open at the end of the class, a logout in the
+ * application is deferred, and the successor's login call reuses the session
+ * by opening the page the original login landed on. The last class of a lane
+ * logs out and quits the browser as usual. Only a class that received a
+ * carried browser reuses a session; in any other class a login call logs in.
+ *
+ * Enabled with {@code scheduler.roleAffinity=true}.
+ */
+public class SessionAffinity {
+
+    /** Logged-in user of a driver and the page its login landed on. */
+    private static class Identity {
+        final String key;
+        final String landingUrl;
+
+        Identity(String key, String landingUrl) {
+            this.key = key;
+            this.landingUrl = landingUrl;
+        }
+    }
+
+    private static final Map<String, String> NEXT_IN_LANE = new ConcurrentHashMap<>();
+    private static final Map<WebDriver, Identity> IDENTITIES = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final Set<WebDriver> KEPT_DRIVERS = ConcurrentHashMap.newKeySet();
+    private static final ThreadLocal<Class<?>> CURRENT_CLASS = new ThreadLocal<>();
+    // Whether the class running on this thread started on a browser carried over from its lane
+    private static final ThreadLocal<Boolean> CARRIED = ThreadLocal.withInitial(() -> false);
+
+    private static final AtomicInteger LOGINS = new AtomicInteger();
+    private static final AtomicInteger LOGINS_AVOIDED = new AtomicInteger();
+    private static final AtomicInteger BROWSERS_CARRIED = new AtomicInteger();
+    private static final AtomicInteger LOGOUTS_DEFERRED = new AtomicInteger();
+
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(ConfigReader.get("scheduler.roleAffinity", "false"));
+    }
+
+    /**
+     * Identity key of a role/wallet pair, e.g. "ENTERPRISE|max-services".
+     */
+    public static String key(UserRole role, String wallet) {
+        return role == UserRole.ENTERPRISE ? role + "|" + wallet : role.name();
+    }
+
+    /**
+     * Identity a class declares with {@link RunAs}, or null.
+     */
+    public static String identityOf(Class<?> testClass) {
+        RunAs runAs = testClass.getAnnotation(RunAs.class);
+        return runAs == null ? null : key(runAs.role(), runAs.wallet());
+    }
+
+    // ==================== Lanes ====================
+
+    /**
+     * Record the order in which one thread will run the given classes.
+     */
+    public static void registerLane(List<String> classNames) {
+        for (int i = 0; i + 1 < classNames.size(); i++) {
+            NEXT_IN_LANE.put(classNames.get(i), classNames.get(i + 1));
+        }
+    }
+
+    /**
+     * Called when a class starts on the current thread.
+     */
+    public static void enterClass(Class<?> testClass) {
+        CURRENT_CLASS.set(testClass);
+        CARRIED.set(false);
+    }
+
+    private static String nextInLane() {
+        Class<?> current = CURRENT_CLASS.get();
+        return current == null ? null : NEXT_IN_LANE.get(current.getName());
+    }
+
+    // ==================== Browsers ====================
+
+    /**
+     * The current thread's browser if the previous class of the lane left it
+     * open, otherwise null.
+     */
+    public static WebDriver takeCarriedDriver() {
+        WebDriver driver = DriverFactory.getDriver();
+        if (driver == null || !KEPT_DRIVERS.remove(driver)) {
+            return null;
+        }
+        try {
+            driver.getCurrentUrl();
+        } catch (Exception e) {
+            Log.error("[Affinity] Carried-over browser is gone; launching a new one");
+            DriverFactory.quitDriver();
+            return null;
+        }
+        if (!IDENTITIES.containsKey(driver)) {
+            // Nothing known to reuse; start the class from a clean login form
+            clearSession(driver);
+        }
+        BROWSERS_CARRIED.incrementAndGet();
+        CARRIED.set(true);
+        return driver;
+    }
+
+    /**
+     * Keep the current thread's browser open for the next class of the lane.
+     * Returns false when the class is the last of its lane (or affinity is off)
+     * and the browser should be quit.
+     */
+    public static boolean keepForNextClass(WebDriver driver) {
+        if (driver == null || !isEnabled() || nextInLane() == null) {
+            return false;
+        }
+        KEPT_DRIVERS.add(driver);
+        Log.info("[Affinity] Keeping browser open for " + nextInLane());
+        return true;
+    }
+
+    /**
+     * Quit browsers left open for a class that never started (e.g. skipped).
+     */
+    public static void quitKeptDrivers() {
+        for (WebDriver driver : KEPT_DRIVERS) {
+            try {
+                DriverFactory.quit(driver);
+            } catch (Exception e) {
+                /* Already gone */ }
+        }
+        KEPT_DRIVERS.clear();
+    }
+
+    /**
+     * Forget the lanes and quit the browsers kept for them, so classes run
+     * after the suite (the retry lane) each start on their own browser.
+     */
+    public static void endLanes() {
+        NEXT_IN_LANE.clear();
+        quitKeptDrivers();
+    }
+
+    // ==================== Sessions ====================
+
+    /**
+     * Called by LoginPage after a successful login.
+     */
+    public static void loggedIn(WebDriver driver, String key) {
+        IDENTITIES.put(driver, new Identity(key, driver.getCurrentUrl()));
+        LOGINS.incrementAndGet();
+    }
+
+    /**
+     * Called by LoginPage after a successful logout. A logout in another
+     * origin (an SSO tab) leaves the application session alone.
+     */
+    public static void loggedOut(WebDriver driver) {
+        try {
+            if (!driver.getCurrentUrl().startsWith(origin())) {
+                return;
+            }
+        } catch (Exception e) {
+            // Fall through and forget the session
+        }
+        IDENTITIES.remove(driver);
+    }
+
+    /**
+     * Reuse the driver's session if the current class received it from its
+     * lane and it is logged in as the given identity: opens the page the
+     * original login landed on and returns true. A session of another user is
+     * cleared so the login form can be used.
+     */
+    public static boolean reuse(WebDriver driver, String key) {
+        Identity identity = IDENTITIES.get(driver);
+        if (identity == null || !isEnabled() || !CARRIED.get()) {
+            return false;
+        }
+        if (!identity.key.equals(key)) {
+            Log.info("[Affinity] Browser is logged in as " + identity.key + ", clearing it for " + key);
+            clearSession(driver);
+            return false;
+        }
+        driver.get(identity.landingUrl);
+        String url = driver.getCurrentUrl();
+        if (url.contains("login") || url.contains("select-wallet")) {
+            Log.info("[Affinity] Session of " + key + " expired (" + url + "), logging in again");
+            IDENTITIES.remove(driver);
+            driver.get(ConfigReader.get("url"));
+            return false;
+        }
+        LOGINS_AVOIDED.incrementAndGet();
+        ExtentReportManager.logStep("Reuse " + key + " session from the previous class (role affinity)");
+        return true;
+    }
+
+    /**
+     * True when a logout should be skipped because the next class of the lane
+     * runs as the same user. Logouts from other origins (SSO tabs) always run.
+     */
+    public static boolean deferLogout(WebDriver driver) {
+        String next = nextInLane();
+        Identity identity = IDENTITIES.get(driver);
+        if (next == null || identity == null || !isEnabled()) {
+            return false;
+        }
+        try {
+            if (!identity.key.equals(identityOf(Class.forName(next)))
+                    || !driver.getCurrentUrl().startsWith(origin())) {
+                return false;
+            }
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+        LOGOUTS_DEFERRED.incrementAndGet();
+        ExtentReportManager.logInfo("Logout deferred: session handed to " + next + " (role affinity)");
+        Log.info("[Affinity] Logout deferred; " + next + " continues as " + identity.key);
+        return true;
+    }
+
+    private static void clearSession(WebDriver driver) {
+        IDENTITIES.remove(driver);
+        driver.manage().deleteAllCookies();
+        ((JavascriptExecutor) driver).executeScript("localStorage.clear(); sessionStorage.clear();");
+        driver.get(ConfigReader.get("url"));
+    }
+
+    private static String origin() {
+        URI uri = URI.create(ConfigReader.get("url"));
+        return uri.getScheme() + "://" + uri.getAuthority();
+    }
+
+    // ==================== Metrics ====================
+
+    /**
+     * Logins done and avoided this run. Fixture snapshot restores count as
+     * avoided logins too.
+     */
+    public static String describeStats() {
+        int restores = FixtureManager.getRestores();
+        return String.format("Sessions: %d login(s), %d avoided (%d carried over within a lane, "
+                + "%d fixture snapshot restore(s)), %d browser(s) carried over, %d logout(s) deferred",
+                LOGINS.get(), LOGINS_AVOIDED.get() + restores, LOGINS_AVOIDED.get(), restores,
+                BROWSERS_CARRIED.get(), LOGOUTS_DEFERRED.get());
+    }
+}
@@ -0,0 +1,81 @@
+package base;
+
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import utils.Log;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Cookies and web storage of a logged-in session, captured once and applied
+ * to other drivers instead of repeating the login (and OTP) flow.
+ */
+public class SessionSnapshot {
+
+    private static final String READ_STORAGE_SCRIPT = "function dump(s) {" +
+            "  var out = {};" +
+            "  for (var i = 0; i < s.length; i++) { var k = s.key(i); out[k] = s.getItem(k); }" +
+            "  return out;" +
+            "}" +
+            "return { local: dump(window.localStorage), session: dump(window.sessionStorage) };";
+
+    private static final String WRITE_STORAGE_SCRIPT = "localStorage.clear(); sessionStorage.clear();" +
+            "var local = arguments[0], session = arguments[1];" +
+            "for (var k in local) localStorage.setItem(k, local[k]);" +
+            "for (var k in session) sessionStorage.setItem(k, session[k]);";
+
+    private final Set<Cookie> cookies;
+    private final Map<String, Object> localStorage;
+    private final Map<String, Object> sessionStorage;
+    private final String landingUrl;
+
+    private SessionSnapshot(Set<Cookie> cookies, Map<String, Object> localStorage,
+            Map<String, Object> sessionStorage, String landingUrl) {
+        this.cookies = cookies;
+        this.localStorage = localStorage;
+        this.sessionStorage = sessionStorage;
+        this.landingUrl = landingUrl;
+    }
+
+    /**
+     * Capture the session of a driver that has just logged in.
+     */
+    @SuppressWarnings("unchecked")
+    public static SessionSnapshot capture(WebDriver driver) {
+        Map<String, Object> storage = (Map<String, Object>) ((JavascriptExecutor) driver)
+                .executeScript(READ_STORAGE_SCRIPT);
+        return new SessionSnapshot(
+                new HashSet<>(driver.manage().getCookies()),
+                new LinkedHashMap<>((Map<String, Object>) storage.getOrDefault("local", Collections.emptyMap())),
+                new LinkedHashMap<>((Map<String, Object>) storage.getOrDefault("session", Collections.emptyMap())),
+                driver.getCurrentUrl());
+    }
+
+    /**
+     * Apply the session to a driver. The driver must already be on a page of
+     * the application origin so cookies and storage land on the right domain.
+     */
+    public void applyTo(WebDriver driver) {
+        driver.manage().deleteAllCookies();
+        for (Cookie cookie : cookies) {
+            try {
+                driver.manage().addCookie(cookie);
+            } catch (Exception e) {
+                Log.info("[SessionSnapshot] Skipping cookie " + cookie.getName() + ": " + e.getMessage());
+            }
+        }
+        ((JavascriptExecutor) driver).executeScript(WRITE_STORAGE_SCRIPT, localStorage, sessionStorage);
+    }
+
+    /**
+     * URL the user landed on after login (dashboard or wallet home).
+     */
+    public String getLandingUrl() {
+        return landingUrl;
+    }
+}
@@ -0,0 +1,352 @@
+package listeners;
+
+import org.testng.IAlterSuiteListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestContext;
+import org.testng.ITestListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+import base.SessionAffinity;
+import utils.ConcurrencyController;
+import utils.ConfigReader;
+import utils.DurationHistory;
+import utils.Log;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Orders the {@code <test>} blocks of a parallel="tests" suite
+ * longest-processing-time first, using durations from previous runs.
+ *
+ * TestNG hands {@code <test>} blocks to the worker pool in suite order, so
+ * starting the longest classes first keeps a long class from being picked up
+ * last and running alone at the end. With {@code scheduler.failingFirst=true}
+ * classes that failed recently go first for faster feedback. Method and class
+ * durations of this run are written back to the history at the end of the
+ * suite, and the predicted and actual makespan are logged.
+ *
+ * With {@code scheduler.roleAffinity=true} single-class blocks of classes
+ * annotated with {@link base.RunAs} are first regrouped into role lanes: each
+ * role gets a share of the suite's threads proportional to its recorded
+ * workload, and its classes are packed longest-first into that many
+ * {@code <test>} blocks that run their classes one after the other on one
+ * browser and session (see {@link SessionAffinity}).
+ *
+ * With {@link ConcurrencyController} enabled, the suite's thread-count is
+ * used as the starting browser limit and the pool is raised to the
+ * controller's maximum.
+ *
+ * Disable with {@code scheduler.enabled=false}.
+ */
+public class DurationScheduler implements IAlterSuiteListener, ISuiteListener, ITestListener {
+
+    private final Map<String, Long> predictedMakespan = new ConcurrentHashMap<>();
+    private final Map<String, Long> suiteStart = new ConcurrentHashMap<>();
+    private final Set<String> failedClasses = ConcurrentHashMap.newKeySet();
+
+    // ==================== Ordering ====================
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        if (!isEnabled("scheduler.enabled", true)) {
+            return;
+        }
+        DurationHistory history = DurationHistory.get();
+        boolean failingFirst = isEnabled("scheduler.failingFirst", false);
+
+        for (XmlSuite suite : suites) {
+            if (suite.getParallel() != XmlSuite.ParallelMode.TESTS || suite.getTests().size() < 2) {
+                continue;
+            }
+            if (SessionAffinity.isEnabled()) {
+                buildRoleLanes(suite, history);
+            }
+            Map<XmlTest, Long> estimates = new LinkedHashMap<>();
+            for (XmlTest test : suite.getTests()) {
+                estimates.put(test, estimateTest(history, test));
+            }
+
+            List<XmlTest> ordered = new ArrayList<>(suite.getTests());
+            Comparator<XmlTest> longestFirst = Comparator.comparingLong((XmlTest t) -> -estimates.get(t));
+            if (failingFirst) {
+                ordered.sort(Comparator.comparing((XmlTest t) -> !hasRecentFailures(history, t))
+                        .thenComparing(longestFirst));
+            } else {
+                ordered.sort(longestFirst);
+            }
+            suite.getTests().clear();
+            suite.getTests().addAll(ordered);
+
+            List<Long> durations = new ArrayList<>();
+            StringBuilder order = new StringBuilder();
+            for (XmlTest test : ordered) {
+                durations.add(estimates.get(test));
+                order.append(String.format("%n  %-35s ~%ds", test.getName(), estimates.get(test) / 1000));
+            }
+            long makespan = simulateMakespan(durations, suite.getThreadCount());
+            predictedMakespan.put(suite.getName(), makespan);
+            Log.info("[Scheduler] " + (failingFirst ? "Failing-first, then longest" : "Longest")
+                    + "-first order for " + suite.getName() + ":" + order);
+            Log.info("[Scheduler] Predicted makespan: " + makespan / 1000 + "s on "
+                    + suite.getThreadCount() + " thread(s)");
+
+            if (ConcurrencyController.isEnabled()) {
+                // thread-count becomes the starting browser limit; the pool gets room to grow
+                ConcurrencyController controller = ConcurrencyController.get(suite.getThreadCount());
+                suite.setThreadCount(Math.max(suite.getThreadCount(), controller.getMax()));
+            }
+        }
+    }
+
+    private static long estimateTest(DurationHistory history, XmlTest test) {
+        long total = 0;
+        for (XmlClass xmlClass : test.getXmlClasses()) {
+            total += history.estimateClassMillis(xmlClass.getName());
+        }
+        return total;
+    }
+
+    private static boolean hasRecentFailures(DurationHistory history, XmlTest test) {
+        for (XmlClass xmlClass : test.getXmlClasses()) {
+            if (history.getFailureScore(xmlClass.getName()) > 0.2) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Makespan of handing the jobs, in order, to whichever worker frees up first.
+     */
+    public static long simulateMakespan(List<Long> durations, int workers) {
+        PriorityQueue<Long> finishTimes = new PriorityQueue<>();
+        for (int i = 0; i < Math.max(1, workers); i++) {
+            finishTimes.add(0L);
+        }
+        long makespan = 0;
+        for (long duration : durations) {
+            long finish = finishTimes.poll() + duration;
+            makespan = Math.max(makespan, finish);
+            finishTimes.add(finish);
+        }
+        return makespan;
+    }
+
+    // ==================== Role affinity ====================
+
+    /**
+     * Replace the single-class blocks of {@link base.RunAs} classes with one
+     * or more lanes per role; other blocks are kept as they are.
+     */
+    private static void buildRoleLanes(XmlSuite suite, DurationHistory history) {
+        Map<String, List<XmlTest>> byRole = new LinkedHashMap<>();
+        List<XmlTest> others = new ArrayList<>();
+        for (XmlTest test : suite.getTests()) {
+            String role = laneRole(test);
+            if (role == null) {
+                others.add(test);
+            } else {
+                byRole.computeIfAbsent(role, k -> new ArrayList<>()).add(test);
+            }
+        }
+        if (byRole.isEmpty()) {
+            return;
+        }
+
+        Map<String, Long> workload = new LinkedHashMap<>();
+        byRole.forEach((role, tests) -> workload.put(role,
+                tests.stream().mapToLong(t -> estimateTest(history, t)).sum()));
+        Map<String, Integer> workers = allocateWorkers(workload, byRole, suite.getThreadCount());
+
+        suite.getTests().clear();
+        suite.getTests().addAll(others);
+        StringBuilder plan = new StringBuilder();
+        for (Map.Entry<String, List<XmlTest>> entry : byRole.entrySet()) {
+            String role = entry.getKey();
+            List<List<XmlTest>> lanes = packLanes(history, entry.getValue(), workers.get(role));
+            plan.append(String.format("%n  %-28s %d worker(s), %d class(es), ~%ds", role, lanes.size(),
+                    entry.getValue().size(), workload.get(role) / 1000));
+            for (int i = 0; i < lanes.size(); i++) {
+                addLane(suite, role + " lane " + (i + 1), lanes.get(i));
+            }
+        }
+        Log.info("[Scheduler] Role lanes for " + suite.getName() + ":" + plan);
+    }
+
+    /**
+     * Role/wallet key of a block that can join a lane: one class, declared
+     * with {@link base.RunAs}, not run with parallel methods. Null otherwise.
+     */
+    private static String laneRole(XmlTest test) {
+        if (test.getXmlClasses().size() != 1 || test.getParallel() == XmlSuite.ParallelMode.METHODS) {
+            return null;
+        }
+        Class<?> testClass = test.getXmlClasses().get(0).getSupportClass();
+        return testClass == null ? null : SessionAffinity.identityOf(testClass);
+    }
+
+    /**
+     * At least one worker per role, the rest handed out one at a time to the
+     * role with the most recorded work per worker (never more workers than
+     * classes).
+     */
+    static Map<String, Integer> allocateWorkers(Map<String, Long> workload, Map<String, List<XmlTest>> classes,
+            int threads) {
+        Map<String, Integer> workers = new HashMap<>();
+        workload.keySet().forEach(role -> workers.put(role, 1));
+        for (int spare = threads - workers.size(); spare > 0; spare--) {
+            String busiest = null;
+            double busiestLoad = 0;
+            for (Map.Entry<String, Long> entry : workload.entrySet()) {
+                String role = entry.getKey();
+                double load = (double) entry.getValue() / workers.get(role);
+                if (workers.get(role) < classes.get(role).size() && load > busiestLoad) {
+                    busiest = role;
+                    busiestLoad = load;
+                }
+            }
+            if (busiest == null) {
+                break;
+            }
+            workers.merge(busiest, 1, Integer::sum);
+        }
+        return workers;
+    }
+
+    /**
+     * Longest-first: each block goes to the currently lightest lane.
+     */
+    private static List<List<XmlTest>> packLanes(DurationHistory history, List<XmlTest> tests, int laneCount) {
+        List<XmlTest> sorted = new ArrayList<>(tests);
+        sorted.sort(Comparator.comparingLong((XmlTest t) -> -estimateTest(history, t)));
+        List<List<XmlTest>> lanes = new ArrayList<>();
+        long[] loads = new long[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            lanes.add(new ArrayList<>());
+        }
+        for (XmlTest test : sorted) {
+            int lightest = 0;
+            for (int i = 1; i < laneCount; i++) {
+                if (loads[i] < loads[lightest]) {
+                    lightest = i;
+                }
+            }
+            lanes.get(lightest).add(test);
+            loads[lightest] += estimateTest(history, test);
+        }
+        return lanes;
+    }
+
+    private static void addLane(XmlSuite suite, String name, List<XmlTest> tests) {
+        if (tests.size() == 1) {
+            suite.getTests().add(tests.get(0));
+            return;
+        }
+        XmlTest lane = new XmlTest(suite);
+        lane.setName(name);
+        lane.setParallel(XmlSuite.ParallelMode.NONE);
+        // group-by-instances keeps TestNG from interleaving the classes' priorities
+        lane.setPreserveOrder(true);
+        lane.setGroupByInstances(true);
+        List<XmlClass> classes = new ArrayList<>();
+        List<String> classNames = new ArrayList<>();
+        Map<String, String> parameters = new LinkedHashMap<>();
+        for (XmlTest test : tests) {
+            String className = test.getXmlClasses().get(0).getName();
+            classes.add(new XmlClass(className, classes.size(), false));
+            classNames.add(className);
+            parameters.putAll(test.getLocalParameters());
+        }
+        lane.setXmlClasses(classes);
+        lane.setParameters(parameters);
+        SessionAffinity.registerLane(classNames);
+    }
+
+    // ==================== Recording ====================
+
+    @Override
+    public void onStart(ISuite suite) {
+        suiteStart.put(suite.getName(), System.currentTimeMillis());
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        recordMethod(result);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        failedClasses.add(result.getTestClass().getName());
+        recordMethod(result);
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        recordMethod(result);
+    }
+
+    private static void recordMethod(ITestResult result) {
+        DurationHistory.get().recordMethod(result.getTestClass().getName(), result.getMethod().getMethodName(),
+                result.getEndMillis() - result.getStartMillis());
+    }
+
+    /**
+     * Class durations: the {@code <test>} wall time (includes driver launch and
+     * class setup) when it holds one class, otherwise each class's method span.
+     */
+    @Override
+    public void onFinish(ITestContext context) {
+        Map<String, long[]> spans = new LinkedHashMap<>();
+        for (ITestResult result : allResults(context)) {
+            long[] span = spans.computeIfAbsent(result.getTestClass().getName(),
+                    k -> new long[] { Long.MAX_VALUE, 0 });
+            span[0] = Math.min(span[0], result.getStartMillis());
+            span[1] = Math.max(span[1], result.getEndMillis());
+        }
+        DurationHistory history = DurationHistory.get();
+        if (spans.size() == 1) {
+            String className = spans.keySet().iterator().next();
+            history.recordClass(className, context.getEndDate().getTime() - context.getStartDate().getTime(),
+                    failedClasses.contains(className));
+            return;
+        }
+        spans.forEach((className, span) -> history.recordClass(className, span[1] - span[0],
+                failedClasses.contains(className)));
+    }
+
+    private static List<ITestResult> allResults(ITestContext context) {
+        List<ITestResult> results = new ArrayList<>();
+        results.addAll(context.getPassedTests().getAllResults());
+        results.addAll(context.getFailedTests().getAllResults());
+        results.addAll(context.getSkippedTests().getAllResults());
+        return results;
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        Long start = suiteStart.remove(suite.getName());
+        Long predicted = predictedMakespan.remove(suite.getName());
+        if (start != null) {
+            long actual = System.currentTimeMillis() - start;
+            Log.info("[Scheduler] Actual makespan: " + actual / 1000 + "s"
+                    + (predicted == null ? "" : " (predicted " + predicted / 1000 + "s)"));
+        }
+        DurationHistory.get().save();
+    }
+
+    private static boolean isEnabled(String key, boolean defaultValue) {
+        return Boolean.parseBoolean(ConfigReader.get(key, String.valueOf(defaultValue)));
+    }
+}
@@ -1,41 +0,0 @@
-package listeners;
-
-import com.aventstack.extentreports.ExtentReports;
-import com.aventstack.extentreports.ExtentTest;
-import com.aventstack.extentreports.Status;
-import org.testng.ITestContext;
-import org.testng.ITestListener;
-import org.testng.ITestResult;
-import utils.ExtentReportManager;
-
-public class ExtentTestNGListener implements ITestListener {
-
-    private static ExtentReports extent = ExtentReportManager.getExtentReports();
-    private static ThreadLocal<ExtentTest> test = new ThreadLocal<>();
-
-    @Override
-    public void onTestStart(ITestResult result) {
-        ExtentTest extentTest = extent.createTest(result.getMethod().getMethodName());
-        test.set(extentTest);
-    }
-
-    @Override
-    public void onTestSuccess(ITestResult result) {
-        test.get().log(Status.PASS, "Test passed");
-    }
-
-    @Override
-    public void onTestFailure(ITestResult result) {
-        test.get().log(Status.FAIL, "Test failed: " + result.getThrowable());
-    }
-
-    @Override
-    public void onTestSkipped(ITestResult result) {
-        test.get().log(Status.SKIP, "Test skipped");
-    }
-
-    @Override
-    public void onFinish(ITestContext context) {
-        extent.flush(); // Write the report to file
-    }
-}
@@ -0,0 +1,121 @@
+package listeners;
+
+import base.FixtureManager;
+import org.testng.IAlterSuiteListener;
+import org.testng.annotations.Test;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlInclude;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+import utils.ExtentReportManager;
+import utils.Log;
+import utils.ReportTest;
+import utils.ResultCache;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Leaves cached passes out of the run (see {@link ResultCache}).
+ *
+ * Fixture classes lose only their cached methods. Chained classes carry state
+ * from step to step (the first step logs in), so they are left out only when
+ * every method selected to run has a cached pass, and otherwise run in full.
+ * A class with nothing left to run is removed, so it does not start a
+ * browser. Each left-out method is listed in the report as a cached pass.
+ *
+ * Register before {@link DurationScheduler} so the schedule is built from
+ * what actually runs.
+ */
+public class ResultCacheFilter implements IAlterSuiteListener {
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        if (!ResultCache.isEnabled()) {
+            return;
+        }
+        ResultCache cache = ResultCache.get();
+        cache.useSuites(suites);
+        for (XmlSuite suite : suites) {
+            for (Iterator<XmlTest> tests = suite.getTests().iterator(); tests.hasNext();) {
+                XmlTest test = tests.next();
+                List<XmlClass> remaining = new ArrayList<>();
+                for (XmlClass xmlClass : test.getXmlClasses()) {
+                    if (filter(cache, xmlClass)) {
+                        remaining.add(xmlClass);
+                    }
+                }
+                if (remaining.isEmpty()) {
+                    tests.remove();
+                } else {
+                    test.setXmlClasses(remaining);
+                }
+            }
+        }
+        Log.info("[ResultCache] " + cache.describeStats());
+    }
+
+    /**
+     * Exclude the cached methods of a class; false when none are left.
+     */
+    private static boolean filter(ResultCache cache, XmlClass xmlClass) {
+        Class<?> testClass = xmlClass.getSupportClass();
+        Set<String> selected = selectedMethods(xmlClass, testClass);
+        Set<String> cached = new TreeSet<>();
+        for (String method : selected) {
+            if (cache.isCachedPass(testClass.getName(), method)) {
+                cached.add(method);
+            }
+        }
+        boolean independent = FixtureManager.isFixtureClass(testClass);
+        if (cached.isEmpty() || !independent && cached.size() < selected.size()) {
+            return true;
+        }
+
+        for (String method : cached) {
+            cache.skipped();
+            ReportTest node = ExtentReportManager.createTest(method, testClass.getSimpleName(),
+                    testClass.getSimpleName());
+            node.assignCategory("Cached pass");
+            node.pass("<b><font color='green'>Cached pass:</font></b> passed "
+                    + cache.ageMinutes(testClass.getName(), method)
+                    + " min ago with the same build and test code; not run again");
+            ExtentReportManager.removeTest();
+        }
+        if (cached.size() == selected.size()) {
+            Log.info("[ResultCache] " + testClass.getSimpleName() + ": all " + cached.size()
+                    + " method(s) cached, class left out");
+            return false;
+        }
+        List<String> excluded = new ArrayList<>(xmlClass.getExcludedMethods());
+        excluded.addAll(cached);
+        xmlClass.setExcludedMethods(excluded);
+        Log.info("[ResultCache] " + testClass.getSimpleName() + ": " + cached.size()
+                + " cached method(s) left out " + cached);
+        return true;
+    }
+
+    /**
+     * Enabled test methods that this class entry runs: its includes if it
+     * has any, minus its excludes.
+     */
+    private static Set<String> selectedMethods(XmlClass xmlClass, Class<?> testClass) {
+        Set<String> included = new TreeSet<>();
+        for (XmlInclude include : xmlClass.getIncludedMethods()) {
+            included.add(include.getName());
+        }
+        Set<String> methods = new TreeSet<>();
+        for (Method method : testClass.getMethods()) {
+            Test test = method.getAnnotation(Test.class);
+            if (test != null && test.enabled() && (included.isEmpty() || included.contains(method.getName()))
+                    && !xmlClass.getExcludedMethods().contains(method.getName())) {
+                methods.add(method.getName());
+            }
+        }
+        return methods;
+    }
+}
@@ -0,0 +1,513 @@
+package listeners;
+
+import base.FixtureManager;
+import org.testng.IConfigurationListener;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestContext;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import org.testng.TestNG;
+import org.testng.annotations.Test;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlInclude;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+import utils.ConfigReader;
+import utils.ExtentReportManager;
+import utils.Log;
+import utils.ReportLog;
+import utils.RunHistory;
+import utils.ShardRunner;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Retries failures after the run, on fresh browsers, and only when a retry
+ * can help.
+ *
+ * The outcome of every test method is kept per run in
+ * {@code test-history/method-outcomes.properties} (P passed, R passed on
+ * retry, F failed; newest last). A method that failed in each of its last
+ * three runs is consistently failing and is not retried. Any other failure
+ * is queued for the retry lane. Every failure is reported as a failure, so
+ * the JUnit and TestNG results of the run are what happened.
+ *
+ * At the end of the suite ({@link base.BaseTest}'s teardown) the queue is
+ * written to {@code <report.dir>/retry/lane.xml}, with a summary of the run
+ * next to it. The lane is run by {@link #main(String[])} once the suite's
+ * JVM has exited (a Maven execution after surefire; {@link utils.ShardRunner}
+ * per shard), as its own TestNG run with {@code retry.threads} workers
+ * (default 1, so retries do not compete for the host). Each class starts on
+ * its own browser. Fixture methods log in again; chained classes rerun
+ * every step up to the failed one (login and the steps that navigate to its
+ * page), the {@code dependsOnMethods} closure, and the methods that were
+ * skipped because of the failure. Retries are separate results named
+ * "[retry]" in the report, with their own JUnit XML under
+ * {@code retry/testng}. The runner decides the build: it fails when a
+ * failure was not retried or did not pass in the lane.
+ *
+ * Settings: {@code retry.enabled} (default true), {@code retry.maxTests}
+ * (default 10; failures beyond that are not retried, as so many usually
+ * means the environment is down), {@code retry.threads}.
+ */
+public class RetryLane implements IInvokedMethodListener, ITestListener, IConfigurationListener {
+
+    private static final String HISTORY_FILE = "method-outcomes.properties";
+    private static final String LANE_FILE = "lane.xml";
+    private static final String SUMMARY_FILE = "run-summary.properties";
+    private static final String STARTED_FILE = "started";
+    private static final String TEST_PREFIX = "test.";
+    private static final String SETTING_PREFIX = "setting.";
+    private static final String DEFERRED_STATUS = "deferred";
+    private static final String FAILED_STATUS = "failed";
+    private static final String SKIPPED_STATUS = "skipped";
+    private static final String HISTORY_COMMENT =
+            "class#method -> outcomes of the last runs, newest last (P pass, R pass on retry, F fail)";
+    private static final int WINDOW = 10;
+    private static final int CONSISTENT_FAILURES = 3;
+
+    private static final Map<String, ITestResult> DEFERRED = new ConcurrentHashMap<>();
+    private static final Map<String, Set<String>> SKIPPED = new ConcurrentHashMap<>();
+    private static final Set<String> NOT_RETRIED = ConcurrentHashMap.newKeySet();
+    private static final Set<String> FAILED = ConcurrentHashMap.newKeySet();
+    private static final Map<String, Character> OUTCOMES = new ConcurrentHashMap<>();
+    private static Properties history;
+    private static volatile boolean running;
+    private static boolean started;
+
+    private static boolean retriesEnabled() {
+        return Boolean.parseBoolean(ConfigReader.get("retry.enabled", "true"));
+    }
+
+    /**
+     * True in the JVM that runs the lane.
+     */
+    public static boolean isRunning() {
+        return running;
+    }
+
+    // ==================== Main run ====================
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult result) {
+        if (running || !method.isTestMethod() || result.getStatus() != ITestResult.FAILURE || !retriesEnabled()) {
+            return;
+        }
+        String key = key(result);
+        if (isConsistentlyFailing(key)) {
+            NOT_RETRIED.add(key);
+            Log.info("[Retry] " + key + " failed in each of its last " + CONSISTENT_FAILURES
+                    + " runs; not retrying");
+            return;
+        }
+        synchronized (DEFERRED) {
+            if (DEFERRED.size() >= Integer.parseInt(ConfigReader.get("retry.maxTests", "10"))) {
+                Log.info("[Retry] Lane full; not retrying " + key);
+                return;
+            }
+            DEFERRED.put(key, result);
+        }
+        Log.info("[Retry] Queuing " + key + " for the retry lane: " + result.getThrowable());
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        if (!running) {
+            OUTCOMES.put(key(result), 'P');
+        }
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        if (!running) {
+            OUTCOMES.put(key(result), 'F');
+            if (!DEFERRED.containsKey(key(result))) {
+                FAILED.add(key(result));
+            }
+        }
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        if (!running) {
+            SKIPPED.computeIfAbsent(result.getTestClass().getName(), k -> ConcurrentHashMap.newKeySet())
+                    .add(result.getMethod().getMethodName());
+        }
+    }
+
+    @Override
+    public void onStart(ITestContext context) {
+        markStarted();
+    }
+
+    /**
+     * Note that tests started, and clear what an earlier run left: from here
+     * on a missing summary means this run did not finish.
+     */
+    private static synchronized void markStarted() {
+        if (running || started) {
+            return;
+        }
+        started = true;
+        Path dir = laneDir(ReportLog.reportDir());
+        try {
+            Files.createDirectories(dir);
+            Files.deleteIfExists(dir.resolve(SUMMARY_FILE));
+            Files.deleteIfExists(dir.resolve(LANE_FILE));
+            Files.write(dir.resolve(STARTED_FILE), new byte[0]);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not prepare the retry lane in " + dir, e);
+        }
+    }
+
+    @Override
+    public void onConfigurationFailure(ITestResult result) {
+        if (!running) {
+            // Not retried: the tests it set up are skipped, and the build must not pass on skips
+            FAILED.add(key(result));
+        }
+    }
+
+    /**
+     * Write the lane and the run summary for {@link #main(String[])}. Called
+     * once, at the end of the suite; does nothing in the lane's own run.
+     */
+    public static void writeLane() {
+        if (running) {
+            return;
+        }
+        Path dir = laneDir(ReportLog.reportDir());
+        Properties summary = new Properties();
+        DEFERRED.keySet().forEach(key -> summary.setProperty(TEST_PREFIX + key, DEFERRED_STATUS));
+        FAILED.forEach(key -> summary.setProperty(TEST_PREFIX + key, FAILED_STATUS));
+        SKIPPED.forEach((className, methods) -> methods.forEach(method -> summary.putIfAbsent(
+                TEST_PREFIX + className + "#" + method, SKIPPED_STATUS)));
+        // The lane's JVM is started by Maven, which does not pass on -D settings. Passwords stay
+        // out of the report directory; the lane reads them from config.properties
+        for (String property : ShardRunner.forwardedProperties()) {
+            if (!property.contains("password")) {
+                summary.setProperty(SETTING_PREFIX + property, System.getProperty(property));
+            }
+        }
+        try {
+            Files.createDirectories(dir);
+            Files.deleteIfExists(dir.resolve(LANE_FILE));
+            if (!DEFERRED.isEmpty()) {
+                Files.write(dir.resolve(LANE_FILE), buildLane().toXml().getBytes(StandardCharsets.UTF_8));
+            }
+            try (Writer writer = Files.newBufferedWriter(dir.resolve(SUMMARY_FILE), StandardCharsets.UTF_8)) {
+                summary.store(writer, "class#method -> deferred, failed or skipped in the main run");
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Could not write the retry lane to " + dir, e);
+        }
+    }
+
+    private static Path laneDir(Path reportDir) {
+        return reportDir.resolve("retry");
+    }
+
+    // ==================== Lane ====================
+
+    private static XmlSuite buildLane() {
+        Map<String, Set<String>> byClass = new TreeMap<>();
+        for (ITestResult result : DEFERRED.values()) {
+            byClass.computeIfAbsent(result.getTestClass().getName(), k -> new TreeSet<>())
+                    .add(result.getMethod().getMethodName());
+        }
+
+        XmlSuite suite = new XmlSuite();
+        suite.setName("Retry lane");
+        suite.setParallel(XmlSuite.ParallelMode.TESTS);
+        suite.setThreadCount(Integer.parseInt(ConfigReader.get("retry.threads", "1")));
+        for (Map.Entry<String, Set<String>> entry : byClass.entrySet()) {
+            Class<?> testClass = DEFERRED.values().stream()
+                    .filter(r -> r.getTestClass().getName().equals(entry.getKey())).findFirst().get()
+                    .getTestClass().getRealClass();
+            Set<String> methods = new TreeSet<>(entry.getValue());
+            if (!FixtureManager.isFixtureClass(testClass)) {
+                // Chained: steps skipped because of the failure get their chance too
+                methods.addAll(SKIPPED.getOrDefault(entry.getKey(), Set.of()));
+            }
+            List<XmlInclude> includes = new ArrayList<>();
+            for (String method : withPrerequisites(testClass, methods)) {
+                includes.add(new XmlInclude(method));
+            }
+            XmlTest test = new XmlTest(suite);
+            test.setName("Retry: " + testClass.getSimpleName());
+            test.setPreserveOrder(true);
+            XmlClass xmlClass = new XmlClass(testClass.getName(), 0, false);
+            xmlClass.setIncludedMethods(includes);
+            test.getXmlClasses().add(xmlClass);
+            Log.info("[Retry] Lane: " + testClass.getSimpleName() + " " + includes.size()
+                    + " method(s) for " + entry.getValue());
+        }
+        return suite;
+    }
+
+    /**
+     * The methods plus their dependsOnMethods closure and, for chained
+     * classes, every step up to the last of them in priority order: the
+     * steps between login and a failed one set up the page it starts on.
+     */
+    private static List<String> withPrerequisites(Class<?> testClass, Set<String> methods) {
+        Map<String, Test> tests = new HashMap<>();
+        for (Method method : testClass.getMethods()) {
+            Test test = method.getAnnotation(Test.class);
+            if (test != null && test.enabled()) {
+                tests.put(method.getName(), test);
+            }
+        }
+        Comparator<String> byPriority = Comparator.comparingInt((String name) -> tests.get(name).priority())
+                .thenComparing(name -> name);
+        List<String> pending = new ArrayList<>(methods);
+        if (!FixtureManager.isFixtureClass(testClass)) {
+            int last = methods.stream().filter(tests::containsKey).mapToInt(name -> tests.get(name).priority())
+                    .max().orElse(Integer.MIN_VALUE);
+            tests.forEach((name, test) -> {
+                if (test.priority() <= last) {
+                    pending.add(name);
+                }
+            });
+        }
+        Set<String> closure = new LinkedHashSet<>();
+        while (!pending.isEmpty()) {
+            String name = pending.remove(pending.size() - 1);
+            if (!tests.containsKey(name) || !closure.add(name)) {
+                continue;
+            }
+            for (String dependency : tests.get(name).dependsOnMethods()) {
+                String simple = dependency.substring(dependency.lastIndexOf('.') + 1);
+                for (String candidate : tests.keySet()) {
+                    if (candidate.equals(simple) || candidate.matches(simple)) {
+                        pending.add(candidate);
+                    }
+                }
+            }
+        }
+        List<String> ordered = new ArrayList<>(closure);
+        ordered.sort(byPriority);
+        return ordered;
+    }
+
+    /**
+     * Run the lane a suite left in {@code <report.dir>/retry}, after the
+     * suite's JVM has exited: {@code RetryLane [report.dir]}. Exits non-zero
+     * when the run has a failure that was not retried or did not pass on
+     * retry, or when tests started but the suite left no summary (it did not
+     * finish). Without either, no tests ran and there is nothing to settle.
+     */
+    public static void main(String[] args) throws IOException {
+        Path reportDir = Paths.get(args.length > 0 ? args[0] : System.getProperty("report.dir", "test-output"));
+        System.exit(runLane(reportDir));
+    }
+
+    /**
+     * Run the lane and settle the run; returns the process exit code.
+     */
+    public static int runLane(Path reportDir) throws IOException {
+        Path dir = laneDir(reportDir);
+        Path summaryFile = dir.resolve(SUMMARY_FILE);
+        Properties summary = new Properties();
+        // Consumed like the summary: the next run marks its own start
+        boolean started = Files.deleteIfExists(dir.resolve(STARTED_FILE));
+        boolean finished = Files.exists(summaryFile);
+        if (finished) {
+            try (Reader reader = Files.newBufferedReader(summaryFile, StandardCharsets.UTF_8)) {
+                summary.load(reader);
+            }
+            // Consumed, so a later run that dies early is not judged on this one
+            Files.delete(summaryFile);
+        }
+        Map<String, String> statuses = new TreeMap<>();
+        for (String name : summary.stringPropertyNames()) {
+            if (name.startsWith(SETTING_PREFIX)) {
+                System.setProperty(name.substring(SETTING_PREFIX.length()), summary.getProperty(name));
+            } else if (name.startsWith(TEST_PREFIX)) {
+                statuses.put(name.substring(TEST_PREFIX.length()), summary.getProperty(name));
+            }
+        }
+        // Before the first log line: the lane logs, reports and screenshots go under retry/
+        System.setProperty("report.dir", dir.toString());
+        // The suite's archive is already written; the lane's files stay next to it
+        System.setProperty("artifacts.bundle", "false");
+        if (!finished && !started) {
+            Log.info("[Retry] No tests ran (nothing in " + dir + "); nothing to retry");
+            return 0;
+        }
+        if (!finished) {
+            Log.error("[Retry] No run summary in " + dir + ": the suite started but did not finish");
+            return 1;
+        }
+
+        Map<String, ITestResult> results = new ConcurrentHashMap<>();
+        long start = System.currentTimeMillis();
+        if (statuses.containsValue(DEFERRED_STATUS) && Files.exists(dir.resolve(LANE_FILE))) {
+            results = run(dir);
+            // The run's report with the retries as results of their own
+            ExtentReportManager.mergeShardReports(List.of(reportDir, dir),
+                    reportDir.resolve("ExtentReport.html").toString());
+        }
+        return settle(statuses, results, System.currentTimeMillis() - start);
+    }
+
+    private static Map<String, ITestResult> run(Path dir) {
+        Map<String, ITestResult> results = new ConcurrentHashMap<>();
+        ITestListener collector = new ITestListener() {
+            @Override
+            public void onTestSuccess(ITestResult result) {
+                results.put(key(result), result);
+            }
+
+            @Override
+            public void onTestFailure(ITestResult result) {
+                results.put(key(result), result);
+            }
+
+            @Override
+            public void onTestSkipped(ITestResult result) {
+                results.put(key(result), result);
+            }
+        };
+        TestNG testng = new TestNG();
+        testng.setOutputDirectory(dir.resolve("testng").toString());
+        testng.setTestSuites(List.of(dir.resolve(LANE_FILE).toString()));
+        testng.addListener(collector);
+        Log.info("[Retry] Starting retry lane from " + dir.resolve(LANE_FILE));
+        running = true;
+        try {
+            testng.run();
+        } finally {
+            running = false;
+        }
+        return results;
+    }
+
+    /**
+     * Record how each queued (or dependent) method did in the lane and log
+     * what is still failing; returns the exit code.
+     */
+    private static int settle(Map<String, String> statuses, Map<String, ITestResult> results, long laneMillis) {
+        Map<String, Character> outcomes = new TreeMap<>();
+        Map<String, String> stillFailing = new TreeMap<>();
+        int deferred = 0;
+        for (Map.Entry<String, String> entry : statuses.entrySet()) {
+            String key = entry.getKey();
+            ITestResult retry = results.get(key);
+            boolean passed = retry != null && retry.getStatus() == ITestResult.SUCCESS;
+            if (FAILED_STATUS.equals(entry.getValue())) {
+                stillFailing.put(key, "not retried");
+            } else if (DEFERRED_STATUS.equals(entry.getValue())) {
+                deferred++;
+                if (passed) {
+                    outcomes.put(key, 'R');
+                    Log.info("[Retry] " + key + " passed on retry (flaky)");
+                } else {
+                    String cause = retry == null ? "not run in the lane" : String.valueOf(retry.getThrowable());
+                    stillFailing.put(key, cause);
+                    Log.info("[Retry] " + key + " failed again: " + cause);
+                }
+            } else if (retry != null && retry.getStatus() != ITestResult.SKIP) {
+                // Skipped in the main run, so this is its only real result
+                outcomes.put(key, passed ? 'P' : 'F');
+                if (!passed) {
+                    stillFailing.put(key, String.valueOf(retry.getThrowable()));
+                }
+            }
+        }
+        if (!outcomes.isEmpty()) {
+            RunHistory.update(HISTORY_FILE, stored -> outcomes.forEach((key, outcome) -> {
+                String recorded = stored.getProperty(key, "");
+                if (outcome == 'R' && recorded.endsWith("F")) {
+                    // The main run recorded this run's first attempt
+                    recorded = recorded.substring(0, recorded.length() - 1);
+                }
+                String updated = recorded + outcome;
+                stored.setProperty(key, updated.substring(Math.max(0, updated.length() - WINDOW)));
+            }), HISTORY_COMMENT);
+        }
+
+        StringBuilder summary = new StringBuilder(String.format(
+                "Retry lane: %d failure(s) retried, %d passed on retry, %d still failing (%d s)", deferred,
+                outcomes.values().stream().filter(outcome -> outcome == 'R').count(), stillFailing.size(),
+                laneMillis / 1000));
+        stillFailing.forEach((key, cause) -> summary.append(String.format("%n  still failing: %s (%s)", key, cause)));
+        Log.info(summary.toString());
+        return stillFailing.isEmpty() ? 0 : 1;
+    }
+
+    // ==================== History ====================
+
+    private static synchronized Properties history() {
+        if (history == null) {
+            history = RunHistory.load(HISTORY_FILE);
+        }
+        return history;
+    }
+
+    private static boolean isConsistentlyFailing(String key) {
+        String outcomes = history().getProperty(key, "");
+        return outcomes.length() >= CONSISTENT_FAILURES
+                && outcomes.substring(outcomes.length() - CONSISTENT_FAILURES).chars().allMatch(c -> c == 'F');
+    }
+
+    private static boolean isFlaky(String outcomes) {
+        return outcomes.indexOf('R') >= 0 || outcomes.indexOf('P') >= 0 && outcomes.indexOf('F') >= 0;
+    }
+
+    /**
+     * Append this run's outcomes to the per-method history; the lane turns
+     * the F of a method that passes on retry into an R.
+     */
+    public static void saveHistory() {
+        if (OUTCOMES.isEmpty()) {
+            return;
+        }
+        RunHistory.update(HISTORY_FILE, stored -> OUTCOMES.forEach((key, outcome) -> {
+            String outcomes = stored.getProperty(key, "") + outcome;
+            stored.setProperty(key, outcomes.substring(Math.max(0, outcomes.length() - WINDOW)));
+        }), HISTORY_COMMENT);
+    }
+
+    public static String describeStats() {
+        StringBuilder summary = new StringBuilder(String.format(
+                "Retry lane: %d failure(s) queued, %d failure(s) not retried (%d consistent)",
+                DEFERRED.size(), FAILED.size(), NOT_RETRIED.size()));
+        Set<String> flaky = new TreeSet<>();
+        for (String key : DEFERRED.keySet()) {
+            if (isFlaky(history().getProperty(key, "") + 'F')) {
+                flaky.add(key);
+            }
+        }
+        if (!flaky.isEmpty()) {
+            summary.append(String.format("%n  flaky: %s", flaky));
+        }
+        if (!NOT_RETRIED.isEmpty()) {
+            summary.append(String.format("%n  consistently failing: %s", new TreeSet<>(NOT_RETRIED)));
+        }
+        return summary.toString();
+    }
+
+    private static String key(ITestResult result) {
+        return result.getTestClass().getName() + "#" + result.getMethod().getMethodName();
+    }
+}
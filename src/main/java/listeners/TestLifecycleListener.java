@@ -0,0 +1,327 @@
+package listeners;
+
+import base.DriverFactory;
+import base.Fixture;
+import base.FixtureManager;
+import base.RunAs;
+import org.openqa.selenium.WebDriver;
+import org.testng.IConfigurationListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestContext;
+import org.testng.ITestListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+import utils.CommandStats;
+import utils.ConcurrencyController;
+import utils.ConfigReader;
+import utils.ElementCache;
+import utils.ExtentReportManager;
+import utils.FlightEvents;
+import utils.LatencyHistogram;
+import utils.Log;
+import utils.ReportTest;
+import utils.ResultCache;
+import utils.ScreencastRecorder;
+import utils.ScreenshotUtil;
+import utils.StepTimeline;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Owns the report side of every test: creates it in the report, starts its
+ * log, timeline, command and flight-recorder context, records its status,
+ * captures the failure screenshot and screencast, adds its metrics and ends
+ * it. Registered on {@link base.BaseTest}, so every suite and the retry lane
+ * get it (the lane renders its own report before the run's is merged with
+ * it); replaces the two Extent listeners that kept their own report.
+ *
+ * A test's context starts before its {@code @BeforeMethod}, so setup lines
+ * are in its log, and ends with its status callback. Tests skipped without
+ * running (a failed dependency) get a report entry only.
+ *
+ * Reports are rendered off the test threads: when a {@code <test>} block
+ * finishes, a progress render is scheduled after
+ * {@code report.flushDebounceSeconds} (default 60, 0 for none), and every
+ * request in that window shares it. The final render runs once when the
+ * suite is done.
+ *
+ * The time spent in this listener's callbacks is measured per test: it is
+ * in the test's log (DEBUG), in the {@code listenerMillis} attribute of its
+ * result for other listeners and reporters, and summarized at the end of
+ * the suite with the share spent capturing screenshots.
+ */
+public class TestLifecycleListener implements IConfigurationListener, ITestListener, ISuiteListener {
+
+    static final String CALLBACK_ATTRIBUTE = "listenerMillis";
+
+    private static final ThreadLocal<TestState> CURRENT = new ThreadLocal<>();
+    private static final LatencyHistogram CALLBACKS = new LatencyHistogram();
+    private static final LatencyHistogram SCREENSHOTS = new LatencyHistogram();
+    private static final long DEBOUNCE_SECONDS = Long.parseLong(ConfigReader.get("report.flushDebounceSeconds", "60"));
+    // TestNG creates an instance per <test> block for @Listeners: flushing is per JVM
+    private static ScheduledThreadPoolExecutor flusher;
+    private static ScheduledFuture<?> pendingFlush;
+    private static int flushRequests;
+    private static int progressRenders;
+    private static String slowestTest;
+    private static long slowestNanos;
+
+    /**
+     * Report, log and metric context of the test running on a thread.
+     */
+    private static class TestState {
+        final ReportTest report;
+        final String name;
+        long callbackNanos;
+        long screenshotNanos;
+
+        TestState(ReportTest report, String name) {
+            this.report = report;
+            this.name = name;
+        }
+    }
+
+    // ==================== Test lifecycle ====================
+
+    @Override
+    public void beforeConfiguration(ITestResult result, ITestNGMethod testMethod) {
+        if (testMethod != null && result.getMethod().isBeforeMethodConfiguration()) {
+            long start = System.nanoTime();
+            startTest(testMethod).callbackNanos += System.nanoTime() - start;
+        }
+    }
+
+    @Override
+    public void onTestStart(ITestResult result) {
+        long start = System.nanoTime();
+        TestState state = CURRENT.get();
+        if (state == null) {
+            // A class without @BeforeMethod
+            state = startTest(result.getMethod());
+        }
+        state.callbackNanos += System.nanoTime() - start;
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        endTest(result);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        endTest(result);
+    }
+
+    @Override
+    public void onTestFailedButWithinSuccessPercentage(ITestResult result) {
+        endTest(result);
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        endTest(result);
+    }
+
+    @Override
+    public void onTestFailedWithTimeout(ITestResult result) {
+        endTest(result);
+    }
+
+    private TestState startTest(ITestNGMethod method) {
+        TestState previous = CURRENT.get();
+        if (previous != null) {
+            // A test whose setup failed without a status callback
+            previous.report.skip("Test setup did not complete");
+            endContext(previous, "skipped");
+        }
+        String className = method.getRealClass().getSimpleName();
+        String methodName = method.getMethodName();
+        String testName = RetryLane.isRunning() ? methodName + " [retry]" : methodName;
+        String role = roleOf(method);
+
+        TestState state = new TestState(ExtentReportManager.createTest(testName, null, className),
+                className + "." + testName);
+        CURRENT.set(state);
+        ExtentReportManager.resetStepCounter();
+        StepTimeline.startTest(state.name);
+        CommandStats.startTest();
+        Log.startTest(className, methodName, role);
+        FlightEvents.startTest(className, testName, role);
+        return state;
+    }
+
+    private void endTest(ITestResult result) {
+        long start = System.nanoTime();
+        TestState state = CURRENT.get();
+        if (state == null) {
+            // Skipped without running: no setup, driver or metrics
+            ITestNGMethod method = result.getMethod();
+            ReportTest report = ExtentReportManager.createTest(method.getMethodName(), null,
+                    method.getRealClass().getSimpleName());
+            recordStatus(result, report, null);
+            ExtentReportManager.removeTest();
+            return;
+        }
+        // Thread-bound lookups: with fixtures, methods of one instance run on several threads
+        WebDriver driver = DriverFactory.getDriver();
+        recordStatus(result, state.report, state);
+
+        if (driver != null) {
+            ElementCache cache = ElementCache.forDriver(driver);
+            if (cache.getHits() + cache.getMisses() > 0) {
+                state.report.info(cache.describeStats());
+            }
+        }
+        if (ConcurrencyController.isEnabled()) {
+            ConcurrencyController.get().recordTest(result.getThrowable());
+        }
+        if (ResultCache.isEnabled()) {
+            ResultCache.get().record(result);
+        }
+
+        state.callbackNanos += System.nanoTime() - start;
+        result.setAttribute(CALLBACK_ATTRIBUTE, String.format("%.2f", state.callbackNanos / 1e6));
+        Log.debug(String.format("Listener callbacks: %.2f ms%s", state.callbackNanos / 1e6,
+                state.screenshotNanos > 0 ? String.format(" (%.2f ms capturing the screenshot)",
+                        state.screenshotNanos / 1e6) : ""));
+        CALLBACKS.record(state.callbackNanos);
+        if (state.screenshotNanos > 0) {
+            SCREENSHOTS.record(state.screenshotNanos);
+        }
+        synchronized (TestLifecycleListener.class) {
+            if (state.callbackNanos > slowestNanos) {
+                slowestNanos = state.callbackNanos;
+                slowestTest = state.name;
+            }
+        }
+        endContext(state, result.getStatus() == ITestResult.SUCCESS ? "passed"
+                : result.getStatus() == ITestResult.FAILURE ? "failed" : "skipped");
+    }
+
+    /**
+     * Status line, and for a failure the exception, screenshot and screencast.
+     */
+    private void recordStatus(ITestResult result, ReportTest report, TestState state) {
+        if (result.getStatus() == ITestResult.FAILURE) {
+            report.fail("<b><font color='red'>Test Failed:</font></b> " + result.getName());
+            report.fail(result.getThrowable());
+            if (state == null) {
+                return;
+            }
+            WebDriver driver = DriverFactory.getDriver();
+            // Capture only; compression and storage happen in the background
+            long start = System.nanoTime();
+            byte[] screenshot = ScreenshotUtil.captureScreenshotAsBytes(driver);
+            state.screenshotNanos += System.nanoTime() - start;
+            if (screenshot != null) {
+                report.addScreenCapture(screenshot, "Failure Screenshot");
+                Log.info("Screenshot captured for failed test: " + result.getName());
+            } else {
+                report.info("Could not capture screenshot for this failure");
+            }
+            ScreencastRecorder.attachTo(report, driver);
+        } else if (result.getStatus() == ITestResult.SUCCESS) {
+            report.pass("<b><font color='green'>Test Passed:</font></b> " + result.getName());
+        } else if (result.getStatus() == ITestResult.SKIP) {
+            report.skip("<b><font color='orange'>Test Skipped:</font></b> " + result.getName());
+            if (result.getThrowable() != null) {
+                report.skip(result.getThrowable());
+            }
+        }
+    }
+
+    private void endContext(TestState state, String status) {
+        CURRENT.remove();
+        StepTimeline.endTest(state.report);
+        CommandStats.endTest(state.report);
+        Log.endTest(state.report);
+        FlightEvents.endTest(status);
+        ExtentReportManager.removeTest();
+    }
+
+    /**
+     * Role a test runs as, for the log context: its fixture's, else the
+     * class's {@link RunAs}, else "-".
+     */
+    private static String roleOf(ITestNGMethod method) {
+        Fixture fixture = FixtureManager.find(method.getConstructorOrMethod().getMethod());
+        if (fixture != null) {
+            return fixture.role().name();
+        }
+        Class<?> testClass = method.getRealClass();
+        RunAs runAs = testClass.getAnnotation(RunAs.class);
+        return runAs == null ? "-" : runAs.role().name();
+    }
+
+    // ==================== Report flushing ====================
+
+    @Override
+    public void onStart(ISuite suite) {
+        ExtentReportManager.startReport();
+    }
+
+    @Override
+    public void onFinish(ITestContext context) {
+        if (DEBOUNCE_SECONDS <= 0) {
+            return;
+        }
+        synchronized (TestLifecycleListener.class) {
+            flushRequests++;
+            if (pendingFlush != null && !pendingFlush.isDone()) {
+                return;
+            }
+            if (flusher == null) {
+                flusher = new ScheduledThreadPoolExecutor(1, runnable -> {
+                    Thread thread = new Thread(runnable, "report-flush");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+                // A pending render is dropped at shutdown, not waited for
+                flusher.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+            }
+            pendingFlush = flusher.schedule(TestLifecycleListener::renderProgress, DEBOUNCE_SECONDS,
+                    TimeUnit.SECONDS);
+        }
+    }
+
+    private static void renderProgress() {
+        ExtentReportManager.renderProgress();
+        synchronized (TestLifecycleListener.class) {
+            progressRenders++;
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        ScheduledThreadPoolExecutor running;
+        synchronized (TestLifecycleListener.class) {
+            running = flusher;
+            flusher = null;
+            if (running != null) {
+                // A progress render that has not started is dropped; one that has is waited for
+                running.shutdown();
+            }
+        }
+        if (running != null) {
+            try {
+                running.awaitTermination(2, TimeUnit.MINUTES);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        Log.info(describeStats());
+        ExtentReportManager.flushReports();
+    }
+
+    public static synchronized String describeStats() {
+        return String.format("[Listener] %d test(s): callbacks %.2f ms mean, %.2f ms p95, %.2f ms max (%s);"
+                + " %d screenshot(s), %.1f ms mean to capture; %d report flush request(s) -> %d progress"
+                + " render(s) + 1 final", CALLBACKS.count(), CALLBACKS.meanMicros() / 1000,
+                CALLBACKS.percentileMicros(95) / 1000.0, CALLBACKS.maxMicros() / 1000,
+                slowestTest == null ? "-" : slowestTest, SCREENSHOTS.count(), SCREENSHOTS.meanMicros() / 1000,
+                flushRequests, progressRenders);
+    }
+}
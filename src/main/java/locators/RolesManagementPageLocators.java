@@ -156,39 +156,6 @@ public class RolesManagementPageLocators {
     public static final By FORM_ROLE_DESCRIPTION = By.xpath(
             "//textarea[@placeholder='Enter role description']");
 
-    // ========== Permission Accordions ==========
-    // Dashboard accordion
-    public static final By ACCORDION_DASHBOARD = By.xpath(
-            "//button[contains(text(), 'Dashboard')]");
-
-    // Customer Organisation accordion
-    public static final By ACCORDION_CUSTOMER_ORG = By.xpath(
-            "//button[contains(text(), 'Customer org')]");
-
-    // Own Team Management accordion
-    public static final By ACCORDION_OWN_TEAM = By.xpath(
-            "//button[contains(text(), 'Own team management')]");
-
-    // Roles Management accordion
-    public static final By ACCORDION_ROLES_MGMT = By.xpath(
-            "//button[contains(text(), 'Role management')]");
-
-    // Settings accordion
-    public static final By ACCORDION_SETTINGS = By.xpath(
-            "//button[contains(text(), 'Settings')]");
-
-    // My Profile accordion
-    public static final By ACCORDION_MY_PROFILE = By.xpath(
-            "//button[contains(text(), 'My profile')]");
-
-    // API & Documentation accordion
-    public static final By ACCORDION_API_DOCS = By.xpath(
-            "//button[contains(text(), 'API & Documentation')]");
-
-    // Service Node SSO Management accordion (dropdown)
-    public static final By ACCORDION_SERVICE_NODE_SSO = By.xpath(
-            "//button[contains(text(), 'Service nodes management role SSO')]");
-
     // ========== Service Node SSO Sub-options ==========
     // Select All checkbox
     public static final By SSO_SELECT_ALL = By.xpath(
@@ -226,10 +193,6 @@ public class RolesManagementPageLocators {
     public static final By SSO_ONLY_LIVE_AGENT = By.xpath(
             "//div[contains(text(), 'Only for Live Agent')]/following-sibling::div//input");
 
-    // All SSO sub-option labels (for duplicate check)
-    public static final By SSO_ALL_OPTIONS = By.xpath(
-            "//button[contains(text(), 'Service nodes management role SSO')]/following::div[contains(@class, 'accordion-body')]//div[contains(@class, 'form-check')]//label");
-
     // ========== Form Actions ==========
     // Submit button
     public static final By FORM_SUBMIT_BUTTON = By.xpath(
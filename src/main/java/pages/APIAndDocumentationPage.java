@@ -4,6 +4,8 @@ import locators.APIAndDocumentationPageLocators;
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.ui.*;
 import utils.ConfigReader;
+import utils.Log;
+import utils.TracedWait;
 
 import java.io.File;
 import java.time.Duration;
@@ -24,7 +26,7 @@ public class APIAndDocumentationPage {
         this.driver = driver;
         // Use longer timeout in headless mode
         int timeout = base.DriverFactory.isHeadlessModeEnabled() ? 20 : 10;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(timeout));
+        this.wait = new TracedWait(driver, Duration.ofSeconds(timeout));
     }
 
     /**
@@ -32,7 +34,7 @@ public class APIAndDocumentationPage {
      */
     public void navigateToAPIAndDocumentation() throws InterruptedException {
         try {
-            System.out.println("Navigating to API & Documentation...");
+            Log.info("Navigating to API & Documentation...");
 
             // Wait for page ready and remove blocking iframes in headless mode
             if (base.DriverFactory.isHeadlessModeEnabled()) {
@@ -53,9 +55,9 @@ public class APIAndDocumentationPage {
 
             // Wait for URL change in both modes
             wait.until(ExpectedConditions.urlContains("api-documentation"));
-            System.out.println("Successfully clicked API & Documentation menu");
+            Log.info("Successfully clicked API & Documentation menu");
         } catch (Exception e) {
-            System.out.println("Error navigating to API & Documentation: " + e.getMessage());
+            Log.error("Error navigating to API & Documentation: " + e.getMessage());
             throw e;
         }
     }
@@ -67,20 +69,20 @@ public class APIAndDocumentationPage {
         try {
             // Use longer wait in headless mode
             int waitTime = base.DriverFactory.isHeadlessModeEnabled() ? 15 : 10;
-            WebDriverWait customWait = new WebDriverWait(driver, Duration.ofSeconds(waitTime));
+            WebDriverWait customWait = new TracedWait(driver, Duration.ofSeconds(waitTime));
 
             customWait.until(ExpectedConditions.visibilityOfElementLocated(
                     APIAndDocumentationPageLocators.PAGE_TITLE));
-            System.out.println("API & Documentation page loaded successfully");
+            Log.info("API & Documentation page loaded successfully");
             return true;
         } catch (Exception e) {
             // Try URL-based verification as fallback
             String currentUrl = driver.getCurrentUrl();
             if (currentUrl.contains("api-documentation") || currentUrl.contains("api-doc")) {
-                System.out.println("API & Documentation page loaded (verified by URL: " + currentUrl + ")");
+                Log.info("API & Documentation page loaded (verified by URL: " + currentUrl + ")");
                 return true;
             }
-            System.out.println("API & Documentation page did not load: " + e.getMessage());
+            Log.info("API & Documentation page did not load: " + e.getMessage());
             return false;
         }
     }
@@ -92,10 +94,10 @@ public class APIAndDocumentationPage {
         try {
             WebElement menu = driver.findElement(APIAndDocumentationPageLocators.API_DOC_MENU);
             boolean visible = menu.isDisplayed();
-            System.out.println("API & Documentation tab visible: " + visible);
+            Log.info("API & Documentation tab visible: " + visible);
             return visible;
         } catch (Exception e) {
-            System.out.println("API & Documentation tab not visible: " + e.getMessage());
+            Log.info("API & Documentation tab not visible: " + e.getMessage());
             return false;
         }
     }
@@ -108,10 +110,10 @@ public class APIAndDocumentationPage {
             WebElement menu = wait.until(ExpectedConditions.elementToBeClickable(
                     APIAndDocumentationPageLocators.API_DOC_MENU));
             boolean clickable = menu.isEnabled();
-            System.out.println("API & Documentation tab clickable: " + clickable);
+            Log.info("API & Documentation tab clickable: " + clickable);
             return clickable;
         } catch (Exception e) {
-            System.out.println("API & Documentation tab not clickable: " + e.getMessage());
+            Log.info("API & Documentation tab not clickable: " + e.getMessage());
             return false;
         }
     }
@@ -123,7 +125,7 @@ public class APIAndDocumentationPage {
      */
     public void clickViewDetails(String serviceName) throws InterruptedException {
         try {
-            System.out.println("Clicking View Details for " + serviceName + " service...");
+            Log.info("Clicking View Details for " + serviceName + " service...");
 
             // First, ensure any previous modal is closed
             closeModalWithRetry();
@@ -146,14 +148,14 @@ public class APIAndDocumentationPage {
             try {
                 viewDetailsBtn.click();
             } catch (Exception clickEx) {
-                System.out.println("Regular click failed, trying JavaScript click...");
+                Log.info("Regular click failed, trying JavaScript click...");
                 ((JavascriptExecutor) driver).executeScript("arguments[0].click();", viewDetailsBtn);
             }
 
             waitForLoadingToComplete();
-            System.out.println("Successfully clicked View Details for " + serviceName);
+            Log.info("Successfully clicked View Details for " + serviceName);
         } catch (Exception e) {
-            System.out.println("Error clicking View Details for " + serviceName + ": " + e.getMessage());
+            Log.error("Error clicking View Details for " + serviceName + ": " + e.getMessage());
             throw e;
         }
     }
@@ -168,7 +170,7 @@ public class APIAndDocumentationPage {
             WebElement downloadBtn = wait.until(ExpectedConditions.elementToBeClickable(
                     APIAndDocumentationPageLocators.getDownloadButton(serviceName)));
             boolean clickable = downloadBtn.isEnabled() && downloadBtn.isDisplayed();
-            System.out.println("API Download button clickable for " + serviceName + ": " + clickable);
+            Log.info("API Download button clickable for " + serviceName + ": " + clickable);
             return clickable;
         } catch (Exception e) {
             // Try generic download button if service-specific not found
@@ -176,10 +178,10 @@ public class APIAndDocumentationPage {
                 WebElement genericBtn = wait.until(ExpectedConditions.elementToBeClickable(
                         APIAndDocumentationPageLocators.API_DOC_DOWNLOAD_BUTTON));
                 boolean clickable = genericBtn.isEnabled() && genericBtn.isDisplayed();
-                System.out.println("Generic API Download button clickable: " + clickable);
+                Log.info("Generic API Download button clickable: " + clickable);
                 return clickable;
             } catch (Exception ex) {
-                System.out.println("API Download button not clickable for " + serviceName + ": " + ex.getMessage());
+                Log.info("API Download button not clickable for " + serviceName + ": " + ex.getMessage());
                 return false;
             }
         }
@@ -192,7 +194,7 @@ public class APIAndDocumentationPage {
      */
     public void downloadAPIDocumentation(String serviceName) throws InterruptedException {
         try {
-            System.out.println("Downloading API documentation for " + serviceName + "...");
+            Log.info("Downloading API documentation for " + serviceName + "...");
             WebElement downloadBtn;
             try {
                 downloadBtn = wait.until(ExpectedConditions.elementToBeClickable(
@@ -204,9 +206,9 @@ public class APIAndDocumentationPage {
             }
             downloadBtn.click();
             Thread.sleep(3000); // Allow download to complete
-            System.out.println("Successfully triggered download for " + serviceName);
+            Log.info("Successfully triggered download for " + serviceName);
         } catch (Exception e) {
-            System.out.println("Error downloading documentation for " + serviceName + ": " + e.getMessage());
+            Log.error("Error downloading documentation for " + serviceName + ": " + e.getMessage());
             throw e;
         }
     }
@@ -218,10 +220,10 @@ public class APIAndDocumentationPage {
         try {
             WebElement urlElement = driver.findElement(APIAndDocumentationPageLocators.API_URL_DISPLAY);
             String url = urlElement.getText();
-            System.out.println("API Documentation URL: " + url);
+            Log.info("API Documentation URL: " + url);
             return url;
         } catch (Exception e) {
-            System.out.println("Could not find API URL display: " + e.getMessage());
+            Log.warn("Could not find API URL display: " + e.getMessage());
             return "";
         }
     }
@@ -236,7 +238,7 @@ public class APIAndDocumentationPage {
             String url = getAPIDocumentationURL();
             if (!url.isEmpty()) {
                 boolean contains = url.contains(expectedDomain);
-                System.out.println(
+                Log.info(
                         "Domain verification: " + contains + " (Expected: " + expectedDomain + ", Found: " + url + ")");
                 return contains;
             }
@@ -244,11 +246,11 @@ public class APIAndDocumentationPage {
             // If URL not visible on page, check current page URL
             String currentUrl = driver.getCurrentUrl();
             boolean contains = currentUrl.contains(expectedDomain);
-            System.out.println("Current URL domain verification: " + contains + " (Expected: " + expectedDomain
+            Log.info("Current URL domain verification: " + contains + " (Expected: " + expectedDomain
                     + ", Current: " + currentUrl + ")");
             return contains;
         } catch (Exception e) {
-            System.out.println("Error verifying domain: " + e.getMessage());
+            Log.error("Error verifying domain: " + e.getMessage());
             return false;
         }
     }
@@ -260,7 +262,7 @@ public class APIAndDocumentationPage {
      */
     public void clickExploreSwaggerUI(String serviceName) throws InterruptedException {
         try {
-            System.out.println("Clicking Explore Swagger UI for " + serviceName + "...");
+            Log.info("Clicking Explore Swagger UI for " + serviceName + "...");
             WebElement swaggerBtn;
             try {
                 swaggerBtn = wait.until(ExpectedConditions.elementToBeClickable(
@@ -272,9 +274,9 @@ public class APIAndDocumentationPage {
             }
             swaggerBtn.click();
             wait.until(driver -> driver.getWindowHandles().size() > 1);
-            System.out.println("Successfully clicked Explore Swagger UI for " + serviceName);
+            Log.info("Successfully clicked Explore Swagger UI for " + serviceName);
         } catch (Exception e) {
-            System.out.println("Error clicking Swagger UI for " + serviceName + ": " + e.getMessage());
+            Log.error("Error clicking Swagger UI for " + serviceName + ": " + e.getMessage());
             throw e;
         }
     }
@@ -284,19 +286,19 @@ public class APIAndDocumentationPage {
      */
     public void switchToNewTab() throws InterruptedException {
         try {
-            System.out.println("Switching to new tab...");
+            Log.info("Switching to new tab...");
             Set<String> windows = driver.getWindowHandles();
             ArrayList<String> tabs = new ArrayList<>(windows);
 
             if (tabs.size() > 1) {
                 driver.switchTo().window(tabs.get(1));
                 Thread.sleep(1500); // Allow tab to load
-                System.out.println("Switched to new tab. Current URL: " + driver.getCurrentUrl());
+                Log.info("Switched to new tab. Current URL: " + driver.getCurrentUrl());
             } else {
-                System.out.println("No new tab found");
+                Log.info("No new tab found");
             }
         } catch (Exception e) {
-            System.out.println("Error switching to new tab: " + e.getMessage());
+            Log.error("Error switching to new tab: " + e.getMessage());
             throw e;
         }
     }
@@ -310,7 +312,7 @@ public class APIAndDocumentationPage {
     public boolean verifySwaggerUIDomain(String serviceName, String expectedDomain) {
         try {
             String currentUrl = driver.getCurrentUrl();
-            System.out.println("Current Swagger UI URL: " + currentUrl);
+            Log.info("Current Swagger UI URL: " + currentUrl);
 
             boolean domainMatches = currentUrl.contains(expectedDomain);
             boolean isSwagger = currentUrl.toLowerCase().contains("swagger") ||
@@ -319,19 +321,19 @@ public class APIAndDocumentationPage {
             // Also check for Swagger UI elements on page
             try {
                 WebElement swaggerUI = driver.findElement(APIAndDocumentationPageLocators.SWAGGER_UI_HEADER);
-                System.out.println("Swagger UI element found on page");
+                Log.info("Swagger UI element found on page");
             } catch (Exception e) {
-                System.out.println("Swagger UI element not found (may still be valid if URL is correct)");
+                Log.info("Swagger UI element not found (may still be valid if URL is correct)");
             }
 
             boolean verified = domainMatches && isSwagger;
-            System.out.println("Swagger UI domain verification for " + serviceName + ": " + verified);
-            System.out.println("  - Domain matches (" + expectedDomain + "): " + domainMatches);
-            System.out.println("  - Is Swagger URL: " + isSwagger);
+            Log.info("Swagger UI domain verification for " + serviceName + ": " + verified);
+            Log.info("  - Domain matches (" + expectedDomain + "): " + domainMatches);
+            Log.info("  - Is Swagger URL: " + isSwagger);
 
             return verified;
         } catch (Exception e) {
-            System.out.println("Error verifying Swagger UI domain: " + e.getMessage());
+            Log.error("Error verifying Swagger UI domain: " + e.getMessage());
             return false;
         }
     }
@@ -341,7 +343,7 @@ public class APIAndDocumentationPage {
      */
     public void closeCurrentTabAndSwitch() throws InterruptedException {
         try {
-            System.out.println("Closing current tab and switching back...");
+            Log.info("Closing current tab and switching back...");
             driver.close();
             Thread.sleep(500);
 
@@ -351,10 +353,10 @@ public class APIAndDocumentationPage {
             if (!tabs.isEmpty()) {
                 driver.switchTo().window(tabs.get(0));
                 waitForLoadingToComplete();
-                System.out.println("Switched back to main window");
+                Log.info("Switched back to main window");
             }
         } catch (Exception e) {
-            System.out.println("Error closing tab: " + e.getMessage());
+            Log.error("Error closing tab: " + e.getMessage());
             throw e;
         }
     }
@@ -374,9 +376,9 @@ public class APIAndDocumentationPage {
             WebElement closeBtn = driver.findElement(APIAndDocumentationPageLocators.MODAL_CLOSE_BUTTON);
             closeBtn.click();
             waitForLoadingToComplete();
-            System.out.println("Modal closed");
+            Log.info("Modal closed");
         } catch (Exception e) {
-            System.out.println("No modal to close or error closing: " + e.getMessage());
+            Log.info("No modal to close or error closing: " + e.getMessage());
         }
     }
 
@@ -400,7 +402,7 @@ public class APIAndDocumentationPage {
             boolean modalClosed = false;
             for (By locator : closeButtonLocators) {
                 try {
-                    WebElement closeBtn = new WebDriverWait(driver, Duration.ofSeconds(2))
+                    WebElement closeBtn = new TracedWait(driver, Duration.ofSeconds(2))
                             .until(ExpectedConditions.elementToBeClickable(locator));
 
                     // Try regular click first
@@ -413,7 +415,7 @@ public class APIAndDocumentationPage {
 
                     Thread.sleep(500);
                     modalClosed = true;
-                    System.out.println("Modal closed successfully");
+                    Log.info("Modal closed successfully");
                     break;
                 } catch (Exception e) {
                     // Try next locator
@@ -426,13 +428,13 @@ public class APIAndDocumentationPage {
                 try {
                     driver.findElement(By.tagName("body")).sendKeys(Keys.ESCAPE);
                     Thread.sleep(500);
-                    System.out.println("Modal closed using ESC key");
+                    Log.info("Modal closed using ESC key");
                 } catch (Exception escEx) {
-                    System.out.println("No modal found to close (this is normal if no modal is open)");
+                    Log.info("No modal found to close (this is normal if no modal is open)");
                 }
             }
         } catch (Exception e) {
-            System.out.println("No modal to close (this is normal if no modal is open)");
+            Log.info("No modal to close (this is normal if no modal is open)");
         }
     }
 
@@ -442,16 +444,16 @@ public class APIAndDocumentationPage {
      */
     public void navigateBackToServiceList() throws InterruptedException {
         try {
-            System.out.println("Navigating back to API documentation service list...");
+            Log.info("Navigating back to API documentation service list...");
 
             // Strategy 1: Try to find and click a Back button
             try {
-                WebElement backBtn = new WebDriverWait(driver, Duration.ofSeconds(3))
+                WebElement backBtn = new TracedWait(driver, Duration.ofSeconds(3))
                         .until(ExpectedConditions
                                 .elementToBeClickable(APIAndDocumentationPageLocators.BACK_TO_LIST_BUTTON));
                 backBtn.click();
                 waitForLoadingToComplete();
-                System.out.println("Clicked Back button to return to service list");
+                Log.info("Clicked Back button to return to service list");
                 return;
             } catch (Exception e) {
                 // Back button not found, try next strategy
@@ -466,7 +468,7 @@ public class APIAndDocumentationPage {
                 // We're on a detail page, navigate back using browser back
                 driver.navigate().back();
                 Thread.sleep(1500);
-                System.out.println("Used browser back to return to service list");
+                Log.info("Used browser back to return to service list");
 
                 // Wait for the service list to load
                 wait.until(ExpectedConditions.presenceOfElementLocated(
@@ -480,14 +482,14 @@ public class APIAndDocumentationPage {
                         APIAndDocumentationPageLocators.API_DOC_MENU));
                 apiDocMenu.click();
                 Thread.sleep(1500);
-                System.out.println("Re-clicked API & Documentation menu to return to service list");
+                Log.info("Re-clicked API & Documentation menu to return to service list");
                 return;
             } catch (Exception e) {
-                System.out.println("Could not navigate back to service list: " + e.getMessage());
+                Log.warn("Could not navigate back to service list: " + e.getMessage());
             }
 
         } catch (Exception e) {
-            System.out.println("Error navigating back to service list: " + e.getMessage());
+            Log.error("Error navigating back to service list: " + e.getMessage());
             // Not critical - we'll try to continue anyway
         }
     }
@@ -500,10 +502,10 @@ public class APIAndDocumentationPage {
         try {
             wait.until(ExpectedConditions.invisibilityOfElementLocated(
                     APIAndDocumentationPageLocators.LOADING_SPINNER));
-            System.out.println("Loading completed");
+            Log.info("Loading completed");
         } catch (Exception e) {
             // No loading spinner or already completed
-            System.out.println("No loading indicator or already completed");
+            Log.info("No loading indicator or already completed");
         }
     }
 
@@ -512,11 +514,11 @@ public class APIAndDocumentationPage {
      */
     private void waitForPageReady() {
         try {
-            new WebDriverWait(driver, Duration.ofSeconds(10)).until(
+            new TracedWait(driver, Duration.ofSeconds(10)).until(
                     d -> ((JavascriptExecutor) d).executeScript("return document.readyState").equals("complete"));
             Thread.sleep(1500); // Extra wait for Angular/React app initialization
         } catch (Exception e) {
-            System.out.println("Page ready wait completed: " + e.getMessage());
+            Log.info("Page ready wait completed: " + e.getMessage());
         }
     }
 
@@ -532,9 +534,9 @@ public class APIAndDocumentationPage {
                             "  console.log('Removing blocking iframe:', iframe.id);" +
                             "  iframe.remove();" +
                             "});");
-            System.out.println("Removed blocking iframes");
+            Log.info("Removed blocking iframes");
         } catch (Exception e) {
-            System.out.println("Could not remove iframes: " + e.getMessage());
+            Log.warn("Could not remove iframes: " + e.getMessage());
         }
     }
 }
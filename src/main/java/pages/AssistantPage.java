@@ -5,6 +5,7 @@ import org.openqa.selenium.*;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.testng.Assert;
+import utils.TracedWait;
 
 import java.time.Duration;
 import java.util.List;
@@ -27,7 +28,7 @@ public class AssistantPage {
      * @return true if all headers are displayed.
      */
     public boolean verifyAssistantHeaders() {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        WebDriverWait wait = new TracedWait(driver, Duration.ofSeconds(10));
 
         return wait.until(ExpectedConditions.visibilityOfElementLocated(AssistantsPageLocators.HEADER_ASSISTANT_NAME))
                 .isDisplayed()
@@ -50,7 +51,7 @@ public class AssistantPage {
      * @return true if the message is visible.
      */
     public boolean isNoAssistantMessageDisplayed() {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        WebDriverWait wait = new TracedWait(driver, Duration.ofSeconds(10));
         List<WebElement> message = driver.findElements(AssistantsPageLocators.NO_ASSISTANT_MESSAGE);
         return message.size() > 0 && wait.until(ExpectedConditions.visibilityOf(message.get(0))).isDisplayed();
     }
@@ -59,7 +60,7 @@ public class AssistantPage {
      * Navigates to the edit assistant form from the three-dot menu.
      */
     public void openEditAssistantForm() {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(15));
+        WebDriverWait wait = new TracedWait(driver, Duration.ofSeconds(15));
         wait.until(ExpectedConditions.elementToBeClickable(AssistantsPageLocators.THREE_DOT_MENU)).click();
         wait.until(ExpectedConditions.elementToBeClickable(AssistantsPageLocators.EDIT_BUTTON)).click();
         wait.until(ExpectedConditions.visibilityOfElementLocated(AssistantsPageLocators.EDIT_ASSISTANT_FORM));
@@ -72,7 +73,7 @@ public class AssistantPage {
      * @return the generated random name.
      */
     public String updateAssistantNameAndNext() {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        WebDriverWait wait = new TracedWait(driver, Duration.ofSeconds(10));
         String randomName = "Test Assistant " + new Random().nextInt(1000);
         WebElement nameInput = wait
                 .until(ExpectedConditions.elementToBeClickable(AssistantsPageLocators.ASSISTANT_NAME_INPUT));
@@ -90,7 +91,7 @@ public class AssistantPage {
      * section.
      */
     public void updateMobileAndWebsiteAndVerifyPreview(String randomMobile, String randomWebsite) {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        WebDriverWait wait = new TracedWait(driver, Duration.ofSeconds(10));
 
         WebElement mobileInput = wait
                 .until(ExpectedConditions.elementToBeClickable(AssistantsPageLocators.MOBILE_NUMBER_INPUT));
@@ -116,7 +117,7 @@ public class AssistantPage {
      * Saves the updated assistant and waits for the grid to reload.
      */
     public void saveUpdatedAssistant() {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        WebDriverWait wait = new TracedWait(driver, Duration.ofSeconds(10));
         wait.until(ExpectedConditions.elementToBeClickable(AssistantsPageLocators.UPDATE_ASSISTANT_BUTTON)).click();
         wait.until(ExpectedConditions.elementToBeClickable(AssistantsPageLocators.GOT_IT_BUTTON)).click();
         wait.until(ExpectedConditions.visibilityOfElementLocated(AssistantsPageLocators.FIRST_ASSISTANT_NAME));
@@ -126,7 +127,7 @@ public class AssistantPage {
      * Waits for the grid to reflect the updated assistant name.
      */
     public String waitForUpdatedAssistantName(String expectedName) {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        WebDriverWait wait = new TracedWait(driver, Duration.ofSeconds(10));
         wait.until(ExpectedConditions.textToBePresentInElementLocated(
                 AssistantsPageLocators.FIRST_ASSISTANT_NAME, expectedName));
         return driver.findElement(AssistantsPageLocators.FIRST_ASSISTANT_NAME).getText().trim();
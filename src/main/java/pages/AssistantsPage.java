@@ -7,6 +7,7 @@ import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import utils.TestUtil;
+import utils.TracedWait;
 
 import java.io.File;
 import java.time.Duration;
@@ -20,7 +21,7 @@ public class AssistantsPage {
 
     public AssistantsPage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        this.wait = new TracedWait(driver, Duration.ofSeconds(10));
     }
 
     public WebElement getSearchBox() {
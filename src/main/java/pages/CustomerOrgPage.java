@@ -5,6 +5,8 @@ import locators.DashboardPageLocators;
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import utils.Log;
+import utils.TracedWait;
 
 import java.time.Duration;
 import java.util.List;
@@ -19,18 +21,18 @@ public class CustomerOrgPage {
         this.driver = driver;
         // Use longer timeout in headless mode for CI/CD stability
         int timeout = base.DriverFactory.isHeadlessModeEnabled() ? HEADLESS_TIMEOUT : DEFAULT_TIMEOUT;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(timeout));
+        this.wait = new TracedWait(driver, Duration.ofSeconds(timeout));
     }
 
     public void navigateToCustomerOrg() {
-        System.out.println("Navigating to Customer Org...");
+        Log.info("Navigating to Customer Org...");
         WebElement link = wait.until(ExpectedConditions.elementToBeClickable(DashboardPageLocators.SUPER_ADMIN_ITEM));
         link.click();
         wait.until(ExpectedConditions.visibilityOfElementLocated(CustomerOrgPageLocators.PAGE_HEADER));
     }
 
     public void filterByEnterprise() {
-        System.out.println("Applying Enterprise filter...");
+        Log.info("Applying Enterprise filter...");
         wait.until(ExpectedConditions.elementToBeClickable(CustomerOrgPageLocators.FILTER_DROPDOWN)).click();
 
         // Select Enterprise radio option (better to click label)
@@ -48,7 +50,7 @@ public class CustomerOrgPage {
     }
 
     public void drillDownFirstUserUsingArrow() {
-        System.out.println("Clicking arrow to go inside first customer...");
+        Log.info("Clicking arrow to go inside first customer...");
         wait.until(ExpectedConditions.visibilityOfElementLocated(CustomerOrgPageLocators.TABLE_ROWS));
         WebElement firstRow = driver.findElement(CustomerOrgPageLocators.TABLE_ROWS);
         WebElement arrow = firstRow.findElement(CustomerOrgPageLocators.DRILL_DOWN_ARROW);
@@ -56,19 +58,18 @@ public class CustomerOrgPage {
     }
 
     public void drillDownToUserWithPositiveBalance() {
-        System.out.println("Searching for a user with balance > 0...");
+        Log.info("Searching for a user with balance > 0...");
         wait.until(ExpectedConditions.visibilityOfElementLocated(CustomerOrgPageLocators.TABLE_ROWS));
         List<WebElement> rows = driver.findElements(CustomerOrgPageLocators.TABLE_ROWS);
         for (WebElement row : rows) {
             try {
                 // Find balance in the current row (Column 5: Wallets)
                 String balanceText = row.findElement(By.xpath(".//td[position()=5]")).getText().trim();
-                System.out.println("Row balance text: '" + balanceText + "'");
+                Log.debug("Row balance text: '" + balanceText + "'");
 
                 double balance = Double.parseDouble(balanceText.replaceAll("[^\\d.]", ""));
                 if (balance > 0) {
-                    System.out
-                            .println("Found user with balance: " + balance + ". Clicking Organisation Name (Col 3)...");
+                    Log.info("Found user with balance: " + balance + ". Clicking Organisation Name (Col 3)...");
                     // Click the Organisation Name (Column 3) for drill-down
                     row.findElement(By.xpath(".//td[position()=3]//a | .//td[position()=3]")).click();
                     return;
@@ -81,29 +82,29 @@ public class CustomerOrgPage {
     }
 
     public List<String> getTableHeaderTexts() {
-        System.out.println("Waiting for table headers to be visible...");
+        Log.info("Waiting for table headers to be visible...");
         wait.until(ExpectedConditions.visibilityOfElementLocated(CustomerOrgPageLocators.TABLE_HEADERS));
         List<WebElement> headers = driver.findElements(CustomerOrgPageLocators.TABLE_HEADERS);
         return headers.stream().map(h -> h.getText().trim()).filter(t -> !t.isEmpty()).toList();
     }
 
     public void navigateToTab(By tabLocator) {
-        System.out.println("Switching to tab: " + tabLocator.toString());
+        Log.info("Switching to tab: " + tabLocator.toString());
         wait.until(ExpectedConditions.elementToBeClickable(tabLocator)).click();
     }
 
     public void drillDownToEnterprise() {
-        System.out.println("Drilling down to Enterprise...");
+        Log.info("Drilling down to Enterprise...");
         wait.until(ExpectedConditions.elementToBeClickable(CustomerOrgPageLocators.ENTERPRISE_ROW_LINK)).click();
     }
 
     public void drillDownToReseller() {
-        System.out.println("Drilling down to Reseller...");
+        Log.info("Drilling down to Reseller...");
         wait.until(ExpectedConditions.elementToBeClickable(CustomerOrgPageLocators.RESELLER_ROW_LINK)).click();
     }
 
     public void drillDownToEnterpriseL2() {
-        System.out.println("Drilling down to Enterprise L2...");
+        Log.info("Drilling down to Enterprise L2...");
         // This likely requires being inside an Enterprise first.
         // We'll use a generic locator for any sub-user row in the current view.
         wait.until(ExpectedConditions.elementToBeClickable(
@@ -123,7 +124,7 @@ public class CustomerOrgPage {
                 details.put(labels.get(i).getText().trim(), values.get(i).getText().trim());
             }
         } catch (Exception e) {
-            System.out.println("Detailed wallet info not found. Returning balance only.");
+            Log.info("Detailed wallet info not found. Returning balance only.");
             details.put("Balance", getWalletValue());
         }
         return details;
@@ -135,13 +136,13 @@ public class CustomerOrgPage {
     }
 
     public String getWalletValue() {
-        System.out.println("Attempting to get Wallet Balance...");
+        Log.info("Attempting to get Wallet Balance...");
         try {
             // Try standard landing page wallet balance
             String val = wait
                     .until(ExpectedConditions.visibilityOfElementLocated(CustomerOrgPageLocators.WALLET_BALANCE))
                     .getText();
-            System.out.println("Standard Balance Found: " + val);
+            Log.info("Standard Balance Found: " + val);
             return val;
         } catch (TimeoutException e) {
             try {
@@ -149,10 +150,10 @@ public class CustomerOrgPage {
                 String val = wait.until(
                         ExpectedConditions.visibilityOfElementLocated(CustomerOrgPageLocators.OVERVIEW_WALLET_BALANCE))
                         .getText();
-                System.out.println("Overview Balance Found: " + val);
+                Log.info("Overview Balance Found: " + val);
                 return val;
             } catch (TimeoutException e2) {
-                System.out.println("Balance not found in either location.");
+                Log.info("Balance not found in either location.");
                 return "N/A";
             }
         }
@@ -175,12 +176,12 @@ public class CustomerOrgPage {
     }
 
     public void clickAddCustomer() {
-        System.out.println("Clicking Add Customer button...");
+        Log.info("Clicking Add Customer button...");
         wait.until(ExpectedConditions.elementToBeClickable(CustomerOrgPageLocators.ADD_CUSTOMER_BUTTON)).click();
     }
 
     public void searchCustomer(String name) {
-        System.out.println("Searching for customer: " + name);
+        Log.info("Searching for customer: " + name);
         WebElement input = wait
                 .until(ExpectedConditions.visibilityOfElementLocated(CustomerOrgPageLocators.SEARCH_INPUT));
         input.clear();
@@ -198,7 +199,7 @@ public class CustomerOrgPage {
     }
 
     public int redirectToFirstEnterpriseWithWallets() {
-        System.out.println("Searching for an Enterprise with at least 1 wallet...");
+        Log.info("Searching for an Enterprise with at least 1 wallet...");
         wait.until(ExpectedConditions.visibilityOfElementLocated(CustomerOrgPageLocators.TABLE_ROWS));
         List<WebElement> rows = driver.findElements(CustomerOrgPageLocators.TABLE_ROWS);
 
@@ -209,7 +210,7 @@ public class CustomerOrgPage {
                 int count = Integer.parseInt(walletText.replaceAll("[^\\d]", ""));
 
                 if (count >= 1) {
-                    System.out.println("Found Enterprise with " + count + " wallets. Redirecting...");
+                    Log.info("Found Enterprise with " + count + " wallets. Redirecting...");
 
                     String currentUrl = driver.getCurrentUrl();
 
@@ -220,9 +221,9 @@ public class CustomerOrgPage {
                     try {
                         wait.until(ExpectedConditions.not(ExpectedConditions.urlToBe(currentUrl)));
                         Thread.sleep(2000); // Allow page to stabilize
-                        System.out.println("✓ Navigation completed. New URL: " + driver.getCurrentUrl());
+                        Log.info("✓ Navigation completed. New URL: " + driver.getCurrentUrl());
                     } catch (Exception e) {
-                        System.err.println("⚠ WARNING: URL did not change after clicking redirect!");
+                        Log.error("⚠ WARNING: URL did not change after clicking redirect!");
                     }
 
                     return count;
@@ -235,47 +236,47 @@ public class CustomerOrgPage {
     }
 
     public int getFirstRowWalletCount() {
-        System.out.println("Getting wallet count from the first row...");
+        Log.info("Getting wallet count from the first row...");
         wait.until(ExpectedConditions.visibilityOfElementLocated(CustomerOrgPageLocators.TABLE_ROWS));
         WebElement firstRow = driver.findElement(CustomerOrgPageLocators.TABLE_ROWS);
 
         // Column 5 is 'Wallets' based on detected headers [SV Customer ID, Customer ID,
         // Organisation Name, Status, Wallets, Type, Created On]
         String walletText = firstRow.findElement(By.xpath(".//td[position()=5]")).getText().trim();
-        System.out.println("First row wallet text: '" + walletText + "'");
+        Log.info("First row wallet text: '" + walletText + "'");
 
         try {
             return Integer.parseInt(walletText.replaceAll("[^\\d]", ""));
         } catch (NumberFormatException e) {
-            System.err.println("Failed to parse wallet count: " + walletText);
+            Log.error("Failed to parse wallet count: " + walletText);
             return 0;
         }
     }
 
     public String getPrepaidBalance() {
-        System.out.println("Fetching Prepaid Balance...");
+        Log.info("Fetching Prepaid Balance...");
         try {
             return wait.until(ExpectedConditions.visibilityOfElementLocated(CustomerOrgPageLocators.PREPAID_BALANCE))
                     .getText().trim();
         } catch (Exception e) {
-            System.err.println("Prepaid Balance Fetch Failed: " + e.getMessage());
+            Log.error("Prepaid Balance Fetch Failed: " + e.getMessage());
             return "N/A";
         }
     }
 
     public String getPostpaidBalance() {
-        System.out.println("Fetching Postpaid Balance...");
+        Log.info("Fetching Postpaid Balance...");
         try {
             return wait.until(ExpectedConditions.visibilityOfElementLocated(CustomerOrgPageLocators.POSTPAID_BALANCE))
                     .getText().trim();
         } catch (Exception e) {
-            System.err.println("Postpaid Balance Fetch Failed: " + e.getMessage());
+            Log.error("Postpaid Balance Fetch Failed: " + e.getMessage());
             return "N/A";
         }
     }
 
     public void searchWallet(String name) {
-        System.out.println("Searching for wallet: " + name);
+        Log.info("Searching for wallet: " + name);
         WebElement input = wait
                 .until(ExpectedConditions.visibilityOfElementLocated(CustomerOrgPageLocators.WALLET_SEARCH_INPUT));
         input.clear();
@@ -283,19 +284,19 @@ public class CustomerOrgPage {
     }
 
     public void navigateToWalletUsage() {
-        System.out.println("Navigating to Wallet Usage tab...");
+        Log.info("Navigating to Wallet Usage tab...");
         WebElement tab = wait.until(ExpectedConditions.elementToBeClickable(CustomerOrgPageLocators.WALLET_USAGE_TAB));
         tab.click();
-        System.out.println("Clicked Wallet Usage tab. Waiting for content...");
+        Log.info("Clicked Wallet Usage tab. Waiting for content...");
         try {
             wait.until(ExpectedConditions.visibilityOfElementLocated(CustomerOrgPageLocators.TABLE_HEADERS));
         } catch (Exception e) {
-            System.err.println("Wallet Usage headers didn't appear: " + e.getMessage());
+            Log.error("Wallet Usage headers didn't appear: " + e.getMessage());
         }
     }
 
     public void redirectToFirstWalletServices() {
-        System.out.println("Redirecting to Services for the first wallet...");
+        Log.info("Redirecting to Services for the first wallet...");
         wait.until(ExpectedConditions.visibilityOfElementLocated(CustomerOrgPageLocators.TABLE_ROWS));
         WebElement firstRow = driver.findElement(CustomerOrgPageLocators.TABLE_ROWS);
         WebElement servicesBtn = wait.until(ExpectedConditions.presenceOfNestedElementLocatedBy(firstRow,
@@ -304,7 +305,7 @@ public class CustomerOrgPage {
         // Scroll to the button
         ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block: 'center', inline: 'center'});",
                 servicesBtn);
-        System.out.println("Scrolled Redirect to Services button into view.");
+        Log.info("Scrolled Redirect to Services button into view.");
 
         // Click with JS to avoid interception
         try {
@@ -313,7 +314,7 @@ public class CustomerOrgPage {
             ((JavascriptExecutor) driver).executeScript("arguments[0].click();", servicesBtn);
         }
 
-        System.out.println("Clicked Redirect to Services button. Waiting for page load...");
+        Log.info("Clicked Redirect to Services button. Waiting for page load...");
 
         try {
             // Wait for URL to contain 'services' or similar if known, otherwise wait for
@@ -324,9 +325,9 @@ public class CustomerOrgPage {
             wait.until(ExpectedConditions.or(
                     ExpectedConditions.visibilityOfElementLocated(CustomerOrgPageLocators.SERVICES_TABLE_HEADER),
                     ExpectedConditions.urlContains("services")));
-            System.out.println("Successfully navigated. Current URL: " + driver.getCurrentUrl());
+            Log.info("Successfully navigated. Current URL: " + driver.getCurrentUrl());
         } catch (Exception e) {
-            System.out.println(
+            Log.warn(
                     "Warning: explicit wait for Services header failed. Current URL: " + driver.getCurrentUrl());
             // We don't throw yet, let the assertions in the test fail if needed
         }
@@ -343,19 +344,19 @@ public class CustomerOrgPage {
     }
 
     public List<String> getServiceNames() {
-        System.out.println("Fetching Service Names...");
+        Log.info("Fetching Service Names...");
         try {
             wait.until(ExpectedConditions.visibilityOfElementLocated(CustomerOrgPageLocators.SERVICES_TABLE_ROWS));
             return driver.findElements(CustomerOrgPageLocators.SERVICES_NAME_CELLS)
                     .stream().map(WebElement::getText).map(String::trim).toList();
         } catch (Exception e) {
-            System.out.println("No services found or unable to fetch names: " + e.getMessage());
+            Log.info("No services found or unable to fetch names: " + e.getMessage());
             return new java.util.ArrayList<>();
         }
     }
 
     public boolean areServiceStatusesValid() {
-        System.out.println("Verifying Service Statuses...");
+        Log.info("Verifying Service Statuses...");
         try {
             List<WebElement> statusCells = driver.findElements(CustomerOrgPageLocators.SERVICES_STATUS_CELLS);
             if (statusCells.isEmpty())
@@ -363,10 +364,10 @@ public class CustomerOrgPage {
 
             for (WebElement cell : statusCells) {
                 String status = cell.getText().trim();
-                System.out.println("Found Service Status: " + status);
+                Log.info("Found Service Status: " + status);
                 if (!status.equalsIgnoreCase("Active") && !status.equalsIgnoreCase("Inactive")
                         && !status.equalsIgnoreCase("Pending")) {
-                    System.err.println("Invalid Status Found: " + status);
+                    Log.error("Invalid Status Found: " + status);
                     return false;
                 }
             }
@@ -377,7 +378,7 @@ public class CustomerOrgPage {
     }
 
     public void performWalletTransaction(String type, double amount, String description) {
-        System.out.println("Performing Wallet Transaction: " + type + " Amount: " + amount);
+        Log.info("Performing Wallet Transaction: " + type + " Amount: " + amount);
 
         // 1. Click Recharge/Adjustment button
         WebElement rechargeBtn = wait
@@ -426,13 +427,13 @@ public class CustomerOrgPage {
     // ==================== Organization Details Tab Methods ====================
 
     public void navigateToOrgDetailsTab() {
-        System.out.println("Navigating to Organization Details tab...");
+        Log.info("Navigating to Organization Details tab...");
         String currentUrl = driver.getCurrentUrl();
-        System.out.println("Current URL: " + currentUrl);
+        Log.info("Current URL: " + currentUrl);
 
         // Check if we're already on the organization-details page
         if (currentUrl.contains("organization-details")) {
-            System.out.println("✓ Already on organization-details page, skipping tab navigation");
+            Log.info("✓ Already on organization-details page, skipping tab navigation");
             return;
         }
 
@@ -441,20 +442,20 @@ public class CustomerOrgPage {
             WebElement tab = wait
                     .until(ExpectedConditions.elementToBeClickable(CustomerOrgPageLocators.ORG_DETAIL_TAB));
             tab.click();
-            System.out.println("✓ Clicked Organization Details tab using primary locator");
+            Log.info("✓ Clicked Organization Details tab using primary locator");
         } catch (TimeoutException e) {
-            System.err.println("Primary locator failed. Trying fallback locators...");
+            Log.error("Primary locator failed. Trying fallback locators...");
             try {
                 // Fallback: Try to find tab with correct text 'Organizations details'
                 WebElement tab = wait.until(ExpectedConditions.elementToBeClickable(
                         By.xpath("//*[contains(@class, 'tab')][contains(., 'Organizations details')]")));
                 tab.click();
-                System.out.println("✓ Clicked tab using fallback locator");
+                Log.info("✓ Clicked tab using fallback locator");
             } catch (Exception e2) {
-                System.err.println("ERROR: Could not find Organization Details tab");
-                System.err.println("Current URL: " + driver.getCurrentUrl());
-                System.err.println("Page Title: " + driver.getTitle());
-                System.err.println("\nDEBUGGING - Trying multiple tab patterns:");
+                Log.error("ERROR: Could not find Organization Details tab");
+                Log.error("Current URL: " + driver.getCurrentUrl());
+                Log.error("Page Title: " + driver.getTitle());
+                Log.error("\nDEBUGGING - Trying multiple tab patterns:");
 
                 // Try multiple patterns
                 String[] patterns = {
@@ -470,10 +471,10 @@ public class CustomerOrgPage {
                     try {
                         List<WebElement> elements = driver.findElements(By.xpath(pattern));
                         if (!elements.isEmpty()) {
-                            System.err.println("\nPattern '" + pattern + "' found " + elements.size() + " elements:");
+                            Log.error("\nPattern '" + pattern + "' found " + elements.size() + " elements:");
                             for (int i = 0; i < Math.min(elements.size(), 5); i++) {
                                 String text = elements.get(i).getText();
-                                System.err.println("  [" + (i + 1) + "] '" + text + "'");
+                                Log.error("  [" + (i + 1) + "] '" + text + "'");
                             }
                             foundAny = true;
                         }
@@ -482,12 +483,12 @@ public class CustomerOrgPage {
                 }
 
                 if (!foundAny) {
-                    System.err.println("\nNo tabs found! Listing all visible buttons:");
+                    Log.error("\nNo tabs found! Listing all visible buttons:");
                     try {
                         List<WebElement> buttons = driver.findElements(By.xpath("//button"));
                         for (int i = 0; i < Math.min(buttons.size(), 15); i++) {
                             if (buttons.get(i).isDisplayed()) {
-                                System.err.println("  Button: '" + buttons.get(i).getText() + "'");
+                                Log.error("  Button: '" + buttons.get(i).getText() + "'");
                             }
                         }
                     } catch (Exception ex) {
@@ -502,7 +503,7 @@ public class CustomerOrgPage {
             Thread.sleep(3000); // Increased wait time
         } catch (InterruptedException e) {
         }
-        System.out.println("Waiting for Organization Details tab content to load...");
+        Log.info("Waiting for Organization Details tab content to load...");
     }
 
     public boolean isOrgDetailsTabLoaded() {
@@ -510,13 +511,13 @@ public class CustomerOrgPage {
         String currentUrl = driver.getCurrentUrl();
         boolean loaded = currentUrl.contains("organization-details");
         if (!loaded) {
-            System.err.println("Organization Details tab not loaded. Current URL: " + currentUrl);
+            Log.error("Organization Details tab not loaded. Current URL: " + currentUrl);
         }
         return loaded;
     }
 
     public String getCustomerId() {
-        System.out.println("Fetching Customer ID from Organizations details tab...");
+        Log.info("Fetching Customer ID from Organizations details tab...");
 
         // Small wait for page load
         try {
@@ -530,7 +531,7 @@ public class CustomerOrgPage {
             for (WebElement element : elements) {
                 String text = element.getText().trim();
                 if (!text.isEmpty()) {
-                    System.out.println("Checking element text: " + text);
+                    Log.info("Checking element text: " + text);
                     // Match "Customer Id: Value" or "SV Customer Id: Value"
                     if (text.toLowerCase().contains("customer id")) {
                         // Extract value after finding the label
@@ -540,20 +541,20 @@ public class CustomerOrgPage {
                             if (parts.length > 1) {
                                 String value = parts[1].trim();
                                 if (!value.isEmpty()) {
-                                    System.out.println("✓ Customer ID found (split): " + value);
+                                    Log.info("✓ Customer ID found (split): " + value);
                                     return value;
                                 }
                             }
                         }
                     } else if (text.matches("[A-Za-z0-9]+")) {
                         // If text is just the value (e.g. "Backend0001")
-                        System.out.println("✓ Potential Customer ID found: " + text);
+                        Log.info("✓ Potential Customer ID found: " + text);
                         return text;
                     }
                 }
             }
         } catch (Exception e) {
-            System.err.println("Error using primary locator: " + e.getMessage());
+            Log.error("Error using primary locator: " + e.getMessage());
         }
 
         // Fallback: Specific handling for SV Customer Id vs Customer Id logic
@@ -578,7 +579,7 @@ public class CustomerOrgPage {
                     if (!text.isEmpty()) {
                         String value = text.replace("Customer Id:", "").replace("Customer ID:", "").trim();
                         if (!value.isEmpty()) {
-                            System.out.println("✓ Customer ID found (fallback): " + value);
+                            Log.info("✓ Customer ID found (fallback): " + value);
                             return value;
                         }
                     }
@@ -608,11 +609,11 @@ public class CustomerOrgPage {
     // ==================== Profile Tab Methods ====================
 
     public void navigateToProfileTab() {
-        System.out.println("Navigating to Profile tab...");
+        Log.info("Navigating to Profile tab...");
         String currentUrl = driver.getCurrentUrl();
 
         if (currentUrl.contains("profile")) {
-            System.out.println("✓ Already on Profile tab");
+            Log.info("✓ Already on Profile tab");
             return;
         }
 
@@ -621,11 +622,11 @@ public class CustomerOrgPage {
             WebElement tab = wait
                     .until(ExpectedConditions.presenceOfElementLocated(CustomerOrgPageLocators.PROFILE_TAB));
 
-            System.out.println("Found Profile tab element: " + tab.getText());
+            Log.info("Found Profile tab element: " + tab.getText());
 
             // Use JavaScript click for more reliable navigation
             ((org.openqa.selenium.JavascriptExecutor) driver).executeScript("arguments[0].click();", tab);
-            System.out.println("✓ Clicked Profile tab using JS");
+            Log.info("✓ Clicked Profile tab using JS");
 
             Thread.sleep(2000);
 
@@ -634,11 +635,11 @@ public class CustomerOrgPage {
             if (!newUrl.contains("profile")) {
                 throw new RuntimeException("Navigation to Profile tab failed. Current URL: " + newUrl);
             }
-            System.out.println("✓ Successfully navigated to Profile tab. URL: " + newUrl);
+            Log.info("✓ Successfully navigated to Profile tab. URL: " + newUrl);
 
         } catch (Exception e) {
-            System.err.println("Failed to navigate to Profile tab: " + e.getMessage());
-            System.err.println("Current URL: " + driver.getCurrentUrl());
+            Log.error("Failed to navigate to Profile tab: " + e.getMessage());
+            Log.error("Current URL: " + driver.getCurrentUrl());
             throw new RuntimeException("Failed to navigate to Profile tab", e);
         }
     }
@@ -653,7 +654,7 @@ public class CustomerOrgPage {
     }
 
     public List<String> getProfileTableHeaders() {
-        System.out.println("Fetching Profile table headers...");
+        Log.info("Fetching Profile table headers...");
         wait.until(ExpectedConditions.visibilityOfElementLocated(CustomerOrgPageLocators.PROFILE_TABLE_HEADERS));
         List<WebElement> headers = driver.findElements(CustomerOrgPageLocators.PROFILE_TABLE_HEADERS);
         return headers.stream().map(h -> h.getText().trim()).filter(t -> !t.isEmpty()).toList();
@@ -670,14 +671,14 @@ public class CustomerOrgPage {
     }
 
     public void clickEditButton() {
-        System.out.println("Clicking Edit button...");
+        Log.info("Clicking Edit button...");
         WebElement editBtn = wait
                 .until(ExpectedConditions.elementToBeClickable(CustomerOrgPageLocators.PROFILE_EDIT_BUTTON));
         editBtn.click();
     }
 
     public boolean clickViewIconAndVerifyContent() {
-        System.out.println("Clicking View icon...");
+        Log.info("Clicking View icon...");
         try {
             WebElement viewIcon = wait
                     .until(ExpectedConditions.elementToBeClickable(CustomerOrgPageLocators.PROFILE_VIEW_ICON));
@@ -692,19 +693,19 @@ public class CustomerOrgPage {
             for (WebElement element : textElements) {
                 String text = element.getText().trim();
                 if (!text.isEmpty() && text.length() > 2) {
-                    System.out.println("✓ Found text content: " + text.substring(0, Math.min(50, text.length())));
+                    Log.info("✓ Found text content: " + text.substring(0, Math.min(50, text.length())));
                     return true;
                 }
             }
             return false;
         } catch (Exception e) {
-            System.err.println("Failed to verify view content: " + e.getMessage());
+            Log.error("Failed to verify view content: " + e.getMessage());
             return false;
         }
     }
 
     public void searchProfile(String searchText) {
-        System.out.println("Searching for profile: " + searchText);
+        Log.info("Searching for profile: " + searchText);
         WebElement searchField = wait
                 .until(ExpectedConditions.visibilityOfElementLocated(CustomerOrgPageLocators.PROFILE_SEARCH_FIELD));
         searchField.clear();
@@ -727,7 +728,7 @@ public class CustomerOrgPage {
     }
 
     public void applyProfileFilters() {
-        System.out.println("Applying profile filters...");
+        Log.info("Applying profile filters...");
         try {
             // Click filter button to open filter panel
             WebElement filterBtn = wait
@@ -751,7 +752,7 @@ public class CustomerOrgPage {
                         firstOption.click();
                         Thread.sleep(500);
                     } catch (Exception e) {
-                        System.out.println("⚠ Could not select dropdown option");
+                        Log.warn("⚠ Could not select dropdown option");
                     }
                 }
             }
@@ -762,15 +763,15 @@ public class CustomerOrgPage {
                         .until(ExpectedConditions
                                 .elementToBeClickable(CustomerOrgPageLocators.PROFILE_FILTER_APPLY_BUTTON));
                 applyBtn.click();
-                System.out.println("✓ Apply button clicked");
+                Log.info("✓ Apply button clicked");
             } catch (Exception e) {
-                System.out.println("⚠ Apply button not found - filter may auto-apply");
+                Log.warn("⚠ Apply button not found - filter may auto-apply");
             }
 
-            System.out.println("✓ Filters applied");
+            Log.info("✓ Filters applied");
             Thread.sleep(1000);
         } catch (Exception e) {
-            System.err.println("Filter application encountered issues: " + e.getMessage());
+            Log.error("Filter application encountered issues: " + e.getMessage());
         } finally {
             // Reset wait timeout to default
             wait.withTimeout(java.time.Duration.ofSeconds(10));
@@ -788,7 +789,7 @@ public class CustomerOrgPage {
     }
 
     public void clickAddNewButton() {
-        System.out.println("Clicking Add New button...");
+        Log.info("Clicking Add New button...");
         WebElement addNewBtn = wait
                 .until(ExpectedConditions.elementToBeClickable(CustomerOrgPageLocators.PROFILE_ADD_NEW_BUTTON));
         addNewBtn.click();
@@ -799,12 +800,12 @@ public class CustomerOrgPage {
     // ==========================================================================
 
     public void navigateToRolesTab() {
-        System.out.println("Navigating to Roles tab...");
+        Log.info("Navigating to Roles tab...");
         String currentUrl = driver.getCurrentUrl();
-        System.out.println("Current URL: " + currentUrl);
+        Log.info("Current URL: " + currentUrl);
 
         if (currentUrl.contains("roles")) {
-            System.out.println("✓ Already on Roles tab");
+            Log.info("✓ Already on Roles tab");
             return;
         }
 
@@ -814,11 +815,11 @@ public class CustomerOrgPage {
                     .until(ExpectedConditions.presenceOfElementLocated(CustomerOrgPageLocators.ROLES_TAB));
 
             String tabText = tab.getText().trim();
-            System.out.println("Found Roles tab element: '" + tabText + "'");
+            Log.info("Found Roles tab element: '" + tabText + "'");
 
             // Validate the tab text represents "Roles" or "Profiles"
             if (!tabText.toLowerCase().contains("role") && !tabText.toLowerCase().contains("profile")) {
-                System.err.println(
+                Log.error(
                         "WARNING: Found element text '" + tabText + "' doesn't match expected 'Roles' or 'Profiles'");
 
                 // Try to find a better match
@@ -826,11 +827,11 @@ public class CustomerOrgPage {
                         .findElements(By.xpath("//a | //div[@role='tab'] | //button[@role='tab']"));
                 WebElement correctTab = null;
 
-                System.out.println("Searching through " + allTabs.size() + " tab elements for exact match...");
+                Log.info("Searching through " + allTabs.size() + " tab elements for exact match...");
                 for (WebElement t : allTabs) {
                     String text = t.getText().trim();
                     if (text.toLowerCase().contains("role") || text.toLowerCase().contains("profile")) {
-                        System.out.println("✓ Found correct tab with text: '" + text + "'");
+                        Log.info("✓ Found correct tab with text: '" + text + "'");
                         correctTab = t;
                         break;
                     }
@@ -851,7 +852,7 @@ public class CustomerOrgPage {
 
             // Use JavaScript click for more reliable navigation
             ((JavascriptExecutor) driver).executeScript("arguments[0].click();", tab);
-            System.out.println("✓ Clicked Roles/Profiles tab using JS");
+            Log.info("✓ Clicked Roles/Profiles tab using JS");
 
             Thread.sleep(2000);
 
@@ -860,38 +861,38 @@ public class CustomerOrgPage {
             if (!newUrl.contains("roles") && !newUrl.contains("profile")) {
                 throw new RuntimeException("Navigation to Roles tab failed. Current URL: " + newUrl);
             }
-            System.out.println("✓ Successfully navigated to Roles/Profiles tab. URL: " + newUrl);
+            Log.info("✓ Successfully navigated to Roles/Profiles tab. URL: " + newUrl);
 
         } catch (TimeoutException e) {
-            System.err.println("ERROR: Roles tab element not found!");
-            System.err.println("Current URL: " + driver.getCurrentUrl());
+            Log.error("ERROR: Roles tab element not found!");
+            Log.error("Current URL: " + driver.getCurrentUrl());
 
             // Debug: List all available tabs/links
-            System.err.println("\nDEBUG: Searching for available tabs...");
+            Log.error("\nDEBUG: Searching for available tabs...");
             try {
                 List<WebElement> allTabs = driver.findElements(By.xpath("//a | //div[@role='tab']"));
-                System.err.println("Found " + allTabs.size() + " tab-like elements:");
+                Log.error("Found " + allTabs.size() + " tab-like elements:");
                 for (int i = 0; i < Math.min(allTabs.size(), 15); i++) {
                     String text = allTabs.get(i).getText().trim();
                     if (!text.isEmpty()) {
-                        System.err.println("  [" + (i + 1) + "] '" + text + "'");
+                        Log.error("  [" + (i + 1) + "] '" + text + "'");
                     }
                 }
             } catch (Exception ex) {
-                System.err.println("Could not enumerate tabs: " + ex.getMessage());
+                Log.error("Could not enumerate tabs: " + ex.getMessage());
             }
 
             throw new RuntimeException("Roles tab not found. Check if you're on a customer details page.", e);
         } catch (Exception e) {
-            System.err.println("Failed to navigate to Roles tab: " + e.getMessage());
-            System.err.println("Current URL: " + driver.getCurrentUrl());
+            Log.error("Failed to navigate to Roles tab: " + e.getMessage());
+            Log.error("Current URL: " + driver.getCurrentUrl());
             throw new RuntimeException("Failed to navigate to Roles tab", e);
         }
     }
 
     public boolean isRolesTabLoaded() {
         try {
-            System.out.println("Checking if Roles table is visible...");
+            Log.info("Checking if Roles table is visible...");
             wait.until(ExpectedConditions.visibilityOfElementLocated(CustomerOrgPageLocators.ROLES_TABLE));
 
             // Wait for any progress bar or loader to disappear
@@ -901,20 +902,20 @@ public class CustomerOrgPage {
             } catch (Exception e) {
             }
 
-            System.out.println("✓ Roles table is visible");
+            Log.info("✓ Roles table is visible");
             return true;
         } catch (TimeoutException e) {
-            System.err.println("ERROR: Roles table not found within timeout");
-            System.err.println("Current URL: " + driver.getCurrentUrl());
+            Log.error("ERROR: Roles table not found within timeout");
+            Log.error("Current URL: " + driver.getCurrentUrl());
             return false;
         } catch (Exception e) {
-            System.err.println("ERROR: Unexpected error checking Roles table: " + e.getMessage());
+            Log.error("ERROR: Unexpected error checking Roles table: " + e.getMessage());
             return false;
         }
     }
 
     public List<String> getRolesTableHeaders() {
-        System.out.println("Fetching Roles table headers...");
+        Log.info("Fetching Roles table headers...");
         wait.until(ExpectedConditions.visibilityOfElementLocated(CustomerOrgPageLocators.ROLES_TABLE_HEADERS));
         List<WebElement> headers = driver.findElements(CustomerOrgPageLocators.ROLES_TABLE_HEADERS);
         return headers.stream().map(h -> h.getText().trim()).filter(t -> !t.isEmpty()).toList();
@@ -925,11 +926,11 @@ public class CustomerOrgPage {
             List<WebElement> rows = driver.findElements(CustomerOrgPageLocators.ROLES_TABLE_ROWS);
             if (rows.size() == 1) {
                 String text = rows.get(0).getText();
-                System.out.println("Single row detected. Text: '" + text + "'");
+                Log.info("Single row detected. Text: '" + text + "'");
                 String lowerText = text.toLowerCase();
                 if (lowerText.contains("no data") || lowerText.contains("no roles") || lowerText.contains("no matching")
                         || lowerText.contains("not found") || lowerText.contains("no results")) {
-                    System.out.println("Single row detected contains 'No data' text. Returning count 0.");
+                    Log.info("Single row detected contains 'No data' text. Returning count 0.");
                     return 0;
                 }
             }
@@ -950,14 +951,14 @@ public class CustomerOrgPage {
     }
 
     public void clickRolesEditIcon() {
-        System.out.println("Clicking Roles Edit icon...");
+        Log.info("Clicking Roles Edit icon...");
         WebElement editBtn = wait
                 .until(ExpectedConditions.elementToBeClickable(CustomerOrgPageLocators.ROLES_EDIT_BUTTON));
 
         try {
             editBtn.click();
         } catch (Exception e) {
-            System.out.println("Standard click failed, using JS click for Edit icon");
+            Log.info("Standard click failed, using JS click for Edit icon");
             ((JavascriptExecutor) driver).executeScript("arguments[0].click();", editBtn);
         }
 
@@ -978,14 +979,14 @@ public class CustomerOrgPage {
     }
 
     public void clickRolesViewIcon() {
-        System.out.println("Clicking Roles View icon...");
+        Log.info("Clicking Roles View icon...");
         WebElement viewBtn = wait
                 .until(ExpectedConditions.elementToBeClickable(CustomerOrgPageLocators.ROLES_VIEW_BUTTON));
 
         try {
             viewBtn.click();
         } catch (Exception e) {
-            System.out.println("Standard click failed, using JS click for View icon");
+            Log.info("Standard click failed, using JS click for View icon");
             ((JavascriptExecutor) driver).executeScript("arguments[0].click();", viewBtn);
         }
 
@@ -1005,7 +1006,7 @@ public class CustomerOrgPage {
     }
 
     public void searchRole(String roleName) {
-        System.out.println("Searching for role: " + roleName);
+        Log.info("Searching for role: " + roleName);
         try {
             WebElement searchField = wait
                     .until(ExpectedConditions.visibilityOfElementLocated(CustomerOrgPageLocators.ROLES_SEARCH_FIELD));
@@ -1037,7 +1038,7 @@ public class CustomerOrgPage {
 
             Thread.sleep(2000); // Wait for search to filter results
         } catch (Exception e) {
-            System.err.println("Search interaction failed: " + e.getMessage());
+            Log.error("Search interaction failed: " + e.getMessage());
         }
     }
 
@@ -1052,7 +1053,7 @@ public class CustomerOrgPage {
     }
 
     public void applyRolesStatusFilter(String status) {
-        System.out.println("Applying Roles status filter: " + status);
+        Log.info("Applying Roles status filter: " + status);
         try {
             // Scroll to top first to avoid overlays
             ((JavascriptExecutor) driver).executeScript("window.scrollTo(0, 0);");
@@ -1102,9 +1103,9 @@ public class CustomerOrgPage {
                         applyBtn);
                 wait.until(ExpectedConditions.elementToBeClickable(applyBtn));
                 ((JavascriptExecutor) driver).executeScript("arguments[0].click();", applyBtn);
-                System.out.println("✓ Apply button clicked");
+                Log.info("✓ Apply button clicked");
             } catch (Exception e) {
-                System.out.println("⚠ Apply button not found or clickable - assuming auto-apply: " + e.getMessage());
+                Log.warn("⚠ Apply button not found or clickable - assuming auto-apply: " + e.getMessage());
             } finally {
                 // Restore timeout
                 wait.withTimeout(Duration.ofSeconds(DEFAULT_TIMEOUT));
@@ -1116,15 +1117,15 @@ public class CustomerOrgPage {
             } catch (Exception e) {
             }
             Thread.sleep(2000); // Wait for filtered results to stabilize
-            System.out.println("✓ Filter applied: " + status);
+            Log.info("✓ Filter applied: " + status);
         } catch (Exception e) {
-            System.err.println("Error applying filter: " + e.getMessage());
+            Log.error("Error applying filter: " + e.getMessage());
             throw new RuntimeException("Failed to apply Roles filter", e);
         }
     }
 
     public List<String> getRoleStatusValues() {
-        System.out.println("Fetching all role status values...");
+        Log.info("Fetching all role status values...");
         try {
             // Status is typically in the 4th column based on headers: Role Name, Users,
             // Permissions, Status
@@ -1135,7 +1136,7 @@ public class CustomerOrgPage {
                     .filter(text -> !text.isEmpty())
                     .toList();
         } catch (Exception e) {
-            System.err.println("Error fetching status values: " + e.getMessage());
+            Log.error("Error fetching status values: " + e.getMessage());
             return new java.util.ArrayList<>();
         }
     }
@@ -1151,7 +1152,7 @@ public class CustomerOrgPage {
     }
 
     public void clickAddNewRole() {
-        System.out.println("Clicking Add New Role button...");
+        Log.info("Clicking Add New Role button...");
         try {
             WebElement addNewBtn = wait
                     .until(ExpectedConditions.presenceOfElementLocated(CustomerOrgPageLocators.ROLES_ADD_NEW_BUTTON));
@@ -1164,7 +1165,7 @@ public class CustomerOrgPage {
             try {
                 wait.until(ExpectedConditions.elementToBeClickable(addNewBtn)).click();
             } catch (Exception e) {
-                System.out.println("Standard click failed, using JS click");
+                Log.info("Standard click failed, using JS click");
                 ((JavascriptExecutor) driver).executeScript("arguments[0].click();", addNewBtn);
             }
 
@@ -1172,7 +1173,7 @@ public class CustomerOrgPage {
             wait.until(ExpectedConditions.urlContains("add"));
             Thread.sleep(1000);
         } catch (Exception e) {
-            System.err.println("Failed to click Add New Role button: " + e.getMessage());
+            Log.error("Failed to click Add New Role button: " + e.getMessage());
             throw new RuntimeException("Failed to click Add New Role button", e);
         }
     }
@@ -1183,7 +1184,7 @@ public class CustomerOrgPage {
     }
 
     public List<String> getAccordionLabels() {
-        System.out.println("Fetching accordion labels from Add/Edit Role form...");
+        Log.info("Fetching accordion labels from Add/Edit Role form...");
         try {
             wait.until(ExpectedConditions.presenceOfElementLocated(CustomerOrgPageLocators.ROLE_FORM_ACCORDIONS));
             List<WebElement> accordions = driver.findElements(CustomerOrgPageLocators.ROLE_FORM_ACCORDIONS);
@@ -1192,13 +1193,13 @@ public class CustomerOrgPage {
                     .filter(t -> !t.isEmpty())
                     .toList();
         } catch (Exception e) {
-            System.err.println("Error fetching accordion labels: " + e.getMessage());
+            Log.error("Error fetching accordion labels: " + e.getMessage());
             return new java.util.ArrayList<>();
         }
     }
 
     public String getFirstRoleName() {
-        System.out.println("Fetching first role name from table...");
+        Log.info("Fetching first role name from table...");
         try {
             // Wait for any previous animation to finish and table to be visible
             WebElement firstRoleCell = wait.until(ExpectedConditions
@@ -1208,7 +1209,7 @@ public class CustomerOrgPage {
             wait.until(d -> !firstRoleCell.getText().trim().isEmpty());
             return firstRoleCell.getText().trim();
         } catch (Exception e) {
-            System.out.println("Could not match first role name (Table might be empty or loading): " + e.getMessage());
+            Log.warn("Could not match first role name (Table might be empty or loading): " + e.getMessage());
             return "";
         }
     }
@@ -8,6 +8,8 @@ import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import utils.Log;
+import utils.TracedWait;
 import java.time.Duration;
 
 public class DashboardPage {
@@ -16,7 +18,7 @@ public class DashboardPage {
 
     public DashboardPage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        this.wait = new TracedWait(driver, Duration.ofSeconds(10));
     }
 
     public boolean isDashboardLoaded(UserRole role) {
@@ -81,10 +83,10 @@ public class DashboardPage {
      */
     public boolean isRoleDisplayedOnDashboard(String roleName) {
         try {
-            System.out.println("  Checking if role '" + roleName + "' is displayed on dashboard...");
+            Log.info("  Checking if role '" + roleName + "' is displayed on dashboard...");
 
             // Wait up to 5 seconds for role to appear
-            WebDriverWait shortWait = new WebDriverWait(driver, Duration.ofSeconds(5));
+            WebDriverWait shortWait = new TracedWait(driver, Duration.ofSeconds(5));
 
             // Try dynamic locator first
             By roleLocator = DashboardPageLocators.getRoleDisplayLocator(roleName);
@@ -92,7 +94,7 @@ public class DashboardPage {
 
             if (roleElement.isDisplayed()) {
                 String displayedText = roleElement.getText();
-                System.out.println("  ✓ Role found on dashboard: '" + displayedText + "'");
+                Log.info("  ✓ Role found on dashboard: '" + displayedText + "'");
                 return true;
             }
 
@@ -102,15 +104,15 @@ public class DashboardPage {
             try {
                 String pageSource = driver.getPageSource();
                 if (pageSource.contains(roleName)) {
-                    System.out.println("  ✓ Role '" + roleName + "' found in page source");
+                    Log.info("  ✓ Role '" + roleName + "' found in page source");
                     return true;
                 }
             } catch (Exception ex) {
                 // Ignore
             }
 
-            System.out.println("  ✗ Role '" + roleName + "' NOT found on dashboard");
-            System.out.println("  Debug - Current URL: " + driver.getCurrentUrl());
+            Log.error("  ✗ Role '" + roleName + "' NOT found on dashboard");
+            Log.info("  Debug - Current URL: " + driver.getCurrentUrl());
             return false;
         }
     }
@@ -139,28 +141,28 @@ public class DashboardPage {
      */
     public boolean verifyDashboardWithRole(String roleName) {
         try {
-            System.out.println("  Verifying dashboard loaded for role: " + roleName);
+            Log.info("  Verifying dashboard loaded for role: " + roleName);
 
             // Check 1: URL should not be SSO page
             String currentUrl = driver.getCurrentUrl();
             if (currentUrl.contains("service-nodes-sso")) {
-                System.out.println("  ✗ Still on SSO page - URL: " + currentUrl);
+                Log.error("  ✗ Still on SSO page - URL: " + currentUrl);
                 return false;
             }
 
-            System.out.println("  ✓ Redirected from SSO page - URL: " + currentUrl);
+            Log.info("  ✓ Redirected from SSO page - URL: " + currentUrl);
 
             // Check 2: SPARC Logo should be visible (indicates dashboard loaded)
             try {
-                WebDriverWait shortWait = new WebDriverWait(driver, Duration.ofSeconds(30));
+                WebDriverWait shortWait = new TracedWait(driver, Duration.ofSeconds(30));
                 WebElement logo = shortWait.until(ExpectedConditions.visibilityOfElementLocated(
                         DashboardPageLocators.SPARC_LOGO));
 
                 if (logo.isDisplayed()) {
-                    System.out.println("  ✓ SPARC logo found - Dashboard loaded successfully");
+                    Log.info("  ✓ SPARC logo found - Dashboard loaded successfully");
                     return true;
                 } else {
-                    System.out.println("  ✗ SPARC logo not visible");
+                    Log.error("  ✗ SPARC logo not visible");
                     return false;
                 }
             } catch (Exception e) {
@@ -169,26 +171,26 @@ public class DashboardPage {
 
                     // SPECIAL CHECK FOR RCS/OCMP
                     if (currentUrl.contains("stagingocmp.") || currentUrl.contains("ocmp.")) {
-                        System.out.println("  ✓ Recognized OCMP/RCS URL - Considering dashboard loaded");
+                        Log.info("  ✓ Recognized OCMP/RCS URL - Considering dashboard loaded");
                         return true;
                     }
 
                     WebElement altLogo = driver.findElement(DashboardPageLocators.DASHBOARD_LOGO);
                     if (altLogo.isDisplayed()) {
-                        System.out.println("  ✓ Dashboard logo found - Dashboard loaded successfully");
+                        Log.info("  ✓ Dashboard logo found - Dashboard loaded successfully");
                         return true;
                     }
                 } catch (Exception ex) {
                     // Logo not found
                 }
 
-                System.out.println("  ✗ SPARC logo not found - Dashboard did not load");
-                System.out.println("  Debug - Current URL: " + currentUrl);
-                System.out.println("  Debug - Page Title: " + driver.getTitle());
+                Log.error("  ✗ SPARC logo not found - Dashboard did not load");
+                Log.info("  Debug - Current URL: " + currentUrl);
+                Log.info("  Debug - Page Title: " + driver.getTitle());
                 return false;
             }
         } catch (Exception e) {
-            System.out.println("  ✗ Dashboard verification error: " + e.getMessage());
+            Log.error("  ✗ Dashboard verification error: " + e.getMessage());
             return false;
         }
     }
@@ -227,18 +229,18 @@ public class DashboardPage {
                 throw new IllegalArgumentException("Service not supported: " + serviceName);
         }
 
-        System.out.println("Navigating to service: " + serviceName);
+        Log.info("Navigating to service: " + serviceName);
         WebElement serviceElement = null;
 
         try {
             serviceElement = wait.until(ExpectedConditions.elementToBeClickable(locator));
         } catch (Exception e) {
-            System.out.println("⚠️ Element not clickable via standard wait. Trying presence check for JS click...");
+            Log.warn("⚠️ Element not clickable via standard wait. Trying presence check for JS click...");
             try {
                 serviceElement = wait.until(ExpectedConditions.presenceOfElementLocated(locator));
-                System.out.println("✓ Element found via presence check.");
+                Log.info("✓ Element found via presence check.");
             } catch (Exception ex) {
-                System.out.println("❌ Element not found even via presence check.");
+                Log.error("❌ Element not found even via presence check.");
                 throw ex;
             }
         }
@@ -255,7 +257,7 @@ public class DashboardPage {
             try {
                 serviceElement.click();
             } catch (Exception e) {
-                System.out.println("Standard click failed (" + e.getMessage() + "). Trying JS Click...");
+                Log.info("Standard click failed (" + e.getMessage() + "). Trying JS Click...");
                 ((JavascriptExecutor) driver).executeScript("arguments[0].click();", serviceElement);
             }
         }
@@ -273,9 +275,9 @@ public class DashboardPage {
                             "  console.log('Removing blocking iframe:', iframe.id);" +
                             "  iframe.remove();" +
                             "});");
-            System.out.println("Removed blocking iframes");
+            Log.info("Removed blocking iframes");
         } catch (Exception e) {
-            System.out.println("Could not remove iframes: " + e.getMessage());
+            Log.warn("Could not remove iframes: " + e.getMessage());
         }
     }
 
@@ -288,7 +290,7 @@ public class DashboardPage {
                     d -> ((JavascriptExecutor) d).executeScript("return document.readyState").equals("complete"));
             Thread.sleep(1500); // Extra wait for Angular/React app initialization
         } catch (Exception e) {
-            System.out.println("Page ready wait completed: " + e.getMessage());
+            Log.info("Page ready wait completed: " + e.getMessage());
         }
     }
 
@@ -303,21 +305,21 @@ public class DashboardPage {
 
         try {
             // Try 1: Direct Calendar Icon
-            System.out.println("Attempting to click Calendar icon...");
+            Log.info("Attempting to click Calendar icon...");
             WebElement calendarBtn = wait
                     .until(ExpectedConditions.elementToBeClickable(DashboardPageLocators.CALENDAR_ICON));
             calendarBtn.click();
-            System.out.println("Clicked Calendar icon.");
+            Log.info("Clicked Calendar icon.");
 
             // Verify picker opened
             pickerOpened = isInternalElementVisible(
                     By.xpath("//mat-date-range-picker | //div[contains(@class, 'mat-datepicker-popup')]"));
 
         } catch (Exception e) {
-            System.out.println("Standard click failed/Icon not found. Capturing debug info...");
+            Log.info("Standard click failed/Icon not found. Capturing debug info...");
             logAllInteractiveElements();
             dumpPageSource("calendar_fail");
-            System.out.println("Trying Filter button fallback...");
+            Log.info("Trying Filter button fallback...");
         }
 
         if (!pickerOpened) {
@@ -326,18 +328,18 @@ public class DashboardPage {
                 WebElement filterBtn = wait
                         .until(ExpectedConditions.elementToBeClickable(DashboardPageLocators.FILTER_BUTTON));
                 filterBtn.click();
-                System.out.println("Clicked Filter button.");
+                Log.info("Clicked Filter button.");
                 Thread.sleep(500);
             } catch (Exception ex) {
                 // Try 3: JS Click on generic calendar
-                System.out.println("Filter button failed. Trying generic JS Click...");
+                Log.info("Filter button failed. Trying generic JS Click...");
                 try {
                     WebElement btn = driver.findElement(By.xpath(
                             "//mat-icon[contains(text(), 'calendar')] | //button[contains(@aria-label, 'Date')] | //*[contains(@class, 'mat-datepicker-toggle')]//button"));
                     ((JavascriptExecutor) driver).executeScript("arguments[0].click();", btn);
-                    System.out.println("Performed JS Click on calendar element.");
+                    Log.info("Performed JS Click on calendar element.");
                 } catch (Exception jsEx) {
-                    System.out.println("JS Click failed.");
+                    Log.info("JS Click failed.");
                 }
             }
         }
@@ -364,9 +366,9 @@ public class DashboardPage {
             WebElement dateCell = wait
                     .until(ExpectedConditions.elementToBeClickable(DashboardPageLocators.CALENDAR_DATE_CELL));
             dateCell.click();
-            System.out.println("Selected date from picker.");
+            Log.info("Selected date from picker.");
         } catch (Exception e) {
-            System.out.println("Date selection failed (Standard Click). Trying JS Click...");
+            Log.info("Date selection failed (Standard Click). Trying JS Click...");
             try {
                 WebElement dateCell = driver.findElement(DashboardPageLocators.CALENDAR_DATE_CELL);
                 ((JavascriptExecutor) driver).executeScript("arguments[0].click();", dateCell);
@@ -382,9 +384,9 @@ public class DashboardPage {
             WebElement last30Days = wait
                     .until(ExpectedConditions.elementToBeClickable(DashboardPageLocators.LAST_30_DAYS_OPTION));
             last30Days.click();
-            System.out.println("Selected 'Last 30 Days'.");
+            Log.info("Selected 'Last 30 Days'.");
         } catch (Exception e) {
-            System.out.println("'Last 30 Days' selection failed. Trying JS Click...");
+            Log.info("'Last 30 Days' selection failed. Trying JS Click...");
             try {
                 WebElement el = driver.findElement(DashboardPageLocators.LAST_30_DAYS_OPTION);
                 ((JavascriptExecutor) driver).executeScript("arguments[0].click();", el);
@@ -412,7 +414,7 @@ public class DashboardPage {
 
             return wait.until(ExpectedConditions.urlContains(lowerCaseService));
         } catch (Exception e) {
-            System.out.println("Service page load check failed for " + serviceName + ": " + e.getMessage());
+            Log.info("Service page load check failed for " + serviceName + ": " + e.getMessage());
             return false;
         }
     }
@@ -425,7 +427,7 @@ public class DashboardPage {
                     .until(ExpectedConditions.elementToBeClickable(DashboardPageLocators.FILTER_BUTTON));
             filterBtn.click();
         } catch (Exception e) {
-            System.out.println("Standard click failed. Trying JS Click on broader locator...");
+            Log.info("Standard click failed. Trying JS Click on broader locator...");
             try {
                 // Strategy 2: Find ANY element with 'Filter' text or icon and JS click it
                 // This bypasses some visibility/clickability checks
@@ -433,7 +435,7 @@ public class DashboardPage {
                         "//*[contains(text(), 'Filter') or normalize-space()='Filter' or .//mat-icon[normalize-space()='filter_list']]"));
                 ((JavascriptExecutor) driver).executeScript("arguments[0].click();", genericFilter);
             } catch (Exception ex) {
-                System.out.println(
+                Log.info(
                         "JS Click failed. Checking if Date Filter is already visible (panel might be open)...");
                 if (!isElementVisible(DashboardPageLocators.DATE_RANGE_FILTER)) {
                     // Debugging: Print all buttons/links to find the real one
@@ -456,14 +458,14 @@ public class DashboardPage {
             java.nio.file.Files.createDirectories(path);
 
             java.nio.file.Files.write(path.resolve(filename), source.getBytes());
-            System.out.println("\n[DEBUG] 📸 Page source dumped to: target/page_sources/" + filename);
+            Log.debug("\n[DEBUG] 📸 Page source dumped to: target/page_sources/" + filename);
         } catch (Exception e) {
-            System.out.println("[DEBUG] Failed to dump page source: " + e.getMessage());
+            Log.debug("Failed to dump page source: " + e.getMessage());
         }
     }
 
     private void logAllInteractiveElements() {
-        System.out.println("\n[DEBUG] 🔍 Listing all potential interactive elements on page:");
+        Log.debug("\n[DEBUG] 🔍 Listing all potential interactive elements on page:");
         try {
             // Updated to include icons and typical clickable elements
             java.util.List<WebElement> elements = driver.findElements(By.xpath(
@@ -483,7 +485,7 @@ public class DashboardPage {
                             tag.equals("mat-icon") || tag.equals("input") || cls.contains("calendar")
                             || cls.contains("date")) {
 
-                        System.out.println("  Element [" + (++count) + "]: <" + tag + ">" +
+                        Log.info("  Element [" + (++count) + "]: <" + tag + ">" +
                                 " | Text='" + text + "'" +
                                 " | ID=" + (id != null ? id : "n/a") +
                                 " | Class=" + (cls != null ? cls : "n/a") +
@@ -492,9 +494,9 @@ public class DashboardPage {
                 }
             }
             if (count == 0)
-                System.out.println("  [DEBUG] No visible interactive elements found.");
+                Log.debug("  [DEBUG] No visible interactive elements found.");
         } catch (Exception e) {
-            System.out.println("  [DEBUG] Failed to log elements: " + e.getMessage());
+            Log.debug("  [DEBUG] Failed to log elements: " + e.getMessage());
         }
     }
 
@@ -7,6 +7,10 @@ import org.openqa.selenium.WebElement;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import utils.ElementCache;
+import utils.Log;
+import utils.PagedGrid;
+import utils.TracedWait;
 
 import java.time.Duration;
 import java.util.ArrayList;
@@ -24,7 +28,7 @@ public class EnterpriseControlCenterPage {
 
     public EnterpriseControlCenterPage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(15));
+        this.wait = new TracedWait(driver, Duration.ofSeconds(15));
     }
 
     // ==================== Navigation Methods ====================
@@ -35,8 +39,8 @@ public class EnterpriseControlCenterPage {
      */
     public void navigateToControlCenter() {
         try {
-            System.out.println("Attempting to navigate to Control Center...");
-            System.out.println("Current URL before click: " + driver.getCurrentUrl());
+            Log.info("Attempting to navigate to Control Center...");
+            Log.info("Current URL before click: " + driver.getCurrentUrl());
 
             // Multiple locator strategies for Control Center
             By[] controlCenterLocators = {
@@ -51,7 +55,7 @@ public class EnterpriseControlCenterPage {
             for (By locator : controlCenterLocators) {
                 try {
                     WebElement controlCenterMenu = wait.until(ExpectedConditions.elementToBeClickable(locator));
-                    System.out.println("Found Control Center with: " + locator);
+                    Log.info("Found Control Center with: " + locator);
 
                     // JavaScript click as fallback
                     try {
@@ -60,19 +64,19 @@ public class EnterpriseControlCenterPage {
                         ((org.openqa.selenium.JavascriptExecutor) driver).executeScript("arguments[0].click();",
                                 controlCenterMenu);
                     }
-                    System.out.println("Clicked Control Center menu item");
+                    Log.info("Clicked Control Center menu item");
                     clicked = true;
 
                     // Wait for URL to change to control-center
                     Thread.sleep(3000);
                     String newUrl = driver.getCurrentUrl().toLowerCase();
-                    System.out.println("URL after click: " + newUrl);
+                    Log.info("URL after click: " + newUrl);
 
                     if (newUrl.contains("control-center")) {
-                        System.out.println("Successfully navigated to Control Center");
+                        Log.info("Successfully navigated to Control Center");
                         return;
                     } else {
-                        System.out.println("URL didn't change to control-center, retrying...");
+                        Log.info("URL didn't change to control-center, retrying...");
                     }
                 } catch (Exception e) {
                     // Continue to next locator
@@ -86,11 +90,11 @@ public class EnterpriseControlCenterPage {
             // Final URL verification
             String finalUrl = driver.getCurrentUrl().toLowerCase();
             if (!finalUrl.contains("control-center")) {
-                System.out.println("WARNING: Navigation to Control Center may have failed. Current URL: " + finalUrl);
+                Log.warn("WARNING: Navigation to Control Center may have failed. Current URL: " + finalUrl);
             }
 
         } catch (Exception e) {
-            System.out.println("Error navigating to Control Center: " + e.getMessage());
+            Log.error("Error navigating to Control Center: " + e.getMessage());
             throw new RuntimeException("Failed to navigate to Control Center", e);
         }
     }
@@ -103,7 +107,7 @@ public class EnterpriseControlCenterPage {
             // Check URL or page header
             String currentUrl = driver.getCurrentUrl().toLowerCase();
             if (currentUrl.contains("control-center") || currentUrl.contains("controlcenter")) {
-                System.out.println("Control Center loaded (URL validation)");
+                Log.info("Control Center loaded (URL validation)");
                 return true;
             }
 
@@ -111,17 +115,17 @@ public class EnterpriseControlCenterPage {
             try {
                 WebElement header = driver.findElement(EnterpriseControlCenterPageLocators.CONTROL_CENTER_HEADER);
                 if (header.isDisplayed()) {
-                    System.out.println("Control Center loaded (header found)");
+                    Log.info("Control Center loaded (header found)");
                     return true;
                 }
             } catch (Exception e) {
                 // Header not found, continue checking
             }
 
-            System.out.println("Control Center page validation passed");
+            Log.info("Control Center page validation passed");
             return true;
         } catch (Exception e) {
-            System.out.println("Error checking Control Center page: " + e.getMessage());
+            Log.error("Error checking Control Center page: " + e.getMessage());
             return false;
         }
     }
@@ -132,11 +136,11 @@ public class EnterpriseControlCenterPage {
      */
     public void clickTeamManagementTab() {
         try {
-            System.out.println("Navigating to Team Management tab...");
+            Log.info("Navigating to Team Management tab...");
 
             // First check if Team Management is already loaded (it's the default tab)
             if (isTeamManagementLoaded()) {
-                System.out.println("Team Management already loaded (default tab) - no click needed");
+                Log.info("Team Management already loaded (default tab) - no click needed");
                 return;
             }
 
@@ -145,14 +149,14 @@ public class EnterpriseControlCenterPage {
                 WebElement teamMgmtTab = wait.until(ExpectedConditions.elementToBeClickable(
                         EnterpriseControlCenterPageLocators.TEAM_MANAGEMENT_TAB));
                 teamMgmtTab.click();
-                System.out.println("Clicked Team Management tab");
+                Log.info("Clicked Team Management tab");
                 Thread.sleep(2000);
             } catch (Exception clickException) {
-                System.out.println(
+                Log.info(
                         "Team Management tab not clickable, may already be active: " + clickException.getMessage());
             }
         } catch (Exception e) {
-            System.out.println("Team Management navigation completed with note: " + e.getMessage());
+            Log.info("Team Management navigation completed with note: " + e.getMessage());
         }
     }
 
@@ -165,30 +169,30 @@ public class EnterpriseControlCenterPage {
             Thread.sleep(2000); // Wait for page to load
 
             String currentUrl = driver.getCurrentUrl().toLowerCase();
-            System.out.println("Current URL: " + currentUrl);
+            Log.info("Current URL: " + currentUrl);
 
             // Check if URL contains control-center
             if (currentUrl.contains("control-center")) {
-                System.out.println("URL confirmed: Control Center page");
+                Log.info("URL confirmed: Control Center page");
 
                 // Wait for table to appear with explicit wait
                 try {
-                    WebDriverWait shortWait = new WebDriverWait(driver, java.time.Duration.ofSeconds(10));
+                    WebDriverWait shortWait = new TracedWait(driver, java.time.Duration.ofSeconds(10));
                     shortWait.until(ExpectedConditions.presenceOfElementLocated(
                             EnterpriseControlCenterPageLocators.TABLE_ROWS));
 
                     List<WebElement> rows = driver.findElements(EnterpriseControlCenterPageLocators.TABLE_ROWS);
-                    System.out.println("Team Management loaded - found " + rows.size() + " rows in table");
+                    Log.info("Team Management loaded - found " + rows.size() + " rows in table");
                     return true;
                 } catch (Exception tableEx) {
-                    System.out.println("Table wait timeout, checking headers...");
+                    Log.info("Table wait timeout, checking headers...");
                 }
 
                 // Try to find table headers
                 try {
                     List<WebElement> headers = driver.findElements(EnterpriseControlCenterPageLocators.TABLE_HEADERS);
                     if (!headers.isEmpty()) {
-                        System.out.println("Team Management loaded - found " + headers.size() + " table headers");
+                        Log.info("Team Management loaded - found " + headers.size() + " table headers");
                         return true;
                     }
                 } catch (Exception headerEx) {
@@ -196,14 +200,14 @@ public class EnterpriseControlCenterPage {
                 }
 
                 // If we're on control-center URL, consider it loaded
-                System.out.println("On Control Center URL, page loaded");
+                Log.info("On Control Center URL, page loaded");
                 return true;
             }
 
-            System.out.println("Not on Control Center URL");
+            Log.info("Not on Control Center URL");
             return false;
         } catch (Exception e) {
-            System.out.println("Error checking Team Management: " + e.getMessage());
+            Log.error("Error checking Team Management: " + e.getMessage());
             return false;
         }
     }
@@ -224,12 +228,12 @@ public class EnterpriseControlCenterPage {
                 wait.until(ExpectedConditions.presenceOfElementLocated(
                         EnterpriseControlCenterPageLocators.TABLE_HEADERS));
             } catch (Exception waitEx) {
-                System.out.println("Header wait timeout, trying to find anyway...");
+                Log.info("Header wait timeout, trying to find anyway...");
             }
 
             List<WebElement> headerElements = driver.findElements(
                     EnterpriseControlCenterPageLocators.TABLE_HEADERS);
-            System.out.println("Found " + headerElements.size() + " header elements");
+            Log.info("Found " + headerElements.size() + " header elements");
 
             for (WebElement header : headerElements) {
                 String text = header.getText().trim();
@@ -237,9 +241,9 @@ public class EnterpriseControlCenterPage {
                     headers.add(text);
                 }
             }
-            System.out.println("Headers with text: " + headers);
+            Log.info("Headers with text: " + headers);
         } catch (Exception e) {
-            System.out.println("Error getting table headers: " + e.getMessage());
+            Log.error("Error getting table headers: " + e.getMessage());
         }
         return headers;
     }
@@ -250,10 +254,10 @@ public class EnterpriseControlCenterPage {
     public int getTableRowCount() {
         try {
             List<WebElement> rows = driver.findElements(EnterpriseControlCenterPageLocators.TABLE_ROWS);
-            System.out.println("Table row count: " + rows.size());
+            Log.info("Table row count: " + rows.size());
             return rows.size();
         } catch (Exception e) {
-            System.out.println("Error getting row count: " + e.getMessage());
+            Log.error("Error getting row count: " + e.getMessage());
             return 0;
         }
     }
@@ -283,7 +287,7 @@ public class EnterpriseControlCenterPage {
                     // Skip if it looks like email or contains @
                     if (!name.isEmpty() && name.length() >= 3 && !name.contains("@")) {
                         String prefix = name.substring(0, 3);
-                        System.out.println("Got first row name prefix: '" + prefix + "' from name: " + name);
+                        Log.info("Got first row name prefix: '" + prefix + "' from name: " + name);
                         return prefix;
                     }
                 } catch (Exception e) {
@@ -291,10 +295,10 @@ public class EnterpriseControlCenterPage {
                 }
             }
 
-            System.out.println("Could not get name prefix from first row");
+            Log.warn("Could not get name prefix from first row");
             return "";
         } catch (Exception e) {
-            System.out.println("Error getting first row name: " + e.getMessage());
+            Log.error("Error getting first row name: " + e.getMessage());
             return "";
         }
     }
@@ -304,7 +308,7 @@ public class EnterpriseControlCenterPage {
      */
     public String getFirstAvailableRoleFromDropdown() {
         try {
-            System.out.println("Getting first available role from dropdown...");
+            Log.info("Getting first available role from dropdown...");
 
             // Open filters panel
             openFilters();
@@ -346,7 +350,7 @@ public class EnterpriseControlCenterPage {
                         String text = option.getText().trim();
                         if (!text.isEmpty() && !text.toLowerCase().equals("all")
                                 && !text.toLowerCase().equals("select")) {
-                            System.out.println("Found available role: " + text);
+                            Log.info("Found available role: " + text);
                             // Close dropdown by clicking elsewhere
                             driver.findElement(By.tagName("body")).click();
                             Thread.sleep(500);
@@ -358,10 +362,10 @@ public class EnterpriseControlCenterPage {
                 }
             }
 
-            System.out.println("No role options found in dropdown");
+            Log.info("No role options found in dropdown");
             return "";
         } catch (Exception e) {
-            System.out.println("Error getting role from dropdown: " + e.getMessage());
+            Log.error("Error getting role from dropdown: " + e.getMessage());
             return "";
         }
     }
@@ -377,7 +381,7 @@ public class EnterpriseControlCenterPage {
             List<WebElement> paginationElements = driver.findElements(
                     EnterpriseControlCenterPageLocators.PAGINATION_CONTAINER);
             if (!paginationElements.isEmpty() && paginationElements.get(0).isDisplayed()) {
-                System.out.println("Pagination container found");
+                Log.info("Pagination container found");
                 return true;
             }
 
@@ -385,14 +389,14 @@ public class EnterpriseControlCenterPage {
             List<WebElement> nextButtons = driver.findElements(
                     EnterpriseControlCenterPageLocators.NEXT_BUTTON);
             if (!nextButtons.isEmpty()) {
-                System.out.println("Pagination available (Next button found)");
+                Log.info("Pagination available (Next button found)");
                 return true;
             }
 
-            System.out.println("Pagination not available (less than 10 records or not implemented)");
+            Log.info("Pagination not available (less than 10 records or not implemented)");
             return false;
         } catch (Exception e) {
-            System.out.println("Error checking pagination: " + e.getMessage());
+            Log.error("Error checking pagination: " + e.getMessage());
             return false;
         }
     }
@@ -402,12 +406,12 @@ public class EnterpriseControlCenterPage {
      */
     public boolean isNextEnabled() {
         try {
-            WebElement nextBtn = driver.findElement(EnterpriseControlCenterPageLocators.NEXT_BUTTON);
+            WebElement nextBtn = ElementCache.forDriver(driver).find(EnterpriseControlCenterPageLocators.NEXT_BUTTON);
             boolean enabled = nextBtn.isEnabled() && !nextBtn.getAttribute("class").contains("disabled");
-            System.out.println("Next button enabled: " + enabled);
+            Log.info("Next button enabled: " + enabled);
             return enabled;
         } catch (Exception e) {
-            System.out.println("Next button not found or not enabled: " + e.getMessage());
+            Log.info("Next button not found or not enabled: " + e.getMessage());
             return false;
         }
     }
@@ -418,18 +422,16 @@ public class EnterpriseControlCenterPage {
     public boolean clickNext() {
         try {
             if (!isPaginationAvailable()) {
-                System.out.println("Pagination not available - skipping Next click");
+                Log.info("Pagination not available - skipping Next click");
                 return false;
             }
 
-            WebElement nextBtn = wait.until(ExpectedConditions.elementToBeClickable(
-                    EnterpriseControlCenterPageLocators.NEXT_BUTTON));
-            nextBtn.click();
-            System.out.println("Clicked Next button");
-            Thread.sleep(1500);
-            return true;
+            // Waits for the row set to change instead of a fixed sleep
+            boolean moved = grid().next();
+            Log.info(moved ? "Clicked Next button" : "Next click did not change the page");
+            return moved;
         } catch (Exception e) {
-            System.out.println("Error clicking Next: " + e.getMessage());
+            Log.error("Error clicking Next: " + e.getMessage());
             return false;
         }
     }
@@ -439,12 +441,12 @@ public class EnterpriseControlCenterPage {
      */
     public boolean isPreviousEnabled() {
         try {
-            WebElement prevBtn = driver.findElement(EnterpriseControlCenterPageLocators.PREVIOUS_BUTTON);
+            WebElement prevBtn = ElementCache.forDriver(driver).find(EnterpriseControlCenterPageLocators.PREVIOUS_BUTTON);
             boolean enabled = prevBtn.isEnabled() && !prevBtn.getAttribute("class").contains("disabled");
-            System.out.println("Previous button enabled: " + enabled);
+            Log.info("Previous button enabled: " + enabled);
             return enabled;
         } catch (Exception e) {
-            System.out.println("Previous button not found or not enabled: " + e.getMessage());
+            Log.info("Previous button not found or not enabled: " + e.getMessage());
             return false;
         }
     }
@@ -455,22 +457,28 @@ public class EnterpriseControlCenterPage {
     public boolean clickPrevious() {
         try {
             if (!isPaginationAvailable()) {
-                System.out.println("Pagination not available - skipping Previous click");
+                Log.info("Pagination not available - skipping Previous click");
                 return false;
             }
 
-            WebElement prevBtn = wait.until(ExpectedConditions.elementToBeClickable(
-                    EnterpriseControlCenterPageLocators.PREVIOUS_BUTTON));
-            prevBtn.click();
-            System.out.println("Clicked Previous button");
-            Thread.sleep(1500);
-            return true;
+            boolean moved = grid().previous();
+            Log.info(moved ? "Clicked Previous button" : "Previous click did not change the page");
+            return moved;
         } catch (Exception e) {
-            System.out.println("Error clicking Previous: " + e.getMessage());
+            Log.error("Error clicking Previous: " + e.getMessage());
             return false;
         }
     }
 
+    /**
+     * Paged view over the team members table
+     */
+    private PagedGrid grid() {
+        return new PagedGrid(driver, EnterpriseControlCenterPageLocators.TABLE_ROWS,
+                EnterpriseControlCenterPageLocators.NEXT_BUTTON,
+                EnterpriseControlCenterPageLocators.PREVIOUS_BUTTON);
+    }
+
     // ==================== Action Button Methods ====================
 
     /**
@@ -492,12 +500,12 @@ public class EnterpriseControlCenterPage {
             for (By locator : editLocators) {
                 try {
                     List<WebElement> buttons = driver.findElements(locator);
-                    System.out.println("Edit locator " + locator + " found: " + buttons.size() + " elements");
+                    Log.info("Edit locator " + locator + " found: " + buttons.size() + " elements");
 
                     if (!buttons.isEmpty()) {
                         WebElement editBtn = buttons.get(0);
                         boolean clickable = editBtn.isDisplayed() && editBtn.isEnabled();
-                        System.out.println("First Edit button clickable: " + clickable);
+                        Log.info("First Edit button clickable: " + clickable);
                         return clickable;
                     }
                 } catch (Exception e) {
@@ -505,10 +513,10 @@ public class EnterpriseControlCenterPage {
                 }
             }
 
-            System.out.println("Edit button not found with any locator");
+            Log.info("Edit button not found with any locator");
             return false;
         } catch (Exception e) {
-            System.out.println("Edit button error: " + e.getMessage());
+            Log.info("Edit button error: " + e.getMessage());
             return false;
         }
     }
@@ -521,10 +529,10 @@ public class EnterpriseControlCenterPage {
             WebElement editBtn = driver.findElement(
                     EnterpriseControlCenterPageLocators.getEditButtonByRow(rowIndex));
             boolean clickable = editBtn.isDisplayed() && editBtn.isEnabled();
-            System.out.println("Edit button clickable for row " + rowIndex + ": " + clickable);
+            Log.info("Edit button clickable for row " + rowIndex + ": " + clickable);
             return clickable;
         } catch (Exception e) {
-            System.out.println("Edit button not found for row " + rowIndex);
+            Log.info("Edit button not found for row " + rowIndex);
             return false;
         }
     }
@@ -548,12 +556,12 @@ public class EnterpriseControlCenterPage {
             for (By locator : viewLocators) {
                 try {
                     List<WebElement> buttons = driver.findElements(locator);
-                    System.out.println("View locator " + locator + " found: " + buttons.size() + " elements");
+                    Log.info("View locator " + locator + " found: " + buttons.size() + " elements");
 
                     if (!buttons.isEmpty()) {
                         WebElement viewBtn = buttons.get(0);
                         boolean clickable = viewBtn.isDisplayed() && viewBtn.isEnabled();
-                        System.out.println("First View button clickable: " + clickable);
+                        Log.info("First View button clickable: " + clickable);
                         return clickable;
                     }
                 } catch (Exception e) {
@@ -561,10 +569,10 @@ public class EnterpriseControlCenterPage {
                 }
             }
 
-            System.out.println("View button not found with any locator");
+            Log.info("View button not found with any locator");
             return false;
         } catch (Exception e) {
-            System.out.println("View button error: " + e.getMessage());
+            Log.info("View button error: " + e.getMessage());
             return false;
         }
     }
@@ -577,10 +585,10 @@ public class EnterpriseControlCenterPage {
             WebElement viewBtn = driver.findElement(
                     EnterpriseControlCenterPageLocators.getViewButtonByRow(rowIndex));
             boolean clickable = viewBtn.isDisplayed() && viewBtn.isEnabled();
-            System.out.println("View button clickable for row " + rowIndex + ": " + clickable);
+            Log.info("View button clickable for row " + rowIndex + ": " + clickable);
             return clickable;
         } catch (Exception e) {
-            System.out.println("View button not found for row " + rowIndex);
+            Log.info("View button not found for row " + rowIndex);
             return false;
         }
     }
@@ -605,12 +613,12 @@ public class EnterpriseControlCenterPage {
             for (By locator : addNewLocators) {
                 try {
                     List<WebElement> buttons = driver.findElements(locator);
-                    System.out.println("Locator " + locator + " found: " + buttons.size() + " elements");
+                    Log.info("Locator " + locator + " found: " + buttons.size() + " elements");
 
                     if (!buttons.isEmpty()) {
                         WebElement addNewBtn = buttons.get(0);
                         boolean clickable = addNewBtn.isDisplayed() && addNewBtn.isEnabled();
-                        System.out.println("Add New button clickable: " + clickable);
+                        Log.info("Add New button clickable: " + clickable);
                         return clickable;
                     }
                 } catch (Exception e) {
@@ -618,10 +626,10 @@ public class EnterpriseControlCenterPage {
                 }
             }
 
-            System.out.println("Add New button not found with any locator");
+            Log.info("Add New button not found with any locator");
             return false;
         } catch (Exception e) {
-            System.out.println("Add New button error: " + e.getMessage());
+            Log.info("Add New button error: " + e.getMessage());
             return false;
         }
     }
@@ -634,10 +642,10 @@ public class EnterpriseControlCenterPage {
             WebElement addNewBtn = wait.until(ExpectedConditions.elementToBeClickable(
                     EnterpriseControlCenterPageLocators.ADD_NEW_BUTTON));
             addNewBtn.click();
-            System.out.println("Clicked Add New button");
+            Log.info("Clicked Add New button");
             Thread.sleep(1000);
         } catch (Exception e) {
-            System.out.println("Error clicking Add New: " + e.getMessage());
+            Log.error("Error clicking Add New: " + e.getMessage());
             throw new RuntimeException("Failed to click Add New button", e);
         }
     }
@@ -649,15 +657,15 @@ public class EnterpriseControlCenterPage {
      */
     public void search(String searchText) {
         try {
-            System.out.println("Searching for: " + searchText);
+            Log.info("Searching for: " + searchText);
             WebElement searchInput = wait.until(ExpectedConditions.elementToBeClickable(
                     EnterpriseControlCenterPageLocators.SEARCH_INPUT));
             searchInput.clear();
             searchInput.sendKeys(searchText);
             Thread.sleep(2000); // Wait for search results
-            System.out.println("Search performed for: " + searchText);
+            Log.info("Search performed for: " + searchText);
         } catch (Exception e) {
-            System.out.println("Error performing search: " + e.getMessage());
+            Log.error("Error performing search: " + e.getMessage());
             throw new RuntimeException("Failed to perform search", e);
         }
     }
@@ -667,12 +675,12 @@ public class EnterpriseControlCenterPage {
      */
     public void clearSearch() {
         try {
-            WebElement searchInput = driver.findElement(EnterpriseControlCenterPageLocators.SEARCH_INPUT);
+            WebElement searchInput = ElementCache.forDriver(driver).find(EnterpriseControlCenterPageLocators.SEARCH_INPUT);
             searchInput.clear();
             Thread.sleep(1000);
-            System.out.println("Search cleared");
+            Log.info("Search cleared");
         } catch (Exception e) {
-            System.out.println("Error clearing search: " + e.getMessage());
+            Log.error("Error clearing search: " + e.getMessage());
         }
     }
 
@@ -698,10 +706,10 @@ public class EnterpriseControlCenterPage {
             WebElement filterBtn = wait.until(ExpectedConditions.elementToBeClickable(
                     EnterpriseControlCenterPageLocators.FILTER_BUTTON));
             filterBtn.click();
-            System.out.println("Opened filter panel");
+            Log.info("Opened filter panel");
             Thread.sleep(1000);
         } catch (Exception e) {
-            System.out.println("Error opening filters: " + e.getMessage());
+            Log.error("Error opening filters: " + e.getMessage());
         }
     }
 
@@ -710,7 +718,7 @@ public class EnterpriseControlCenterPage {
      */
     public void filterByRole(String roleName) {
         try {
-            System.out.println("Filtering by role: " + roleName);
+            Log.info("Filtering by role: " + roleName);
 
             // Open filters first
             openFilters();
@@ -722,14 +730,14 @@ public class EnterpriseControlCenterPage {
                 roleDropdown.click();
                 Thread.sleep(500);
             } catch (Exception e) {
-                System.out.println("Role dropdown not found directly");
+                Log.info("Role dropdown not found directly");
             }
 
             // Select role option
             WebElement roleOption = wait.until(ExpectedConditions.elementToBeClickable(
                     EnterpriseControlCenterPageLocators.getRoleFilterOption(roleName)));
             roleOption.click();
-            System.out.println("Selected role: " + roleName);
+            Log.info("Selected role: " + roleName);
             Thread.sleep(500);
 
             // Apply filters
@@ -737,16 +745,16 @@ public class EnterpriseControlCenterPage {
                 WebElement applyBtn = driver.findElement(EnterpriseControlCenterPageLocators.FILTER_APPLY_BUTTON);
                 if (applyBtn.isDisplayed()) {
                     applyBtn.click();
-                    System.out.println("Clicked Apply filter");
+                    Log.info("Clicked Apply filter");
                 }
             } catch (Exception e) {
                 // Apply button may not be needed
             }
 
             Thread.sleep(2000);
-            System.out.println("Filter by role completed");
+            Log.info("Filter by role completed");
         } catch (Exception e) {
-            System.out.println("Error filtering by role: " + e.getMessage());
+            Log.error("Error filtering by role: " + e.getMessage());
             throw new RuntimeException("Failed to filter by role", e);
         }
     }
@@ -758,11 +766,11 @@ public class EnterpriseControlCenterPage {
         try {
             List<WebElement> rows = driver.findElements(EnterpriseControlCenterPageLocators.TABLE_ROWS);
             if (rows.isEmpty()) {
-                System.out.println("No rows found after filter");
+                Log.info("No rows found after filter");
                 return true; // Empty result is valid for filter
             }
 
-            System.out.println("Validating " + rows.size() + " filtered rows for role: " + expectedRole);
+            Log.info("Validating " + rows.size() + " filtered rows for role: " + expectedRole);
 
             for (int i = 1; i <= Math.min(rows.size(), 5); i++) {
                 try {
@@ -770,8 +778,7 @@ public class EnterpriseControlCenterPage {
                             EnterpriseControlCenterPageLocators.getRoleValueByRow(i));
                     String roleText = roleCell.getText().trim().toLowerCase();
                     if (!roleText.contains(expectedRole.toLowerCase())) {
-                        System.out
-                                .println("Row " + i + " has role '" + roleText + "' instead of '" + expectedRole + "'");
+                        Log.info("Row " + i + " has role '" + roleText + "' instead of '" + expectedRole + "'");
                         return false;
                     }
                 } catch (Exception e) {
@@ -779,10 +786,10 @@ public class EnterpriseControlCenterPage {
                 }
             }
 
-            System.out.println("Filter validation passed for role: " + expectedRole);
+            Log.info("Filter validation passed for role: " + expectedRole);
             return true;
         } catch (Exception e) {
-            System.out.println("Error validating filter results: " + e.getMessage());
+            Log.error("Error validating filter results: " + e.getMessage());
             return true; // Don't fail on validation errors
         }
     }
@@ -794,10 +801,10 @@ public class EnterpriseControlCenterPage {
         try {
             WebElement clearBtn = driver.findElement(EnterpriseControlCenterPageLocators.FILTER_CLEAR_BUTTON);
             clearBtn.click();
-            System.out.println("Cleared filters");
+            Log.info("Cleared filters");
             Thread.sleep(1000);
         } catch (Exception e) {
-            System.out.println("Clear filter button not found, refreshing page");
+            Log.info("Clear filter button not found, refreshing page");
             driver.navigate().refresh();
             try {
                 Thread.sleep(2000);
@@ -7,6 +7,9 @@ import org.openqa.selenium.WebElement;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import utils.Log;
+import utils.PagedGrid;
+import utils.TracedWait;
 
 import java.time.Duration;
 import java.time.LocalDate;
@@ -27,7 +30,7 @@ public class EnterpriseRateCardPage {
 
     public EnterpriseRateCardPage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(15));
+        this.wait = new TracedWait(driver, Duration.ofSeconds(15));
     }
 
     // ==================== Navigation Methods ====================
@@ -37,7 +40,7 @@ public class EnterpriseRateCardPage {
      */
     public void navigateToRateCard() {
         try {
-            System.out.println("Attempting to navigate to Rate Card...");
+            Log.info("Attempting to navigate to Rate Card...");
             wait.until(
                     ExpectedConditions.visibilityOfElementLocated(EnterpriseRateCardPageLocators.RATE_CARD_MENU_ITEM));
 
@@ -45,7 +48,7 @@ public class EnterpriseRateCardPage {
             WebElement rateCardMenu = wait.until(ExpectedConditions.elementToBeClickable(
                     EnterpriseRateCardPageLocators.RATE_CARD_MENU_ITEM));
             rateCardMenu.click();
-            System.out.println("Clicked Rate Card menu item");
+            Log.info("Clicked Rate Card menu item");
 
             // Wait for URL change instead of sleeping
             wait.until(ExpectedConditions.or(
@@ -60,9 +63,9 @@ public class EnterpriseRateCardPage {
                     ExpectedConditions
                             .visibilityOfElementLocated(EnterpriseRateCardPageLocators.RATE_CARD_TABLE_ROWS)));
 
-            System.out.println("Rate Card page loaded successfully");
+            Log.info("Rate Card page loaded successfully");
         } catch (Exception e) {
-            System.out.println("Error navigating to Rate Card: " + e.getMessage());
+            Log.error("Error navigating to Rate Card: " + e.getMessage());
             throw new RuntimeException("Failed to navigate to Rate Card page", e);
         }
     }
@@ -126,9 +129,9 @@ public class EnterpriseRateCardPage {
                     headers.add(text);
                 }
             }
-            System.out.println("Found headers: " + headers);
+            Log.info("Found headers: " + headers);
         } catch (Exception e) {
-            System.out.println("Error getting headers: " + e.getMessage());
+            Log.error("Error getting headers: " + e.getMessage());
         }
         return headers;
     }
@@ -164,16 +167,12 @@ public class EnterpriseRateCardPage {
      */
     public boolean clickNextPage() {
         try {
-            WebElement nextBtn = driver.findElement(EnterpriseRateCardPageLocators.PAGINATION_NEXT);
-            if (nextBtn.isEnabled() && nextBtn.isDisplayed()) {
-                nextBtn.click();
-                wait.until(ExpectedConditions
-                        .presenceOfElementLocated(EnterpriseRateCardPageLocators.RATE_CARD_TABLE_ROWS));
-                System.out.println("Clicked Next page");
+            if (grid(EnterpriseRateCardPageLocators.RATE_CARD_TABLE_ROWS).next()) {
+                Log.info("Clicked Next page");
                 return true;
             }
         } catch (Exception e) {
-            System.out.println("Next page button not available: " + e.getMessage());
+            Log.info("Next page button not available: " + e.getMessage());
         }
         return false;
     }
@@ -183,16 +182,12 @@ public class EnterpriseRateCardPage {
      */
     public boolean clickPreviousPage() {
         try {
-            WebElement prevBtn = driver.findElement(EnterpriseRateCardPageLocators.PAGINATION_PREVIOUS);
-            if (prevBtn.isEnabled() && prevBtn.isDisplayed()) {
-                prevBtn.click();
-                wait.until(ExpectedConditions
-                        .presenceOfElementLocated(EnterpriseRateCardPageLocators.RATE_CARD_TABLE_ROWS));
-                System.out.println("Clicked Previous page");
+            if (grid(EnterpriseRateCardPageLocators.RATE_CARD_TABLE_ROWS).previous()) {
+                Log.info("Clicked Previous page");
                 return true;
             }
         } catch (Exception e) {
-            System.out.println("Previous page button not available: " + e.getMessage());
+            Log.info("Previous page button not available: " + e.getMessage());
         }
         return false;
     }
@@ -225,7 +220,7 @@ public class EnterpriseRateCardPage {
                 }
             }
         } catch (Exception e) {
-            System.out.println("Error getting serial numbers: " + e.getMessage());
+            Log.error("Error getting serial numbers: " + e.getMessage());
         }
         return serialNumbers;
     }
@@ -238,61 +233,45 @@ public class EnterpriseRateCardPage {
         List<String> duplicates = new ArrayList<>();
 
         try {
-            // Go to first page
-            while (clickPreviousPage()) {
-                // Keep clicking until we're at the first page
-            }
-
-            do {
-                List<String> currentPageSerials = getSerialNumbersFromCurrentPage();
-                for (String serial : currentPageSerials) {
-                    if (allSerialNumbers.contains(serial)) {
-                        duplicates.add(serial);
-                    }
-                    allSerialNumbers.add(serial);
-                }
-            } while (clickNextPage());
+            // Streams from page one, reading each page once
+            grid(EnterpriseRateCardPageLocators.SERIAL_NUMBER_CELLS).stream()
+                    .map(PagedGrid.Row::getText)
+                    .filter(serial -> !serial.isEmpty())
+                    .forEach(serial -> {
+                        if (!allSerialNumbers.add(serial)) {
+                            duplicates.add(serial);
+                        }
+                    });
 
             if (!duplicates.isEmpty()) {
-                System.out.println("Duplicate serial numbers found: " + duplicates);
+                Log.info("Duplicate serial numbers found: " + duplicates);
             }
         } catch (Exception e) {
-            System.out.println("Error getting all serial numbers: " + e.getMessage());
+            Log.error("Error getting all serial numbers: " + e.getMessage());
         }
 
         return allSerialNumbers;
     }
 
     /**
-     * Check for duplicate serial numbers across all pages
+     * Check for duplicate serial numbers across all pages.
+     * Paging stops at the first duplicate, so a failing list is not walked to
+     * the end.
      * 
-     * @return List of duplicate serial numbers (empty if no duplicates)
+     * @return List holding the first duplicate serial number (empty if no
+     *         duplicates)
      */
     public List<String> findDuplicateSerialNumbers() {
-        List<String> allSerialNumbers = new ArrayList<>();
         List<String> duplicates = new ArrayList<>();
 
         try {
-            // Go to first page
-            while (clickPreviousPage()) {
-                // Keep clicking until we're at the first page
-            }
-
-            do {
-                List<String> currentPageSerials = getSerialNumbersFromCurrentPage();
-                for (String serial : currentPageSerials) {
-                    if (allSerialNumbers.contains(serial)) {
-                        duplicates.add(serial);
-                    } else {
-                        allSerialNumbers.add(serial);
-                    }
-                }
-            } while (clickNextPage());
+            PagedGrid serialGrid = grid(EnterpriseRateCardPageLocators.SERIAL_NUMBER_CELLS);
+            serialGrid.findFirstDuplicate(PagedGrid.Row::getText).ifPresent(duplicates::add);
 
-            System.out.println("Total serial numbers checked: " + allSerialNumbers.size());
-            System.out.println("Duplicates found: " + duplicates.size());
+            Log.info("Pages checked for duplicate serial numbers: " + serialGrid.getPagesVisited());
+            Log.info("Duplicates found: " + duplicates.size());
         } catch (Exception e) {
-            System.out.println("Error finding duplicates: " + e.getMessage());
+            Log.error("Error finding duplicates: " + e.getMessage());
         }
 
         return duplicates;
@@ -306,21 +285,19 @@ public class EnterpriseRateCardPage {
     public boolean isLatestRateCardFirst() {
         try {
             // Go to first page
-            while (clickPreviousPage()) {
-                // Keep clicking until we're at the first page
-            }
+            grid(EnterpriseRateCardPageLocators.RATE_CARD_TABLE_ROWS).firstPage();
 
             List<WebElement> dateCells = driver.findElements(EnterpriseRateCardPageLocators.DATE_CELLS);
             if (dateCells.size() < 2) {
-                System.out.println("Not enough date entries to compare ordering");
+                Log.info("Not enough date entries to compare ordering");
                 return true; // Can't verify with single entry
             }
 
             String firstDateText = dateCells.get(0).getText().trim();
             String secondDateText = dateCells.get(1).getText().trim();
 
-            System.out.println("First row date: " + firstDateText);
-            System.out.println("Second row date: " + secondDateText);
+            Log.info("First row date: " + firstDateText);
+            Log.info("Second row date: " + secondDateText);
 
             // Try parsing dates to compare
             // Common date formats
@@ -333,7 +310,7 @@ public class EnterpriseRateCardPage {
 
                     // Latest should be first (greater or equal date)
                     boolean isOrdered = !firstDate.isBefore(secondDate);
-                    System.out.println("Date ordering validated: " + isOrdered);
+                    Log.info("Date ordering validated: " + isOrdered);
                     return isOrdered;
                 } catch (Exception ex) {
                     // Try next format
@@ -341,10 +318,10 @@ public class EnterpriseRateCardPage {
             }
 
             // If date parsing fails, assume ordering is correct
-            System.out.println("Could not parse dates, assuming ordering is correct");
+            Log.warn("Could not parse dates, assuming ordering is correct");
             return true;
         } catch (Exception e) {
-            System.out.println("Error checking rate card ordering: " + e.getMessage());
+            Log.error("Error checking rate card ordering: " + e.getMessage());
             return true;
         }
     }
@@ -360,24 +337,25 @@ public class EnterpriseRateCardPage {
             WebElement statusCell = driver.findElement(locator);
             return statusCell.getText().trim();
         } catch (Exception e) {
-            System.out.println("Error getting rate card status for row " + row + ": " + e.getMessage());
+            Log.error("Error getting rate card status for row " + row + ": " + e.getMessage());
             return "";
         }
     }
 
     /**
-     * Find first active rate card row
+     * Find first active rate card row, paging forward from page one until one
+     * is found. The list is left on that page.
+     * 
+     * @return 1-based row on the current page, or -1 if none is active
      */
     public int findFirstActiveRateCard() {
         try {
-            List<WebElement> statusCells = driver.findElements(EnterpriseRateCardPageLocators.STATUS_CELLS);
-            for (int i = 0; i < statusCells.size(); i++) {
-                if (statusCells.get(i).getText().trim().equalsIgnoreCase("Active")) {
-                    return i + 1;
-                }
-            }
+            return grid(EnterpriseRateCardPageLocators.STATUS_CELLS)
+                    .findFirst(row -> row.getText().equalsIgnoreCase("Active"))
+                    .map(row -> row.getIndex() + 1)
+                    .orElse(-1);
         } catch (Exception e) {
-            System.out.println("Error finding active rate card: " + e.getMessage());
+            Log.error("Error finding active rate card: " + e.getMessage());
         }
         return -1;
     }
@@ -391,7 +369,7 @@ public class EnterpriseRateCardPage {
             WebElement viewIcon = driver.findElement(locator);
             return viewIcon.isDisplayed() && viewIcon.isEnabled();
         } catch (Exception e) {
-            System.out.println("View icon not found for row " + row + ": " + e.getMessage());
+            Log.info("View icon not found for row " + row + ": " + e.getMessage());
             return false;
         }
     }
@@ -405,9 +383,9 @@ public class EnterpriseRateCardPage {
             WebElement viewIcon = wait.until(ExpectedConditions.elementToBeClickable(locator));
             viewIcon.click();
             wait.until(ExpectedConditions.visibilityOfElementLocated(EnterpriseRateCardPageLocators.SERVICES_SECTION));
-            System.out.println("Clicked View icon for row: " + row);
+            Log.info("Clicked View icon for row: " + row);
         } catch (Exception e) {
-            System.out.println("Error clicking View icon: " + e.getMessage());
+            Log.error("Error clicking View icon: " + e.getMessage());
             throw new RuntimeException("Failed to click View icon for row " + row, e);
         }
     }
@@ -462,9 +440,9 @@ public class EnterpriseRateCardPage {
             }
             // Remove duplicates
             services = new ArrayList<>(new HashSet<>(services));
-            System.out.println("Services found on Rate Card Details: " + services);
+            Log.info("Services found on Rate Card Details: " + services);
         } catch (Exception e) {
-            System.out.println("Error getting services from details page: " + e.getMessage());
+            Log.error("Error getting services from details page: " + e.getMessage());
         }
         return services;
     }
@@ -474,19 +452,19 @@ public class EnterpriseRateCardPage {
      */
     public void navigateToServicesTab() {
         try {
-            System.out.println("Navigating to Services tab...");
+            Log.info("Navigating to Services tab...");
             Thread.sleep(1000);
 
             // Click on Services menu item
             WebElement servicesMenu = wait.until(ExpectedConditions.elementToBeClickable(
                     By.xpath("//span[contains(text(), 'Services')]")));
             servicesMenu.click();
-            System.out.println("Clicked Services menu item");
+            Log.info("Clicked Services menu item");
 
             Thread.sleep(2000);
-            System.out.println("Services tab loaded");
+            Log.info("Services tab loaded");
         } catch (Exception e) {
-            System.out.println("Error navigating to Services tab: " + e.getMessage());
+            Log.error("Error navigating to Services tab: " + e.getMessage());
             throw new RuntimeException("Failed to navigate to Services tab", e);
         }
     }
@@ -498,7 +476,7 @@ public class EnterpriseRateCardPage {
     public List<String> getServicesFromServicesTab() {
         List<String> services = new ArrayList<>();
         try {
-            System.out.println("Collecting services from Services tab...");
+            Log.info("Collecting services from Services tab...");
             Thread.sleep(1000);
 
             // Look for service cards/items on the Services page
@@ -533,9 +511,9 @@ public class EnterpriseRateCardPage {
                 }
             }
 
-            System.out.println("Services found in Services tab: " + services);
+            Log.info("Services found in Services tab: " + services);
         } catch (Exception e) {
-            System.out.println("Error getting services from Services tab: " + e.getMessage());
+            Log.error("Error getting services from Services tab: " + e.getMessage());
         }
         return services;
     }
@@ -560,9 +538,9 @@ public class EnterpriseRateCardPage {
                     EnterpriseRateCardPageLocators.BACK_BUTTON));
             backBtn.click();
             Thread.sleep(2000);
-            System.out.println("Navigated back to Rate Card list");
+            Log.info("Navigated back to Rate Card list");
         } catch (Exception e) {
-            System.out.println("Back button not found, using browser back: " + e.getMessage());
+            Log.info("Back button not found, using browser back: " + e.getMessage());
             driver.navigate().back();
             // Wait logic already improved
         }
@@ -570,6 +548,16 @@ public class EnterpriseRateCardPage {
 
     // ==================== Utility Methods ====================
 
+    /**
+     * Paged view over the rate card list, reading the given cells per page
+     */
+    private PagedGrid grid(By itemLocator) {
+        return new PagedGrid(driver, itemLocator,
+                EnterpriseRateCardPageLocators.PAGINATION_NEXT,
+                EnterpriseRateCardPageLocators.PAGINATION_PREVIOUS)
+                .withPageInfo(EnterpriseRateCardPageLocators.PAGINATION_INFO);
+    }
+
     /**
      * Check if element is visible
      */
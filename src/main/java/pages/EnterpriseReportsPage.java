@@ -7,6 +7,9 @@ import org.openqa.selenium.WebElement;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import utils.ElementCache;
+import utils.Log;
+import utils.TracedWait;
 
 import java.time.Duration;
 import java.util.ArrayList;
@@ -25,7 +28,7 @@ public class EnterpriseReportsPage {
 
     public EnterpriseReportsPage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(15));
+        this.wait = new TracedWait(driver, Duration.ofSeconds(15));
     }
 
     // ==================== Navigation Methods ====================
@@ -35,29 +38,29 @@ public class EnterpriseReportsPage {
      */
     public void navigateToReports() {
         try {
-            System.out.println("Attempting to navigate to Reports...");
+            Log.info("Attempting to navigate to Reports...");
 
             // Try to click on Reports menu item
             WebElement reportsMenu = wait.until(ExpectedConditions.elementToBeClickable(
                     EnterpriseReportsPageLocators.REPORTS_MENU_ITEM));
             reportsMenu.click();
-            System.out.println("Clicked Reports menu item");
+            Log.info("Clicked Reports menu item");
 
             wait.until(ExpectedConditions.urlContains("report"));
 
             // First check URL contains reports
             String currentUrl = driver.getCurrentUrl();
-            System.out.println("Current URL after click: " + currentUrl);
+            Log.info("Current URL after click: " + currentUrl);
 
             if (currentUrl.contains("report")) {
-                System.out.println("URL validation passed - on Reports page");
+                Log.info("URL validation passed - on Reports page");
             } else {
-                System.out.println("Warning: URL does not contain reports. Waiting for elements...");
+                Log.warn("Warning: URL does not contain reports. Waiting for elements...");
             }
 
-            System.out.println("Reports page loaded successfully");
+            Log.info("Reports page loaded successfully");
         } catch (Exception e) {
-            System.out.println("Error navigating to Reports: " + e.getMessage());
+            Log.error("Error navigating to Reports: " + e.getMessage());
             throw new RuntimeException("Failed to navigate to Reports page", e);
         }
     }
@@ -85,14 +88,14 @@ public class EnterpriseReportsPage {
      */
     public void clickSMSViewDetails() {
         try {
-            System.out.println("Clicking View Details for SMS...");
+            Log.info("Clicking View Details for SMS...");
             WebElement viewDetailsBtn = wait.until(ExpectedConditions.elementToBeClickable(
                     EnterpriseReportsPageLocators.SMS_VIEW_DETAILS_BUTTON));
             viewDetailsBtn.click();
             wait.until(ExpectedConditions.urlContains("sms"));
-            System.out.println("Clicked SMS View Details button");
+            Log.info("Clicked SMS View Details button");
         } catch (Exception e) {
-            System.out.println("Error clicking SMS View Details: " + e.getMessage());
+            Log.error("Error clicking SMS View Details: " + e.getMessage());
             throw new RuntimeException("Failed to click SMS View Details", e);
         }
     }
@@ -120,14 +123,14 @@ public class EnterpriseReportsPage {
      */
     public void clickServiceViewDetails(String serviceName) {
         try {
-            System.out.println("Clicking View Details for " + serviceName + "...");
+            Log.info("Clicking View Details for " + serviceName + "...");
             By locator = EnterpriseReportsPageLocators.getViewDetailsButtonForService(serviceName);
             WebElement viewDetailsBtn = wait.until(ExpectedConditions.elementToBeClickable(locator));
             viewDetailsBtn.click();
             wait.until(ExpectedConditions.presenceOfElementLocated(EnterpriseReportsPageLocators.REPORTS_TABLE));
-            System.out.println("Clicked " + serviceName + " View Details button");
+            Log.info("Clicked " + serviceName + " View Details button");
         } catch (Exception e) {
-            System.out.println("Error clicking " + serviceName + " View Details: " + e.getMessage());
+            Log.error("Error clicking " + serviceName + " View Details: " + e.getMessage());
             throw new RuntimeException("Failed to click " + serviceName + " View Details", e);
         }
     }
@@ -153,10 +156,10 @@ public class EnterpriseReportsPage {
      */
     public void navigateBackToReports() {
         try {
-            System.out.println("Navigating back to Reports main page...");
+            Log.info("Navigating back to Reports main page...");
             navigateToReports();
         } catch (Exception e) {
-            System.out.println("Error navigating back to Reports: " + e.getMessage());
+            Log.error("Error navigating back to Reports: " + e.getMessage());
         }
     }
 
@@ -168,9 +171,9 @@ public class EnterpriseReportsPage {
             driver.close();
             driver.switchTo().window(originalHandle);
             Thread.sleep(1000);
-            System.out.println("Closed SSO tab and switched back to main window");
+            Log.info("Closed SSO tab and switched back to main window");
         } catch (Exception e) {
-            System.out.println("Error switching back: " + e.getMessage());
+            Log.error("Error switching back: " + e.getMessage());
         }
     }
 
@@ -203,9 +206,9 @@ public class EnterpriseReportsPage {
                     headers.add(text);
                 }
             }
-            System.out.println("Found headers: " + headers);
+            Log.info("Found headers: " + headers);
         } catch (Exception e) {
-            System.out.println("Error getting headers: " + e.getMessage());
+            Log.error("Error getting headers: " + e.getMessage());
         }
         return headers;
     }
@@ -233,7 +236,7 @@ public class EnterpriseReportsPage {
             WebElement cell = wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
             return cell.getText().trim();
         } catch (Exception e) {
-            System.out.println("Error getting first row text: " + e.getMessage());
+            Log.error("Error getting first row text: " + e.getMessage());
             return "";
         }
     }
@@ -243,15 +246,15 @@ public class EnterpriseReportsPage {
      */
     public void searchByText(String searchText) {
         try {
-            System.out.println("Searching for: " + searchText);
+            Log.info("Searching for: " + searchText);
             WebElement searchInput = wait.until(ExpectedConditions.elementToBeClickable(
                     EnterpriseReportsPageLocators.SEARCH_INPUT));
             searchInput.clear();
             searchInput.sendKeys(searchText);
             wait.until(ExpectedConditions.presenceOfElementLocated(EnterpriseReportsPageLocators.REPORTS_TABLE_ROWS));
-            System.out.println("Entered search text: " + searchText);
+            Log.info("Entered search text: " + searchText);
         } catch (Exception e) {
-            System.out.println("Error entering search text: " + e.getMessage());
+            Log.error("Error entering search text: " + e.getMessage());
             throw new RuntimeException("Failed to enter search text", e);
         }
     }
@@ -264,7 +267,7 @@ public class EnterpriseReportsPage {
             // Filter panel wait removed
             List<WebElement> firstColumnCells = driver.findElements(EnterpriseReportsPageLocators.FIRST_COLUMN_CELLS);
             if (firstColumnCells.isEmpty()) {
-                System.out.println("No results found after search");
+                Log.info("No results found after search");
                 return false;
             }
 
@@ -272,14 +275,14 @@ public class EnterpriseReportsPage {
             for (WebElement cell : firstColumnCells) {
                 String cellText = cell.getText().trim().toLowerCase();
                 if (cellText.contains(searchText.toLowerCase())) {
-                    System.out.println("Found matching result: " + cellText);
+                    Log.info("Found matching result: " + cellText);
                     return true;
                 }
             }
-            System.out.println("No results matching search text: " + searchText);
+            Log.info("No results matching search text: " + searchText);
             return false;
         } catch (Exception e) {
-            System.out.println("Error validating search results: " + e.getMessage());
+            Log.error("Error validating search results: " + e.getMessage());
             return false;
         }
     }
@@ -289,12 +292,12 @@ public class EnterpriseReportsPage {
      */
     public void clearSearch() {
         try {
-            WebElement searchInput = driver.findElement(EnterpriseReportsPageLocators.SEARCH_INPUT);
+            WebElement searchInput = ElementCache.forDriver(driver).find(EnterpriseReportsPageLocators.SEARCH_INPUT);
             searchInput.clear();
             wait.until(ExpectedConditions.presenceOfElementLocated(EnterpriseReportsPageLocators.REPORTS_TABLE_ROWS));
-            System.out.println("Search field cleared");
+            Log.info("Search field cleared");
         } catch (Exception e) {
-            System.out.println("Error clearing search: " + e.getMessage());
+            Log.error("Error clearing search: " + e.getMessage());
         }
     }
 
@@ -306,7 +309,7 @@ public class EnterpriseReportsPage {
      */
     public void applyActiveFilter() {
         try {
-            System.out.println("Applying Active filter...");
+            Log.info("Applying Active filter...");
 
             // Step 1: Click "Filters" CTA button to open filter panel
             boolean filterPanelOpened = false;
@@ -328,12 +331,12 @@ public class EnterpriseReportsPage {
                 try {
                     WebElement filterBtn = driver.findElement(locator);
                     if (filterBtn != null && filterBtn.isDisplayed()) {
-                        System.out.println("Found 'Filters' CTA with locator: " + locator);
+                        Log.info("Found 'Filters' CTA with locator: " + locator);
                         ((JavascriptExecutor) driver).executeScript(
                                 "arguments[0].scrollIntoView({behavior: 'smooth', block: 'center'});", filterBtn);
                         Thread.sleep(500);
                         filterBtn.click();
-                        System.out.println("Clicked 'Filters' button - opening filter panel");
+                        Log.info("Clicked 'Filters' button - opening filter panel");
                         filterPanelOpened = true;
                         wait.until(ExpectedConditions
                                 .visibilityOfElementLocated(By.xpath("//*[contains(@class, 'filter')]"))); // Or some
@@ -348,9 +351,9 @@ public class EnterpriseReportsPage {
             }
 
             if (filterPanelOpened) {
-                System.out.println("Filter panel opened successfully");
+                Log.info("Filter panel opened successfully");
             } else {
-                System.out.println("'Filters' CTA not found, trying to find Status dropdown directly...");
+                Log.info("'Filters' CTA not found, trying to find Status dropdown directly...");
             }
 
             // Step 2: Find and click Status dropdown
@@ -372,12 +375,12 @@ public class EnterpriseReportsPage {
                 try {
                     WebElement dropdown = driver.findElement(locator);
                     if (dropdown != null && dropdown.isDisplayed()) {
-                        System.out.println("Found Status dropdown with locator: " + locator);
+                        Log.info("Found Status dropdown with locator: " + locator);
                         ((JavascriptExecutor) driver).executeScript(
                                 "arguments[0].scrollIntoView({behavior: 'smooth', block: 'center'});", dropdown);
                         Thread.sleep(500);
                         dropdown.click();
-                        System.out.println("Clicked Status dropdown");
+                        Log.info("Clicked Status dropdown");
                         dropdownOpened = true;
                         Thread.sleep(1000); // Wait for dropdown options to appear
                         break;
@@ -388,7 +391,7 @@ public class EnterpriseReportsPage {
             }
 
             if (!dropdownOpened) {
-                System.out.println("Status dropdown not found, trying radio button directly...");
+                Log.info("Status dropdown not found, trying radio button directly...");
             }
 
             // Step 3: Select Active radio button from filter panel
@@ -418,7 +421,7 @@ public class EnterpriseReportsPage {
             for (By locator : radioLocators) {
                 try {
                     List<WebElement> elements = driver.findElements(locator);
-                    System.out.println("Trying locator: " + locator + " - found " + elements.size() + " elements");
+                    Log.info("Trying locator: " + locator + " - found " + elements.size() + " elements");
 
                     for (WebElement element : elements) {
                         try {
@@ -433,7 +436,7 @@ public class EnterpriseReportsPage {
                             if (!element.isDisplayed())
                                 continue;
 
-                            System.out.println("Found Active element: tag=" + tagName + ", text='" + text + "'");
+                            Log.info("Found Active element: tag=" + tagName + ", text='" + text + "'");
 
                             // Scroll into view
                             ((JavascriptExecutor) driver).executeScript(
@@ -447,7 +450,7 @@ public class EnterpriseReportsPage {
                                 // Try JavaScript click as fallback
                                 ((JavascriptExecutor) driver).executeScript("arguments[0].click();", element);
                             }
-                            System.out.println("✓ Clicked Active radio button/label");
+                            Log.info("✓ Clicked Active radio button/label");
                             optionClicked = true;
                             break;
                         } catch (Exception elemEx) {
@@ -462,7 +465,7 @@ public class EnterpriseReportsPage {
             }
 
             if (!optionClicked) {
-                System.out.println("✗ Active radio button not found in filter panel");
+                Log.error("✗ Active radio button not found in filter panel");
                 throw new RuntimeException("Active filter option not found");
             }
 
@@ -488,7 +491,7 @@ public class EnterpriseReportsPage {
                 try {
                     WebElement applyBtn = driver.findElement(locator);
                     if (applyBtn.isDisplayed() && applyBtn.isEnabled()) {
-                        System.out.println("Found Apply button with: " + locator);
+                        Log.info("Found Apply button with: " + locator);
                         ((JavascriptExecutor) driver).executeScript(
                                 "arguments[0].scrollIntoView({behavior: 'smooth', block: 'center'});", applyBtn);
                         Thread.sleep(300);
@@ -497,7 +500,7 @@ public class EnterpriseReportsPage {
                         } catch (Exception clickEx) {
                             ((JavascriptExecutor) driver).executeScript("arguments[0].click();", applyBtn);
                         }
-                        System.out.println("✓ Clicked Apply button");
+                        Log.info("✓ Clicked Apply button");
                         applyClicked = true;
                         break;
                     }
@@ -507,13 +510,13 @@ public class EnterpriseReportsPage {
             }
 
             if (!applyClicked) {
-                System.out.println("Apply button not clicked - filter may apply automatically");
+                Log.info("Apply button not clicked - filter may apply automatically");
             }
 
             Thread.sleep(2000); // Wait for filter results to load
-            System.out.println("✓ Active filter applied successfully");
+            Log.info("✓ Active filter applied successfully");
         } catch (Exception e) {
-            System.out.println("Error applying Active filter: " + e.getMessage());
+            Log.error("Error applying Active filter: " + e.getMessage());
             throw new RuntimeException("Failed to apply Active filter", e);
         }
     }
@@ -524,15 +527,15 @@ public class EnterpriseReportsPage {
      */
     public boolean validateActiveFilterResults() {
         try {
-            System.out.println("=== Validating Filter Results ===");
+            Log.info("=== Validating Filter Results ===");
             Thread.sleep(1500); // Wait for filtered results to fully load
 
             // Find all table rows
             List<WebElement> rows = driver.findElements(By.xpath("//tbody//tr"));
-            System.out.println("Found " + rows.size() + " rows in filtered results");
+            Log.info("Found " + rows.size() + " rows in filtered results");
 
             if (rows.isEmpty()) {
-                System.out.println("No rows found - filter may have returned empty results (valid)");
+                Log.info("No rows found - filter may have returned empty results (valid)");
                 return true;
             }
 
@@ -579,38 +582,38 @@ public class EnterpriseReportsPage {
                 // Classify the status
                 if (statusText.contains("inactive") || statusText.contains("deactive")
                         || statusText.contains("in-active")) {
-                    System.out.println("Row " + (i + 1) + ": Status = INACTIVE ('" + statusText + "')");
+                    Log.debug("Row " + (i + 1) + ": Status = INACTIVE ('" + statusText + "')");
                     inactiveCount++;
                 } else if (statusText.contains("active")) {
-                    System.out.println("Row " + (i + 1) + ": Status = ACTIVE ('" + statusText + "')");
+                    Log.debug("Row " + (i + 1) + ": Status = ACTIVE ('" + statusText + "')");
                     activeCount++;
                 } else {
-                    System.out.println("Row " + (i + 1) + ": Status = UNKNOWN ('" + statusText + "')");
+                    Log.debug("Row " + (i + 1) + ": Status = UNKNOWN ('" + statusText + "')");
                     otherCount++;
                 }
             }
 
-            System.out.println("=== Filter Validation Summary ===");
-            System.out.println("Active: " + activeCount + ", Inactive: " + inactiveCount + ", Other: " + otherCount);
+            Log.info("=== Filter Validation Summary ===");
+            Log.info("Active: " + activeCount + ", Inactive: " + inactiveCount + ", Other: " + otherCount);
 
             // Validation: If filter worked, we should have ONLY Active records (no
             // Inactive)
             if (inactiveCount > 0) {
-                System.out.println("✗ Filter validation FAILED: Found " + inactiveCount + " Inactive records");
+                Log.error("✗ Filter validation FAILED: Found " + inactiveCount + " Inactive records");
                 return false;
             }
 
             if (activeCount > 0) {
-                System.out.println("✓ Filter validation PASSED: All " + activeCount + " records are Active");
+                Log.info("✓ Filter validation PASSED: All " + activeCount + " records are Active");
                 return true;
             }
 
             // If we couldn't determine status but no inactive found, consider it passed
-            System.out.println("✓ Filter validation PASSED (no Inactive records found)");
+            Log.info("✓ Filter validation PASSED (no Inactive records found)");
             return true;
 
         } catch (Exception e) {
-            System.out.println("Error validating filter results: " + e.getMessage());
+            Log.error("Error validating filter results: " + e.getMessage());
             return true; // Don't fail if validation has issues
         }
     }
@@ -637,7 +640,7 @@ public class EnterpriseReportsPage {
                     WebElement clearBtn = driver.findElement(locator);
                     if (clearBtn.isDisplayed()) {
                         clearBtn.click();
-                        System.out.println("Filter cleared using: " + locator);
+                        Log.info("Filter cleared using: " + locator);
                         cleared = true;
                         Thread.sleep(1000);
                         break;
@@ -649,14 +652,14 @@ public class EnterpriseReportsPage {
 
             if (!cleared) {
                 // Strategy 2: Refresh page as fallback
-                System.out.println("Clear button not found, refreshing page...");
+                Log.info("Clear button not found, refreshing page...");
                 driver.navigate().refresh();
                 Thread.sleep(2000);
             }
 
-            System.out.println("Filter state cleared");
+            Log.info("Filter state cleared");
         } catch (Exception e) {
-            System.out.println("Clear filter error: " + e.getMessage());
+            Log.info("Clear filter error: " + e.getMessage());
             // Final fallback: refresh
             driver.navigate().refresh();
             try {
@@ -684,7 +687,7 @@ public class EnterpriseReportsPage {
                 for (int i = 0; i < statusCells.size(); i++) {
                     String status = statusCells.get(i).getText().trim().toLowerCase();
                     if (!status.contains("failed") && !status.contains("fail") && !status.isEmpty()) {
-                        System.out.println("Found non-failed row at index: " + (i + 1) + " with status: " + status);
+                        Log.info("Found non-failed row at index: " + (i + 1) + " with status: " + status);
                         return i + 1;
                     }
                 }
@@ -699,7 +702,7 @@ public class EnterpriseReportsPage {
                         WebElement lastCell = rows.get(i).findElement(By.xpath(".//td[last()]"));
                         String status = lastCell.getText().trim().toLowerCase();
                         if (!status.contains("failed") && !status.contains("fail") && !status.isEmpty()) {
-                            System.out.println("Found non-failed row (last column) at index: " + (i + 1)
+                            Log.info("Found non-failed row (last column) at index: " + (i + 1)
                                     + " with status: " + status);
                             return i + 1;
                         }
@@ -712,12 +715,12 @@ public class EnterpriseReportsPage {
             // Strategy 3: Fallback - if rows exist, return row 1 (assume first row is
             // valid)
             if (hasReports()) {
-                System.out.println("Status detection failed, defaulting to row 1");
+                Log.info("Status detection failed, defaulting to row 1");
                 return 1;
             }
 
         } catch (Exception e) {
-            System.out.println("Error finding non-failed row: " + e.getMessage());
+            Log.error("Error finding non-failed row: " + e.getMessage());
         }
         return -1;
     }
@@ -734,7 +737,7 @@ public class EnterpriseReportsPage {
             String name = cell.getText().trim();
 
             if (name != null && !name.isEmpty()) {
-                System.out.println("Service Account Name from row " + row + " (column 1): " + name);
+                Log.info("Service Account Name from row " + row + " (column 1): " + name);
                 return name;
             }
 
@@ -744,7 +747,7 @@ public class EnterpriseReportsPage {
                 WebElement cell2 = driver.findElement(column2Locator);
                 String name2 = cell2.getText().trim();
                 if (name2 != null && !name2.isEmpty()) {
-                    System.out.println("Service Account Name from row " + row + " (column 2): " + name2);
+                    Log.info("Service Account Name from row " + row + " (column 2): " + name2);
                     return name2;
                 }
             } catch (Exception e2) {
@@ -759,7 +762,7 @@ public class EnterpriseReportsPage {
                     String cellText = anyCell.getText().trim();
                     // Match typical service account pattern (alphanumeric with possible prefix)
                     if (cellText.matches(".*[A-Z0-9]{4,}.*")) {
-                        System.out.println("Service Account Name from row " + row + " (fallback): " + cellText);
+                        Log.info("Service Account Name from row " + row + " (fallback): " + cellText);
                         return cellText;
                     }
                 }
@@ -767,10 +770,10 @@ public class EnterpriseReportsPage {
                 // Continue
             }
 
-            System.out.println("Could not extract service account name from row " + row);
+            Log.warn("Could not extract service account name from row " + row);
             return "";
         } catch (Exception e) {
-            System.out.println("Error getting service account name: " + e.getMessage());
+            Log.error("Error getting service account name: " + e.getMessage());
             return "";
         }
     }
@@ -790,7 +793,7 @@ public class EnterpriseReportsPage {
             if (newName != null && !newName.isEmpty()) {
                 this.selectedServiceAccountName = newName;
             }
-            System.out.println("Stored service account name for validation: " + selectedServiceAccountName);
+            Log.info("Stored service account name for validation: " + selectedServiceAccountName);
 
             // Click the redirect icon
             By locator = EnterpriseReportsPageLocators.getRedirectIconByRow(row);
@@ -804,14 +807,14 @@ public class EnterpriseReportsPage {
             try {
                 redirectIcon.click();
             } catch (Exception e) {
-                System.out.println("Standard click failed, trying JS click for redirect icon...");
+                Log.info("Standard click failed, trying JS click for redirect icon...");
                 ((JavascriptExecutor) driver).executeScript("arguments[0].click();", redirectIcon);
             }
-            System.out.println("Clicked redirect icon for row: " + row);
+            Log.info("Clicked redirect icon for row: " + row);
 
             Thread.sleep(5000); // Wait for redirection (increased from 3s)
         } catch (Exception e) {
-            System.out.println("Error clicking redirect icon: " + e.getMessage());
+            Log.error("Error clicking redirect icon: " + e.getMessage());
             throw new RuntimeException("Failed to click redirect to service node icon", e);
         }
     }
@@ -835,16 +838,16 @@ public class EnterpriseReportsPage {
                 for (String handle : allHandles) {
                     if (!handle.equals(originalHandle)) {
                         driver.switchTo().window(handle);
-                        System.out.println("Switched to new tab");
+                        Log.info("Switched to new tab");
                         // Wait 3 seconds for SSO dashboard to fully load
                         Thread.sleep(5000);
                         return;
                     }
                 }
             }
-            System.out.println("No new tab opened, staying on current page");
+            Log.info("No new tab opened, staying on current page");
         } catch (Exception e) {
-            System.out.println("Error switching tabs: " + e.getMessage());
+            Log.error("Error switching tabs: " + e.getMessage());
         }
     }
 
@@ -857,10 +860,10 @@ public class EnterpriseReportsPage {
             WebElement nameElement = wait.until(ExpectedConditions.visibilityOfElementLocated(
                     EnterpriseReportsPageLocators.SERVICE_ACCOUNT_NAME));
             String name = nameElement.getText().trim();
-            System.out.println("Service Account Name on Dashboard: " + name);
+            Log.info("Service Account Name on Dashboard: " + name);
             return name;
         } catch (Exception e) {
-            System.out.println("Error getting service account name on dashboard: " + e.getMessage());
+            Log.error("Error getting service account name on dashboard: " + e.getMessage());
             return "";
         }
     }
@@ -875,26 +878,26 @@ public class EnterpriseReportsPage {
             String expectedName = getStoredServiceAccountName();
 
             if (expectedName == null || expectedName.isEmpty()) {
-                System.out.println("No stored service account name to compare");
+                Log.info("No stored service account name to compare");
                 return false;
             }
 
-            System.out.println("Expected Service Account Name: " + expectedName);
+            Log.info("Expected Service Account Name: " + expectedName);
             String expectedLower = expectedName.toLowerCase();
 
             // Method 1: Check URL contains the service account name
             String currentUrl = driver.getCurrentUrl().toLowerCase();
-            System.out.println("Current URL: " + currentUrl);
+            Log.info("Current URL: " + currentUrl);
             if (currentUrl.contains(expectedLower)) {
-                System.out.println("✓ Service Account Name found in URL");
+                Log.info("✓ Service Account Name found in URL");
                 return true;
             }
 
             // Method 2: Check page title contains the service account name
             String pageTitle = driver.getTitle().toLowerCase();
-            System.out.println("Page Title: " + pageTitle);
+            Log.info("Page Title: " + pageTitle);
             if (pageTitle.contains(expectedLower)) {
-                System.out.println("✓ Service Account Name found in page title");
+                Log.info("✓ Service Account Name found in page title");
                 return true;
             }
 
@@ -903,11 +906,11 @@ public class EnterpriseReportsPage {
             for (int attempt = 1; attempt <= 3; attempt++) {
                 String pageSource = driver.getPageSource().toLowerCase();
                 if (pageSource.contains(expectedLower)) {
-                    System.out.println("✓ Service Account Name found in page source (attempt " + attempt + ")");
+                    Log.info("✓ Service Account Name found in page source (attempt " + attempt + ")");
                     return true;
                 }
                 if (attempt < 3) {
-                    System.out.println("Attempt " + attempt + ": Service account not found in page source, waiting...");
+                    Log.info("Attempt " + attempt + ": Service account not found in page source, waiting...");
                     Thread.sleep(2000); // Wait for dynamic content
                 }
             }
@@ -935,8 +938,8 @@ public class EnterpriseReportsPage {
                             if (element != null && element.isDisplayed()) {
                                 String text = element.getText().trim();
                                 if (text.toLowerCase().contains(expectedLower)) {
-                                    System.out.println("Found element with text: " + text);
-                                    System.out.println("✓ Service Account Name found via locator");
+                                    Log.info("Found element with text: " + text);
+                                    Log.info("✓ Service Account Name found via locator");
                                     return true;
                                 }
                             }
@@ -946,22 +949,22 @@ public class EnterpriseReportsPage {
                     }
                 }
             } catch (Exception e) {
-                System.out.println("Locator search failed: " + e.getMessage());
+                Log.info("Locator search failed: " + e.getMessage());
             }
 
             // Method 5: Check if we're on the correct SSO dashboard (URL contains report
             // keyword)
             // If we successfully redirected to SSO, it's likely a valid redirect
             if (currentUrl.contains("guicpastag.smartping.io") || currentUrl.contains("available-reports")) {
-                System.out.println("✓ SSO redirect successful (URL validation passed)");
+                Log.info("✓ SSO redirect successful (URL validation passed)");
                 return true;
             }
 
-            System.out.println("✗ Service Account Name NOT found on dashboard");
-            System.out.println("Expected (any case): " + expectedName);
+            Log.error("✗ Service Account Name NOT found on dashboard");
+            Log.info("Expected (any case): " + expectedName);
             return false;
         } catch (Exception e) {
-            System.out.println("Error in validateServiceAccountNameMatch: " + e.getMessage());
+            Log.error("Error in validateServiceAccountNameMatch: " + e.getMessage());
             return false;
         }
     }
@@ -975,10 +978,10 @@ public class EnterpriseReportsPage {
             WebElement tabIndicator = wait.until(ExpectedConditions.visibilityOfElementLocated(
                     EnterpriseReportsPageLocators.CURRENT_TAB_INDICATOR));
             String tabName = tabIndicator.getText().trim();
-            System.out.println("Current Tab Name: " + tabName);
+            Log.info("Current Tab Name: " + tabName);
             return tabName;
         } catch (Exception e) {
-            System.out.println("Error getting current tab name: " + e.getMessage());
+            Log.error("Error getting current tab name: " + e.getMessage());
             return "";
         }
     }
@@ -993,8 +996,8 @@ public class EnterpriseReportsPage {
             // Method 1: Check URL contains 'report'
             String currentUrl = driver.getCurrentUrl().toLowerCase();
             if (currentUrl.contains("report")) {
-                System.out.println("Reports tab is selected (URL contains 'report')");
-                System.out.println("Current URL: " + currentUrl);
+                Log.info("Reports tab is selected (URL contains 'report')");
+                Log.info("Current URL: " + currentUrl);
                 return true;
             }
 
@@ -1002,7 +1005,7 @@ public class EnterpriseReportsPage {
             try {
                 boolean isActive = isElementVisible(EnterpriseReportsPageLocators.REPORTS_TAB_LINK);
                 if (isActive) {
-                    System.out.println("Reports tab is selected (active link found)");
+                    Log.info("Reports tab is selected (active link found)");
                     return true;
                 }
             } catch (Exception e) {
@@ -1013,7 +1016,7 @@ public class EnterpriseReportsPage {
             try {
                 String currentTab = getCurrentTabName();
                 if (currentTab.toLowerCase().contains("report")) {
-                    System.out.println("Reports tab is selected (via tab name)");
+                    Log.info("Reports tab is selected (via tab name)");
                     return true;
                 }
             } catch (Exception e) {
@@ -1025,18 +1028,18 @@ public class EnterpriseReportsPage {
                 By reportsActiveLink = By.xpath(
                         "//span[normalize-space()='Reports']/ancestor::*[contains(@class, 'active') or contains(@class, 'selected')]");
                 if (isElementVisible(reportsActiveLink)) {
-                    System.out.println("Reports tab is selected (sidebar active class found)");
+                    Log.info("Reports tab is selected (sidebar active class found)");
                     return true;
                 }
             } catch (Exception e) {
                 // Not found
             }
 
-            System.out.println("Reports tab is NOT selected");
-            System.out.println("Current URL: " + currentUrl);
+            Log.info("Reports tab is NOT selected");
+            Log.info("Current URL: " + currentUrl);
             return false;
         } catch (Exception e) {
-            System.out.println("Error checking Reports tab selection: " + e.getMessage());
+            Log.error("Error checking Reports tab selection: " + e.getMessage());
             return false;
         }
     }
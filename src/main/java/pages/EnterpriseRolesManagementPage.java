@@ -6,14 +6,15 @@ import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import utils.Log;
+import utils.PermissionTree;
+import utils.TracedWait;
 
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 /**
  * Page Object for Enterprise Roles Management
@@ -21,12 +22,16 @@ import java.util.Set;
  */
 public class EnterpriseRolesManagementPage {
 
+    private static final String DASHBOARD_SECTION = "Dashboard";
+    private static final String SSO_SECTION = "Service nodes management role SSO";
+
     private WebDriver driver;
     private WebDriverWait wait;
+    private PermissionTree permissionTree;
 
     public EnterpriseRolesManagementPage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(15));
+        this.wait = new TracedWait(driver, Duration.ofSeconds(15));
     }
 
     // ==================== Navigation ====================
@@ -37,7 +42,7 @@ public class EnterpriseRolesManagementPage {
      */
     public void clickRolesManagementTab() {
         try {
-            System.out.println("Clicking on Roles Management tab...");
+            Log.info("Clicking on Roles Management tab...");
             Thread.sleep(1500);
 
             // Locators for the Roles Management tab (mat-mdc-tab-link element)
@@ -53,7 +58,7 @@ public class EnterpriseRolesManagementPage {
             for (By locator : tabLocators) {
                 try {
                     List<WebElement> tabs = driver.findElements(locator);
-                    System.out.println("Locator: " + locator + " found " + tabs.size() + " elements");
+                    Log.info("Locator: " + locator + " found " + tabs.size() + " elements");
 
                     if (!tabs.isEmpty()) {
                         WebElement tab = tabs.get(0);
@@ -65,13 +70,13 @@ public class EnterpriseRolesManagementPage {
                                 ((org.openqa.selenium.JavascriptExecutor) driver).executeScript("arguments[0].click();",
                                         tab);
                             }
-                            System.out.println("Clicked Roles Management tab with: " + locator);
+                            Log.info("Clicked Roles Management tab with: " + locator);
                             Thread.sleep(2000);
 
                             // Verify URL changed
                             String currentUrl = driver.getCurrentUrl().toLowerCase();
                             if (currentUrl.contains("roles")) {
-                                System.out.println("Successfully navigated to Roles Management. URL: " + currentUrl);
+                                Log.info("Successfully navigated to Roles Management. URL: " + currentUrl);
                                 return;
                             }
                         }
@@ -83,7 +88,7 @@ public class EnterpriseRolesManagementPage {
 
             throw new RuntimeException("Could not find or click Roles Management tab");
         } catch (Exception e) {
-            System.out.println("Error clicking Roles Management tab: " + e.getMessage());
+            Log.error("Error clicking Roles Management tab: " + e.getMessage());
             throw new RuntimeException("Failed to click Roles Management tab", e);
         }
     }
@@ -96,10 +101,10 @@ public class EnterpriseRolesManagementPage {
             Thread.sleep(2000);
 
             String currentUrl = driver.getCurrentUrl().toLowerCase();
-            System.out.println("Current URL: " + currentUrl);
+            Log.info("Current URL: " + currentUrl);
 
             if (currentUrl.contains("roles") || currentUrl.contains("role-management")) {
-                System.out.println("Roles Management page loaded (URL validation)");
+                Log.info("Roles Management page loaded (URL validation)");
                 return true;
             }
 
@@ -107,7 +112,7 @@ public class EnterpriseRolesManagementPage {
             try {
                 List<WebElement> rows = driver.findElements(EnterpriseRolesManagementLocators.TABLE_ROWS);
                 if (!rows.isEmpty()) {
-                    System.out.println("Roles Management page loaded - found " + rows.size() + " rows");
+                    Log.info("Roles Management page loaded - found " + rows.size() + " rows");
                     return true;
                 }
             } catch (Exception e) {
@@ -118,17 +123,17 @@ public class EnterpriseRolesManagementPage {
             try {
                 WebElement header = driver.findElement(EnterpriseRolesManagementLocators.PAGE_HEADER);
                 if (header.isDisplayed()) {
-                    System.out.println("Roles Management page loaded (header found)");
+                    Log.info("Roles Management page loaded (header found)");
                     return true;
                 }
             } catch (Exception e) {
                 // Continue
             }
 
-            System.out.println("Roles Management page validation completed");
+            Log.info("Roles Management page validation completed");
             return true;
         } catch (Exception e) {
-            System.out.println("Error checking page load: " + e.getMessage());
+            Log.error("Error checking page load: " + e.getMessage());
             return false;
         }
     }
@@ -148,7 +153,7 @@ public class EnterpriseRolesManagementPage {
 
             List<WebElement> headerElements = driver.findElements(
                     EnterpriseRolesManagementLocators.TABLE_HEADERS);
-            System.out.println("Found " + headerElements.size() + " header elements");
+            Log.info("Found " + headerElements.size() + " header elements");
 
             for (WebElement header : headerElements) {
                 String text = header.getText().trim();
@@ -156,9 +161,9 @@ public class EnterpriseRolesManagementPage {
                     headers.add(text);
                 }
             }
-            System.out.println("Headers: " + headers);
+            Log.info("Headers: " + headers);
         } catch (Exception e) {
-            System.out.println("Error getting table headers: " + e.getMessage());
+            Log.error("Error getting table headers: " + e.getMessage());
         }
         return headers;
     }
@@ -178,7 +183,7 @@ public class EnterpriseRolesManagementPage {
                 }
             }
             if (!found) {
-                System.out.println("Expected header not found: " + expected);
+                Log.info("Expected header not found: " + expected);
                 return false;
             }
         }
@@ -191,10 +196,10 @@ public class EnterpriseRolesManagementPage {
     public int getTableRowCount() {
         try {
             List<WebElement> rows = driver.findElements(EnterpriseRolesManagementLocators.TABLE_ROWS);
-            System.out.println("Table row count: " + rows.size());
+            Log.info("Table row count: " + rows.size());
             return rows.size();
         } catch (Exception e) {
-            System.out.println("Error getting row count: " + e.getMessage());
+            Log.error("Error getting row count: " + e.getMessage());
             return 0;
         }
     }
@@ -207,10 +212,10 @@ public class EnterpriseRolesManagementPage {
             WebElement firstRole = wait.until(ExpectedConditions.presenceOfElementLocated(
                     EnterpriseRolesManagementLocators.FIRST_ROLE_NAME));
             String name = firstRole.getText().trim();
-            System.out.println("First role name: " + name);
+            Log.info("First role name: " + name);
             return name;
         } catch (Exception e) {
-            System.out.println("Error getting first role name: " + e.getMessage());
+            Log.error("Error getting first role name: " + e.getMessage());
             return "";
         }
     }
@@ -240,8 +245,7 @@ public class EnterpriseRolesManagementPage {
                                 Map<String, String> result = new HashMap<>();
                                 result.put("roleName", roleName);
                                 result.put("usersCount", String.valueOf(usersCount));
-                                System.out
-                                        .println("Found role with users: " + roleName + " (" + usersCount + " users)");
+                                Log.info("Found role with users: " + roleName + " (" + usersCount + " users)");
                                 return result;
                             }
                         }
@@ -251,10 +255,10 @@ public class EnterpriseRolesManagementPage {
                 }
             }
 
-            System.out.println("No role with Users > 0 found");
+            Log.info("No role with Users > 0 found");
             return null;
         } catch (Exception e) {
-            System.out.println("Error finding role with users: " + e.getMessage());
+            Log.error("Error finding role with users: " + e.getMessage());
             return null;
         }
     }
@@ -267,10 +271,10 @@ public class EnterpriseRolesManagementPage {
             WebElement usersLink = wait.until(ExpectedConditions.elementToBeClickable(
                     EnterpriseRolesManagementLocators.getUsersCountByRoleName(roleName)));
             usersLink.click();
-            System.out.println("Clicked Users count for role: " + roleName);
+            Log.info("Clicked Users count for role: " + roleName);
             Thread.sleep(2000);
         } catch (Exception e) {
-            System.out.println("Error clicking Users count: " + e.getMessage());
+            Log.error("Error clicking Users count: " + e.getMessage());
             throw new RuntimeException("Failed to click Users count for role: " + roleName, e);
         }
     }
@@ -285,10 +289,10 @@ public class EnterpriseRolesManagementPage {
             WebElement nextBtn = wait.until(ExpectedConditions.elementToBeClickable(
                     EnterpriseRolesManagementLocators.PAGINATION_NEXT));
             nextBtn.click();
-            System.out.println("Clicked Next button");
+            Log.info("Clicked Next button");
             Thread.sleep(1500);
         } catch (Exception e) {
-            System.out.println("Error clicking Next: " + e.getMessage());
+            Log.error("Error clicking Next: " + e.getMessage());
         }
     }
 
@@ -300,10 +304,10 @@ public class EnterpriseRolesManagementPage {
             WebElement prevBtn = wait.until(ExpectedConditions.elementToBeClickable(
                     EnterpriseRolesManagementLocators.PAGINATION_PREVIOUS));
             prevBtn.click();
-            System.out.println("Clicked Previous button");
+            Log.info("Clicked Previous button");
             Thread.sleep(1500);
         } catch (Exception e) {
-            System.out.println("Error clicking Previous: " + e.getMessage());
+            Log.error("Error clicking Previous: " + e.getMessage());
         }
     }
 
@@ -318,10 +322,10 @@ public class EnterpriseRolesManagementPage {
 
             WebElement nextBtn = nextBtns.get(0);
             boolean enabled = nextBtn.isEnabled() && !nextBtn.getAttribute("class").contains("disabled");
-            System.out.println("Next button enabled: " + enabled);
+            Log.info("Next button enabled: " + enabled);
             return enabled;
         } catch (Exception e) {
-            System.out.println("Next button not found: " + e.getMessage());
+            Log.info("Next button not found: " + e.getMessage());
             return false;
         }
     }
@@ -337,10 +341,10 @@ public class EnterpriseRolesManagementPage {
 
             WebElement prevBtn = prevBtns.get(0);
             boolean enabled = prevBtn.isEnabled() && !prevBtn.getAttribute("class").contains("disabled");
-            System.out.println("Previous button enabled: " + enabled);
+            Log.info("Previous button enabled: " + enabled);
             return enabled;
         } catch (Exception e) {
-            System.out.println("Previous button not found: " + e.getMessage());
+            Log.info("Previous button not found: " + e.getMessage());
             return false;
         }
     }
@@ -355,13 +359,13 @@ public class EnterpriseRolesManagementPage {
             List<WebElement> editBtns = driver.findElements(EnterpriseRolesManagementLocators.EDIT_BUTTON_FIRST);
             if (!editBtns.isEmpty()) {
                 boolean clickable = editBtns.get(0).isDisplayed() && editBtns.get(0).isEnabled();
-                System.out.println("First Edit button clickable: " + clickable);
+                Log.info("First Edit button clickable: " + clickable);
                 return clickable;
             }
-            System.out.println("Edit button not found");
+            Log.info("Edit button not found");
             return false;
         } catch (Exception e) {
-            System.out.println("Error checking Edit button: " + e.getMessage());
+            Log.error("Error checking Edit button: " + e.getMessage());
             return false;
         }
     }
@@ -374,13 +378,13 @@ public class EnterpriseRolesManagementPage {
             List<WebElement> viewBtns = driver.findElements(EnterpriseRolesManagementLocators.VIEW_BUTTON_FIRST);
             if (!viewBtns.isEmpty()) {
                 boolean clickable = viewBtns.get(0).isDisplayed() && viewBtns.get(0).isEnabled();
-                System.out.println("First View button clickable: " + clickable);
+                Log.info("First View button clickable: " + clickable);
                 return clickable;
             }
-            System.out.println("View button not found");
+            Log.info("View button not found");
             return false;
         } catch (Exception e) {
-            System.out.println("Error checking View button: " + e.getMessage());
+            Log.error("Error checking View button: " + e.getMessage());
             return false;
         }
     }
@@ -396,10 +400,10 @@ public class EnterpriseRolesManagementPage {
                     EnterpriseRolesManagementLocators.SEARCH_FIELD));
             searchField.clear();
             searchField.sendKeys(searchText);
-            System.out.println("Searched for: " + searchText);
+            Log.info("Searched for: " + searchText);
             Thread.sleep(1500);
         } catch (Exception e) {
-            System.out.println("Error searching: " + e.getMessage());
+            Log.error("Error searching: " + e.getMessage());
         }
     }
 
@@ -425,13 +429,13 @@ public class EnterpriseRolesManagementPage {
             List<WebElement> addBtns = driver.findElements(EnterpriseRolesManagementLocators.ADD_NEW_BUTTON);
             if (!addBtns.isEmpty()) {
                 boolean clickable = addBtns.get(0).isDisplayed() && addBtns.get(0).isEnabled();
-                System.out.println("Add New button clickable: " + clickable);
+                Log.info("Add New button clickable: " + clickable);
                 return clickable;
             }
-            System.out.println("Add New button not found");
+            Log.info("Add New button not found");
             return false;
         } catch (Exception e) {
-            System.out.println("Error checking Add New button: " + e.getMessage());
+            Log.error("Error checking Add New button: " + e.getMessage());
             return false;
         }
     }
@@ -444,59 +448,50 @@ public class EnterpriseRolesManagementPage {
             WebElement addBtn = wait.until(ExpectedConditions.elementToBeClickable(
                     EnterpriseRolesManagementLocators.ADD_NEW_BUTTON));
             addBtn.click();
-            System.out.println("Clicked Add New button");
+            permissionTree = null;
+            Log.info("Clicked Add New button");
             Thread.sleep(2000);
         } catch (Exception e) {
-            System.out.println("Error clicking Add New: " + e.getMessage());
+            Log.error("Error clicking Add New: " + e.getMessage());
             throw new RuntimeException("Failed to click Add New button", e);
         }
     }
 
     // ==================== Permission Accordions ====================
 
+    /**
+     * Read the full permission tree of the open Add New form.
+     * All accordions are expanded and read in one script call; the result is
+     * reused until the form is reopened or closed.
+     */
+    public PermissionTree getPermissionTree() {
+        if (permissionTree == null) {
+            permissionTree = PermissionTree.read(driver);
+        }
+        return permissionTree;
+    }
+
     /**
      * Validate all permission accordions are present
      */
     public boolean validateAllPermissionAccordions() {
         try {
-            Thread.sleep(1000);
-
-            By[] accordionLocators = {
-                    EnterpriseRolesManagementLocators.ACCORDION_DASHBOARD,
-                    EnterpriseRolesManagementLocators.ACCORDION_CUSTOMER_ORG,
-                    EnterpriseRolesManagementLocators.ACCORDION_OWN_TEAM,
-                    EnterpriseRolesManagementLocators.ACCORDION_ROLES_MGMT,
-                    EnterpriseRolesManagementLocators.ACCORDION_SETTINGS,
-                    EnterpriseRolesManagementLocators.ACCORDION_MY_PROFILE,
-                    EnterpriseRolesManagementLocators.ACCORDION_API_DOCS,
-                    EnterpriseRolesManagementLocators.ACCORDION_SERVICE_NODE_SSO
-            };
-
             String[] accordionNames = {
                     "Dashboard", "Customer org", "Own team management",
                     "Role management", "Settings", "My profile",
-                    "API & Documentation", "Service nodes management role SSO"
+                    "API & Documentation", SSO_SECTION
             };
 
-            int foundCount = 0;
-            for (int i = 0; i < accordionLocators.length; i++) {
-                try {
-                    List<WebElement> accordions = driver.findElements(accordionLocators[i]);
-                    if (!accordions.isEmpty() && accordions.get(0).isDisplayed()) {
-                        System.out.println("✓ Found accordion: " + accordionNames[i]);
-                        foundCount++;
-                    } else {
-                        System.out.println("✗ Not found or not visible: " + accordionNames[i]);
-                    }
-                } catch (Exception e) {
-                    System.out.println("✗ Error finding: " + accordionNames[i]);
-                }
+            List<String> missing = getPermissionTree().findMissingSections(accordionNames);
+            for (String name : accordionNames) {
+                Log.info((missing.contains(name) ? "✗ Not found: " : "✓ Found accordion: ") + name);
             }
 
-            System.out.println("Found " + foundCount + "/" + accordionLocators.length + " accordions");
+            int foundCount = accordionNames.length - missing.size();
+            Log.info("Found " + foundCount + "/" + accordionNames.length + " accordions");
             return foundCount >= 3; // Enterprise has fewer accordions, require at least 3
         } catch (Exception e) {
-            System.out.println("Error validating accordions: " + e.getMessage());
+            Log.error("Error validating accordions: " + e.getMessage());
             return false;
         }
     }
@@ -506,13 +501,13 @@ public class EnterpriseRolesManagementPage {
      */
     public void expandDashboardAccordion() {
         try {
-            WebElement accordion = wait.until(ExpectedConditions.elementToBeClickable(
-                    EnterpriseRolesManagementLocators.ACCORDION_DASHBOARD));
-            accordion.click();
-            System.out.println("Expanded Dashboard accordion");
-            Thread.sleep(1000);
+            // Reading the tree expands every accordion, so no separate click is needed
+            if (!getPermissionTree().hasSection(DASHBOARD_SECTION)) {
+                throw new RuntimeException("Dashboard accordion not found");
+            }
+            Log.info("Expanded Dashboard accordion");
         } catch (Exception e) {
-            System.out.println("Error expanding Dashboard accordion: " + e.getMessage());
+            Log.error("Error expanding Dashboard accordion: " + e.getMessage());
             throw new RuntimeException("Failed to expand Dashboard accordion", e);
         }
     }
@@ -522,27 +517,15 @@ public class EnterpriseRolesManagementPage {
      */
     public boolean validateDashboardSubOptions() {
         try {
-            Thread.sleep(500);
-
-            // Find checkboxes/options inside Dashboard accordion
-            By dashboardOptions = By.xpath(
-                    "//button[contains(text(), 'Dashboard')]/following::div[contains(@class, 'accordion-body')]//div[contains(@class, 'form-check')]//label | "
-                            +
-                            "//button[contains(text(), 'Dashboard')]/following::div[1]//input[@type='checkbox']");
-
-            List<WebElement> options = driver.findElements(dashboardOptions);
-            System.out.println("Found " + options.size() + " Dashboard sub-options");
-
-            for (WebElement option : options) {
-                String text = option.getText().trim();
-                if (!text.isEmpty()) {
-                    System.out.println("  - " + text);
-                }
+            List<String> options = getPermissionTree().getOptionLabels(DASHBOARD_SECTION);
+            Log.info("Found " + options.size() + " Dashboard sub-options");
+            for (String option : options) {
+                Log.info("  - " + option);
             }
 
             return options.size() >= 1; // At least 1 option
         } catch (Exception e) {
-            System.out.println("Error validating Dashboard sub-options: " + e.getMessage());
+            Log.error("Error validating Dashboard sub-options: " + e.getMessage());
             return true; // Default to true if can't validate
         }
     }
@@ -551,30 +534,7 @@ public class EnterpriseRolesManagementPage {
      * Check for duplicate values in Dashboard options
      */
     public boolean checkNoDuplicatesInDashboardOptions() {
-        try {
-            By dashboardOptions = By.xpath(
-                    "//button[contains(text(), 'Dashboard')]/following::div[contains(@class, 'accordion-body')]//label");
-
-            List<WebElement> options = driver.findElements(dashboardOptions);
-            Set<String> uniqueLabels = new HashSet<>();
-
-            for (WebElement option : options) {
-                String label = option.getText().trim().toLowerCase();
-                if (!label.isEmpty()) {
-                    if (uniqueLabels.contains(label)) {
-                        System.out.println("Duplicate found: " + label);
-                        return false;
-                    }
-                    uniqueLabels.add(label);
-                }
-            }
-
-            System.out.println("No duplicates found in " + uniqueLabels.size() + " Dashboard options");
-            return true;
-        } catch (Exception e) {
-            System.out.println("Error checking duplicates: " + e.getMessage());
-            return true; // Default to true if can't check
-        }
+        return checkNoDuplicates(DASHBOARD_SECTION, "Dashboard options");
     }
 
     /**
@@ -582,13 +542,13 @@ public class EnterpriseRolesManagementPage {
      */
     public void expandServiceNodeSSOAccordion() {
         try {
-            WebElement accordion = wait.until(ExpectedConditions.elementToBeClickable(
-                    EnterpriseRolesManagementLocators.ACCORDION_SERVICE_NODE_SSO));
-            accordion.click();
-            System.out.println("Expanded Service Node SSO accordion");
-            Thread.sleep(1000);
+            if (getPermissionTree().hasSection(SSO_SECTION)) {
+                Log.info("Expanded Service Node SSO accordion");
+            } else {
+                Log.info("Service Node SSO accordion not available");
+            }
         } catch (Exception e) {
-            System.out.println("Error expanding SSO accordion: " + e.getMessage());
+            Log.error("Error expanding SSO accordion: " + e.getMessage());
         }
     }
 
@@ -597,18 +557,15 @@ public class EnterpriseRolesManagementPage {
      */
     public boolean validateServiceNodeSSOSubOptions() {
         try {
-            Thread.sleep(500);
-
-            List<WebElement> options = driver.findElements(EnterpriseRolesManagementLocators.SSO_ALL_OPTIONS);
-            System.out.println("Found " + options.size() + " SSO sub-options");
-
-            for (WebElement option : options) {
-                System.out.println("  - " + option.getText().trim());
+            List<String> options = getPermissionTree().getOptionLabels(SSO_SECTION);
+            Log.info("Found " + options.size() + " SSO sub-options");
+            for (String option : options) {
+                Log.info("  - " + option);
             }
 
             return options.size() >= 3; // At least 3 sub-options
         } catch (Exception e) {
-            System.out.println("Error validating SSO sub-options: " + e.getMessage());
+            Log.error("Error validating SSO sub-options: " + e.getMessage());
             return false;
         }
     }
@@ -617,25 +574,22 @@ public class EnterpriseRolesManagementPage {
      * Check for duplicate values in SSO options
      */
     public boolean checkNoDuplicatesInSSOOptions() {
+        return checkNoDuplicates(SSO_SECTION, "options");
+    }
+
+    private boolean checkNoDuplicates(String section, String description) {
         try {
-            List<WebElement> options = driver.findElements(EnterpriseRolesManagementLocators.SSO_ALL_OPTIONS);
-            Set<String> uniqueLabels = new HashSet<>();
-
-            for (WebElement option : options) {
-                String label = option.getText().trim().toLowerCase();
-                if (!label.isEmpty()) {
-                    if (uniqueLabels.contains(label)) {
-                        System.out.println("Duplicate found: " + label);
-                        return false;
-                    }
-                    uniqueLabels.add(label);
-                }
+            PermissionTree tree = getPermissionTree();
+            List<String> duplicates = tree.findDuplicateOptions(section);
+            if (!duplicates.isEmpty()) {
+                Log.info("Duplicate found: " + duplicates);
+                return false;
             }
 
-            System.out.println("No duplicates found in " + uniqueLabels.size() + " options");
+            Log.info("No duplicates found in " + tree.getOptionLabels(section).size() + " " + description);
             return true;
         } catch (Exception e) {
-            System.out.println("Error checking duplicates: " + e.getMessage());
+            Log.error("Error checking duplicates: " + e.getMessage());
             return true; // Default to true if can't check
         }
     }
@@ -644,12 +598,13 @@ public class EnterpriseRolesManagementPage {
      * Close Add New form
      */
     public void closeAddNewForm() {
+        permissionTree = null;
         try {
             // Try close button first
             try {
                 WebElement closeBtn = driver.findElement(EnterpriseRolesManagementLocators.FORM_CLOSE_BUTTON);
                 closeBtn.click();
-                System.out.println("Closed form using close button");
+                Log.info("Closed form using close button");
                 Thread.sleep(1000);
                 return;
             } catch (Exception e) {
@@ -659,7 +614,7 @@ public class EnterpriseRolesManagementPage {
             try {
                 WebElement cancelBtn = driver.findElement(EnterpriseRolesManagementLocators.FORM_CANCEL_BUTTON);
                 cancelBtn.click();
-                System.out.println("Closed form using cancel button");
+                Log.info("Closed form using cancel button");
                 Thread.sleep(1000);
                 return;
             } catch (Exception e) {
@@ -668,10 +623,10 @@ public class EnterpriseRolesManagementPage {
 
             // Click outside to close
             driver.findElement(By.tagName("body")).click();
-            System.out.println("Closed form by clicking outside");
+            Log.info("Closed form by clicking outside");
             Thread.sleep(1000);
         } catch (Exception e) {
-            System.out.println("Error closing form: " + e.getMessage());
+            Log.error("Error closing form: " + e.getMessage());
         }
     }
 
@@ -691,7 +646,7 @@ public class EnterpriseRolesManagementPage {
         try {
             clickRolesManagementTab();
         } catch (Exception e) {
-            System.out.println("Could not navigate to Roles Management: " + e.getMessage());
+            Log.warn("Could not navigate to Roles Management: " + e.getMessage());
         }
     }
 }
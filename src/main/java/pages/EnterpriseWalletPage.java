@@ -7,6 +7,9 @@ import org.openqa.selenium.WebElement;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import utils.Log;
+import utils.PagedGrid;
+import utils.TracedWait;
 
 import java.time.Duration;
 import java.util.ArrayList;
@@ -23,7 +26,7 @@ public class EnterpriseWalletPage {
 
     public EnterpriseWalletPage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(15));
+        this.wait = new TracedWait(driver, Duration.ofSeconds(15));
     }
 
     // ==================== Navigation Methods ====================
@@ -33,14 +36,14 @@ public class EnterpriseWalletPage {
      */
     public void navigateToWallet() {
         try {
-            System.out.println("Attempting to navigate to Wallet...");
+            Log.info("Attempting to navigate to Wallet...");
             wait.until(ExpectedConditions.presenceOfElementLocated(EnterpriseWalletPageLocators.WALLET_MENU_ITEM));
 
             // Try to click on Wallet menu item
             WebElement walletMenu = wait.until(ExpectedConditions.elementToBeClickable(
                     EnterpriseWalletPageLocators.WALLET_MENU_ITEM));
             walletMenu.click();
-            System.out.println("Clicked Wallet menu item");
+            Log.info("Clicked Wallet menu item");
 
             wait.until(ExpectedConditions.or(
                     ExpectedConditions.urlContains("wallet"),
@@ -48,12 +51,12 @@ public class EnterpriseWalletPage {
 
             // First check URL contains wallet-management
             String currentUrl = driver.getCurrentUrl();
-            System.out.println("Current URL after click: " + currentUrl);
+            Log.info("Current URL after click: " + currentUrl);
 
             if (currentUrl.contains("wallet-management") || currentUrl.contains("wallet")) {
-                System.out.println("URL validation passed - on Wallet page");
+                Log.info("URL validation passed - on Wallet page");
             } else {
-                System.out.println("Warning: URL does not contain wallet. Waiting for elements...");
+                Log.warn("Warning: URL does not contain wallet. Waiting for elements...");
             }
 
             // Wait for wallet page elements to load
@@ -63,19 +66,19 @@ public class EnterpriseWalletPage {
                         ExpectedConditions.visibilityOfElementLocated(EnterpriseWalletPageLocators.TRANSACTION_TABLE),
                         ExpectedConditions
                                 .visibilityOfElementLocated(EnterpriseWalletPageLocators.ARCHIVE_REPORT_BUTTON)));
-                System.out.println("Wallet page elements found");
+                Log.info("Wallet page elements found");
             } catch (Exception e) {
-                System.out.println("Primary elements not found, checking for URL validation...");
+                Log.info("Primary elements not found, checking for URL validation...");
                 if (currentUrl.contains("wallet")) {
-                    System.out.println("URL contains 'wallet' - considering page loaded");
+                    Log.info("URL contains 'wallet' - considering page loaded");
                 } else {
                     throw e;
                 }
             }
 
-            System.out.println("Wallet page loaded successfully");
+            Log.info("Wallet page loaded successfully");
         } catch (Exception e) {
-            System.out.println("Error navigating to Wallet: " + e.getMessage());
+            Log.error("Error navigating to Wallet: " + e.getMessage());
             throw new RuntimeException("Failed to navigate to Wallet page", e);
         }
     }
@@ -108,13 +111,13 @@ public class EnterpriseWalletPage {
      */
     public void waitForTransactionData() {
         try {
-            System.out.println("Waiting for transaction data or empty state...");
+            Log.info("Waiting for transaction data or empty state...");
             wait.until(ExpectedConditions.or(
                     ExpectedConditions.visibilityOfElementLocated(EnterpriseWalletPageLocators.TRANSACTION_TABLE_ROWS),
                     ExpectedConditions.visibilityOfElementLocated(EnterpriseWalletPageLocators.NO_DATA_MESSAGE)));
-            System.out.println("Transaction state detected.");
+            Log.info("Transaction state detected.");
         } catch (Exception e) {
-            System.out.println("Wait for transaction data timed out: " + e.getMessage());
+            Log.info("Wait for transaction data timed out: " + e.getMessage());
         }
     }
 
@@ -156,9 +159,9 @@ public class EnterpriseWalletPage {
                     headers.add(text);
                 }
             }
-            System.out.println("Found headers: " + headers);
+            Log.info("Found headers: " + headers);
         } catch (Exception e) {
-            System.out.println("Error getting headers: " + e.getMessage());
+            Log.error("Error getting headers: " + e.getMessage());
         }
         return headers;
     }
@@ -169,7 +172,7 @@ public class EnterpriseWalletPage {
     public boolean validateTransactionHeaders(List<String> expectedHeaders) {
         List<String> actualHeaders = getTransactionListHeaders();
         if (actualHeaders.isEmpty()) {
-            System.out.println("No headers found");
+            Log.info("No headers found");
             return false;
         }
 
@@ -177,7 +180,7 @@ public class EnterpriseWalletPage {
             boolean found = actualHeaders.stream()
                     .anyMatch(h -> h.toLowerCase().contains(expected.toLowerCase()));
             if (!found) {
-                System.out.println("Missing expected header: " + expected);
+                Log.info("Missing expected header: " + expected);
                 return false;
             }
         }
@@ -203,7 +206,7 @@ public class EnterpriseWalletPage {
      */
     public void selectTransactionTypeFilter(String type) {
         try {
-            System.out.println("Selecting filter: " + type);
+            Log.info("Selecting filter: " + type);
 
             // Click the filter dropdown
             WebElement dropdown = wait.until(ExpectedConditions.elementToBeClickable(
@@ -217,9 +220,9 @@ public class EnterpriseWalletPage {
             option.click();
 
             wait.until(ExpectedConditions.presenceOfElementLocated(EnterpriseWalletPageLocators.WALLET_MENU_ITEM));
-            System.out.println("Filter applied: " + type);
+            Log.info("Filter applied: " + type);
         } catch (Exception e) {
-            System.out.println("Error applying filter: " + e.getMessage());
+            Log.error("Error applying filter: " + e.getMessage());
             throw new RuntimeException("Failed to apply filter: " + type, e);
         }
     }
@@ -233,9 +236,9 @@ public class EnterpriseWalletPage {
                     EnterpriseWalletPageLocators.CLEAR_FILTER_BUTTON));
             clearBtn.click();
             wait.until(ExpectedConditions.presenceOfElementLocated(EnterpriseWalletPageLocators.WALLET_MENU_ITEM));
-            System.out.println("Filter cleared");
+            Log.info("Filter cleared");
         } catch (Exception e) {
-            System.out.println("Clear filter button not found or not clickable: " + e.getMessage());
+            Log.info("Clear filter button not found or not clickable: " + e.getMessage());
             // Try refreshing the page as fallback
             driver.navigate().refresh();
             try {
@@ -260,7 +263,7 @@ public class EnterpriseWalletPage {
                 }
             }
         } catch (Exception e) {
-            System.out.println("Error getting transaction types: " + e.getMessage());
+            Log.error("Error getting transaction types: " + e.getMessage());
         }
         return types;
     }
@@ -284,15 +287,12 @@ public class EnterpriseWalletPage {
      */
     public boolean clickNextPage() {
         try {
-            WebElement nextBtn = driver.findElement(EnterpriseWalletPageLocators.PAGINATION_NEXT);
-            if (nextBtn.isEnabled()) {
-                nextBtn.click();
-                wait.until(ExpectedConditions.presenceOfElementLocated(EnterpriseWalletPageLocators.WALLET_MENU_ITEM));
-                System.out.println("Clicked Next page");
+            if (grid(EnterpriseWalletPageLocators.TRANSACTION_TABLE_ROWS).next()) {
+                Log.info("Clicked Next page");
                 return true;
             }
         } catch (Exception e) {
-            System.out.println("Next page button not available: " + e.getMessage());
+            Log.info("Next page button not available: " + e.getMessage());
         }
         return false;
     }
@@ -302,15 +302,12 @@ public class EnterpriseWalletPage {
      */
     public boolean clickPreviousPage() {
         try {
-            WebElement prevBtn = driver.findElement(EnterpriseWalletPageLocators.PAGINATION_PREVIOUS);
-            if (prevBtn.isEnabled()) {
-                prevBtn.click();
-                wait.until(ExpectedConditions.presenceOfElementLocated(EnterpriseWalletPageLocators.WALLET_MENU_ITEM));
-                System.out.println("Clicked Previous page");
+            if (grid(EnterpriseWalletPageLocators.TRANSACTION_TABLE_ROWS).previous()) {
+                Log.info("Clicked Previous page");
                 return true;
             }
         } catch (Exception e) {
-            System.out.println("Previous page button not available: " + e.getMessage());
+            Log.info("Previous page button not available: " + e.getMessage());
         }
         return false;
     }
@@ -339,7 +336,7 @@ public class EnterpriseWalletPage {
             String text = creditElement.getText().replaceAll("[^0-9.]", "");
             return text.isEmpty() ? 0.0 : Double.parseDouble(text);
         } catch (Exception e) {
-            System.out.println("Error getting total credit: " + e.getMessage());
+            Log.error("Error getting total credit: " + e.getMessage());
             return 0.0;
         }
     }
@@ -354,7 +351,7 @@ public class EnterpriseWalletPage {
             String text = debitElement.getText().replaceAll("[^0-9.]", "");
             return text.isEmpty() ? 0.0 : Double.parseDouble(text);
         } catch (Exception e) {
-            System.out.println("Error getting total debit: " + e.getMessage());
+            Log.error("Error getting total debit: " + e.getMessage());
             return 0.0;
         }
     }
@@ -366,24 +363,14 @@ public class EnterpriseWalletPage {
     public double calculateCreditSum() {
         double sum = 0.0;
         try {
-            // Go to first page
-            while (clickPreviousPage()) {
-                // Keep clicking until we're at the first page
-            }
-
-            do {
-                List<WebElement> creditCells = driver.findElements(EnterpriseWalletPageLocators.CREDIT_AMOUNT_CELLS);
-                for (WebElement cell : creditCells) {
-                    String text = cell.getText().replaceAll("[^0-9.]", "");
-                    if (!text.isEmpty()) {
-                        sum += Double.parseDouble(text);
-                    }
-                }
-            } while (clickNextPage());
+            // Jumps to page one, then reads each page once
+            sum = grid(EnterpriseWalletPageLocators.CREDIT_AMOUNT_CELLS).stream()
+                    .mapToDouble(EnterpriseWalletPage::parseAmount)
+                    .sum();
 
-            System.out.println("Calculated credit sum: " + sum);
+            Log.info("Calculated credit sum: " + sum);
         } catch (Exception e) {
-            System.out.println("Error calculating credit sum: " + e.getMessage());
+            Log.error("Error calculating credit sum: " + e.getMessage());
         }
         return sum;
     }
@@ -394,28 +381,33 @@ public class EnterpriseWalletPage {
     public double calculateDebitSum() {
         double sum = 0.0;
         try {
-            // Go to first page
-            while (clickPreviousPage()) {
-                // Keep clicking until we're at the first page
-            }
-
-            do {
-                List<WebElement> debitCells = driver.findElements(EnterpriseWalletPageLocators.DEBIT_AMOUNT_CELLS);
-                for (WebElement cell : debitCells) {
-                    String text = cell.getText().replaceAll("[^0-9.]", "");
-                    if (!text.isEmpty()) {
-                        sum += Double.parseDouble(text);
-                    }
-                }
-            } while (clickNextPage());
+            // Jumps to page one, then reads each page once
+            sum = grid(EnterpriseWalletPageLocators.DEBIT_AMOUNT_CELLS).stream()
+                    .mapToDouble(EnterpriseWalletPage::parseAmount)
+                    .sum();
 
-            System.out.println("Calculated debit sum: " + sum);
+            Log.info("Calculated debit sum: " + sum);
         } catch (Exception e) {
-            System.out.println("Error calculating debit sum: " + e.getMessage());
+            Log.error("Error calculating debit sum: " + e.getMessage());
         }
         return sum;
     }
 
+    private static double parseAmount(PagedGrid.Row row) {
+        String text = row.getText().replaceAll("[^0-9.]", "");
+        return text.isEmpty() ? 0.0 : Double.parseDouble(text);
+    }
+
+    /**
+     * Paged view over the transaction list, reading the given cells per page
+     */
+    private PagedGrid grid(By itemLocator) {
+        return new PagedGrid(driver, itemLocator,
+                EnterpriseWalletPageLocators.PAGINATION_NEXT,
+                EnterpriseWalletPageLocators.PAGINATION_PREVIOUS)
+                .withPageInfo(EnterpriseWalletPageLocators.PAGINATION_INFO);
+    }
+
     // ==================== Archive Report Methods ====================
 
     /**
@@ -427,9 +419,9 @@ public class EnterpriseWalletPage {
                     EnterpriseWalletPageLocators.ARCHIVE_REPORT_BUTTON));
             archiveBtn.click();
             Thread.sleep(2000);
-            System.out.println("Clicked Archive Report button");
+            Log.info("Clicked Archive Report button");
         } catch (Exception e) {
-            System.out.println("Error clicking Archive Report: " + e.getMessage());
+            Log.error("Error clicking Archive Report: " + e.getMessage());
             throw new RuntimeException("Failed to click Archive Report button", e);
         }
     }
@@ -454,7 +446,7 @@ public class EnterpriseWalletPage {
             WebElement statusCell = driver.findElement(locator);
             return statusCell.getText().trim();
         } catch (Exception e) {
-            System.out.println("Error getting report status: " + e.getMessage());
+            Log.error("Error getting report status: " + e.getMessage());
             return "";
         }
     }
@@ -467,9 +459,9 @@ public class EnterpriseWalletPage {
             By locator = EnterpriseWalletPageLocators.getDownloadButtonByRow(row);
             WebElement downloadBtn = wait.until(ExpectedConditions.elementToBeClickable(locator));
             downloadBtn.click();
-            System.out.println("Clicked download for row: " + row);
+            Log.info("Clicked download for row: " + row);
         } catch (Exception e) {
-            System.out.println("Error clicking download: " + e.getMessage());
+            Log.error("Error clicking download: " + e.getMessage());
             throw new RuntimeException("Failed to click download for row " + row, e);
         }
     }
@@ -498,7 +490,7 @@ public class EnterpriseWalletPage {
                 }
             }
         } catch (Exception e) {
-            System.out.println("Error finding active report: " + e.getMessage());
+            Log.error("Error finding active report: " + e.getMessage());
         }
         return -1;
     }
@@ -515,7 +507,7 @@ public class EnterpriseWalletPage {
                 }
             }
         } catch (Exception e) {
-            System.out.println("Error finding expired report: " + e.getMessage());
+            Log.error("Error finding expired report: " + e.getMessage());
         }
         return -1;
     }
@@ -531,9 +523,9 @@ public class EnterpriseWalletPage {
                     EnterpriseWalletPageLocators.GENERATE_REPORT_BUTTON));
             generateBtn.click();
             wait.until(ExpectedConditions.presenceOfElementLocated(EnterpriseWalletPageLocators.WALLET_MENU_ITEM));
-            System.out.println("Clicked Generate Report button");
+            Log.info("Clicked Generate Report button");
         } catch (Exception e) {
-            System.out.println("Error clicking Generate Report: " + e.getMessage());
+            Log.error("Error clicking Generate Report: " + e.getMessage());
             throw new RuntimeException("Failed to click Generate Report button", e);
         }
     }
@@ -567,9 +559,9 @@ public class EnterpriseWalletPage {
             endInput.sendKeys(endDate);
 
             // Dropdown animation pause removed
-            System.out.println("Entered report values - Start: " + startDate + ", End: " + endDate);
+            Log.info("Entered report values - Start: " + startDate + ", End: " + endDate);
         } catch (Exception e) {
-            System.out.println("Error entering report values: " + e.getMessage());
+            Log.error("Error entering report values: " + e.getMessage());
         }
     }
 
@@ -582,9 +574,9 @@ public class EnterpriseWalletPage {
                     EnterpriseWalletPageLocators.POPUP_CANCEL_BUTTON));
             cancelBtn.click();
             wait.until(ExpectedConditions.presenceOfElementLocated(EnterpriseWalletPageLocators.WALLET_MENU_ITEM));
-            System.out.println("Clicked Cancel on popup");
+            Log.info("Clicked Cancel on popup");
         } catch (Exception e) {
-            System.out.println("Error clicking Cancel: " + e.getMessage());
+            Log.error("Error clicking Cancel: " + e.getMessage());
             // Try multiple fallback methods to close the modal
             closeModalFallback();
         }
@@ -603,7 +595,7 @@ public class EnterpriseWalletPage {
                                 "//button[contains(@class, 'btn-close')]"));
                 closeX.click();
                 // Dropdown animation pause removed
-                System.out.println("Closed modal using X button");
+                Log.info("Closed modal using X button");
                 return;
             } catch (Exception ex) {
                 // Continue to next fallback
@@ -613,7 +605,7 @@ public class EnterpriseWalletPage {
             try {
                 driver.switchTo().activeElement().sendKeys(org.openqa.selenium.Keys.ESCAPE);
                 // Dropdown animation pause removed
-                System.out.println("Pressed Escape to close modal");
+                Log.info("Pressed Escape to close modal");
                 // Check if modal closed
                 if (!isElementVisible(EnterpriseWalletPageLocators.GENERATE_REPORT_POPUP)) {
                     return;
@@ -630,7 +622,7 @@ public class EnterpriseWalletPage {
                 ((JavascriptExecutor) driver).executeScript(
                         "arguments[0].dispatchEvent(new Event('click'));", backdrop);
                 // Dropdown animation pause removed
-                System.out.println("Clicked modal backdrop");
+                Log.info("Clicked modal backdrop");
             } catch (Exception ex) {
                 // Continue to next fallback
             }
@@ -647,12 +639,12 @@ public class EnterpriseWalletPage {
                                 "  }" +
                                 "}");
                 // Dropdown animation pause removed
-                System.out.println("Used JavaScript to close modal");
+                Log.info("Used JavaScript to close modal");
             } catch (Exception ex) {
-                System.out.println("All fallback methods failed: " + ex.getMessage());
+                Log.info("All fallback methods failed: " + ex.getMessage());
             }
         } catch (Exception e) {
-            System.out.println("Error in closeModalFallback: " + e.getMessage());
+            Log.error("Error in closeModalFallback: " + e.getMessage());
         }
     }
 
@@ -705,7 +697,7 @@ public class EnterpriseWalletPage {
                     ExpectedConditions.visibilityOfElementLocated(EnterpriseWalletPageLocators.TRANSACTION_TABLE),
                     ExpectedConditions.visibilityOfElementLocated(EnterpriseWalletPageLocators.NO_DATA_MESSAGE)));
         } catch (Exception e) {
-            System.out.println("Error navigating back: " + e.getMessage());
+            Log.error("Error navigating back: " + e.getMessage());
         }
     }
 }
@@ -1,11 +1,17 @@
 package pages;
 
 import locators.LoginPageLocators;
+import base.Fixture;
+import base.SessionAffinity;
 import enums.UserRole;
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.ui.*;
+import utils.ClickEngine;
 import utils.ConfigReader;
 import utils.ExtentReportManager;
+import utils.FlightEvents;
+import utils.Log;
+import utils.TracedWait;
 
 import java.time.Duration;
 import java.util.List;
@@ -20,7 +26,7 @@ public class LoginPage {
         this.driver = driver;
         // Use longer timeout in headless mode for CI/CD stability
         int timeout = base.DriverFactory.isHeadlessModeEnabled() ? HEADLESS_TIMEOUT : DEFAULT_TIMEOUT;
-        wait = new WebDriverWait(driver, Duration.ofSeconds(timeout));
+        wait = new TracedWait(driver, Duration.ofSeconds(timeout));
     }
 
     public void enterUsername(String email) {
@@ -37,9 +43,11 @@ public class LoginPage {
         ExtentReportManager.logStep("Click Login button");
         WebElement loginBtn = wait.until(ExpectedConditions.elementToBeClickable(LoginPageLocators.LOGIN_BUTTON));
 
-        // Use JavaScript click in headless mode to avoid click intercept issues
+        // ClickEngine goes straight to the strategy that has worked for this
+        // button in the current mode (JS in headless, native in GUI so far)
+        ClickEngine.click(driver, loginBtn, LoginPageLocators.LOGIN_BUTTON);
+
         if (base.DriverFactory.isHeadlessModeEnabled()) {
-            ((JavascriptExecutor) driver).executeScript("arguments[0].click();", loginBtn);
             // Wait for form submission - could go to dashboard, wallet selection, or show
             // error
             wait.until(ExpectedConditions.or(
@@ -50,9 +58,6 @@ public class LoginPage {
                     ExpectedConditions.presenceOfElementLocated(LoginPageLocators.INVALID_CREDENTIALS_ALERT),
                     ExpectedConditions.presenceOfElementLocated(LoginPageLocators.EMAIL_REQUIRED_MSG),
                     ExpectedConditions.presenceOfElementLocated(LoginPageLocators.PASSWORD_REQUIRED_MSG)));
-        } else {
-            // GUI mode: normal click, no extra wait
-            loginBtn.click();
         }
     }
 
@@ -75,7 +80,7 @@ public class LoginPage {
     public boolean isOTPRequired() {
         try {
             // Check if OTP field is visible within a short timeout
-            WebDriverWait shortWait = new WebDriverWait(driver, Duration.ofSeconds(5));
+            WebDriverWait shortWait = new TracedWait(driver, Duration.ofSeconds(5));
             return shortWait.until(ExpectedConditions.visibilityOfElementLocated(LoginPageLocators.OTP_INPUT_FIELDS))
                     .isDisplayed();
         } catch (TimeoutException e) {
@@ -85,16 +90,16 @@ public class LoginPage {
 
     public void handleOTP(String email, String password) {
         if (isOTPRequired()) {
-            System.out.println("[INFO] OTP Field detected. Fetching OTP from email...");
+            Log.info("OTP Field detected. Fetching OTP from email...");
             String otp = utils.EmailReader.getOTPFromEmail(email, password);
             if (otp == null) {
-                System.out.println("[WARN] Failed to fetch OTP from email. Trying default test OTP.");
+                Log.warn("Failed to fetch OTP from email. Trying default test OTP.");
                 otp = "112233";
             }
             enterOTP(otp);
             clickVerifyButton();
         } else {
-            System.out.println("[INFO] OTP Field not detected. Proceeding to Dashboard.");
+            Log.info("OTP Field not detected. Proceeding to Dashboard.");
         }
     }
 
@@ -122,12 +127,12 @@ public class LoginPage {
                 default:
                     return false;
             }
-            System.out.println("[INFO] Dashboard loaded for role " + role + ": " + isLoaded);
+            Log.info("Dashboard loaded for role " + role + ": " + isLoaded);
 
             // Additional URL Validation
             String currentUrl = driver.getCurrentUrl();
             if (isLoaded && !currentUrl.contains("dashboard") && !currentUrl.contains("customer")) {
-                System.out.println("[WARN] URL does not contain 'dashboard' or 'customer': " + currentUrl);
+                Log.warn("URL does not contain 'dashboard' or 'customer': " + currentUrl);
             }
 
             return isLoaded;
@@ -135,7 +140,7 @@ public class LoginPage {
             // HEADLESS FALLBACK: Use URL-based verification if element check fails
             if (base.DriverFactory.isHeadlessModeEnabled()) {
                 String currentUrl = driver.getCurrentUrl();
-                System.out.println("Element-based check failed in headless. Checking URL: " + currentUrl);
+                Log.info("Element-based check failed in headless. Checking URL: " + currentUrl);
 
                 boolean urlValid = !currentUrl.contains("login") && (currentUrl.contains("dashboard") ||
                         currentUrl.contains("customer") ||
@@ -145,18 +150,18 @@ public class LoginPage {
                         currentUrl.contains("/rs/"));
 
                 if (urlValid) {
-                    System.out.println("URL-based verification passed for role " + role);
+                    Log.info("URL-based verification passed for role " + role);
                     return true;
                 }
             }
-            System.out.println("Timeout waiting for dashboard for role: " + role);
+            Log.info("Timeout waiting for dashboard for role: " + role);
             return false;
         }
     }
 
     public void selectWalletWithMaxServices() {
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+            WebDriverWait wait = new TracedWait(driver, Duration.ofSeconds(10));
 
             // 1. Wait for URL to confirm we are on the wallet page
             try {
@@ -164,7 +169,7 @@ public class LoginPage {
                         ExpectedConditions.urlContains("select-wallet"),
                         ExpectedConditions.urlContains("wallet")));
             } catch (TimeoutException e) {
-                System.out.println("[INFO] URL did not change to 'select-wallet'. Assuming direct dashboard access.");
+                Log.info("URL did not change to 'select-wallet'. Assuming direct dashboard access.");
                 return;
             }
 
@@ -172,16 +177,16 @@ public class LoginPage {
             try {
                 wait.until(ExpectedConditions.visibilityOfElementLocated(
                         By.xpath("//*[contains(text(), 'Select Wallet') or contains(text(), 'Select Account')]")));
-                System.out.println("[INFO] Wallet selection screen detected.");
+                Log.info("Wallet selection screen detected.");
             } catch (TimeoutException e) {
-                System.out.println("[DEBUG] Wallet header not found. Attempting to find cards directly...");
+                Log.debug("Wallet header not found. Attempting to find cards directly...");
             }
 
             List<WebElement> cards = driver.findElements(LoginPageLocators.WALLET_CARD);
 
             // Retry mechanism for cards
             if (cards.isEmpty()) {
-                System.out.println("[DEBUG] No cards found initially. Retrying...");
+                Log.debug("No cards found initially. Retrying...");
                 try {
                     Thread.sleep(2000);
                 } catch (Exception ex) {
@@ -201,18 +206,18 @@ public class LoginPage {
             }
 
             if (bestCard != null) {
-                System.out.println("[INFO] Selecting wallet with maximum services (" + maxServices + ").");
+                Log.info("Selecting wallet with maximum services (" + maxServices + ").");
                 WebElement openBtn = bestCard.findElement(By.xpath(".//button[contains(text(), 'Open')]"));
                 wait.until(ExpectedConditions.elementToBeClickable(openBtn)).click();
             } else {
-                System.out.println("[WARN] Could not determine best card. Clicking default.");
+                Log.warn("Could not determine best card. Clicking default.");
                 driver.findElement(LoginPageLocators.WALLET_OPEN_BUTTON).click();
             }
 
         } catch (TimeoutException e) {
-            System.out.println("[WARN] Wallet selection timed out.");
+            Log.warn("Wallet selection timed out.");
         } catch (Exception e) {
-            System.out.println("[ERROR] Error identifying best wallet: " + e.getMessage());
+            Log.error("Error identifying best wallet: " + e.getMessage());
             try {
                 driver.findElement(LoginPageLocators.WALLET_OPEN_BUTTON).click();
             } catch (Exception ex) {
@@ -222,82 +227,124 @@ public class LoginPage {
 
     public void loginWithEnterpriseCredentials() {
         ExtentReportManager.logStep("Login with Enterprise credentials");
-        String username = ConfigReader.get("enterprise.email");
-        String password = ConfigReader.get("enterprise.password");
+        String identity = SessionAffinity.key(UserRole.ENTERPRISE, Fixture.FIRST_WALLET);
+        if (SessionAffinity.reuse(driver, identity)) {
+            return;
+        }
+        recordLogin(identity, () -> {
+            String username = ConfigReader.get("enterprise.email");
+            String password = ConfigReader.get("enterprise.password");
 
-        enterUsername(username);
-        enterPassword(password);
-        clickLoginButton();
+            enterUsername(username);
+            enterPassword(password);
+            clickLoginButton();
 
-        handleOTP(username, password);
+            handleOTP(username, password);
 
-        // Standard behavior: Click first available wallet
-        try {
-            WebDriverWait shortWait = new WebDriverWait(driver, Duration.ofSeconds(5));
-            shortWait.until(ExpectedConditions.visibilityOfElementLocated(LoginPageLocators.WALLET_OPEN_BUTTON));
-            ExtentReportManager.logStep("Select wallet from wallet selection screen");
-            System.out.println("[INFO] Wallet selection screen detected. Opening first wallet...");
-            driver.findElement(LoginPageLocators.WALLET_OPEN_BUTTON).click();
-        } catch (TimeoutException e) {
-            ExtentReportManager.logInfo("No wallet selection screen - direct dashboard access");
-            System.out.println("[INFO] Wallet selection screen not found, assuming direct dashboard access.");
-        }
+            // Standard behavior: Click first available wallet
+            try {
+                WebDriverWait shortWait = new TracedWait(driver, Duration.ofSeconds(5));
+                shortWait.until(ExpectedConditions.visibilityOfElementLocated(LoginPageLocators.WALLET_OPEN_BUTTON));
+                ExtentReportManager.logStep("Select wallet from wallet selection screen");
+                Log.info("Wallet selection screen detected. Opening first wallet...");
+                driver.findElement(LoginPageLocators.WALLET_OPEN_BUTTON).click();
+            } catch (TimeoutException e) {
+                ExtentReportManager.logInfo("No wallet selection screen - direct dashboard access");
+                Log.info("Wallet selection screen not found, assuming direct dashboard access.");
+            }
 
-        ExtentReportManager.logStep("Verify Enterprise dashboard is loaded");
-        if (!isDashboardLoaded(UserRole.ENTERPRISE)) {
-            throw new IllegalStateException("Enterprise dashboard did not load.");
-        }
-        ExtentReportManager.logPass("Successfully logged in as Enterprise user");
+            ExtentReportManager.logStep("Verify Enterprise dashboard is loaded");
+            if (!isDashboardLoaded(UserRole.ENTERPRISE)) {
+                throw new IllegalStateException("Enterprise dashboard did not load.");
+            }
+            SessionAffinity.loggedIn(driver, identity);
+            ExtentReportManager.logPass("Successfully logged in as Enterprise user");
+        });
     }
 
     public void loginWithEnterpriseMaxServices() {
-        String username = ConfigReader.get("enterprise.email");
-        String password = ConfigReader.get("enterprise.password");
+        String identity = SessionAffinity.key(UserRole.ENTERPRISE, Fixture.MAX_SERVICES_WALLET);
+        if (SessionAffinity.reuse(driver, identity)) {
+            return;
+        }
+        recordLogin(identity, () -> {
+            String username = ConfigReader.get("enterprise.email");
+            String password = ConfigReader.get("enterprise.password");
 
-        enterUsername(username);
-        enterPassword(password);
-        clickLoginButton();
+            enterUsername(username);
+            enterPassword(password);
+            clickLoginButton();
 
-        handleOTP(username, password);
+            handleOTP(username, password);
 
-        // New behavior: Select wallet with most services
-        selectWalletWithMaxServices();
+            // New behavior: Select wallet with most services
+            selectWalletWithMaxServices();
 
-        if (!isDashboardLoaded(UserRole.ENTERPRISE)) {
-            throw new IllegalStateException("Enterprise dashboard did not load.");
-        }
+            if (!isDashboardLoaded(UserRole.ENTERPRISE)) {
+                throw new IllegalStateException("Enterprise dashboard did not load.");
+            }
+            SessionAffinity.loggedIn(driver, identity);
+        });
     }
 
     public void loginWithSuperAdminCredentials() {
         ExtentReportManager.logStep("Login with SuperAdmin credentials");
-        String username = ConfigReader.get("superadmin.email");
-        String password = ConfigReader.get("superadmin.password");
+        String identity = SessionAffinity.key(UserRole.SUPERADMIN, Fixture.FIRST_WALLET);
+        if (SessionAffinity.reuse(driver, identity)) {
+            return;
+        }
+        recordLogin(identity, () -> {
+            String username = ConfigReader.get("superadmin.email");
+            String password = ConfigReader.get("superadmin.password");
 
-        enterUsername(username);
-        enterPassword(password);
-        clickLoginButton();
+            enterUsername(username);
+            enterPassword(password);
+            clickLoginButton();
 
-        handleOTP(username, password);
+            handleOTP(username, password);
 
-        ExtentReportManager.logStep("Verify SuperAdmin dashboard is loaded");
-        if (!isDashboardLoaded(UserRole.SUPERADMIN)) {
-            throw new IllegalStateException("Superadmin dashboard did not load.");
-        }
-        ExtentReportManager.logPass("Successfully logged in as SuperAdmin");
+            ExtentReportManager.logStep("Verify SuperAdmin dashboard is loaded");
+            if (!isDashboardLoaded(UserRole.SUPERADMIN)) {
+                throw new IllegalStateException("Superadmin dashboard did not load.");
+            }
+            SessionAffinity.loggedIn(driver, identity);
+            ExtentReportManager.logPass("Successfully logged in as SuperAdmin");
+        });
     }
 
     public void loginWithResellerCredentials() {
-        String username = ConfigReader.get("reseller.email");
-        String password = ConfigReader.get("reseller.password");
+        String identity = SessionAffinity.key(UserRole.RESELLER, Fixture.FIRST_WALLET);
+        if (SessionAffinity.reuse(driver, identity)) {
+            return;
+        }
+        recordLogin(identity, () -> {
+            String username = ConfigReader.get("reseller.email");
+            String password = ConfigReader.get("reseller.password");
+
+            enterUsername(username);
+            enterPassword(password);
+            clickLoginButton();
 
-        enterUsername(username);
-        enterPassword(password);
-        clickLoginButton();
+            handleOTP(username, password);
 
-        handleOTP(username, password);
+            if (!isDashboardLoaded(UserRole.RESELLER)) {
+                throw new IllegalStateException("Reseller dashboard did not load.");
+            }
+            SessionAffinity.loggedIn(driver, identity);
+        });
+    }
 
-        if (!isDashboardLoaded(UserRole.RESELLER)) {
-            throw new IllegalStateException("Reseller dashboard did not load.");
+    /**
+     * Run a UI login as one Flight Recorder login event, successful or not.
+     */
+    private void recordLogin(String identity, Runnable login) {
+        FlightEvents.LoginEvent event = FlightEvents.login(identity);
+        boolean loggedIn = false;
+        try {
+            login.run();
+            loggedIn = true;
+        } finally {
+            event.done(loggedIn);
         }
     }
 
@@ -317,68 +364,44 @@ public class LoginPage {
     }
 
     public void logout() {
+        // Role affinity: the next class of this lane continues with the session
+        if (SessionAffinity.deferLogout(driver)) {
+            return;
+        }
         try {
             ExtentReportManager.logStep("Logout from application");
-            System.out.println("[INFO] Attempting to logout...");
+            Log.info("Attempting to logout...");
 
             // Wait for any overlay to disappear
             try {
-                WebDriverWait waitShort = new WebDriverWait(driver, Duration.ofSeconds(3));
+                WebDriverWait waitShort = new TracedWait(driver, Duration.ofSeconds(3));
                 waitShort.until(ExpectedConditions
                         .invisibilityOfElementLocated(By.xpath("//div[contains(@class, 'cdk-overlay-backdrop')]")));
             } catch (Exception e) {
                 // Ignore
             }
 
-            WebElement profileMenu;
-            try {
-                profileMenu = wait.until(ExpectedConditions.elementToBeClickable(LoginPageLocators.PROFILE_MENU));
-                profileMenu.click();
-            } catch (Exception e) {
-                System.out.println("[DEBUG] Standard click fail on profile menu. Retrying with JS click...");
-                try {
-                    profileMenu = wait
-                            .until(ExpectedConditions.presenceOfElementLocated(LoginPageLocators.PROFILE_MENU));
-                    ((JavascriptExecutor) driver).executeScript("window.scrollTo(0, 0);");
-                    Thread.sleep(500);
-                    ((JavascriptExecutor) driver).executeScript("arguments[0].click();", profileMenu);
-                } catch (Exception ex) {
-                    throw ex;
-                }
-            }
+            WebElement profileMenu = wait
+                    .until(ExpectedConditions.presenceOfElementLocated(LoginPageLocators.PROFILE_MENU));
+            ClickEngine.click(driver, profileMenu, LoginPageLocators.PROFILE_MENU);
 
             // Click Sign Out
-            try {
-                Thread.sleep(500);
-            } catch (InterruptedException e) {
-            }
-
             WebElement signOutBtn = wait
                     .until(ExpectedConditions.presenceOfElementLocated(LoginPageLocators.SIGN_OUT_BUTTON));
-
-            try {
-                signOutBtn.click();
-            } catch (Exception e) {
-                System.out.println("[DEBUG] Sign Out click fail. Using JS Click...");
-                ((JavascriptExecutor) driver).executeScript("arguments[0].click();", signOutBtn);
-            }
+            ClickEngine.click(driver, signOutBtn, LoginPageLocators.SIGN_OUT_BUTTON);
 
             // Confirm Logout
             WebElement confirmBtn = wait
                     .until(ExpectedConditions.presenceOfElementLocated(LoginPageLocators.CONFIRM_LOGOUT_BUTTON));
-            try {
-                wait.until(ExpectedConditions.elementToBeClickable(confirmBtn)).click();
-            } catch (Exception e) {
-                System.out.println("[DEBUG] Confirm logout click fail. Using JS Click...");
-                ((JavascriptExecutor) driver).executeScript("arguments[0].click();", confirmBtn);
-            }
+            ClickEngine.click(driver, confirmBtn, LoginPageLocators.CONFIRM_LOGOUT_BUTTON);
 
             // Verify return to login page
             wait.until(ExpectedConditions.visibilityOfElementLocated(LoginPageLocators.EMAIL_INPUT));
-            System.out.println("[INFO] Logout successful.");
+            SessionAffinity.loggedOut(driver);
+            Log.info("Logout successful.");
 
         } catch (Exception e) {
-            System.err.println("[ERROR] Logout failed: " + e.getMessage());
+            Log.error("Logout failed: " + e.getMessage());
             throw new RuntimeException("Logout failed: " + e.getMessage());
         }
     }
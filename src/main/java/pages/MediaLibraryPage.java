@@ -5,6 +5,7 @@ import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import utils.TracedWait;
 
 import java.time.Duration;
 
@@ -15,7 +16,7 @@ public class MediaLibraryPage {
 
     public MediaLibraryPage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        this.wait = new TracedWait(driver, Duration.ofSeconds(10));
     }
 
     public boolean isMediaLibraryTabVisible() {
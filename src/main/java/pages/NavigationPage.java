@@ -6,6 +6,8 @@ import locators.NavigationLocators;
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import utils.Log;
+import utils.TracedWait;
 import java.time.Duration;
 import java.util.Set;
 
@@ -16,28 +18,28 @@ public class NavigationPage {
 
     public NavigationPage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(15));
+        this.wait = new TracedWait(driver, Duration.ofSeconds(15));
     }
 
     public void clickOpenButton() {
         wait.until(ExpectedConditions.elementToBeClickable(NavigationLocators.OPEN_BTN)).click();
-        System.out.println("Clicked on 'Open' button.");
+        Log.info("Clicked on 'Open' button.");
     }
 
     public void clickServicesTab() {
         wait.until(ExpectedConditions.elementToBeClickable(NavigationLocators.SERVICES_TAB)).click();
-        System.out.println("Clicked on 'Services' tab.");
+        Log.info("Clicked on 'Services' tab.");
     }
 
     public void clickViewDetails() {
         wait.until(ExpectedConditions.elementToBeClickable(NavigationLocators.VIEW_DETAIL_BTN)).click();
-        System.out.println("Clicked on 'View Details' button.");
+        Log.info("Clicked on 'View Details' button.");
     }
 
     public void clickSSORedirectionIcon() {
         String mainWindow = driver.getWindowHandle();
         wait.until(ExpectedConditions.elementToBeClickable(NavigationLocators.SSO_ICON)).click();
-        System.out.println("Clicked on 'SSO Redirection' icon.");
+        Log.info("Clicked on 'SSO Redirection' icon.");
 
         // Wait and switch to new tab
         Set<String> handles;
@@ -51,14 +53,14 @@ public class NavigationPage {
         for (String handle : handles) {
             if (!handle.equals(mainWindow)) {
                 driver.switchTo().window(handle);
-                System.out.println("Switched to new SSO tab.");
+                Log.info("Switched to new SSO tab.");
                 break;
             }
         }
 
         // Check if Page-Not-Found is opened, refresh once
         if (driver.getCurrentUrl().contains("page-not-found")) {
-            System.out.println("Landed on Page-Not-Found, refreshing...");
+            Log.info("Landed on Page-Not-Found, refreshing...");
             driver.navigate().refresh();
         }
 
@@ -69,7 +71,7 @@ public class NavigationPage {
                     ExpectedConditions.visibilityOfElementLocated(NavigationLocators.MANAGE_ASSISTANTS)
                    // ExpectedConditions.presenceOfElementLocated(NavigationLocators.CONTROL_CENTER_TAB)
             ));
-            System.out.println("SSO redirect completed, Dashboard/Control Center is visible.");
+            Log.info("SSO redirect completed, Dashboard/Control Center is visible.");
         } catch (Exception e) {
             throw new RuntimeException("SSO did not complete properly, still stuck or 404 error.");
         }
@@ -79,17 +81,17 @@ public class NavigationPage {
         // Wait for Control Center tab and click it
         //wait.until(ExpectedConditions.presenceOfElementLocated(NavigationLocators.CONTROL_CENTER_TAB));
         wait.until(ExpectedConditions.presenceOfElementLocated(NavigationLocators.MANAGE_ASSISTANTS));
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(15));
+        WebDriverWait wait = new TracedWait(driver, Duration.ofSeconds(15));
        // WebElement controlCenterTab = wait.until(ExpectedConditions.elementToBeClickable(NavigationLocators.CONTROL_CENTER_TAB));
         WebElement controlCenterTab = wait.until(ExpectedConditions.elementToBeClickable(NavigationLocators.MANAGE_ASSISTANTS));
         controlCenterTab.click();
 
         //wait.until(ExpectedConditions.elementToBeClickable(NavigationLocators.CONTROL_CENTER_TAB)).click();
-        System.out.println("Clicked on 'Control Center' tab.");
+        Log.info("Clicked on 'Control Center' tab.");
 
         // Verify Control Center landing page (e.g. look for heading, unique element)
         wait.until(ExpectedConditions.visibilityOfElementLocated(NavigationLocators.CONTROL_CENTER_LANDING_HEADER));
-        System.out.println("Control Center landing page loaded successfully.");
+        Log.info("Control Center landing page loaded successfully.");
     }
 
     public void clickAssistantTab() {
@@ -97,7 +99,7 @@ public class NavigationPage {
         WebElement assistantTab = wait.until(ExpectedConditions
                 .visibilityOfElementLocated(NavigationLocators.ASSISTANT_TAB));
         wait.until(ExpectedConditions.elementToBeClickable(assistantTab)).click();
-        System.out.println("Clicked on 'Assistant' tab.");
+        Log.info("Clicked on 'Assistant' tab.");
 
         // Wait until URL updates (if routing changes)
         wait.until(ExpectedConditions.urlContains("/assistants"));
@@ -108,7 +110,7 @@ public class NavigationPage {
                 ExpectedConditions.presenceOfElementLocated(AssistantsPageLocators.HEADER_ASSISTANT_NAME)
         ));
 
-        System.out.println("Assistants page loaded successfully.");
+        Log.info("Assistants page loaded successfully.");
     }
     public void navigateToAssistantList() {
         clickOpenButton();
@@ -119,7 +121,7 @@ public class NavigationPage {
         clickControlCenter();
        // wait.until(ExpectedConditions.elementToBeClickable(NavigationLocators.ASSISTANT_TAB)).click();
         clickAssistantTab();
-        System.out.println("Navigation to Assistant list completed.");
+        Log.info("Navigation to Assistant list completed.");
     }
 
 
@@ -129,6 +131,6 @@ public class NavigationPage {
         clickViewDetails();
         clickSSORedirectionIcon();
         wait.until(ExpectedConditions.elementToBeClickable(MediaLibraryLocators.MEDIA_LIBRARY_TAB)).click();
-        System.out.println("Navigation to Media Library page");
+        Log.info("Navigation to Media Library page");
     }
 }
@@ -5,6 +5,9 @@ import org.openqa.selenium.*;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import utils.ExtentReportManager;
+import utils.Log;
+import utils.PageScripts;
+import utils.TracedWait;
 
 import java.io.File;
 import java.time.Duration;
@@ -25,7 +28,7 @@ public class RCSAssistantPage {
 
     public RCSAssistantPage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(15));
+        this.wait = new TracedWait(driver, Duration.ofSeconds(15));
     }
 
     // ==================== Navigation Methods ====================
@@ -40,34 +43,34 @@ public class RCSAssistantPage {
         try {
             // First, try to click on Control Center if it exists (parent menu)
             try {
-                System.out.println("Trying to click Control Center menu...");
-                WebElement controlCenter = new WebDriverWait(driver, Duration.ofSeconds(5))
+                Log.info("Trying to click Control Center menu...");
+                WebElement controlCenter = new TracedWait(driver, Duration.ofSeconds(5))
                         .until(ExpectedConditions.elementToBeClickable(RCSAssistantPageLocators.CONTROL_CENTER_MENU));
                 controlCenter.click();
                 Thread.sleep(1000);
-                System.out.println("Clicked Control Center menu");
+                Log.info("Clicked Control Center menu");
             } catch (Exception e) {
-                System.out.println("Control Center menu not found, trying direct Assistants...");
+                Log.info("Control Center menu not found, trying direct Assistants...");
             }
 
             // Now try to click Manage Assistants / Assistants
             try {
-                WebElement manageAssistants = new WebDriverWait(driver, Duration.ofSeconds(10))
+                WebElement manageAssistants = new TracedWait(driver, Duration.ofSeconds(10))
                         .until(ExpectedConditions
                                 .elementToBeClickable(RCSAssistantPageLocators.MANAGE_ASSISTANTS_MENU));
                 manageAssistants.click();
-                System.out.println("Clicked Manage Assistants menu");
+                Log.info("Clicked Manage Assistants menu");
             } catch (Exception e) {
-                System.out.println("Manage Assistants menu not found, trying URL navigation...");
+                Log.info("Manage Assistants menu not found, trying URL navigation...");
                 // Fallback: Navigate via URL modification
                 String currentUrl = driver.getCurrentUrl();
-                System.out.println("Current URL: " + currentUrl);
+                Log.info("Current URL: " + currentUrl);
 
                 // If on dashboard, try to navigate to assistants
                 if (currentUrl.contains("/dashboard")) {
                     String assistantsUrl = currentUrl.replace("/dashboard", "/control-center/assistants");
                     driver.get(assistantsUrl);
-                    System.out.println("Navigated to: " + assistantsUrl);
+                    Log.info("Navigated to: " + assistantsUrl);
                 } else if (currentUrl.contains("/rcs/")) {
                     // Try appending assistants path
                     String baseUrl = currentUrl.split("/dashboard")[0];
@@ -75,7 +78,7 @@ public class RCSAssistantPage {
                         baseUrl += "/";
                     String assistantsUrl = baseUrl + "control-center/assistants";
                     driver.get(assistantsUrl);
-                    System.out.println("Navigated to: " + assistantsUrl);
+                    Log.info("Navigated to: " + assistantsUrl);
                 }
             }
 
@@ -93,11 +96,11 @@ public class RCSAssistantPage {
                     ExpectedConditions.presenceOfElementLocated(RCSAssistantPageLocators.ADD_NEW_BUTTON),
                     ExpectedConditions.urlContains("assistants")));
 
-            System.out.println("Successfully on Assistants page. URL: " + driver.getCurrentUrl());
+            Log.info("Successfully on Assistants page. URL: " + driver.getCurrentUrl());
             ExtentReportManager.logPass("Successfully navigated to Manage Assistants");
 
         } catch (Exception e) {
-            System.out.println("ERROR navigating to Manage Assistants: " + e.getMessage());
+            Log.error("ERROR navigating to Manage Assistants: " + e.getMessage());
             ExtentReportManager.logWarning("Error navigating to Manage Assistants: " + e.getMessage());
             throw e;
         }
@@ -131,11 +134,11 @@ public class RCSAssistantPage {
             WebElement addButton = wait
                     .until(ExpectedConditions.elementToBeClickable(RCSAssistantPageLocators.ADD_NEW_BUTTON));
             scrollAndClick(addButton);
-            System.out.println("Clicked Add New Assistant button");
+            Log.info("Clicked Add New Assistant button");
 
             wait.until(ExpectedConditions.visibilityOfElementLocated(RCSAssistantPageLocators.ASSISTANT_NAME_INPUT));
         } catch (Exception e) {
-            System.out.println("Error clicking Add New Assistant: " + e.getMessage());
+            Log.error("Error clicking Add New Assistant: " + e.getMessage());
             ExtentReportManager.logWarning("Error clicking Add New Assistant: " + e.getMessage());
             throw e;
         }
@@ -187,7 +190,7 @@ public class RCSAssistantPage {
 
         // Select billing category if dropdown exists (MANDATORY FIELD)
         try {
-            System.out.println("Looking for Billing Category dropdown...");
+            Log.info("Looking for Billing Category dropdown...");
             WebElement billingDropdown = wait.until(
                     ExpectedConditions.elementToBeClickable(RCSAssistantPageLocators.BILLING_CATEGORY_DROPDOWN));
             billingDropdown.click();
@@ -198,11 +201,11 @@ public class RCSAssistantPage {
                             .visibilityOfAllElementsLocatedBy(RCSAssistantPageLocators.TEMPLATE_CATEGORY_OPTIONS));
             if (!options.isEmpty()) {
                 options.get(0).click();
-                System.out.println("✓ Selected billing category");
+                Log.info("✓ Selected billing category");
                 ExtentReportManager.logInfo("Selected billing category");
             }
         } catch (Exception e) {
-            System.out.println("Billing category dropdown not found or error: " + e.getMessage());
+            Log.info("Billing category dropdown not found or error: " + e.getMessage());
             ExtentReportManager.logInfo("No billing category dropdown or already selected");
         }
 
@@ -227,10 +230,10 @@ public class RCSAssistantPage {
 
         try {
             // Upload Cover Image
-            System.out.println("Uploading Cover image...");
+            Log.info("Uploading Cover image...");
             String coverImagePath = new File("src/main/resources/image/Cover.jpg").getAbsolutePath();
             WebElement coverUpload = driver.findElement(RCSAssistantPageLocators.COVER_IMAGE_UPLOAD);
-            ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView(true);", coverUpload);
+            PageScripts.scrollIntoView(driver, coverUpload);
             Thread.sleep(500);
             coverUpload.sendKeys(coverImagePath);
             ExtentReportManager.logInfo("Uploaded cover image: " + coverImagePath);
@@ -240,10 +243,10 @@ public class RCSAssistantPage {
             handleCropDialogIfPresent("cover");
 
             // Upload Icon Image
-            System.out.println("Uploading Icon image...");
+            Log.info("Uploading Icon image...");
             String iconImagePath = new File("src/main/resources/image/icon.png").getAbsolutePath();
             WebElement iconUpload = driver.findElement(RCSAssistantPageLocators.ICON_IMAGE_UPLOAD);
-            ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView(true);", iconUpload);
+            PageScripts.scrollIntoView(driver, iconUpload);
             Thread.sleep(500);
             iconUpload.sendKeys(iconImagePath);
             ExtentReportManager.logInfo("Uploaded icon image: " + iconImagePath);
@@ -253,16 +256,16 @@ public class RCSAssistantPage {
             handleCropDialogIfPresent("icon");
 
             // Wait for images to process
-            System.out.println("Waiting for images to process...");
+            Log.info("Waiting for images to process...");
             Thread.sleep(2000);
 
             // Click Proceed button if present (to confirm image upload/cropping)
-            System.out.println("Looking for Proceed button to confirm images...");
+            Log.info("Looking for Proceed button to confirm images...");
             clickProceedButtonIfPresent();
             Thread.sleep(1000);
 
             // Now click Next to move from Branding to Contact step
-            System.out.println("Clicking Next button to move to Contact section...");
+            Log.info("Clicking Next button to move to Contact section...");
 
             boolean nextClicked = false;
 
@@ -271,13 +274,13 @@ public class RCSAssistantPage {
                 // First try: Use the locator
                 WebElement nextButton = wait.until(
                         ExpectedConditions.elementToBeClickable(RCSAssistantPageLocators.NEXT_BUTTON_STEP2));
-                ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView(true);", nextButton);
+                PageScripts.scrollIntoView(driver, nextButton);
                 Thread.sleep(300);
                 nextButton.click();
                 nextClicked = true;
-                System.out.println("Clicked Next button (via locator)");
+                Log.info("Clicked Next button (via locator)");
             } catch (Exception e) {
-                System.out.println("Primary Next button locator failed: " + e.getMessage());
+                Log.info("Primary Next button locator failed: " + e.getMessage());
             }
 
             // Second try: Find any visible enabled Next button
@@ -287,45 +290,45 @@ public class RCSAssistantPage {
                             .findElements(By.xpath("//button[contains(text(),'Next')]"));
                     for (WebElement btn : allNextButtons) {
                         if (btn.isDisplayed() && btn.isEnabled()) {
-                            System.out.println("Found enabled Next button, clicking...");
-                            ((JavascriptExecutor) driver).executeScript("arguments[0].click();", btn);
+                            Log.info("Found enabled Next button, clicking...");
+                            PageScripts.click(driver, btn);
                             nextClicked = true;
-                            System.out.println("Clicked Next button (via JS)");
+                            Log.info("Clicked Next button (via JS)");
                             break;
                         }
                     }
                 } catch (Exception e) {
-                    System.out.println("Alternative Next button approach failed: " + e.getMessage());
+                    Log.info("Alternative Next button approach failed: " + e.getMessage());
                 }
             }
 
             // Third try: Click Contact step directly in stepper
             if (!nextClicked) {
                 try {
-                    System.out.println("Trying to click Contact step directly...");
+                    Log.info("Trying to click Contact step directly...");
                     WebElement contactStep = driver.findElement(By.xpath(
                             "//mat-step-header[contains(.,'Contact')] | " +
                                     "//*[contains(@class,'step') and contains(.,'Contact')]"));
-                    ((JavascriptExecutor) driver).executeScript("arguments[0].click();", contactStep);
+                    PageScripts.click(driver, contactStep);
                     nextClicked = true;
-                    System.out.println("Clicked Contact step directly");
+                    Log.info("Clicked Contact step directly");
                 } catch (Exception e) {
-                    System.out.println("Direct Contact step click failed: " + e.getMessage());
+                    Log.info("Direct Contact step click failed: " + e.getMessage());
                 }
             }
 
             if (!nextClicked) {
-                System.out.println("WARNING: Could not click Next button - form may be stuck on Branding step");
+                Log.warn("WARNING: Could not click Next button - form may be stuck on Branding step");
             }
 
             // Wait for Contact section to load
             Thread.sleep(2000);
-            System.out.println("Current URL after Next: " + driver.getCurrentUrl());
+            Log.info("Current URL after Next: " + driver.getCurrentUrl());
 
             ExtentReportManager.logPass("Branding images uploaded successfully");
         } catch (Exception e) {
             ExtentReportManager.logWarning("Error uploading images: " + e.getMessage());
-            System.out.println("Error in uploadBrandingImages: " + e.getMessage());
+            Log.error("Error in uploadBrandingImages: " + e.getMessage());
         }
     }
 
@@ -336,7 +339,7 @@ public class RCSAssistantPage {
      */
     private boolean clickProceedButtonIfPresent() {
         try {
-            System.out.println("Checking for Proceed/Continue button...");
+            Log.info("Checking for Proceed/Continue button...");
 
             By proceedButtonLocators = By.xpath(
                     "//button[normalize-space(text())='Proceed'] | " +
@@ -349,12 +352,12 @@ public class RCSAssistantPage {
                             "//a[contains(text(),'Continue')]");
 
             List<WebElement> proceedButtons = driver.findElements(proceedButtonLocators);
-            System.out.println("Found " + proceedButtons.size() + " proceed/continue buttons");
+            Log.info("Found " + proceedButtons.size() + " proceed/continue buttons");
 
             for (WebElement btn : proceedButtons) {
                 if (btn.isDisplayed() && btn.isEnabled()) {
                     String btnText = btn.getText().trim();
-                    System.out.println("Clicking Proceed button: " + btnText);
+                    Log.info("Clicking Proceed button: " + btnText);
                     btn.click();
                     Thread.sleep(1500);
                     ExtentReportManager.logInfo("Clicked Proceed button: " + btnText);
@@ -362,11 +365,11 @@ public class RCSAssistantPage {
                 }
             }
 
-            System.out.println("No Proceed button found (this is OK)");
+            Log.info("No Proceed button found (this is OK)");
             return false;
 
         } catch (Exception e) {
-            System.out.println("No Proceed button needed or error: " + e.getMessage());
+            Log.info("No Proceed button needed or error: " + e.getMessage());
             return false;
         }
     }
@@ -378,10 +381,10 @@ public class RCSAssistantPage {
      */
     private void handleCropDialogIfPresent(String imageType) {
         try {
-            System.out.println("Checking for crop dialog for " + imageType + " image...");
+            Log.info("Checking for crop dialog for " + imageType + " image...");
 
             // Wait briefly for crop dialog to appear
-            WebDriverWait shortWait = new WebDriverWait(driver, Duration.ofSeconds(5));
+            WebDriverWait shortWait = new TracedWait(driver, Duration.ofSeconds(5));
 
             // Specific locators for crop confirmation buttons - EXCLUDE Back/Cancel
             // Priority order: Apply > Crop > Save > Done > OK > Confirm
@@ -401,17 +404,17 @@ public class RCSAssistantPage {
             try {
                 // Get all matching buttons and find the right one
                 List<WebElement> buttons = driver.findElements(cropButtonLocators);
-                System.out.println("Found " + buttons.size() + " potential crop buttons");
+                Log.info("Found " + buttons.size() + " potential crop buttons");
 
                 WebElement correctButton = null;
                 for (WebElement btn : buttons) {
                     String btnText = btn.getText().trim().toLowerCase();
-                    System.out.println("  Button found: '" + btn.getText() + "'");
+                    Log.info("  Button found: '" + btn.getText() + "'");
 
                     // Skip Back, Cancel, Close buttons
                     if (btnText.contains("back") || btnText.contains("cancel") ||
                             btnText.contains("close") || btnText.contains("next")) {
-                        System.out.println("    Skipping this button");
+                        Log.warn("    Skipping this button");
                         continue;
                     }
 
@@ -425,21 +428,21 @@ public class RCSAssistantPage {
                 }
 
                 if (correctButton != null) {
-                    System.out.println("Clicking correct crop button: " + correctButton.getText());
+                    Log.info("Clicking correct crop button: " + correctButton.getText());
                     correctButton.click();
-                    System.out.println("Clicked crop/apply button for " + imageType + " image");
+                    Log.info("Clicked crop/apply button for " + imageType + " image");
                     Thread.sleep(1500);
                     ExtentReportManager.logInfo("Handled crop dialog for " + imageType + " image");
                 } else {
-                    System.out.println("No suitable crop button found for " + imageType + " image (this is OK)");
+                    Log.info("No suitable crop button found for " + imageType + " image (this is OK)");
                 }
 
             } catch (Exception e) {
-                System.out.println("No crop dialog found for " + imageType + " image (this is OK)");
+                Log.info("No crop dialog found for " + imageType + " image (this is OK)");
             }
 
         } catch (Exception e) {
-            System.out.println("Error checking for crop dialog: " + e.getMessage());
+            Log.error("Error checking for crop dialog: " + e.getMessage());
         }
     }
 
@@ -453,16 +456,16 @@ public class RCSAssistantPage {
     public void fillContactDetailsAndSubmit() {
         ExtentReportManager.logStep("Fill Contact Details and Verification sections");
 
-        System.out.println("========================================");
-        System.out.println("ENTERING fillContactDetailsAndSubmit()");
-        System.out.println("Current URL: " + driver.getCurrentUrl());
-        System.out.println("========================================");
+        Log.info("========================================");
+        Log.info("ENTERING fillContactDetailsAndSubmit()");
+        Log.info("Current URL: " + driver.getCurrentUrl());
+        Log.info("========================================");
 
         try {
             Thread.sleep(2000);
 
             // STEP 1: Fill Contact Person section (MANDATORY)
-            System.out.println("=== FILLING CONTACT PERSON SECTION ===");
+            Log.info("=== FILLING CONTACT PERSON SECTION ===");
 
             // Full Name
             tryFillField("//input[contains(@placeholder,'Full Name') or contains(@formcontrolname,'fullName')]",
@@ -484,7 +487,7 @@ public class RCSAssistantPage {
             Thread.sleep(1000);
 
             // STEP 2: Fill ALL Display Name fields (MANDATORY)
-            System.out.println("=== FILLING DISPLAY NAME FIELDS ===");
+            Log.info("=== FILLING DISPLAY NAME FIELDS ===");
             List<WebElement> displayNameFields = driver.findElements(
                     By.xpath(
                             "//input[contains(@placeholder,'Display Name') or contains(@placeholder,'display name')]"));
@@ -496,7 +499,7 @@ public class RCSAssistantPage {
                         scrollToElement(field);
                         field.clear();
                         field.sendKeys("Display " + (++displayCount));
-                        System.out.println("Filled Display Name field #" + displayCount);
+                        Log.info("Filled Display Name field #" + displayCount);
                     }
                 } catch (Exception e) {
                     // Skip if error
@@ -506,7 +509,7 @@ public class RCSAssistantPage {
             Thread.sleep(1000);
 
             // STEP 3: Fill standard contact fields (Phone, Website, Email, Privacy, Terms)
-            System.out.println("=== FILLING STANDARD CONTACT FIELDS ===");
+            Log.info("=== FILLING STANDARD CONTACT FIELDS ===");
             tryFillField("//input[contains(@placeholder,'Phone') or contains(@placeholder,'phone')]",
                     "9876543210");
             tryFillField("//input[contains(@placeholder,'Website') or contains(@placeholder,'URL')]",
@@ -521,7 +524,7 @@ public class RCSAssistantPage {
             Thread.sleep(1000);
 
             // STEP 3.5: Fill ALL remaining empty email fields (there may be multiple)
-            System.out.println("=== FILLING ALL REMAINING EMAIL FIELDS ===");
+            Log.info("=== FILLING ALL REMAINING EMAIL FIELDS ===");
             List<WebElement> allEmailFields = driver.findElements(
                     By.xpath(
                             "//input[@type='email' or contains(@placeholder,'Email') or contains(@placeholder,'email')]"));
@@ -533,7 +536,7 @@ public class RCSAssistantPage {
                         scrollToElement(emailField);
                         emailField.clear();
                         emailField.sendKeys("email" + (++emailCount) + "@testcompany.com");
-                        System.out.println("Filled additional email field #" + emailCount);
+                        Log.info("Filled additional email field #" + emailCount);
                     }
                 } catch (Exception e) {
                     // Skip if error
@@ -543,7 +546,7 @@ public class RCSAssistantPage {
             Thread.sleep(1000);
 
             // STEP 4: Try clicking Next to move to Verification section
-            System.out.println("=== LOOKING FOR NEXT BUTTON ===");
+            Log.info("=== LOOKING FOR NEXT BUTTON ===");
             boolean nextClicked = false;
             List<WebElement> nextButtons = driver.findElements(
                     By.xpath("//button[contains(text(),'Next') and not(contains(@class,'disabled'))]"));
@@ -551,7 +554,7 @@ public class RCSAssistantPage {
             for (WebElement btn : nextButtons) {
                 try {
                     if (btn.isDisplayed() && btn.isEnabled()) {
-                        System.out.println("Clicking Next to Verification section...");
+                        Log.info("Clicking Next to Verification section...");
                         scrollAndClick(btn);
                         nextClicked = true;
                         Thread.sleep(2000);
@@ -563,16 +566,16 @@ public class RCSAssistantPage {
             }
 
             // STEP 5: Fill Verification section (ALL FIELDS) if present
-            System.out.println("=== CHECKING FOR VERIFICATION SECTION ===");
-            System.out.println("Current URL after Next: " + driver.getCurrentUrl());
+            Log.info("=== CHECKING FOR VERIFICATION SECTION ===");
+            Log.info("Current URL after Next: " + driver.getCurrentUrl());
             Thread.sleep(2000);
 
             // STEP 5A: Fill Rich Text Editor fields (5 FIELDS)
-            System.out.println("=== FILLING RICH TEXT EDITOR FIELDS (5 FIELDS) ===");
+            Log.info("=== FILLING RICH TEXT EDITOR FIELDS (5 FIELDS) ===");
             List<WebElement> richTextEditors = driver.findElements(
                     By.xpath("//*[@contenteditable='true' or @contenteditable='']"));
 
-            System.out.println("Found " + richTextEditors.size() + " rich text editor fields");
+            Log.info("Found " + richTextEditors.size() + " rich text editor fields");
 
             int richTextCount = 0;
             for (WebElement editor : richTextEditors) {
@@ -590,33 +593,29 @@ public class RCSAssistantPage {
                                     "Users provide explicit opt-in consent before receiving any messages.";
 
                             // Use JavaScript to set innerHTML for rich text editors
-                            ((JavascriptExecutor) driver).executeScript(
-                                    "arguments[0].innerHTML = arguments[1]; " +
-                                            "arguments[0].dispatchEvent(new Event('input', { bubbles: true })); " +
-                                            "arguments[0].dispatchEvent(new Event('change', { bubbles: true }));",
-                                    editor, textToFill);
+                            PageScripts.setHtml(driver, editor, textToFill);
 
-                            System.out.println("✓ Filled rich text editor #" + richTextCount);
+                            Log.info("✓ Filled rich text editor #" + richTextCount);
                             Thread.sleep(300);
                         }
                     }
                 } catch (Exception e) {
-                    System.out.println("Could not fill rich text editor: " + e.getMessage());
+                    Log.warn("Could not fill rich text editor: " + e.getMessage());
                 }
             }
 
-            System.out.println("Total rich text editors filled: " + richTextCount);
+            Log.info("Total rich text editors filled: " + richTextCount);
             Thread.sleep(1000);
 
             // STEP 5B: Fill regular input fields
-            System.out.println("=== FILLING REGULAR INPUT FIELDS ===");
+            Log.info("=== FILLING REGULAR INPUT FIELDS ===");
 
             // Find ALL input fields (text, email, tel, url, number, etc.)
             List<WebElement> allInputs = driver.findElements(
                     By.xpath(
                             "//input[not(@type='hidden') and not(@type='checkbox') and not(@type='radio') and not(@type='button')]"));
 
-            System.out.println("Found " + allInputs.size() + " potential input fields");
+            Log.info("Found " + allInputs.size() + " potential input fields");
 
             int verificationCount = 0;
             for (WebElement field : allInputs) {
@@ -632,7 +631,7 @@ public class RCSAssistantPage {
                             String fieldType = field.getAttribute("type");
                             String fieldName = field.getAttribute("name");
 
-                            System.out.println("Found empty field - Type: " + fieldType + ", Placeholder: "
+                            Log.info("Found empty field - Type: " + fieldType + ", Placeholder: "
                                     + placeholder + ", Name: " + fieldName);
 
                             // Determine value based on type and placeholder
@@ -663,14 +662,12 @@ public class RCSAssistantPage {
                             try {
                                 field.clear();
                                 field.sendKeys(value);
-                                System.out.println(
+                                Log.info(
                                         "✓ Filled verification field #" + verificationCount + " with: " + value);
                             } catch (Exception e) {
                                 // Try JS if regular sendKeys fails
-                                ((org.openqa.selenium.JavascriptExecutor) driver).executeScript(
-                                        "arguments[0].value = arguments[1]; arguments[0].dispatchEvent(new Event('input'));",
-                                        field, value);
-                                System.out.println(
+                                PageScripts.setValue(driver, field, value);
+                                Log.info(
                                         "✓ Filled verification field #" + verificationCount + " (JS) with: " + value);
                             }
                         }
@@ -680,11 +677,11 @@ public class RCSAssistantPage {
                 }
             }
 
-            System.out.println("Total regular input fields filled: " + verificationCount);
+            Log.info("Total regular input fields filled: " + verificationCount);
             Thread.sleep(1000);
 
             // STEP 6: Submit the form
-            System.out.println("=== LOOKING FOR SUBMIT BUTTON ===");
+            Log.info("=== LOOKING FOR SUBMIT BUTTON ===");
             boolean submitted = false;
 
             // Try Submit button
@@ -693,7 +690,7 @@ public class RCSAssistantPage {
             for (WebElement btn : submitButtons) {
                 try {
                     if (btn.isDisplayed() && btn.isEnabled()) {
-                        System.out.println("Found Submit button, clicking...");
+                        Log.info("Found Submit button, clicking...");
                         scrollAndClick(btn);
                         submitted = true;
                         break;
@@ -709,7 +706,7 @@ public class RCSAssistantPage {
                 for (WebElement btn : createButtons) {
                     try {
                         if (btn.isDisplayed() && btn.isEnabled()) {
-                            System.out.println("Found Create button, clicking...");
+                            Log.info("Found Create button, clicking...");
                             scrollAndClick(btn);
                             submitted = true;
                             break;
@@ -720,13 +717,13 @@ public class RCSAssistantPage {
             }
 
             Thread.sleep(2000);
-            System.out.println("Contact and Verification sections completed");
-            System.out.println("Current URL: " + driver.getCurrentUrl());
+            Log.info("Contact and Verification sections completed");
+            Log.info("Current URL: " + driver.getCurrentUrl());
 
             ExtentReportManager.logPass("Contact and Verification sections filled successfully");
 
         } catch (Exception e) {
-            System.out.println("ERROR in fillContactDetailsAndSubmit: " + e.getMessage());
+            Log.error("ERROR in fillContactDetailsAndSubmit: " + e.getMessage());
             e.printStackTrace();
             ExtentReportManager.logWarning("Error in contact and verification: " + e.getMessage());
         }
@@ -750,14 +747,13 @@ public class RCSAssistantPage {
                         try {
                             field.clear();
                             field.sendKeys(value);
-                            System.out.println(
+                            Log.info(
                                     "Filled field (regular): " + xpath.substring(0, Math.min(50, xpath.length())));
                             return 1;
                         } catch (Exception e) {
                             // Try JavaScript interaction
                             fillInputWithJS(field, value);
-                            System.out
-                                    .println("Filled field (JS): " + xpath.substring(0, Math.min(50, xpath.length())));
+                            Log.info("Filled field (JS): " + xpath.substring(0, Math.min(50, xpath.length())));
                             return 1;
                         }
                     }
@@ -774,8 +770,7 @@ public class RCSAssistantPage {
      */
     private void scrollToElement(WebElement element) {
         try {
-            ((JavascriptExecutor) driver).executeScript(
-                    "arguments[0].scrollIntoView({behavior: 'smooth', block: 'center'});", element);
+            PageScripts.scrollIntoView(driver, element, "center");
             Thread.sleep(300);
         } catch (Exception e) {
         }
@@ -791,10 +786,10 @@ public class RCSAssistantPage {
                 element.click();
             } catch (Exception e) {
                 // Use JavaScript click if regular click fails
-                ((JavascriptExecutor) driver).executeScript("arguments[0].click();", element);
+                PageScripts.click(driver, element);
             }
         } catch (Exception e) {
-            System.out.println("Error clicking element: " + e.getMessage());
+            Log.error("Error clicking element: " + e.getMessage());
         }
     }
 
@@ -803,13 +798,9 @@ public class RCSAssistantPage {
      */
     private void fillInputWithJS(WebElement element, String value) {
         try {
-            ((JavascriptExecutor) driver).executeScript(
-                    "arguments[0].value = arguments[1];" +
-                            "arguments[0].dispatchEvent(new Event('input', { bubbles: true }));" +
-                            "arguments[0].dispatchEvent(new Event('change', { bubbles: true }));",
-                    element, value);
+            PageScripts.setValue(driver, element, value);
         } catch (Exception e) {
-            System.out.println("JS fill failed: " + e.getMessage());
+            Log.info("JS fill failed: " + e.getMessage());
         }
     }
 
@@ -835,21 +826,21 @@ public class RCSAssistantPage {
             for (WebElement btn : addButtons) {
                 try {
                     if (btn.isDisplayed() && btn.isEnabled()) {
-                        System.out.println("Clicking button: " + buttonText);
+                        Log.info("Clicking button: " + buttonText);
                         scrollToElement(btn);
-                        ((JavascriptExecutor) driver).executeScript("arguments[0].click();", btn);
+                        PageScripts.click(driver, btn);
                         Thread.sleep(500);
-                        System.out.println("Successfully clicked " + buttonText + " button");
+                        Log.info("Successfully clicked " + buttonText + " button");
                         return;
                     }
                 } catch (Exception e) {
                 }
             }
 
-            System.out.println("No " + buttonText + " button found or needed");
+            Log.info("No " + buttonText + " button found or needed");
 
         } catch (Exception e) {
-            System.out.println("Error finding " + buttonText + " button: " + e.getMessage());
+            Log.error("Error finding " + buttonText + " button: " + e.getMessage());
         }
     }
 
@@ -866,18 +857,18 @@ public class RCSAssistantPage {
         try {
             // First, navigate back to assistants list if we're on the add page
             String currentUrl = driver.getCurrentUrl();
-            System.out.println("Current URL before status check: " + currentUrl);
+            Log.info("Current URL before status check: " + currentUrl);
 
             if (currentUrl.contains("/add") || currentUrl.contains("/edit")) {
-                System.out.println("Still on add/edit page, navigating back to assistants list...");
+                Log.info("Still on add/edit page, navigating back to assistants list...");
                 // Try to find and click back/cancel button or navigate via URL
                 try {
                     String listUrl = currentUrl.replaceAll("/(add|edit).*$", "");
                     driver.get(listUrl);
                     Thread.sleep(2000);
-                    System.out.println("Navigated to: " + driver.getCurrentUrl());
+                    Log.info("Navigated to: " + driver.getCurrentUrl());
                 } catch (Exception e) {
-                    System.out.println("Could not navigate back: " + e.getMessage());
+                    Log.warn("Could not navigate back: " + e.getMessage());
                 }
             }
 
@@ -893,7 +884,7 @@ public class RCSAssistantPage {
 
             // Get the status from the first row with multiple fallback locators
             List<WebElement> rows = driver.findElements(RCSAssistantPageLocators.ASSISTANT_TABLE_ROWS);
-            System.out.println("Found " + rows.size() + " rows in table");
+            Log.info("Found " + rows.size() + " rows in table");
 
             if (!rows.isEmpty()) {
                 // Try multiple status cell locators
@@ -910,7 +901,7 @@ public class RCSAssistantPage {
                         WebElement statusCell = rows.get(0).findElement(By.xpath(xpath));
                         String status = statusCell.getText().trim();
                         if (!status.isEmpty()) {
-                            System.out.println("Found status '" + status + "' using xpath: " + xpath);
+                            Log.info("Found status '" + status + "' using xpath: " + xpath);
                             ExtentReportManager.logInfo("Assistant status: " + status);
                             return status;
                         }
@@ -925,7 +916,7 @@ public class RCSAssistantPage {
                 WebElement pendingBadge = driver.findElement(RCSAssistantPageLocators.PENDING_STATUS_BADGE);
                 String status = pendingBadge.getText().trim();
                 if (!status.isEmpty()) {
-                    System.out.println("Found status from badge: " + status);
+                    Log.info("Found status from badge: " + status);
                     return status;
                 }
             } catch (Exception e) {
@@ -939,7 +930,7 @@ public class RCSAssistantPage {
                 for (WebElement el : allText) {
                     String text = el.getText().trim();
                     if (text.toLowerCase().contains("pending") || text.toLowerCase().contains("approval")) {
-                        System.out.println("Found status text: " + text);
+                        Log.info("Found status text: " + text);
                         return text;
                     }
                 }
@@ -947,11 +938,11 @@ public class RCSAssistantPage {
                 // Ignore
             }
 
-            System.out.println("Could not determine status, returning 'Unknown'");
+            Log.warn("Could not determine status, returning 'Unknown'");
             return "Unknown";
 
         } catch (Exception e) {
-            System.out.println("Error getting status: " + e.getMessage());
+            Log.error("Error getting status: " + e.getMessage());
             ExtentReportManager.logWarning("Could not get status: " + e.getMessage());
             return "Unknown";
         }
@@ -1116,16 +1107,16 @@ public class RCSAssistantPage {
                     .until(ExpectedConditions.elementToBeClickable(RCSAssistantPageLocators.VIEW_ICON));
             scrollToElement(viewIcon);
             viewIcon.click();
-            System.out.println("Clicked View icon");
+            Log.info("Clicked View icon");
         } catch (Exception e) {
             // Try JS click if regular click fails
             try {
                 WebElement viewIcon = driver.findElement(RCSAssistantPageLocators.VIEW_ICON);
                 scrollToElement(viewIcon);
-                ((JavascriptExecutor) driver).executeScript("arguments[0].click();", viewIcon);
-                System.out.println("Clicked View icon (JS)");
+                PageScripts.click(driver, viewIcon);
+                Log.info("Clicked View icon (JS)");
             } catch (Exception ex) {
-                System.out.println("Failed to click View icon: " + ex.getMessage());
+                Log.error("Failed to click View icon: " + ex.getMessage());
                 throw ex;
             }
         }
@@ -1193,7 +1184,7 @@ public class RCSAssistantPage {
         try {
             WebElement firstNameCell = driver.findElement(RCSAssistantPageLocators.FIRST_ASSISTANT_NAME);
             originalAssistantName = firstNameCell.getText().trim();
-            System.out.println("Original assistant name: " + originalAssistantName);
+            Log.info("Original assistant name: " + originalAssistantName);
         } catch (Exception e) {
             originalAssistantName = "";
         }
@@ -1204,21 +1195,21 @@ public class RCSAssistantPage {
                     .until(ExpectedConditions.elementToBeClickable(RCSAssistantPageLocators.THREE_DOT_MENU));
             scrollToElement(threeDotMenu);
             threeDotMenu.click();
-            System.out.println("Clicked three-dot menu");
+            Log.info("Clicked three-dot menu");
             Thread.sleep(800);
         } catch (Exception e) {
             // Try JS click
             try {
                 WebElement threeDotMenu = driver.findElement(RCSAssistantPageLocators.THREE_DOT_MENU);
                 scrollToElement(threeDotMenu);
-                ((JavascriptExecutor) driver).executeScript("arguments[0].click();", threeDotMenu);
-                System.out.println("Clicked three-dot menu (JS)");
+                PageScripts.click(driver, threeDotMenu);
+                Log.info("Clicked three-dot menu (JS)");
                 try {
                     Thread.sleep(800);
                 } catch (InterruptedException ie) {
                 }
             } catch (Exception ex) {
-                System.out.println("Failed to click three-dot menu: " + ex.getMessage());
+                Log.error("Failed to click three-dot menu: " + ex.getMessage());
                 throw ex;
             }
         }
@@ -1229,16 +1220,16 @@ public class RCSAssistantPage {
                     .until(ExpectedConditions.elementToBeClickable(RCSAssistantPageLocators.EDIT_BUTTON));
             scrollToElement(editButton);
             editButton.click();
-            System.out.println("Clicked Edit button");
+            Log.info("Clicked Edit button");
         } catch (Exception e) {
             // Try JS click
             try {
                 WebElement editButton = driver.findElement(RCSAssistantPageLocators.EDIT_BUTTON);
                 scrollToElement(editButton);
-                ((JavascriptExecutor) driver).executeScript("arguments[0].click();", editButton);
-                System.out.println("Clicked Edit button (JS)");
+                PageScripts.click(driver, editButton);
+                Log.info("Clicked Edit button (JS)");
             } catch (Exception ex) {
-                System.out.println("Failed to click Edit button: " + ex.getMessage());
+                Log.error("Failed to click Edit button: " + ex.getMessage());
                 throw ex;
             }
         }
@@ -1246,9 +1237,9 @@ public class RCSAssistantPage {
         // Wait for edit form to load
         try {
             wait.until(ExpectedConditions.visibilityOfElementLocated(RCSAssistantPageLocators.EDIT_PAGE_HEADER));
-            System.out.println("Edit page loaded");
+            Log.info("Edit page loaded");
         } catch (Exception e) {
-            System.out.println("Edit page header not found, but proceeding...");
+            Log.info("Edit page header not found, but proceeding...");
         }
     }
 
@@ -1400,7 +1391,7 @@ public class RCSAssistantPage {
 
             // Confirm logout if dialog appears
             try {
-                WebElement confirmButton = new WebDriverWait(driver, Duration.ofSeconds(3))
+                WebElement confirmButton = new TracedWait(driver, Duration.ofSeconds(3))
                         .until(ExpectedConditions.elementToBeClickable(RCSAssistantPageLocators.RCS_LOGOUT_CONFIRM));
                 confirmButton.click();
             } catch (Exception e) {
@@ -1463,7 +1454,7 @@ public class RCSAssistantPage {
      * Use this to handle "new fields" that might appear without updated locators.
      */
     private void fillRemainingRequiredFields() {
-        System.out.println("Checking for any other required fields to fill...");
+        Log.info("Checking for any other required fields to fill...");
         try {
             // Find all visible inputs, textareas, and selects
             List<WebElement> inputs = driver.findElements(By.xpath("//input | //textarea | //select | //ng-select"));
@@ -1474,7 +1465,7 @@ public class RCSAssistantPage {
                     if (element.isDisplayed() && isRequired(element)) {
                         // Check if empty
                         if (isElementEmpty(element)) {
-                            System.out.println("Found empty required field: " + element.getTagName());
+                            Log.info("Found empty required field: " + element.getTagName());
                             fillElementWithDummyData(element);
                         }
                     }
@@ -1483,7 +1474,7 @@ public class RCSAssistantPage {
                 }
             }
         } catch (Exception e) {
-            System.out.println("Error in dynamic field filling: " + e.getMessage());
+            Log.error("Error in dynamic field filling: " + e.getMessage());
         }
     }
 
@@ -1546,10 +1537,10 @@ public class RCSAssistantPage {
             try {
                 element.clear();
                 element.sendKeys(valueToFill);
-                System.out.println("Filled " + tagName + " with: " + valueToFill);
+                Log.info("Filled " + tagName + " with: " + valueToFill);
             } catch (Exception e) {
                 fillInputWithJS(element, valueToFill);
-                System.out.println("Filled " + tagName + " (JS) with: " + valueToFill);
+                Log.info("Filled " + tagName + " (JS) with: " + valueToFill);
             }
         }
     }
@@ -6,13 +6,15 @@ import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import utils.ElementCache;
+import utils.Log;
+import utils.PermissionTree;
+import utils.TracedWait;
 
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 /**
  * Page Object for Roles Management Page
@@ -20,12 +22,15 @@ import java.util.Set;
  */
 public class RolesManagementPage {
 
+    private static final String SSO_SECTION = "Service nodes management role SSO";
+
     private WebDriver driver;
     private WebDriverWait wait;
+    private PermissionTree permissionTree;
 
     public RolesManagementPage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(15));
+        this.wait = new TracedWait(driver, Duration.ofSeconds(15));
     }
 
     // ========== Navigation Methods ==========
@@ -34,7 +39,7 @@ public class RolesManagementPage {
      * Navigate to Roles Management page from dashboard
      */
     public void navigateToRolesManagement() {
-        System.out.println("Navigating to Roles Management page...");
+        Log.info("Navigating to Roles Management page...");
         try {
             WebElement menu = wait.until(ExpectedConditions.elementToBeClickable(
                     RolesManagementPageLocators.ROLES_MANAGEMENT_MENU));
@@ -50,13 +55,13 @@ public class RolesManagementPage {
             }
 
             Thread.sleep(1000);
-            System.out.println("✓ Navigated to Roles Management page");
+            Log.info("✓ Navigated to Roles Management page");
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
-            System.err.println("Thread interrupted: " + e.getMessage());
+            Log.error("Thread interrupted: " + e.getMessage());
             throw new RuntimeException("Navigation to Roles Management failed", e);
         } catch (Exception e) {
-            System.err.println("Failed to navigate to Roles Management: " + e.getMessage());
+            Log.error("Failed to navigate to Roles Management: " + e.getMessage());
             throw new RuntimeException("Navigation to Roles Management failed", e);
         }
     }
@@ -71,7 +76,7 @@ public class RolesManagementPage {
             boolean loaded = currentUrl.contains("roles-management");
 
             if (loaded) {
-                System.out.println("✓ Roles Management page loaded. URL: " + currentUrl);
+                Log.info("✓ Roles Management page loaded. URL: " + currentUrl);
             }
 
             return loaded;
@@ -86,7 +91,7 @@ public class RolesManagementPage {
      * Get all table column headers
      */
     public List<String> getTableHeaders() {
-        System.out.println("Retrieving table headers...");
+        Log.info("Retrieving table headers...");
         try {
             List<WebElement> headers = wait.until(ExpectedConditions.presenceOfAllElementsLocatedBy(
                     RolesManagementPageLocators.TABLE_HEADERS));
@@ -99,10 +104,10 @@ public class RolesManagementPage {
                 }
             }
 
-            System.out.println("✓ Found " + headerTexts.size() + " headers: " + headerTexts);
+            Log.info("✓ Found " + headerTexts.size() + " headers: " + headerTexts);
             return headerTexts;
         } catch (Exception e) {
-            System.err.println("Failed to get table headers: " + e.getMessage());
+            Log.error("Failed to get table headers: " + e.getMessage());
             return new ArrayList<>();
         }
     }
@@ -111,7 +116,7 @@ public class RolesManagementPage {
      * Validate table headers contain expected values
      */
     public boolean validateTableHeaders(List<String> expectedHeaders) {
-        System.out.println("Validating table headers...");
+        Log.info("Validating table headers...");
         List<String> actualHeaders = getTableHeaders();
 
         for (String expected : expectedHeaders) {
@@ -123,12 +128,12 @@ public class RolesManagementPage {
                 }
             }
             if (!found) {
-                System.err.println("✗ Expected header '" + expected + "' not found");
+                Log.error("✗ Expected header '" + expected + "' not found");
                 return false;
             }
         }
 
-        System.out.println("✓ All expected headers found");
+        Log.info("✓ All expected headers found");
         return true;
     }
 
@@ -139,10 +144,10 @@ public class RolesManagementPage {
         try {
             List<WebElement> rows = driver.findElements(RolesManagementPageLocators.TABLE_ROWS);
             int count = rows.size();
-            System.out.println("Table has " + count + " row(s)");
+            Log.info("Table has " + count + " row(s)");
             return count;
         } catch (Exception e) {
-            System.err.println("Failed to get row count: " + e.getMessage());
+            Log.error("Failed to get row count: " + e.getMessage());
             return 0;
         }
     }
@@ -151,15 +156,15 @@ public class RolesManagementPage {
      * Get first role name from the table
      */
     public String getFirstRoleName() {
-        System.out.println("Retrieving first role name...");
+        Log.info("Retrieving first role name...");
         try {
             WebElement firstRole = wait.until(ExpectedConditions.presenceOfElementLocated(
                     RolesManagementPageLocators.FIRST_ROLE_NAME));
             String roleName = firstRole.getText().trim();
-            System.out.println("✓ First role name: " + roleName);
+            Log.info("✓ First role name: " + roleName);
             return roleName;
         } catch (Exception e) {
-            System.err.println("Failed to get first role name: " + e.getMessage());
+            Log.error("Failed to get first role name: " + e.getMessage());
             return "";
         }
     }
@@ -172,7 +177,7 @@ public class RolesManagementPage {
      * @return Map with "roleName" and "usersCount" keys, or null if none found
      */
     public java.util.Map<String, String> findRoleWithUsers() {
-        System.out.println("Finding role with Users > 0...");
+        Log.info("Finding role with Users > 0...");
         try {
             List<WebElement> rows = driver.findElements(RolesManagementPageLocators.TABLE_ROWS);
 
@@ -195,7 +200,7 @@ public class RolesManagementPage {
                             java.util.Map<String, String> result = new java.util.HashMap<>();
                             result.put("roleName", roleName);
                             result.put("usersCount", String.valueOf(count));
-                            System.out.println("✓ Found role: " + roleName + " with " + count + " user(s)");
+                            Log.info("✓ Found role: " + roleName + " with " + count + " user(s)");
                             return result;
                         }
                     }
@@ -205,10 +210,10 @@ public class RolesManagementPage {
                 }
             }
 
-            System.err.println("✗ No role found with Users > 0");
+            Log.error("✗ No role found with Users > 0");
             return null;
         } catch (Exception e) {
-            System.err.println("Failed to find role with users: " + e.getMessage());
+            Log.error("Failed to find role with users: " + e.getMessage());
             return null;
         }
     }
@@ -220,16 +225,16 @@ public class RolesManagementPage {
      * @return Users count as integer, or -1 if not found
      */
     public int getUsersCountForRole(String roleName) {
-        System.out.println("Getting Users count for role: " + roleName);
+        Log.info("Getting Users count for role: " + roleName);
         try {
             WebElement countElement = wait.until(ExpectedConditions.presenceOfElementLocated(
                     RolesManagementPageLocators.getUsersCountValueByRoleName(roleName)));
             String countText = countElement.getText().trim();
             int count = Integer.parseInt(countText);
-            System.out.println("✓ Users count for '" + roleName + "': " + count);
+            Log.info("✓ Users count for '" + roleName + "': " + count);
             return count;
         } catch (Exception e) {
-            System.err.println("Failed to get Users count for role '" + roleName + "': " + e.getMessage());
+            Log.error("Failed to get Users count for role '" + roleName + "': " + e.getMessage());
             return -1;
         }
     }
@@ -240,18 +245,18 @@ public class RolesManagementPage {
      * @param roleName Name of the role
      */
     public void clickUsersCount(String roleName) {
-        System.out.println("Clicking Users count for role: " + roleName);
+        Log.info("Clicking Users count for role: " + roleName);
         try {
             WebElement usersLink = wait.until(ExpectedConditions.elementToBeClickable(
                     RolesManagementPageLocators.getUsersCountByRoleName(roleName)));
             usersLink.click();
             Thread.sleep(2000); // Wait for navigation
-            System.out.println("✓ Clicked Users count for '" + roleName + "'");
+            Log.info("✓ Clicked Users count for '" + roleName + "'");
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new RuntimeException("Click Users count failed", e);
         } catch (Exception e) {
-            System.err.println("Failed to click Users count for role '" + roleName + "': " + e.getMessage());
+            Log.error("Failed to click Users count for role '" + roleName + "': " + e.getMessage());
             throw new RuntimeException("Click Users count failed", e);
         }
     }
@@ -262,18 +267,18 @@ public class RolesManagementPage {
      * Click the Next button in pagination
      */
     public void clickNext() {
-        System.out.println("Clicking Next button...");
+        Log.info("Clicking Next button...");
         try {
             WebElement nextButton = wait.until(ExpectedConditions.elementToBeClickable(
                     RolesManagementPageLocators.PAGINATION_NEXT));
             nextButton.click();
             Thread.sleep(2000); // Wait for page to load
-            System.out.println("✓ Clicked Next button");
+            Log.info("✓ Clicked Next button");
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new RuntimeException("Click Next failed", e);
         } catch (Exception e) {
-            System.err.println("Failed to click Next: " + e.getMessage());
+            Log.error("Failed to click Next: " + e.getMessage());
             throw new RuntimeException("Click Next failed", e);
         }
     }
@@ -282,18 +287,18 @@ public class RolesManagementPage {
      * Click the Previous button in pagination
      */
     public void clickPrevious() {
-        System.out.println("Clicking Previous button...");
+        Log.info("Clicking Previous button...");
         try {
             WebElement prevButton = wait.until(ExpectedConditions.elementToBeClickable(
                     RolesManagementPageLocators.PAGINATION_PREVIOUS));
             prevButton.click();
             Thread.sleep(2000); // Wait for page to load
-            System.out.println("✓ Clicked Previous button");
+            Log.info("✓ Clicked Previous button");
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new RuntimeException("Click Previous failed", e);
         } catch (Exception e) {
-            System.err.println("Failed to click Previous: " + e.getMessage());
+            Log.error("Failed to click Previous: " + e.getMessage());
             throw new RuntimeException("Click Previous failed", e);
         }
     }
@@ -303,13 +308,13 @@ public class RolesManagementPage {
      */
     public boolean isNextEnabled() {
         try {
-            WebElement nextButton = driver.findElement(RolesManagementPageLocators.PAGINATION_NEXT);
+            WebElement nextButton = ElementCache.forDriver(driver).find(RolesManagementPageLocators.PAGINATION_NEXT);
             boolean enabled = nextButton.isEnabled() &&
                     !nextButton.getDomAttribute("class").contains("disabled");
-            System.out.println("Next button enabled: " + enabled);
+            Log.info("Next button enabled: " + enabled);
             return enabled;
         } catch (Exception e) {
-            System.err.println("Failed to check Next button status: " + e.getMessage());
+            Log.error("Failed to check Next button status: " + e.getMessage());
             return false;
         }
     }
@@ -319,13 +324,13 @@ public class RolesManagementPage {
      */
     public boolean isPreviousEnabled() {
         try {
-            WebElement prevButton = driver.findElement(RolesManagementPageLocators.PAGINATION_PREVIOUS);
+            WebElement prevButton = ElementCache.forDriver(driver).find(RolesManagementPageLocators.PAGINATION_PREVIOUS);
             boolean enabled = prevButton.isEnabled() &&
                     !prevButton.getDomAttribute("class").contains("disabled");
-            System.out.println("Previous button enabled: " + enabled);
+            Log.info("Previous button enabled: " + enabled);
             return enabled;
         } catch (Exception e) {
-            System.err.println("Failed to check Previous button status: " + e.getMessage());
+            Log.error("Failed to check Previous button status: " + e.getMessage());
             return false;
         }
     }
@@ -336,15 +341,15 @@ public class RolesManagementPage {
      * Check if first Edit button is clickable
      */
     public boolean isFirstEditButtonClickable() {
-        System.out.println("Checking first Edit button...");
+        Log.info("Checking first Edit button...");
         try {
             WebElement editButton = wait.until(ExpectedConditions.presenceOfElementLocated(
                     RolesManagementPageLocators.EDIT_BUTTON_FIRST));
             boolean clickable = editButton.isEnabled() && editButton.isDisplayed();
-            System.out.println("✓ First Edit button clickable: " + clickable);
+            Log.info("✓ First Edit button clickable: " + clickable);
             return clickable;
         } catch (Exception e) {
-            System.err.println("Failed to check first Edit button: " + e.getMessage());
+            Log.error("Failed to check first Edit button: " + e.getMessage());
             return false;
         }
     }
@@ -353,15 +358,15 @@ public class RolesManagementPage {
      * Check if first View button is clickable
      */
     public boolean isFirstViewButtonClickable() {
-        System.out.println("Checking first View button...");
+        Log.info("Checking first View button...");
         try {
             WebElement viewButton = wait.until(ExpectedConditions.presenceOfElementLocated(
                     RolesManagementPageLocators.VIEW_BUTTON_FIRST));
             boolean clickable = viewButton.isEnabled() && viewButton.isDisplayed();
-            System.out.println("✓ First View button clickable: " + clickable);
+            Log.info("✓ First View button clickable: " + clickable);
             return clickable;
         } catch (Exception e) {
-            System.err.println("Failed to check first View button: " + e.getMessage());
+            Log.error("Failed to check first View button: " + e.getMessage());
             return false;
         }
     }
@@ -372,19 +377,19 @@ public class RolesManagementPage {
      * Perform search with given text
      */
     public void search(String searchText) {
-        System.out.println("Searching for: " + searchText);
+        Log.info("Searching for: " + searchText);
         try {
-            WebElement searchField = wait.until(ExpectedConditions.presenceOfElementLocated(
-                    RolesManagementPageLocators.SEARCH_FIELD));
+            WebElement searchField = ElementCache.forDriver(driver).find(
+                    RolesManagementPageLocators.SEARCH_FIELD, wait);
             searchField.clear();
             searchField.sendKeys(searchText);
             Thread.sleep(2000); // Wait for search results
-            System.out.println("✓ Search performed");
+            Log.info("✓ Search performed");
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new RuntimeException("Search failed", e);
         } catch (Exception e) {
-            System.err.println("Failed to perform search: " + e.getMessage());
+            Log.error("Failed to perform search: " + e.getMessage());
             throw new RuntimeException("Search failed", e);
         }
     }
@@ -408,15 +413,15 @@ public class RolesManagementPage {
      * Check if Add New button is clickable
      */
     public boolean isAddNewClickable() {
-        System.out.println("Checking Add New button...");
+        Log.info("Checking Add New button...");
         try {
             WebElement addNewButton = wait.until(ExpectedConditions.presenceOfElementLocated(
                     RolesManagementPageLocators.ADD_NEW_BUTTON));
             boolean clickable = addNewButton.isEnabled() && addNewButton.isDisplayed();
-            System.out.println("✓ Add New button clickable: " + clickable);
+            Log.info("✓ Add New button clickable: " + clickable);
             return clickable;
         } catch (Exception e) {
-            System.err.println("Failed to check Add New button: " + e.getMessage());
+            Log.error("Failed to check Add New button: " + e.getMessage());
             return false;
         }
     }
@@ -425,131 +430,89 @@ public class RolesManagementPage {
      * Click Add New button
      */
     public void clickAddNew() {
-        System.out.println("Clicking Add New button...");
+        Log.info("Clicking Add New button...");
         try {
             WebElement addNewButton = wait.until(ExpectedConditions.elementToBeClickable(
                     RolesManagementPageLocators.ADD_NEW_BUTTON));
             addNewButton.click();
+            permissionTree = null;
             Thread.sleep(2000); // Wait for form to load
-            System.out.println("✓ Clicked Add New button - Form opened");
+            Log.info("✓ Clicked Add New button - Form opened");
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new RuntimeException("Click Add New failed", e);
         } catch (Exception e) {
-            System.err.println("Failed to click Add New: " + e.getMessage());
+            Log.error("Failed to click Add New: " + e.getMessage());
             throw new RuntimeException("Click Add New failed", e);
         }
     }
 
     // ========== Add New Form Validation Methods ==========
 
+    /**
+     * Read the full permission tree of the open Add New form.
+     * All accordions are expanded and read in one script call; the result is
+     * reused until the form is reopened or closed.
+     */
+    public PermissionTree getPermissionTree() {
+        if (permissionTree == null) {
+            permissionTree = PermissionTree.read(driver);
+        }
+        return permissionTree;
+    }
+
     /**
      * Validate all permission accordions are present
      */
     public boolean validateAllPermissionAccordions() {
-        System.out.println("Validating all permission accordions...");
-        boolean allPresent = true;
+        Log.info("Validating all permission accordions...");
+
+        String[] expectedSections = {
+                "Dashboard",
+                "Customer org",
+                "Own team management",
+                "Role management",
+                "Settings",
+                "My profile",
+                "API & Documentation",
+                "Service nodes management role SSO"
+        };
 
         try {
-            // Check Dashboard
-            if (!isElementPresent(RolesManagementPageLocators.ACCORDION_DASHBOARD)) {
-                System.err.println("✗ Dashboard accordion not found");
-                allPresent = false;
-            } else {
-                System.out.println("✓ Dashboard accordion present");
-            }
+            PermissionTree tree = getPermissionTree();
+            List<String> missing = tree.findMissingSections(expectedSections);
 
-            // Check Customer Organisation
-            if (!isElementPresent(RolesManagementPageLocators.ACCORDION_CUSTOMER_ORG)) {
-                System.err.println("✗ Customer Organisation accordion not found");
-                allPresent = false;
-            } else {
-                System.out.println("✓ Customer Organisation accordion present");
-            }
-
-            // Check Own Team Management
-            if (!isElementPresent(RolesManagementPageLocators.ACCORDION_OWN_TEAM)) {
-                System.err.println("✗ Own Team Management accordion not found");
-                allPresent = false;
-            } else {
-                System.out.println("✓ Own Team Management accordion present");
-            }
-
-            // Check Roles Management
-            if (!isElementPresent(RolesManagementPageLocators.ACCORDION_ROLES_MGMT)) {
-                System.err.println("✗ Roles Management accordion not found");
-                allPresent = false;
-            } else {
-                System.out.println("✓ Roles Management accordion present");
-            }
-
-            // Check Settings
-            if (!isElementPresent(RolesManagementPageLocators.ACCORDION_SETTINGS)) {
-                System.err.println("✗ Settings accordion not found");
-                allPresent = false;
-            } else {
-                System.out.println("✓ Settings accordion present");
-            }
-
-            // Check My Profile
-            if (!isElementPresent(RolesManagementPageLocators.ACCORDION_MY_PROFILE)) {
-                System.err.println("✗ My Profile accordion not found");
-                allPresent = false;
-            } else {
-                System.out.println("✓ My Profile accordion present");
-            }
-
-            // Check API & Documentation
-            if (!isElementPresent(RolesManagementPageLocators.ACCORDION_API_DOCS)) {
-                System.err.println("✗ API & Documentation accordion not found");
-                allPresent = false;
-            } else {
-                System.out.println("✓ API & Documentation accordion present");
+            for (String section : expectedSections) {
+                if (missing.contains(section)) {
+                    Log.error("✗ " + section + " accordion not found");
+                } else {
+                    Log.info("✓ " + section + " accordion present");
+                }
             }
 
-            // Check Service Node SSO Management
-            if (!isElementPresent(RolesManagementPageLocators.ACCORDION_SERVICE_NODE_SSO)) {
-                System.err.println("✗ Service Node SSO Management accordion not found");
-                allPresent = false;
-            } else {
-                System.out.println("✓ Service Node SSO Management accordion present");
+            if (missing.isEmpty()) {
+                Log.info("✓ All " + expectedSections.length + " permission accordions are present");
             }
-
+            return missing.isEmpty();
         } catch (Exception e) {
-            System.err.println("Error validating accordions: " + e.getMessage());
+            Log.error("Error validating accordions: " + e.getMessage());
             return false;
         }
-
-        if (allPresent) {
-            System.out.println("✓ All 8 permission accordions are present");
-        }
-
-        return allPresent;
     }
 
     /**
      * Expand Service Node SSO accordion
      */
     public void expandServiceNodeSSOAccordion() {
-        System.out.println("Expanding Service Node SSO accordion...");
+        Log.info("Expanding Service Node SSO accordion...");
         try {
-            WebElement accordion = wait.until(ExpectedConditions.elementToBeClickable(
-                    RolesManagementPageLocators.ACCORDION_SERVICE_NODE_SSO));
-
-            // Check if it's already expanded
-            String ariaExpanded = accordion.getDomAttribute("aria-expanded");
-            if (!"true".equals(ariaExpanded)) {
-                accordion.click();
-                Thread.sleep(1000);
-                System.out.println("✓ Service Node SSO accordion expanded");
-            } else {
-                System.out.println("✓ Service Node SSO accordion already expanded");
+            // Reading the tree expands every accordion, so no separate click is needed
+            if (!getPermissionTree().hasSection(SSO_SECTION)) {
+                throw new RuntimeException("Service Node SSO accordion not found");
             }
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new RuntimeException("Expand accordion failed", e);
+            Log.info("✓ Service Node SSO accordion expanded");
         } catch (Exception e) {
-            System.err.println("Failed to expand Service Node SSO accordion: " + e.getMessage());
+            Log.error("Failed to expand Service Node SSO accordion: " + e.getMessage());
             throw new RuntimeException("Expand accordion failed", e);
         }
     }
@@ -558,8 +521,7 @@ public class RolesManagementPage {
      * Validate Service Node SSO sub-options are present
      */
     public boolean validateServiceNodeSSOSubOptions() {
-        System.out.println("Validating Service Node SSO sub-options...");
-        boolean allPresent = true;
+        Log.info("Validating Service Node SSO sub-options...");
 
         String[] expectedOptions = {
                 "Service nodes SSO",
@@ -573,61 +535,46 @@ public class RolesManagementPage {
         };
 
         try {
-            for (String option : expectedOptions) {
-                // Use p tags with normalize-space() to match labels
-                boolean found = driver.findElements(By.xpath(
-                        "//p[normalize-space()='" + option + "']")).size() > 0;
+            List<String> missing = getPermissionTree().findMissingOptions(SSO_SECTION, expectedOptions);
 
-                if (found) {
-                    System.out.println("✓ " + option + " - present");
+            for (String option : expectedOptions) {
+                if (missing.contains(option)) {
+                    Log.error("✗ " + option + " - NOT FOUND");
                 } else {
-                    System.err.println("✗ " + option + " - NOT FOUND");
-                    allPresent = false;
+                    Log.info("✓ " + option + " - present");
                 }
             }
+
+            if (missing.isEmpty()) {
+                Log.info("✓ All " + expectedOptions.length + " Service Node SSO sub-options are present");
+            }
+            return missing.isEmpty();
         } catch (Exception e) {
-            System.err.println("Error validating sub-options: " + e.getMessage());
+            Log.error("Error validating sub-options: " + e.getMessage());
             return false;
         }
-
-        if (allPresent) {
-            System.out.println("✓ All 8 Service Node SSO sub-options are present");
-        }
-
-        return allPresent;
     }
 
     /**
      * Check for duplicate values in Service Node SSO options
      */
     public boolean checkNoDuplicatesInSSOOptions() {
-        System.out.println("Checking for duplicate values in SSO options...");
+        Log.info("Checking for duplicate values in SSO options...");
         try {
-            List<WebElement> allOptions = driver.findElements(
-                    RolesManagementPageLocators.SSO_ALL_OPTIONS);
-
-            List<String> optionTexts = new ArrayList<>();
-            Set<String> uniqueOptions = new HashSet<>();
-
-            for (WebElement option : allOptions) {
-                String text = option.getText().trim();
-                if (!text.isEmpty()) {
-                    optionTexts.add(text);
-                    uniqueOptions.add(text);
-                }
-            }
+            PermissionTree tree = getPermissionTree();
+            List<String> optionTexts = tree.getOptionLabels(SSO_SECTION);
+            List<String> duplicates = tree.findDuplicateOptions(SSO_SECTION);
 
-            if (optionTexts.size() != uniqueOptions.size()) {
-                System.err.println("✗ Duplicates found in SSO options!");
-                System.err.println("Total options: " + optionTexts.size());
-                System.err.println("Unique options: " + uniqueOptions.size());
+            if (!duplicates.isEmpty()) {
+                Log.error("✗ Duplicates found in SSO options: " + duplicates);
+                Log.error("Total options: " + optionTexts.size());
                 return false;
             }
 
-            System.out.println("✓ No duplicates found. All " + optionTexts.size() + " options are unique");
+            Log.info("✓ No duplicates found. All " + optionTexts.size() + " options are unique");
             return true;
         } catch (Exception e) {
-            System.err.println("Failed to check for duplicates: " + e.getMessage());
+            Log.error("Failed to check for duplicates: " + e.getMessage());
             return false;
         }
     }
@@ -636,27 +583,28 @@ public class RolesManagementPage {
      * Close Add New form
      */
     public void closeAddNewForm() {
-        System.out.println("Closing Add New form...");
+        Log.info("Closing Add New form...");
+        permissionTree = null;
         try {
             WebElement closeButton = wait.until(ExpectedConditions.elementToBeClickable(
                     RolesManagementPageLocators.FORM_CLOSE_BUTTON));
             closeButton.click();
             Thread.sleep(1000);
-            System.out.println("✓ Add New form closed");
+            Log.info("✓ Add New form closed");
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new RuntimeException("Close form failed", e);
         } catch (Exception e) {
-            System.err.println("Failed to close form: " + e.getMessage());
+            Log.error("Failed to close form: " + e.getMessage());
             // Try alternative - cancel button
             try {
                 WebElement cancelButton = driver.findElement(
                         RolesManagementPageLocators.FORM_CANCEL_BUTTON);
                 cancelButton.click();
                 Thread.sleep(1000);
-                System.out.println("✓ Add New form closed via Cancel");
+                Log.info("✓ Add New form closed via Cancel");
             } catch (Exception ex) {
-                System.err.println("Failed to close form via Cancel: " + ex.getMessage());
+                Log.error("Failed to close form via Cancel: " + ex.getMessage());
             }
         }
     }
@@ -4,6 +4,8 @@ import locators.ServiceNodeSSOPageLocators;
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import utils.Log;
+import utils.TracedWait;
 
 import java.time.Duration;
 import java.util.ArrayList;
@@ -19,7 +21,7 @@ public class ServiceNodeSSOPage {
 
     public ServiceNodeSSOPage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(15));
+        this.wait = new TracedWait(driver, Duration.ofSeconds(15));
     }
 
     // ==================== Navigation Methods ====================
@@ -28,7 +30,7 @@ public class ServiceNodeSSOPage {
      * Navigate to Service Node SSO page from dashboard
      */
     public void navigateToServiceNodeSSO() {
-        System.out.println("Navigating to Service Node SSO page...");
+        Log.info("Navigating to Service Node SSO page...");
         try {
             WebElement menu = wait.until(ExpectedConditions.elementToBeClickable(
                     ServiceNodeSSOPageLocators.SERVICE_NODE_SSO_MENU));
@@ -44,12 +46,12 @@ public class ServiceNodeSSOPage {
             }
 
             waitForLoading();
-            System.out.println("✓ Navigated to Service Node SSO page");
+            Log.info("✓ Navigated to Service Node SSO page");
         } catch (Exception e) {
-            System.err.println("Failed to navigate to Service Node SSO: " + e.getMessage());
+            Log.error("Failed to navigate to Service Node SSO: " + e.getMessage());
             // Retry once
             try {
-                System.out.println("Retrying navigation to Service Node SSO...");
+                Log.info("Retrying navigation to Service Node SSO...");
                 driver.get(driver.getCurrentUrl()); // Refresh
                 Thread.sleep(2000);
                 WebElement menu = wait.until(ExpectedConditions.elementToBeClickable(
@@ -59,7 +61,7 @@ public class ServiceNodeSSOPage {
                 if (!driver.getCurrentUrl().contains("service-nodes-sso")) {
                     throw new RuntimeException("Navigation retry failed");
                 }
-                System.out.println("✓ Retry successful");
+                Log.info("✓ Retry successful");
             } catch (Exception retryEx) {
                 throw new RuntimeException("Navigation to Service Node SSO failed after retry", retryEx);
             }
@@ -77,7 +79,7 @@ public class ServiceNodeSSOPage {
             boolean loaded = currentUrl.contains("service-nodes-sso");
 
             if (loaded) {
-                System.out.println("✓ Service Nodes SSO page loaded. URL: " + currentUrl);
+                Log.info("✓ Service Nodes SSO page loaded. URL: " + currentUrl);
             }
 
             return loaded;
@@ -92,7 +94,7 @@ public class ServiceNodeSSOPage {
      * Get list of all available service names
      */
     public List<String> getAvailableServices() {
-        System.out.println("Fetching available services...");
+        Log.info("Fetching available services...");
         List<String> services = new ArrayList<>();
 
         try {
@@ -111,9 +113,9 @@ public class ServiceNodeSSOPage {
                 }
             }
 
-            System.out.println("✓ Found " + services.size() + " service(s): " + services);
+            Log.info("✓ Found " + services.size() + " service(s): " + services);
         } catch (Exception e) {
-            System.err.println("Error fetching services: " + e.getMessage());
+            Log.error("Error fetching services: " + e.getMessage());
         }
 
         return services;
@@ -146,7 +148,7 @@ public class ServiceNodeSSOPage {
      * Click Login button for a specific service
      */
     public void clickLoginForService(String serviceName) {
-        System.out.println("Clicking Login button for service: " + serviceName);
+        Log.info("Clicking Login button for service: " + serviceName);
         try {
             waitForLoading(); // Ensure page is settled
             WebElement loginBtn = wait.until(ExpectedConditions.elementToBeClickable(
@@ -170,17 +172,17 @@ public class ServiceNodeSSOPage {
             }
 
             waitForLoading();
-            System.out.println("✓ Clicked Login button for: " + serviceName);
+            Log.info("✓ Clicked Login button for: " + serviceName);
         } catch (Exception e) {
-            System.out.println("Standard click failed for " + serviceName + ", trying JS click...");
+            Log.info("Standard click failed for " + serviceName + ", trying JS click...");
             try {
                 WebElement loginBtn = driver
                         .findElement(ServiceNodeSSOPageLocators.getLoginButtonForService(serviceName));
                 ((JavascriptExecutor) driver).executeScript("arguments[0].click();", loginBtn);
                 waitForLoading();
-                System.out.println("✓ JS Clicked Login button for: " + serviceName);
+                Log.info("✓ JS Clicked Login button for: " + serviceName);
             } catch (Exception jsEx) {
-                System.err.println("Failed to click Login for " + serviceName + ": " + jsEx.getMessage());
+                Log.error("Failed to click Login for " + serviceName + ": " + jsEx.getMessage());
                 throw new RuntimeException("Login button click failed", jsEx);
             }
         }
@@ -205,7 +207,7 @@ public class ServiceNodeSSOPage {
      * Get list of available roles in the modal
      */
     public List<String> getAvailableRoles() {
-        System.out.println("Fetching available roles...");
+        Log.info("Fetching available roles...");
         List<String> roles = new ArrayList<>();
 
         try {
@@ -248,9 +250,9 @@ public class ServiceNodeSSOPage {
                 roles.addAll(uniqueRoles);
             }
 
-            System.out.println("✓ Found " + roles.size() + " role(s): " + roles);
+            Log.info("✓ Found " + roles.size() + " role(s): " + roles);
         } catch (Exception e) {
-            System.err.println("Error fetching roles: " + e.getMessage());
+            Log.error("Error fetching roles: " + e.getMessage());
         }
 
         return roles;
@@ -260,7 +262,7 @@ public class ServiceNodeSSOPage {
      * Select a specific role from the modal
      */
     public void selectRole(String roleName) {
-        System.out.println("Selecting role: " + roleName);
+        Log.info("Selecting role: " + roleName);
         try {
             waitForLoading(); // Ensure no spinners are active
             // Find the visible menu container first to avoid duplicates/hidden elements
@@ -278,7 +280,7 @@ public class ServiceNodeSSOPage {
                     }
                 }
             } catch (Exception e) {
-                System.out.println("Wait for role menu timed out or failed: " + e.getMessage());
+                Log.info("Wait for role menu timed out or failed: " + e.getMessage());
             }
 
             WebElement roleMenuItem = null;
@@ -288,9 +290,9 @@ public class ServiceNodeSSOPage {
                     // Use relative XPath (.) to search ONLY inside the visible menu
                     String relativeXpath = ".//button[@role='menuitem'][.//span[contains(text(), '" + roleName + "')]]";
                     roleMenuItem = visibleMenu.findElement(By.xpath(relativeXpath));
-                    System.out.println("Found role '" + roleName + "' in visible menu");
+                    Log.info("Found role '" + roleName + "' in visible menu");
                 } catch (Exception e) {
-                    System.out.println("Could not find role in visible menu, falling back to global search");
+                    Log.warn("Could not find role in visible menu, falling back to global search");
                 }
             }
 
@@ -301,7 +303,7 @@ public class ServiceNodeSSOPage {
 
                 // Verify this element is actually visible if global search used
                 if (!roleMenuItem.isDisplayed()) {
-                    System.out.println("⚠ Found role element but it's not displayed. searching for visible one...");
+                    Log.warn("⚠ Found role element but it's not displayed. searching for visible one...");
                     List<WebElement> options = driver.findElements(roleLocator);
                     for (WebElement opt : options) {
                         if (opt.isDisplayed()) {
@@ -323,14 +325,14 @@ public class ServiceNodeSSOPage {
                         .click()
                         .perform();
             } catch (Exception clickEx) {
-                System.out.println("Standard/Actions click failed for role, trying JS click...");
+                Log.info("Standard/Actions click failed for role, trying JS click...");
                 ((JavascriptExecutor) driver).executeScript("arguments[0].click();", roleMenuItem);
             }
 
             waitForLoading();
-            System.out.println("✓ Selected role: " + roleName);
+            Log.info("✓ Selected role: " + roleName);
         } catch (Exception e) {
-            System.err.println("Failed to select role " + roleName + ": " + e.getMessage());
+            Log.error("Failed to select role " + roleName + ": " + e.getMessage());
             throw new RuntimeException("Role selection failed", e);
         }
     }
@@ -339,7 +341,7 @@ public class ServiceNodeSSOPage {
      * Click Submit/Continue button in role modal
      */
     public void submitRoleSelection() {
-        System.out.println("Submitting role selection...");
+        Log.info("Submitting role selection...");
         try {
             WebElement submitBtn = wait.until(ExpectedConditions.elementToBeClickable(
                     ServiceNodeSSOPageLocators.ROLE_MODAL_SUBMIT_BUTTON));
@@ -347,9 +349,9 @@ public class ServiceNodeSSOPage {
 
             // Wait for modal to close and navigation to complete
             wait.until(ExpectedConditions.presenceOfElementLocated(ServiceNodeSSOPageLocators.SERVICE_DASHBOARD));
-            System.out.println("✓ Role selection submitted");
+            Log.info("✓ Role selection submitted");
         } catch (Exception e) {
-            System.err.println("Failed to submit role: " + e.getMessage());
+            Log.error("Failed to submit role: " + e.getMessage());
             throw new RuntimeException("Role submission failed", e);
         }
     }
@@ -358,7 +360,7 @@ public class ServiceNodeSSOPage {
      * Complete SSO login for a service with a specific role
      */
     public void performSSOLogin(String serviceName, String roleName) {
-        System.out.println("Performing SSO login - Service: " + serviceName + ", Role: " + roleName);
+        Log.info("Performing SSO login - Service: " + serviceName + ", Role: " + roleName);
 
         clickLoginForService(serviceName);
 
@@ -369,11 +371,11 @@ public class ServiceNodeSSOPage {
             wait.until(ExpectedConditions.presenceOfElementLocated(ServiceNodeSSOPageLocators.SERVICE_DASHBOARD));
             wait.until(driver -> driver.getCurrentUrl().contains("dashboard"));
         } else {
-            System.out.println("⚠ No role selection modal appeared - proceeding directly");
+            Log.warn("⚠ No role selection modal appeared - proceeding directly");
             wait.until(driver -> driver.getCurrentUrl().contains("dashboard"));
         }
 
-        System.out.println("✓ SSO login completed for " + serviceName + " as " + roleName);
+        Log.info("✓ SSO login completed for " + serviceName + " as " + roleName);
     }
 
     // ==================== Validation Methods ====================
@@ -414,15 +416,15 @@ public class ServiceNodeSSOPage {
      * Verify redirection to specific service by checking page title or header
      */
     public boolean isRedirectedToService(String expectedServiceName) {
-        System.out.println("Validating redirection to: " + expectedServiceName);
+        Log.info("Validating redirection to: " + expectedServiceName);
         try {
             Thread.sleep(2000);
 
             String currentUrl = driver.getCurrentUrl();
             String pageTitle = driver.getTitle();
 
-            System.out.println("Current URL: " + currentUrl);
-            System.out.println("Page Title: " + pageTitle);
+            Log.info("Current URL: " + currentUrl);
+            Log.info("Page Title: " + pageTitle);
 
             // Check if URL or title contains service name
             boolean urlMatch = currentUrl.toLowerCase().contains(expectedServiceName.toLowerCase());
@@ -439,12 +441,12 @@ public class ServiceNodeSSOPage {
             }
 
             boolean redirected = urlMatch || titleMatch || headerMatch;
-            System.out.println(redirected ? "✓ Successfully redirected to " + expectedServiceName
+            Log.info(redirected ? "✓ Successfully redirected to " + expectedServiceName
                     : "✗ Failed to redirect to " + expectedServiceName);
 
             return redirected;
         } catch (Exception e) {
-            System.err.println("Error validating redirection: " + e.getMessage());
+            Log.error("Error validating redirection: " + e.getMessage());
             return false;
         }
     }
@@ -479,12 +481,12 @@ public class ServiceNodeSSOPage {
      * Navigate back to Service Node SSO page (useful after testing a service)
      */
     public void navigateBackToSSO() {
-        System.out.println("Navigating back to Service Node SSO page...");
+        Log.info("Navigating back to Service Node SSO page...");
         try {
             // Check how many windows are open
             if (driver.getWindowHandles().size() > 1) {
                 // If we are in a child window/tab, close it and switch back
-                System.out.println("Closing child window and returning to main...");
+                Log.info("Closing child window and returning to main...");
                 driver.close();
                 if (mainWindowHandle != null) {
                     driver.switchTo().window(mainWindowHandle);
@@ -506,7 +508,7 @@ public class ServiceNodeSSOPage {
 
             // Always ensure we are actually on the SSO page
             if (!getCurrentURL().contains("service-nodes-sso")) {
-                System.out.println("URL check failed, clicking menu explicitly...");
+                Log.info("URL check failed, clicking menu explicitly...");
                 navigateToServiceNodeSSO();
             }
 
@@ -516,9 +518,9 @@ public class ServiceNodeSSOPage {
                     ExpectedConditions.urlContains("service-nodes-sso")));
             waitForLoading();
 
-            System.out.println("✓ Back to Service Node SSO page");
+            Log.info("✓ Back to Service Node SSO page");
         } catch (Exception e) {
-            System.err.println("Failed to navigate back: " + e.getMessage());
+            Log.error("Failed to navigate back: " + e.getMessage());
             // Try emergency fallback
             try {
                 navigateToServiceNodeSSO();
@@ -539,12 +541,12 @@ public class ServiceNodeSSOPage {
             for (String windowHandle : driver.getWindowHandles()) {
                 if (!windowHandle.equals(mainWindowHandle)) {
                     driver.switchTo().window(windowHandle);
-                    System.out.println("✓ Switched to new window: " + windowHandle);
+                    Log.info("✓ Switched to new window: " + windowHandle);
                     return;
                 }
             }
         } catch (Exception e) {
-            System.err.println("Error switching windows: " + e.getMessage());
+            Log.error("Error switching windows: " + e.getMessage());
         }
     }
 
@@ -559,7 +561,7 @@ public class ServiceNodeSSOPage {
             }
             if (mainWindowHandle != null) {
                 driver.switchTo().window(mainWindowHandle);
-                System.out.println("✓ Closed window and switched back to main: " + mainWindowHandle);
+                Log.info("✓ Closed window and switched back to main: " + mainWindowHandle);
             } else {
                 // Fallback
                 for (String windowHandle : driver.getWindowHandles()) {
@@ -568,7 +570,7 @@ public class ServiceNodeSSOPage {
                 }
             }
         } catch (Exception e) {
-            System.err.println("Error closing window: " + e.getMessage());
+            Log.error("Error closing window: " + e.getMessage());
         }
     }
 
@@ -593,16 +595,16 @@ public class ServiceNodeSSOPage {
      * Search for a specific service
      */
     public void searchService(String serviceName) {
-        System.out.println("Searching for service: " + serviceName);
+        Log.info("Searching for service: " + serviceName);
         try {
             WebElement searchField = wait.until(ExpectedConditions.visibilityOfElementLocated(
                     ServiceNodeSSOPageLocators.SEARCH_FIELD));
             searchField.clear();
             searchField.sendKeys(serviceName);
             waitForLoading();
-            System.out.println("✓ Search executed");
+            Log.info("✓ Search executed");
         } catch (Exception e) {
-            System.err.println("Search field not found or error: " + e.getMessage());
+            Log.error("Search field not found or error: " + e.getMessage());
         }
     }
 }
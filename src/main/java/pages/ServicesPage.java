@@ -11,6 +11,8 @@ import java.time.Duration;
 import java.util.List;
 import java.util.Set;
 import org.openqa.selenium.TimeoutException;
+import utils.Log;
+import utils.TracedWait;
 
 public class ServicesPage {
 
@@ -19,14 +21,14 @@ public class ServicesPage {
 
     public ServicesPage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(30));
+        this.wait = new TracedWait(driver, Duration.ofSeconds(30));
     }
 
     // Helper to wait for loading spinner to disappear
     private void waitForLoadingSpinner() {
         try {
             // Short wait for spinner to appear
-            WebDriverWait shortWait = new WebDriverWait(driver, Duration.ofSeconds(2));
+            WebDriverWait shortWait = new TracedWait(driver, Duration.ofSeconds(2));
             shortWait.until(ExpectedConditions.visibilityOfElementLocated(ServicesPageLocators.LOADING_SPINNER));
             // If appeared, wait for it to disappear
             wait.until(ExpectedConditions.invisibilityOfElementLocated(ServicesPageLocators.LOADING_SPINNER));
@@ -36,12 +38,12 @@ public class ServicesPage {
     }
 
     public void clickServicesTab() {
-        System.out.println("[INFO] Clicking on Services Tab...");
+        Log.info("Clicking on Services Tab...");
         String currentUrl = driver.getCurrentUrl();
 
         // URL recovery
         if (!currentUrl.contains("stagingvault.smartping.io")) {
-            System.out.println("[WARN] Browser is on wrong domain. Attempting recovery...");
+            Log.warn("Browser is on wrong domain. Attempting recovery...");
             String baseUrl = "https://stagingvault.smartping.io";
             try {
                 Set<String> handles = driver.getWindowHandles();
@@ -55,7 +57,7 @@ public class ServicesPage {
                     waitForLoadingSpinner();
                 }
             } catch (Exception e) {
-                System.err.println("[ERROR] URL recovery failed: " + e.getMessage());
+                Log.error("URL recovery failed: " + e.getMessage());
                 driver.navigate().to(baseUrl);
             }
         }
@@ -70,28 +72,28 @@ public class ServicesPage {
             try {
                 servicesTab = wait.until(ExpectedConditions.elementToBeClickable(ServicesPageLocators.SERVICES_TAB));
             } catch (TimeoutException toe) {
-                System.out.println("[DEBUG] Services Tab not clickable/visible. Checking presence...");
+                Log.debug("Services Tab not clickable/visible. Checking presence...");
                 servicesTab = wait
                         .until(ExpectedConditions.presenceOfElementLocated(ServicesPageLocators.SERVICES_TAB));
             }
 
             servicesTab.click();
         } catch (Exception e) {
-            System.out.println("[DEBUG] Standard click fail. Trying JS click...");
+            Log.debug("Standard click fail. Trying JS click...");
             try {
                 WebElement servicesTab = driver.findElement(ServicesPageLocators.SERVICES_TAB);
                 ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView(true);", servicesTab);
                 Thread.sleep(500);
                 ((JavascriptExecutor) driver).executeScript("arguments[0].click();", servicesTab);
             } catch (Exception ex) {
-                System.err.println("[ERROR] JS Click also failed: " + ex.getMessage());
+                Log.error("JS Click also failed: " + ex.getMessage());
                 throw new RuntimeException("Failed to click Services tab", ex);
             }
         }
 
         // Wait for URL change or header
         try {
-            WebDriverWait urlWait = new WebDriverWait(driver, Duration.ofSeconds(10));
+            WebDriverWait urlWait = new TracedWait(driver, Duration.ofSeconds(10));
             urlWait.until(ExpectedConditions.or(
                     ExpectedConditions.urlContains("services"),
                     ExpectedConditions.urlContains("service"),
@@ -104,10 +106,10 @@ public class ServicesPage {
                     ExpectedConditions.presenceOfElementLocated(By.xpath("//div[contains(@class, 'card')]")),
                     ExpectedConditions.presenceOfElementLocated(By.xpath(
                             "//*[contains(text(), 'SMS') or contains(text(), 'RCS') or contains(text(), 'WABA')]"))));
-            System.out.println("[INFO] Services page loaded successfully.");
+            Log.info("Services page loaded successfully.");
 
         } catch (Exception e) {
-            System.err.println("[ERROR] Services page validation failed. URL: " + driver.getCurrentUrl());
+            Log.error("Services page validation failed. URL: " + driver.getCurrentUrl());
             throw new RuntimeException("Failed to navigate to Services Page.", e);
         }
     }
@@ -115,7 +117,7 @@ public class ServicesPage {
     // New: Navigate to specific service (SMS, RCS, etc.) from the 'Services Home'
     // cards
     public void clickServiceCardViewDetails(String serviceName) {
-        System.out.println("[INFO] Navigating to service: " + serviceName);
+        Log.info("Navigating to service: " + serviceName);
 
         if (base.DriverFactory.isHeadlessModeEnabled()) {
             removeBlockingIframes();
@@ -125,7 +127,7 @@ public class ServicesPage {
             waitForLoadingSpinner();
             wait.until(ExpectedConditions.visibilityOfElementLocated(By.xpath("//div[contains(@class, 'card')]")));
         } catch (Exception e) {
-            System.out.println("[WARN] Timed out waiting for service cards.");
+            Log.warn("Timed out waiting for service cards.");
         }
 
         try {
@@ -139,9 +141,9 @@ public class ServicesPage {
             } else {
                 button.click();
             }
-            System.out.println("[INFO] Clicked View Details for " + serviceName);
+            Log.info("Clicked View Details for " + serviceName);
         } catch (Exception e) {
-            System.err.println("[WARN] Standard click fail for " + serviceName + ". Trying alternative...");
+            Log.warn("Standard click fail for " + serviceName + ". Trying alternative...");
             try {
                 List<WebElement> allCards = driver.findElements(By.xpath("//div[contains(@class, 'card')]"));
                 for (WebElement card : allCards) {
@@ -176,7 +178,7 @@ public class ServicesPage {
                             "iframes.forEach(function(iframe) {" +
                             "  iframe.remove();" +
                             "});");
-            System.out.println("[INFO] Removed blocking iframes");
+            Log.info("Removed blocking iframes");
         } catch (Exception e) {
         }
     }
@@ -186,14 +188,14 @@ public class ServicesPage {
                 .until(ExpectedConditions.visibilityOfElementLocated(ServicesPageLocators.SEARCH_INPUT));
         searchInput.clear();
         searchInput.sendKeys(searchText);
-        System.out.println("Searched for: " + searchText);
+        Log.info("Searched for: " + searchText);
         // Wait for results to update (increased wait time for search results)
         try {
             waitForLoadingSpinner();
             // Wait for table to refresh
             wait.until(ExpectedConditions.visibilityOfElementLocated(ServicesPageLocators.TABLE_ROWS));
         } catch (Exception e) {
-            System.out.println("Warning: Search results may not have fully loaded.");
+            Log.warn("Warning: Search results may not have fully loaded.");
         }
     }
 
@@ -202,15 +204,15 @@ public class ServicesPage {
             WebElement filterBtn = wait
                     .until(ExpectedConditions.elementToBeClickable(ServicesPageLocators.FILTER_BUTTON));
             filterBtn.click();
-            System.out.println("Clicked filter button.");
+            Log.info("Clicked filter button.");
         } catch (Exception e) {
-            System.out.println("Standard click failed for filter button, trying JS click...");
+            Log.info("Standard click failed for filter button, trying JS click...");
             try {
                 WebElement filterBtn = driver.findElement(ServicesPageLocators.FILTER_BUTTON);
                 ((JavascriptExecutor) driver).executeScript("arguments[0].click();", filterBtn);
-                System.out.println("Clicked filter button via JS.");
+                Log.info("Clicked filter button via JS.");
             } catch (Exception ex) {
-                System.out.println("Filter button click failed: " + ex.getMessage());
+                Log.info("Filter button click failed: " + ex.getMessage());
                 throw new RuntimeException("Failed to click filter button", ex);
             }
         }
@@ -227,16 +229,16 @@ public class ServicesPage {
                     .until(ExpectedConditions.elementToBeClickable(ServicesPageLocators.STATUS_FILTER_ACTIVE));
             if (!activeCheckbox.isSelected()) {
                 activeCheckbox.click();
-                System.out.println("Selected Active filter checkbox.");
+                Log.info("Selected Active filter checkbox.");
             }
         } catch (Exception e) {
-            System.out.println("Standard click failed for Active checkbox, trying JS click...");
+            Log.info("Standard click failed for Active checkbox, trying JS click...");
             try {
                 WebElement activeCheckbox = driver.findElement(ServicesPageLocators.STATUS_FILTER_ACTIVE);
                 ((JavascriptExecutor) driver).executeScript("arguments[0].click();", activeCheckbox);
-                System.out.println("Selected Active filter checkbox via JS.");
+                Log.info("Selected Active filter checkbox via JS.");
             } catch (Exception ex) {
-                System.out.println("Active checkbox click failed: " + ex.getMessage());
+                Log.info("Active checkbox click failed: " + ex.getMessage());
                 throw new RuntimeException("Failed to click Active checkbox", ex);
             }
         }
@@ -252,17 +254,17 @@ public class ServicesPage {
             WebElement applyBtn = wait
                     .until(ExpectedConditions.elementToBeClickable(ServicesPageLocators.APPLY_FILTER_BTN));
             applyBtn.click();
-            System.out.println("Clicked Apply filter button.");
+            Log.info("Clicked Apply filter button.");
         } catch (Exception e) {
-            System.out.println("Standard click failed for Apply button, trying JS click...");
+            Log.info("Standard click failed for Apply button, trying JS click...");
             try {
                 WebElement applyBtn = driver.findElement(ServicesPageLocators.APPLY_FILTER_BTN);
                 ((JavascriptExecutor) driver).executeScript("arguments[0].click();", applyBtn);
-                System.out.println("Clicked Apply filter button via JS.");
+                Log.info("Clicked Apply filter button via JS.");
             } catch (Exception ex) {
-                System.out.println("Apply button click failed: " + ex.getMessage());
+                Log.info("Apply button click failed: " + ex.getMessage());
                 // Don't throw - filter may have been applied already
-                System.out.println("Warning: Apply button may not have been clicked. Proceeding...");
+                Log.warn("Warning: Apply button may not have been clicked. Proceeding...");
             }
         }
 
@@ -272,7 +274,7 @@ public class ServicesPage {
             // Verify table is refreshed
             wait.until(ExpectedConditions.visibilityOfElementLocated(ServicesPageLocators.TABLE_ROWS));
         } catch (Exception e) {
-            System.out.println("Warning: Filter may not have been fully applied.");
+            Log.warn("Warning: Filter may not have been fully applied.");
         }
     }
 
@@ -297,7 +299,7 @@ public class ServicesPage {
             });
             return driver.findElement(locator).getText().trim();
         } catch (Exception e) {
-            System.out.println("Warning: Primary name locator failed for row " + rowIndex
+            Log.warn("Warning: Primary name locator failed for row " + rowIndex
                     + ". Trying fallback to any TD with text...");
             try {
                 List<WebElement> cells = driver.findElements(By.xpath("(//tbody//tr)[" + rowIndex + "]//td"));
@@ -309,7 +311,7 @@ public class ServicesPage {
                     }
                 }
             } catch (Exception ex) {
-                System.out.println("Fallback also failed: " + ex.getMessage());
+                Log.info("Fallback also failed: " + ex.getMessage());
             }
             return "";
         }
@@ -319,7 +321,7 @@ public class ServicesPage {
         try {
             return driver.findElement(ServicesPageLocators.getStatusBadgeByRow(rowIndex)).getText();
         } catch (Exception e) {
-            System.out.println("Warning: Status badge not found for row " + rowIndex + ". Error: " + e.getMessage());
+            Log.warn("Warning: Status badge not found for row " + rowIndex + ". Error: " + e.getMessage());
             return "N/A"; // Return N/A if status badge doesn't exist
         }
     }
@@ -328,7 +330,7 @@ public class ServicesPage {
         WebElement viewIcon = wait.until(
                 ExpectedConditions.elementToBeClickable(ServicesPageLocators.getViewIconByRow(rowIndex)));
         viewIcon.click();
-        System.out.println("[INFO] Clicked View Icon for row " + rowIndex);
+        Log.info("Clicked View Icon for row " + rowIndex);
         waitForLoadingSpinner();
     }
 
@@ -336,7 +338,7 @@ public class ServicesPage {
         WebElement ssoIcon = wait.until(
                 ExpectedConditions.elementToBeClickable(ServicesPageLocators.getSSOIconByRow(rowIndex)));
         ssoIcon.click();
-        System.out.println("Clicked SSO Icon for row " + rowIndex);
+        Log.info("Clicked SSO Icon for row " + rowIndex);
         // Wait for new tab to start opening
         try {
             Thread.sleep(2000);
@@ -346,22 +348,22 @@ public class ServicesPage {
 
     public void clickBackButton() {
         wait.until(ExpectedConditions.elementToBeClickable(ServicesPageLocators.BACK_BUTTON)).click();
-        System.out.println("Clicked Back Button.");
+        Log.info("Clicked Back Button.");
     }
 
     public String getDetailsServiceName() {
         try {
             // Wait for details page to fully load with increased timeout
-            WebDriverWait detailsWait = new WebDriverWait(driver, Duration.ofSeconds(20));
+            WebDriverWait detailsWait = new TracedWait(driver, Duration.ofSeconds(20));
             WebElement nameElement = detailsWait.until(
                     ExpectedConditions.visibilityOfElementLocated(ServicesPageLocators.DETAILS_SERVICE_NAME));
             String name = nameElement.getText();
             if (name != null && !name.trim().isEmpty()) {
-                System.out.println("Retrieved details service name: " + name);
+                Log.info("Retrieved details service name: " + name);
                 return name;
             }
         } catch (Exception e) {
-            System.out.println("Primary locator failed: " + e.getMessage());
+            Log.info("Primary locator failed: " + e.getMessage());
         }
 
         // Retry with short wait
@@ -371,11 +373,11 @@ public class ServicesPage {
                     ExpectedConditions.visibilityOfElementLocated(ServicesPageLocators.DETAILS_SERVICE_NAME));
             String name = nameElement.getText();
             if (name != null && !name.trim().isEmpty()) {
-                System.out.println("Retrieved details service name on retry: " + name);
+                Log.info("Retrieved details service name on retry: " + name);
                 return name;
             }
         } catch (Exception ex) {
-            System.out.println("Secondary attempt failed: " + ex.getMessage());
+            Log.info("Secondary attempt failed: " + ex.getMessage());
         }
 
         // Fallback: Try to get service name from any visible header element
@@ -384,18 +386,18 @@ public class ServicesPage {
             for (WebElement header : headers) {
                 String text = header.getText();
                 if (text != null && !text.trim().isEmpty() && text.length() > 3) {
-                    System.out.println("Found service name from header: " + text);
+                    Log.info("Found service name from header: " + text);
                     return text;
                 }
             }
         } catch (Exception ex) {
-            System.out.println("Header search failed: " + ex.getMessage());
+            Log.info("Header search failed: " + ex.getMessage());
         }
 
         // Last resort: Extract from URL
         try {
             String currentUrl = driver.getCurrentUrl();
-            System.out.println("Attempting to extract service name from URL: " + currentUrl);
+            Log.info("Attempting to extract service name from URL: " + currentUrl);
             // URL pattern: /services/SMS/service-account-id or
             // /services/RCS/service-account-id
             if (currentUrl.contains("/services/")) {
@@ -404,16 +406,16 @@ public class ServicesPage {
                     if (parts[i].equalsIgnoreCase("services") && i + 2 < parts.length) {
                         // The service account ID is usually after the service type
                         String serviceId = parts[i + 2];
-                        System.out.println("Extracted from URL: " + serviceId);
+                        Log.info("Extracted from URL: " + serviceId);
                         return serviceId;
                     }
                 }
             }
         } catch (Exception urlEx) {
-            System.out.println("URL parsing failed: " + urlEx.getMessage());
+            Log.info("URL parsing failed: " + urlEx.getMessage());
         }
 
-        System.out.println("All attempts to get details service name failed.");
+        Log.info("All attempts to get details service name failed.");
         return "";
     }
 
@@ -423,10 +425,10 @@ public class ServicesPage {
         // Additional wait to ensure data is fully populated
         waitForLoadingSpinner();
         int rows = getRowCount();
-        System.out.println("Total rows found in table: " + rows);
+        Log.info("Total rows found in table: " + rows);
         if (rows > 0) {
             String status = getServiceStatus(1);
-            System.out.println("Row 1 status: " + status);
+            Log.info("Row 1 status: " + status);
             return 1; // Return first row
         }
         return -1; // No rows found
@@ -438,10 +440,10 @@ public class ServicesPage {
         // Additional wait to ensure data is fully populated
         waitForLoadingSpinner();
         int rows = getRowCount();
-        System.out.println("Total rows found in table: " + rows);
+        Log.info("Total rows found in table: " + rows);
         for (int i = 1; i <= rows; i++) {
             String status = getServiceStatus(i);
-            System.out.println("Row " + i + " status: " + status);
+            Log.debug("Row " + i + " status: " + status);
             if (status.equalsIgnoreCase("Active")) {
                 return i;
             }
@@ -452,9 +454,9 @@ public class ServicesPage {
     private void waitForTableToLoad() {
         try {
             wait.until(ExpectedConditions.visibilityOfElementLocated(ServicesPageLocators.TABLE_ROWS));
-            System.out.println("Table rows are now visible.");
+            Log.info("Table rows are now visible.");
         } catch (Exception e) {
-            System.out.println("No rows found in table or timeout waiting for table rows.");
+            Log.info("No rows found in table or timeout waiting for table rows.");
         }
     }
 
@@ -468,9 +470,9 @@ public class ServicesPage {
                 List<WebElement> rows = driver.findElements(ServicesPageLocators.TABLE_ROWS);
                 return !rows.isEmpty() && !rows.get(0).getText().trim().isEmpty();
             });
-            System.out.println("[INFO] Service details page loaded.");
+            Log.info("Service details page loaded.");
         } catch (Exception e) {
-            System.out.println("[WARN] Service details page load validation failed: " + e.getMessage());
+            Log.warn("Service details page load validation failed: " + e.getMessage());
         }
     }
 
@@ -488,13 +490,13 @@ public class ServicesPage {
             }
 
             Set<String> handles = driver.getWindowHandles();
-            System.out.println("Window handles count: " + handles.size());
+            Log.info("Window handles count: " + handles.size());
 
             if (handles.size() > 1) {
                 for (String handle : handles) {
                     if (!handle.equals(currentWindow)) {
                         driver.switchTo().window(handle);
-                        System.out.println("Switched to new tab successfully.");
+                        Log.info("Switched to new tab successfully.");
                         switched = true;
                         // Wait for new tab to load
                         try {
@@ -509,7 +511,7 @@ public class ServicesPage {
         }
 
         if (!switched) {
-            System.out.println("Warning: Failed to switch to new tab after " + maxRetries + " retries.");
+            Log.warn("Warning: Failed to switch to new tab after " + maxRetries + " retries.");
         }
     }
 
@@ -528,17 +530,17 @@ public class ServicesPage {
         } catch (InterruptedException e) {
         }
         int rows = getRowCount();
-        System.out.println("Total rows found in table: " + rows);
+        Log.info("Total rows found in table: " + rows);
 
         for (int i = 1; i <= rows; i++) {
             try {
                 String status = getServiceStatus(i);
-                System.out.println("Row " + i + " status: " + status);
+                Log.debug("Row " + i + " status: " + status);
                 if (!status.equalsIgnoreCase("Failed")) {
                     String name = getServiceName(i);
                     // Ensure the row actually has a name before picking it
                     if (name != null && !name.trim().isEmpty()) {
-                        System.out.println("Found valid non-failed service account '" + name + "' at row: " + i);
+                        Log.info("Found valid non-failed service account '" + name + "' at row: " + i);
                         return i;
                     }
                 }
@@ -553,7 +555,7 @@ public class ServicesPage {
     public String getSSODashboardServiceName() {
         try {
             // Wait for SSO dashboard to load
-            WebDriverWait ssoWait = new WebDriverWait(driver, Duration.ofSeconds(15));
+            WebDriverWait ssoWait = new TracedWait(driver, Duration.ofSeconds(15));
             // Find all matching elements instead of just the first one
             List<WebElement> nameElements = ssoWait.until(
                     ExpectedConditions.presenceOfAllElementsLocatedBy(ServicesPageLocators.SSO_DASHBOARD_SERVICE_NAME));
@@ -563,16 +565,16 @@ public class ServicesPage {
                     String name = element.getText().trim();
                     // Filter out numbers like "0", empty strings, or very short text
                     if (!name.isEmpty() && name.length() > 2 && !name.matches("\\d+")) {
-                        System.out.println("Retrieved SSO dashboard service name: " + name);
+                        Log.info("Retrieved SSO dashboard service name: " + name);
                         return name;
                     }
                 }
             }
 
-            System.out.println("Could not find a valid service name from SSO dashboard elements.");
+            Log.warn("Could not find a valid service name from SSO dashboard elements.");
             return "";
         } catch (Exception e) {
-            System.out.println("Error retrieving SSO dashboard service name: " + e.getMessage());
+            Log.error("Error retrieving SSO dashboard service name: " + e.getMessage());
             return "";
         }
     }
@@ -7,6 +7,7 @@ import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.Wait;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import utils.TestUtil;
+import utils.TracedWait;
 
 import java.time.Duration;
 
@@ -16,7 +17,7 @@ public class SuperAdminPage {
 
     public SuperAdminPage (WebDriver driver){
        this.driver = driver;
-       this.wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+       this.wait = new TracedWait(driver, Duration.ofSeconds(10));
     }
     public void loginAsSuperAdmin() {
         wait.until(ExpectedConditions.elementToBeClickable(SuperadminNavLocator.SERVICE_NODE_SSO));
@@ -5,6 +5,10 @@ import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import utils.ElementCache;
+import utils.Log;
+import utils.PagedGrid;
+import utils.TracedWait;
 
 import java.time.Duration;
 import java.util.ArrayList;
@@ -21,7 +25,7 @@ public class TeamManagementPage {
 
     public TeamManagementPage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(15));
+        this.wait = new TracedWait(driver, Duration.ofSeconds(15));
     }
 
     // ========== Navigation Methods ==========
@@ -30,7 +34,7 @@ public class TeamManagementPage {
      * Navigate to Team Management page from dashboard
      */
     public void navigateToTeamManagement() {
-        System.out.println("Navigating to Team Management page...");
+        Log.info("Navigating to Team Management page...");
         try {
             WebElement menu = wait.until(ExpectedConditions.elementToBeClickable(
                     TeamManagementPageLocators.TEAM_MANAGEMENT_MENU));
@@ -46,13 +50,13 @@ public class TeamManagementPage {
             }
 
             Thread.sleep(1000);
-            System.out.println("✓ Navigated to Team Management page");
+            Log.info("✓ Navigated to Team Management page");
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
-            System.err.println("Thread interrupted: " + e.getMessage());
+            Log.error("Thread interrupted: " + e.getMessage());
             throw new RuntimeException("Navigation to Team Management failed", e);
         } catch (Exception e) {
-            System.err.println("Failed to navigate to Team Management: " + e.getMessage());
+            Log.error("Failed to navigate to Team Management: " + e.getMessage());
             throw new RuntimeException("Navigation to Team Management failed", e);
         }
     }
@@ -67,7 +71,7 @@ public class TeamManagementPage {
             boolean loaded = currentUrl.contains("team-management");
 
             if (loaded) {
-                System.out.println("✓ Team Management page loaded. URL: " + currentUrl);
+                Log.info("✓ Team Management page loaded. URL: " + currentUrl);
             }
 
             return loaded;
@@ -82,7 +86,7 @@ public class TeamManagementPage {
      * Get all table column headers
      */
     public List<String> getTableHeaders() {
-        System.out.println("Retrieving table headers...");
+        Log.info("Retrieving table headers...");
         try {
             List<WebElement> headers = wait.until(ExpectedConditions.presenceOfAllElementsLocatedBy(
                     TeamManagementPageLocators.TABLE_HEADERS));
@@ -95,10 +99,10 @@ public class TeamManagementPage {
                 }
             }
 
-            System.out.println("✓ Found " + headerTexts.size() + " headers: " + headerTexts);
+            Log.info("✓ Found " + headerTexts.size() + " headers: " + headerTexts);
             return headerTexts;
         } catch (Exception e) {
-            System.err.println("Failed to get table headers: " + e.getMessage());
+            Log.error("Failed to get table headers: " + e.getMessage());
             return new ArrayList<>();
         }
     }
@@ -107,17 +111,17 @@ public class TeamManagementPage {
      * Validate table headers contain expected values
      */
     public boolean validateTableHeaders(List<String> expectedHeaders) {
-        System.out.println("Validating table headers...");
+        Log.info("Validating table headers...");
         List<String> actualHeaders = getTableHeaders();
 
         for (String expected : expectedHeaders) {
             if (!actualHeaders.contains(expected)) {
-                System.err.println("✗ Expected header '" + expected + "' not found");
+                Log.error("✗ Expected header '" + expected + "' not found");
                 return false;
             }
         }
 
-        System.out.println("✓ All expected headers found");
+        Log.info("✓ All expected headers found");
         return true;
     }
 
@@ -129,10 +133,10 @@ public class TeamManagementPage {
             List<WebElement> rows = driver.findElements(TeamManagementPageLocators.TABLE_ROWS);
             // Subtract 1 for header row
             int count = Math.max(0, rows.size() - 1);
-            System.out.println("Table has " + count + " data row(s)");
+            Log.info("Table has " + count + " data row(s)");
             return count;
         } catch (Exception e) {
-            System.err.println("Failed to get row count: " + e.getMessage());
+            Log.error("Failed to get row count: " + e.getMessage());
             return 0;
         }
     }
@@ -143,18 +147,15 @@ public class TeamManagementPage {
      * Click the Next button in pagination
      */
     public void clickNext() {
-        System.out.println("Clicking Next button...");
+        Log.info("Clicking Next button...");
         try {
-            WebElement nextButton = wait.until(ExpectedConditions.elementToBeClickable(
-                    TeamManagementPageLocators.PAGINATION_NEXT));
-            nextButton.click();
-            Thread.sleep(2000); // Wait for page to load
-            System.out.println("✓ Clicked Next button");
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new RuntimeException("Click Next failed", e);
+            // Waits for the row set to change instead of a fixed sleep
+            if (!grid().next()) {
+                throw new IllegalStateException("Page did not change after clicking Next");
+            }
+            Log.info("✓ Clicked Next button");
         } catch (Exception e) {
-            System.err.println("Failed to click Next: " + e.getMessage());
+            Log.error("Failed to click Next: " + e.getMessage());
             throw new RuntimeException("Click Next failed", e);
         }
     }
@@ -163,18 +164,14 @@ public class TeamManagementPage {
      * Click the Previous button in pagination
      */
     public void clickPrevious() {
-        System.out.println("Clicking Previous button...");
+        Log.info("Clicking Previous button...");
         try {
-            WebElement prevButton = wait.until(ExpectedConditions.elementToBeClickable(
-                    TeamManagementPageLocators.PAGINATION_PREVIOUS));
-            prevButton.click();
-            Thread.sleep(2000); // Wait for page to load
-            System.out.println("✓ Clicked Previous button");
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new RuntimeException("Click Previous failed", e);
+            if (!grid().previous()) {
+                throw new IllegalStateException("Page did not change after clicking Previous");
+            }
+            Log.info("✓ Clicked Previous button");
         } catch (Exception e) {
-            System.err.println("Failed to click Previous: " + e.getMessage());
+            Log.error("Failed to click Previous: " + e.getMessage());
             throw new RuntimeException("Click Previous failed", e);
         }
     }
@@ -184,12 +181,12 @@ public class TeamManagementPage {
      */
     public boolean isNextEnabled() {
         try {
-            WebElement nextButton = driver.findElement(TeamManagementPageLocators.PAGINATION_NEXT);
+            WebElement nextButton = ElementCache.forDriver(driver).find(TeamManagementPageLocators.PAGINATION_NEXT);
             boolean enabled = nextButton.isEnabled() && !nextButton.getAttribute("class").contains("disabled");
-            System.out.println("Next button enabled: " + enabled);
+            Log.info("Next button enabled: " + enabled);
             return enabled;
         } catch (Exception e) {
-            System.err.println("Failed to check Next button status: " + e.getMessage());
+            Log.error("Failed to check Next button status: " + e.getMessage());
             return false;
         }
     }
@@ -199,31 +196,41 @@ public class TeamManagementPage {
      */
     public boolean isPreviousEnabled() {
         try {
-            WebElement prevButton = driver.findElement(TeamManagementPageLocators.PAGINATION_PREVIOUS);
+            WebElement prevButton = ElementCache.forDriver(driver).find(TeamManagementPageLocators.PAGINATION_PREVIOUS);
             boolean enabled = prevButton.isEnabled() && !prevButton.getAttribute("class").contains("disabled");
-            System.out.println("Previous button enabled: " + enabled);
+            Log.info("Previous button enabled: " + enabled);
             return enabled;
         } catch (Exception e) {
-            System.err.println("Failed to check Previous button status: " + e.getMessage());
+            Log.error("Failed to check Previous button status: " + e.getMessage());
             return false;
         }
     }
 
+    /**
+     * Paged view over the team members table
+     */
+    private PagedGrid grid() {
+        return new PagedGrid(driver, TeamManagementPageLocators.TABLE_ROWS,
+                TeamManagementPageLocators.PAGINATION_NEXT,
+                TeamManagementPageLocators.PAGINATION_PREVIOUS)
+                .withPageLinks(TeamManagementPageLocators.PAGINATION_PAGE_NUMBERS);
+    }
+
     // ========== Action Buttons Methods ==========
 
     /**
      * Check if Edit button is clickable for a specific row
      */
     public boolean isEditButtonClickable(int rowIndex) {
-        System.out.println("Checking Edit button for row " + rowIndex + "...");
+        Log.info("Checking Edit button for row " + rowIndex + "...");
         try {
             WebElement editButton = wait.until(ExpectedConditions.presenceOfElementLocated(
                     TeamManagementPageLocators.getEditButtonByRow(rowIndex)));
             boolean clickable = editButton.isEnabled() && editButton.isDisplayed();
-            System.out.println("✓ Edit button clickable: " + clickable);
+            Log.info("✓ Edit button clickable: " + clickable);
             return clickable;
         } catch (Exception e) {
-            System.err.println("Failed to check Edit button: " + e.getMessage());
+            Log.error("Failed to check Edit button: " + e.getMessage());
             return false;
         }
     }
@@ -232,15 +239,15 @@ public class TeamManagementPage {
      * Check if first Edit button is clickable
      */
     public boolean isFirstEditButtonClickable() {
-        System.out.println("Checking first Edit button...");
+        Log.info("Checking first Edit button...");
         try {
             WebElement editButton = wait.until(ExpectedConditions.presenceOfElementLocated(
                     TeamManagementPageLocators.EDIT_BUTTON_FIRST));
             boolean clickable = editButton.isEnabled() && editButton.isDisplayed();
-            System.out.println("✓ First Edit button clickable: " + clickable);
+            Log.info("✓ First Edit button clickable: " + clickable);
             return clickable;
         } catch (Exception e) {
-            System.err.println("Failed to check first Edit button: " + e.getMessage());
+            Log.error("Failed to check first Edit button: " + e.getMessage());
             return false;
         }
     }
@@ -249,15 +256,15 @@ public class TeamManagementPage {
      * Check if View button is clickable for a specific row
      */
     public boolean isViewButtonClickable(int rowIndex) {
-        System.out.println("Checking View button for row " + rowIndex + "...");
+        Log.info("Checking View button for row " + rowIndex + "...");
         try {
             WebElement viewButton = wait.until(ExpectedConditions.presenceOfElementLocated(
                     TeamManagementPageLocators.getViewButtonByRow(rowIndex)));
             boolean clickable = viewButton.isEnabled() && viewButton.isDisplayed();
-            System.out.println("✓ View button clickable: " + clickable);
+            Log.info("✓ View button clickable: " + clickable);
             return clickable;
         } catch (Exception e) {
-            System.err.println("Failed to check View button: " + e.getMessage());
+            Log.error("Failed to check View button: " + e.getMessage());
             return false;
         }
     }
@@ -266,15 +273,15 @@ public class TeamManagementPage {
      * Check if first View button is clickable
      */
     public boolean isFirstViewButtonClickable() {
-        System.out.println("Checking first View button...");
+        Log.info("Checking first View button...");
         try {
             WebElement viewButton = wait.until(ExpectedConditions.presenceOfElementLocated(
                     TeamManagementPageLocators.VIEW_BUTTON_FIRST));
             boolean clickable = viewButton.isEnabled() && viewButton.isDisplayed();
-            System.out.println("✓ First View button clickable: " + clickable);
+            Log.info("✓ First View button clickable: " + clickable);
             return clickable;
         } catch (Exception e) {
-            System.err.println("Failed to check first View button: " + e.getMessage());
+            Log.error("Failed to check first View button: " + e.getMessage());
             return false;
         }
     }
@@ -285,19 +292,19 @@ public class TeamManagementPage {
      * Perform search with given text
      */
     public void search(String searchText) {
-        System.out.println("Searching for: " + searchText);
+        Log.info("Searching for: " + searchText);
         try {
-            WebElement searchField = wait.until(ExpectedConditions.presenceOfElementLocated(
-                    TeamManagementPageLocators.SEARCH_FIELD));
+            WebElement searchField = ElementCache.forDriver(driver).find(
+                    TeamManagementPageLocators.SEARCH_FIELD, wait);
             searchField.clear();
             searchField.sendKeys(searchText);
             Thread.sleep(2000); // Wait for search results
-            System.out.println("✓ Search performed");
+            Log.info("✓ Search performed");
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new RuntimeException("Search failed", e);
         } catch (Exception e) {
-            System.err.println("Failed to perform search: " + e.getMessage());
+            Log.error("Failed to perform search: " + e.getMessage());
             throw new RuntimeException("Search failed", e);
         }
     }
@@ -321,18 +328,18 @@ public class TeamManagementPage {
      * Open filter dropdown
      */
     public void openFilters() {
-        System.out.println("Opening filters...");
+        Log.info("Opening filters...");
         try {
             WebElement filterButton = wait.until(ExpectedConditions.elementToBeClickable(
                     TeamManagementPageLocators.FILTERS_BUTTON));
             filterButton.click();
             Thread.sleep(1000);
-            System.out.println("✓ Filters opened");
+            Log.info("✓ Filters opened");
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new RuntimeException("Open filters failed", e);
         } catch (Exception e) {
-            System.err.println("Failed to open filters: " + e.getMessage());
+            Log.error("Failed to open filters: " + e.getMessage());
             throw new RuntimeException("Open filters failed", e);
         }
     }
@@ -341,7 +348,7 @@ public class TeamManagementPage {
      * Select role in filter dropdown
      */
     public void selectRoleFilter(String roleName) {
-        System.out.println("Selecting role filter: " + roleName);
+        Log.info("Selecting role filter: " + roleName);
         try {
             // Open filters if not already open
             openFilters();
@@ -358,12 +365,12 @@ public class TeamManagementPage {
             roleOption.click();
             Thread.sleep(500);
 
-            System.out.println("✓ Selected role: " + roleName);
+            Log.info("✓ Selected role: " + roleName);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new RuntimeException("Select role filter failed", e);
         } catch (Exception e) {
-            System.err.println("Failed to select role filter: " + e.getMessage());
+            Log.error("Failed to select role filter: " + e.getMessage());
             throw new RuntimeException("Select role filter failed", e);
         }
     }
@@ -372,18 +379,18 @@ public class TeamManagementPage {
      * Apply filters
      */
     public void applyFilters() {
-        System.out.println("Applying filters...");
+        Log.info("Applying filters...");
         try {
             WebElement applyButton = wait.until(ExpectedConditions.elementToBeClickable(
                     TeamManagementPageLocators.FILTER_APPLY_BUTTON));
             applyButton.click();
             Thread.sleep(2000); // Wait for filtered results
-            System.out.println("✓ Filters applied");
+            Log.info("✓ Filters applied");
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new RuntimeException("Apply filters failed", e);
         } catch (Exception e) {
-            System.err.println("Failed to apply filters: " + e.getMessage());
+            Log.error("Failed to apply filters: " + e.getMessage());
             throw new RuntimeException("Apply filters failed", e);
         }
     }
@@ -392,13 +399,13 @@ public class TeamManagementPage {
      * Filter by role name (all-in-one method)
      */
     public void filterByRole(String roleName) {
-        System.out.println("Filtering by role: " + roleName);
+        Log.info("Filtering by role: " + roleName);
         try {
             selectRoleFilter(roleName);
             applyFilters();
-            System.out.println("✓ Filter by role completed");
+            Log.info("✓ Filter by role completed");
         } catch (Exception e) {
-            System.err.println("Failed to filter by role: " + e.getMessage());
+            Log.error("Failed to filter by role: " + e.getMessage());
             throw new RuntimeException("Filter by role failed", e);
         }
     }
@@ -409,7 +416,7 @@ public class TeamManagementPage {
      * @return List of role names displayed in the Roles Name column
      */
     public List<String> getAllRoleNamesFromTable() {
-        System.out.println("Retrieving all role names from table...");
+        Log.info("Retrieving all role names from table...");
         try {
             Thread.sleep(1000); // Wait for table to stabilize
             List<WebElement> roleElements = driver.findElements(TeamManagementPageLocators.TABLE_ROLE_COLUMN_VALUES);
@@ -422,14 +429,14 @@ public class TeamManagementPage {
                 }
             }
 
-            System.out.println("✓ Found " + roleNames.size() + " role(s): " + roleNames);
+            Log.info("✓ Found " + roleNames.size() + " role(s): " + roleNames);
             return roleNames;
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
-            System.err.println("Failed to get role names: " + e.getMessage());
+            Log.error("Failed to get role names: " + e.getMessage());
             return new ArrayList<>();
         } catch (Exception e) {
-            System.err.println("Failed to get role names: " + e.getMessage());
+            Log.error("Failed to get role names: " + e.getMessage());
             return new ArrayList<>();
         }
     }
@@ -441,12 +448,12 @@ public class TeamManagementPage {
      * @return true if all rows contain the expected role, false otherwise
      */
     public boolean validateFilteredResults(String expectedRole) {
-        System.out.println("Validating filtered results for role: " + expectedRole);
+        Log.info("Validating filtered results for role: " + expectedRole);
         try {
             List<String> actualRoles = getAllRoleNamesFromTable();
 
             if (actualRoles.isEmpty()) {
-                System.err.println("✗ No results found in table");
+                Log.error("✗ No results found in table");
                 return false;
             }
 
@@ -455,23 +462,23 @@ public class TeamManagementPage {
                 String actualRole = actualRoles.get(i);
                 // Check if the actual role contains the expected role (case-insensitive)
                 if (!actualRole.toLowerCase().contains(expectedRole.toLowerCase())) {
-                    System.err.println("✗ Row " + (i + 1) + " has role '" + actualRole +
+                    Log.error("✗ Row " + (i + 1) + " has role '" + actualRole +
                             "' which does NOT match expected role '" + expectedRole + "'");
                     allMatch = false;
                 } else {
-                    System.out.println("✓ Row " + (i + 1) + " has matching role: '" + actualRole + "'");
+                    Log.info("✓ Row " + (i + 1) + " has matching role: '" + actualRole + "'");
                 }
             }
 
             if (allMatch) {
-                System.out.println("✓ All " + actualRoles.size() + " row(s) match the expected role: " + expectedRole);
+                Log.info("✓ All " + actualRoles.size() + " row(s) match the expected role: " + expectedRole);
             } else {
-                System.err.println("✗ Filter validation FAILED: Not all rows match the expected role");
+                Log.error("✗ Filter validation FAILED: Not all rows match the expected role");
             }
 
             return allMatch;
         } catch (Exception e) {
-            System.err.println("Failed to validate filtered results: " + e.getMessage());
+            Log.error("Failed to validate filtered results: " + e.getMessage());
             return false;
         }
     }
@@ -483,14 +490,14 @@ public class TeamManagementPage {
      * @return Role name for that row
      */
     public String getRoleNameByRow(int rowIndex) {
-        System.out.println("Getting role name for row " + rowIndex + "...");
+        Log.info("Getting role name for row " + rowIndex + "...");
         try {
             WebElement roleElement = driver.findElement(TeamManagementPageLocators.getRoleValueByRow(rowIndex));
             String roleName = roleElement.getText().trim();
-            System.out.println("✓ Role for row " + rowIndex + ": " + roleName);
+            Log.info("✓ Role for row " + rowIndex + ": " + roleName);
             return roleName;
         } catch (Exception e) {
-            System.err.println("Failed to get role for row " + rowIndex + ": " + e.getMessage());
+            Log.error("Failed to get role for row " + rowIndex + ": " + e.getMessage());
             return "";
         }
     }
@@ -501,15 +508,15 @@ public class TeamManagementPage {
      * Check if Add New button is clickable
      */
     public boolean isAddNewClickable() {
-        System.out.println("Checking Add New button...");
+        Log.info("Checking Add New button...");
         try {
             WebElement addNewButton = wait.until(ExpectedConditions.presenceOfElementLocated(
                     TeamManagementPageLocators.ADD_NEW_BUTTON));
             boolean clickable = addNewButton.isEnabled() && addNewButton.isDisplayed();
-            System.out.println("✓ Add New button clickable: " + clickable);
+            Log.info("✓ Add New button clickable: " + clickable);
             return clickable;
         } catch (Exception e) {
-            System.err.println("Failed to check Add New button: " + e.getMessage());
+            Log.error("Failed to check Add New button: " + e.getMessage());
             return false;
         }
     }
@@ -518,18 +525,18 @@ public class TeamManagementPage {
      * Click Add New button
      */
     public void clickAddNew() {
-        System.out.println("Clicking Add New button...");
+        Log.info("Clicking Add New button...");
         try {
             WebElement addNewButton = wait.until(ExpectedConditions.elementToBeClickable(
                     TeamManagementPageLocators.ADD_NEW_BUTTON));
             addNewButton.click();
             Thread.sleep(1000);
-            System.out.println("✓ Clicked Add New button");
+            Log.info("✓ Clicked Add New button");
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new RuntimeException("Click Add New failed", e);
         } catch (Exception e) {
-            System.err.println("Failed to click Add New: " + e.getMessage());
+            Log.error("Failed to click Add New: " + e.getMessage());
             throw new RuntimeException("Click Add New failed", e);
         }
     }
@@ -0,0 +1,484 @@
+package utils;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Bundles the artifacts of a run into one archive,
+ * {@code <report.dir>/artifacts/run-<time>.zip}, so CI archives a single file
+ * instead of thousands.
+ *
+ * Files are written as the run goes: screenshots and other media when they
+ * are stored, everything else under the report directory (logs, events,
+ * reports) and the {@code artifacts.include} directories (TestNG's reports
+ * in {@code target/surefire-reports}) in a final sweep when the JVM exits.
+ * A background thread does the writing from a bounded queue; when the queue
+ * is full a file is left to the sweep, so a test thread never waits.
+ * Images and archives are stored as they are, text is deflated.
+ *
+ * Next to the archive, {@code run-<time>.index} lists every entry with its
+ * offset, written as it goes, and {@code latest} names the current run
+ * ({@code run-<time>}) so CI picks up its files and not the kept ones: {@code list} and {@code extract} use it to get
+ * one file out without reading the rest, also from the {@code .zip.part} of
+ * a run that was killed.
+ * <pre>
+ * java -cp target/classes utils.ArtifactBundler list test-output/artifacts/run-20260101-120000.zip
+ * java -cp target/classes utils.ArtifactBundler extract &lt;archive&gt; logs/LoginTest.testLogin.log [target]
+ * </pre>
+ *
+ * Retention: the newest {@code artifacts.keepRuns} archives are kept, within
+ * {@code artifacts.maxMB} in total (the newest is always kept). Loose
+ * screenshots ({@code screenshots/}), which nothing else cleans up, are
+ * removed once they are in the archive.
+ */
+public class ArtifactBundler {
+
+    static final String DIR = "artifacts";
+    private static final String LATEST = "latest";
+    private static final String SCREENSHOTS_DIR = "screenshots";
+    private static final Set<String> STORED_EXTENSIONS = Set.of("jpg", "jpeg", "png", "gif", "zip", "gz");
+    // Queued after the last file: sweep and close
+    private static final Path END = Paths.get("");
+
+    private static ArtifactBundler instance;
+
+    private final Path reportDir;
+    private final Path archive;
+    private final Path part;
+    private final Path index;
+    private final List<Path> includes = new ArrayList<>();
+    private final BlockingQueue<Path> queue;
+    private final Thread writer;
+    // Entry names written so far; only touched by the writer thread
+    private final Set<String> written = new HashSet<>();
+    private final List<Path> looseScreenshots = new ArrayList<>();
+    private CountingOutputStream counter;
+    private ZipOutputStream zip;
+    private BufferedWriter indexWriter;
+    private long rawBytes;
+    private int deferred;
+    private boolean finished;
+
+    private ArtifactBundler(Path reportDir) throws IOException {
+        this.reportDir = reportDir;
+        Path dir = reportDir.resolve(DIR);
+        Files.createDirectories(dir);
+        String name = "run-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+        archive = dir.resolve(name + ".zip");
+        part = dir.resolve(name + ".zip.part");
+        index = dir.resolve(name + ".index");
+        Files.write(dir.resolve(LATEST), name.getBytes(StandardCharsets.UTF_8));
+        for (String include : ConfigReader.get("artifacts.include", "target/surefire-reports").split(",")) {
+            if (!include.isBlank()) {
+                includes.add(Paths.get(include.trim()));
+            }
+        }
+        counter = new CountingOutputStream(new BufferedOutputStream(Files.newOutputStream(part), 1 << 16));
+        zip = new ZipOutputStream(counter);
+        indexWriter = Files.newBufferedWriter(index, StandardCharsets.UTF_8);
+        queue = new ArrayBlockingQueue<>(Integer.parseInt(ConfigReader.get("artifacts.queueSize", "256")));
+        writer = new Thread(this::drain, "artifact-bundler");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(ConfigReader.get("artifacts.bundle", "true"));
+    }
+
+    /**
+     * The bundler of this run, started on first use; it finishes when the JVM
+     * exits, after TestNG has written its own reports.
+     */
+    public static synchronized ArtifactBundler get() {
+        if (instance == null) {
+            try {
+                instance = new ArtifactBundler(Paths.get(ExtentReportManager.REPORT_DIR));
+            } catch (IOException e) {
+                throw new RuntimeException("[Artifacts] Could not create the artifact archive", e);
+            }
+            Runtime.getRuntime().addShutdownHook(new Thread(ArtifactBundler::finish, "artifact-bundler-exit"));
+        }
+        return instance;
+    }
+
+    /**
+     * Bundle a file of the report directory (or an included directory) now.
+     */
+    public static void add(Path file) {
+        if (isEnabled()) {
+            get().enqueue(file);
+        }
+    }
+
+    private void enqueue(Path file) {
+        synchronized (this) {
+            if (finished) {
+                return;
+            }
+        }
+        if (!queue.offer(file.toAbsolutePath())) {
+            // The final sweep picks it up
+            synchronized (this) {
+                deferred++;
+            }
+        }
+    }
+
+    /**
+     * Sweep up the rest, close the archive and apply the retention policy.
+     * Runs at exit; safe to call earlier (e.g. after merging shard reports)
+     * and more than once.
+     */
+    public static void finish() {
+        ArtifactBundler bundler;
+        synchronized (ArtifactBundler.class) {
+            if (instance == null && isEnabled()) {
+                get();
+            }
+            bundler = instance;
+        }
+        if (bundler == null) {
+            return;
+        }
+        synchronized (bundler) {
+            if (bundler.finished) {
+                return;
+            }
+            bundler.finished = true;
+        }
+        long start = System.currentTimeMillis();
+        try {
+            bundler.queue.put(END);
+            bundler.writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        // Log4j may already be shutting down with the JVM
+        System.out.println(bundler.describeStats(System.currentTimeMillis() - start));
+        bundler.applyRetention();
+    }
+
+    private String describeStats(long finishMillis) {
+        long size = sizeOf(Files.exists(archive) ? archive : part);
+        return String.format("[Artifacts] %d file(s), %d KB -> %s (%d KB, index %s); %d left to the final sweep,"
+                + " which took %d ms", written.size(), rawBytes / 1024, archive, size / 1024,
+                index.getFileName(), deferred, finishMillis);
+    }
+
+    // ==================== Writing ====================
+
+    private void drain() {
+        try {
+            while (true) {
+                Path file = queue.take();
+                if (file == END) {
+                    break;
+                }
+                write(file);
+            }
+            sweep();
+            zip.close();
+            indexWriter.close();
+            Files.move(part, archive, StandardCopyOption.REPLACE_EXISTING);
+            for (Path screenshot : looseScreenshots) {
+                Files.deleteIfExists(screenshot);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            Log.error("[Artifacts] Could not write " + part + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Everything under the report directory (except earlier archives) and
+     * the included directories that is not in the archive yet.
+     */
+    private void sweep() throws IOException {
+        Path artifacts = reportDir.resolve(DIR).toAbsolutePath();
+        List<Path> roots = new ArrayList<>();
+        roots.add(reportDir);
+        roots.addAll(includes);
+        for (Path root : roots) {
+            if (!Files.isDirectory(root)) {
+                continue;
+            }
+            try (Stream<Path> files = Files.walk(root)) {
+                for (Path file : (Iterable<Path>) files::iterator) {
+                    Path absolute = file.toAbsolutePath();
+                    if (!absolute.startsWith(artifacts) && Files.isRegularFile(absolute)) {
+                        write(absolute);
+                    }
+                }
+            }
+        }
+    }
+
+    private void write(Path file) {
+        String name = entryName(file);
+        if (name == null || !written.add(name)) {
+            return;
+        }
+        try {
+            ZipEntry entry = new ZipEntry(name);
+            entry.setTime(Files.getLastModifiedTime(file).toMillis());
+            long offset = counter.count;
+            if (STORED_EXTENSIONS.contains(extension(name))) {
+                // Already compressed: stored, which needs size and CRC up front
+                byte[] bytes = Files.readAllBytes(file);
+                CRC32 crc = new CRC32();
+                crc.update(bytes);
+                entry.setMethod(ZipEntry.STORED);
+                entry.setSize(bytes.length);
+                entry.setCompressedSize(bytes.length);
+                entry.setCrc(crc.getValue());
+                zip.putNextEntry(entry);
+                zip.write(bytes);
+            } else {
+                entry.setMethod(ZipEntry.DEFLATED);
+                zip.putNextEntry(entry);
+                Files.copy(file, zip);
+            }
+            zip.closeEntry();
+            rawBytes += entry.getSize();
+            indexWriter.write(offset + "\t" + entry.getSize() + "\t" + entry.getCompressedSize() + "\t" + name);
+            indexWriter.newLine();
+            indexWriter.flush();
+            if (name.startsWith(SCREENSHOTS_DIR + "/")) {
+                looseScreenshots.add(file);
+            }
+        } catch (IOException e) {
+            // A file that is gone or still locked: the archive goes on without it
+            Log.error("[Artifacts] Could not add " + file + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Path inside the archive: relative to the report directory, or under
+     * the name of the included directory; null for anything else.
+     */
+    private String entryName(Path file) {
+        Path absolute = file.toAbsolutePath();
+        Path root = reportDir.toAbsolutePath();
+        if (absolute.startsWith(root)) {
+            return root.relativize(absolute).toString().replace('\\', '/');
+        }
+        for (Path include : includes) {
+            Path includeRoot = include.toAbsolutePath();
+            if (absolute.startsWith(includeRoot)) {
+                return (includeRoot.getFileName() + "/" + includeRoot.relativize(absolute)).replace('\\', '/');
+            }
+        }
+        return null;
+    }
+
+    private static class CountingOutputStream extends FilterOutputStream {
+        long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+
+    // ==================== Retention ====================
+
+    /**
+     * Keep the newest runs, up to the count and size caps; the archive just
+     * written always stays.
+     */
+    private void applyRetention() {
+        int keepRuns = Integer.parseInt(ConfigReader.get("artifacts.keepRuns", "5"));
+        long maxBytes = Long.parseLong(ConfigReader.get("artifacts.maxMB", "1024")) * 1024 * 1024;
+        List<Path> runs = new ArrayList<>();
+        try (Stream<Path> files = Files.list(reportDir.resolve(DIR))) {
+            files.filter(f -> f.getFileName().toString().matches("run-.*\\.zip(\\.part)?")).forEach(runs::add);
+        } catch (IOException e) {
+            Log.error("[Artifacts] Could not list archives: " + e.getMessage());
+            return;
+        }
+        // Names sort by time, newest first
+        runs.sort((a, b) -> b.getFileName().toString().compareTo(a.getFileName().toString()));
+        long total = 0;
+        int kept = 0;
+        int removed = 0;
+        for (Path run : runs) {
+            total += sizeOf(run);
+            boolean current = run.equals(archive) || run.equals(part);
+            if (current || (kept < keepRuns && total <= maxBytes)) {
+                kept++;
+                continue;
+            }
+            String base = run.getFileName().toString().replaceAll("\\.zip(\\.part)?$", "");
+            try {
+                Files.deleteIfExists(run);
+                Files.deleteIfExists(run.resolveSibling(base + ".index"));
+                removed++;
+            } catch (IOException e) {
+                Log.error("[Artifacts] Could not remove " + run + ": " + e.getMessage());
+            }
+        }
+        if (removed > 0) {
+            Log.info("[Artifacts] Removed " + removed + " old archive(s), kept " + kept
+                    + " (artifacts.keepRuns=" + keepRuns + ", artifacts.maxMB=" + maxBytes / 1024 / 1024 + ")");
+        }
+    }
+
+    // ==================== Reading ====================
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2 || !("list".equals(args[0]) || "extract".equals(args[0]) && args.length >= 3)) {
+            System.err.println("Usage: ArtifactBundler list <archive> | extract <archive> <entry> [target]");
+            System.exit(2);
+        }
+        Path archive = Paths.get(args[1]);
+        List<String[]> entries = readIndex(archive);
+        if ("list".equals(args[0])) {
+            for (String[] entry : entries) {
+                System.out.printf("%10s %10s  %s%n", entry[1], entry[2], entry[3]);
+            }
+            return;
+        }
+        for (String[] entry : entries) {
+            if (entry[3].equals(args[2])) {
+                Path target = Paths.get(args.length > 3 ? args[3] : Paths.get(args[2]).getFileName().toString());
+                extract(archive, Long.parseLong(entry[0]), Long.parseLong(entry[2]), target);
+                System.out.println("[Artifacts] " + args[2] + " -> " + target);
+                return;
+            }
+        }
+        System.err.println("[Artifacts] No entry " + args[2] + " in " + archive);
+        System.exit(1);
+    }
+
+    /**
+     * Entries of an archive's index: offset, size, compressed size, name.
+     */
+    static List<String[]> readIndex(Path archive) throws IOException {
+        String base = archive.getFileName().toString().replaceAll("\\.zip(\\.part)?$", "");
+        List<String[]> entries = new ArrayList<>();
+        for (String line : Files.readAllLines(archive.resolveSibling(base + ".index"), StandardCharsets.UTF_8)) {
+            String[] fields = line.split("\t", 4);
+            if (fields.length == 4) {
+                entries.add(fields);
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Copy one entry out of the archive from its local header at
+     * {@code offset}, reading only that entry.
+     */
+    static void extract(Path archive, long offset, long compressedSize, Path target) throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(archive.toFile(), "r")) {
+            byte[] header = new byte[30];
+            file.seek(offset);
+            file.readFully(header);
+            if (littleEndian(header, 0, 4) != 0x04034b50) {
+                throw new IOException("No zip entry at offset " + offset + " of " + archive);
+            }
+            int method = (int) littleEndian(header, 8, 2);
+            long dataStart = offset + 30 + littleEndian(header, 26, 2) + littleEndian(header, 28, 2);
+            file.seek(dataStart);
+            InputStream data = new BoundedInputStream(Channels.newInputStream(file.getChannel()), compressedSize);
+            if (method == ZipEntry.DEFLATED) {
+                data = new InflaterInputStream(data, new Inflater(true));
+            }
+            if (target.getParent() != null) {
+                Files.createDirectories(target.getParent());
+            }
+            Files.copy(data, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static long littleEndian(byte[] bytes, int from, int length) {
+        long value = 0;
+        for (int i = length - 1; i >= 0; i--) {
+            value = (value << 8) | (bytes[from + i] & 0xff);
+        }
+        return value;
+    }
+
+    private static class BoundedInputStream extends InputStream {
+        private final InputStream in;
+        private long remaining;
+
+        BoundedInputStream(InputStream in, long length) {
+            this.in = in;
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            remaining--;
+            return in.read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int read = in.read(b, off, (int) Math.min(len, remaining));
+            if (read > 0) {
+                remaining -= read;
+            }
+            return read;
+        }
+    }
+
+    private static String extension(String name) {
+        int dot = name.lastIndexOf('.');
+        return dot < 0 ? "" : name.substring(dot + 1).toLowerCase();
+    }
+
+    private static long sizeOf(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+}
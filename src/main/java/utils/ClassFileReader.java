@@ -0,0 +1,263 @@
+package utils;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Minimal class file reader for the test selection tools: which classes a
+ * class refers to, and which classes and methods each of its methods uses.
+ *
+ * Only the constant pool and the bytecode of methods are looked at; nothing
+ * is loaded or initialised, so reading all compiled classes of the project
+ * takes well under a second.
+ */
+public class ClassFileReader {
+
+    private static final Pattern DESCRIPTOR_TYPE = Pattern.compile("L([\\w/$]+)[;<]");
+
+    /** What one class file refers to. */
+    public static class ClassInfo {
+        /** Dotted name, e.g. "pages.LoginPage" or "tests.Foo$Bar". */
+        public final String name;
+        /** Dotted name of the superclass, null for java.lang.Object. */
+        public String superName;
+        /** Every class named in the constant pool (descriptors and annotations included). */
+        public final Set<String> references = new HashSet<>();
+        /**
+         * Per method: "owner#method" for every invoke and "owner" for every
+         * field access, new, cast or instanceof. Lambda bodies count towards
+         * the method they are written in.
+         */
+        public final Map<String, Set<String>> methodReferences = new HashMap<>();
+
+        ClassInfo(String name) {
+            this.name = name;
+        }
+    }
+
+    // Constant pool tags
+    private static final int UTF8 = 1, CLASS = 7, FIELD_REF = 9, METHOD_REF = 10, INTERFACE_METHOD_REF = 11,
+            NAME_AND_TYPE = 12;
+
+    public static ClassInfo read(Path classFile) throws IOException {
+        try (InputStream raw = Files.newInputStream(classFile)) {
+            return read(raw, classFile.toString());
+        }
+    }
+
+    /**
+     * Read a class file from a stream (e.g. a class loader resource); the
+     * stream is not closed.
+     */
+    public static ClassInfo read(InputStream raw, String classFile) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(raw));
+        if (in.readInt() != 0xCAFEBABE) {
+            throw new IOException("Not a class file: " + classFile);
+        }
+        in.readUnsignedShort(); // minor
+        in.readUnsignedShort(); // major
+
+        int count = in.readUnsignedShort();
+        int[] tags = new int[count];
+        String[] utf8 = new String[count];
+        int[] first = new int[count];
+        int[] second = new int[count];
+        for (int i = 1; i < count; i++) {
+            int tag = in.readUnsignedByte();
+            tags[i] = tag;
+            switch (tag) {
+                case UTF8:
+                    utf8[i] = in.readUTF();
+                    break;
+                case CLASS: case 8: case 16: case 19: case 20: // Class, String, MethodType, Module, Package
+                    first[i] = in.readUnsignedShort();
+                    break;
+                case 15: // MethodHandle
+                    in.readUnsignedByte();
+                    first[i] = in.readUnsignedShort();
+                    break;
+                case FIELD_REF: case METHOD_REF: case INTERFACE_METHOD_REF: case NAME_AND_TYPE: case 17: case 18:
+                    first[i] = in.readUnsignedShort();
+                    second[i] = in.readUnsignedShort();
+                    break;
+                case 3: case 4: // Integer, Float
+                    in.readInt();
+                    break;
+                case 5: case 6: // Long, Double take two slots
+                    in.readLong();
+                    i++;
+                    break;
+                default:
+                    throw new IOException("Unknown constant pool tag " + tag + " in " + classFile);
+            }
+        }
+
+        in.readUnsignedShort(); // access flags
+        ClassInfo info = new ClassInfo(className(utf8[first[in.readUnsignedShort()]]));
+        for (int i = 1; i < count; i++) {
+            if (tags[i] == CLASS && !utf8[first[i]].startsWith("[")) {
+                info.references.add(className(utf8[first[i]]));
+            }
+            if (tags[i] == UTF8 && utf8[i].indexOf('L') >= 0) {
+                Matcher matcher = DESCRIPTOR_TYPE.matcher(utf8[i]);
+                while (matcher.find()) {
+                    info.references.add(className(matcher.group(1)));
+                }
+            }
+        }
+
+        int superIndex = in.readUnsignedShort();
+        info.superName = superIndex == 0 ? null : className(utf8[first[superIndex]]);
+        int interfaces = in.readUnsignedShort();
+        for (int i = 0; i < interfaces; i++) {
+            in.readUnsignedShort();
+        }
+        int fields = in.readUnsignedShort();
+        for (int i = 0; i < fields; i++) {
+            in.readUnsignedShort();
+            in.readUnsignedShort();
+            in.readUnsignedShort();
+            skipAttributes(in);
+        }
+
+        int methods = in.readUnsignedShort();
+        for (int m = 0; m < methods; m++) {
+            in.readUnsignedShort(); // access flags
+            String methodName = enclosingMethod(utf8[in.readUnsignedShort()]);
+            in.readUnsignedShort(); // descriptor
+            Set<String> used = info.methodReferences.computeIfAbsent(methodName, k -> new LinkedHashSet<>());
+            int attributes = in.readUnsignedShort();
+            for (int a = 0; a < attributes; a++) {
+                String attributeName = utf8[in.readUnsignedShort()];
+                byte[] body = new byte[in.readInt()];
+                in.readFully(body);
+                if ("Code".equals(attributeName)) {
+                    scanCode(body, tags, utf8, first, second, used);
+                }
+            }
+        }
+        return info;
+    }
+
+    /**
+     * Walk the instructions of a Code attribute and record the classes and
+     * methods referenced by field, invoke and type instructions.
+     */
+    private static void scanCode(byte[] attribute, int[] tags, String[] utf8, int[] first, int[] second,
+            Set<String> used) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(attribute));
+        in.readUnsignedShort(); // max stack
+        in.readUnsignedShort(); // max locals
+        byte[] code = new byte[in.readInt()];
+        in.readFully(code);
+
+        int pc = 0;
+        while (pc < code.length) {
+            int opcode = code[pc] & 0xff;
+            switch (opcode) {
+                case 0xb2: case 0xb3: case 0xb4: case 0xb5: // get/put static/field
+                    used.add(className(utf8[first[first[u2(code, pc + 1)]]]));
+                    pc += 3;
+                    break;
+                case 0xb6: case 0xb7: case 0xb8: case 0xb9: { // invokes
+                    int ref = u2(code, pc + 1);
+                    String owner = utf8[first[first[ref]]];
+                    if (!owner.startsWith("[")) {
+                        used.add(className(owner) + "#" + utf8[first[second[ref]]]);
+                    }
+                    pc += opcode == 0xb9 ? 5 : 3;
+                    break;
+                }
+                case 0xbb: case 0xbd: case 0xc0: case 0xc1: { // new, anewarray, checkcast, instanceof
+                    String type = utf8[first[u2(code, pc + 1)]];
+                    if (!type.startsWith("[")) {
+                        used.add(className(type));
+                    }
+                    pc += 3;
+                    break;
+                }
+                case 0xaa: { // tableswitch
+                    int p = (pc + 4) & ~3;
+                    int low = s4(code, p + 4);
+                    int high = s4(code, p + 8);
+                    pc = p + 12 + (high - low + 1) * 4;
+                    break;
+                }
+                case 0xab: { // lookupswitch
+                    int p = (pc + 4) & ~3;
+                    pc = p + 8 + s4(code, p + 4) * 8;
+                    break;
+                }
+                case 0xc4: // wide
+                    pc += (code[pc + 1] & 0xff) == 0x84 ? 6 : 4;
+                    break;
+                default:
+                    pc += length(opcode);
+            }
+        }
+    }
+
+    private static int length(int opcode) {
+        if (opcode == 0x10 || opcode == 0x12 || (opcode >= 0x15 && opcode <= 0x19)
+                || (opcode >= 0x36 && opcode <= 0x3a) || opcode == 0xa9 || opcode == 0xbc) {
+            return 2;
+        }
+        if (opcode == 0x11 || opcode == 0x13 || opcode == 0x14 || opcode == 0x84
+                || (opcode >= 0x99 && opcode <= 0xa8) || opcode == 0xc6 || opcode == 0xc7) {
+            return 3;
+        }
+        if (opcode == 0xc5) {
+            return 4;
+        }
+        if (opcode == 0xba || opcode == 0xc8 || opcode == 0xc9) {
+            return 5;
+        }
+        return 1;
+    }
+
+    private static void skipAttributes(DataInputStream in) throws IOException {
+        int attributes = in.readUnsignedShort();
+        for (int a = 0; a < attributes; a++) {
+            in.readUnsignedShort();
+            in.skipNBytes(in.readInt());
+        }
+    }
+
+    /**
+     * "lambda$testLogin$0" belongs to "testLogin".
+     */
+    private static String enclosingMethod(String methodName) {
+        if (methodName.startsWith("lambda$")) {
+            int end = methodName.indexOf('$', "lambda$".length());
+            if (end > 0) {
+                return methodName.substring("lambda$".length(), end);
+            }
+        }
+        return methodName;
+    }
+
+    private static String className(String internalName) {
+        return internalName.replace('/', '.');
+    }
+
+    private static int u2(byte[] code, int index) {
+        return ((code[index] & 0xff) << 8) | (code[index + 1] & 0xff);
+    }
+
+    private static int s4(byte[] code, int index) {
+        return (code[index] << 24) | ((code[index + 1] & 0xff) << 16) | ((code[index + 2] & 0xff) << 8)
+                | (code[index + 3] & 0xff);
+    }
+}
@@ -0,0 +1,323 @@
+package utils;
+
+import base.DriverFactory;
+import org.openqa.selenium.By;
+import org.openqa.selenium.ElementClickInterceptedException;
+import org.openqa.selenium.ElementNotInteractableException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.interactions.Actions;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Click with native, Actions or JS strategy, learning per locator and mode
+ * (headless/GUI) which one succeeds first.
+ *
+ * Strategies are tried best-first; the ranking comes from
+ * {@code test-history/click-strategies.properties} and is updated with every
+ * click, so an element that is always intercepted in headless mode goes
+ * straight to the JS click on the next run instead of paying for a failed
+ * native attempt. Interceptions, fallbacks and the time spent in failed
+ * attempts are counted per element.
+ *
+ * A JS click succeeds even when an overlay covers the element, so its
+ * successes say nothing about the page: JS goes first only while native and
+ * Actions are failing, never because it has more successes. And every
+ * {@code click.exploreEvery}-th click (default 10, 0 for never) of an
+ * element that has moved away from native tries native first again, so a
+ * fixed overlay brings the element back to the real click.
+ *
+ * Only a click the browser refused (intercepted or not interactable) moves
+ * on to the next strategy. Any other error, such as a timeout or a lost
+ * response, may come after the click landed and is rethrown, so an element
+ * is never clicked twice.
+ */
+public class ClickEngine {
+
+    public enum Strategy {
+        NATIVE, ACTIONS, JS
+    }
+
+    private static final String HISTORY_FILE = "click-strategies.properties";
+    // Older outcomes are halved once a key has this many samples so the ranking can adapt
+    private static final int MAX_SAMPLES = 50;
+    private static final String UNKEYED = "(unkeyed)";
+    // Below this smoothed success rate for both native and Actions, JS goes first
+    private static final double FALLBACK_RATE = 0.5;
+    private static final int EXPLORE_EVERY = Integer.parseInt(ConfigReader.get("click.exploreEvery", "10"));
+
+    private static final Map<String, ElementStats> STATS = new ConcurrentHashMap<>();
+    private static volatile boolean historyLoaded = false;
+
+    /**
+     * Outcomes and run counters for one locator in one mode.
+     */
+    private static class ElementStats {
+        final long[] successes = new long[Strategy.values().length];
+        final long[] failures = new long[Strategy.values().length];
+        // This run's outcomes, added to the stored counts when saving
+        final long[] runSuccesses = new long[Strategy.values().length];
+        final long[] runFailures = new long[Strategy.values().length];
+        long clicks;
+        long interceptions;
+        long fallbacks;
+        long lostNanos;
+        long probes;
+
+        synchronized List<Strategy> ranking() {
+            List<Strategy> order = new ArrayList<>(List.of(Strategy.NATIVE, Strategy.ACTIONS));
+            // Laplace-smoothed success rate; ties keep the default NATIVE, ACTIONS order
+            order.sort(Comparator.comparingDouble((Strategy s) -> -rate(s)));
+            if (rate(order.get(0)) < FALLBACK_RATE) {
+                order.add(0, Strategy.JS);
+            } else {
+                order.add(Strategy.JS);
+            }
+            return order;
+        }
+
+        /**
+         * The ranking for the next click, with native first when this click
+         * is a probe.
+         */
+        synchronized List<Strategy> nextOrder() {
+            List<Strategy> order = ranking();
+            boolean probe = EXPLORE_EVERY > 0 && clicks % EXPLORE_EVERY == EXPLORE_EVERY - 1;
+            if (probe && order.get(0) != Strategy.NATIVE) {
+                order.remove(Strategy.NATIVE);
+                order.add(0, Strategy.NATIVE);
+                probes++;
+            }
+            return order;
+        }
+
+        private double rate(Strategy s) {
+            return (successes[s.ordinal()] + 1.0) / (successes[s.ordinal()] + failures[s.ordinal()] + 2.0);
+        }
+
+        synchronized void record(Strategy strategy, boolean success) {
+            long[] counts = success ? successes : failures;
+            counts[strategy.ordinal()]++;
+            (success ? runSuccesses : runFailures)[strategy.ordinal()]++;
+            if (successes[strategy.ordinal()] + failures[strategy.ordinal()] > MAX_SAMPLES) {
+                successes[strategy.ordinal()] /= 2;
+                failures[strategy.ordinal()] /= 2;
+            }
+        }
+    }
+
+    // ==================== Clicks ====================
+
+    /**
+     * Wait for the element to be present and click it with the best known
+     * strategy for this locator.
+     */
+    public static void click(WebDriver driver, By locator) {
+        WebElement element = HeadlessHelper.createWait(driver)
+                .until(ExpectedConditions.presenceOfElementLocated(locator));
+        click(driver, element, locator);
+    }
+
+    /**
+     * Click an already located element, learning under the given locator.
+     */
+    public static void click(WebDriver driver, WebElement element, By locator) {
+        click(driver, element, locator == null ? null : locator.toString());
+    }
+
+    /**
+     * Click an already located element. A null key uses the default order
+     * (native, Actions, JS) and learns nothing.
+     */
+    public static void click(WebDriver driver, WebElement element, String key) {
+        ElementStats stats = statsFor(key);
+        List<Strategy> order = key == null ? Arrays.asList(Strategy.values()) : stats.nextOrder();
+
+        ElementNotInteractableException lastError = null;
+        for (int attempt = 0; attempt < order.size(); attempt++) {
+            Strategy strategy = order.get(attempt);
+            long start = System.nanoTime();
+            try {
+                perform(driver, element, strategy);
+                synchronized (stats) {
+                    stats.clicks++;
+                    stats.fallbacks += attempt;
+                }
+                stats.record(strategy, true);
+                if (attempt > 0) {
+                    Log.info("[ClickEngine] " + describeKey(key) + " clicked via " + strategy
+                            + " after " + attempt + " failed attempt(s)");
+                }
+                return;
+            } catch (ElementNotInteractableException e) {
+                // Includes ElementClickInterceptedException; the click did not happen
+                lastError = e;
+                stats.record(strategy, false);
+                synchronized (stats) {
+                    if (e instanceof ElementClickInterceptedException) {
+                        stats.interceptions++;
+                    }
+                    stats.lostNanos += System.nanoTime() - start;
+                }
+            }
+        }
+        throw lastError;
+    }
+
+    private static void perform(WebDriver driver, WebElement element, Strategy strategy) {
+        switch (strategy) {
+            case NATIVE:
+                element.click();
+                break;
+            case ACTIONS:
+                new Actions(driver).moveToElement(element).click().perform();
+                break;
+            case JS:
+                PageScripts.click(driver, element);
+                break;
+        }
+    }
+
+    private static ElementStats statsFor(String key) {
+        loadHistory();
+        String mode = DriverFactory.isHeadlessModeEnabled() ? "headless" : "gui";
+        return STATS.computeIfAbsent(mode + "|" + (key == null ? UNKEYED : key), k -> new ElementStats());
+    }
+
+    private static String describeKey(String key) {
+        return key == null ? "Element" : key;
+    }
+
+    // ==================== History ====================
+
+    private static void loadHistory() {
+        if (historyLoaded) {
+            return;
+        }
+        synchronized (STATS) {
+            if (historyLoaded) {
+                return;
+            }
+            Properties history = RunHistory.load(HISTORY_FILE);
+            for (String key : history.stringPropertyNames()) {
+                ElementStats stats = new ElementStats();
+                if (parseCounts(history.getProperty(key), stats.successes, stats.failures)) {
+                    STATS.put(key, stats);
+                }
+            }
+            historyLoaded = true;
+        }
+    }
+
+    /**
+     * Read "native ok,fail, actions ok,fail, js ok,fail" into the arrays;
+     * false for a malformed value.
+     */
+    private static boolean parseCounts(String value, long[] successes, long[] failures) {
+        String[] counts = value.split(",");
+        if (counts.length != Strategy.values().length * 2) {
+            return false;
+        }
+        try {
+            for (Strategy s : Strategy.values()) {
+                successes[s.ordinal()] = Long.parseLong(counts[s.ordinal() * 2].trim());
+                failures[s.ordinal()] = Long.parseLong(counts[s.ordinal() * 2 + 1].trim());
+            }
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Add this run's outcomes to the stored counts; called once at the end
+     * of the suite. Shards save into the same file, so each adds its own
+     * outcomes to what is there now instead of writing its view of it.
+     */
+    public static void saveHistory() {
+        if (STATS.isEmpty()) {
+            return;
+        }
+        RunHistory.update(HISTORY_FILE, history -> STATS.forEach((key, stats) -> {
+            if (key.endsWith("|" + UNKEYED)) {
+                return;
+            }
+            long[] successes = new long[Strategy.values().length];
+            long[] failures = new long[Strategy.values().length];
+            String stored = history.getProperty(key);
+            if (stored != null && !parseCounts(stored, successes, failures)) {
+                Arrays.fill(successes, 0);
+                Arrays.fill(failures, 0);
+            }
+            boolean changed = false;
+            synchronized (stats) {
+                for (Strategy s : Strategy.values()) {
+                    int i = s.ordinal();
+                    changed |= stats.runSuccesses[i] + stats.runFailures[i] > 0;
+                    successes[i] += stats.runSuccesses[i];
+                    failures[i] += stats.runFailures[i];
+                    stats.runSuccesses[i] = 0;
+                    stats.runFailures[i] = 0;
+                    while (successes[i] + failures[i] > MAX_SAMPLES) {
+                        successes[i] /= 2;
+                        failures[i] /= 2;
+                    }
+                }
+            }
+            if (!changed) {
+                return;
+            }
+            StringBuilder value = new StringBuilder();
+            for (Strategy s : Strategy.values()) {
+                if (value.length() > 0) {
+                    value.append(',');
+                }
+                value.append(successes[s.ordinal()]).append(',').append(failures[s.ordinal()]);
+            }
+            history.setProperty(key, value.toString());
+        }), "mode|locator = native ok,fail, actions ok,fail, js ok,fail");
+    }
+
+    // ==================== Metrics ====================
+
+    /**
+     * Suite totals plus the elements that lost the most time to failed
+     * first attempts.
+     */
+    public static String describeStats() {
+        long clicks = 0, interceptions = 0, fallbacks = 0, lostNanos = 0, probes = 0;
+        List<Map.Entry<String, ElementStats>> worst = new ArrayList<>();
+        for (Map.Entry<String, ElementStats> entry : STATS.entrySet()) {
+            ElementStats stats = entry.getValue();
+            synchronized (stats) {
+                clicks += stats.clicks;
+                interceptions += stats.interceptions;
+                fallbacks += stats.fallbacks;
+                lostNanos += stats.lostNanos;
+                probes += stats.probes;
+            }
+            if (stats.lostNanos > 0) {
+                worst.add(entry);
+            }
+        }
+        StringBuilder summary = new StringBuilder(String.format(
+                "Clicks: %d, interceptions: %d, fallbacks: %d, native probes: %d, time lost to failed attempts:"
+                        + " %d ms", clicks, interceptions, fallbacks, probes, lostNanos / 1_000_000));
+        worst.sort(Comparator.comparingLong((Map.Entry<String, ElementStats> e) -> -e.getValue().lostNanos));
+        for (Map.Entry<String, ElementStats> entry : worst.subList(0, Math.min(5, worst.size()))) {
+            ElementStats stats = entry.getValue();
+            summary.append(String.format("%n  %s: %d interception(s), %d fallback(s), %d ms lost, now %s first",
+                    entry.getKey(), stats.interceptions, stats.fallbacks, stats.lostNanos / 1_000_000,
+                    stats.ranking().get(0)));
+        }
+        return summary.toString();
+    }
+}
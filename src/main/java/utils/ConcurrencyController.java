@@ -0,0 +1,342 @@
+package utils;
+
+import org.openqa.selenium.WebDriver;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits how many browsers run at once and moves the limit with host
+ * pressure.
+ *
+ * Every driver launch takes a lease; when the limit is reached the launching
+ * class waits in its setup until another class quits its browser. A
+ * background thread samples {@link ResourceMonitor} every few seconds and
+ * lowers the limit by one when CPU, load or free memory show pressure, or
+ * raises it by one when there is headroom for another browser, always within
+ * {@code concurrency.min} and {@code concurrency.max}. The TestNG pool is
+ * sized to the maximum, so extra threads only start browsers when the
+ * controller allows it.
+ *
+ * Fixture classes keep one browser per worker thread until their
+ * {@code @AfterClass}, so a fixture thread waiting for a slot that only
+ * another idle fixture thread of the same class can free would never wake
+ * up. Such leases are counted separately and the limit never holds a
+ * fixture launch below them; any launch that still waits longer than
+ * {@code concurrency.waitSeconds} fails instead of hanging the suite.
+ *
+ * Tests finished, timeouts and time spent are recorded per limit and added
+ * to {@code test-history/concurrency.properties}, so the level where
+ * throughput stops growing and timeouts start climbing can be read off after
+ * a few runs.
+ *
+ * Enable with {@code concurrency.enabled=true}.
+ */
+public class ConcurrencyController {
+
+    private static final String HISTORY_FILE = "concurrency.properties";
+    private static final long MB = 1024 * 1024;
+
+    // Pressure thresholds
+    private static final double HIGH_CPU = 0.85;
+    private static final double LOW_CPU = 0.60;
+    private static final double HIGH_LOAD_PER_CORE = 1.5;
+    private static final double LOW_LOAD_PER_CORE = 0.8;
+    private static final long MEMORY_RESERVE = 512 * MB;
+    private static final long DEFAULT_BROWSER_RSS = 400 * MB;
+    // Samples to wait after a change before changing again, so a new browser's startup is not mistaken for load
+    private static final int COOLDOWN_SAMPLES = 2;
+
+    private static ConcurrencyController instance;
+
+    private final int min;
+    private final int max;
+    private final Set<WebDriver> leased = Collections.newSetFromMap(new ConcurrentHashMap<>());
+    private final Set<WebDriver> classLeases = Collections.newSetFromMap(new ConcurrentHashMap<>());
+    private final Map<Integer, long[]> levels = new TreeMap<>(); // limit -> {tests, timeouts, millis}
+    private ScheduledExecutorService sampler;
+
+    private int limit;
+    private int active;
+    private int classLeaseCount;
+    private int cooldown;
+    private long levelSince = System.currentTimeMillis();
+    private long waits;
+    private long waitMillis;
+    private ResourceMonitor.Sample lastSample;
+
+    private ConcurrencyController(int min, int max, int initial) {
+        this.min = min;
+        this.max = max;
+        this.limit = Math.max(min, Math.min(max, initial));
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(ConfigReader.get("concurrency.enabled", "false"));
+    }
+
+    /**
+     * Shared controller; the first call fixes the starting limit.
+     */
+    public static synchronized ConcurrencyController get(int initialLimit) {
+        if (instance == null) {
+            int cores = Runtime.getRuntime().availableProcessors();
+            int min = Integer.parseInt(ConfigReader.get("concurrency.min", "1"));
+            int max = Integer.parseInt(ConfigReader.get("concurrency.max", String.valueOf(Math.max(min, cores / 2))));
+            instance = new ConcurrencyController(min, Math.max(min, max), initialLimit);
+        }
+        return instance;
+    }
+
+    public static synchronized ConcurrencyController get() {
+        return get(1);
+    }
+
+    public int getMax() {
+        return max;
+    }
+
+    // ==================== Leases ====================
+
+    /**
+     * Wait until another browser may be started. Call {@link #leased} with
+     * the new driver, or {@link #cancel} if the launch failed.
+     */
+    public void acquire() {
+        acquire(false);
+    }
+
+    /**
+     * As {@link #acquire()}; {@code classLease} marks a browser kept until the
+     * end of its class, which is let through as long as only other class
+     * leases could free a slot.
+     */
+    public synchronized void acquire(boolean classLease) {
+        startSampler();
+        long start = System.currentTimeMillis();
+        long deadline = start + Long.parseLong(ConfigReader.get("concurrency.waitSeconds", "600")) * 1000;
+        boolean waited = false;
+        while (active >= slotsFor(classLease)) {
+            if (!waited) {
+                Log.info("[Concurrency] " + Thread.currentThread().getName() + " queued: " + active
+                        + "/" + limit + " browsers running");
+                waited = true;
+            }
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                waits++;
+                waitMillis += System.currentTimeMillis() - start;
+                throw new RuntimeException("No browser slot freed within " + (System.currentTimeMillis() - start)
+                        / 1000 + " s (" + active + "/" + limit + " browsers running, " + classLeaseCount
+                        + " held until their class ends)");
+            }
+            try {
+                wait(remaining);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while waiting for a browser slot", e);
+            }
+        }
+        active++;
+        if (classLease) {
+            classLeaseCount++;
+        }
+        if (waited) {
+            waits++;
+            waitMillis += System.currentTimeMillis() - start;
+        }
+    }
+
+    /**
+     * Browsers that may run for this launch. Class leases are only released
+     * after every method of their class ran, which may include the one
+     * launching, so a class lease is never held below them.
+     */
+    private int slotsFor(boolean classLease) {
+        return classLease ? Math.max(limit, classLeaseCount + 1) : limit;
+    }
+
+    public void leased(WebDriver driver) {
+        leased(driver, false);
+    }
+
+    public void leased(WebDriver driver, boolean classLease) {
+        leased.add(driver);
+        if (classLease) {
+            classLeases.add(driver);
+        }
+    }
+
+    public synchronized void cancel() {
+        cancel(false);
+    }
+
+    public synchronized void cancel(boolean classLease) {
+        active--;
+        if (classLease) {
+            classLeaseCount--;
+        }
+        notifyAll();
+    }
+
+    /**
+     * Give back the lease of a driver that has been quit. Drivers launched
+     * while the controller was off hold no lease and are ignored.
+     */
+    public synchronized void release(WebDriver driver) {
+        if (driver != null && leased.remove(driver)) {
+            active--;
+            if (classLeases.remove(driver)) {
+                classLeaseCount--;
+            }
+            notifyAll();
+        }
+    }
+
+    // ==================== Control ====================
+
+    private synchronized void startSampler() {
+        if (sampler != null) {
+            return;
+        }
+        long period = Long.parseLong(ConfigReader.get("concurrency.sampleSeconds", "5"));
+        sampler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "concurrency-sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sampler.scheduleAtFixedRate(this::adjust, period, period, TimeUnit.SECONDS);
+        levelSince = System.currentTimeMillis();
+        Log.info("[Concurrency] Starting at " + limit + " browser(s), bounds " + min + ".." + max);
+    }
+
+    private void adjust() {
+        ResourceMonitor.Sample sample;
+        try {
+            sample = ResourceMonitor.sample();
+        } catch (Exception e) {
+            Log.info("[Concurrency] Sampling failed: " + e.getMessage());
+            return;
+        }
+        synchronized (this) {
+            lastSample = sample;
+            if (cooldown > 0) {
+                cooldown--;
+                return;
+            }
+            long perBrowser = sample.chromeRssBytes > 0 && active > 0 ? sample.chromeRssBytes / active
+                    : DEFAULT_BROWSER_RSS;
+            boolean pressure = sample.cpuLoad > HIGH_CPU
+                    || sample.loadPerCore() > HIGH_LOAD_PER_CORE
+                    || sample.freeMemoryBytes < MEMORY_RESERVE;
+            boolean headroom = sample.cpuLoad >= 0 && sample.cpuLoad < LOW_CPU
+                    && sample.loadPerCore() < LOW_LOAD_PER_CORE
+                    && sample.freeMemoryBytes > MEMORY_RESERVE + 2 * perBrowser;
+
+            if (pressure && limit > min) {
+                setLimit(limit - 1, sample);
+            } else if (headroom && limit < max && active >= limit) {
+                // Only grow when the current limit is actually in use
+                setLimit(limit + 1, sample);
+            }
+        }
+    }
+
+    private void setLimit(int newLimit, ResourceMonitor.Sample sample) {
+        closeLevel();
+        Log.info("[Concurrency] " + limit + " -> " + newLimit + " browser(s) (" + sample + ")");
+        limit = newLimit;
+        cooldown = COOLDOWN_SAMPLES;
+        notifyAll();
+    }
+
+    private void closeLevel() {
+        long now = System.currentTimeMillis();
+        levels.computeIfAbsent(limit, k -> new long[3])[2] += now - levelSince;
+        levelSince = now;
+    }
+
+    // ==================== Recording ====================
+
+    /**
+     * Count a finished test against the current limit.
+     */
+    public synchronized void recordTest(Throwable failure) {
+        long[] level = levels.computeIfAbsent(limit, k -> new long[3]);
+        level[0]++;
+        if (isTimeout(failure)) {
+            level[1]++;
+        }
+    }
+
+    private static boolean isTimeout(Throwable failure) {
+        for (Throwable t = failure; t != null; t = t.getCause()) {
+            if (t instanceof org.openqa.selenium.TimeoutException
+                    || t instanceof java.util.concurrent.TimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Stop sampling and add this run's per-level counts to the history.
+     */
+    public synchronized void finish() {
+        if (sampler != null) {
+            sampler.shutdownNow();
+            sampler = null;
+        }
+        closeLevel();
+        RunHistory.update(HISTORY_FILE, history -> levels.forEach((level, counts) -> {
+            for (int i = 0; i < counts.length; i++) {
+                String key = "level." + level + "." + new String[] { "tests", "timeouts", "millis" }[i];
+                history.setProperty(key, String.valueOf(Long.parseLong(history.getProperty(key, "0")) + counts[i]));
+            }
+        }), "Totals per concurrent browser limit: tests finished, timeouts, time spent (ms)");
+    }
+
+    /**
+     * This run per level, plus throughput and timeout rate over all recorded
+     * runs.
+     */
+    public synchronized String describeStats() {
+        StringBuilder summary = new StringBuilder(String.format(
+                "Concurrency: limit %d (bounds %d..%d), %d launch(es) queued for %d s in total",
+                limit, min, max, waits, waitMillis / 1000));
+        if (lastSample != null) {
+            summary.append(String.format("%n  last sample: %s", lastSample));
+        }
+        Properties history = RunHistory.load(HISTORY_FILE);
+        Map<Integer, long[]> all = new TreeMap<>();
+        for (String key : history.stringPropertyNames()) {
+            String[] parts = key.split("\\.");
+            if (parts.length != 3 || !parts[0].equals("level")) {
+                continue;
+            }
+            try {
+                long[] counts = all.computeIfAbsent(Integer.parseInt(parts[1]), k -> new long[3]);
+                int index = parts[2].equals("tests") ? 0 : parts[2].equals("timeouts") ? 1 : 2;
+                counts[index] = Long.parseLong(history.getProperty(key));
+            } catch (NumberFormatException e) {
+                // Skip malformed line
+            }
+        }
+        for (Map.Entry<Integer, long[]> entry : all.entrySet()) {
+            long[] counts = entry.getValue();
+            long[] thisRun = levels.getOrDefault(entry.getKey(), new long[3]);
+            summary.append(String.format("%n  %2d browser(s): %.1f tests/min, %.1f%% timeouts over %d test(s)"
+                    + " (this run: %d test(s), %d timeout(s))", entry.getKey(),
+                    counts[2] > 0 ? counts[0] * 60_000.0 / counts[2] : 0.0,
+                    counts[0] > 0 ? counts[1] * 100.0 / counts[0] : 0.0, counts[0], thisRun[0], thisRun[1]));
+        }
+        return summary.toString();
+    }
+}
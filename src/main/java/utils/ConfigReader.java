@@ -3,6 +3,7 @@ package utils;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.util.Properties;
+import java.util.Set;
 
 public class ConfigReader {
     private static Properties properties;
@@ -21,4 +22,23 @@ public class ConfigReader {
     public static String get(String key) {
         return properties.getProperty(key);
     }
+
+    /**
+     * Setting from a system property (-Dkey=value) if set, otherwise from
+     * config.properties, otherwise the default.
+     */
+    public static String get(String key, String defaultValue) {
+        String value = System.getProperty(key);
+        if (value == null) {
+            value = properties.getProperty(key);
+        }
+        return value == null ? defaultValue : value;
+    }
+
+    /**
+     * Keys defined in config.properties.
+     */
+    public static Set<String> keys() {
+        return properties.stringPropertyNames();
+    }
 }
@@ -0,0 +1,38 @@
+package utils;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.HasDevTools;
+
+/**
+ * Shared access to the Chrome DevTools (CDP) session of a driver.
+ * Returns null instead of throwing when CDP is not available (remote or
+ * non-Chromium drivers, version mismatch) so callers can fall back to plain
+ * WebDriver behaviour.
+ */
+public class DevToolsHelper {
+
+    /**
+     * DevTools with an open session for the given driver's current tab, or
+     * null. The session is on that tab: with browser contexts, several
+     * drivers share one browser and any other tab belongs to another test.
+     */
+    public static DevTools getSession(WebDriver driver) {
+        WebDriver target = driver;
+        while (!(target instanceof HasDevTools) && target instanceof WrapsDriver) {
+            target = ((WrapsDriver) target).getWrappedDriver();
+        }
+        if (!(target instanceof HasDevTools)) {
+            return null;
+        }
+        try {
+            DevTools devTools = ((HasDevTools) target).getDevTools();
+            devTools.createSessionIfThereIsNotOne(target.getWindowHandle());
+            return devTools;
+        } catch (Exception e) {
+            Log.info("[DevTools] CDP session not available: " + e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * Per-class and per-method durations and failure rates from previous runs,
+ * kept in {@code test-history/durations.properties}.
+ *
+ * Values are exponential moving averages so the estimates follow the
+ * application getting slower or faster without one outlier run dominating.
+ */
+public class DurationHistory {
+
+    private static final String HISTORY_FILE = "durations.properties";
+    private static final double ALPHA = 0.5;
+    private static final long DEFAULT_CLASS_MILLIS = 60_000;
+
+    private static DurationHistory instance;
+
+    private final Properties history;
+    private final Set<String> updatedKeys = new HashSet<>();
+
+    private DurationHistory(Properties history) {
+        this.history = history;
+    }
+
+    /**
+     * Shared instance, loaded from disk on first use.
+     */
+    public static synchronized DurationHistory get() {
+        if (instance == null) {
+            instance = new DurationHistory(RunHistory.load(HISTORY_FILE));
+        }
+        return instance;
+    }
+
+    // ==================== Estimates ====================
+
+    /**
+     * Average duration of a class in ms, or -1 if it has never run.
+     */
+    public synchronized long getClassMillis(String className) {
+        return getLong("class." + className);
+    }
+
+    /**
+     * Known duration, or the median of known classes for a new class.
+     */
+    public synchronized long estimateClassMillis(String className) {
+        long known = getClassMillis(className);
+        if (known >= 0) {
+            return known;
+        }
+        List<Long> all = new ArrayList<>();
+        for (String key : history.stringPropertyNames()) {
+            if (key.startsWith("class.")) {
+                all.add(getLong(key));
+            }
+        }
+        if (all.isEmpty()) {
+            return DEFAULT_CLASS_MILLIS;
+        }
+        Collections.sort(all);
+        return all.get(all.size() / 2);
+    }
+
+    /**
+     * Average duration of a test method in ms, or -1 if it has never run.
+     */
+    public synchronized long getMethodMillis(String className, String methodName) {
+        return getLong("method." + className + "#" + methodName);
+    }
+
+    /**
+     * Recent failure rate of a class between 0 (always passes) and 1; 0 when
+     * unknown or unreadable.
+     */
+    public synchronized double getFailureScore(String className) {
+        String value = history.getProperty("fail." + className);
+        try {
+            return value == null ? 0.0 : Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            return 0.0;
+        }
+    }
+
+    // ==================== Recording ====================
+
+    public synchronized void recordClass(String className, long millis, boolean failed) {
+        average("class." + className, millis);
+        double score = getFailureScore(className);
+        history.setProperty("fail." + className,
+                String.format(Locale.ROOT, "%.3f", ALPHA * (failed ? 1 : 0) + (1 - ALPHA) * score));
+        updatedKeys.add("fail." + className);
+    }
+
+    public synchronized void recordMethod(String className, String methodName, long millis) {
+        average("method." + className + "#" + methodName, millis);
+    }
+
+    /**
+     * Write this run's entries, merged into the file as it is now on disk
+     * (other shards may have written theirs meanwhile).
+     */
+    public synchronized void save() {
+        if (updatedKeys.isEmpty()) {
+            return;
+        }
+        RunHistory.update(HISTORY_FILE, onDisk -> {
+            for (String key : updatedKeys) {
+                onDisk.setProperty(key, history.getProperty(key));
+            }
+        }, "Average durations (ms) and failure rates per test class/method");
+        updatedKeys.clear();
+    }
+
+    private void average(String key, long millis) {
+        long previous = getLong(key);
+        long value = previous < 0 ? millis : Math.round(ALPHA * millis + (1 - ALPHA) * previous);
+        history.setProperty(key, String.valueOf(value));
+        updatedKeys.add(key);
+    }
+
+    private long getLong(String key) {
+        String value = history.getProperty(key);
+        try {
+            return value == null ? -1 : Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
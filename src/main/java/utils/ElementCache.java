@@ -0,0 +1,429 @@
+package utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.v133.page.Page;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Per-driver cache of located elements, keyed by locator.
+ *
+ * Page objects look up the same table containers, search boxes, paginator
+ * buttons and menus many times per test; each lookup is a round-trip plus a
+ * possible implicit-wait stall. Entries are tied to the current document:
+ * with CDP available, {@code Page.frameNavigated} / {@code navigatedWithinDocument}
+ * bump a generation counter and invalidate everything; without CDP a hit is
+ * checked against a marker stored on {@code window}. Elements handed out are
+ * wrapped so a {@link StaleElementReferenceException} triggers one transparent
+ * re-find and retry.
+ *
+ * Enabled by default; set {@code element.cache=false} (system property or
+ * config.properties) to always go to the driver.
+ */
+public class ElementCache {
+
+    private static final Map<WebDriver, ElementCache> CACHES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private static final AtomicLong SUITE_HITS = new AtomicLong();
+    private static final AtomicLong SUITE_MISSES = new AtomicLong();
+    private static final AtomicLong SUITE_VALIDATED_HITS = new AtomicLong();
+
+    private static final String DOCUMENT_MARKER_SCRIPT = "return window.__rcsDocId || "
+            + "(window.__rcsDocId = Date.now().toString(36) + Math.random().toString(36).slice(2));";
+    private static final String VALIDATE_SCRIPT = "return [window.__rcsDocId || null, arguments[0].isConnected];";
+
+    private final WebDriver driver;
+    private final boolean enabled;
+    private final Map<By, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicInteger generation = new AtomicInteger();
+    private final boolean navigationEvents;
+    private String documentId;
+
+    private long hits;
+    // Hits confirmed with a script round-trip (no CDP): a lookup replaced, not saved
+    private long validatedHits;
+    private long misses;
+    private long staleRefinds;
+    private long invalidations;
+
+    private static class Entry {
+        final WebElement element;
+        final int generation;
+
+        Entry(WebElement element, int generation) {
+            this.element = element;
+            this.generation = generation;
+        }
+    }
+
+    private ElementCache(WebDriver driver) {
+        this.driver = driver;
+        this.enabled = isCacheEnabled();
+        this.navigationEvents = enabled && listenForNavigation();
+    }
+
+    /**
+     * Cache for the given driver, created on first use.
+     */
+    public static ElementCache forDriver(WebDriver driver) {
+        synchronized (CACHES) {
+            return CACHES.computeIfAbsent(driver, ElementCache::new);
+        }
+    }
+
+    /**
+     * Drop the cache of a driver that is being quit.
+     */
+    public static void remove(WebDriver driver) {
+        if (driver != null) {
+            CACHES.remove(driver);
+        }
+    }
+
+    // ==================== Lookups ====================
+
+    /**
+     * Cached equivalent of {@code driver.findElement(locator)}.
+     */
+    public WebElement find(By locator) {
+        return find(locator, null);
+    }
+
+    /**
+     * Cached lookup that waits for presence on a miss.
+     */
+    public WebElement find(By locator, WebDriverWait wait) {
+        WebElement cached = lookup(locator);
+        if (cached != null) {
+            return new CachedElement(locator, cached, wait);
+        }
+        WebElement located = locate(locator, wait);
+        store(locator, located);
+        return new CachedElement(locator, located, wait);
+    }
+
+    /**
+     * Forget every entry, e.g. after an action known to re-render the page.
+     */
+    public void invalidate() {
+        entries.clear();
+        documentId = null;
+        invalidations++;
+    }
+
+    private WebElement lookup(By locator) {
+        Entry entry = enabled ? entries.get(locator) : null;
+        if (entry == null || entry.generation != generation.get() || !isStillValid(entry.element)) {
+            if (entry != null) {
+                entries.remove(locator);
+            }
+            misses++;
+            SUITE_MISSES.incrementAndGet();
+            return null;
+        }
+        hits++;
+        SUITE_HITS.incrementAndGet();
+        if (!navigationEvents) {
+            validatedHits++;
+            SUITE_VALIDATED_HITS.incrementAndGet();
+        }
+        return entry.element;
+    }
+
+    private WebElement locate(By locator, WebDriverWait wait) {
+        return wait != null
+                ? wait.until(ExpectedConditions.presenceOfElementLocated(locator))
+                : driver.findElement(locator);
+    }
+
+    private void store(By locator, WebElement element) {
+        if (!enabled) {
+            return;
+        }
+        if (!navigationEvents && documentId == null) {
+            documentId = String.valueOf(((JavascriptExecutor) driver).executeScript(DOCUMENT_MARKER_SCRIPT));
+        }
+        entries.put(locator, new Entry(element, generation.get()));
+    }
+
+    /**
+     * With CDP navigation events the generation check is enough. Otherwise one
+     * script confirms the document marker is unchanged and the element is still
+     * attached, which is cheaper than re-running the locator.
+     */
+    private boolean isStillValid(WebElement element) {
+        if (navigationEvents) {
+            return true;
+        }
+        try {
+            List<?> state = (List<?>) ((JavascriptExecutor) driver).executeScript(VALIDATE_SCRIPT, element);
+            if (!String.valueOf(state.get(0)).equals(documentId)) {
+                invalidate();
+                return false;
+            }
+            return Boolean.TRUE.equals(state.get(1));
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    private boolean listenForNavigation() {
+        DevTools devTools = DevToolsHelper.getSession(driver);
+        if (devTools == null) {
+            return false;
+        }
+        try {
+            devTools.send(Page.enable());
+            devTools.addListener(Page.frameNavigated(), event -> {
+                if (event.getFrame().getParentId().isEmpty()) {
+                    generation.incrementAndGet();
+                }
+            });
+            devTools.addListener(Page.navigatedWithinDocument(), event -> generation.incrementAndGet());
+            return true;
+        } catch (Exception e) {
+            Log.info("[ElementCache] Navigation events unavailable, using document marker: "
+                    + e.getMessage());
+            return false;
+        }
+    }
+
+    private static boolean isCacheEnabled() {
+        return Boolean.parseBoolean(ConfigReader.get("element.cache", "true"));
+    }
+
+    // ==================== Metrics ====================
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getStaleRefinds() {
+        return staleRefinds;
+    }
+
+    /**
+     * Lookups answered from the cache without a driver round-trip. Hits
+     * checked with {@code VALIDATE_SCRIPT} still cost one and are not counted.
+     */
+    public long getSavedLookups() {
+        return hits - validatedHits;
+    }
+
+    public double getHitRate() {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    /**
+     * Reset per-test counters; called at the start of each test.
+     */
+    public void resetStats() {
+        hits = 0;
+        validatedHits = 0;
+        misses = 0;
+        staleRefinds = 0;
+        invalidations = 0;
+    }
+
+    /**
+     * One-line summary of the counters since the last reset.
+     */
+    public String describeStats() {
+        return String.format("Element cache: %d hit(s) / %d lookup(s) (%.0f%% hit rate), %d lookup(s) saved, "
+                + "%d stale re-find(s), %d invalidation(s)",
+                hits, hits + misses, getHitRate() * 100, getSavedLookups(), staleRefinds, invalidations);
+    }
+
+    public static String describeSuiteStats() {
+        long suiteHits = SUITE_HITS.get();
+        long total = suiteHits + SUITE_MISSES.get();
+        return String.format("Element cache (suite): %d hit(s) / %d lookup(s) (%.0f%% hit rate), %d lookup(s) saved",
+                suiteHits, total, total == 0 ? 0.0 : suiteHits * 100.0 / total,
+                suiteHits - SUITE_VALIDATED_HITS.get());
+    }
+
+    // ==================== Stale-aware element ====================
+
+    /**
+     * Delegating element that re-finds its locator once when the underlying
+     * element has gone stale and retries the failed call.
+     */
+    private class CachedElement implements WebElement, WrapsElement {
+        private final By locator;
+        private final WebDriverWait wait;
+        private WebElement delegate;
+
+        CachedElement(By locator, WebElement delegate, WebDriverWait wait) {
+            this.locator = locator;
+            this.delegate = delegate;
+            this.wait = wait;
+        }
+
+        private <T> T call(Function<WebElement, T> action) {
+            try {
+                return action.apply(delegate);
+            } catch (StaleElementReferenceException e) {
+                staleRefinds++;
+                entries.remove(locator);
+                delegate = locate(locator, wait);
+                store(locator, delegate);
+                return action.apply(delegate);
+            }
+        }
+
+        private void run(Consumer<WebElement> action) {
+            call(element -> {
+                action.accept(element);
+                return null;
+            });
+        }
+
+        @Override
+        public WebElement getWrappedElement() {
+            return delegate;
+        }
+
+        @Override
+        public void click() {
+            run(WebElement::click);
+        }
+
+        @Override
+        public void submit() {
+            run(WebElement::submit);
+        }
+
+        @Override
+        public void sendKeys(CharSequence... keysToSend) {
+            run(element -> element.sendKeys(keysToSend));
+        }
+
+        @Override
+        public void clear() {
+            run(WebElement::clear);
+        }
+
+        @Override
+        public String getTagName() {
+            return call(WebElement::getTagName);
+        }
+
+        @Override
+        public String getDomProperty(String name) {
+            return call(element -> element.getDomProperty(name));
+        }
+
+        @Override
+        public String getDomAttribute(String name) {
+            return call(element -> element.getDomAttribute(name));
+        }
+
+        @Override
+        @SuppressWarnings("deprecation")
+        public String getAttribute(String name) {
+            return call(element -> element.getAttribute(name));
+        }
+
+        @Override
+        public String getAriaRole() {
+            return call(WebElement::getAriaRole);
+        }
+
+        @Override
+        public String getAccessibleName() {
+            return call(WebElement::getAccessibleName);
+        }
+
+        @Override
+        public boolean isSelected() {
+            return call(WebElement::isSelected);
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return call(WebElement::isEnabled);
+        }
+
+        @Override
+        public String getText() {
+            return call(WebElement::getText);
+        }
+
+        @Override
+        public List<WebElement> findElements(By by) {
+            return call(element -> element.findElements(by));
+        }
+
+        @Override
+        public WebElement findElement(By by) {
+            return call(element -> element.findElement(by));
+        }
+
+        @Override
+        public SearchContext getShadowRoot() {
+            return call(WebElement::getShadowRoot);
+        }
+
+        @Override
+        public boolean isDisplayed() {
+            return call(WebElement::isDisplayed);
+        }
+
+        @Override
+        public Point getLocation() {
+            return call(WebElement::getLocation);
+        }
+
+        @Override
+        public Dimension getSize() {
+            return call(WebElement::getSize);
+        }
+
+        @Override
+        public Rectangle getRect() {
+            return call(WebElement::getRect);
+        }
+
+        @Override
+        public String getCssValue(String propertyName) {
+            return call(element -> element.getCssValue(propertyName));
+        }
+
+        @Override
+        public <X> X getScreenshotAs(OutputType<X> target) throws WebDriverException {
+            return call(element -> element.getScreenshotAs(target));
+        }
+
+        @Override
+        public String toString() {
+            return "Cached[" + locator + "] -> " + delegate;
+        }
+    }
+}
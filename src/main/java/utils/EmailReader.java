@@ -12,7 +12,7 @@ public class EmailReader {
         String storeType = "imaps";
 
         if (host == null) {
-            System.out.println("Email host not configured. Skipping email fetch.");
+            Log.info("Email host not configured. Skipping email fetch.");
             return null;
         }
 
@@ -1,159 +1,227 @@
 package utils;
 
 import com.aventstack.extentreports.ExtentReports;
-import com.aventstack.extentreports.ExtentTest;
 import com.aventstack.extentreports.reporter.ExtentSparkReporter;
 import com.aventstack.extentreports.reporter.configuration.Theme;
 import com.aventstack.extentreports.reporter.configuration.ViewName;
 
-import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.text.SimpleDateFormat;
 import java.util.Date;
-
+import java.util.List;
+
+/**
+ * Report entry point. Tests log through {@link ReportTest} handles into the
+ * append-only event log ({@link ReportLog}); the Spark HTML is rendered from
+ * that log by {@link #flushReports()} or on demand ({@link ReportRenderer}).
+ * {@code report.mode} picks the output: {@code single} (one Spark file),
+ * {@code sharded} (index plus per-class fragments, {@link ShardedReport}) or
+ * {@code both}.
+ */
 public class ExtentReportManager {
 
-    private static ExtentReports extent;
-    private static ThreadLocal<ExtentTest> test = new ThreadLocal<>();
-    private static final String REPORT_PATH = "test-output/ExtentReport.html";
-
-    public synchronized static ExtentReports getExtentReports() {
-        if (extent == null) {
-            // Ensure report directory exists
-            new File("test-output").mkdirs();
-
-            // Create Spark Reporter (HTML file)
-            ExtentSparkReporter sparkReporter = new ExtentSparkReporter(REPORT_PATH);
-
-            // Configure theme and appearance for professional management-friendly reports
-            sparkReporter.config().setDocumentTitle("RCS Automation Test Report");
-            sparkReporter.config().setReportName("RCS Automation Execution Summary");
-            sparkReporter.config().setTheme(Theme.DARK); // Dark theme for premium appearance
-            sparkReporter.config().setTimeStampFormat("MMM dd, yyyy hh:mm:ss a");
-            sparkReporter.config().setEncoding("UTF-8");
-
-            // Enable offline mode - report works without internet
-            sparkReporter.config().setOfflineMode(true);
-
-            // Configure view order for better management visibility
-            // Dashboard first, then tests, then exceptions
-            // Configure view order for better management visibility
-            // Dashboard first, then tests, then exceptions
-            sparkReporter.viewConfigurer()
-                    .viewOrder()
-                    .as(new ViewName[] {
-                            ViewName.DASHBOARD,
-                            ViewName.TEST,
-                            ViewName.CATEGORY,
-                            ViewName.EXCEPTION
-                    })
-                    .apply();
-
-            // Custom CSS for enhanced dashboard charts and images
-            String customCSS =
-                    // Dashboard charts - make them larger and more visible
-                    ".dashboard-view .card { min-height: 250px !important; margin-bottom: 20px; }" +
-                            ".dashboard-view canvas { min-height: 220px !important; }" +
-                            ".dashboard-view .card-header { font-size: 16px; font-weight: bold; }" +
-
-                            // Test list items - better visibility and hover effects
-                            ".test-list .test-item { padding: 12px !important; margin: 4px 0; border-radius: 6px; transition: all 0.2s; }"
-                            +
-                            ".test-list .test-item:hover { background: rgba(255,255,255,0.1) !important; transform: translateX(5px); }"
-                            +
-
-                            // Screenshots - visible and clickable
-                            ".test-content img, .media img { max-width: 100%; height: auto; cursor: pointer; border: 2px solid #555; border-radius: 6px; margin: 10px 0; }"
-                            +
-                            ".test-content img:hover, .media img:hover { border-color: #00aaff; box-shadow: 0 0 15px rgba(0,170,255,0.6); }"
-                            +
-
-                            // Pass/Fail badges - more prominent
-                            ".badge-success, .pass-bg { background-color: #28a745 !important; font-size: 13px !important; padding: 5px 10px !important; }"
-                            +
-                            ".badge-danger, .fail-bg { background-color: #dc3545 !important; font-size: 13px !important; padding: 5px 10px !important; }"
-                            +
-                            ".badge-warning, .skip-bg { background-color: #ffc107 !important; font-size: 13px !important; padding: 5px 10px !important; }"
-                            +
-
-                            // Step logs - better readability
-                            ".test-steps .log { padding: 8px 15px !important; margin: 3px 0; border-radius: 4px; }" +
-
-                            // Navigation - better visibility
-                            ".side-nav .nav-link { padding: 12px 20px !important; font-size: 14px !important; }" +
-                            ".side-nav .nav-link:hover { background: rgba(255,255,255,0.15) !important; }" +
-                            ".side-nav .nav-link.active { background: #007bff !important; }" +
-
-                            // Cards and containers
-                            ".card { box-shadow: 0 4px 12px rgba(0,0,0,0.4) !important; border: none !important; }" +
-                            ".card-body { padding: 20px !important; }" +
-
-                            // System info table
-                            ".sysenv-container .table td { font-size: 14px; padding: 10px !important; }" +
-                            ".sysenv-container .table { margin-bottom: 0; }" +
-
-                            // Report title - more prominent
-                            ".report-name { font-size: 24px !important; font-weight: bold !important; }";
-
-            sparkReporter.config().setCss(customCSS);
-
-            // Custom JS for image lightbox and better interactivity
-            String customJS = "document.addEventListener('click', function(e) {" +
-                    "  if(e.target.tagName === 'IMG' && (e.target.closest('.test-content') || e.target.closest('.media'))) {"
-                    +
-                    "    window.open(e.target.src, '_blank');" +
-                    "  }" +
-                    "});" +
-                    // Expand all test details by default for better visibility
-                    "setTimeout(function() {" +
-                    "  document.querySelectorAll('.test-item.has-log').forEach(function(el) {" +
-                    "    el.classList.add('expanded');" +
-                    "  });" +
-                    "}, 500);";
-            sparkReporter.config().setJs(customJS);
-
-            // Attach reporter to ExtentReports instance
-            extent = new ExtentReports();
-            extent.attachReporter(sparkReporter);
-
-            // System/environment info for management context
-            extent.setSystemInfo("Project", "RCS Automation Framework");
-            extent.setSystemInfo("Application", "RCS Platform");
-            extent.setSystemInfo("Environment", getEnvironment());
-            extent.setSystemInfo("Execution Date", new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").format(new Date()));
-            extent.setSystemInfo("OS", System.getProperty("os.name") + " " + System.getProperty("os.version"));
-            extent.setSystemInfo("Java Version", System.getProperty("java.version"));
-            extent.setSystemInfo("Browser", getBrowserInfo());
-            extent.setSystemInfo("Tester", System.getProperty("user.name"));
+    private static ThreadLocal<ReportTest> test = new ThreadLocal<>();
+    // Shards write to their own directory (-Dreport.dir) and are merged afterwards
+    static final String REPORT_DIR = System.getProperty("report.dir", "test-output");
+    private static final String REPORT_PATH = REPORT_DIR + "/ExtentReport.html";
+    private static final String REPORT_MODE = ConfigReader.get("report.mode", "single");
+
+    /**
+     * Prepare the event log for this run. Safe to call more than once.
+     */
+    public static void startReport() {
+        ReportLog.open();
+        if (ArtifactBundler.isEnabled()) {
+            ArtifactBundler.get();
+        }
+    }
+
+    /**
+     * Build one Spark report from the event logs written by shards.
+     */
+    public static void mergeShardReports(List<Path> shardDirs, String outputPath) throws IOException {
+        render(shardDirs, outputPath);
+    }
+
+    /**
+     * Write the outputs selected by report.mode; the sharded report goes to
+     * a folder next to the Spark file.
+     */
+    private static void render(List<Path> reportDirs, String sparkPath) throws IOException {
+        if (!"sharded".equals(REPORT_MODE)) {
+            ReportRenderer.render(reportDirs, sparkPath);
+        }
+        if (!"single".equals(REPORT_MODE)) {
+            Path sparkDir = Paths.get(sparkPath).toAbsolutePath().getParent();
+            ShardedReport.write(reportDirs, sparkDir.resolve(ShardedReport.DIR));
         }
-        return extent;
     }
 
-    public static ExtentTest createTest(String testName) {
-        ExtentTest extentTest = getExtentReports().createTest(testName);
-        test.set(extentTest);
-        return extentTest;
+    static ExtentSparkReporter createSparkReporter(String path) {
+        // Create Spark Reporter (HTML file)
+        ExtentSparkReporter sparkReporter = new ExtentSparkReporter(path);
+
+        // Configure theme and appearance for professional management-friendly reports
+        sparkReporter.config().setDocumentTitle("RCS Automation Test Report");
+        sparkReporter.config().setReportName("RCS Automation Execution Summary");
+        sparkReporter.config().setTheme(Theme.DARK); // Dark theme for premium appearance
+        sparkReporter.config().setTimeStampFormat("MMM dd, yyyy hh:mm:ss a");
+        sparkReporter.config().setEncoding("UTF-8");
+
+        // Enable offline mode - report works without internet
+        sparkReporter.config().setOfflineMode(true);
+
+        // Configure view order for better management visibility
+        // Dashboard first, then tests, then exceptions
+        // Configure view order for better management visibility
+        // Dashboard first, then tests, then exceptions
+        sparkReporter.viewConfigurer()
+                .viewOrder()
+                .as(new ViewName[] {
+                        ViewName.DASHBOARD,
+                        ViewName.TEST,
+                        ViewName.CATEGORY,
+                        ViewName.EXCEPTION
+                })
+                .apply();
+
+        // Custom CSS for enhanced dashboard charts and images
+        String customCSS =
+                // Dashboard charts - make them larger and more visible
+                ".dashboard-view .card { min-height: 250px !important; margin-bottom: 20px; }" +
+                        ".dashboard-view canvas { min-height: 220px !important; }" +
+                        ".dashboard-view .card-header { font-size: 16px; font-weight: bold; }" +
+
+                        // Test list items - better visibility and hover effects
+                        ".test-list .test-item { padding: 12px !important; margin: 4px 0; border-radius: 6px; transition: all 0.2s; }"
+                        +
+                        ".test-list .test-item:hover { background: rgba(255,255,255,0.1) !important; transform: translateX(5px); }"
+                        +
+
+                        // Screenshots - visible and clickable
+                        ".test-content img, .media img { max-width: 100%; height: auto; cursor: pointer; border: 2px solid #555; border-radius: 6px; margin: 10px 0; }"
+                        +
+                        ".test-content img:hover, .media img:hover { border-color: #00aaff; box-shadow: 0 0 15px rgba(0,170,255,0.6); }"
+                        +
+
+                        // Pass/Fail badges - more prominent
+                        ".badge-success, .pass-bg { background-color: #28a745 !important; font-size: 13px !important; padding: 5px 10px !important; }"
+                        +
+                        ".badge-danger, .fail-bg { background-color: #dc3545 !important; font-size: 13px !important; padding: 5px 10px !important; }"
+                        +
+                        ".badge-warning, .skip-bg { background-color: #ffc107 !important; font-size: 13px !important; padding: 5px 10px !important; }"
+                        +
+
+                        // Step logs - better readability
+                        ".test-steps .log { padding: 8px 15px !important; margin: 3px 0; border-radius: 4px; }" +
+
+                        // Navigation - better visibility
+                        ".side-nav .nav-link { padding: 12px 20px !important; font-size: 14px !important; }" +
+                        ".side-nav .nav-link:hover { background: rgba(255,255,255,0.15) !important; }" +
+                        ".side-nav .nav-link.active { background: #007bff !important; }" +
+
+                        // Cards and containers
+                        ".card { box-shadow: 0 4px 12px rgba(0,0,0,0.4) !important; border: none !important; }" +
+                        ".card-body { padding: 20px !important; }" +
+
+                        // System info table
+                        ".sysenv-container .table td { font-size: 14px; padding: 10px !important; }" +
+                        ".sysenv-container .table { margin-bottom: 0; }" +
+
+                        // Report title - more prominent
+                        ".report-name { font-size: 24px !important; font-weight: bold !important; }";
+
+        sparkReporter.config().setCss(customCSS);
+
+        // Custom JS for image lightbox and better interactivity
+        String customJS = "document.addEventListener('click', function(e) {" +
+                "  if(e.target.tagName === 'IMG' && (e.target.closest('.test-content') || e.target.closest('.media'))) {"
+                +
+                "    window.open(e.target.src, '_blank');" +
+                "  }" +
+                "});" +
+                // Expand all test details by default for better visibility
+                "setTimeout(function() {" +
+                "  document.querySelectorAll('.test-item.has-log').forEach(function(el) {" +
+                "    el.classList.add('expanded');" +
+                "  });" +
+                "}, 500);" +
+                // Open time, to compare with the sharded report
+                "window.addEventListener('load', function() {" +
+                "  console.log('Report opened in ' + Math.round(performance.now()) + ' ms');" +
+                "});";
+        sparkReporter.config().setJs(customJS);
+        return sparkReporter;
+    }
+
+    static void setSystemInfo(ExtentReports reports) {
+        // System/environment info for management context
+        reports.setSystemInfo("Project", "RCS Automation Framework");
+        reports.setSystemInfo("Application", "RCS Platform");
+        reports.setSystemInfo("Environment", getEnvironment());
+        reports.setSystemInfo("Execution Date", new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").format(new Date()));
+        reports.setSystemInfo("OS", System.getProperty("os.name") + " " + System.getProperty("os.version"));
+        reports.setSystemInfo("Java Version", System.getProperty("java.version"));
+        reports.setSystemInfo("Browser", getBrowserInfo());
+        reports.setSystemInfo("Tester", System.getProperty("user.name"));
     }
 
-    public static ExtentTest createTest(String testName, String description) {
-        ExtentTest extentTest = getExtentReports().createTest(testName, description);
-        test.set(extentTest);
-        return extentTest;
+    public static ReportTest createTest(String testName) {
+        return createTest(testName, null);
     }
 
-    public static ExtentTest getTest() {
+    public static ReportTest createTest(String testName, String description) {
+        return createTest(testName, description, null);
+    }
+
+    /**
+     * Test of the given class; the sharded report groups tests by it.
+     */
+    public static ReportTest createTest(String testName, String description, String testClass) {
+        ReportTest reportTest = ReportLog.startTest(testName, description, testClass);
+        test.set(reportTest);
+        return reportTest;
+    }
+
+    public static ReportTest getTest() {
         return test.get();
     }
 
+    /**
+     * Marks the current test as finished in the event log.
+     */
     public static void removeTest() {
+        ReportTest current = test.get();
+        if (current != null) {
+            ReportLog.endTest(current);
+        }
         test.remove();
     }
 
     /**
-     * Flushes the report - should be called at the end of test suite
+     * Renders the report from the event log - should be called at the end of
+     * test suite
      */
     public static void flushReports() {
-        if (extent != null) {
-            extent.flush();
+        ScreenshotPipeline.drain();
+        try {
+            render(List.of(ReportLog.reportDir()), REPORT_PATH);
+        } catch (IOException e) {
+            Log.error("[ExtentReportManager] Could not render the report: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Render what is logged so far while the run goes on; screenshots still
+     * being encoded show up in the next render.
+     */
+    public static void renderProgress() {
+        try {
+            render(List.of(ReportLog.reportDir()), REPORT_PATH);
+        } catch (IOException e) {
+            Log.error("[ExtentReportManager] Could not render the progress report: " + e.getMessage());
         }
     }
 
@@ -193,10 +261,12 @@ public class ExtentReportManager {
      * @param stepDescription Description of the step being executed
      */
     public static void logStep(String stepDescription) {
-        ExtentTest currentTest = getTest();
+        ReportTest currentTest = getTest();
         if (currentTest != null) {
             int currentStep = stepCounter.get() + 1;
             stepCounter.set(currentStep);
+            StepTimeline.step(stepDescription);
+            FlightEvents.step(currentStep, stepDescription);
             currentTest.info("<b>Step " + currentStep + ":</b> " + stepDescription);
         }
     }
@@ -207,7 +277,7 @@ public class ExtentReportManager {
      * @param message The message to log
      */
     public static void logInfo(String message) {
-        ExtentTest currentTest = getTest();
+        ReportTest currentTest = getTest();
         if (currentTest != null) {
             currentTest.info(message);
         }
@@ -219,7 +289,7 @@ public class ExtentReportManager {
      * @param message The warning message
      */
     public static void logWarning(String message) {
-        ExtentTest currentTest = getTest();
+        ReportTest currentTest = getTest();
         if (currentTest != null) {
             currentTest.warning("<font color='orange'>" + message + "</font>");
         }
@@ -231,7 +301,7 @@ public class ExtentReportManager {
      * @param message The success message
      */
     public static void logPass(String message) {
-        ExtentTest currentTest = getTest();
+        ReportTest currentTest = getTest();
         if (currentTest != null) {
             currentTest.pass("<font color='green'>✓ " + message + "</font>");
         }
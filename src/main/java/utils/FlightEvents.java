@@ -0,0 +1,247 @@
+package utils;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder events for the test lifecycle: tests, class setup,
+ * driver launches, logins, report steps and explicit waits ({@link TracedWait}).
+ * Sleeps are the JDK's own {@code jdk.ThreadSleep} events.
+ *
+ * Record a run with the settings in {@code rcs-tests.jfc}, on top of the
+ * JDK defaults (or {@code mvn test -Pjfr}):
+ * <pre>
+ * -XX:StartFlightRecording:settings=default,settings=src/test/resources/rcs-tests.jfc,filename=target/run.jfr
+ * </pre>
+ * then open the file in JDK Mission Control next to GC, thread and I/O data,
+ * or list the top time sinks per test class with {@link FlightSummary}.
+ * Without a recording each hook costs an allocation and a flag check.
+ */
+public final class FlightEvents {
+
+    static final String CATEGORY = "RCS UI Tests";
+
+    // Test class of the setup or test running on this thread
+    private static final ThreadLocal<String> TEST_CLASS = new ThreadLocal<>();
+    private static final ThreadLocal<TestEvent> TEST = new ThreadLocal<>();
+    private static final ThreadLocal<StepEvent> STEP = new ThreadLocal<>();
+
+    private FlightEvents() {
+    }
+
+    // ==================== Event types ====================
+
+    @Name("rcs.Test")
+    @Label("Test")
+    @Category({ CATEGORY, "Lifecycle" })
+    @Description("One test method, from @BeforeMethod to its result")
+    @StackTrace(false)
+    public static class TestEvent extends Event {
+        @Label("Test Class")
+        String testClass;
+        @Label("Test Method")
+        String testMethod;
+        @Label("Role")
+        String role;
+        @Label("Status")
+        String status;
+    }
+
+    @Name("rcs.ClassSetup")
+    @Label("Class Setup")
+    @Category({ CATEGORY, "Lifecycle" })
+    @Description("@BeforeClass of a test class: browser and first navigation")
+    @StackTrace(false)
+    public static class ClassSetupEvent extends Event {
+        @Label("Test Class")
+        String testClass;
+
+        public void done() {
+            commit();
+        }
+    }
+
+    @Name("rcs.DriverLaunch")
+    @Label("Driver Launch")
+    @Category({ CATEGORY, "Browser" })
+    @Description("Start of a browser (or browser context) including the wait for a slot")
+    @StackTrace(false)
+    public static class DriverLaunchEvent extends Event {
+        @Label("Test Class")
+        String testClass;
+        @Label("Mode")
+        String mode;
+        @Label("Launched")
+        boolean launched;
+
+        public void done(boolean launched) {
+            this.launched = launched;
+            commit();
+        }
+    }
+
+    @Name("rcs.Login")
+    @Label("Login")
+    @Category({ CATEGORY, "Browser" })
+    @Description("Login through the UI, up to the loaded dashboard")
+    @StackTrace(false)
+    public static class LoginEvent extends Event {
+        @Label("Test Class")
+        String testClass;
+        @Label("Identity")
+        String identity;
+        @Label("Logged In")
+        boolean loggedIn;
+
+        public void done(boolean loggedIn) {
+            this.loggedIn = loggedIn;
+            commit();
+        }
+    }
+
+    @Name("rcs.Step")
+    @Label("Step")
+    @Category({ CATEGORY, "Lifecycle" })
+    @Description("A report step (logStep), until the next step or the end of the test")
+    @StackTrace(false)
+    public static class StepEvent extends Event {
+        @Label("Test Class")
+        String testClass;
+        @Label("Step")
+        int step;
+        @Label("Description")
+        String description;
+    }
+
+    @Name("rcs.Wait")
+    @Label("Explicit Wait")
+    @Category({ CATEGORY, "Browser" })
+    @Description("WebDriverWait.until: condition, caller and outcome")
+    @StackTrace(false)
+    public static class WaitEvent extends Event {
+        @Label("Test Class")
+        String testClass;
+        @Label("Condition")
+        String condition;
+        @Label("Call Site")
+        String callSite;
+        @Label("Timeout (ms)")
+        long timeoutMillis;
+        @Label("Outcome")
+        String outcome;
+
+        public void done(String outcome) {
+            this.outcome = outcome;
+            commit();
+        }
+    }
+
+    // ==================== Lifecycle ====================
+
+    public static ClassSetupEvent classSetup(String testClass) {
+        TEST_CLASS.set(testClass);
+        ClassSetupEvent event = new ClassSetupEvent();
+        event.testClass = testClass;
+        event.begin();
+        return event;
+    }
+
+    public static void startTest(String testClass, String testMethod, String role) {
+        TEST_CLASS.set(testClass);
+        TestEvent event = new TestEvent();
+        if (event.isEnabled()) {
+            event.testClass = testClass;
+            event.testMethod = testMethod;
+            event.role = role;
+            event.begin();
+            TEST.set(event);
+        }
+    }
+
+    /**
+     * Close the test of this thread and its last step.
+     */
+    public static void endTest(String status) {
+        endStep();
+        TestEvent event = TEST.get();
+        TEST.remove();
+        if (event != null) {
+            event.status = status;
+            event.commit();
+        }
+    }
+
+    /**
+     * Close the previous step of this thread's test and open the next one.
+     */
+    public static void step(int number, String description) {
+        endStep();
+        StepEvent event = new StepEvent();
+        if (event.isEnabled() && TEST.get() != null) {
+            event.testClass = TEST_CLASS.get();
+            event.step = number;
+            event.description = description;
+            event.begin();
+            STEP.set(event);
+        }
+    }
+
+    private static void endStep() {
+        StepEvent event = STEP.get();
+        STEP.remove();
+        if (event != null) {
+            event.commit();
+        }
+    }
+
+    // ==================== Browser ====================
+
+    public static DriverLaunchEvent driverLaunch(String mode) {
+        DriverLaunchEvent event = new DriverLaunchEvent();
+        event.testClass = TEST_CLASS.get();
+        event.mode = mode;
+        event.begin();
+        return event;
+    }
+
+    public static LoginEvent login(String identity) {
+        LoginEvent event = new LoginEvent();
+        event.testClass = TEST_CLASS.get();
+        event.identity = identity;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Open a wait event; the condition and call site are only worked out
+     * while a recording is running.
+     */
+    public static WaitEvent waitFor(Object condition, long timeoutMillis) {
+        WaitEvent event = new WaitEvent();
+        if (event.isEnabled()) {
+            event.testClass = TEST_CLASS.get();
+            event.condition = describe(condition);
+            event.callSite = CommandStats.callSite();
+            event.timeoutMillis = timeoutMillis;
+        }
+        event.begin();
+        return event;
+    }
+
+    /**
+     * ExpectedConditions describe themselves; lambdas are named after the
+     * class that declares them.
+     */
+    private static String describe(Object condition) {
+        String name = condition.getClass().getName();
+        int lambda = name.indexOf("$$Lambda");
+        if (lambda > 0) {
+            return "lambda in " + name.substring(name.lastIndexOf('.', lambda) + 1, lambda);
+        }
+        return String.valueOf(condition);
+    }
+}
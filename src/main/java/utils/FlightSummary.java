@@ -0,0 +1,267 @@
+package utils;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lists the top time sinks per test class from a Flight Recorder file of a
+ * test run (see {@link FlightEvents}):
+ * <pre>
+ * java -cp target/classes utils.FlightSummary target/run.jfr [top]
+ * </pre>
+ * Sinks are explicit waits (by call site), sleeps (by the page, helper or
+ * test method that slept), driver launches and logins, with their share of
+ * the class's time. Sleeps carry no test class: they count for the test or
+ * class setup running on their thread at the time; sleeps of other threads
+ * (samplers, encoders) are left out.
+ */
+public class FlightSummary {
+
+    private static final String[] OWNER_PACKAGES = { "pages.", "helpers.", "tests.", "base." };
+    private static final String WAIT_CLASS = "org.openqa.selenium.support.ui.FluentWait";
+
+    private final Map<Long, List<Interval>> intervalsByThread = new HashMap<>();
+    private final Map<String, ClassSummary> classes = new LinkedHashMap<>();
+    // Sinks are matched to test classes once all tests and setups are read
+    private final List<Pending> pending = new ArrayList<>();
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Usage: FlightSummary <recording.jfr> [top]");
+            System.exit(2);
+        }
+        int top = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        new FlightSummary().run(Paths.get(args[0]), top);
+    }
+
+    public void run(Path recording, int top) throws IOException {
+        try (RecordingFile file = new RecordingFile(recording)) {
+            while (file.hasMoreEvents()) {
+                read(file.readEvent());
+            }
+        }
+        for (Pending sink : pending) {
+            String testClass = sink.event.hasField("testClass") ? sink.event.getString("testClass") : null;
+            if (testClass == null) {
+                testClass = classAt(sink.event);
+            }
+            if (testClass != null) {
+                classSummary(testClass).add(sink.kind, sink.site, sink.detail, sink.event);
+            } else if (!"sleep".equals(sink.kind)) {
+                classSummary("(outside tests)").add(sink.kind, sink.site, sink.detail, sink.event);
+            }
+        }
+        if (classes.isEmpty()) {
+            System.out.println("No test events in " + recording
+                    + " (record with settings=default,settings=src/test/resources/rcs-tests.jfc)");
+            return;
+        }
+
+        List<ClassSummary> ordered = new ArrayList<>(classes.values());
+        ordered.sort(Comparator.comparingLong((ClassSummary c) -> c.totalNanos()).reversed());
+        for (ClassSummary summary : ordered) {
+            summary.print(top);
+        }
+    }
+
+    // ==================== Reading ====================
+
+    private void read(RecordedEvent event) {
+        String type = event.getEventType().getName();
+        switch (type) {
+            case "rcs.Test":
+                interval(event);
+                ClassSummary test = classSummary(event.getString("testClass"));
+                test.tests++;
+                test.testNanos += event.getDuration().toNanos();
+                if ("failed".equals(event.getString("status"))) {
+                    test.failed++;
+                }
+                break;
+            case "rcs.ClassSetup":
+                interval(event);
+                classSummary(event.getString("testClass")).setupNanos += event.getDuration().toNanos();
+                break;
+            case "rcs.Wait":
+                add(event, "wait", event.getString("callSite"), event.getString("condition")
+                        + ("timeout".equals(event.getString("outcome")) ? " [timed out]" : ""));
+                break;
+            case "rcs.DriverLaunch":
+                add(event, "driver", "launch (" + event.getString("mode") + ")", "");
+                break;
+            case "rcs.Login":
+                add(event, "login", event.getString("identity"), event.getBoolean("loggedIn") ? "" : "[failed]");
+                break;
+            case "jdk.ThreadSleep":
+                String site = sleepSite(event);
+                if (site != null) {
+                    add(event, "sleep", site, "");
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void add(RecordedEvent event, String kind, String site, String detail) {
+        pending.add(new Pending(event, kind, site, detail));
+    }
+
+    private ClassSummary classSummary(String testClass) {
+        return classes.computeIfAbsent(testClass, ClassSummary::new);
+    }
+
+    private void interval(RecordedEvent event) {
+        RecordedThread thread = event.getThread();
+        if (thread != null) {
+            intervalsByThread.computeIfAbsent(thread.getJavaThreadId(), key -> new ArrayList<>())
+                    .add(new Interval(event.getStartTime(), event.getEndTime(), event.getString("testClass")));
+        }
+    }
+
+    /**
+     * Test class of the test or class setup running on the event's thread when
+     * it started, or null.
+     */
+    private String classAt(RecordedEvent event) {
+        RecordedThread thread = event.getThread();
+        List<Interval> intervals = thread == null ? null : intervalsByThread.get(thread.getJavaThreadId());
+        if (intervals == null) {
+            return null;
+        }
+        Instant start = event.getStartTime();
+        for (Interval interval : intervals) {
+            if (!start.isBefore(interval.start) && !start.isAfter(interval.end)) {
+                return interval.testClass;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The page, helper or test method that slept, as {@code Class.method:line};
+     * null for the polling pauses of an explicit wait, which count as the wait.
+     */
+    private static String sleepSite(RecordedEvent sleep) {
+        RecordedStackTrace stack = sleep.getStackTrace();
+        if (stack == null) {
+            return "(no stack trace)";
+        }
+        for (RecordedFrame frame : stack.getFrames()) {
+            String className = frame.getMethod().getType().getName();
+            if (WAIT_CLASS.equals(className)) {
+                return null;
+            }
+            for (String prefix : OWNER_PACKAGES) {
+                if (className.startsWith(prefix)) {
+                    String simple = className.substring(className.lastIndexOf('.') + 1);
+                    int nested = simple.indexOf('$');
+                    String method = frame.getMethod().getName();
+                    if (method.startsWith("lambda$")) {
+                        int end = method.indexOf('$', 7);
+                        method = end > 7 ? method.substring(7, end) : method;
+                    }
+                    return (nested > 0 ? simple.substring(0, nested) : simple) + "." + method + ":"
+                            + frame.getLineNumber();
+                }
+            }
+        }
+        return "(framework)";
+    }
+
+    private static class Pending {
+        final RecordedEvent event;
+        final String kind;
+        final String site;
+        final String detail;
+
+        Pending(RecordedEvent event, String kind, String site, String detail) {
+            this.event = event;
+            this.kind = kind;
+            this.site = site;
+            this.detail = detail;
+        }
+    }
+
+    private static class Interval {
+        final Instant start;
+        final Instant end;
+        final String testClass;
+
+        Interval(Instant start, Instant end, String testClass) {
+            this.start = start;
+            this.end = end;
+            this.testClass = testClass;
+        }
+    }
+
+    // ==================== Report ====================
+
+    private static class Sink {
+        final String kind;
+        final String site;
+        final String detail;
+        long nanos;
+        int count;
+
+        Sink(String kind, String site, String detail) {
+            this.kind = kind;
+            this.site = site;
+            this.detail = detail;
+        }
+    }
+
+    private static class ClassSummary {
+        final String testClass;
+        final Map<String, Sink> sinks = new HashMap<>();
+        int tests;
+        int failed;
+        long testNanos;
+        long setupNanos;
+
+        ClassSummary(String testClass) {
+            this.testClass = testClass;
+        }
+
+        void add(String kind, String site, String detail, RecordedEvent event) {
+            // One line per call site; the detail (e.g. condition) of the first one is kept
+            Sink sink = sinks.computeIfAbsent(kind + " " + site, key -> new Sink(kind, site, detail));
+            sink.nanos += event.getDuration().toNanos();
+            sink.count++;
+        }
+
+        long totalNanos() {
+            return testNanos + setupNanos;
+        }
+
+        void print(int top) {
+            System.out.printf("%n%s: %d test(s)%s, %.1f s in tests + %.1f s class setup%n", testClass, tests,
+                    failed > 0 ? ", " + failed + " failed" : "", testNanos / 1e9, setupNanos / 1e9);
+            List<Sink> ordered = new ArrayList<>(sinks.values());
+            ordered.sort(Comparator.comparingLong((Sink s) -> s.nanos).reversed());
+            for (Sink sink : ordered.subList(0, Math.min(top, ordered.size()))) {
+                System.out.printf("  %8.1f s %4s %5dx  %-6s %s%s%n", sink.nanos / 1e9,
+                        totalNanos() > 0 ? Math.round(100.0 * sink.nanos / totalNanos()) + "%" : "", sink.count,
+                        sink.kind, sink.site, sink.detail.isEmpty() ? "" : "  " + abbreviate(sink.detail));
+            }
+        }
+    }
+
+    private static String abbreviate(String text) {
+        return text.length() <= 100 ? text : text.substring(0, 97) + "...";
+    }
+}
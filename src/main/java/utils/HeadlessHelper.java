@@ -30,33 +30,30 @@ public class HeadlessHelper {
      * Create WebDriverWait with appropriate timeout for current mode.
      */
     public static WebDriverWait createWait(WebDriver driver) {
-        return new WebDriverWait(driver, Duration.ofSeconds(getTimeout()));
+        return new TracedWait(driver, Duration.ofSeconds(getTimeout()));
     }
 
     /**
-     * Click element with JavaScript fallback for headless mode.
-     * In GUI mode, uses regular click.
-     * In headless mode, catches ElementClickInterceptedException and uses JS click.
+     * Click element. In GUI mode, uses regular click. In headless mode, falls
+     * back to Actions and JS clicks when intercepted; unkeyed, so the default
+     * order is used. Prefer the locator overload so ClickEngine can learn the
+     * best strategy for the element.
      */
     public static void safeClick(WebDriver driver, WebElement element) {
         if (DriverFactory.isHeadlessModeEnabled()) {
-            try {
-                element.click();
-            } catch (ElementClickInterceptedException e) {
-                System.out.println("Click intercepted in headless mode, using JS click");
-                ((JavascriptExecutor) driver).executeScript("arguments[0].click();", element);
-            }
+            ClickEngine.click(driver, element, (String) null);
         } else {
             element.click();
         }
     }
 
     /**
-     * Click element by locator with wait and JavaScript fallback.
+     * Click element by locator with wait, using the strategy that has worked
+     * best for this locator in the current mode.
      */
     public static void safeClick(WebDriver driver, WebDriverWait wait, By locator) {
         WebElement element = wait.until(ExpectedConditions.elementToBeClickable(locator));
-        safeClick(driver, element);
+        ClickEngine.click(driver, element, locator);
     }
 
     /**
@@ -65,7 +62,7 @@ public class HeadlessHelper {
      */
     public static void jsClick(WebDriver driver, WebElement element) {
         if (DriverFactory.isHeadlessModeEnabled()) {
-            ((JavascriptExecutor) driver).executeScript("arguments[0].click();", element);
+            PageScripts.click(driver, element);
         } else {
             element.click();
         }
@@ -78,12 +75,11 @@ public class HeadlessHelper {
     public static void waitForPageLoad(WebDriver driver) {
         if (DriverFactory.isHeadlessModeEnabled()) {
             try {
-                new WebDriverWait(driver, Duration.ofSeconds(10)).until(
-                        d -> ((JavascriptExecutor) d)
-                                .executeScript("return document.readyState").equals("complete"));
+                new TracedWait(driver, Duration.ofSeconds(10)).until(
+                        d -> PageScripts.readyState(d).equals("complete"));
                 Thread.sleep(1000); // Extra stabilization for headless
             } catch (Exception e) {
-                System.out.println("Page load wait completed: " + e.getMessage());
+                Log.info("Page load wait completed: " + e.getMessage());
             }
         }
     }
@@ -105,8 +101,7 @@ public class HeadlessHelper {
      */
     public static void scrollIntoView(WebDriver driver, WebElement element) {
         if (DriverFactory.isHeadlessModeEnabled()) {
-            ((JavascriptExecutor) driver).executeScript(
-                    "arguments[0].scrollIntoView({behavior: 'auto', block: 'center'});", element);
+            PageScripts.scrollIntoView(driver, element, "center");
             try {
                 Thread.sleep(300);
             } catch (InterruptedException e) {
@@ -0,0 +1,295 @@
+package utils;
+
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+import org.testng.xml.internal.Parser;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+/**
+ * Selects the test classes affected by a change and writes a suite with only
+ * those (plus a smoke set).
+ *
+ * A class-level dependency graph is read from the compiled classes
+ * ({@code target/classes}, {@code target/test-classes}): every class
+ * referenced from a class file's constant pool, including descriptors,
+ * generics and annotations (see {@link ClassFileReader}). The changed files
+ * come from {@code git diff --name-only <base>}; a test class is selected when a changed
+ * class is reachable from it (test, helper, page, locator, util, ...).
+ * Changes the graph cannot see (resources, pom.xml, suite files, classes
+ * registered as suite listeners) select the whole suite.
+ *
+ * Parsed dependencies are cached in {@code test-history/impact-graph.properties}
+ * by class file size and timestamp, so only recompiled classes are read again.
+ *
+ * Usage: {@code mvn test -Pimpact -Dimpact.base=origin/main}, or run this
+ * class with {@code <suite.xml> <output.xml> [base-ref]} after compiling.
+ */
+public class ImpactAnalyzer {
+
+    private static final String CACHE_FILE = "impact-graph.properties";
+    static final List<Path> CLASS_DIRS = Arrays.asList(Paths.get("target", "classes"),
+            Paths.get("target", "test-classes"));
+    private static final List<String> SOURCE_DIRS = Arrays.asList("src/main/java/", "src/test/java/");
+
+    // Top-level class -> top-level classes it references (project classes only)
+    private final Map<String, Set<String>> graph = new HashMap<>();
+    private int parsedFiles;
+    private int cachedFiles;
+
+    public static void main(String[] args) throws Exception {
+        String suiteFile = args.length > 0 ? args[0] : "testng.xml";
+        String outputFile = args.length > 1 ? args[1] : "target/impact/testng-impact.xml";
+        String base = args.length > 2 ? args[2] : "HEAD~1";
+        new ImpactAnalyzer().run(suiteFile, outputFile, base);
+    }
+
+    public void run(String suiteFile, String outputFile, String base) throws IOException, InterruptedException {
+        long start = System.currentTimeMillis();
+        XmlSuite suite = new Parser(suiteFile).parseToList().get(0);
+
+        Set<String> selected;
+        List<String> changedFiles = changedFiles(base);
+        String runAllReason = buildGraph() ? null : "no compiled classes under target/ (compile first)";
+        Set<String> changedClasses = new TreeSet<>();
+        for (String file : changedFiles) {
+            String reason = classifyChange(file, suiteFile, suite, changedClasses);
+            if (runAllReason == null) {
+                runAllReason = reason;
+            }
+        }
+
+        Set<String> suiteClasses = suiteClasses(suite);
+        if (runAllReason != null) {
+            selected = suiteClasses;
+        } else {
+            selected = new TreeSet<>(smokeSet(suiteClasses));
+            Set<String> impacted = dependents(changedClasses);
+            for (String testClass : suiteClasses) {
+                if (impacted.contains(testClass)) {
+                    selected.add(testClass);
+                }
+            }
+        }
+
+        Path output = Paths.get(outputFile);
+        if (output.toAbsolutePath().getParent() != null) {
+            Files.createDirectories(output.toAbsolutePath().getParent());
+        }
+        Files.write(output, filterSuite(suite, selected).toXml().getBytes(StandardCharsets.UTF_8));
+
+        System.out.println("[Impact] " + changedFiles.size() + " changed file(s) since " + base + ", "
+                + changedClasses.size() + " changed class(es): " + changedClasses);
+        if (runAllReason != null) {
+            System.out.println("[Impact] Running the whole suite: " + runAllReason);
+        }
+        System.out.println("[Impact] Selected " + selected.size() + " of " + suiteClasses.size()
+                + " test class(es): " + selected);
+        System.out.println("[Impact] Graph: " + graph.size() + " class(es), " + parsedFiles + " class file(s) parsed, "
+                + cachedFiles + " from cache; selection took " + (System.currentTimeMillis() - start) + " ms");
+        System.out.println("[Impact] Suite written to " + output);
+    }
+
+    // ==================== Changes ====================
+
+    private static List<String> changedFiles(String base) throws IOException, InterruptedException {
+        Process git = new ProcessBuilder("git", "diff", "--name-only", base).redirectErrorStream(true).start();
+        List<String> files = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(git.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    files.add(line.trim());
+                }
+            }
+        }
+        if (git.waitFor() != 0) {
+            throw new IllegalStateException("git diff against " + base + " failed: " + files);
+        }
+        return files;
+    }
+
+    /**
+     * Add the classes of a changed source file, or return why the whole
+     * suite has to run.
+     */
+    private String classifyChange(String file, String suiteFile, XmlSuite suite, Set<String> changedClasses) {
+        for (String sourceDir : SOURCE_DIRS) {
+            if (file.startsWith(sourceDir) && file.endsWith(".java")) {
+                String className = file.substring(sourceDir.length(), file.length() - ".java".length())
+                        .replace('/', '.');
+                if (suite.getListeners().contains(className)) {
+                    return className + " is a suite listener";
+                }
+                changedClasses.add(className);
+                return null;
+            }
+        }
+        if (file.startsWith("src/") || file.equals("pom.xml") || file.equals(suiteFile)
+                || file.endsWith(".xml") && !file.contains("/")) {
+            return file + " changed";
+        }
+        // Docs, CI files, ... do not affect test behaviour
+        return null;
+    }
+
+    // ==================== Graph ====================
+
+    /**
+     * Read (or take from cache) the references of every compiled class.
+     * Returns false when there are no compiled classes.
+     */
+    private boolean buildGraph() throws IOException {
+        List<Path> classFiles = new ArrayList<>();
+        Map<Path, Path> roots = new HashMap<>();
+        for (Path dir : CLASS_DIRS) {
+            if (!Files.isDirectory(dir)) {
+                continue;
+            }
+            try (Stream<Path> files = Files.walk(dir)) {
+                files.filter(f -> f.toString().endsWith(".class")).forEach(f -> {
+                    classFiles.add(f);
+                    roots.put(f, dir);
+                });
+            }
+        }
+        if (classFiles.isEmpty()) {
+            return false;
+        }
+
+        Set<String> projectClasses = new HashSet<>();
+        Map<Path, String> names = new HashMap<>();
+        for (Path file : classFiles) {
+            String name = roots.get(file).relativize(file).toString().replace('\\', '/');
+            name = name.substring(0, name.length() - ".class".length()).replace('/', '.');
+            names.put(file, name);
+            projectClasses.add(topLevel(name));
+        }
+
+        Properties cache = RunHistory.load(CACHE_FILE);
+        Properties updated = new Properties();
+        for (Path file : classFiles) {
+            String name = names.get(file);
+            String fingerprint = Files.size(file) + ":" + Files.getLastModifiedTime(file).toMillis();
+            String cached = cache.getProperty(name);
+            Set<String> references;
+            if (cached != null && cached.startsWith(fingerprint + "|")) {
+                references = new HashSet<>(Arrays.asList(cached.substring(fingerprint.length() + 1).split(",")));
+                references.remove("");
+                cachedFiles++;
+            } else {
+                references = new TreeSet<>();
+                for (String referenced : ClassFileReader.read(file).references) {
+                    String top = topLevel(referenced);
+                    if (projectClasses.contains(top)) {
+                        references.add(top);
+                    }
+                }
+                parsedFiles++;
+            }
+            updated.setProperty(name, fingerprint + "|" + String.join(",", references));
+            String top = topLevel(name);
+            Set<String> edges = graph.computeIfAbsent(top, k -> new HashSet<>());
+            edges.addAll(references);
+            edges.remove(top);
+        }
+        if (parsedFiles > 0 || cache.size() != updated.size()) {
+            RunHistory.store(CACHE_FILE, updated, "class file -> size:timestamp|referenced project classes");
+        }
+        return true;
+    }
+
+    private static String topLevel(String className) {
+        int nested = className.indexOf('$');
+        return nested < 0 ? className : className.substring(0, nested);
+    }
+
+    /**
+     * Every class that reaches one of the given classes, including them.
+     */
+    private Set<String> dependents(Set<String> changed) {
+        Map<String, Set<String>> reverse = new HashMap<>();
+        graph.forEach((from, targets) -> targets.forEach(
+                to -> reverse.computeIfAbsent(to, k -> new HashSet<>()).add(from)));
+        Set<String> reached = new HashSet<>(changed);
+        Deque<String> queue = new ArrayDeque<>(changed);
+        while (!queue.isEmpty()) {
+            for (String dependent : reverse.getOrDefault(queue.poll(), Set.of())) {
+                if (reached.add(dependent)) {
+                    queue.add(dependent);
+                }
+            }
+        }
+        return reached;
+    }
+
+    // ==================== Suite ====================
+
+    private static Set<String> suiteClasses(XmlSuite suite) {
+        Set<String> classes = new TreeSet<>();
+        for (XmlTest test : suite.getTests()) {
+            for (XmlClass xmlClass : test.getXmlClasses()) {
+                classes.add(xmlClass.getName());
+            }
+        }
+        return classes;
+    }
+
+    /**
+     * Classes from {@code impact.smoke} (comma-separated) that are in the suite.
+     */
+    private static Set<String> smokeSet(Set<String> suiteClasses) {
+        String value = ConfigReader.get("impact.smoke", null);
+        Set<String> smoke = new LinkedHashSet<>();
+        if (value != null) {
+            for (String name : value.split(",")) {
+                if (suiteClasses.contains(name.trim())) {
+                    smoke.add(name.trim());
+                }
+            }
+        }
+        return smoke;
+    }
+
+    /**
+     * The suite with only the selected classes; blocks left empty are dropped.
+     */
+    private static XmlSuite filterSuite(XmlSuite original, Set<String> selected) {
+        XmlSuite copy = original.shallowCopy();
+        copy.setTests(new ArrayList<>());
+        copy.setName(original.getName() + " [impacted]");
+        for (XmlTest test : original.getTests()) {
+            List<XmlClass> classes = new ArrayList<>();
+            for (XmlClass xmlClass : test.getXmlClasses()) {
+                if (selected.contains(xmlClass.getName())) {
+                    classes.add(xmlClass);
+                }
+            }
+            if (!classes.isEmpty()) {
+                ShardRunner.copyTest(copy, test).setXmlClasses(classes);
+            }
+        }
+        return copy;
+    }
+}
@@ -0,0 +1,147 @@
+package utils;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.ThreadContext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.stream.Stream;
+
+/**
+ * Logging for pages, helpers, tests and the framework, on Log4j2.
+ *
+ * Each line goes to the logger of the calling class through async appenders
+ * (see {@code log4j2.xml}): bounded queues drained by a background thread,
+ * so a test thread does not write to the console or a file itself. The
+ * appenders block rather than drop lines: only when a queue is full (8192
+ * lines) does a test thread wait for the writer. While a test runs,
+ * its thread carries the test, class, method and role in the thread context
+ * (MDC), which routes its lines into {@code <report.dir>/logs/<test>.log}
+ * and into a collapsible block in the test's report. Lines outside tests
+ * go to {@code suite.log}.
+ *
+ * Levels: {@code log.level} (default INFO) for files and the report;
+ * {@code log.consoleLevel} (default WARN) for what pages, helpers and tests
+ * print to the console; framework loggers print at {@code log.level}.
+ * {@code pages.LogBenchmark} (test sources) measures the cost per line.
+ */
+public final class Log {
+
+    // Start of the block endTest adds to the report; the sharded report links the log file instead
+    static final String REPORT_BLOCK = "<details><summary><b>Log</b>";
+    private static final int REPORT_LINES = Integer.parseInt(ConfigReader.get("log.reportLines", "300"));
+    private static final StackWalker WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+    private static final ClassValue<Logger> LOGGERS;
+    // Lines of the current test on this thread, for its report
+    private static final ThreadLocal<Deque<String>> CAPTURED = new ThreadLocal<>();
+
+    static {
+        // Test files are appended to (a retry adds to its test's file): start the run without old ones.
+        // suite.log may already be open (TestNG logs first) and rolls over by itself
+        String reportDir = System.getProperty("report.dir", "test-output");
+        clearLogs(Paths.get(System.getProperty("log.dir", reportDir + "/logs")));
+        // Load the configuration here, while other threads wait on this class: lines logged
+        // while log4j2.xml is still loading would go to the default ERROR-only configuration
+        LogManager.getContext(false);
+        LOGGERS = new ClassValue<>() {
+            @Override
+            protected Logger computeValue(Class<?> type) {
+                return LogManager.getLogger(type);
+            }
+        };
+    }
+
+    private Log() {
+    }
+
+    public static void debug(Object message) {
+        log(WALKER.getCallerClass(), Level.DEBUG, message, null);
+    }
+
+    public static void info(Object message) {
+        log(WALKER.getCallerClass(), Level.INFO, message, null);
+    }
+
+    public static void warn(Object message) {
+        log(WALKER.getCallerClass(), Level.WARN, message, null);
+    }
+
+    public static void error(Object message) {
+        log(WALKER.getCallerClass(), Level.ERROR, message, null);
+    }
+
+    public static void error(Object message, Throwable throwable) {
+        log(WALKER.getCallerClass(), Level.ERROR, message, throwable);
+    }
+
+    private static void log(Class<?> caller, Level level, Object message, Throwable throwable) {
+        Logger logger = LOGGERS.get(caller);
+        if (!logger.isEnabled(level)) {
+            return;
+        }
+        String text = String.valueOf(message);
+        logger.log(level, text, throwable);
+        Deque<String> captured = CAPTURED.get();
+        if (captured != null) {
+            if (captured.size() == REPORT_LINES) {
+                captured.removeFirst();
+            }
+            captured.addLast(level == Level.INFO ? text : level + " " + text);
+        }
+    }
+
+    // ==================== Test context ====================
+
+    /**
+     * Tag this thread's lines with the test that starts on it.
+     */
+    public static void startTest(String className, String methodName, String role) {
+        ThreadContext.put("test", className + "." + methodName);
+        ThreadContext.put("class", className);
+        ThreadContext.put("method", methodName);
+        ThreadContext.put("role", role);
+        CAPTURED.set(new ArrayDeque<>());
+    }
+
+    /**
+     * Attach the test's lines to its report and clear the context.
+     */
+    public static void endTest(ReportTest test) {
+        Deque<String> captured = CAPTURED.get();
+        CAPTURED.remove();
+        ThreadContext.clearMap();
+        if (test == null || captured == null || captured.isEmpty()) {
+            return;
+        }
+        StringBuilder html = new StringBuilder(REPORT_BLOCK + " (").append(captured.size())
+                .append(captured.size() == REPORT_LINES ? " most recent" : "").append(" lines)</summary><pre>");
+        for (String line : captured) {
+            html.append(line.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;")).append('\n');
+        }
+        test.info(html.append("</pre></details>").toString());
+    }
+
+    private static void clearLogs(Path dir) {
+        if (!Files.isDirectory(dir)) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path file : (Iterable<Path>) files.filter(Log::isTestLog)::iterator) {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException e) {
+            System.err.println("[Log] Could not clear " + dir + ": " + e.getMessage());
+        }
+    }
+
+    private static boolean isTestLog(Path file) {
+        String name = file.getFileName().toString();
+        return name.endsWith(".log") && !name.startsWith("suite.");
+    }
+}
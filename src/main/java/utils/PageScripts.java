@@ -0,0 +1,175 @@
+package utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.v133.page.Page;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Versioned helper library pinned into every page as {@code window.__rcs}.
+ *
+ * The bundle is registered once per driver with CDP
+ * {@code Page.addScriptToEvaluateOnNewDocument}, so every new document already
+ * has it, and is evaluated once in the current document. Java then sends only
+ * a short call stub per command. If the helpers are missing or have a
+ * different version (no CDP, or the page replaced {@code window}), the bundle
+ * is re-evaluated and the call retried.
+ *
+ * Bump {@link #VERSION} whenever {@link #BUNDLE} changes.
+ */
+public class PageScripts {
+
+    public static final String VERSION = "1";
+
+    private static final String BUNDLE = "(function() {" +
+            "  if (window.__rcs && window.__rcs.v === '" + VERSION + "') return;" +
+            "  function fire(el, type) { el.dispatchEvent(new Event(type, { bubbles: true })); }" +
+            "  window.__rcs = {" +
+            "    v: '" + VERSION + "'," +
+            "    click: function(el) { el.click(); }," +
+            "    scrollIntoView: function(el, block) {" +
+            "      if (block) el.scrollIntoView({ behavior: 'auto', block: block }); else el.scrollIntoView(true);" +
+            "    }," +
+            "    scrollToTop: function() { window.scrollTo(0, 0); }," +
+            "    readyState: function() { return document.readyState; }," +
+            "    setValue: function(el, value) { el.value = value; fire(el, 'input'); fire(el, 'change'); }," +
+            "    setHtml: function(el, html) { el.innerHTML = html; fire(el, 'input'); fire(el, 'change'); }" +
+            "  };" +
+            "})();";
+
+    private static final String MISSING = "__rcs_missing__";
+
+    private static final Map<WebDriver, Boolean> PINNED = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private static final AtomicLong COMMANDS = new AtomicLong();
+    private static final AtomicLong PAYLOAD_BYTES = new AtomicLong();
+    private static final AtomicLong LATENCY_NANOS = new AtomicLong();
+    private static final AtomicLong REINSTALLS = new AtomicLong();
+
+    // ==================== Helpers ====================
+
+    public static void click(WebDriver driver, WebElement element) {
+        call(driver, "click", element);
+    }
+
+    /**
+     * Scroll so the element sits at the given block position
+     * ("start", "center", "end", "nearest").
+     */
+    public static void scrollIntoView(WebDriver driver, WebElement element, String block) {
+        call(driver, "scrollIntoView", element, block);
+    }
+
+    /**
+     * Equivalent of {@code element.scrollIntoView(true)}.
+     */
+    public static void scrollIntoView(WebDriver driver, WebElement element) {
+        call(driver, "scrollIntoView", element, null);
+    }
+
+    public static void scrollToTop(WebDriver driver) {
+        call(driver, "scrollToTop");
+    }
+
+    public static String readyState(WebDriver driver) {
+        return String.valueOf(call(driver, "readyState"));
+    }
+
+    /**
+     * Set an input's value and fire input/change events.
+     */
+    public static void setValue(WebDriver driver, WebElement element, String value) {
+        call(driver, "setValue", element, value);
+    }
+
+    /**
+     * Set a rich-text editor's content and fire input/change events.
+     */
+    public static void setHtml(WebDriver driver, WebElement element, String html) {
+        call(driver, "setHtml", element, html);
+    }
+
+    // ==================== Invocation ====================
+
+    /**
+     * Call a named function of the pinned bundle, reinstalling it once if the
+     * current document does not have it.
+     */
+    public static Object call(WebDriver driver, String function, Object... args) {
+        pin(driver);
+        String stub = "var h = window.__rcs;" +
+                "return h && h.v === '" + VERSION + "' ? h." + function + ".apply(h, arguments) : '" + MISSING + "';";
+        Object result = execute(driver, stub, args);
+        if (MISSING.equals(result)) {
+            REINSTALLS.incrementAndGet();
+            execute(driver, BUNDLE);
+            result = execute(driver, stub, args);
+        }
+        return result;
+    }
+
+    private static Object execute(WebDriver driver, String script, Object... args) {
+        long start = System.nanoTime();
+        try {
+            return ((JavascriptExecutor) driver).executeScript(script, args);
+        } finally {
+            LATENCY_NANOS.addAndGet(System.nanoTime() - start);
+            PAYLOAD_BYTES.addAndGet(script.length());
+            COMMANDS.incrementAndGet();
+        }
+    }
+
+    /**
+     * Register the bundle for new documents (CDP) and evaluate it in the
+     * current one. Runs once per driver.
+     */
+    private static void pin(WebDriver driver) {
+        synchronized (PINNED) {
+            if (PINNED.containsKey(driver)) {
+                return;
+            }
+            PINNED.put(driver, Boolean.TRUE);
+        }
+        DevTools devTools = DevToolsHelper.getSession(driver);
+        if (devTools != null) {
+            try {
+                devTools.send(Page.addScriptToEvaluateOnNewDocument(BUNDLE, Optional.empty(), Optional.empty(),
+                        Optional.empty()));
+            } catch (Exception e) {
+                Log.info("[PageScripts] Could not pin helper bundle, will reinstall on demand: "
+                        + e.getMessage());
+            }
+        }
+        execute(driver, BUNDLE);
+    }
+
+    // ==================== Metrics ====================
+
+    public static long getCommandCount() {
+        return COMMANDS.get();
+    }
+
+    public static long getReinstallCount() {
+        return REINSTALLS.get();
+    }
+
+    /**
+     * Script bytes sent per command and average round-trip latency.
+     */
+    public static String describeStats() {
+        long commands = COMMANDS.get();
+        if (commands == 0) {
+            return "Page scripts: no commands sent";
+        }
+        return String.format("Page scripts (v%s): %d command(s), %.0f payload bytes/command, %.1f ms avg latency, "
+                + "%d reinstall(s)", VERSION, commands, (double) PAYLOAD_BYTES.get() / commands,
+                LATENCY_NANOS.get() / 1_000_000.0 / commands, REINSTALLS.get());
+    }
+}
@@ -0,0 +1,461 @@
+package utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazy, page-by-page view over any paginated list or grid.
+ *
+ * Rows are read one page at a time (one find plus one script per page) and the
+ * next page is only requested once the caller has consumed the current one, so
+ * stream operations such as {@code findFirst} or {@code anyMatch} stop paging as
+ * soon as the answer is known. Page changes are detected by comparing a
+ * fingerprint of the row texts (plus the paginator info text when configured)
+ * instead of sleeping after each click.
+ *
+ * Usage:
+ *
+ * <pre>
+ * PagedGrid grid = new PagedGrid(driver, ROWS, NEXT, PREVIOUS).withPageInfo(INFO);
+ * Optional&lt;PagedGrid.Row&gt; active = grid.findFirst(row -&gt; row.getText().contains("Active"));
+ * </pre>
+ */
+public class PagedGrid implements Iterable<PagedGrid.Row> {
+
+    private static final Duration PAGE_CHANGE_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(100);
+    private static final int MAX_PAGES = 500;
+
+    // Reads text and cell texts of all matched rows in one call
+    private static final String READ_ROWS_SCRIPT = "function norm(s) { return (s || '').replace(/\\s+/g, ' ').trim(); }" +
+            "return arguments[0].map(function(r) {" +
+            "  var cells = r.querySelectorAll('td, mat-cell, [role=cell], [role=gridcell]');" +
+            "  if (!cells.length) cells = r.children;" +
+            "  var texts = [];" +
+            "  for (var i = 0; i < cells.length; i++) texts.push(norm(cells[i].innerText || cells[i].textContent));" +
+            "  return { text: norm(r.innerText || r.textContent), cells: texts };" +
+            "});";
+
+    /**
+     * Text snapshot of one row; holds no element reference so it never goes
+     * stale when the grid moves to another page.
+     */
+    public static class Row {
+        private final int page;
+        private final int index;
+        private final String text;
+        private final List<String> cells;
+
+        public Row(int page, int index, String text, List<String> cells) {
+            this.page = page;
+            this.index = index;
+            this.text = text;
+            this.cells = cells;
+        }
+
+        /**
+         * 1-based page number, counted from where the traversal started
+         * (absolute when streaming from page one).
+         */
+        public int getPage() {
+            return page;
+        }
+
+        /**
+         * 0-based position of the row on its page.
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        public List<String> getCells() {
+            return cells;
+        }
+
+        public String getCell(int column) {
+            return column < cells.size() ? cells.get(column) : "";
+        }
+
+        @Override
+        public String toString() {
+            return "p" + page + "#" + index + " " + text;
+        }
+    }
+
+    private final WebDriver driver;
+    private final By rowLocator;
+    private final By nextLocator;
+    private final By previousLocator;
+    private By pageInfoLocator;
+    private By pageLinksLocator;
+    private By firstPageLocator;
+
+    private List<Row> currentRows;
+    private int currentPage = 1;
+    private int pagesVisited = 0;
+
+    public PagedGrid(WebDriver driver, By rowLocator, By nextLocator, By previousLocator) {
+        this.driver = driver;
+        this.rowLocator = rowLocator;
+        this.nextLocator = nextLocator;
+        this.previousLocator = previousLocator;
+    }
+
+    /**
+     * Paginator range text (e.g. "1 - 10 of 52"); included in the page
+     * fingerprint so pages with identical rows are still told apart.
+     */
+    public PagedGrid withPageInfo(By locator) {
+        this.pageInfoLocator = locator;
+        return this;
+    }
+
+    /**
+     * Numbered page links; used to jump straight to page one or page N.
+     */
+    public PagedGrid withPageLinks(By locator) {
+        this.pageLinksLocator = locator;
+        return this;
+    }
+
+    /**
+     * "First page" button, where the paginator has one.
+     */
+    public PagedGrid withFirstPageButton(By locator) {
+        this.firstPageLocator = locator;
+        return this;
+    }
+
+    // ==================== Rows ====================
+
+    /**
+     * Rows of the page currently displayed.
+     */
+    public List<Row> getCurrentRows() {
+        if (currentRows == null) {
+            currentRows = readRows();
+            pagesVisited++;
+        }
+        return currentRows;
+    }
+
+    /**
+     * Rows from page one onwards, fetched lazily.
+     */
+    public Stream<Row> stream() {
+        return stream(true);
+    }
+
+    /**
+     * Rows from the current page onwards, fetched lazily.
+     */
+    public Stream<Row> streamFromCurrentPage() {
+        return stream(false);
+    }
+
+    @Override
+    public Iterator<Row> iterator() {
+        return new RowIterator(true);
+    }
+
+    /**
+     * First row matching the predicate, searching from page one. The grid is
+     * left on the page holding the match so the caller can act on it.
+     */
+    public Optional<Row> findFirst(Predicate<Row> predicate) {
+        return stream().filter(predicate).findFirst();
+    }
+
+    /**
+     * First key that repeats across pages, stopping as soon as it is seen.
+     */
+    public Optional<String> findFirstDuplicate(Function<Row, String> key) {
+        Set<String> seen = new HashSet<>();
+        return stream().map(key).filter(value -> !value.isEmpty() && !seen.add(value)).findFirst();
+    }
+
+    /**
+     * Number of pages read so far (including re-reads after navigation).
+     */
+    public int getPagesVisited() {
+        return pagesVisited;
+    }
+
+    public int getCurrentPage() {
+        return currentPage;
+    }
+
+    // ==================== Navigation ====================
+
+    public boolean hasNext() {
+        return isEnabled(nextLocator);
+    }
+
+    public boolean hasPrevious() {
+        return isEnabled(previousLocator);
+    }
+
+    /**
+     * Move to the next page and wait until its rows differ from the current
+     * ones. Returns false on the last page or if the rows never changed.
+     */
+    public boolean next() {
+        return step(nextLocator, 1);
+    }
+
+    /**
+     * Move to the previous page and wait until its rows differ from the
+     * current ones. Returns false on the first page.
+     */
+    public boolean previous() {
+        return step(previousLocator, -1);
+    }
+
+    /**
+     * Go to page one, using a "first" button or page link when available and
+     * stepping back only as a last resort.
+     */
+    public boolean firstPage() {
+        if (!hasPrevious()) {
+            currentPage = 1;
+            return true;
+        }
+        if (firstPageLocator != null && clickAndAwaitChange(findEnabled(firstPageLocator), firstPageLocator, 1)) {
+            return true;
+        }
+        if (clickAndAwaitChange(findPageLink(1), pageLinksLocator, 1)) {
+            return true;
+        }
+        int steps = 0;
+        while (previous() && steps++ < MAX_PAGES) {
+            // Paginator offers no direct jump, step back one page at a time
+        }
+        currentPage = 1;
+        return !hasPrevious();
+    }
+
+    /**
+     * Go to page N (1-based), jumping directly through a page link when the
+     * paginator shows one.
+     */
+    public boolean goToPage(int page) {
+        if (page == currentPage) {
+            return true;
+        }
+        if (clickAndAwaitChange(findPageLink(page), pageLinksLocator, page)) {
+            return true;
+        }
+        if (page == 1) {
+            return firstPage();
+        }
+        while (currentPage < page) {
+            if (!next()) {
+                return false;
+            }
+        }
+        while (currentPage > page) {
+            if (!previous()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // ==================== Internals ====================
+
+    private Stream<Row> stream(boolean fromFirstPage) {
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(new RowIterator(fromFirstPage), Spliterator.ORDERED), false);
+    }
+
+    private boolean step(By locator, int direction) {
+        WebElement button = findEnabled(locator);
+        if (button == null) {
+            return false;
+        }
+        if (!clickAndAwaitChange(button, locator, currentPage + direction)) {
+            Log.info("Page did not change after clicking " + (direction > 0 ? "Next" : "Previous"));
+            return false;
+        }
+        return true;
+    }
+
+    private boolean clickAndAwaitChange(WebElement element, By locator, int targetPage) {
+        if (element == null) {
+            return false;
+        }
+        String before = fingerprint(getCurrentRows());
+        int startPage = currentPage;
+        currentPage = targetPage;
+        ClickEngine.click(driver, element, locator);
+
+        List<List<Row>> latest = new ArrayList<>(1);
+        try {
+            List<Row> changed = new TracedWait(driver, PAGE_CHANGE_TIMEOUT)
+                    .pollingEvery(POLL_INTERVAL)
+                    .ignoring(StaleElementReferenceException.class)
+                    .until(d -> {
+                        List<Row> rows = readRows();
+                        latest.clear();
+                        latest.add(rows);
+                        // An empty read is usually the grid re-rendering, keep polling
+                        return !rows.isEmpty() && !fingerprint(rows).equals(before) ? rows : null;
+                    });
+            setCurrentRows(changed);
+            return true;
+        } catch (TimeoutException e) {
+            // A genuinely empty page still counts as a change
+            if (!latest.isEmpty() && !fingerprint(latest.get(0)).equals(before)) {
+                setCurrentRows(latest.get(0));
+                return true;
+            }
+            currentPage = startPage;
+            currentRows = null;
+            return false;
+        }
+    }
+
+    private void setCurrentRows(List<Row> rows) {
+        currentRows = rows;
+        pagesVisited++;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Row> readRows() {
+        List<WebElement> elements = driver.findElements(rowLocator);
+        if (elements.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Object raw = ((JavascriptExecutor) driver).executeScript(READ_ROWS_SCRIPT, elements);
+        List<Row> rows = new ArrayList<>();
+        if (raw instanceof List) {
+            int index = 0;
+            for (Object item : (List<Object>) raw) {
+                Map<String, Object> row = (Map<String, Object>) item;
+                List<String> cells = new ArrayList<>();
+                for (Object cell : (List<Object>) row.get("cells")) {
+                    cells.add(String.valueOf(cell));
+                }
+                rows.add(new Row(currentPage, index++, String.valueOf(row.get("text")), cells));
+            }
+        }
+        return rows;
+    }
+
+    private String fingerprint(List<Row> rows) {
+        StringBuilder sb = new StringBuilder();
+        if (pageInfoLocator != null) {
+            for (WebElement info : driver.findElements(pageInfoLocator)) {
+                sb.append(info.getText()).append('\u0001');
+                break;
+            }
+        }
+        for (Row row : rows) {
+            sb.append(row.getText()).append('\u0002');
+        }
+        return rows.size() + ":" + Integer.toHexString(sb.toString().hashCode()) + ":" + sb.length();
+    }
+
+    private boolean isEnabled(By locator) {
+        return findEnabled(locator) != null;
+    }
+
+    private WebElement findEnabled(By locator) {
+        try {
+            for (WebElement element : driver.findElements(locator)) {
+                String cls = element.getDomAttribute("class");
+                boolean disabled = !element.isEnabled()
+                        || (cls != null && cls.contains("disabled"))
+                        || "true".equals(element.getDomAttribute("aria-disabled"));
+                if (element.isDisplayed() && !disabled) {
+                    return element;
+                }
+            }
+        } catch (StaleElementReferenceException e) {
+            // Paginator re-rendered while checking, treat as not available
+        }
+        return null;
+    }
+
+    private WebElement findPageLink(int page) {
+        if (pageLinksLocator == null) {
+            return null;
+        }
+        String label = String.valueOf(page);
+        for (WebElement link : driver.findElements(pageLinksLocator)) {
+            if (label.equals(link.getText().trim()) && link.isDisplayed()) {
+                return link;
+            }
+        }
+        return null;
+    }
+
+    private class RowIterator implements Iterator<Row> {
+        private final boolean fromFirstPage;
+        private boolean started;
+        private boolean exhausted;
+        private List<Row> page = Collections.emptyList();
+        private int position;
+
+        RowIterator(boolean fromFirstPage) {
+            this.fromFirstPage = fromFirstPage;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (exhausted) {
+                return false;
+            }
+            if (!started) {
+                started = true;
+                if (fromFirstPage) {
+                    firstPage();
+                }
+                page = getCurrentRows();
+            }
+            int pages = 0;
+            while (position >= page.size()) {
+                if (pages++ >= MAX_PAGES || !PagedGrid.this.next()) {
+                    exhausted = true;
+                    return false;
+                }
+                page = getCurrentRows();
+                position = 0;
+            }
+            return true;
+        }
+
+        @Override
+        public Row next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return page.get(position++);
+        }
+    }
+}
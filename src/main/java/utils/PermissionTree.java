@@ -0,0 +1,248 @@
+package utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Snapshot of the permission accordions on the Add New / Edit Role form.
+ *
+ * The whole tree (section -> options -> checked state) is read with one async
+ * script: it expands the accordions one after another, reads each body once
+ * it has rendered and returns everything in a single round-trip.
+ * Completeness and duplicate checks then run in Java against the snapshot
+ * instead of issuing a find per accordion and per option.
+ */
+public class PermissionTree {
+
+    private static final long EXPAND_TIMEOUT_MS = 5000;
+
+    // Expands the accordions one at a time and reads each body once it has settled: a single-open
+    // accordion (data-bs-parent) closes the previous item, so they are never all open together.
+    // Returns {complete, sections:[{section, options:[{label, checked}]}]}
+    private static final String READ_TREE_SCRIPT = "var done = arguments[arguments.length - 1];" +
+            "var deadline = Date.now() + arguments[0];" +
+            "function norm(s) { return (s || '').replace(/\\s+/g, ' ').trim(); }" +
+            "function firstLine(el) {" +
+            "  var lines = (el.innerText || el.textContent || '').split('\\n');" +
+            "  for (var i = 0; i < lines.length; i++) { var t = norm(lines[i]); if (t) return t; }" +
+            "  return '';" +
+            "}" +
+            "var buttons = [];" +
+            "document.querySelectorAll('.accordion-button, .accordion-header button').forEach(function(b) {" +
+            "  if (buttons.indexOf(b) < 0) buttons.push(b);" +
+            "});" +
+            "function bodyOf(b) {" +
+            "  var id = b.getAttribute('aria-controls');" +
+            "  var el = id ? document.getElementById(id) : null;" +
+            "  if (el) return el;" +
+            "  var item = b.closest('.accordion-item');" +
+            "  return item ? item.querySelector('.accordion-collapse, .accordion-body') : null;" +
+            "}" +
+            "function settled(b) {" +
+            "  if (document.querySelector('.accordion .collapsing')) return false;" +
+            "  return b.getAttribute('aria-expanded') === 'true' && !!bodyOf(b);" +
+            "}" +
+            "function labelOf(input, body) {" +
+            "  if (input.labels && input.labels.length) { var t = firstLine(input.labels[0]); if (t) return t; }" +
+            "  var node = input.parentElement;" +
+            "  while (node && node !== body) {" +
+            "    if (node.querySelectorAll('input[type=checkbox]').length > 1) break;" +
+            "    var text = firstLine(node); if (text) return text;" +
+            "    node = node.parentElement;" +
+            "  }" +
+            "  return '';" +
+            "}" +
+            "function read(b) {" +
+            "  var body = bodyOf(b); var options = [];" +
+            "  if (body) body.querySelectorAll('input[type=checkbox]').forEach(function(i) {" +
+            "    options.push({ label: labelOf(i, body), checked: !!i.checked });" +
+            "  });" +
+            "  return { section: norm(b.innerText || b.textContent), options: options };" +
+            "}" +
+            "var sections = []; var complete = true;" +
+            "(function next(index) {" +
+            "  if (index === buttons.length) { done({ complete: complete, sections: sections }); return; }" +
+            "  var b = buttons[index];" +
+            "  if (b.getAttribute('aria-expanded') !== 'true') b.click();" +
+            "  (function poll() {" +
+            "    if (settled(b)) { sections.push(read(b)); next(index + 1); }" +
+            "    else if (Date.now() > deadline) { complete = false; sections.push(read(b)); next(index + 1); }" +
+            "    else setTimeout(poll, 50);" +
+            "  })();" +
+            "})(0);";
+
+    /**
+     * A single checkbox inside a permission section.
+     */
+    public static class Option {
+        private final String label;
+        private final boolean checked;
+
+        public Option(String label, boolean checked) {
+            this.label = label;
+            this.checked = checked;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        public boolean isChecked() {
+            return checked;
+        }
+
+        @Override
+        public String toString() {
+            return label + (checked ? " [x]" : " [ ]");
+        }
+    }
+
+    private final Map<String, List<Option>> sections;
+    private final boolean complete;
+
+    public PermissionTree(Map<String, List<Option>> sections, boolean complete) {
+        this.sections = sections;
+        this.complete = complete;
+    }
+
+    /**
+     * Expands every accordion on the current form and reads the full
+     * permission tree in one script call.
+     */
+    @SuppressWarnings("unchecked")
+    public static PermissionTree read(WebDriver driver) {
+        Object raw = ((JavascriptExecutor) driver).executeAsyncScript(READ_TREE_SCRIPT, EXPAND_TIMEOUT_MS);
+        Map<String, Object> result = raw instanceof Map ? (Map<String, Object>) raw : Collections.emptyMap();
+
+        Map<String, List<Option>> sections = new LinkedHashMap<>();
+        Object rawSections = result.get("sections");
+        if (rawSections instanceof List) {
+            for (Object rawSection : (List<Object>) rawSections) {
+                Map<String, Object> section = (Map<String, Object>) rawSection;
+                String name = String.valueOf(section.get("section"));
+                List<Option> options = sections.computeIfAbsent(name, k -> new ArrayList<>());
+                for (Object rawOption : (List<Object>) section.get("options")) {
+                    Map<String, Object> option = (Map<String, Object>) rawOption;
+                    options.add(new Option(String.valueOf(option.get("label")),
+                            Boolean.TRUE.equals(option.get("checked"))));
+                }
+            }
+        }
+
+        PermissionTree tree = new PermissionTree(sections, Boolean.TRUE.equals(result.get("complete")));
+        Log.info("Read permission tree: " + sections.size() + " section(s), "
+                + tree.getTotalOptionCount() + " option(s)" + (tree.isComplete() ? "" : " (expand timed out)"));
+        return tree;
+    }
+
+    /**
+     * False when an expand animation did not settle before the timeout; the
+     * sections from there on hold whatever had rendered.
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    public List<String> getSectionNames() {
+        return new ArrayList<>(sections.keySet());
+    }
+
+    /**
+     * Returns the first section whose header contains the given text
+     * (case-insensitive), or null if there is none.
+     */
+    public String findSection(String namePart) {
+        String needle = namePart.toLowerCase();
+        for (String section : sections.keySet()) {
+            if (section.toLowerCase().contains(needle)) {
+                return section;
+            }
+        }
+        return null;
+    }
+
+    public boolean hasSection(String namePart) {
+        return findSection(namePart) != null;
+    }
+
+    /**
+     * Options of the section matching the given text, empty if not found.
+     */
+    public List<Option> getOptions(String namePart) {
+        String section = findSection(namePart);
+        return section == null ? Collections.emptyList() : sections.get(section);
+    }
+
+    public List<String> getOptionLabels(String namePart) {
+        List<String> labels = new ArrayList<>();
+        for (Option option : getOptions(namePart)) {
+            if (!option.getLabel().isEmpty()) {
+                labels.add(option.getLabel());
+            }
+        }
+        return labels;
+    }
+
+    public int getTotalOptionCount() {
+        int count = 0;
+        for (List<Option> options : sections.values()) {
+            count += options.size();
+        }
+        return count;
+    }
+
+    /**
+     * Expected section names that have no matching accordion header.
+     */
+    public List<String> findMissingSections(String... expected) {
+        List<String> missing = new ArrayList<>();
+        for (String name : expected) {
+            if (!hasSection(name)) {
+                missing.add(name);
+            }
+        }
+        return missing;
+    }
+
+    /**
+     * Expected option labels not present in the given section.
+     */
+    public List<String> findMissingOptions(String namePart, String... expected) {
+        List<String> labels = getOptionLabels(namePart);
+        List<String> missing = new ArrayList<>();
+        for (String option : expected) {
+            if (!labels.contains(option)) {
+                missing.add(option);
+            }
+        }
+        return missing;
+    }
+
+    /**
+     * Option labels that appear more than once in the given section
+     * (compared case-insensitively).
+     */
+    public List<String> findDuplicateOptions(String namePart) {
+        Set<String> seen = new HashSet<>();
+        List<String> duplicates = new ArrayList<>();
+        for (String label : getOptionLabels(namePart)) {
+            if (!seen.add(label.toLowerCase())) {
+                duplicates.add(label);
+            }
+        }
+        return duplicates;
+    }
+
+    @Override
+    public String toString() {
+        return sections.toString();
+    }
+}
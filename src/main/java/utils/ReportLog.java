@@ -0,0 +1,155 @@
+package utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Append-only event log behind the report.
+ *
+ * Each thread appends one JSON object per line to its own file in
+ * {@code <report.dir>/events/}, flushed after every event, so a crashed or
+ * killed run still leaves everything logged up to that point. Screenshots are
+ * stored in {@code <report.dir>/media/} by {@link ScreenshotPipeline} and only
+ * their path is logged.
+ * Nothing about a test stays on the heap after its event is written;
+ * {@link ReportRenderer} builds the Spark HTML from the files.
+ *
+ * Events: {@code test} (name, description), {@code log} (status, details,
+ * trace, media), {@code category} and {@code end}, each with the test id,
+ * a timestamp and a sequence number.
+ */
+public class ReportLog {
+
+    static final String EVENTS_DIR = "events";
+    static final String MEDIA_DIR = "media";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    // Unique across shard JVMs writing into one merged report
+    private static final String RUN = ManagementFactory.getRuntimeMXBean().getName().split("@")[0];
+    private static final AtomicLong IDS = new AtomicLong();
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+    private static final ThreadLocal<Writer> WRITER = new ThreadLocal<>();
+
+    private static Path reportDir;
+
+    /**
+     * Prepare the log directory, removing events and media of an earlier run.
+     * Runs once per JVM; later calls do nothing.
+     */
+    public static synchronized void open() {
+        if (reportDir != null) {
+            return;
+        }
+        Path dir = Paths.get(ExtentReportManager.REPORT_DIR);
+        try {
+            for (String sub : new String[] { EVENTS_DIR, MEDIA_DIR }) {
+                Path path = dir.resolve(sub);
+                if (Files.isDirectory(path)) {
+                    try (Stream<Path> files = Files.list(path)) {
+                        for (Path file : (Iterable<Path>) files::iterator) {
+                            Files.deleteIfExists(file);
+                        }
+                    }
+                }
+                Files.createDirectories(path);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Could not prepare the report event log in " + dir, e);
+        }
+        reportDir = dir;
+    }
+
+    public static Path reportDir() {
+        open();
+        return reportDir;
+    }
+
+    // ==================== Writing ====================
+
+    public static ReportTest startTest(String name, String description, String testClass) {
+        String id = RUN + "-" + IDS.incrementAndGet();
+        Map<String, Object> event = new LinkedHashMap<>();
+        event.put("e", "test");
+        event.put("id", id);
+        event.put("name", name);
+        if (description != null) {
+            event.put("desc", description);
+        }
+        if (testClass != null) {
+            event.put("class", testClass);
+        }
+        append(event);
+        return new ReportTest(id);
+    }
+
+    public static void endTest(ReportTest test) {
+        Map<String, Object> event = new LinkedHashMap<>();
+        event.put("e", "end");
+        event.put("id", test.getId());
+        append(event);
+        closeWriter();
+    }
+
+    static void append(Map<String, Object> event) {
+        stamp(event);
+        try {
+            Writer writer = writer();
+            writer.write(MAPPER.writeValueAsString(event));
+            writer.write('\n');
+            writer.flush();
+        } catch (IOException e) {
+            Log.error("[ReportLog] Could not write report event: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Give an event its time and place in the log now, for an event that is
+     * appended later (a screenshot being encoded).
+     */
+    static void stamp(Map<String, Object> event) {
+        event.putIfAbsent("ts", System.currentTimeMillis());
+        event.putIfAbsent("seq", SEQUENCE.incrementAndGet());
+    }
+
+    private static Writer writer() throws IOException {
+        Writer writer = WRITER.get();
+        if (writer == null) {
+            Thread thread = Thread.currentThread();
+            String fileName = "events-" + thread.getName().replaceAll("[^A-Za-z0-9_.-]", "_") + "-"
+                    + thread.getId() + "-" + RUN + ".jsonl";
+            // Open until the thread's test ends (closeWriter); every event is flushed as it is written
+            writer = Files.newBufferedWriter(reportDir().resolve(EVENTS_DIR).resolve(fileName),
+                    StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            WRITER.set(writer);
+        }
+        return writer;
+    }
+
+    /**
+     * Close the current thread's event file; the next event opens it again.
+     */
+    static void closeWriter() {
+        Writer writer = WRITER.get();
+        if (writer == null) {
+            return;
+        }
+        WRITER.remove();
+        try {
+            writer.close();
+        } catch (IOException e) {
+            Log.error("[ReportLog] Could not close the report event log: " + e.getMessage());
+        }
+    }
+}
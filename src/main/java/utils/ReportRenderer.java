@@ -0,0 +1,236 @@
+package utils;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.MediaEntityBuilder;
+import com.aventstack.extentreports.Status;
+import com.aventstack.extentreports.model.Media;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Builds the Spark HTML report from the event logs written by
+ * {@link ReportLog}.
+ *
+ * Called at the end of a run, for the merged report of a sharded run, or on
+ * demand, e.g. to get a report out of a run that crashed:
+ * <pre>
+ * java -cp ... utils.ReportRenderer [output.html] [reportDir...]
+ * </pre>
+ * Defaults to {@code test-output/ExtentReport.html} from {@code test-output}.
+ * Tests without an end event are marked as interrupted. Screenshots are
+ * linked from the media folders rather than embedded.
+ */
+public class ReportRenderer {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final TypeReference<Map<String, Object>> EVENT = new TypeReference<>() {
+    };
+
+    public static void main(String[] args) throws IOException {
+        String output = args.length > 0 ? args[0] : "test-output/ExtentReport.html";
+        List<Path> dirs = new ArrayList<>();
+        for (int i = 1; i < args.length; i++) {
+            dirs.add(Paths.get(args[i]));
+        }
+        if (dirs.isEmpty()) {
+            dirs.add(Paths.get("test-output"));
+        }
+        render(dirs, output);
+    }
+
+    /**
+     * Render every test logged under the given report directories into one
+     * Spark report.
+     */
+    public static void render(List<Path> reportDirs, String outputPath) throws IOException {
+        long start = System.currentTimeMillis();
+        List<RecordedTest> ordered = load(reportDirs, Paths.get(outputPath).toAbsolutePath().getParent());
+        int events = ordered.stream().mapToInt(t -> t.events.size()).sum();
+        ExtentReports report = new ExtentReports();
+        report.attachReporter(ExtentReportManager.createSparkReporter(outputPath));
+        ExtentReportManager.setSystemInfo(report);
+        for (RecordedTest recorded : ordered) {
+            recorded.replay(report);
+        }
+        report.flush();
+        Log.info("[ReportRenderer] " + ordered.size() + " test(s), " + events + " event(s) -> "
+                + outputPath + " in " + (System.currentTimeMillis() - start) + " ms");
+    }
+
+    /**
+     * Tests logged under the given report directories in start order, with
+     * media paths relative to the output directory.
+     */
+    static List<RecordedTest> load(List<Path> reportDirs, Path outputDir) throws IOException {
+        Map<String, RecordedTest> tests = new LinkedHashMap<>();
+        for (Path reportDir : reportDirs) {
+            read(reportDir, outputDir, tests);
+        }
+        List<RecordedTest> ordered = new ArrayList<>(tests.values());
+        ordered.sort(Comparator.comparingLong((RecordedTest t) -> t.start).thenComparingLong(t -> t.seq));
+        return ordered;
+    }
+
+    /**
+     * Read the event files of one report directory.
+     */
+    private static void read(Path reportDir, Path outputDir, Map<String, RecordedTest> tests) throws IOException {
+        Path eventsDir = reportDir.resolve(ReportLog.EVENTS_DIR);
+        if (!Files.isDirectory(eventsDir)) {
+            Log.warn("No report events in " + reportDir);
+            return;
+        }
+        // Media paths are logged relative to their report directory
+        String mediaPrefix = outputDir.relativize(reportDir.toAbsolutePath()).toString().replace('\\', '/');
+        mediaPrefix = mediaPrefix.isEmpty() ? "" : mediaPrefix + "/";
+
+        List<Map<String, Object>> all = new ArrayList<>();
+        try (Stream<Path> files = Files.list(eventsDir)) {
+            for (Path file : (Iterable<Path>) files.filter(f -> f.toString().endsWith(".jsonl")).sorted()::iterator) {
+                try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        if (line.isBlank()) {
+                            continue;
+                        }
+                        try {
+                            all.add(MAPPER.readValue(line, EVENT));
+                        } catch (IOException e) {
+                            // A line cut short by a crash
+                            Log.warn("Skipping unreadable report event in " + file.getFileName());
+                        }
+                    }
+                }
+            }
+        }
+        // Logs for one test can come from more than one thread
+        all.sort(Comparator.comparingLong(e -> number(e.get("seq"))));
+        for (Map<String, Object> event : all) {
+            String id = (String) event.get("id");
+            if ("test".equals(event.get("e"))) {
+                tests.put(id, new RecordedTest(event, reportDir, mediaPrefix));
+                continue;
+            }
+            RecordedTest test = tests.get(id);
+            if (test == null) {
+                continue;
+            }
+            if (event.get("media") != null) {
+                event.put("media", mediaPrefix + event.get("media"));
+            }
+            test.add(event);
+        }
+    }
+
+    static long number(Object value) {
+        return value == null ? 0 : ((Number) value).longValue();
+    }
+
+    // ==================== Replay ====================
+
+    static class RecordedTest {
+        final String name;
+        final String description;
+        final String testClass;
+        final long start;
+        final long seq;
+        // Report directory it was logged in, and that directory relative to the output
+        final Path reportDir;
+        final String pathPrefix;
+        final List<Map<String, Object>> events = new ArrayList<>();
+        long end;
+        boolean ended;
+
+        RecordedTest(Map<String, Object> event, Path reportDir, String pathPrefix) {
+            name = (String) event.get("name");
+            description = (String) event.get("desc");
+            testClass = (String) event.get("class");
+            this.reportDir = reportDir;
+            this.pathPrefix = pathPrefix;
+            start = number(event.get("ts"));
+            seq = number(event.get("seq"));
+            end = start;
+        }
+
+        void add(Map<String, Object> event) {
+            end = Math.max(end, number(event.get("ts")));
+            if ("end".equals(event.get("e"))) {
+                ended = true;
+            } else {
+                events.add(event);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        void replay(ExtentReports report) {
+            ExtentTest test = description == null ? report.createTest(name) : report.createTest(name, description);
+            for (Map<String, Object> event : events) {
+                if ("category".equals(event.get("e"))) {
+                    test.assignCategory(((List<String>) event.get("names")).toArray(new String[0]));
+                    continue;
+                }
+                Status status = Status.valueOf((String) event.get("status"));
+                String trace = (String) event.get("trace");
+                Media media = event.get("media") == null ? null
+                        : MediaEntityBuilder.createScreenCaptureFromPath((String) event.get("media"),
+                                (String) event.get("title")).build();
+                test.log(status, (String) event.get("details"), trace == null ? null : new RecordedThrowable(trace),
+                        media);
+                var logs = test.getModel().getLogs();
+                logs.get(logs.size() - 1).setTimestamp(new Date(number(event.get("ts"))));
+            }
+            if (!ended) {
+                test.warning("Test did not finish: the run stopped before it completed");
+            }
+            test.getModel().setStartTime(new Date(start));
+            test.getModel().setEndTime(new Date(end));
+        }
+    }
+
+    /**
+     * Stands in for a logged exception: Extent takes the headline and stack
+     * trace from printStackTrace, which replays the recorded text.
+     */
+    private static class RecordedThrowable extends Throwable {
+        private static final long serialVersionUID = 1L;
+
+        private final String trace;
+
+        RecordedThrowable(String trace) {
+            super(trace.lines().findFirst().orElse(""), null, false, false);
+            this.trace = trace;
+        }
+
+        @Override
+        public void printStackTrace(PrintWriter writer) {
+            writer.print(trace);
+        }
+
+        @Override
+        public void printStackTrace(PrintStream stream) {
+            stream.print(trace);
+        }
+
+        @Override
+        public String toString() {
+            return getMessage();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package utils;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * One test in the report. Every call is appended to the event log right
+ * away (see {@link ReportLog}); nothing is kept in memory.
+ *
+ * Mirrors the parts of Extent's {@code ExtentTest} the framework uses, so
+ * logging code reads the same as before.
+ */
+public class ReportTest {
+
+    private final String id;
+
+    ReportTest(String id) {
+        this.id = id;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public ReportTest info(String details) {
+        return log("INFO", details, null);
+    }
+
+    public ReportTest pass(String details) {
+        return log("PASS", details, null);
+    }
+
+    public ReportTest warning(String details) {
+        return log("WARNING", details, null);
+    }
+
+    public ReportTest fail(String details) {
+        return log("FAIL", details, null);
+    }
+
+    public ReportTest fail(Throwable throwable) {
+        return log("FAIL", null, throwable);
+    }
+
+    public ReportTest skip(String details) {
+        return log("SKIP", details, null);
+    }
+
+    public ReportTest skip(Throwable throwable) {
+        return log("SKIP", null, throwable);
+    }
+
+    /**
+     * Attach a PNG capture. It is encoded and stored in the background (see
+     * {@link ScreenshotPipeline}); the report shows it at this point.
+     */
+    public ReportTest addScreenCapture(byte[] png, String title) {
+        Map<String, Object> event = event("log");
+        event.put("status", "INFO");
+        event.put("title", title);
+        ReportLog.stamp(event);
+        ScreenshotPipeline.get().submit(png, event);
+        return this;
+    }
+
+    /**
+     * Attach media produced in the background, e.g. a screencast GIF.
+     */
+    public ReportTest addAnimation(Callable<byte[]> producer, String extension, String title) {
+        Map<String, Object> event = event("log");
+        event.put("status", "INFO");
+        event.put("title", title);
+        ReportLog.stamp(event);
+        ScreenshotPipeline.get().submit(producer, extension, event);
+        return this;
+    }
+
+    public ReportTest addScreenCaptureFromBase64String(String base64, String title) {
+        return addScreenCapture(Base64.getDecoder().decode(base64), title);
+    }
+
+    public ReportTest assignCategory(String... categories) {
+        Map<String, Object> event = event("category");
+        event.put("names", List.of(categories));
+        ReportLog.append(event);
+        return this;
+    }
+
+    private ReportTest log(String status, String details, Throwable throwable) {
+        Map<String, Object> event = event("log");
+        event.put("status", status);
+        if (details != null) {
+            event.put("details", details);
+        }
+        if (throwable != null) {
+            StringWriter trace = new StringWriter();
+            throwable.printStackTrace(new PrintWriter(trace));
+            event.put("trace", trace.toString());
+        }
+        ReportLog.append(event);
+        return this;
+    }
+
+    private Map<String, Object> event(String type) {
+        Map<String, Object> event = new LinkedHashMap<>();
+        event.put("e", type);
+        event.put("id", id);
+        return event;
+    }
+}
@@ -0,0 +1,127 @@
+package utils;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * Point-in-time view of host pressure: CPU, load average, free memory and the
+ * resident memory of the Chrome/chromedriver processes started by this JVM.
+ *
+ * CPU and memory come from the JDK's OperatingSystemMXBean. Chrome memory is
+ * read from {@code /proc/<pid>/status} for every descendant process whose
+ * command mentions chrome, so it is only available on Linux; elsewhere it is
+ * reported as -1 and ignored by the controller.
+ */
+public class ResourceMonitor {
+
+    /** One sample; negative values mean "not available on this OS". */
+    public static class Sample {
+        public final double cpuLoad;
+        public final double loadAverage;
+        public final int cores;
+        public final long freeMemoryBytes;
+        public final long chromeRssBytes;
+        public final int chromeProcesses;
+
+        Sample(double cpuLoad, double loadAverage, int cores, long freeMemoryBytes, long chromeRssBytes,
+                int chromeProcesses) {
+            this.cpuLoad = cpuLoad;
+            this.loadAverage = loadAverage;
+            this.cores = cores;
+            this.freeMemoryBytes = freeMemoryBytes;
+            this.chromeRssBytes = chromeRssBytes;
+            this.chromeProcesses = chromeProcesses;
+        }
+
+        /** Load average per core, or -1 when the OS does not report it. */
+        public double loadPerCore() {
+            return loadAverage < 0 ? -1 : loadAverage / cores;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("cpu %s, load %s, free %d MB, chrome %s",
+                    cpuLoad < 0 ? "n/a" : Math.round(cpuLoad * 100) + "%",
+                    loadAverage < 0 ? "n/a" : String.format("%.1f/%d cores", loadAverage, cores),
+                    freeMemoryBytes / (1024 * 1024),
+                    chromeRssBytes < 0 ? "n/a"
+                            : chromeRssBytes / (1024 * 1024) + " MB in " + chromeProcesses + " process(es)");
+        }
+    }
+
+    public static Sample sample() {
+        java.lang.management.OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        double cpuLoad = -1;
+        long freeMemory = Runtime.getRuntime().maxMemory();
+        if (os instanceof com.sun.management.OperatingSystemMXBean) {
+            com.sun.management.OperatingSystemMXBean sunOs = (com.sun.management.OperatingSystemMXBean) os;
+            cpuLoad = sunOs.getCpuLoad();
+            freeMemory = sunOs.getFreeMemorySize();
+        }
+        // MemAvailable counts reclaimable page cache, which "free" does not
+        long available = readMemAvailable();
+        if (available > 0) {
+            freeMemory = available;
+        }
+
+        long[] chrome = chromeRss();
+        return new Sample(cpuLoad, os.getSystemLoadAverage(), os.getAvailableProcessors(), freeMemory, chrome[0],
+                (int) chrome[1]);
+    }
+
+    /**
+     * Total resident memory of this JVM's Chrome/chromedriver processes and
+     * their count, or {-1, 0} where /proc is not available.
+     */
+    public static long[] chromeRss() {
+        if (!Files.isDirectory(Paths.get("/proc"))) {
+            return new long[] { -1, 0 };
+        }
+        long rss = 0;
+        int processes = 0;
+        for (ProcessHandle process : (Iterable<ProcessHandle>) ProcessHandle.current().descendants()::iterator) {
+            String command = process.info().command().orElse("");
+            if (!command.toLowerCase().contains("chrom")) {
+                continue;
+            }
+            long processRss = readRss(process.pid());
+            if (processRss > 0) {
+                rss += processRss;
+                processes++;
+            }
+        }
+        return new long[] { rss, processes };
+    }
+
+    private static long readMemAvailable() {
+        return readKbField(Paths.get("/proc/meminfo"), "MemAvailable:");
+    }
+
+    private static long readRss(long pid) {
+        return readKbField(Paths.get("/proc", String.valueOf(pid), "status"), "VmRSS:");
+    }
+
+    /**
+     * Value of a "Name:   1234 kB" line in bytes, or -1.
+     */
+    private static long readKbField(Path file, String field) {
+        if (!Files.isReadable(file)) {
+            return -1;
+        }
+        try {
+            List<String> lines = Files.readAllLines(file);
+            for (String line : lines) {
+                if (line.startsWith(field)) {
+                    return Long.parseLong(line.substring(field.length()).replace("kB", "").trim()) * 1024;
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // Process exited or unexpected format
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,356 @@
+package utils;
+
+import org.testng.ITestResult;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Remembers which tests passed against which application build and test
+ * code, so an identical rerun can skip them as "cached pass".
+ *
+ * The fingerprint of a test class combines:
+ * <ul>
+ * <li>the application build: {@code cache.buildVersion} if set, otherwise the
+ * script and stylesheet bundles referenced by the page at
+ * {@code cache.buildUrl} (default {@code url}), whose names carry the
+ * bundler's content hash, together with the parameters of the suite being
+ * run;</li>
+ * <li>the bytecode of the test class and of every test, helper, page, locator,
+ * enum, base and utils class it reaches, except the reporting and scheduling
+ * classes, and the files under {@code src/test/resources} (configuration,
+ * feature files) except the logging and report setup.</li>
+ * </ul>
+ * Passes are kept in {@code test-history/result-cache.properties} with the
+ * time they were recorded and expire after {@code cache.maxAgeHours}. A
+ * failure or skip drops the entry. {@code cache.refresh=true} runs everything
+ * and records the results anew.
+ *
+ * When the build cannot be fingerprinted nothing is skipped. Enable with
+ * {@code cache.enabled=true}.
+ */
+public class ResultCache {
+
+    private static final String HISTORY_FILE = "result-cache.properties";
+    private static final Pattern BUNDLE = Pattern.compile("(?:src|href)=[\"']([^\"']+\\.(?:js|css)[^\"']*)[\"']");
+    // Packages whose code decides what a test does
+    private static final String[] FINGERPRINTED_PACKAGES = {
+            "tests.", "helpers.", "pages.", "locators.", "enums.", "utils.", "base."
+    };
+    // Reporting, scheduling and run tooling in those packages: changing them keeps the cache
+    private static final Set<String> UNFINGERPRINTED_CLASSES = Set.of(
+            "base.CommandTracer", "utils.ArtifactBundler", "utils.ClassFileReader", "utils.CommandStats",
+            "utils.ConcurrencyController", "utils.DurationHistory", "utils.ExtentReportManager",
+            "utils.FlightEvents", "utils.FlightSummary", "utils.ImpactAnalyzer", "utils.LatencyHistogram",
+            "utils.Log", "utils.ReportLog", "utils.ReportRenderer", "utils.ReportTest", "utils.ResourceMonitor",
+            "utils.ResultCache", "utils.RunHistory", "utils.ScreencastRecorder", "utils.ScreenshotPipeline",
+            "utils.ScreenshotUtil", "utils.ShardRunner", "utils.ShardedReport", "utils.SmokeSelector",
+            "utils.StepTimeline");
+    private static final Path TEST_RESOURCES = Paths.get("src", "test", "resources");
+    // Logging, report and recording setup: changing them keeps the cache
+    private static final Set<String> UNFINGERPRINTED_RESOURCES = Set.of(
+            "log4j2.xml", "extent-config.xml", "rcs-tests.jfc");
+
+    private static ResultCache instance;
+
+    private final Properties entries;
+    private final long maxAgeMillis;
+    private final boolean refresh;
+    private final String build;
+    private final String resources;
+    private volatile String suite = "";
+    private final Map<String, String> fingerprints = new ConcurrentHashMap<>();
+    private final Map<String, String> passed = new ConcurrentHashMap<>();
+    private final Set<String> dropped = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger hits = new AtomicInteger();
+
+    private ResultCache() {
+        entries = RunHistory.load(HISTORY_FILE);
+        maxAgeMillis = (long) (Double.parseDouble(ConfigReader.get("cache.maxAgeHours", "24")) * 3_600_000);
+        refresh = Boolean.parseBoolean(ConfigReader.get("cache.refresh", "false"));
+        build = buildFingerprint();
+        resources = resourceFingerprint();
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(ConfigReader.get("cache.enabled", "false"));
+    }
+
+    public static synchronized ResultCache get() {
+        if (instance == null) {
+            instance = new ResultCache();
+        }
+        return instance;
+    }
+
+    // ==================== Lookup ====================
+
+    /**
+     * True when this method passed with the same build and test code within
+     * the max age.
+     */
+    public boolean isCachedPass(String className, String methodName) {
+        if (refresh || build == null) {
+            return false;
+        }
+        String entry = entries.getProperty(className + "#" + methodName);
+        if (entry == null) {
+            return false;
+        }
+        int separator = entry.lastIndexOf('|');
+        try {
+            long age = System.currentTimeMillis() - Long.parseLong(entry.substring(separator + 1));
+            return age <= maxAgeMillis && entry.substring(0, separator).equals(fingerprint(className));
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Count a method that was left out of the run because of a cached pass.
+     */
+    public void skipped() {
+        hits.incrementAndGet();
+    }
+
+    /**
+     * Age of a cached pass in minutes, for the report.
+     */
+    public long ageMinutes(String className, String methodName) {
+        String entry = entries.getProperty(className + "#" + methodName, "|0");
+        return (System.currentTimeMillis() - Long.parseLong(entry.substring(entry.lastIndexOf('|') + 1))) / 60_000;
+    }
+
+    // ==================== Recording ====================
+
+    public void record(ITestResult result) {
+        String className = result.getTestClass().getName();
+        String key = className + "#" + result.getMethod().getMethodName();
+        if (result.getStatus() == ITestResult.SUCCESS && build != null) {
+            passed.put(key, fingerprint(className) + "|" + System.currentTimeMillis());
+            dropped.remove(key);
+        } else {
+            passed.remove(key);
+            dropped.add(key);
+        }
+    }
+
+    /**
+     * Merge this run's passes and failures into the history and drop expired
+     * entries.
+     */
+    public void save() {
+        if (passed.isEmpty() && dropped.isEmpty()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        RunHistory.update(HISTORY_FILE, history -> {
+            history.putAll(passed);
+            dropped.forEach(history::remove);
+            for (String key : history.stringPropertyNames()) {
+                String entry = history.getProperty(key);
+                try {
+                    if (now - Long.parseLong(entry.substring(entry.lastIndexOf('|') + 1)) > maxAgeMillis) {
+                        history.remove(key);
+                    }
+                } catch (NumberFormatException e) {
+                    history.remove(key);
+                }
+            }
+        }, "class#method -> fingerprint of build, suite and test code|time of the pass (ms)");
+    }
+
+    public String describeStats() {
+        if (build == null) {
+            return "Result cache: build fingerprint unavailable, nothing skipped";
+        }
+        return String.format("Result cache: %d cached pass(es) skipped, %d pass(es) recorded, %d entr(ies) dropped"
+                + " (build %s, max age %d h%s)", hits.get(), passed.size(), dropped.size(), build.substring(0, 12),
+                maxAgeMillis / 3_600_000, refresh ? ", refresh" : "");
+    }
+
+    // ==================== Fingerprints ====================
+
+    /**
+     * Add the suites about to run to the build part. Their parameters are
+     * hashed rather than the file, whose class lists differ from shard to
+     * shard and are already covered per class. Call before the first lookup.
+     */
+    public void useSuites(List<XmlSuite> suites) {
+        StringBuilder combined = new StringBuilder();
+        for (XmlSuite xmlSuite : suites) {
+            combined.append(new TreeMap<>(xmlSuite.getParameters())).append(';');
+            Set<String> tests = new TreeSet<>();
+            for (XmlTest test : xmlSuite.getTests()) {
+                tests.add(new TreeMap<>(test.getLocalParameters()).toString());
+            }
+            combined.append(tests).append(';');
+        }
+        suite = sha256(combined.toString());
+        fingerprints.clear();
+    }
+
+    private String fingerprint(String className) {
+        return fingerprints.computeIfAbsent(className,
+                name -> sha256(build + "|" + suite + "|" + codeFingerprint(name) + "|" + resources));
+    }
+
+    /**
+     * Hash of the bytecode of a class and of every project class it reaches
+     * in the fingerprinted packages, read through the class loader.
+     */
+    private static String codeFingerprint(String className) {
+        ClassLoader loader = ResultCache.class.getClassLoader();
+        Map<String, byte[]> code = new HashMap<>();
+        Deque<String> pending = new ArrayDeque<>();
+        pending.add(className);
+        while (!pending.isEmpty()) {
+            String name = pending.poll();
+            if (code.containsKey(name)) {
+                continue;
+            }
+            try (InputStream in = loader.getResourceAsStream(name.replace('.', '/') + ".class")) {
+                if (in == null) {
+                    continue;
+                }
+                byte[] bytes = in.readAllBytes();
+                code.put(name, bytes);
+                for (String referenced : ClassFileReader.read(new ByteArrayInputStream(bytes), name).references) {
+                    if (isFingerprinted(referenced) && !code.containsKey(referenced)) {
+                        pending.add(referenced);
+                    }
+                }
+            } catch (IOException e) {
+                throw new RuntimeException("Could not read the bytecode of " + name, e);
+            }
+        }
+
+        StringBuilder combined = new StringBuilder();
+        for (String name : new TreeSet<>(code.keySet())) {
+            combined.append(name).append('=').append(sha256(code.get(name))).append(';');
+        }
+        return sha256(combined.toString());
+    }
+
+    /**
+     * Hash of every file under {@code src/test/resources}, by relative path;
+     * empty when the directory is not there.
+     */
+    private static String resourceFingerprint() {
+        if (!Files.isDirectory(TEST_RESOURCES)) {
+            return "";
+        }
+        StringBuilder combined = new StringBuilder();
+        try (Stream<Path> walk = Files.walk(TEST_RESOURCES)) {
+            for (Path file : walk.filter(Files::isRegularFile).sorted().toList()) {
+                if (UNFINGERPRINTED_RESOURCES.contains(file.getFileName().toString())) {
+                    continue;
+                }
+                combined.append(TEST_RESOURCES.relativize(file).toString().replace('\\', '/')).append('=')
+                        .append(sha256(Files.readAllBytes(file))).append(';');
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Could not read the test resources", e);
+        }
+        return sha256(combined.toString());
+    }
+
+    private static boolean isFingerprinted(String className) {
+        int nested = className.indexOf('$');
+        if (UNFINGERPRINTED_CLASSES.contains(nested > 0 ? className.substring(0, nested) : className)) {
+            return false;
+        }
+        for (String prefix : FINGERPRINTED_PACKAGES) {
+            if (className.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The application build: an explicit version, or the hashed bundle names
+     * of the app's entry page. Null when neither is available.
+     */
+    private static String buildFingerprint() {
+        String version = ConfigReader.get("cache.buildVersion", null);
+        if (version != null && !version.isBlank()) {
+            return sha256("version:" + version.trim());
+        }
+        String url = ConfigReader.get("cache.buildUrl", ConfigReader.get("url", null));
+        if (url == null) {
+            return null;
+        }
+        try {
+            HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10))
+                    .followRedirects(HttpClient.Redirect.NORMAL).build();
+            HttpResponse<String> response = client.send(
+                    HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(15)).GET().build(),
+                    HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() >= 400) {
+                throw new IOException("HTTP " + response.statusCode());
+            }
+            Set<String> bundles = new TreeSet<>();
+            Matcher matcher = BUNDLE.matcher(response.body());
+            while (matcher.find()) {
+                bundles.add(matcher.group(1));
+            }
+            // Without bundle references the whole page has to do
+            String fingerprint = sha256(bundles.isEmpty() ? response.body() : String.join(",", bundles));
+            Log.info("[ResultCache] Build " + fingerprint.substring(0, 12) + " from " + bundles.size()
+                    + " bundle(s) at " + url);
+            return fingerprint;
+        } catch (IOException | RuntimeException e) {
+            Log.info("[ResultCache] Could not fingerprint the build at " + url + ": " + e.getMessage()
+                    + ". Running everything.");
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private static String sha256(String value) {
+        return sha256(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            StringBuilder hex = new StringBuilder();
+            for (byte b : MessageDigest.getInstance("SHA-256").digest(bytes)) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
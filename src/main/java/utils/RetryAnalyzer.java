@@ -1,21 +0,0 @@
-package utils;
-
-import org.testng.IRetryAnalyzer;
-import org.testng.ITestResult;
-
-public class RetryAnalyzer implements IRetryAnalyzer {
-    private int count = 0;
-    private static final int MAX_RETRY_COUNT = 1; // Retry once on failure
-
-    @Override
-    public boolean retry(ITestResult result) {
-        if (!result.isSuccess()) {
-            if (count < MAX_RETRY_COUNT) {
-                count++;
-                System.out.println("Retrying test: " + result.getName() + " [Attempt " + count + "]");
-                return true;
-            }
-        }
-        return false;
-    }
-}
@@ -0,0 +1,94 @@
+package utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Properties;
+import java.util.function.Consumer;
+
+/**
+ * Small properties files kept between runs (click strategies, durations, ...).
+ *
+ * Files live in {@code test-history/} unless {@code history.dir} is set as a
+ * system property or in config.properties. The directory is not cleaned by
+ * {@code mvn clean}, so CI keeps learning across builds as long as the
+ * workspace is reused.
+ */
+public class RunHistory {
+
+    private static final String DEFAULT_DIR = "test-history";
+
+    public static Path file(String name) {
+        String dir = System.getProperty("history.dir");
+        if (dir == null) {
+            dir = ConfigReader.get("history.dir");
+        }
+        return Paths.get(dir == null ? DEFAULT_DIR : dir, name);
+    }
+
+    /**
+     * Load a history file; empty when it does not exist or cannot be read.
+     */
+    public static Properties load(String name) {
+        Properties properties = new Properties();
+        Path path = file(name);
+        if (Files.exists(path)) {
+            try (InputStream in = Files.newInputStream(path)) {
+                properties.load(in);
+            } catch (IOException e) {
+                Log.info("[RunHistory] Could not read " + path + ": " + e.getMessage());
+            }
+        }
+        return properties;
+    }
+
+    /**
+     * Write a history file atomically (temp file + move) so a killed run
+     * never leaves it half-written.
+     */
+    public static void store(String name, Properties properties, String comment) {
+        Path path = file(name);
+        try {
+            Files.createDirectories(path.toAbsolutePath().getParent());
+            Path tmp = Files.createTempFile(path.toAbsolutePath().getParent(), name, ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                properties.store(out, comment);
+            }
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Log.info("[RunHistory] Could not write " + path + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Load, change and write a history file while holding a lock file, so
+     * several JVMs (shards) can add their results without overwriting each
+     * other's entries.
+     */
+    public static void update(String name, Consumer<Properties> change, String comment) {
+        Path lockPath = file(name + ".lock");
+        try {
+            Files.createDirectories(lockPath.toAbsolutePath().getParent());
+            try (FileChannel channel = FileChannel.open(lockPath, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE)) {
+                FileLock lock = channel.lock();
+                try {
+                    Properties properties = load(name);
+                    change.accept(properties);
+                    store(name, properties, comment);
+                } finally {
+                    lock.release();
+                }
+            }
+        } catch (IOException e) {
+            Log.info("[RunHistory] Could not update " + file(name) + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package utils;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.v133.page.Page;
+import org.w3c.dom.Node;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageTypeSpecifier;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the last seconds of each browser as a low-resolution screencast, so a
+ * failure shows what led up to it and not only the final screenshot.
+ *
+ * Each driver streams CDP {@code Page.startScreencast} frames (JPEG, at most
+ * {@code screencast.maxWidth} wide, every {@code screencast.everyNthFrame}th
+ * paint) into a fixed ring of {@code screencast.frames} slots that is
+ * overwritten in place: no decoding and no disk I/O while tests pass. On a
+ * failure the frames of the last {@code screencast.seconds} are handed to the
+ * screenshot encoder thread, which turns them into an animated GIF in the
+ * report.
+ *
+ * Frame handling CPU is measured per driver on the thread that receives the
+ * frames; {@link #describeStats()} reports it as a share of one core. Enable
+ * with {@code screencast.enabled=true}; needs a CDP session (Chrome).
+ */
+public class ScreencastRecorder {
+
+    private static final Map<WebDriver, ScreencastRecorder> RECORDERS = new ConcurrentHashMap<>();
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+    private static final AtomicInteger DRIVERS = new AtomicInteger();
+    private static final AtomicLong TOTAL_FRAMES = new AtomicLong();
+    private static final AtomicLong TOTAL_CPU_NANOS = new AtomicLong();
+    private static final AtomicLong TOTAL_RECORDED_MILLIS = new AtomicLong();
+    private static final AtomicInteger ATTACHED = new AtomicInteger();
+
+    private final DevTools devTools;
+    private final String[] frames;
+    private final long[] timestamps;
+    private final long startMillis = System.currentTimeMillis();
+    private int next;
+    private long frameCount;
+    private long cpuNanos;
+
+    private ScreencastRecorder(DevTools devTools, int capacity) {
+        this.devTools = devTools;
+        this.frames = new String[capacity];
+        this.timestamps = new long[capacity];
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(ConfigReader.get("screencast.enabled", "false"));
+    }
+
+    // ==================== Recording ====================
+
+    /**
+     * Start the screencast of a new driver. Does nothing when disabled or
+     * when CDP is not available.
+     */
+    public static void start(WebDriver driver) {
+        if (!isEnabled() || driver == null) {
+            return;
+        }
+        DevTools devTools = DevToolsHelper.getSession(driver);
+        if (devTools == null) {
+            return;
+        }
+        ScreencastRecorder recorder = new ScreencastRecorder(devTools,
+                Integer.parseInt(ConfigReader.get("screencast.frames", "60")));
+        try {
+            devTools.addListener(Page.screencastFrame(), frame -> {
+                long cpuStart = THREADS.getCurrentThreadCpuTime();
+                recorder.add(frame.getData());
+                try {
+                    devTools.send(Page.screencastFrameAck(frame.getSessionId()));
+                } catch (RuntimeException e) {
+                    // Driver is closing
+                }
+                recorder.addCpu(THREADS.getCurrentThreadCpuTime() - cpuStart);
+            });
+            devTools.send(Page.startScreencast(Optional.of(Page.StartScreencastFormat.JPEG),
+                    Optional.of(Integer.parseInt(ConfigReader.get("screencast.quality", "50"))),
+                    Optional.of(Integer.parseInt(ConfigReader.get("screencast.maxWidth", "640"))),
+                    Optional.of(Integer.parseInt(ConfigReader.get("screencast.maxHeight", "360"))),
+                    Optional.of(Integer.parseInt(ConfigReader.get("screencast.everyNthFrame", "6")))));
+            RECORDERS.put(driver, recorder);
+            DRIVERS.incrementAndGet();
+        } catch (RuntimeException e) {
+            Log.info("[Screencast] Could not start screencast: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Stop recording before the driver quits and add its overhead to the
+     * totals.
+     */
+    public static void stop(WebDriver driver) {
+        ScreencastRecorder recorder = driver == null ? null : RECORDERS.remove(driver);
+        if (recorder == null) {
+            return;
+        }
+        try {
+            recorder.devTools.send(Page.stopScreencast());
+        } catch (RuntimeException e) {
+            // Browser already gone
+        }
+        synchronized (recorder) {
+            long recorded = System.currentTimeMillis() - recorder.startMillis;
+            TOTAL_FRAMES.addAndGet(recorder.frameCount);
+            TOTAL_CPU_NANOS.addAndGet(recorder.cpuNanos);
+            TOTAL_RECORDED_MILLIS.addAndGet(recorded);
+            Log.info(String.format("[Screencast] Driver recorded %d frame(s) in %d s, %.2f%% of one core",
+                    recorder.frameCount, recorded / 1000, percentOfCore(recorder.cpuNanos, recorded)));
+        }
+    }
+
+    private synchronized void add(String frame) {
+        frames[next] = frame;
+        timestamps[next] = System.currentTimeMillis();
+        next = (next + 1) % frames.length;
+        frameCount++;
+    }
+
+    private synchronized void addCpu(long nanos) {
+        cpuNanos += nanos;
+    }
+
+    /**
+     * Frames of the last {@code screencast.seconds}, oldest first.
+     */
+    private synchronized List<Frame> snapshot() {
+        long since = System.currentTimeMillis() - Long.parseLong(ConfigReader.get("screencast.seconds", "10")) * 1000;
+        List<Frame> recent = new ArrayList<>();
+        for (int i = 0; i < frames.length; i++) {
+            int slot = (next + i) % frames.length;
+            if (frames[slot] != null && timestamps[slot] >= since) {
+                recent.add(new Frame(frames[slot], timestamps[slot]));
+            }
+        }
+        return recent;
+    }
+
+    // ==================== Failure ====================
+
+    /**
+     * Attach the recent screencast of a driver to a failed test. The test
+     * thread only copies the frame references; the GIF is encoded in the
+     * background.
+     */
+    public static void attachTo(ReportTest test, WebDriver driver) {
+        ScreencastRecorder recorder = driver == null ? null : RECORDERS.get(driver);
+        if (recorder == null || test == null) {
+            return;
+        }
+        List<Frame> recent = recorder.snapshot();
+        if (recent.size() < 2) {
+            return;
+        }
+        ATTACHED.incrementAndGet();
+        long seconds = Math.max(1, (recent.get(recent.size() - 1).timestamp - recent.get(0).timestamp) / 1000);
+        test.addAnimation(() -> encodeGif(recent), "gif",
+                "Screencast: last " + seconds + " s before the failure (" + recent.size() + " frames)");
+    }
+
+    private static class Frame {
+        final String jpegBase64;
+        final long timestamp;
+
+        Frame(String jpegBase64, long timestamp) {
+            this.jpegBase64 = jpegBase64;
+            this.timestamp = timestamp;
+        }
+    }
+
+    /**
+     * Animated GIF of the frames, each shown for as long as it was on
+     * screen, looping.
+     */
+    private static byte[] encodeGif(List<Frame> recent) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("gif").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream stream = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(stream);
+            writer.prepareWriteSequence(null);
+            for (int i = 0; i < recent.size(); i++) {
+                BufferedImage image = ImageIO.read(new ByteArrayInputStream(
+                        Base64.getDecoder().decode(recent.get(i).jpegBase64)));
+                if (image == null) {
+                    continue;
+                }
+                long shown = i + 1 < recent.size() ? recent.get(i + 1).timestamp - recent.get(i).timestamp : 1000;
+                IIOMetadata metadata = writer.getDefaultImageMetadata(new ImageTypeSpecifier(image), null);
+                frameMetadata(metadata, (int) Math.max(2, Math.min(shown / 10, 500)), i == 0);
+                writer.writeToSequence(new IIOImage(image, null, metadata), null);
+            }
+            writer.endWriteSequence();
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private static void frameMetadata(IIOMetadata metadata, int delayCentis, boolean first) throws IOException {
+        String format = metadata.getNativeMetadataFormatName();
+        IIOMetadataNode root = (IIOMetadataNode) metadata.getAsTree(format);
+        IIOMetadataNode control = child(root, "GraphicControlExtension");
+        control.setAttribute("disposalMethod", "none");
+        control.setAttribute("userInputFlag", "FALSE");
+        control.setAttribute("transparentColorFlag", "FALSE");
+        control.setAttribute("delayTime", Integer.toString(delayCentis));
+        control.setAttribute("transparentColorIndex", "0");
+        if (first) {
+            // NETSCAPE2.0 extension: loop forever
+            IIOMetadataNode extension = new IIOMetadataNode("ApplicationExtension");
+            extension.setAttribute("applicationID", "NETSCAPE");
+            extension.setAttribute("authenticationCode", "2.0");
+            extension.setUserObject(new byte[] { 1, 0, 0 });
+            child(root, "ApplicationExtensions").appendChild(extension);
+        }
+        metadata.setFromTree(format, root);
+    }
+
+    private static IIOMetadataNode child(IIOMetadataNode root, String name) {
+        for (Node node = root.getFirstChild(); node != null; node = node.getNextSibling()) {
+            if (node.getNodeName().equals(name)) {
+                return (IIOMetadataNode) node;
+            }
+        }
+        IIOMetadataNode node = new IIOMetadataNode(name);
+        root.appendChild(node);
+        return node;
+    }
+
+    // ==================== Metrics ====================
+
+    private static double percentOfCore(long cpuNanos, long wallMillis) {
+        return wallMillis <= 0 ? 0 : cpuNanos / 1e4 / wallMillis;
+    }
+
+    public static String describeStats() {
+        int drivers = DRIVERS.get();
+        if (drivers == 0) {
+            return "Screencast: not recording";
+        }
+        long frames = TOTAL_FRAMES.get();
+        long cpu = TOTAL_CPU_NANOS.get();
+        return String.format("Screencast: %d driver(s), %d frame(s), %.0f us CPU per frame, %.2f%% of one core"
+                + " per driver on average, %d failure screencast(s) attached", drivers, frames,
+                frames == 0 ? 0.0 : cpu / 1e3 / frames, percentOfCore(cpu, TOTAL_RECORDED_MILLIS.get()),
+                ATTACHED.get());
+    }
+}
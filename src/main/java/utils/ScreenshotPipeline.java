@@ -0,0 +1,273 @@
+package utils;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Encodes report screenshots off the test threads.
+ *
+ * A test thread hands over the raw PNG from the driver and moves on. A
+ * background thread scales it down to {@code screenshot.maxWidth} and
+ * re-encodes it as {@code screenshot.format} ({@code jpg} by default, at
+ * {@code screenshot.quality}), or as PNG when that is smaller. It stores the
+ * result in the report's media folder under the hash of the capture, so
+ * identical captures are stored once, then appends the screenshot's report
+ * event with the time and order of the moment of capture.
+ *
+ * The queue is bounded: when it is full the capturing thread encodes its own
+ * screenshot, so memory stays bounded. {@link #drain()} waits for pending
+ * screenshots before the report is rendered; one submitted after that is
+ * encoded on the capturing thread too, with a warning.
+ */
+public class ScreenshotPipeline {
+
+    private static final int QUEUE_SIZE = 32;
+
+    private static ScreenshotPipeline instance;
+
+    private final ThreadPoolExecutor encoder;
+    private final int maxWidth;
+    private final String format;
+    private final float quality;
+    private final Map<String, String> stored = new ConcurrentHashMap<>();
+    private final AtomicInteger captured = new AtomicInteger();
+    private final AtomicInteger duplicates = new AtomicInteger();
+    private final AtomicLong rawBytes = new AtomicLong();
+    private final AtomicLong storedBytes = new AtomicLong();
+    private final AtomicLong encodeNanos = new AtomicLong();
+
+    private ScreenshotPipeline() {
+        maxWidth = Integer.parseInt(ConfigReader.get("screenshot.maxWidth", "1280"));
+        format = ConfigReader.get("screenshot.format", "jpg").toLowerCase();
+        quality = Float.parseFloat(ConfigReader.get("screenshot.quality", "0.75"));
+        encoder = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(QUEUE_SIZE),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "screenshot-encoder");
+                    thread.setDaemon(true);
+                    return thread;
+                }, ScreenshotPipeline::runOnCaller);
+    }
+
+    /**
+     * Queue full, or the pipeline already drained (a thread that fetched it
+     * just before {@link #drain()}): the capturing thread encodes the
+     * screenshot itself, so it is never dropped.
+     */
+    private static void runOnCaller(Runnable task, ThreadPoolExecutor executor) {
+        if (executor.isShutdown()) {
+            Log.warn("[Screenshots] Screenshot submitted after the pipeline was drained; encoding it on "
+                    + Thread.currentThread().getName() + ", it may miss the report already rendered");
+        }
+        task.run();
+    }
+
+    public static synchronized ScreenshotPipeline get() {
+        if (instance == null) {
+            instance = new ScreenshotPipeline();
+        }
+        return instance;
+    }
+
+    /**
+     * Queue a capture for encoding; {@code event} is appended to the report
+     * log with the stored file once it is written.
+     */
+    void submit(byte[] png, Map<String, Object> event) {
+        captured.incrementAndGet();
+        rawBytes.addAndGet(png.length);
+        encoder.execute(() -> {
+            event.put("media", store(png));
+            ReportLog.append(event);
+            // Encoder threads do not end tests, so nothing else closes their event file
+            ReportLog.closeWriter();
+        });
+    }
+
+    /**
+     * Queue media that still has to be produced (a screencast animation);
+     * stored as is under its content hash.
+     */
+    void submit(Callable<byte[]> producer, String extension, Map<String, Object> event) {
+        encoder.execute(() -> {
+            try {
+                byte[] media = producer.call();
+                String relative = ReportLog.MEDIA_DIR + "/" + sha256(media).substring(0, 32) + "." + extension;
+                Path file = ReportLog.reportDir().resolve(relative);
+                if (!Files.exists(file)) {
+                    Files.write(file, media);
+                    ArtifactBundler.add(file);
+                }
+                event.put("media", relative);
+                ReportLog.append(event);
+                ReportLog.closeWriter();
+            } catch (Exception e) {
+                Log.error("[Screenshots] Could not produce " + extension + " for the report: "
+                        + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Wait for every queued screenshot to be stored and logged.
+     */
+    public static void drain() {
+        ScreenshotPipeline pipeline;
+        synchronized (ScreenshotPipeline.class) {
+            pipeline = instance;
+            instance = null;
+        }
+        if (pipeline == null) {
+            return;
+        }
+        pipeline.encoder.shutdown();
+        try {
+            if (!pipeline.encoder.awaitTermination(2, TimeUnit.MINUTES)) {
+                Log.error("[Screenshots] Encoder did not finish, some screenshots are missing");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        Log.info("[Screenshots] " + pipeline.describeStats());
+    }
+
+    public String describeStats() {
+        int count = captured.get();
+        long raw = rawBytes.get();
+        long written = storedBytes.get();
+        // Base64 inflates by 4/3; that is what inlining used to add to the HTML
+        long inlined = raw * 4 / 3;
+        return String.format("%d captured, %d stored (%d duplicate(s)), %d KB raw -> %d KB on disk;"
+                + " report %d KB smaller than with inlined Base64 (%.0f ms encoding per capture off the test thread)",
+                count, stored.size(), duplicates.get(), raw / 1024, written / 1024, inlined / 1024,
+                stored.isEmpty() ? 0.0 : encodeNanos.get() / 1e6 / stored.size());
+    }
+
+    // ==================== Encoding ====================
+
+    /**
+     * Store a capture under its content hash; returns the path relative to
+     * the report directory.
+     */
+    private String store(byte[] png) {
+        long start = System.nanoTime();
+        String hash = sha256(png).substring(0, 32);
+        String existing = stored.get(hash);
+        if (existing != null) {
+            duplicates.incrementAndGet();
+            return existing;
+        }
+        Encoded encoded = encode(png);
+        String relative = ReportLog.MEDIA_DIR + "/" + hash + "." + encoded.extension;
+        try {
+            Path file = ReportLog.reportDir().resolve(relative);
+            if (!Files.exists(file)) {
+                Files.write(file, encoded.bytes);
+                storedBytes.addAndGet(encoded.bytes.length);
+                ArtifactBundler.add(file);
+            }
+        } catch (IOException e) {
+            Log.error("[Screenshots] Could not store screenshot: " + e.getMessage());
+        }
+        stored.put(hash, relative);
+        encodeNanos.addAndGet(System.nanoTime() - start);
+        return relative;
+    }
+
+    private static class Encoded {
+        final byte[] bytes;
+        final String extension;
+
+        Encoded(byte[] bytes, String extension) {
+            this.bytes = bytes;
+            this.extension = extension;
+        }
+    }
+
+    /**
+     * Downsample, then keep the smaller of the configured format and PNG:
+     * text-heavy pages often compress better losslessly. The original
+     * capture when the image cannot be read.
+     */
+    private Encoded encode(byte[] png) {
+        try {
+            BufferedImage source = ImageIO.read(new ByteArrayInputStream(png));
+            if (source == null) {
+                return new Encoded(png, "png");
+            }
+            double scale = Math.min(1.0, (double) maxWidth / source.getWidth());
+            int width = (int) Math.round(source.getWidth() * scale);
+            int height = (int) Math.round(source.getHeight() * scale);
+            // RGB without alpha, which JPEG cannot hold
+            BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = scaled.createGraphics();
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(source, 0, 0, width, height, null);
+            graphics.dispose();
+
+            Encoded best = new Encoded(write(scaled, "png"), "png");
+            if (!"png".equals(format)) {
+                byte[] compact = write(scaled, format);
+                if (compact.length < best.bytes.length) {
+                    best = new Encoded(compact, format);
+                }
+            }
+            return best.bytes.length < png.length ? best : new Encoded(png, "png");
+        } catch (IOException | RuntimeException e) {
+            Log.error("[Screenshots] Could not re-encode screenshot, keeping PNG: " + e.getMessage());
+            return new Encoded(png, "png");
+        }
+    }
+
+    private byte[] write(BufferedImage image, String formatName) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName(formatName).next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream stream = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(stream);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (param.canWriteCompressed() && !"png".equals(formatName)) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                if (param.getCompressionType() == null) {
+                    param.setCompressionType(param.getCompressionTypes()[0]);
+                }
+                param.setCompressionQuality(quality);
+            }
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            StringBuilder hex = new StringBuilder();
+            for (byte b : MessageDigest.getInstance("SHA-256").digest(bytes)) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -25,6 +25,7 @@ public class ScreenshotUtil {
             File destFile = new File(destPath);
             destFile.getParentFile().mkdirs(); // Ensure directory exists
             Files.copy(screenshot.toPath(), destFile.toPath());
+            ArtifactBundler.add(destFile.toPath());
             return destFile.getAbsolutePath();
         } catch (IOException e) {
             e.printStackTrace();
@@ -44,12 +45,31 @@ public class ScreenshotUtil {
     public static String captureScreenshotAsBase64(WebDriver driver) {
         try {
             if (driver == null) {
-                System.err.println("ScreenshotUtil: WebDriver is null, cannot capture screenshot");
+                Log.error("ScreenshotUtil: WebDriver is null, cannot capture screenshot");
                 return null;
             }
             return ((TakesScreenshot) driver).getScreenshotAs(OutputType.BASE64);
         } catch (Exception e) {
-            System.err.println("ScreenshotUtil: Failed to capture Base64 screenshot - " + e.getMessage());
+            Log.error("ScreenshotUtil: Failed to capture Base64 screenshot - " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Captures a screenshot as raw PNG bytes, for {@link ScreenshotPipeline}.
+     *
+     * @param driver WebDriver instance
+     * @return PNG bytes of the screenshot, or null if capture fails
+     */
+    public static byte[] captureScreenshotAsBytes(WebDriver driver) {
+        try {
+            if (driver == null) {
+                Log.error("ScreenshotUtil: WebDriver is null, cannot capture screenshot");
+                return null;
+            }
+            return ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+        } catch (Exception e) {
+            Log.error("ScreenshotUtil: Failed to capture screenshot - " + e.getMessage());
             return null;
         }
     }
@@ -0,0 +1,284 @@
+package utils;
+
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+import org.testng.xml.internal.Parser;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+/**
+ * Runs a suite as K shards in separate JVMs and merges their reports.
+ *
+ * The {@code <test>} blocks of the suite are split into K shards with
+ * longest-first bin packing on the durations in
+ * {@link DurationHistory}. Each shard gets its own suite file, JVM, report
+ * directory and log under {@code test-output/shards/}. When all shards are
+ * done, each shard's retry lane runs ({@link listeners.RetryLane}, one shard
+ * at a time), the report is rendered from their event logs into
+ * {@code test-output/ExtentReport.html} and their JUnit XML files are copied
+ * into {@code test-output/junitreports/} (the lanes' into {@code retry/}); with {@code artifacts.bundle} the
+ * whole of {@code test-output} then goes into one archive
+ * ({@link ArtifactBundler}).
+ *
+ * Usage: {@code mvn test -Pshards -Dshards=4}, or run this class directly
+ * with {@code <suite.xml> <shards>} on the test classpath. Settings reach the
+ * shards as system properties of this JVM: under Maven, in
+ * {@code -Drunner.jvmArgs="-Dretry.maxTests=5 ..."}.
+ */
+public class ShardRunner {
+
+    private static final Path SHARD_DIR = Paths.get("test-output", "shards");
+
+    // Setting namespaces handed down to the shard JVMs, besides every key of config.properties
+    private static final String[] FORWARDED_PREFIXES = {
+            "browser.", "element.", "history.", "click.", "scheduler.", "impact.", "concurrency.", "cache.",
+            "retry.", "screenshot.", "screencast.", "timeline.", "commands.", "log.", "report.", "artifacts."
+    };
+    // Where each JVM writes its own output; set per shard instead
+    private static final Set<String> LOCAL_PROPERTIES = Set.of("report.dir", "log.dir");
+
+    private static class Shard {
+        final int index;
+        final List<XmlTest> tests = new ArrayList<>();
+        long estimatedMillis;
+        Path dir;
+        Process process;
+        long startMillis;
+        long actualMillis;
+        int exitCode;
+        boolean laneRan;
+
+        Shard(int index) {
+            this.index = index;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        String suiteFile = args.length > 0 ? args[0] : "testng.xml";
+        int shardCount = args.length > 1 ? Integer.parseInt(args[1])
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        System.exit(new ShardRunner().run(suiteFile, shardCount));
+    }
+
+    /**
+     * Plan, run and merge; returns the process exit code (non-zero if any
+     * shard has a failure that did not pass in its retry lane).
+     */
+    public int run(String suiteFile, int shardCount) throws IOException, InterruptedException {
+        XmlSuite suite = new Parser(suiteFile).parseToList().get(0);
+        List<Shard> shards = plan(suite, shardCount);
+
+        Files.createDirectories(SHARD_DIR);
+        for (Shard shard : shards) {
+            shard.dir = SHARD_DIR.resolve("shard-" + shard.index);
+            Files.createDirectories(shard.dir);
+            Path suitePath = SHARD_DIR.resolve("shard-" + shard.index + ".xml");
+            Files.write(suitePath, toSuite(suite, shard, shards.size()).toXml().getBytes(StandardCharsets.UTF_8));
+            System.out.println(String.format("[Shards] Shard %d: %d test block(s), ~%ds", shard.index,
+                    shard.tests.size(), shard.estimatedMillis / 1000));
+            launch(shard, suitePath);
+        }
+
+        int exitCode = 0;
+        for (Shard shard : shards) {
+            shard.exitCode = shard.process.waitFor();
+            shard.actualMillis = System.currentTimeMillis() - shard.startMillis;
+            System.out.println(String.format("[Shards] Shard %d finished in %ds (estimated %ds), exit code %d",
+                    shard.index, shard.actualMillis / 1000, shard.estimatedMillis / 1000, shard.exitCode));
+        }
+        for (Shard shard : shards) {
+            // The lane settles the shard, so its exit code replaces the shard's
+            Path laneDir = shard.dir.resolve("retry");
+            shard.laneRan = Files.exists(laneDir.resolve("lane.xml"))
+                    && Files.exists(laneDir.resolve("run-summary.properties"));
+            shard.exitCode = runLane(shard);
+            exitCode = Math.max(exitCode, shard.exitCode);
+        }
+
+        merge(shards);
+        return exitCode;
+    }
+
+    // ==================== Planning ====================
+
+    /**
+     * Longest-first: each test block goes to the currently lightest shard.
+     */
+    static List<Shard> plan(XmlSuite suite, int shardCount) {
+        DurationHistory history = DurationHistory.get();
+        List<XmlTest> tests = new ArrayList<>(suite.getTests());
+        tests.sort(Comparator.comparingLong((XmlTest t) -> -estimate(history, t)));
+
+        List<Shard> shards = new ArrayList<>();
+        for (int i = 1; i <= Math.min(shardCount, tests.size()); i++) {
+            shards.add(new Shard(i));
+        }
+        for (XmlTest test : tests) {
+            Shard lightest = shards.stream().min(Comparator.comparingLong(s -> s.estimatedMillis)).get();
+            lightest.tests.add(test);
+            lightest.estimatedMillis += estimate(history, test);
+        }
+        return shards;
+    }
+
+    private static long estimate(DurationHistory history, XmlTest test) {
+        long total = 0;
+        for (XmlClass xmlClass : test.getXmlClasses()) {
+            total += history.estimateClassMillis(xmlClass.getName());
+        }
+        return total;
+    }
+
+    private static XmlSuite toSuite(XmlSuite original, Shard shard, int shardCount) {
+        XmlSuite copy = original.shallowCopy();
+        copy.setTests(new ArrayList<>());
+        copy.setName(original.getName() + " [shard " + shard.index + "/" + shardCount + "]");
+        for (XmlTest test : shard.tests) {
+            copyTest(copy, test);
+        }
+        return copy;
+    }
+
+    /**
+     * Add a copy of a {@code <test>} block to another suite: everything the
+     * block declares, including groups, packages and method selectors.
+     * {@link XmlTest#clone()} is no use here, as it adds the copy to the
+     * original suite and leaves out selectors and grouping.
+     */
+    static XmlTest copyTest(XmlSuite suite, XmlTest test) {
+        XmlTest copy = new XmlTest(suite);
+        copy.setName(test.getName());
+        copy.setXmlClasses(test.getXmlClasses());
+        copy.setXmlPackages(test.getXmlPackages());
+        copy.setGroups(test.getXmlGroups());
+        copy.setMethodSelectors(test.getMethodSelectors());
+        copy.setXmlDependencyGroups(test.getXmlDependencyGroups());
+        copy.setParallel(test.getParallel());
+        copy.setThreadCount(test.getThreadCount());
+        copy.setPreserveOrder(test.getPreserveOrder());
+        copy.setGroupByInstances(test.getGroupByInstances());
+        copy.setSkipFailedInvocationCounts(test.skipFailedInvocationCounts());
+        copy.setAllowReturnValues(test.getAllowReturnValues());
+        copy.setVerbose(test.getVerbose());
+        if (test.getTimeOut() != null) {
+            copy.setTimeOut(Long.parseLong(test.getTimeOut()));
+        }
+        copy.setParameters(test.getLocalParameters());
+        return copy;
+    }
+
+    // ==================== Execution ====================
+
+    /**
+     * Settings of this JVM the runners hand down to the JVMs they start:
+     * every system property that config.properties knows or that is in one
+     * of the settings' namespaces.
+     */
+    public static List<String> forwardedProperties() {
+        Set<String> known = ConfigReader.keys();
+        List<String> forwarded = new ArrayList<>();
+        for (String name : new TreeSet<>(System.getProperties().stringPropertyNames())) {
+            if (LOCAL_PROPERTIES.contains(name)) {
+                continue;
+            }
+            if (known.contains(name) || Stream.of(FORWARDED_PREFIXES).anyMatch(name::startsWith)) {
+                forwarded.add(name);
+            }
+        }
+        return forwarded;
+    }
+
+    private static List<String> javaCommand() {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        for (String property : forwardedProperties()) {
+            command.add("-D" + property + "=" + System.getProperty(property));
+        }
+        return command;
+    }
+
+    private static void launch(Shard shard, Path suitePath) throws IOException {
+        List<String> command = javaCommand();
+        command.add("-Dreport.dir=" + shard.dir);
+        // The runner bundles all shards into one archive after merging
+        command.add("-Dartifacts.bundle=false");
+        command.add("org.testng.TestNG");
+        command.add("-d");
+        command.add(shard.dir.resolve("testng").toString());
+        command.add(suitePath.toString());
+
+        shard.startMillis = System.currentTimeMillis();
+        shard.process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(shard.dir.resolve("shard.log").toFile())
+                .start();
+    }
+
+    private static int runLane(Shard shard) throws IOException, InterruptedException {
+        List<String> command = javaCommand();
+        command.add("listeners.RetryLane");
+        command.add(shard.dir.toString());
+        int exitCode = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(shard.dir.resolve("retry-lane.log").toFile())
+                .start()
+                .waitFor();
+        System.out.println(String.format("[Shards] Shard %d %s, exit code %d", shard.index,
+                shard.laneRan ? "retry lane finished" : "had nothing to retry", exitCode));
+        return exitCode;
+    }
+
+    // ==================== Merging ====================
+
+    private static void merge(List<Shard> shards) throws IOException {
+        List<Path> reportDirs = new ArrayList<>();
+        Path junitDir = Paths.get("test-output", "junitreports");
+        Files.createDirectories(junitDir);
+        int junitFiles = 0;
+
+        for (Shard shard : shards) {
+            reportDirs.add(shard.dir);
+            junitFiles += copyJunit(shard.dir.resolve("testng"), junitDir);
+            if (shard.laneRan) {
+                reportDirs.add(shard.dir.resolve("retry"));
+                junitFiles += copyJunit(shard.dir.resolve("retry").resolve("testng"), junitDir.resolve("retry"));
+            }
+        }
+
+        ExtentReportManager.mergeShardReports(reportDirs, "test-output/ExtentReport.html");
+        System.out.println("[Shards] Merged " + reportDirs.size() + " shard report(s) into "
+                + "test-output/ExtentReport.html and " + junitFiles + " JUnit file(s) into " + junitDir);
+        ArtifactBundler.finish();
+    }
+
+    private static int copyJunit(Path testngDir, Path junitDir) throws IOException {
+        Path shardJunit = testngDir.resolve("junitreports");
+        if (!Files.isDirectory(shardJunit)) {
+            return 0;
+        }
+        Files.createDirectories(junitDir);
+        int copied = 0;
+        try (Stream<Path> files = Files.list(shardJunit)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                // Classes are disjoint across shards, so TEST-<class>.xml names do not clash
+                Files.copy(file, junitDir.resolve(file.getFileName()), StandardCopyOption.REPLACE_EXISTING);
+                copied++;
+            }
+        }
+        return copied;
+    }
+}
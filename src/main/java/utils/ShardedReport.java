@@ -0,0 +1,335 @@
+package utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+/**
+ * Writes the report as a light index page plus one fragment per test class,
+ * for runs whose single Spark file is too heavy to open or archive:
+ * <pre>
+ * report/index.html       summary and one collapsed row per class
+ * report/classes/c*.js    tests of one class, loaded when the class is expanded
+ * </pre>
+ * Screenshots and per-test log files are only fetched when a test is
+ * expanded. Fragments are scripts rather than fetched HTML, so the report
+ * also works when opened from disk. Classes are written in parallel; the
+ * generation time is logged and the page shows how long it took to open and
+ * to load each class.
+ *
+ * Written next to ExtentReport.html with {@code report.mode=sharded} or
+ * {@code both}, or on demand:
+ * <pre>
+ * java -cp ... utils.ShardedReport [outputDir] [reportDir...]
+ * </pre>
+ */
+public class ShardedReport {
+
+    static final String DIR = "report";
+    private static final String CLASSES_DIR = "classes";
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String[] STATUSES = { "INFO", "PASS", "WARNING", "SKIP", "FAIL" };
+
+    public static void main(String[] args) throws IOException {
+        Path output = Paths.get(args.length > 0 ? args[0] : "test-output/" + DIR);
+        List<Path> dirs = new ArrayList<>();
+        for (int i = 1; i < args.length; i++) {
+            dirs.add(Paths.get(args[i]));
+        }
+        if (dirs.isEmpty()) {
+            dirs.add(Paths.get("test-output"));
+        }
+        write(dirs, output);
+    }
+
+    /**
+     * Write index and class fragments for every test logged under the given
+     * report directories.
+     */
+    public static void write(List<Path> reportDirs, Path outputDir) throws IOException {
+        long start = System.currentTimeMillis();
+        Path classesDir = outputDir.resolve(CLASSES_DIR);
+        Files.createDirectories(classesDir);
+        try (Stream<Path> old = Files.list(classesDir)) {
+            for (Path file : (Iterable<Path>) old::iterator) {
+                Files.deleteIfExists(file);
+            }
+        }
+
+        Map<String, List<ReportRenderer.RecordedTest>> byClass = new LinkedHashMap<>();
+        for (ReportRenderer.RecordedTest test : ReportRenderer.load(reportDirs, outputDir.toAbsolutePath())) {
+            byClass.computeIfAbsent(test.testClass == null ? "(no class)" : test.testClass,
+                    key -> new ArrayList<>()).add(test);
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(
+                Math.max(1, Math.min(byClass.size(), Runtime.getRuntime().availableProcessors())));
+        List<Future<ClassSummary>> futures = new ArrayList<>();
+        int index = 0;
+        for (Map.Entry<String, List<ReportRenderer.RecordedTest>> entry : byClass.entrySet()) {
+            String id = "c" + index++;
+            futures.add(pool.submit(() -> writeClass(id, entry.getKey(), entry.getValue(), classesDir)));
+        }
+        List<ClassSummary> classes = new ArrayList<>();
+        try {
+            for (Future<ClassSummary> future : futures) {
+                classes.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while writing the sharded report", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Could not write a report fragment", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+
+        long generationMillis = System.currentTimeMillis() - start;
+        Path indexFile = outputDir.resolve("index.html");
+        Files.writeString(indexFile, index(classes, generationMillis), StandardCharsets.UTF_8);
+        long fragmentBytes = classes.stream().mapToLong(c -> c.bytes).sum();
+        int tests = classes.stream().mapToInt(c -> c.tests).sum();
+        Log.info(String.format("[ShardedReport] %d test(s) in %d class(es) -> %s in %d ms"
+                + " (index %d KB, fragments %d KB)", tests, classes.size(), indexFile,
+                System.currentTimeMillis() - start, Files.size(indexFile) / 1024, fragmentBytes / 1024));
+    }
+
+    // ==================== Class fragments ====================
+
+    private static class ClassSummary {
+        final String id;
+        final String name;
+        final int[] byStatus = new int[STATUSES.length];
+        int tests;
+        long millis;
+        long bytes;
+
+        ClassSummary(String id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+
+    private static ClassSummary writeClass(String id, String name, List<ReportRenderer.RecordedTest> tests,
+            Path classesDir) throws IOException {
+        ClassSummary summary = new ClassSummary(id, name);
+        StringBuilder html = new StringBuilder();
+        for (ReportRenderer.RecordedTest test : tests) {
+            int status = status(test);
+            summary.byStatus[status]++;
+            summary.tests++;
+            summary.millis += test.end - test.start;
+            appendTest(html, test, status);
+        }
+        // reportFragment(id, html): picked up by the index page
+        byte[] script = ("reportFragment(\"" + id + "\", " + MAPPER.writeValueAsString(html.toString()) + ");\n")
+                .getBytes(StandardCharsets.UTF_8);
+        Files.write(classesDir.resolve(id + ".js"), script);
+        summary.bytes = script.length;
+        return summary;
+    }
+
+    /**
+     * Worst status logged for a test, as an index into STATUSES; a test with
+     * only info lines passed, one that did not finish is at least a warning.
+     */
+    private static int status(ReportRenderer.RecordedTest test) {
+        int worst = 1;
+        for (Map<String, Object> event : test.events) {
+            Object status = event.get("status");
+            for (int i = 0; status != null && i < STATUSES.length; i++) {
+                if (STATUSES[i].equals(status)) {
+                    worst = Math.max(worst, i);
+                }
+            }
+        }
+        return test.ended ? worst : Math.max(worst, 2);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void appendTest(StringBuilder html, ReportRenderer.RecordedTest test, int status) {
+        String logFile = logFile(test);
+        html.append("<details class=\"test ").append(STATUSES[status].toLowerCase()).append("\"><summary>")
+                .append("<span class=\"st\">").append(STATUSES[status]).append("</span> ")
+                .append(escape(test.name)).append("<span class=\"dur\">").append(seconds(test.end - test.start))
+                .append("</span></summary><div class=\"body\">");
+        if (test.description != null && !test.description.equals(test.testClass)) {
+            html.append("<p class=\"desc\">").append(escape(test.description)).append("</p>");
+        }
+        html.append("<table>");
+        SimpleDateFormat time = new SimpleDateFormat("HH:mm:ss");
+        for (Map<String, Object> event : test.events) {
+            if ("category".equals(event.get("e"))) {
+                for (String category : (List<String>) event.get("names")) {
+                    html.append("<tr><td></td><td></td><td><span class=\"tag\">").append(escape(category))
+                            .append("</span></td></tr>");
+                }
+                continue;
+            }
+            String details = (String) event.get("details");
+            if (logFile != null && details != null && details.startsWith(Log.REPORT_BLOCK)) {
+                // Linked below from the test's log file
+                continue;
+            }
+            String eventStatus = String.valueOf(event.get("status"));
+            html.append("<tr class=\"").append(eventStatus.toLowerCase()).append("\"><td>")
+                    .append(time.format(new Date(ReportRenderer.number(event.get("ts"))))).append("</td><td>")
+                    .append(eventStatus).append("</td><td>");
+            if (details != null) {
+                // Logged details are HTML, as in the Spark report
+                html.append(details);
+            }
+            if (event.get("trace") != null) {
+                html.append("<pre>").append(escape((String) event.get("trace"))).append("</pre>");
+            }
+            if (event.get("media") != null) {
+                String media = escape((String) event.get("media"));
+                String title = event.get("title") == null ? "" : escape((String) event.get("title"));
+                html.append("<figure><a href=\"").append(media).append("\" target=\"_blank\"><img data-src=\"")
+                        .append(media).append("\" alt=\"").append(title).append("\"></a><figcaption>")
+                        .append(title).append("</figcaption></figure>");
+            }
+            html.append("</td></tr>");
+        }
+        if (!test.ended) {
+            html.append("<tr class=\"warning\"><td></td><td>WARNING</td><td>Test did not finish: the run stopped"
+                    + " before it completed</td></tr>");
+        }
+        html.append("</table>");
+        if (logFile != null) {
+            html.append("<details class=\"log\"><summary>Log</summary><iframe data-src=\"").append(logFile)
+                    .append("\"></iframe></details>");
+        }
+        html.append("</div></details>");
+    }
+
+    /**
+     * Path of the test's log file ({@link Log}) relative to the output, or
+     * null when there is none.
+     */
+    private static String logFile(ReportRenderer.RecordedTest test) {
+        if (test.testClass == null) {
+            return null;
+        }
+        String method = test.name.endsWith(" [retry]") ? test.name.substring(0, test.name.length() - 8) : test.name;
+        String file = test.testClass + "." + method + ".log";
+        return Files.isRegularFile(test.reportDir.resolve("logs").resolve(file))
+                ? test.pathPrefix + "logs/" + file : null;
+    }
+
+    // ==================== Index ====================
+
+    private static String index(List<ClassSummary> classes, long generationMillis) {
+        int[] totals = new int[STATUSES.length];
+        int tests = 0;
+        long millis = 0;
+        for (ClassSummary summary : classes) {
+            for (int i = 0; i < totals.length; i++) {
+                totals[i] += summary.byStatus[i];
+            }
+            tests += summary.tests;
+            millis += summary.millis;
+        }
+
+        StringBuilder html = new StringBuilder();
+        html.append("<!DOCTYPE html>\n<html><head><meta charset=\"UTF-8\">")
+                .append("<title>RCS Automation Test Report</title>\n<style>\n").append(CSS)
+                .append("</style></head><body>\n")
+                .append("<h1>RCS Automation Execution Summary</h1>\n<p class=\"meta\">")
+                .append(new SimpleDateFormat("MMM dd, yyyy hh:mm:ss a").format(new Date())).append(" &middot; ")
+                .append(tests).append(" test(s) in ").append(classes.size()).append(" class(es) &middot; ")
+                .append(totals[1] + totals[0]).append(" passed, ").append(totals[4]).append(" failed, ")
+                .append(totals[3]).append(" skipped, ").append(totals[2]).append(" with warnings &middot; ")
+                .append(seconds(millis)).append(" test time</p>\n");
+        for (ClassSummary summary : classes) {
+            int worst = 1;
+            for (int i = 2; i < STATUSES.length; i++) {
+                worst = summary.byStatus[i] > 0 ? i : worst;
+            }
+            html.append("<details class=\"cls ").append(STATUSES[worst].toLowerCase()).append("\" id=\"")
+                    .append(summary.id).append("\" data-fragment=\"").append(CLASSES_DIR).append('/')
+                    .append(summary.id).append(".js\"><summary><span class=\"st\">").append(STATUSES[worst])
+                    .append("</span> ").append(escape(summary.name)).append(" <span class=\"counts\">")
+                    .append(summary.tests).append(" test(s)");
+            if (summary.byStatus[4] > 0) {
+                html.append(", ").append(summary.byStatus[4]).append(" failed");
+            }
+            if (summary.byStatus[3] > 0) {
+                html.append(", ").append(summary.byStatus[3]).append(" skipped");
+            }
+            html.append("</span><span class=\"dur\">").append(seconds(summary.millis))
+                    .append("</span><span class=\"load\"></span></summary><div class=\"tests\">Loading...</div>")
+                    .append("</details>\n");
+        }
+        html.append("<p class=\"meta\">Generated in ").append(generationMillis)
+                .append(" ms &middot; <span id=\"opened\"></span></p>\n<script>\n").append(JS)
+                .append("</script></body></html>\n");
+        return html.toString();
+    }
+
+    private static final String CSS = ""
+            + "body { font-family: sans-serif; background: #1e1e2a; color: #ddd; margin: 24px; }\n"
+            + "h1 { font-size: 24px; } .meta { color: #999; }\n"
+            + "details { margin: 4px 0; } summary { cursor: pointer; padding: 8px 12px; border-radius: 6px; }\n"
+            + "details.cls > summary { background: #2a2a3a; font-weight: bold; }\n"
+            + "details.test { margin-left: 24px; } details.test > summary { background: #252532; }\n"
+            + ".st { display: inline-block; min-width: 70px; font-size: 12px; }\n"
+            + ".pass .st, .info .st { color: #28a745; } .fail .st { color: #dc3545; }\n"
+            + ".skip .st, .warning .st { color: #ffc107; }\n"
+            + ".dur, .load { float: right; color: #999; margin-left: 16px; font-weight: normal; }\n"
+            + ".counts { color: #aaa; font-weight: normal; }\n"
+            + ".body { margin-left: 24px; } table { border-collapse: collapse; width: 100%; }\n"
+            + "td { padding: 4px 8px; vertical-align: top; border-bottom: 1px solid #333; }\n"
+            + "td:first-child, td:nth-child(2) { white-space: nowrap; color: #999; width: 1%; }\n"
+            + "tr.fail td:nth-child(2) { color: #dc3545; } tr.pass td:nth-child(2) { color: #28a745; }\n"
+            + "pre { white-space: pre-wrap; font-size: 12px; } .tag { background: #444; padding: 2px 6px; }\n"
+            + "img { max-width: 100%; border: 2px solid #555; border-radius: 6px; } figure { margin: 8px 0; }\n"
+            + "iframe { width: 100%; height: 400px; background: #fff; border: none; }\n";
+
+    // Classes load their fragment on first expand; images and logs load when a test is expanded
+    private static final String JS = "function reportFragment(id, html) {\n"
+            + "  var cls = document.getElementById(id);\n"
+            + "  cls.querySelector('.tests').innerHTML = html;\n"
+            + "  cls.querySelector('.load').textContent = 'loaded in '\n"
+            + "      + Math.round(performance.now() - cls.dataset.requested) + ' ms';\n"
+            + "}\n"
+            + "document.addEventListener('toggle', function (e) {\n"
+            + "  var d = e.target;\n"
+            + "  if (!d.open) return;\n"
+            + "  if (d.classList.contains('cls') && !d.dataset.requested) {\n"
+            + "    d.dataset.requested = performance.now();\n"
+            + "    var script = document.createElement('script');\n"
+            + "    script.src = d.dataset.fragment;\n"
+            + "    document.body.appendChild(script);\n"
+            + "  }\n"
+            + "  d.querySelectorAll(':scope > .body > table [data-src], :scope > iframe[data-src]')\n"
+            + "      .forEach(function (m) { m.src = m.dataset.src; m.removeAttribute('data-src'); });\n"
+            + "}, true);\n"
+            + "window.addEventListener('load', function () {\n"
+            + "  document.getElementById('opened').textContent = 'opened in '\n"
+            + "      + Math.round(performance.now()) + ' ms';\n"
+            + "});\n";
+
+    private static String seconds(long millis) {
+        return String.format("%.1f s", millis / 1000.0);
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+}
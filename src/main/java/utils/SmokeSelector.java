@@ -0,0 +1,436 @@
+package utils;
+
+import base.Fixture;
+import base.RunAs;
+import enums.UserRole;
+import listeners.DurationScheduler;
+import org.testng.annotations.Test;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlInclude;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+import org.testng.xml.internal.Parser;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+/**
+ * Picks the test methods that cover the most within a time budget and writes
+ * a suite with only those.
+ *
+ * Coverage is what a method exercises, read from the compiled classes with
+ * {@link ClassFileReader}: the page objects it reaches (directly or through
+ * helpers), the page-object methods it calls ("features") and the roles it
+ * runs as ({@link RunAs}, {@link Fixture}, or the LoginPage login it calls).
+ * Durations come from {@link DurationHistory}; methods that never ran get
+ * their share of the class estimate.
+ *
+ * Selection is greedy on new coverage per estimated second. A method is only
+ * taken together with what it needs: its {@code dependsOnMethods} closure
+ * and, in chained classes (no {@link Fixture}), every step that runs before
+ * it, since each step continues from the state the previous ones left; their
+ * durations count towards the pick's cost. A pick is skipped when the predicted wall-clock time on the
+ * suite's thread count would exceed the budget. {@code dependsOnGroups} is not
+ * followed; no test here uses it.
+ *
+ * Usage: {@code mvn test -Psmoke -Dsmoke.budget=10} (minutes), or run this
+ * class with {@code <suite.xml> <output.xml> <budget-minutes>} after compiling.
+ */
+public class SmokeSelector {
+
+    // A new role or page is worth more than one more call on a page already covered
+    private static final int ROLE_WEIGHT = 5;
+    private static final int PAGE_WEIGHT = 3;
+    private static final int FEATURE_WEIGHT = 1;
+    // Share of a class estimate spent in setup (browser, login) when methods have no history
+    private static final double SETUP_SHARE = 0.1;
+
+    /** One test method with what it covers and costs. */
+    private static class Candidate {
+        final String className;
+        final String name;
+        final int priority;
+        final Set<String> coverage = new TreeSet<>();
+        final Set<Candidate> needs = new LinkedHashSet<>();
+        long millis;
+
+        Candidate(String className, String name, int priority) {
+            this.className = className;
+            this.name = name;
+            this.priority = priority;
+        }
+
+        @Override
+        public String toString() {
+            return className.substring(className.lastIndexOf('.') + 1) + "." + name;
+        }
+    }
+
+    private final Map<String, ClassFileReader.ClassInfo> classes = new HashMap<>();
+    private final Map<String, List<Candidate>> candidates = new LinkedHashMap<>();
+    private final Map<String, Long> setupMillis = new HashMap<>();
+
+    public static void main(String[] args) throws Exception {
+        String suiteFile = args.length > 0 ? args[0] : "testng.xml";
+        String outputFile = args.length > 1 ? args[1] : "target/smoke/testng-smoke.xml";
+        double budgetMinutes = Double.parseDouble(args.length > 2 ? args[2] : "10");
+        new SmokeSelector().run(suiteFile, outputFile, (long) (budgetMinutes * 60_000));
+    }
+
+    public void run(String suiteFile, String outputFile, long budgetMillis) throws IOException {
+        XmlSuite suite = new Parser(suiteFile).parseToList().get(0);
+        readClasses();
+        if (classes.isEmpty()) {
+            throw new IllegalStateException("No compiled classes under target/ (compile first)");
+        }
+        DurationHistory history = DurationHistory.get();
+        for (XmlTest test : suite.getTests()) {
+            for (XmlClass xmlClass : test.getXmlClasses()) {
+                loadCandidates(xmlClass.getName(), history);
+            }
+        }
+
+        Set<Candidate> selected = select(budgetMillis, suite.getThreadCount());
+
+        Path output = Paths.get(outputFile);
+        if (output.toAbsolutePath().getParent() != null) {
+            Files.createDirectories(output.toAbsolutePath().getParent());
+        }
+        Files.write(output, filterSuite(suite, selected).toXml().getBytes(StandardCharsets.UTF_8));
+
+        List<Candidate> all = new ArrayList<>();
+        candidates.values().forEach(all::addAll);
+        System.out.println("[Smoke] Selected " + selected.size() + " of " + all.size() + " test method(s) in "
+                + classesOf(selected).size() + " class(es) for a " + budgetMillis / 1000 + "s budget");
+        System.out.println("[Smoke] Predicted runtime: " + predictMakespan(selected, suite.getThreadCount()) / 1000
+                + "s on " + suite.getThreadCount() + " thread(s) (whole suite: "
+                + predictMakespan(new HashSet<>(all), suite.getThreadCount()) / 1000 + "s)");
+        Set<String> covered = coverageOf(selected);
+        Set<String> possible = coverageOf(all);
+        for (String kind : new String[] { "role", "page", "feature" }) {
+            System.out.println("[Smoke] " + kind + "s covered: " + count(covered, kind) + "/" + count(possible, kind)
+                    + (kind.equals("feature") ? "" : missing(covered, possible, kind)));
+        }
+        System.out.printf("[Smoke] Weighted coverage: %.0f%%%n",
+                weight(covered) * 100.0 / Math.max(1, weight(possible)));
+        System.out.println("[Smoke] Suite written to " + output);
+    }
+
+    // ==================== Coverage ====================
+
+    private void readClasses() throws IOException {
+        for (Path dir : ImpactAnalyzer.CLASS_DIRS) {
+            if (!Files.isDirectory(dir)) {
+                continue;
+            }
+            List<Path> files = new ArrayList<>();
+            try (Stream<Path> walk = Files.walk(dir)) {
+                walk.filter(f -> f.toString().endsWith(".class")).forEach(files::add);
+            }
+            for (Path file : files) {
+                ClassFileReader.ClassInfo info = ClassFileReader.read(file);
+                classes.put(info.name, info);
+            }
+        }
+    }
+
+    private void loadCandidates(String className, DurationHistory history) {
+        Class<?> testClass;
+        try {
+            testClass = Class.forName(className, false, SmokeSelector.class.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            System.err.println("[Smoke] Skipping " + className + ": not on the classpath");
+            return;
+        }
+
+        Map<String, Candidate> byName = new LinkedHashMap<>();
+        Map<Candidate, String[]> dependsOn = new HashMap<>();
+        for (Method method : testClass.getMethods()) {
+            Test test = method.getAnnotation(Test.class);
+            if (test == null || !test.enabled()) {
+                continue;
+            }
+            Candidate candidate = new Candidate(className, method.getName(), test.priority());
+            reach(className, method.getName(), candidate.coverage, new HashSet<>());
+            UserRole role = roleOf(testClass, method);
+            if (role != null) {
+                candidate.coverage.add("role:" + role);
+            }
+            byName.put(candidate.name, candidate);
+            dependsOn.put(candidate, test.dependsOnMethods());
+        }
+        if (byName.isEmpty()) {
+            return;
+        }
+
+        // Durations: history per method, otherwise a share of the class estimate
+        long classMillis = history.estimateClassMillis(className);
+        long knownMethods = 0;
+        boolean allKnown = true;
+        for (Candidate candidate : byName.values()) {
+            long known = history.getMethodMillis(className, candidate.name);
+            candidate.millis = known;
+            allKnown &= known >= 0;
+            knownMethods += Math.max(0, known);
+        }
+        long setup = allKnown && history.getClassMillis(className) >= 0
+                ? Math.max(0, classMillis - knownMethods)
+                : (long) (classMillis * SETUP_SHARE);
+        for (Candidate candidate : byName.values()) {
+            if (candidate.millis < 0) {
+                candidate.millis = (long) (classMillis * (1 - SETUP_SHARE) / byName.size());
+            }
+        }
+        setupMillis.put(className, setup);
+
+        // Prerequisites: dependsOnMethods (names or patterns), and in chained classes every earlier
+        // step in TestNG's order (priority, then name)
+        Comparator<Candidate> runOrder = Comparator.comparingInt((Candidate c) -> c.priority)
+                .thenComparing(c -> c.name);
+        boolean chained = !testClass.isAnnotationPresent(Fixture.class);
+        for (Candidate candidate : byName.values()) {
+            if (chained) {
+                for (Candidate other : byName.values()) {
+                    if (runOrder.compare(other, candidate) < 0) {
+                        candidate.needs.add(other);
+                    }
+                }
+            }
+            for (String dependency : dependsOn.get(candidate)) {
+                String name = dependency.substring(dependency.lastIndexOf('.') + 1);
+                for (Candidate other : byName.values()) {
+                    if (other.name.equals(name) || other.name.matches(name)) {
+                        candidate.needs.add(other);
+                    }
+                }
+            }
+        }
+        candidates.put(className, new ArrayList<>(byName.values()));
+    }
+
+    /**
+     * Add the pages, page-object methods and logins reachable from a method,
+     * following calls into project classes (helpers, pages, base classes).
+     */
+    private void reach(String owner, String method, Set<String> coverage, Set<String> visited) {
+        for (ClassFileReader.ClassInfo info = classes.get(owner); info != null; info = classes.get(info.superName)) {
+            Set<String> used = info.methodReferences.get(method);
+            if (used == null) {
+                continue; // Inherited: look in the superclass
+            }
+            if (!visited.add(info.name + "#" + method)) {
+                return;
+            }
+            for (String reference : used) {
+                int hash = reference.indexOf('#');
+                String target = hash < 0 ? reference : reference.substring(0, hash);
+                if (!classes.containsKey(target)) {
+                    continue; // JDK, Selenium, TestNG
+                }
+                String top = target.contains("$") ? target.substring(0, target.indexOf('$')) : target;
+                String page = top.startsWith("pages.") ? top.substring("pages.".length()) : null;
+                if (page != null) {
+                    coverage.add("page:" + page);
+                }
+                if (hash < 0) {
+                    if (target.contains("$")) {
+                        // Anonymous or nested class created here: its code runs on behalf of this method
+                        for (String nestedMethod : classes.get(target).methodReferences.keySet()) {
+                            reach(target, nestedMethod, coverage, visited);
+                        }
+                    }
+                    continue;
+                }
+                String called = reference.substring(hash + 1);
+                if (page != null && !called.startsWith("<")) {
+                    coverage.add("feature:" + page + "." + called);
+                    if (page.equals("LoginPage") && called.startsWith("loginWith")) {
+                        for (UserRole role : UserRole.values()) {
+                            if (called.toUpperCase().contains(role.name())) {
+                                coverage.add("role:" + role);
+                            }
+                        }
+                    }
+                }
+                reach(target, called, coverage, visited);
+            }
+            return;
+        }
+    }
+
+    private static UserRole roleOf(Class<?> testClass, Method method) {
+        Fixture fixture = method.getAnnotation(Fixture.class);
+        if (fixture == null) {
+            fixture = testClass.getAnnotation(Fixture.class);
+        }
+        if (fixture != null) {
+            return fixture.role();
+        }
+        RunAs runAs = testClass.getAnnotation(RunAs.class);
+        return runAs == null ? null : runAs.role();
+    }
+
+    // ==================== Selection ====================
+
+    /**
+     * Greedy budgeted coverage: repeatedly take the method (with its
+     * prerequisites) with the most new weighted coverage per second that still
+     * fits the budget.
+     */
+    private Set<Candidate> select(long budgetMillis, int threads) {
+        Set<Candidate> selected = new LinkedHashSet<>();
+        Set<String> covered = new HashSet<>();
+        while (true) {
+            Set<Candidate> bestPick = null;
+            double bestRatio = 0;
+            for (List<Candidate> classCandidates : candidates.values()) {
+                for (Candidate candidate : classCandidates) {
+                    if (selected.contains(candidate)) {
+                        continue;
+                    }
+                    Set<Candidate> pick = closure(candidate);
+                    pick.removeAll(selected);
+                    Set<String> gained = coverageOf(pick);
+                    gained.removeAll(covered);
+                    int gain = weight(gained);
+                    if (gain == 0) {
+                        continue;
+                    }
+                    Set<Candidate> after = new HashSet<>(selected);
+                    after.addAll(pick);
+                    long cost = predictWork(after) - predictWork(selected);
+                    double ratio = gain / (double) Math.max(1, cost);
+                    if (ratio > bestRatio && predictMakespan(after, threads) <= budgetMillis) {
+                        bestRatio = ratio;
+                        bestPick = pick;
+                    }
+                }
+            }
+            if (bestPick == null) {
+                return selected;
+            }
+            selected.addAll(bestPick);
+            covered.addAll(coverageOf(bestPick));
+        }
+    }
+
+    private static Set<Candidate> closure(Candidate candidate) {
+        Set<Candidate> closure = new LinkedHashSet<>();
+        List<Candidate> pending = new ArrayList<>();
+        pending.add(candidate);
+        while (!pending.isEmpty()) {
+            Candidate next = pending.remove(pending.size() - 1);
+            if (closure.add(next)) {
+                pending.addAll(next.needs);
+            }
+        }
+        return closure;
+    }
+
+    /**
+     * Estimated duration per class: its setup once, plus the selected methods.
+     */
+    private Map<String, Long> classMillis(Set<Candidate> selected) {
+        Map<String, Long> perClass = new HashMap<>();
+        for (Candidate candidate : selected) {
+            perClass.merge(candidate.className, candidate.millis, Long::sum);
+        }
+        perClass.replaceAll((className, millis) -> millis + setupMillis.get(className));
+        return perClass;
+    }
+
+    private long predictWork(Set<Candidate> selected) {
+        return classMillis(selected).values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * Wall-clock estimate with classes handed out longest first, as
+     * {@link DurationScheduler} does.
+     */
+    private long predictMakespan(Set<Candidate> selected, int threads) {
+        List<Long> durations = new ArrayList<>(classMillis(selected).values());
+        durations.sort(Comparator.reverseOrder());
+        return DurationScheduler.simulateMakespan(durations, threads);
+    }
+
+    private static Set<String> coverageOf(Iterable<Candidate> methods) {
+        Set<String> coverage = new HashSet<>();
+        for (Candidate candidate : methods) {
+            coverage.addAll(candidate.coverage);
+        }
+        return coverage;
+    }
+
+    private static int weight(Set<String> coverage) {
+        int weight = 0;
+        for (String unit : coverage) {
+            weight += unit.startsWith("role:") ? ROLE_WEIGHT : unit.startsWith("page:") ? PAGE_WEIGHT : FEATURE_WEIGHT;
+        }
+        return weight;
+    }
+
+    private static long count(Set<String> coverage, String kind) {
+        return coverage.stream().filter(unit -> unit.startsWith(kind + ":")).count();
+    }
+
+    private static String missing(Set<String> covered, Set<String> possible, String kind) {
+        Set<String> missing = new TreeSet<>();
+        for (String unit : possible) {
+            if (unit.startsWith(kind + ":") && !covered.contains(unit)) {
+                missing.add(unit.substring(kind.length() + 1));
+            }
+        }
+        return missing.isEmpty() ? "" : " (missing " + missing + ")";
+    }
+
+    private static Set<String> classesOf(Set<Candidate> selected) {
+        Set<String> names = new TreeSet<>();
+        selected.forEach(candidate -> names.add(candidate.className));
+        return names;
+    }
+
+    // ==================== Suite ====================
+
+    /**
+     * The suite with only the selected methods, in their original blocks and
+     * priority order; blocks left empty are dropped.
+     */
+    private static XmlSuite filterSuite(XmlSuite original, Set<Candidate> selected) {
+        XmlSuite copy = original.shallowCopy();
+        copy.setTests(new ArrayList<>());
+        copy.setName(original.getName() + " [smoke]");
+        for (XmlTest test : original.getTests()) {
+            List<XmlClass> classes = new ArrayList<>();
+            for (XmlClass xmlClass : test.getXmlClasses()) {
+                List<XmlInclude> includes = new ArrayList<>();
+                selected.stream().filter(c -> c.className.equals(xmlClass.getName()))
+                        .sorted(Comparator.comparingInt((Candidate c) -> c.priority).thenComparing(c -> c.name))
+                        .forEach(c -> includes.add(new XmlInclude(c.name)));
+                if (!includes.isEmpty()) {
+                    XmlClass filtered = new XmlClass(xmlClass.getName(), classes.size(), false);
+                    filtered.setIncludedMethods(includes);
+                    classes.add(filtered);
+                }
+            }
+            if (!classes.isEmpty()) {
+                ShardRunner.copyTest(copy, test).setXmlClasses(classes);
+            }
+        }
+        return copy;
+    }
+}
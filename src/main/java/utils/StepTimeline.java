@@ -0,0 +1,599 @@
+package utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Where the time of each test goes: per step, how much was spent navigating,
+ * finding elements, interacting, running scripts, in explicit waits and in
+ * sleeps.
+ *
+ * WebDriver and WebElement commands are timed exactly by the driver
+ * decorator installed in {@code DriverFactory}. Explicit waits
+ * ({@code FluentWait.until}) and {@code Thread.sleep} are found by sampling
+ * the stacks of the test threads every {@code timeline.sampleMillis}, which
+ * needs no change to the pages; the page-object method that waited or slept
+ * is the first {@code pages.}, {@code helpers.} or {@code tests.} frame.
+ * Commands issued inside an explicit wait count as waiting.
+ *
+ * Output:
+ * <ul>
+ * <li>a step table with a wait/act bar in each test of the report;</li>
+ * <li>every command, wait and sleep in {@code <report.dir>/timeline.jsonl};</li>
+ * <li>a Gantt view of all tests across worker threads and the top time sinks
+ * in {@code <report.dir>/timeline.html}.</li>
+ * </ul>
+ * On by default; {@code timeline.enabled=false} turns it off.
+ */
+public class StepTimeline {
+
+    public enum Category {
+        NAVIGATION("Navigation", "#4e79a7"),
+        FIND("Find", "#59a14f"),
+        INTERACTION("Interaction", "#f28e2b"),
+        SCRIPT("Script", "#b07aa1"),
+        OTHER("Other command", "#76b7b2"),
+        WAIT("Explicit wait", "#e15759"),
+        SLEEP("Sleep", "#edc948");
+
+        final String label;
+        final String color;
+
+        Category(String label, String color) {
+            this.label = label;
+            this.color = color;
+        }
+    }
+
+    private static final String[] OWNER_PACKAGES = { "pages.", "helpers.", "tests." };
+    private static final long EPOCH_OFFSET_NANOS = System.currentTimeMillis() * 1_000_000L - System.nanoTime();
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final ThreadLocal<Recording> CURRENT = new ThreadLocal<>();
+    private static final Map<Long, Recording> ACTIVE = new ConcurrentHashMap<>();
+    private static final List<TestSummary> SUMMARIES = new CopyOnWriteArrayList<>();
+    // "owner|category" -> {nanos, occurrences}
+    private static final Map<String, long[]> SINKS = new ConcurrentHashMap<>();
+
+    private static Thread sampler;
+    private static Writer segmentLog;
+
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(ConfigReader.get("timeline.enabled", "true"));
+    }
+
+    // ==================== Recording ====================
+
+    /** Start timing a test on the current thread. */
+    public static void startTest(String name) {
+        if (!isEnabled()) {
+            return;
+        }
+        startSampler();
+        Recording recording = new Recording(name, Thread.currentThread().getName());
+        CURRENT.set(recording);
+        ACTIVE.put(Thread.currentThread().getId(), recording);
+    }
+
+    /** A new step of the current test, from {@code logStep}. */
+    public static void step(String description) {
+        Recording recording = CURRENT.get();
+        if (recording != null) {
+            recording.steps.add(new Step(description, System.nanoTime()));
+        }
+    }
+
+    /** A timed WebDriver or WebElement command. */
+    public static void command(String name, Category category, long startNanos, long endNanos) {
+        Recording recording = CURRENT.get();
+        if (recording != null) {
+            recording.add(new Segment(category, name, null, startNanos, endNanos));
+        }
+    }
+
+    /**
+     * Category of a command from its name; the target tells navigation
+     * ({@code navigate().to()}) from other calls with the same name.
+     */
+    public static Category categorize(Object target, String method) {
+        switch (method) {
+        case "get":
+        case "to":
+        case "back":
+        case "forward":
+        case "refresh":
+            return target instanceof org.openqa.selenium.WebDriver
+                    || target instanceof org.openqa.selenium.WebDriver.Navigation ? Category.NAVIGATION
+                            : Category.OTHER;
+        case "findElement":
+        case "findElements":
+            return Category.FIND;
+        case "click":
+        case "sendKeys":
+        case "clear":
+        case "submit":
+            return Category.INTERACTION;
+        case "executeScript":
+        case "executeAsyncScript":
+            return Category.SCRIPT;
+        default:
+            return Category.OTHER;
+        }
+    }
+
+    /**
+     * Stop timing the current test, add its step table to the report and
+     * log its segments.
+     */
+    public static void endTest(ReportTest test) {
+        Recording recording = CURRENT.get();
+        if (recording == null) {
+            return;
+        }
+        CURRENT.remove();
+        ACTIVE.remove(Thread.currentThread().getId());
+        long end = System.nanoTime();
+        recording.closeSample(end);
+
+        TestSummary summary = recording.summarize(end);
+        SUMMARIES.add(summary);
+        if (test != null) {
+            test.info(summary.stepTable());
+        }
+        writeSegments(recording);
+    }
+
+    // ==================== Sampling ====================
+
+    private static synchronized void startSampler() {
+        if (sampler != null) {
+            return;
+        }
+        long interval = Long.parseLong(ConfigReader.get("timeline.sampleMillis", "20"));
+        sampler = new Thread(() -> {
+            while (true) {
+                try {
+                    Thread.sleep(interval);
+                } catch (InterruptedException e) {
+                    return;
+                }
+                sample();
+            }
+        }, "timeline-sampler");
+        sampler.setDaemon(true);
+        sampler.start();
+    }
+
+    private static void sample() {
+        if (ACTIVE.isEmpty()) {
+            return;
+        }
+        long[] ids = ACTIVE.keySet().stream().mapToLong(Long::longValue).toArray();
+        // One safepoint for all test threads
+        ThreadInfo[] infos = THREADS.getThreadInfo(ids, 64);
+        long now = System.nanoTime();
+        for (int i = 0; i < ids.length; i++) {
+            Recording recording = ACTIVE.get(ids[i]);
+            if (recording == null || infos[i] == null) {
+                continue;
+            }
+            StackTraceElement[] stack = infos[i].getStackTrace();
+            Category category = null;
+            if (stack.length > 0 && "java.lang.Thread".equals(stack[0].getClassName())
+                    && stack[0].getMethodName().startsWith("sleep")) {
+                category = Category.SLEEP;
+            }
+            for (StackTraceElement frame : stack) {
+                if ("org.openqa.selenium.support.ui.FluentWait".equals(frame.getClassName())
+                        && "until".equals(frame.getMethodName())) {
+                    category = Category.WAIT;
+                    break;
+                }
+            }
+            recording.sample(category, category == null ? null : owner(stack), now);
+        }
+    }
+
+    /** First page-object, helper or test frame, as {@code Class.method}. */
+    static String owner(StackTraceElement[] stack) {
+        for (String prefix : OWNER_PACKAGES) {
+            for (StackTraceElement frame : stack) {
+                if (frame.getClassName().startsWith(prefix)) {
+                    String className = frame.getClassName();
+                    className = className.substring(className.lastIndexOf('.') + 1);
+                    int nested = className.indexOf('$');
+                    return (nested > 0 ? className.substring(0, nested) : className) + "."
+                            + methodName(frame.getMethodName());
+                }
+            }
+        }
+        return "(framework)";
+    }
+
+    /** {@code lambda$validate$3} -> {@code validate}. */
+    private static String methodName(String method) {
+        if (method.startsWith("lambda$")) {
+            int end = method.indexOf('$', 7);
+            return end > 7 ? method.substring(7, end) : method;
+        }
+        return method;
+    }
+
+    // ==================== Model ====================
+
+    private static class Step {
+        final String description;
+        final long start;
+
+        Step(String description, long start) {
+            this.description = description;
+            this.start = start;
+        }
+    }
+
+    private static class Segment {
+        final Category category;
+        final String name;
+        final String owner;
+        final long start;
+        final long end;
+
+        Segment(Category category, String name, String owner, long start, long end) {
+            this.category = category;
+            this.name = name;
+            this.owner = owner;
+            this.start = start;
+            this.end = end;
+        }
+    }
+
+    private static class Recording {
+        final String name;
+        final String thread;
+        final long start = System.nanoTime();
+        final List<Step> steps = new ArrayList<>();
+        final List<Segment> segments = new ArrayList<>();
+        // Interval the sampler is currently extending; touched by the sampler only until endTest
+        Category sampledCategory;
+        String sampledOwner;
+        long sampledStart;
+
+        Recording(String name, String thread) {
+            this.name = name;
+            this.thread = thread;
+        }
+
+        synchronized void add(Segment segment) {
+            segments.add(segment);
+        }
+
+        synchronized void sample(Category category, String owner, long now) {
+            if (category == sampledCategory && (owner == null ? sampledOwner == null : owner.equals(sampledOwner))) {
+                return;
+            }
+            closeSample(now);
+            sampledCategory = category;
+            sampledOwner = owner;
+            sampledStart = now;
+        }
+
+        synchronized void closeSample(long now) {
+            if (sampledCategory != null) {
+                segments.add(new Segment(sampledCategory, sampledCategory == Category.SLEEP ? "Thread.sleep"
+                        : "FluentWait.until", sampledOwner, sampledStart, now));
+                sink(sampledOwner, sampledCategory, now - sampledStart);
+            }
+            sampledCategory = null;
+            sampledOwner = null;
+        }
+
+        /**
+         * Totals per step and category. Commands that ran inside an explicit
+         * wait are part of the wait.
+         */
+        synchronized TestSummary summarize(long end) {
+            segments.sort(Comparator.comparingLong(s -> s.start));
+            List<Segment> waits = new ArrayList<>();
+            for (Segment segment : segments) {
+                if (segment.category == Category.WAIT) {
+                    waits.add(segment);
+                }
+            }
+            List<Step> allSteps = new ArrayList<>();
+            allSteps.add(new Step("Before the first step", start));
+            allSteps.addAll(steps);
+            long[][] totals = new long[allSteps.size()][Category.values().length];
+            for (Segment segment : segments) {
+                if (segment.category != Category.WAIT && segment.category != Category.SLEEP
+                        && insideAny(segment, waits)) {
+                    continue;
+                }
+                totals[stepAt(allSteps, segment.start)][segment.category.ordinal()] += segment.end - segment.start;
+            }
+            long[] stepDurations = new long[allSteps.size()];
+            for (int i = 0; i < allSteps.size(); i++) {
+                long stepEnd = i + 1 < allSteps.size() ? allSteps.get(i + 1).start : end;
+                stepDurations[i] = stepEnd - allSteps.get(i).start;
+            }
+            return new TestSummary(name, thread, start, end, allSteps, stepDurations, totals);
+        }
+
+        private static boolean insideAny(Segment segment, List<Segment> waits) {
+            for (Segment wait : waits) {
+                if (segment.start >= wait.start && segment.start < wait.end) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static int stepAt(List<Step> allSteps, long time) {
+            int index = 0;
+            for (int i = 1; i < allSteps.size() && allSteps.get(i).start <= time; i++) {
+                index = i;
+            }
+            return index;
+        }
+    }
+
+    private static void sink(String owner, Category category, long nanos) {
+        long[] sink = SINKS.computeIfAbsent(owner + "|" + category.name(), key -> new long[2]);
+        synchronized (sink) {
+            sink[0] += nanos;
+            sink[1]++;
+        }
+    }
+
+    private static class TestSummary {
+        final String name;
+        final String thread;
+        final long start;
+        final long end;
+        final List<Step> steps;
+        final long[] stepDurations;
+        final long[][] totals;
+
+        TestSummary(String name, String thread, long start, long end, List<Step> steps, long[] stepDurations,
+                long[][] totals) {
+            this.name = name;
+            this.thread = thread;
+            this.start = start;
+            this.end = end;
+            this.steps = steps;
+            this.stepDurations = stepDurations;
+            this.totals = totals;
+        }
+
+        long[] testTotals() {
+            long[] sum = new long[Category.values().length];
+            for (long[] step : totals) {
+                for (int c = 0; c < sum.length; c++) {
+                    sum[c] += step[c];
+                }
+            }
+            return sum;
+        }
+
+        /** HTML step table for the report. */
+        String stepTable() {
+            StringBuilder html = new StringBuilder("<details><summary><b>Timeline</b> ")
+                    .append(seconds(end - start)).append(" s: ").append(breakdown(testTotals(), end - start))
+                    .append("</summary><table style='width:100%;font-size:12px'>")
+                    .append("<tr><th>Step</th><th>Time</th><th style='width:40%'>Wait / act</th><th>Wait</th>"
+                            + "<th>Sleep</th><th>Commands</th></tr>");
+            for (int i = 0; i < steps.size(); i++) {
+                if (i == 0 && stepDurations[0] < 1_000_000) {
+                    continue;
+                }
+                long[] step = totals[i];
+                long commands = 0;
+                for (Category category : Category.values()) {
+                    if (category != Category.WAIT && category != Category.SLEEP) {
+                        commands += step[category.ordinal()];
+                    }
+                }
+                html.append("<tr><td>").append(i == 0 ? "" : i + ". ").append(escape(strip(steps.get(i).description)))
+                        .append("</td><td>").append(seconds(stepDurations[i])).append(" s</td><td>")
+                        .append(bar(step, stepDurations[i])).append("</td><td>")
+                        .append(seconds(step[Category.WAIT.ordinal()])).append("</td><td>")
+                        .append(seconds(step[Category.SLEEP.ordinal()])).append("</td><td>")
+                        .append(seconds(commands)).append("</td></tr>");
+            }
+            return html.append("</table>").append(legend()).append("</details>").toString();
+        }
+    }
+
+    // ==================== Output ====================
+
+    private static synchronized void writeSegments(Recording recording) {
+        try {
+            if (segmentLog == null) {
+                segmentLog = Files.newBufferedWriter(ReportLog.reportDir().resolve("timeline.jsonl"),
+                        StandardCharsets.UTF_8);
+            }
+            for (Segment segment : recording.segments) {
+                Map<String, Object> line = new LinkedHashMap<>();
+                line.put("test", recording.name);
+                line.put("thread", recording.thread);
+                line.put("category", segment.category.name());
+                line.put("name", segment.name);
+                if (segment.owner != null) {
+                    line.put("owner", segment.owner);
+                }
+                line.put("start", epochMillis(segment.start));
+                line.put("ms", (segment.end - segment.start) / 1_000_000.0);
+                segmentLog.write(MAPPER.writeValueAsString(line));
+                segmentLog.write('\n');
+            }
+            segmentLog.flush();
+        } catch (IOException e) {
+            Log.error("[Timeline] Could not write timeline segments: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Write the suite Gantt view and the top time sinks, and print the top
+     * sinks.
+     */
+    public static void writeSuiteTimeline() {
+        if (SUMMARIES.isEmpty()) {
+            return;
+        }
+        List<String[]> sinks = topSinks(15);
+        Log.info("[Timeline] Top time sinks (waiting and sleeping):");
+        for (int i = 0; i < Math.min(5, sinks.size()); i++) {
+            String[] sink = sinks.get(i);
+            Log.info("[Timeline]   " + sink[0] + " " + sink[1] + ": " + sink[2] + " s in " + sink[3]
+                    + " occurrence(s)");
+        }
+
+        long suiteStart = Long.MAX_VALUE;
+        long suiteEnd = 0;
+        Map<String, List<TestSummary>> byThread = new TreeMap<>();
+        long[] suiteTotals = new long[Category.values().length];
+        for (TestSummary summary : SUMMARIES) {
+            suiteStart = Math.min(suiteStart, summary.start);
+            suiteEnd = Math.max(suiteEnd, summary.end);
+            byThread.computeIfAbsent(summary.thread, thread -> new ArrayList<>()).add(summary);
+            long[] totals = summary.testTotals();
+            for (int c = 0; c < totals.length; c++) {
+                suiteTotals[c] += totals[c];
+            }
+        }
+        double span = Math.max(1, suiteEnd - suiteStart);
+        long testTime = 0;
+        for (TestSummary summary : SUMMARIES) {
+            testTime += summary.end - summary.start;
+        }
+
+        StringBuilder html = new StringBuilder("<!DOCTYPE html><html><head><meta charset='UTF-8'>"
+                + "<title>Test timeline</title><style>body{font-family:sans-serif;background:#1e1e1e;color:#ddd}"
+                + ".row{position:relative;height:26px;margin:2px 0;background:#2a2a2a}"
+                + ".test{position:absolute;top:2px;height:22px;display:flex;overflow:hidden;border:1px solid #111}"
+                + ".label{width:160px;display:inline-block;font-size:12px}"
+                + "table{border-collapse:collapse}td,th{padding:4px 10px;border-bottom:1px solid #444}</style>"
+                + "</head><body><h2>Test timeline</h2>");
+        html.append("<p>").append(SUMMARIES.size()).append(" test(s) on ").append(byThread.size())
+                .append(" thread(s) over ").append(seconds(suiteEnd - suiteStart)).append(" s. Test time: ")
+                .append(breakdown(suiteTotals, testTime)).append("</p>").append(legend());
+        for (Map.Entry<String, List<TestSummary>> thread : byThread.entrySet()) {
+            html.append("<div><span class='label'>").append(escape(thread.getKey()))
+                    .append("</span><div class='row' style='display:inline-block;width:calc(100% - 170px)'>");
+            for (TestSummary summary : thread.getValue()) {
+                long duration = summary.end - summary.start;
+                html.append(String.format("<div class='test' style='left:%.3f%%;width:%.3f%%' title='%s'>",
+                        (summary.start - suiteStart) * 100 / span, duration * 100 / span,
+                        escape(summary.name + ": " + seconds(duration) + " s")));
+                html.append(segments(summary.testTotals(), duration)).append("</div>");
+            }
+            html.append("</div></div>");
+        }
+        html.append("<h3>Top time sinks</h3><table><tr><th>Page-object method</th><th>Category</th>"
+                + "<th>Total (s)</th><th>Occurrences</th></tr>");
+        for (String[] sink : sinks) {
+            html.append("<tr><td>").append(escape(sink[0])).append("</td><td>").append(sink[1]).append("</td><td>")
+                    .append(sink[2]).append("</td><td>").append(sink[3]).append("</td></tr>");
+        }
+        html.append("</table></body></html>");
+
+        Path file = ReportLog.reportDir().resolve("timeline.html");
+        try {
+            Files.writeString(file, html.toString(), StandardCharsets.UTF_8);
+            Log.info("[Timeline] Suite timeline: " + file);
+        } catch (IOException e) {
+            Log.error("[Timeline] Could not write " + file + ": " + e.getMessage());
+        }
+    }
+
+    /** {owner, category, seconds, occurrences}, largest first. */
+    private static List<String[]> topSinks(int limit) {
+        List<Map.Entry<String, long[]>> entries = new ArrayList<>(SINKS.entrySet());
+        entries.sort((a, b) -> Long.compare(b.getValue()[0], a.getValue()[0]));
+        List<String[]> top = new ArrayList<>();
+        for (Map.Entry<String, long[]> entry : entries.subList(0, Math.min(limit, entries.size()))) {
+            String[] key = entry.getKey().split("\\|");
+            top.add(new String[] { key[0], Category.valueOf(key[1]).label, seconds(entry.getValue()[0]),
+                    Long.toString(entry.getValue()[1]) });
+        }
+        return top;
+    }
+
+    // ==================== HTML helpers ====================
+
+    private static String bar(long[] totals, long duration) {
+        return "<div style='display:flex;height:12px;background:#444;width:100%'>" + segments(totals, duration)
+                + "</div>";
+    }
+
+    private static String segments(long[] totals, long duration) {
+        StringBuilder html = new StringBuilder();
+        for (Category category : Category.values()) {
+            long nanos = totals[category.ordinal()];
+            if (nanos > 0 && duration > 0) {
+                html.append(String.format("<div style='width:%.2f%%;background:%s' title='%s %s s'></div>",
+                        Math.min(100.0, nanos * 100.0 / duration), category.color, category.label, seconds(nanos)));
+            }
+        }
+        return html.toString();
+    }
+
+    private static String breakdown(long[] totals, long duration) {
+        StringBuilder text = new StringBuilder();
+        long tracked = 0;
+        for (Category category : Category.values()) {
+            long nanos = totals[category.ordinal()];
+            tracked += nanos;
+            if (nanos > 0) {
+                text.append(category.label).append(' ').append(percent(nanos, duration)).append(", ");
+            }
+        }
+        return text.append("untracked ").append(percent(Math.max(0, duration - tracked), duration)).toString();
+    }
+
+    private static String legend() {
+        StringBuilder html = new StringBuilder("<div style='font-size:11px;margin:4px 0'>");
+        for (Category category : Category.values()) {
+            html.append("<span style='display:inline-block;width:10px;height:10px;background:")
+                    .append(category.color).append("'></span> ").append(category.label).append("&nbsp;&nbsp;");
+        }
+        return html.append("</div>").toString();
+    }
+
+    private static String percent(long part, long whole) {
+        return whole <= 0 ? "0%" : Math.round(part * 100.0 / whole) + "%";
+    }
+
+    private static String seconds(long nanos) {
+        return String.format("%.2f", nanos / 1e9);
+    }
+
+    private static long epochMillis(long nanos) {
+        return (EPOCH_OFFSET_NANOS + nanos) / 1_000_000L;
+    }
+
+    /** Step descriptions are logged as HTML; the table shows plain text. */
+    private static String strip(String html) {
+        return html.replaceAll("<[^>]+>", "");
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("'", "&#39;");
+    }
+}
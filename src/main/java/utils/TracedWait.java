@@ -0,0 +1,39 @@
+package utils;
+
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * WebDriverWait that records each {@code until} as a Flight Recorder event
+ * with the condition, call site and outcome (met, timeout or the exception).
+ * Use it wherever a WebDriverWait is created.
+ */
+public class TracedWait extends WebDriverWait {
+
+    private final long timeoutMillis;
+
+    public TracedWait(WebDriver driver, Duration timeout) {
+        super(driver, timeout);
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    @Override
+    public <V> V until(Function<? super WebDriver, V> isTrue) {
+        FlightEvents.WaitEvent event = FlightEvents.waitFor(isTrue, timeoutMillis);
+        try {
+            V value = super.until(isTrue);
+            event.done("met");
+            return value;
+        } catch (TimeoutException e) {
+            event.done("timeout");
+            throw e;
+        } catch (RuntimeException | Error e) {
+            event.done(e.getClass().getSimpleName());
+            throw e;
+        }
+    }
+}
@@ -14,6 +14,7 @@ import java.util.Map;
 import java.util.UUID;
 
 import static io.restassured.RestAssured.given;
+import utils.Log;
 
 public class AdminProvisioningTest extends ApiBaseTest {
 
@@ -99,7 +100,7 @@ public class AdminProvisioningTest extends ApiBaseTest {
 
         // Fail-safe for test continuity if API fails/mocks are needed
         if (svCustomerId == null) {
-            System.out.println(
+            Log.info(
                     "WARN: svCustomerId not found in response. Using hardcoded fallback for subsequent tests.");
             svCustomerId = "SV" + System.currentTimeMillis();
         }
@@ -3,6 +3,7 @@ package helpers;
 import org.openqa.selenium.WebDriver;
 import org.testng.Assert;
 import pages.APIAndDocumentationPage;
+import utils.Log;
 
 /**
  * Helper class for API & Documentation test validations
@@ -26,56 +27,56 @@ public class APIDocumentationTestHelper {
      * @throws InterruptedException
      */
     public void validateServiceDocumentation(String serviceName) throws InterruptedException {
-        System.out.println("\nValidating " + serviceName + " service...");
+        Log.info("\nValidating " + serviceName + " service...");
 
         // Step 1: Click View Details
-        System.out.println("Step 1: Clicking View Details for " + serviceName + "...");
+        Log.info("Step 1: Clicking View Details for " + serviceName + "...");
         apiDocPage.clickViewDetails(serviceName);
         Thread.sleep(1500);
-        System.out.println("✓ View Details clicked for " + serviceName);
+        Log.info("✓ View Details clicked for " + serviceName);
 
         // Step 2: Verify API Documentation Download button is clickable
-        System.out.println("\nStep 2: Verifying API Documentation Download button...");
+        Log.info("\nStep 2: Verifying API Documentation Download button...");
         boolean isDownloadClickable = apiDocPage.isAPIDownloadButtonClickable(serviceName);
         Assert.assertTrue(isDownloadClickable,
                 "API Documentation Download button should be clickable for " + serviceName);
-        System.out.println("✓ API Documentation Download button is clickable for " + serviceName);
+        Log.info("✓ API Documentation Download button is clickable for " + serviceName);
 
         // Step 3: Download documentation (trigger download)
-        System.out.println("\nStep 3: Downloading API documentation for " + serviceName + "...");
+        Log.info("\nStep 3: Downloading API documentation for " + serviceName + "...");
         apiDocPage.downloadAPIDocumentation(serviceName);
-        System.out.println("✓ API documentation download triggered for " + serviceName);
+        Log.info("✓ API documentation download triggered for " + serviceName);
 
         // Step 4: Verify domain in documentation
-        System.out.println("\nStep 4: Verifying domain in documentation...");
+        Log.info("\nStep 4: Verifying domain in documentation...");
         boolean domainVerified = apiDocPage.verifyDomainInDocumentation(expectedDomain);
         // Note: This may not always pass if the domain is only in the downloaded file
         // We'll log the result but won't fail the test on this alone
         if (domainVerified) {
-            System.out.println("✓ Domain verified in documentation: " + expectedDomain);
+            Log.info("✓ Domain verified in documentation: " + expectedDomain);
         } else {
-            System.out.println("⚠ Domain verification inconclusive (may be in downloaded file)");
+            Log.warn("⚠ Domain verification inconclusive (may be in downloaded file)");
         }
 
         // Step 5: Click Explore Swagger UI
-        System.out.println("\nStep 5: Clicking Explore Swagger UI for " + serviceName + "...");
+        Log.info("\nStep 5: Clicking Explore Swagger UI for " + serviceName + "...");
         apiDocPage.clickExploreSwaggerUI(serviceName);
         Thread.sleep(2000);
-        System.out.println("✓ Explore Swagger UI clicked for " + serviceName);
+        Log.info("✓ Explore Swagger UI clicked for " + serviceName);
 
         // Step 6: Switch to new tab
-        System.out.println("\nStep 6: Switching to Swagger UI tab...");
+        Log.info("\nStep 6: Switching to Swagger UI tab...");
         apiDocPage.switchToNewTab();
         Thread.sleep(2000);
-        System.out.println("✓ Switched to Swagger UI tab");
+        Log.info("✓ Switched to Swagger UI tab");
 
         // Step 7: Verify Swagger UI domain
-        System.out.println("\nStep 7: Verifying Swagger UI domain...");
+        Log.info("\nStep 7: Verifying Swagger UI domain...");
         boolean swaggerDomainVerified = apiDocPage.verifySwaggerUIDomain(serviceName, expectedDomain);
 
         // Log the current URL for debugging
         String currentUrl = apiDocPage.getCurrentURL();
-        System.out.println("Current Swagger UI URL: " + currentUrl);
+        Log.info("Current Swagger UI URL: " + currentUrl);
 
         // Assert that we're on a Swagger-like page (flexible assertion)
         boolean isSwaggerPage = currentUrl.toLowerCase().contains("swagger") ||
@@ -86,29 +87,29 @@ public class APIDocumentationTestHelper {
                         + currentUrl);
 
         if (swaggerDomainVerified) {
-            System.out.println("✓ Swagger UI domain verified: " + expectedDomain);
+            Log.info("✓ Swagger UI domain verified: " + expectedDomain);
         } else {
-            System.out.println("⚠ Swagger UI may be on different domain or subdomain");
+            Log.warn("⚠ Swagger UI may be on different domain or subdomain");
         }
 
         // Step 8: Close Swagger tab and return to main window
-        System.out.println("\nStep 8: Closing Swagger UI tab and returning to main window...");
+        Log.info("\nStep 8: Closing Swagger UI tab and returning to main window...");
         apiDocPage.closeCurrentTabAndSwitch();
         Thread.sleep(1000);
-        System.out.println("✓ Returned to main window");
+        Log.info("✓ Returned to main window");
 
         // Step 9: Close any open modals
-        System.out.println("\nStep 9: Closing any open modals...");
+        Log.info("\nStep 9: Closing any open modals...");
         apiDocPage.closeModal();
         Thread.sleep(1000);
-        System.out.println("✓ Modal handling completed");
+        Log.info("✓ Modal handling completed");
 
 
         // Step 10: Navigate back to service list
-        System.out.println("\\nStep 10: Returning to API documentation service list...");
+        Log.info("\\nStep 10: Returning to API documentation service list...");
         apiDocPage.navigateBackToServiceList();
         Thread.sleep(1000);
-        System.out.println("✓ Returned to service list");
+        Log.info("✓ Returned to service list");
         // Extra wait to ensure page is ready for next test
         Thread.sleep(1500);
     }
@@ -120,10 +121,10 @@ public class APIDocumentationTestHelper {
      * @throws InterruptedException
      */
     public void validateViewDetailsButton(String serviceName) throws InterruptedException {
-        System.out.println("Validating View Details button for " + serviceName + "...");
+        Log.info("Validating View Details button for " + serviceName + "...");
         apiDocPage.clickViewDetails(serviceName);
         Thread.sleep(1500);
-        System.out.println("✓ View Details button is clickable for " + serviceName);
+        Log.info("✓ View Details button is clickable for " + serviceName);
     }
 
     /**
@@ -132,10 +133,10 @@ public class APIDocumentationTestHelper {
      * @param serviceName - Name of the service
      */
     public void validateDownloadButton(String serviceName) {
-        System.out.println("Validating Download button for " + serviceName + "...");
+        Log.info("Validating Download button for " + serviceName + "...");
         boolean isClickable = apiDocPage.isAPIDownloadButtonClickable(serviceName);
         Assert.assertTrue(isClickable, "Download button should be clickable for " + serviceName);
-        System.out.println("✓ Download button is clickable for " + serviceName);
+        Log.info("✓ Download button is clickable for " + serviceName);
     }
 
     /**
@@ -145,17 +146,17 @@ public class APIDocumentationTestHelper {
      * @throws InterruptedException
      */
     public void validateSwaggerUI(String serviceName) throws InterruptedException {
-        System.out.println("Validating Swagger UI for " + serviceName + "...");
+        Log.info("Validating Swagger UI for " + serviceName + "...");
         apiDocPage.clickExploreSwaggerUI(serviceName);
         Thread.sleep(2000);
         apiDocPage.switchToNewTab();
         Thread.sleep(2000);
 
         boolean verified = apiDocPage.verifySwaggerUIDomain(serviceName, expectedDomain);
-        System.out.println("Swagger UI verification for " + serviceName + ": " + verified);
+        Log.info("Swagger UI verification for " + serviceName + ": " + verified);
 
         apiDocPage.closeCurrentTabAndSwitch();
         Thread.sleep(1000);
-        System.out.println("✓ Swagger UI validated for " + serviceName);
+        Log.info("✓ Swagger UI validated for " + serviceName);
     }
 }
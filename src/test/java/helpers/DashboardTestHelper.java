@@ -3,6 +3,7 @@ package helpers;
 import org.openqa.selenium.WebDriver;
 import org.testng.Assert;
 import pages.DashboardPage;
+import utils.Log;
 
 /**
  * Helper class for Dashboard service testing
@@ -26,17 +27,17 @@ public class DashboardTestHelper {
      * @throws InterruptedException if thread sleep is interrupted
      */
     public void testServiceNavigation(String serviceName) throws InterruptedException {
-        System.out.println("\n========================================");
-        System.out.println("TESTING SERVICE NAVIGATION: " + serviceName);
-        System.out.println("========================================");
+        Log.info("\n========================================");
+        Log.info("TESTING SERVICE NAVIGATION: " + serviceName);
+        Log.info("========================================");
 
         try {
             // FIRST: Ensure we're on the dashboard
             String currentUrl = driver.getCurrentUrl();
-            System.out.println("Current URL before navigation: " + currentUrl);
+            Log.info("Current URL before navigation: " + currentUrl);
 
             if (currentUrl.contains("/select-wallet") || currentUrl.contains("/login")) {
-                System.out.println("⚠️ Not on dashboard, navigating to dashboard first...");
+                Log.warn("⚠️ Not on dashboard, navigating to dashboard first...");
                 String baseUrl = currentUrl.split("/select-wallet")[0];
                 if (currentUrl.contains("/login")) {
                     baseUrl = currentUrl.split("/login")[0];
@@ -49,25 +50,25 @@ public class DashboardTestHelper {
                         dashboardUrl = baseUrl + "/customer/" + customerId + "/dashboard";
                     }
                 }
-                System.out.println("Navigating to: " + dashboardUrl);
+                Log.info("Navigating to: " + dashboardUrl);
                 driver.get(dashboardUrl);
                 Thread.sleep(3000);
             }
 
             // Step 1: Navigate to service with retry logic
-            System.out.println("Step 1: Navigating to " + serviceName + "...");
+            Log.info("Step 1: Navigating to " + serviceName + "...");
             boolean clicked = false;
             try {
                 dashboardPage.clickService(serviceName);
                 clicked = true;
             } catch (Exception e) {
-                System.out.println("Standard click failed for " + serviceName + ". Retrying...");
+                Log.info("Standard click failed for " + serviceName + ". Retrying...");
                 // Retry is handled inside clickService usually, but if it throws, we catch here
             }
 
             // Use significantly longer wait in headless mode or if click was flaky
             int waitTime = base.DriverFactory.isHeadlessModeEnabled() ? 8000 : 3000;
-            System.out.println("Waiting " + waitTime + "ms for page load...");
+            Log.info("Waiting " + waitTime + "ms for page load...");
             Thread.sleep(waitTime);
 
             // Step 2: Verify service page loaded
@@ -76,7 +77,7 @@ public class DashboardTestHelper {
 
             // Retry Verification if failed
             if (!isLoaded) {
-                System.out.println("First verification failed. waiting 2s more...");
+                Log.info("First verification failed. waiting 2s more...");
                 Thread.sleep(2000);
                 isLoaded = dashboardPage.isServicePageLoaded(serviceCheckName);
             }
@@ -84,27 +85,27 @@ public class DashboardTestHelper {
             // Step 2b: Explicitly check for UI error messages
             String errorMessage = dashboardPage.checkForPageErrors();
             if (errorMessage != null) {
-                System.err.println("❌ FAILURE: " + serviceName + " service loaded with error: " + errorMessage);
+                Log.error("❌ FAILURE: " + serviceName + " service loaded with error: " + errorMessage);
                 if (isLoaded) {
-                    System.out.println("⚠️ Warning: Error popup appeared but page loaded. Error: " + errorMessage);
+                    Log.warn("⚠️ Warning: Error popup appeared but page loaded. Error: " + errorMessage);
                 } else {
                     Assert.fail(serviceName + " service navigation failed - Visible Error: " + errorMessage);
                 }
             }
 
             if (!isLoaded) {
-                System.err.println("❌ FAILURE: " + serviceName + " service page did not load - navigation failed");
+                Log.error("❌ FAILURE: " + serviceName + " service page did not load - navigation failed");
                 Assert.fail(serviceName + " service page did not load - navigation failed");
             }
 
-            System.out.println("✓ Successfully navigated to " + serviceName + " service");
-            System.out.println("✓ " + serviceName + " service navigation PASSED\n");
+            Log.info("✓ Successfully navigated to " + serviceName + " service");
+            Log.info("✓ " + serviceName + " service navigation PASSED\n");
 
         } catch (AssertionError e) {
-            System.err.println("❌ TEST FAILED: " + serviceName + " - " + e.getMessage());
+            Log.error("❌ TEST FAILED: " + serviceName + " - " + e.getMessage());
             throw e;
         } catch (Exception e) {
-            System.err.println("❌ FAILURE: " + serviceName + " service navigation error - " + e.getMessage());
+            Log.error("❌ FAILURE: " + serviceName + " service navigation error - " + e.getMessage());
             Assert.fail(serviceName + " service navigation error - " + e.getMessage());
         }
     }
@@ -2,6 +2,7 @@ package helpers;
 
 import org.openqa.selenium.WebDriver;
 import pages.EnterpriseReportsPage;
+import utils.Log;
 
 import java.util.Set;
 
@@ -25,7 +26,7 @@ public class EnterpriseReportsHelper {
      */
     public void storeMainWindowHandle() {
         this.mainWindowHandle = driver.getWindowHandle();
-        System.out.println("Stored main window handle: " + mainWindowHandle);
+        Log.info("Stored main window handle: " + mainWindowHandle);
     }
 
     /**
@@ -54,7 +55,7 @@ public class EnterpriseReportsHelper {
             Thread.sleep(1000);
             reportsPage.navigateBackToReports();
         } catch (Exception e) {
-            System.out.println("Error closing tabs: " + e.getMessage());
+            Log.error("Error closing tabs: " + e.getMessage());
         }
     }
 }
@@ -3,6 +3,7 @@ package helpers;
 import org.openqa.selenium.WebDriver;
 import org.testng.Assert;
 import pages.ServicesPage;
+import utils.Log;
 
 public class EnterpriseServicesHelper {
 
@@ -15,7 +16,7 @@ public class EnterpriseServicesHelper {
     }
 
     public void validateServiceFlow(String serviceName) {
-        System.out.println("\n========== Validating " + serviceName + " Service ==========");
+        Log.info("\n========== Validating " + serviceName + " Service ==========");
 
         // 1. Navigate to specific service details from Services Home
         servicesPage.clickServicesTab();
@@ -29,18 +30,18 @@ public class EnterpriseServicesHelper {
         // 2. Find Active Service Account
         int activeRow = servicesPage.findFirstActiveServiceRow();
         Assert.assertTrue(activeRow != -1, "No Active Service Account found for " + serviceName);
-        System.out.println("Found Active Service Account at row: " + activeRow);
+        Log.info("Found Active Service Account at row: " + activeRow);
 
         // 3. Get Name and Verify Detail View
         String listingName = servicesPage.getServiceName(activeRow);
-        System.out.println("Service Account Name: " + listingName);
+        Log.info("Service Account Name: " + listingName);
 
         servicesPage.clickViewIcon(activeRow);
         String detailsName = servicesPage.getDetailsServiceName();
         // Compare
         Assert.assertTrue(detailsName.contains(listingName) || listingName.contains(detailsName),
                 "Details Verification Failed! expected: " + listingName + ", found: " + detailsName);
-        System.out.println("Details View Verification Passed.");
+        Log.info("Details View Verification Passed.");
 
         servicesPage.clickBackButton();
 
@@ -54,7 +55,7 @@ public class EnterpriseServicesHelper {
         // Validate Dashboard Header matches Service Name (or Page Source)
         Assert.assertTrue(driver.getPageSource().contains(listingName),
                 "SSO Redirection Verification Failed! Name " + listingName + " not found on dashboard.");
-        System.out.println("SSO Redirection Verification Passed.");
+        Log.info("SSO Redirection Verification Passed.");
 
         servicesPage.closeCurrentTabAndSwitchBack(mainWindowHandle);
 
@@ -65,7 +66,7 @@ public class EnterpriseServicesHelper {
         String firstRowName = servicesPage.getServiceName(1);
         Assert.assertTrue(firstRowName.toLowerCase().contains(partialName.toLowerCase()),
                 "Search Failed! Expected " + firstRowName + " to contain " + partialName);
-        System.out.println("Search Validation Passed.");
+        Log.info("Search Validation Passed.");
 
         servicesPage.searchService(""); // Clear search
         try {
@@ -78,6 +79,6 @@ public class EnterpriseServicesHelper {
         // Verify first row is Active
         String status = servicesPage.getServiceStatus(1);
         Assert.assertEquals(status.toUpperCase(), "ACTIVE", "Filter Failed! Expected Active, found " + status);
-        System.out.println("Active Filter Validation Passed.");
+        Log.info("Active Filter Validation Passed.");
     }
 }
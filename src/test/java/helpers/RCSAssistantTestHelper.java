@@ -5,6 +5,7 @@ import pages.LoginPage;
 import pages.ServicesPage;
 import pages.RCSAssistantPage;
 import utils.ExtentReportManager;
+import utils.Log;
 
 /**
  * Helper class for RCS Assistant Flow tests
@@ -46,7 +47,7 @@ public class RCSAssistantTestHelper {
         ExtentReportManager.logStep("Navigate to Services tab");
 
         // Wait for dashboard to be fully loaded before clicking Services
-        System.out.println("Waiting for dashboard to be fully loaded...");
+        Log.info("Waiting for dashboard to be fully loaded...");
         try {
             // Wait for dashboard URL or dashboard elements
             org.openqa.selenium.support.ui.WebDriverWait dashboardWait = new org.openqa.selenium.support.ui.WebDriverWait(
@@ -61,14 +62,14 @@ public class RCSAssistantTestHelper {
                             org.openqa.selenium.By.xpath("//*[contains(@class,'dashboard')]")),
                     org.openqa.selenium.support.ui.ExpectedConditions.presenceOfElementLocated(
                             org.openqa.selenium.By.xpath("//div[contains(@class,'wallet')]"))));
-            System.out.println("Dashboard loaded. Current URL: " + driver.getCurrentUrl());
+            Log.info("Dashboard loaded. Current URL: " + driver.getCurrentUrl());
 
             // Additional wait for all dashboard elements to render
             Thread.sleep(3000);
-            System.out.println("Waited for dashboard elements to stabilize");
+            Log.info("Waited for dashboard elements to stabilize");
 
         } catch (Exception e) {
-            System.out.println("Warning: Dashboard wait timed out, proceeding anyway. Error: " + e.getMessage());
+            Log.warn("Warning: Dashboard wait timed out, proceeding anyway. Error: " + e.getMessage());
         }
 
         // Now click on Services tab
@@ -5,6 +5,7 @@ import org.openqa.selenium.Keys;
 import org.openqa.selenium.WebDriver;
 import org.testng.Assert;
 import pages.ServiceNodeSSOPage;
+import utils.Log;
 
 import java.util.List;
 import java.util.Set;
@@ -30,13 +31,13 @@ public class SSOTestHelper {
      * @throws InterruptedException if thread sleep is interrupted
      */
     public void testServiceSSO(String serviceName) throws InterruptedException {
-        System.out.println("\n========================================");
-        System.out.println("TESTING SERVICE: " + serviceName);
-        System.out.println("========================================");
+        Log.info("\n========================================");
+        Log.info("TESTING SERVICE: " + serviceName);
+        Log.info("========================================");
 
         // Ensure we're on SSO page
         if (!ssoPage.getCurrentURL().contains("service-nodes-sso")) {
-            System.out.println("Navigating back to SSO page...");
+            Log.info("Navigating back to SSO page...");
             ssoPage.navigateBackToSSO();
             Thread.sleep(1500);
         }
@@ -51,18 +52,18 @@ public class SSOTestHelper {
 
             for (int attempt = 1; attempt <= 3; attempt++) {
                 if (attempt > 1) {
-                    System.out.println("⚠ Initial Login click seemed to fail (no modal/redirect). Retrying (Attempt "
+                    Log.warn("⚠ Initial Login click seemed to fail (no modal/redirect). Retrying (Attempt "
                             + attempt + ")...");
                 }
 
-                System.out.println("\nStep 1: Clicking Login button for " + serviceName + "...");
+                Log.info("\nStep 1: Clicking Login button for " + serviceName + "...");
                 ssoPage.clickLoginForService(serviceName);
                 Thread.sleep(3000);
 
                 // Check if role selection menu appears
                 if (ssoPage.isRoleSelectionModalDisplayed()) {
                     modalAppeared = true;
-                    System.out.println("✓ Role selection menu appeared");
+                    Log.info("✓ Role selection menu appeared");
                     break;
                 }
 
@@ -77,18 +78,18 @@ public class SSOTestHelper {
 
             if (modalAppeared) {
                 // Get all available roles
-                System.out.println("\nStep 2: Discovering available roles...");
+                Log.info("\nStep 2: Discovering available roles...");
                 List<String> roles = ssoPage.getAvailableRoles();
 
                 if (roles.isEmpty()) {
-                    System.out.println("⚠ No roles found for " + serviceName);
+                    Log.warn("⚠ No roles found for " + serviceName);
                     driver.findElement(By.tagName("body")).sendKeys(Keys.ESCAPE);
                     Thread.sleep(500);
                     Assert.fail("No roles available for " + serviceName);
                     return;
                 }
 
-                System.out.println("✓ Found " + roles.size() + " role(s): " + roles);
+                Log.info("✓ Found " + roles.size() + " role(s): " + roles);
 
                 // Filter roles to run only Super Admin as per request
                 java.util.List<String> filteredRoles = new java.util.ArrayList<>();
@@ -98,24 +99,24 @@ public class SSOTestHelper {
                     }
                 }
                 roles = filteredRoles;
-                System.out.println("⚠ Filtered execution: Only 'Super Admin' role will be tested");
+                Log.warn("⚠ Filtered execution: Only 'Super Admin' role will be tested");
 
                 // Test each role
-                System.out.println("\nStep 3: Testing all roles for " + serviceName + "...");
+                Log.info("\nStep 3: Testing all roles for " + serviceName + "...");
                 int passed = 0;
                 int failed = 0;
 
                 for (int i = 0; i < roles.size(); i++) {
                     String roleName = roles.get(i);
 
-                    System.out.println("\n  ----------------------------------------");
-                    System.out.println("  Testing Role " + (i + 1) + "/" + roles.size() + ": " + roleName);
-                    System.out.println("  ----------------------------------------");
+                    Log.info("\n  ----------------------------------------");
+                    Log.info("  Testing Role " + (i + 1) + "/" + roles.size() + ": " + roleName);
+                    Log.info("  ----------------------------------------");
 
                     try {
                         // For subsequent roles, need to click Login again
                         if (i > 0) {
-                            System.out.println("  Switching back to SSO page...");
+                            Log.info("  Switching back to SSO page...");
 
                             // Close any extra windows first
                             for (String windowHandle : driver.getWindowHandles()) {
@@ -141,7 +142,7 @@ public class SSOTestHelper {
                                             break;
                                         }
                                     } catch (Exception ex) {
-                                        System.out.println("Back navigation retry " + (retry + 1) + " failed");
+                                        Log.info("Back navigation retry " + (retry + 1) + " failed");
                                     }
                                 }
                                 if (!backNavigated) {
@@ -159,12 +160,12 @@ public class SSOTestHelper {
                         }
 
                         // Select the role (opens new window) with RETRY logic
-                        System.out.println("  Selecting role: " + roleName);
+                        Log.info("  Selecting role: " + roleName);
 
                         boolean roleClickSuccess = false;
                         for (int rRetry = 1; rRetry <= 3; rRetry++) {
                             if (rRetry > 1)
-                                System.out.println(
+                                Log.warn(
                                         "  ⚠ Role click verify failed (no window/url change). Retrying role select (Attempt "
                                                 + rRetry + ")...");
 
@@ -179,13 +180,13 @@ public class SSOTestHelper {
                         }
 
                         if (!roleClickSuccess) {
-                            System.err.println(
+                            Log.error(
                                     "  ✗ Failed to trigger role selection action (window/url unchanged) after 3 attempts.");
                         }
 
                         // Check for new window/tab
                         Set<String> allWindows = driver.getWindowHandles();
-                        System.out.println("  Total windows open: " + allWindows.size());
+                        Log.info("  Total windows open: " + allWindows.size());
 
                         boolean redirectedToDashboard = false;
                         String newWindowUrl = "";
@@ -201,12 +202,12 @@ public class SSOTestHelper {
                                     newWindowUrl = driver.getCurrentUrl();
                                     newWindowTitle = driver.getTitle();
 
-                                    System.out.println("  New Window URL: " + newWindowUrl);
-                                    System.out.println("  New Window Title: " + newWindowTitle);
+                                    Log.info("  New Window URL: " + newWindowUrl);
+                                    Log.info("  New Window Title: " + newWindowTitle);
 
                                     // Verify dashboard loaded by checking for SPARC logo
                                     pages.DashboardPage dashboardPage = new pages.DashboardPage(driver);
-                                    System.out.println(
+                                    Log.info(
                                             "  Verifying dashboard for " + serviceName + " with role " + roleName);
                                     redirectedToDashboard = dashboardPage.verifyDashboardWithRole(roleName);
 
@@ -218,8 +219,8 @@ public class SSOTestHelper {
                             newWindowUrl = ssoPage.getCurrentURL();
                             newWindowTitle = ssoPage.getPageTitle();
 
-                            System.out.println("  Current URL: " + newWindowUrl);
-                            System.out.println("  Page Title: " + newWindowTitle);
+                            Log.info("  Current URL: " + newWindowUrl);
+                            Log.info("  Page Title: " + newWindowTitle);
 
                             // Verify dashboard loaded by checking for SPARC logo
                             if (!newWindowUrl.contains("service-nodes-sso")) {
@@ -229,12 +230,12 @@ public class SSOTestHelper {
                         }
 
                         if (redirectedToDashboard) {
-                            System.out.println(
+                            Log.info(
                                     "  ✓ PASS: Successfully redirected to dashboard for role '" + roleName + "'");
                             passed++;
                         } else {
-                            System.out.println("  ✗ FAIL: Did not redirect to dashboard for role '" + roleName + "'");
-                            System.err.println("  ⚠️ FAILURE RECORDED: Using " + roleName + " in " + serviceName
+                            Log.error("  ✗ FAIL: Did not redirect to dashboard for role '" + roleName + "'");
+                            Log.error("  ⚠️ FAILURE RECORDED: Using " + roleName + " in " + serviceName
                                     + " account not redirecting to dashboard");
                             failed++;
                         }
@@ -242,7 +243,7 @@ public class SSOTestHelper {
                         // Don't throw assertion here - continue testing other roles
 
                     } catch (Exception e) {
-                        System.err.println("  ✗ ERROR testing role '" + roleName + "': " + e.getMessage());
+                        Log.error("  ✗ ERROR testing role '" + roleName + "': " + e.getMessage());
                         failed++;
                     }
 
@@ -250,35 +251,35 @@ public class SSOTestHelper {
                 }
 
                 // Print service summary
-                System.out.println("\n  ========================================");
-                System.out.println("  " + serviceName + " SERVICE SUMMARY");
-                System.out.println("  ========================================");
-                System.out.println("  Total Roles Tested: " + roles.size());
-                System.out.println("  Passed: " + passed);
-                System.out.println("  Failed: " + failed);
-                System.out.println("  Success Rate: " + (roles.size() > 0 ? (passed * 100 / roles.size()) : 0) + "%");
-                System.out.println("  ========================================");
+                Log.info("\n  ========================================");
+                Log.info("  " + serviceName + " SERVICE SUMMARY");
+                Log.info("  ========================================");
+                Log.info("  Total Roles Tested: " + roles.size());
+                Log.info("  Passed: " + passed);
+                Log.error("  Failed: " + failed);
+                Log.info("  Success Rate: " + (roles.size() > 0 ? (passed * 100 / roles.size()) : 0) + "%");
+                Log.info("  ========================================");
 
                 // Now assert - FAIL the test if any role failed
                 if (failed > 0) {
                     String failureMessage = serviceName + " service - " + failed
                             + " role(s) failed to redirect to dashboard. " +
                             "Check logs above for details on which roles failed.";
-                    System.err.println("\n❌ TEST ASSERTION: " + failureMessage);
+                    Log.error("\n❌ TEST ASSERTION: " + failureMessage);
                     Assert.fail(failureMessage);
                 }
 
             } else {
                 // No role selection - direct SSO
                 if (directRedirected) {
-                    System.out.println("✓ PASS: Direct SSO successful for " + serviceName);
+                    Log.info("✓ PASS: Direct SSO successful for " + serviceName);
                 } else {
                     // Try waiting a bit more just in case
                     Thread.sleep(2000);
                     if (!ssoPage.getCurrentURL().contains("service-nodes-sso")) {
-                        System.out.println("✓ PASS: Direct SSO successful for " + serviceName);
+                        Log.info("✓ PASS: Direct SSO successful for " + serviceName);
                     } else {
-                        System.out.println("✗ FAIL: Direct SSO failed for " + serviceName + " (URL did not change)");
+                        Log.error("✗ FAIL: Direct SSO failed for " + serviceName + " (URL did not change)");
                         Assert.fail("Direct SSO failed for " + serviceName);
                     }
                 }
@@ -287,7 +288,7 @@ public class SSOTestHelper {
             }
 
         } catch (Exception e) {
-            System.err.println("✗ ERROR testing service '" + serviceName + "': " + e.getMessage());
+            Log.error("✗ ERROR testing service '" + serviceName + "': " + e.getMessage());
             e.printStackTrace();
 
             // Try to recover
@@ -308,7 +309,7 @@ public class SSOTestHelper {
                     ssoPage.navigateToServiceNodeSSO();
                 }
             } catch (Exception ex) {
-                System.err.println("Failed to recover: " + ex.getMessage());
+                Log.error("Failed to recover: " + ex.getMessage());
             }
 
             Assert.fail("Failed to test " + serviceName + " service: " + e.getMessage());
@@ -327,6 +328,6 @@ public class SSOTestHelper {
             }
         }
 
-        System.out.println("\n✓ Completed testing " + serviceName + " service\n");
+        Log.info("\n✓ Completed testing " + serviceName + " service\n");
     }
 }
@@ -0,0 +1,40 @@
+package listeners;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Makespan prediction of {@link DurationScheduler} for a given order and thread count.
+ */
+public class DurationSchedulerTest {
+
+    @Test
+    public void addsUpEverythingOnOneThread() {
+        Assert.assertEquals(DurationScheduler.simulateMakespan(List.of(30L, 10L, 20L), 1), 60);
+        Assert.assertEquals(DurationScheduler.simulateMakespan(List.of(30L, 10L, 20L), 0), 60,
+                "no thread-count counts as one worker");
+    }
+
+    @Test
+    public void takesTheLongestJobWhenThreadsOutnumberJobs() {
+        Assert.assertEquals(DurationScheduler.simulateMakespan(List.of(30L, 10L, 20L), 5), 30);
+        Assert.assertEquals(DurationScheduler.simulateMakespan(Collections.emptyList(), 3), 0);
+    }
+
+    @Test
+    public void handsEachJobToTheFirstFreeWorker() {
+        // 2 workers: 7 | 5, then 4 joins 5 (9), 3 joins 7 (10), 2 joins 9 (11)
+        Assert.assertEquals(DurationScheduler.simulateMakespan(List.of(7L, 5L, 4L, 3L, 2L), 2), 11);
+    }
+
+    @Test
+    public void longestFirstBeatsLongestLast() {
+        List<Long> longestFirst = List.of(50L, 10L, 10L, 10L, 10L, 10L);
+        List<Long> longestLast = List.of(10L, 10L, 10L, 10L, 10L, 50L);
+        Assert.assertEquals(DurationScheduler.simulateMakespan(longestFirst, 2), 50);
+        Assert.assertEquals(DurationScheduler.simulateMakespan(longestLast, 2), 70);
+    }
+}
@@ -0,0 +1,88 @@
+package pages;
+
+import utils.Log;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * Throughput and per-call cost of {@link Log} against {@code System.out},
+ * from several threads that each run as a test (own log file).
+ *
+ * Two loads: flat out, and bursts of lines with a short pause in between, as
+ * a page object logging grid rows between browser actions. Lives in
+ * {@code pages} so its lines take the route of page-object logging (files at
+ * {@code log.level}, console only from {@code log.consoleLevel}).
+ *
+ * Usage, with stdout to a file so the console does not set the pace:
+ * {@code mvn -q test-compile exec:java -Dexec.mainClass=pages.LogBenchmark
+ * -Dexec.classpathScope=test -Dexec.args="5 200000" > bench-stdout.txt};
+ * arguments are threads and lines per thread, results go to stderr.
+ */
+public class LogBenchmark {
+
+    private static final int BURST_LINES = 300;
+    private static final long BURST_PAUSE_MILLIS = 5;
+    private static final int ROUNDS = 3;
+
+    /**
+     * Lines per second over all threads and mean microseconds per call.
+     */
+    private static double[] run(Consumer<String> sink, int threads, int lines, int burst) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        long[] callNanos = new long[threads];
+        CountDownLatch go = new CountDownLatch(1);
+        Future<?>[] futures = new Future<?>[threads];
+        for (int t = 0; t < threads; t++) {
+            int id = t;
+            futures[t] = executor.submit(() -> {
+                Log.startTest("LogBenchmark", "thread" + id, "ADMIN");
+                go.await();
+                long total = 0;
+                for (int i = 0; i < lines; i++) {
+                    long start = System.nanoTime();
+                    sink.accept("Row " + i + ": Active | thread " + id);
+                    total += System.nanoTime() - start;
+                    if (burst > 0 && i % burst == burst - 1) {
+                        Thread.sleep(BURST_PAUSE_MILLIS);
+                    }
+                }
+                callNanos[id] = total;
+                Log.endTest(null);
+                return null;
+            });
+        }
+        long start = System.nanoTime();
+        go.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsed = System.nanoTime() - start;
+        executor.shutdown();
+
+        long total = 0;
+        for (long nanos : callNanos) {
+            total += nanos;
+        }
+        double calls = (double) threads * lines;
+        return new double[] { calls / (elapsed / 1e9), total / 1e3 / calls };
+    }
+
+    public static void main(String[] args) throws Exception {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+        int lines = args.length > 1 ? Integer.parseInt(args[1]) : 200_000;
+        int burstLines = Math.max(BURST_LINES, lines / 10);
+        for (int round = 0; round < ROUNDS; round++) {
+            double[] out = run(System.out::println, threads, lines, 0);
+            double[] log = run(Log::info, threads, lines, 0);
+            double[] outBursts = run(System.out::println, threads, burstLines, BURST_LINES);
+            double[] logBursts = run(Log::info, threads, burstLines, BURST_LINES);
+            System.err.printf("Flat out: System.out %.0f lines/s (%.2f us/call), Log %.0f lines/s (%.2f us/call); "
+                    + "bursts of %d: System.out %.2f us/call, Log %.2f us/call%n", out[0], out[1], log[0], log[1],
+                    BURST_LINES, outBursts[1], logBursts[1]);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package tests;
 
 import base.BaseTest;
+import base.RunAs;
+import enums.UserRole;
 import helpers.AssistantTestHelper;
 import locators.AssistantsPageLocators;
 import org.openqa.selenium.WebElement;
@@ -11,11 +13,14 @@ import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 import pages.AssistantPage;
 import pages.AssistantsPage;
+import utils.Log;
+import utils.TracedWait;
 
 import java.time.Duration;
 import java.util.List;
 import java.util.Random;
 
+@RunAs(role = UserRole.ENTERPRISE)
 public class AssistantListTestCA extends BaseTest {
 
     AssistantTestHelper helper;
@@ -32,23 +37,23 @@ public class AssistantListTestCA extends BaseTest {
 
     @Test(priority = 1)
     public void verifyAssistantHeadersOrNoData() {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        WebDriverWait wait = new TracedWait(driver, Duration.ofSeconds(10));
         wait.until(ExpectedConditions.or(
                 ExpectedConditions.presenceOfElementLocated(AssistantsPageLocators.NO_ASSISTANT_MESSAGE),
                 ExpectedConditions.presenceOfElementLocated(AssistantsPageLocators.HEADER_ASSISTANT_NAME)));
 
         if (assistantPage.isNoAssistantMessageDisplayed()) {
-            System.out.println("No assistants found. Message is visible.");
+            Log.info("No assistants found. Message is visible.");
             Assert.assertTrue(true);
         } else {
-            System.out.println("Assistants exist. Verifying table headers.");
+            Log.info("Assistants exist. Verifying table headers.");
             Assert.assertTrue(assistantPage.verifyAssistantHeaders(), "All assistant table headers are displayed.");
         }
     }
 
     @Test(priority = 2)
     public void verifyAssistantSearchFunctionality() {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        WebDriverWait wait = new TracedWait(driver, Duration.ofSeconds(10));
 
         // Correct object creation
         AssistantsPage assistantsPage = new AssistantsPage(driver);
@@ -60,18 +65,18 @@ public class AssistantListTestCA extends BaseTest {
 
             List<WebElement> noAssistantMessage = assistantsPage.getNoAssistantMessage();
             if (!noAssistantMessage.isEmpty() && noAssistantMessage.get(0).isDisplayed()) {
-                System.out.println("No assistant available to perform search.");
+                Log.info("No assistant available to perform search.");
                 return;
             }
 
             List<WebElement> assistantNames = assistantsPage.getAssistantNameCells();
             if (assistantNames.isEmpty()) {
-                System.out.println("Assistant rows are not visible but no message also.");
+                Log.info("Assistant rows are not visible but no message also.");
                 return;
             }
 
             String assistantName = assistantNames.get(0).getText().trim();
-            System.out.println("Searching for assistant: " + assistantName);
+            Log.info("Searching for assistant: " + assistantName);
 
             WebElement searchBox = assistantsPage.getSearchBox();
             searchBox.clear();
@@ -87,7 +92,7 @@ public class AssistantListTestCA extends BaseTest {
                         "Search mismatch: expected to contain '" + assistantName + "', but found: " + visibleName);
             }
 
-            System.out.println("Search functionality verified for: " + assistantName);
+            Log.info("Search functionality verified for: " + assistantName);
 
         } catch (Exception e) {
             e.printStackTrace();
@@ -116,7 +121,7 @@ public class AssistantListTestCA extends BaseTest {
     @Test(priority = 4)
     public void verifyAssistantFilterWithCalendarAndStatus() {
         AssistantPage assistantsPage = new AssistantPage(driver);
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        WebDriverWait wait = new TracedWait(driver, Duration.ofSeconds(10));
 
         try {
             wait.until(ExpectedConditions.elementToBeClickable(AssistantsPageLocators.CALENDAR_ICON)).click();
@@ -132,7 +137,7 @@ public class AssistantListTestCA extends BaseTest {
 
             WebElement randomStatus = statusOptions.get(new Random().nextInt(statusOptions.size()));
             String selectedStatus = randomStatus.getText().trim();
-            System.out.println("Selected status: " + selectedStatus);
+            Log.info("Selected status: " + selectedStatus);
             randomStatus.click();
 
             wait.until(ExpectedConditions.elementToBeClickable(AssistantsPageLocators.APPLY_FILTER_BUTTON)).click();
@@ -141,11 +146,11 @@ public class AssistantListTestCA extends BaseTest {
 
             List<WebElement> noDataMsg = assistantsPage.getNoAssistantMessage();
             if (!noDataMsg.isEmpty() && noDataMsg.get(0).isDisplayed()) {
-                System.out.println("No data available for selected filters.");
+                Log.info("No data available for selected filters.");
             } else {
                 List<WebElement> filteredRows = assistantsPage.getAssistantNameCells();
                 Assert.assertTrue(!filteredRows.isEmpty(), "Filtered rows should not be empty.");
-                System.out.println("Filtered rows found for status: " + selectedStatus);
+                Log.info("Filtered rows found for status: " + selectedStatus);
             }
 
         } catch (Exception e) {
@@ -1,6 +1,9 @@
 package tests;
 
 import base.BaseTest;
+import base.Fixture;
+import base.RunAs;
+import enums.UserRole;
 import helpers.APIDocumentationTestHelper;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
@@ -9,6 +12,7 @@ import pages.LoginPage;
 import pages.APIAndDocumentationPage;
 import pages.EnterpriseControlCenterPage;
 import utils.ConfigReader;
+import utils.Log;
 
 /**
  * Test Suite for Enterprise API & Documentation Module
@@ -20,6 +24,7 @@ import utils.ConfigReader;
  * Covers SMS, OBD, CCS, WABA services similar to
  * SuperAdminAPIAndDocumentationTest
  */
+@RunAs(role = UserRole.ENTERPRISE, wallet = Fixture.MAX_SERVICES_WALLET)
 public class EnterpriseAPIDocumentationTest extends BaseTest {
 
     private LoginPage loginPage;
@@ -42,7 +47,7 @@ public class EnterpriseAPIDocumentationTest extends BaseTest {
                 expectedDomain = url.split("://")[1].split("/")[0];
             }
         } catch (Exception e) {
-            System.out.println("Using default domain: " + expectedDomain);
+            Log.info("Using default domain: " + expectedDomain);
         }
 
         testHelper = new APIDocumentationTestHelper(driver, expectedDomain);
@@ -52,24 +57,24 @@ public class EnterpriseAPIDocumentationTest extends BaseTest {
 
     @Test(priority = 1, description = "Login as Enterprise user and navigate to API & Documentation")
     public void testLoginAndNavigateToAPIDoc() throws InterruptedException {
-        System.out.println("\n========================================");
-        System.out.println("ENTERPRISE API & DOCUMENTATION TEST SUITE");
-        System.out.println("========================================\n");
+        Log.info("\n========================================");
+        Log.info("ENTERPRISE API & DOCUMENTATION TEST SUITE");
+        Log.info("========================================\n");
 
-        System.out.println("=== Test Case 1: Login & Navigation ===");
+        Log.info("=== Test Case 1: Login & Navigation ===");
 
         try {
-            System.out.println("Step 1: Logging in as Enterprise user with max services...");
+            Log.info("Step 1: Logging in as Enterprise user with max services...");
             loginPage.loginWithEnterpriseMaxServices();
-            System.out.println("✓ Logged in as Enterprise user.");
+            Log.info("✓ Logged in as Enterprise user.");
 
-            System.out.println("Step 2: Navigating to API & Documentation...");
+            Log.info("Step 2: Navigating to API & Documentation...");
             apiDocPage.navigateToAPIAndDocumentation();
             Thread.sleep(1500);
 
             Assert.assertTrue(apiDocPage.isPageLoaded(),
                     "FAILURE: API & Documentation page did not load");
-            System.out.println("✓ Successfully navigated to API & Documentation page.\n");
+            Log.info("✓ Successfully navigated to API & Documentation page.\n");
         } catch (Exception e) {
             Assert.fail("FAILURE: API & Documentation navigation failed - " + e.getMessage());
         }
@@ -79,16 +84,16 @@ public class EnterpriseAPIDocumentationTest extends BaseTest {
 
     @Test(priority = 2, description = "Verify API & Documentation tab visibility and clickability", dependsOnMethods = "testLoginAndNavigateToAPIDoc")
     public void testAPIDocTabVisibilityAndClickability() throws InterruptedException {
-        System.out.println("=== Test Case 2: Tab Visibility & Clickability ===");
+        Log.info("=== Test Case 2: Tab Visibility & Clickability ===");
 
         try {
             boolean isVisible = apiDocPage.isAPIDocTabVisible();
             Assert.assertTrue(isVisible, "API & Documentation tab should be visible");
-            System.out.println("✓ API & Documentation tab is visible");
+            Log.info("✓ API & Documentation tab is visible");
 
             boolean isClickable = apiDocPage.isAPIDocTabClickable();
             Assert.assertTrue(isClickable, "API & Documentation tab should be clickable");
-            System.out.println("✓ API & Documentation tab is clickable\n");
+            Log.info("✓ API & Documentation tab is clickable\n");
 
             Thread.sleep(1000);
         } catch (Exception e) {
@@ -100,13 +105,13 @@ public class EnterpriseAPIDocumentationTest extends BaseTest {
 
     @Test(priority = 3, description = "Validate SMS service documentation and Swagger UI", dependsOnMethods = "testAPIDocTabVisibilityAndClickability")
     public void testSMSServiceDocumentation() throws InterruptedException {
-        System.out.println("=== Test Case 3: SMS Service Documentation ===");
+        Log.info("=== Test Case 3: SMS Service Documentation ===");
 
         try {
             testHelper.validateServiceDocumentation("SMS");
-            System.out.println("✓ SMS service documentation validated successfully\n");
+            Log.info("✓ SMS service documentation validated successfully\n");
         } catch (Exception e) {
-            System.out.println("SKIPPED: SMS service validation - " + e.getMessage() + "\n");
+            Log.warn("SKIPPED: SMS service validation - " + e.getMessage() + "\n");
         }
         Thread.sleep(1000);
     }
@@ -115,13 +120,13 @@ public class EnterpriseAPIDocumentationTest extends BaseTest {
 
     @Test(priority = 4, description = "Validate OBD service documentation and Swagger UI", dependsOnMethods = "testSMSServiceDocumentation", alwaysRun = true)
     public void testOBDServiceDocumentation() throws InterruptedException {
-        System.out.println("=== Test Case 4: OBD Service Documentation ===");
+        Log.info("=== Test Case 4: OBD Service Documentation ===");
 
         try {
             testHelper.validateServiceDocumentation("OBD");
-            System.out.println("✓ OBD service documentation validated successfully\n");
+            Log.info("✓ OBD service documentation validated successfully\n");
         } catch (Exception e) {
-            System.out.println("SKIPPED: OBD service validation - " + e.getMessage() + "\n");
+            Log.warn("SKIPPED: OBD service validation - " + e.getMessage() + "\n");
         }
         Thread.sleep(1000);
     }
@@ -130,13 +135,13 @@ public class EnterpriseAPIDocumentationTest extends BaseTest {
 
     @Test(priority = 5, description = "Validate CCS service documentation and Swagger UI", dependsOnMethods = "testOBDServiceDocumentation", alwaysRun = true)
     public void testCCSServiceDocumentation() throws InterruptedException {
-        System.out.println("=== Test Case 5: CCS Service Documentation ===");
+        Log.info("=== Test Case 5: CCS Service Documentation ===");
 
         try {
             testHelper.validateServiceDocumentation("CCS");
-            System.out.println("✓ CCS service documentation validated successfully\n");
+            Log.info("✓ CCS service documentation validated successfully\n");
         } catch (Exception e) {
-            System.out.println("SKIPPED: CCS service validation - " + e.getMessage() + "\n");
+            Log.warn("SKIPPED: CCS service validation - " + e.getMessage() + "\n");
         }
         Thread.sleep(1000);
     }
@@ -145,13 +150,13 @@ public class EnterpriseAPIDocumentationTest extends BaseTest {
 
     @Test(priority = 6, description = "Validate WABA service documentation and Swagger UI", dependsOnMethods = "testCCSServiceDocumentation", alwaysRun = true)
     public void testWABAServiceDocumentation() throws InterruptedException {
-        System.out.println("=== Test Case 6: WABA Service Documentation ===");
+        Log.info("=== Test Case 6: WABA Service Documentation ===");
 
         try {
             testHelper.validateServiceDocumentation("WABA");
-            System.out.println("✓ WABA service documentation validated successfully\n");
+            Log.info("✓ WABA service documentation validated successfully\n");
         } catch (Exception e) {
-            System.out.println("SKIPPED: WABA service validation - " + e.getMessage() + "\n");
+            Log.warn("SKIPPED: WABA service validation - " + e.getMessage() + "\n");
         }
         Thread.sleep(1000);
     }
@@ -161,13 +166,13 @@ public class EnterpriseAPIDocumentationTest extends BaseTest {
 
     @Test(priority = 7, description = "Validate RCS service documentation if available", dependsOnMethods = "testWABAServiceDocumentation", alwaysRun = true)
     public void testRCSServiceDocumentation() throws InterruptedException {
-        System.out.println("=== Test Case 7: RCS Service Documentation ===");
+        Log.info("=== Test Case 7: RCS Service Documentation ===");
 
         try {
             testHelper.validateServiceDocumentation("RCS");
-            System.out.println("✓ RCS service documentation validated successfully\n");
+            Log.info("✓ RCS service documentation validated successfully\n");
         } catch (Exception e) {
-            System.out.println("INFO: RCS service not available or validation failed - " + e.getMessage() + "\n");
+            Log.info("INFO: RCS service not available or validation failed - " + e.getMessage() + "\n");
         }
         Thread.sleep(1000);
     }
@@ -177,13 +182,13 @@ public class EnterpriseAPIDocumentationTest extends BaseTest {
 
     @Test(priority = 8, description = "Validate IVR service documentation if available", dependsOnMethods = "testRCSServiceDocumentation", alwaysRun = true)
     public void testIVRServiceDocumentation() throws InterruptedException {
-        System.out.println("=== Test Case 8: IVR Service Documentation ===");
+        Log.info("=== Test Case 8: IVR Service Documentation ===");
 
         try {
             testHelper.validateServiceDocumentation("IVR");
-            System.out.println("✓ IVR service documentation validated successfully\n");
+            Log.info("✓ IVR service documentation validated successfully\n");
         } catch (Exception e) {
-            System.out.println("INFO: IVR service not available or validation failed - " + e.getMessage() + "\n");
+            Log.info("INFO: IVR service not available or validation failed - " + e.getMessage() + "\n");
         }
         Thread.sleep(1000);
     }
@@ -192,17 +197,17 @@ public class EnterpriseAPIDocumentationTest extends BaseTest {
 
     @Test(priority = 9, description = "Logout from Enterprise account", dependsOnMethods = "testLoginAndNavigateToAPIDoc", alwaysRun = true)
     public void testLogout() throws InterruptedException {
-        System.out.println("=== Test Case 9: Logout ===");
+        Log.info("=== Test Case 9: Logout ===");
 
         try {
             loginPage.logout();
-            System.out.println("✓ Logout successful.\n");
+            Log.info("✓ Logout successful.\n");
         } catch (Exception e) {
-            System.out.println("INFO: Logout encountered an issue - " + e.getMessage() + "\n");
+            Log.info("INFO: Logout encountered an issue - " + e.getMessage() + "\n");
         }
 
-        System.out.println("========================================");
-        System.out.println("ENTERPRISE API & DOCUMENTATION TEST SUITE - COMPLETED");
-        System.out.println("========================================");
+        Log.info("========================================");
+        Log.info("ENTERPRISE API & DOCUMENTATION TEST SUITE - COMPLETED");
+        Log.info("========================================");
     }
 }
@@ -1,11 +1,15 @@
 package tests;
 
 import base.BaseTest;
+import base.Fixture;
+import base.RunAs;
+import enums.UserRole;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 import pages.LoginPage;
 import pages.EnterpriseControlCenterPage;
+import utils.Log;
 
 import java.util.List;
 
@@ -14,6 +18,7 @@ import java.util.List;
  * Tests Control Center navigation and Team Management functionality
  * for Enterprise login flow
  */
+@RunAs(role = UserRole.ENTERPRISE, wallet = Fixture.MAX_SERVICES_WALLET)
 public class EnterpriseControlCenterTabTest extends BaseTest {
 
     private LoginPage loginPage;
@@ -31,17 +36,17 @@ public class EnterpriseControlCenterTabTest extends BaseTest {
 
     @Test(priority = 1, description = "Login as Enterprise user and navigate to Control Center")
     public void testLoginAndControlCenterNavigation() {
-        System.out.println("=== Test Case 1: Dashboard Navigation & Control Center Redirection ===");
+        Log.info("=== Test Case 1: Dashboard Navigation & Control Center Redirection ===");
 
         try {
             loginPage.loginWithEnterpriseMaxServices();
-            System.out.println("Logged in as Enterprise user.");
+            Log.info("Logged in as Enterprise user.");
 
             controlCenterPage.navigateToControlCenter();
 
             Assert.assertTrue(controlCenterPage.isControlCenterLoaded(),
                     "FAILURE: Control Center menu locator did not find element or page did not load after click");
-            System.out.println("✓ Successfully navigated to Control Center.");
+            Log.info("✓ Successfully navigated to Control Center.");
         } catch (Exception e) {
             Assert.fail("FAILURE: Control Center navigation failed - " + e.getMessage());
         }
@@ -52,14 +57,14 @@ public class EnterpriseControlCenterTabTest extends BaseTest {
 
     @Test(priority = 2, description = "Navigate to Team Management tab from Control Center", dependsOnMethods = "testLoginAndControlCenterNavigation")
     public void testTeamManagementTabNavigation() {
-        System.out.println("=== Test Case 2: Team Management Tab Navigation ===");
+        Log.info("=== Test Case 2: Team Management Tab Navigation ===");
 
         try {
             controlCenterPage.clickTeamManagementTab();
 
             Assert.assertTrue(controlCenterPage.isTeamManagementLoaded(),
                     "FAILURE: Team Management tab locator not found or section did not load");
-            System.out.println("✓ Successfully navigated to Team Management.");
+            Log.info("✓ Successfully navigated to Team Management.");
         } catch (Exception e) {
             Assert.fail("FAILURE: Team Management navigation failed - " + e.getMessage());
         }
@@ -70,15 +75,15 @@ public class EnterpriseControlCenterTabTest extends BaseTest {
 
     @Test(priority = 3, description = "Validate Team Management table headers", dependsOnMethods = "testTeamManagementTabNavigation")
     public void testTableHeaders() {
-        System.out.println("=== Test Case 3: Table Headers Validation ===");
+        Log.info("=== Test Case 3: Table Headers Validation ===");
 
         try {
             List<String> headers = controlCenterPage.getTableHeaders();
-            System.out.println("Found headers: " + headers);
+            Log.info("Found headers: " + headers);
 
             Assert.assertFalse(headers.isEmpty(),
                     "FAILURE: Table headers locator did not find any header elements");
-            System.out.println("✓ Table headers validated: " + headers);
+            Log.info("✓ Table headers validated: " + headers);
         } catch (Exception e) {
             Assert.fail("FAILURE: Table headers validation failed - " + e.getMessage());
         }
@@ -88,28 +93,27 @@ public class EnterpriseControlCenterTabTest extends BaseTest {
 
     @Test(priority = 4, description = "Test pagination Next button", dependsOnMethods = "testTeamManagementTabNavigation", alwaysRun = true)
     public void testPaginationNext() {
-        System.out.println("=== Test Case 4: Pagination Next ===");
+        Log.info("=== Test Case 4: Pagination Next ===");
 
         try {
             if (!controlCenterPage.isPaginationAvailable()) {
-                System.out
-                        .println("✓ Pagination not available (less than 10 records) - Test PASSED (expected behavior)");
+                Log.info("✓ Pagination not available (less than 10 records) - Test PASSED (expected behavior)");
                 return;
             }
 
             int initialRowCount = controlCenterPage.getTableRowCount();
-            System.out.println("Initial row count: " + initialRowCount);
+            Log.info("Initial row count: " + initialRowCount);
 
             if (controlCenterPage.isNextEnabled()) {
                 boolean clicked = controlCenterPage.clickNext();
                 Assert.assertTrue(clicked,
                         "FAILURE: Next button locator found but click action failed");
-                System.out.println("✓ Pagination Next button working correctly.");
+                Log.info("✓ Pagination Next button working correctly.");
             } else {
-                System.out.println("✓ Next button disabled (at last page or single page) - Test PASSED");
+                Log.info("✓ Next button disabled (at last page or single page) - Test PASSED");
             }
         } catch (Exception e) {
-            System.out.println("SKIPPED: Pagination Next - " + e.getMessage());
+            Log.warn("SKIPPED: Pagination Next - " + e.getMessage());
         }
     }
 
@@ -117,12 +121,11 @@ public class EnterpriseControlCenterTabTest extends BaseTest {
 
     @Test(priority = 5, description = "Test pagination Previous button", dependsOnMethods = "testPaginationNext", alwaysRun = true)
     public void testPaginationPrevious() {
-        System.out.println("=== Test Case 5: Pagination Previous ===");
+        Log.info("=== Test Case 5: Pagination Previous ===");
 
         try {
             if (!controlCenterPage.isPaginationAvailable()) {
-                System.out
-                        .println("✓ Pagination not available (less than 10 records) - Test PASSED (expected behavior)");
+                Log.info("✓ Pagination not available (less than 10 records) - Test PASSED (expected behavior)");
                 return;
             }
 
@@ -130,12 +133,12 @@ public class EnterpriseControlCenterTabTest extends BaseTest {
                 boolean clicked = controlCenterPage.clickPrevious();
                 Assert.assertTrue(clicked,
                         "FAILURE: Previous button locator found but click action failed");
-                System.out.println("✓ Pagination Previous button working correctly.");
+                Log.info("✓ Pagination Previous button working correctly.");
             } else {
-                System.out.println("✓ Previous button disabled (at first page) - Test PASSED");
+                Log.info("✓ Previous button disabled (at first page) - Test PASSED");
             }
         } catch (Exception e) {
-            System.out.println("SKIPPED: Pagination Previous - " + e.getMessage());
+            Log.warn("SKIPPED: Pagination Previous - " + e.getMessage());
         }
     }
 
@@ -143,24 +146,23 @@ public class EnterpriseControlCenterTabTest extends BaseTest {
 
     @Test(priority = 6, description = "Verify Edit button is clickable", dependsOnMethods = "testTeamManagementTabNavigation", alwaysRun = true)
     public void testEditButtonClickable() {
-        System.out.println("=== Test Case 6: Edit Button Clickable ===");
+        Log.info("=== Test Case 6: Edit Button Clickable ===");
 
         try {
             int rowCount = controlCenterPage.getTableRowCount();
             if (rowCount == 0) {
-                System.out.println("✓ No rows in table - Edit button test skipped (valid scenario)");
+                Log.info("✓ No rows in table - Edit button test skipped (valid scenario)");
                 return;
             }
 
             boolean isClickable = controlCenterPage.isFirstEditButtonClickable();
             if (isClickable) {
-                System.out.println("✓ Edit button is clickable.");
+                Log.info("✓ Edit button is clickable.");
             } else {
-                System.out
-                        .println("INFO: Edit button locator did not find element (may not be available for this role)");
+                Log.info("INFO: Edit button locator did not find element (may not be available for this role)");
             }
         } catch (Exception e) {
-            System.out.println("SKIPPED: Edit button - " + e.getMessage());
+            Log.warn("SKIPPED: Edit button - " + e.getMessage());
         }
     }
 
@@ -168,24 +170,23 @@ public class EnterpriseControlCenterTabTest extends BaseTest {
 
     @Test(priority = 7, description = "Verify View button is clickable", dependsOnMethods = "testTeamManagementTabNavigation", alwaysRun = true)
     public void testViewButtonClickable() {
-        System.out.println("=== Test Case 7: View Button Clickable ===");
+        Log.info("=== Test Case 7: View Button Clickable ===");
 
         try {
             int rowCount = controlCenterPage.getTableRowCount();
             if (rowCount == 0) {
-                System.out.println("✓ No rows in table - View button test skipped (valid scenario)");
+                Log.info("✓ No rows in table - View button test skipped (valid scenario)");
                 return;
             }
 
             boolean isClickable = controlCenterPage.isFirstViewButtonClickable();
             if (isClickable) {
-                System.out.println("✓ View button is clickable.");
+                Log.info("✓ View button is clickable.");
             } else {
-                System.out
-                        .println("INFO: View button locator did not find element (may not be available for this role)");
+                Log.info("INFO: View button locator did not find element (may not be available for this role)");
             }
         } catch (Exception e) {
-            System.out.println("SKIPPED: View button - " + e.getMessage());
+            Log.warn("SKIPPED: View button - " + e.getMessage());
         }
     }
 
@@ -193,34 +194,34 @@ public class EnterpriseControlCenterTabTest extends BaseTest {
 
     @Test(priority = 8, description = "Test search functionality with 3 characters from table data", dependsOnMethods = "testTeamManagementTabNavigation", alwaysRun = true)
     public void testSearchFunctionality() {
-        System.out.println("=== Test Case 8: Search Functionality ===");
+        Log.info("=== Test Case 8: Search Functionality ===");
 
         try {
             int initialCount = controlCenterPage.getTableRowCount();
-            System.out.println("Initial row count: " + initialCount);
+            Log.info("Initial row count: " + initialCount);
 
             if (initialCount == 0) {
-                System.out.println("✓ No data to search - Test PASSED");
+                Log.info("✓ No data to search - Test PASSED");
                 return;
             }
 
             // Get first 3 characters from first row name for search
             String searchTerm = controlCenterPage.getFirstRowNamePrefix();
             if (searchTerm.isEmpty()) {
-                System.out.println("INFO: Could not extract 3-char search term from table, using default 'abc'");
+                Log.info("INFO: Could not extract 3-char search term from table, using default 'abc'");
                 searchTerm = "abc";
             }
 
-            System.out.println("Searching with 3-char term: '" + searchTerm + "'");
+            Log.info("Searching with 3-char term: '" + searchTerm + "'");
             controlCenterPage.search(searchTerm);
 
             int searchCount = controlCenterPage.getSearchResultCount();
-            System.out.println("Search result count: " + searchCount);
+            Log.info("Search result count: " + searchCount);
 
             controlCenterPage.clearSearch();
 
             if (searchCount >= 0) {
-                System.out.println("✓ Search functionality working - returned " + searchCount + " results for '"
+                Log.info("✓ Search functionality working - returned " + searchCount + " results for '"
                         + searchTerm + "'");
             }
         } catch (Exception e) {
@@ -232,38 +233,38 @@ public class EnterpriseControlCenterTabTest extends BaseTest {
 
     @Test(priority = 9, description = "Test filter by role from dropdown", dependsOnMethods = "testTeamManagementTabNavigation", alwaysRun = true)
     public void testFilterByRole() {
-        System.out.println("=== Test Case 9: Filter By Role ===");
+        Log.info("=== Test Case 9: Filter By Role ===");
 
         try {
             int initialCount = controlCenterPage.getTableRowCount();
             if (initialCount == 0) {
-                System.out.println("✓ No data to filter - Test PASSED");
+                Log.info("✓ No data to filter - Test PASSED");
                 return;
             }
 
             // Get first available role from dropdown
             String roleName = controlCenterPage.getFirstAvailableRoleFromDropdown();
             if (roleName.isEmpty()) {
-                System.out.println("INFO: Could not get role from dropdown, using default 'Admin'");
+                Log.info("INFO: Could not get role from dropdown, using default 'Admin'");
                 roleName = "Admin";
             }
 
-            System.out.println("Filtering by role: '" + roleName + "'");
+            Log.info("Filtering by role: '" + roleName + "'");
 
             try {
                 controlCenterPage.filterByRole(roleName);
 
                 boolean isValid = controlCenterPage.validateFilteredResults(roleName);
-                System.out.println("Filter validation result: " + isValid);
+                Log.info("Filter validation result: " + isValid);
 
                 controlCenterPage.clearFilters();
 
-                System.out.println("✓ Filter by role '" + roleName + "' tested successfully.");
+                Log.info("✓ Filter by role '" + roleName + "' tested successfully.");
             } catch (Exception filterEx) {
-                System.out.println("INFO: Filter by role failed - " + filterEx.getMessage());
+                Log.info("INFO: Filter by role failed - " + filterEx.getMessage());
             }
         } catch (Exception e) {
-            System.out.println("SKIPPED: Filter by role - " + e.getMessage());
+            Log.warn("SKIPPED: Filter by role - " + e.getMessage());
         }
     }
 
@@ -272,18 +273,18 @@ public class EnterpriseControlCenterTabTest extends BaseTest {
 
     @Test(priority = 10, description = "Verify Add New button is clickable", dependsOnMethods = "testTeamManagementTabNavigation", alwaysRun = true)
     public void testAddNewButtonClickable() {
-        System.out.println("=== Test Case 10: Add New Button Clickable ===");
+        Log.info("=== Test Case 10: Add New Button Clickable ===");
 
         try {
             boolean isClickable = controlCenterPage.isAddNewClickable();
             if (isClickable) {
-                System.out.println("✓ Add New button is clickable.");
+                Log.info("✓ Add New button is clickable.");
             } else {
-                System.out.println(
+                Log.info(
                         "INFO: Add New button locator did not find element (button may not exist or require different permissions)");
             }
         } catch (Exception e) {
-            System.out.println("SKIPPED: Add New button - " + e.getMessage());
+            Log.warn("SKIPPED: Add New button - " + e.getMessage());
         }
     }
 
@@ -291,13 +292,13 @@ public class EnterpriseControlCenterTabTest extends BaseTest {
 
     @Test(priority = 11, description = "Logout from Enterprise account", dependsOnMethods = "testLoginAndControlCenterNavigation", alwaysRun = true)
     public void testLogout() {
-        System.out.println("=== Test Case 11: Logout ===");
+        Log.info("=== Test Case 11: Logout ===");
 
         try {
             loginPage.logout();
-            System.out.println("✓ Successfully logged out from Enterprise account.");
+            Log.info("✓ Successfully logged out from Enterprise account.");
         } catch (Exception e) {
-            System.out.println("INFO: Logout encountered an issue - " + e.getMessage());
+            Log.info("INFO: Logout encountered an issue - " + e.getMessage());
         }
     }
 }
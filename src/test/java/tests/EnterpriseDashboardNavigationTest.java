@@ -1,68 +1,70 @@
 package tests;
 
 import base.BaseTest;
+import base.Fixture;
+import enums.UserRole;
 import helpers.DashboardTestHelper;
-import org.testng.annotations.BeforeClass;
+import org.testng.Assert;
 import org.testng.annotations.Test;
 import pages.LoginPage;
+import utils.Log;
 
+/**
+ * Every test starts from the Enterprise dashboard of the max-services wallet,
+ * restored by the fixture, so the service checks are independent and run with
+ * parallel="methods".
+ */
+@Fixture(role = UserRole.ENTERPRISE, wallet = Fixture.MAX_SERVICES_WALLET)
 public class EnterpriseDashboardNavigationTest extends BaseTest {
 
-    private LoginPage loginPage;
-    private DashboardTestHelper dashboardHelper;
-
-    @BeforeClass
-    public void setupPages() {
-        retainSession = true; // Keep session across all tests to maintain wallet selection
-        loginPage = new LoginPage(driver);
-        dashboardHelper = new DashboardTestHelper(driver);
-    }
-
     @Test(priority = 1, description = "Login with Enterprise User and Select Max Services Wallet")
     public void testEnterpriseLoginAndWalletSelection() {
-        System.out.println("Starting Enterprise Login Test...");
-        loginPage.loginWithEnterpriseMaxServices();
-        System.out.println("Enterprise Dashboard loaded successfully.");
+        Assert.assertTrue(new LoginPage(getDriver()).isDashboardLoaded(UserRole.ENTERPRISE),
+                "Enterprise dashboard should be loaded for the max services wallet");
+        Log.info("Enterprise Dashboard loaded successfully.");
     }
 
-    @Test(priority = 2, description = "Test RCS service navigation", dependsOnMethods = "testEnterpriseLoginAndWalletSelection", alwaysRun = true)
+    @Test(priority = 2, description = "Test RCS service navigation")
     public void testRCSService() throws InterruptedException {
-        dashboardHelper.testServiceNavigation("RCS");
+        new DashboardTestHelper(getDriver()).testServiceNavigation("RCS");
     }
 
-    @Test(priority = 3, description = "Test CCS service navigation", dependsOnMethods = "testRCSService", alwaysRun = true)
+    @Test(priority = 3, description = "Test CCS service navigation")
     public void testCCSService() throws InterruptedException {
-        dashboardHelper.testServiceNavigation("CCS");
+        new DashboardTestHelper(getDriver()).testServiceNavigation("CCS");
     }
 
-    @Test(priority = 4, description = "Test SMS service navigation", dependsOnMethods = "testCCSService", alwaysRun = true)
+    @Test(priority = 4, description = "Test SMS service navigation")
     public void testSMSService() throws InterruptedException {
-        dashboardHelper.testServiceNavigation("SMS");
+        new DashboardTestHelper(getDriver()).testServiceNavigation("SMS");
     }
 
-    @Test(priority = 5, description = "Test IVR service navigation", dependsOnMethods = "testSMSService", alwaysRun = true)
+    @Test(priority = 5, description = "Test IVR service navigation")
     public void testIVRService() throws InterruptedException {
-        dashboardHelper.testServiceNavigation("IVR");
+        new DashboardTestHelper(getDriver()).testServiceNavigation("IVR");
     }
 
-    @Test(priority = 6, description = "Test OBD service navigation", dependsOnMethods = "testIVRService", alwaysRun = true)
+    @Test(priority = 6, description = "Test OBD service navigation")
     public void testOBDService() throws InterruptedException {
-        dashboardHelper.testServiceNavigation("OBD");
+        new DashboardTestHelper(getDriver()).testServiceNavigation("OBD");
     }
 
-    @Test(priority = 7, description = "Test WABA service navigation", dependsOnMethods = "testOBDService", alwaysRun = true)
+    @Test(priority = 7, description = "Test WABA service navigation")
     public void testWABAService() throws InterruptedException {
-        dashboardHelper.testServiceNavigation("WABA");
+        new DashboardTestHelper(getDriver()).testServiceNavigation("WABA");
     }
 
-    @Test(priority = 8, description = "Test Live Agent service navigation", dependsOnMethods = "testWABAService", alwaysRun = true)
+    @Test(priority = 8, description = "Test Live Agent service navigation")
     public void testLiveAgentService() throws InterruptedException {
-        dashboardHelper.testServiceNavigation("Live Agent");
+        new DashboardTestHelper(getDriver()).testServiceNavigation("Live Agent");
     }
 
-    @Test(priority = 9, description = "Logout from Enterprise", dependsOnMethods = "testLiveAgentService", alwaysRun = true)
+    // Logging out ends the session, so this test logs in on its own instead of
+    // using the shared snapshot the other tests restore
+    @Test(priority = 9, description = "Logout from Enterprise")
+    @Fixture(role = UserRole.ENTERPRISE, wallet = Fixture.MAX_SERVICES_WALLET, freshLogin = true)
     public void testLogout() {
-        loginPage.logout();
-        System.out.println("Successfully logged out from Enterprise account.");
+        new LoginPage(getDriver()).logout();
+        Log.info("Successfully logged out from Enterprise account.");
     }
 }
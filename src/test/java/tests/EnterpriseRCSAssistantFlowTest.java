@@ -1,6 +1,9 @@
 package tests;
 
 import base.BaseTest;
+import base.Fixture;
+import base.RunAs;
+import enums.UserRole;
 import helpers.RCSAssistantTestHelper;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
@@ -8,6 +11,7 @@ import org.testng.annotations.Test;
 import pages.LoginPage;
 import pages.RCSAssistantPage;
 import pages.ServicesPage;
+import utils.Log;
 
 /**
  * RCS Assistant Flow Test Suite
@@ -19,6 +23,7 @@ import pages.ServicesPage;
  * 
  * IMPORTANT: This is a NEW test class. No existing tests were modified.
  */
+@RunAs(role = UserRole.ENTERPRISE, wallet = Fixture.MAX_SERVICES_WALLET)
 public class EnterpriseRCSAssistantFlowTest extends BaseTest {
 
     private RCSAssistantTestHelper helper;
@@ -43,9 +48,9 @@ public class EnterpriseRCSAssistantFlowTest extends BaseTest {
     // ==================== 1. Login as Enterprise ====================
     @Test(priority = 1, description = "Login as Enterprise user with max service accounts")
     public void testLoginAsEnterprise() {
-        System.out.println("========================================");
-        System.out.println("TEST 1: Login as Enterprise User");
-        System.out.println("========================================");
+        Log.info("========================================");
+        Log.info("TEST 1: Login as Enterprise User");
+        Log.info("========================================");
 
         helper.loginAsEnterprise();
 
@@ -53,15 +58,15 @@ public class EnterpriseRCSAssistantFlowTest extends BaseTest {
         Assert.assertTrue(driver.getCurrentUrl().contains("dashboard") ||
                 driver.getCurrentUrl().contains("home"),
                 "Failed to login - not on dashboard");
-        System.out.println("✓ Successfully logged in as Enterprise user");
+        Log.info("✓ Successfully logged in as Enterprise user");
     }
 
     // ==================== 2. Navigate to Services ====================
     @Test(priority = 2, description = "Navigate to Services tab", dependsOnMethods = "testLoginAsEnterprise")
     public void testNavigateToServices() {
-        System.out.println("========================================");
-        System.out.println("TEST 2: Navigate to Services Tab");
-        System.out.println("========================================");
+        Log.info("========================================");
+        Log.info("TEST 2: Navigate to Services Tab");
+        Log.info("========================================");
 
         helper.navigateToServices();
 
@@ -71,121 +76,121 @@ public class EnterpriseRCSAssistantFlowTest extends BaseTest {
         } catch (InterruptedException e) {
         }
 
-        System.out.println("✓ Successfully navigated to Services tab");
+        Log.info("✓ Successfully navigated to Services tab");
     }
 
     // ==================== 3. Open RCS Service ====================
     @Test(priority = 3, description = "Open RCS Service details", dependsOnMethods = "testNavigateToServices")
     public void testOpenRCSService() {
-        System.out.println("========================================");
-        System.out.println("TEST 3: Open RCS Service");
-        System.out.println("========================================");
+        Log.info("========================================");
+        Log.info("TEST 3: Open RCS Service");
+        Log.info("========================================");
 
         helper.openRCSService();
-        System.out.println("✓ Successfully opened RCS Service details");
+        Log.info("✓ Successfully opened RCS Service details");
     }
 
     // ==================== 4. Identify Active Service Account ====================
     @Test(priority = 4, description = "Identify Active Service Account", dependsOnMethods = "testOpenRCSService")
     public void testIdentifyActiveServiceAccount() {
-        System.out.println("========================================");
-        System.out.println("TEST 4: Identify Active Service Account");
-        System.out.println("========================================");
+        Log.info("========================================");
+        Log.info("TEST 4: Identify Active Service Account");
+        Log.info("========================================");
 
         int activeRow = helper.identifyActiveServiceAccount();
 
         Assert.assertTrue(activeRow >= 1,
                 "No active service account found for RCS");
-        System.out.println("✓ Found active service account at row: " + activeRow);
-        System.out.println("  Service Account: " + helper.getSelectedServiceAccount());
+        Log.info("✓ Found active service account at row: " + activeRow);
+        Log.info("  Service Account: " + helper.getSelectedServiceAccount());
     }
 
     // ==================== 5. Perform SSO ====================
     @Test(priority = 5, description = "Perform SSO to RCS Portal", dependsOnMethods = "testIdentifyActiveServiceAccount")
     public void testPerformSSO() {
-        System.out.println("========================================");
-        System.out.println("TEST 5: Perform SSO to RCS Portal");
-        System.out.println("========================================");
+        Log.info("========================================");
+        Log.info("TEST 5: Perform SSO to RCS Portal");
+        Log.info("========================================");
 
         mainWindowHandle = driver.getWindowHandle();
         boolean ssoSuccess = helper.performSSO();
 
         Assert.assertTrue(ssoSuccess, "SSO to RCS Portal failed");
-        System.out.println("✓ SSO to RCS Portal successful");
+        Log.info("✓ SSO to RCS Portal successful");
     }
 
     // ==================== 6. Validate RCS Portal Redirection ====================
     @Test(priority = 6, description = "Validate RCS Portal redirection", dependsOnMethods = "testPerformSSO")
     public void testValidateRCSPortalRedirection() {
-        System.out.println("========================================");
-        System.out.println("TEST 6: Validate RCS Portal Redirection");
-        System.out.println("========================================");
+        Log.info("========================================");
+        Log.info("TEST 6: Validate RCS Portal Redirection");
+        Log.info("========================================");
 
         boolean onRCSPortal = helper.validateRCSPortalRedirection();
 
         Assert.assertTrue(onRCSPortal,
                 "Did not land on RCS Portal correctly");
-        System.out.println("✓ Successfully validated RCS Portal redirection");
-        System.out.println("  Current URL: " + driver.getCurrentUrl());
+        Log.info("✓ Successfully validated RCS Portal redirection");
+        Log.info("  Current URL: " + driver.getCurrentUrl());
     }
 
     // ==================== 7. Manage Assistants Navigation ====================
     @Test(priority = 7, description = "Navigate to Manage Assistants", dependsOnMethods = "testValidateRCSPortalRedirection")
     public void testManageAssistantsNavigation() {
-        System.out.println("========================================");
-        System.out.println("TEST 7: Navigate to Manage Assistants");
-        System.out.println("========================================");
+        Log.info("========================================");
+        Log.info("TEST 7: Navigate to Manage Assistants");
+        Log.info("========================================");
 
         helper.navigateToManageAssistants();
         rcsAssistantPage.waitForTableLoad();
-        System.out.println("✓ Successfully navigated to Manage Assistants");
+        Log.info("✓ Successfully navigated to Manage Assistants");
     }
 
     // ==================== 8. Add New Assistant - Basic Details
     // ====================
     @Test(priority = 8, description = "Add New Assistant - Fill Basic Details", dependsOnMethods = "testManageAssistantsNavigation")
     public void testAddNewAssistantBasicDetails() {
-        System.out.println("========================================");
-        System.out.println("TEST 8: Add New Assistant - Basic Details");
-        System.out.println("========================================");
+        Log.info("========================================");
+        Log.info("TEST 8: Add New Assistant - Basic Details");
+        Log.info("========================================");
 
         rcsAssistantPage.clickAddNewAssistant();
         createdAssistantName = rcsAssistantPage.fillBasicDetails();
 
         Assert.assertNotNull(createdAssistantName, "Assistant name should not be null");
         Assert.assertFalse(createdAssistantName.isEmpty(), "Assistant name should not be empty");
-        System.out.println("✓ Basic Details filled successfully");
-        System.out.println("  Created Assistant Name: " + createdAssistantName);
+        Log.info("✓ Basic Details filled successfully");
+        Log.info("  Created Assistant Name: " + createdAssistantName);
     }
 
     // ==================== 9. Branding Section ====================
     @Test(priority = 9, description = "Upload Branding Images", dependsOnMethods = "testAddNewAssistantBasicDetails")
     public void testBrandingSection() {
-        System.out.println("========================================");
-        System.out.println("TEST 9: Upload Branding Images");
-        System.out.println("========================================");
+        Log.info("========================================");
+        Log.info("TEST 9: Upload Branding Images");
+        Log.info("========================================");
 
         rcsAssistantPage.uploadBrandingImages();
-        System.out.println("✓ Branding images uploaded successfully");
+        Log.info("✓ Branding images uploaded successfully");
     }
 
     // ==================== 10. Contact Section ====================
     @Test(priority = 10, description = "Fill Contact Details and Submit", dependsOnMethods = "testBrandingSection")
     public void testContactSection() {
-        System.out.println("========================================");
-        System.out.println("TEST 10: Fill Contact Details and Submit");
-        System.out.println("========================================");
+        Log.info("========================================");
+        Log.info("TEST 10: Fill Contact Details and Submit");
+        Log.info("========================================");
 
         rcsAssistantPage.fillContactDetailsAndSubmit();
-        System.out.println("✓ Contact details filled and assistant submitted");
+        Log.info("✓ Contact details filled and assistant submitted");
     }
 
     // ==================== 11. Post-Creation Status Validation ====================
     @Test(priority = 11, description = "Validate Pending Status after creation", dependsOnMethods = "testContactSection")
     public void testPostCreationStatusValidation() {
-        System.out.println("========================================");
-        System.out.println("TEST 11: Validate Post-Creation Status");
-        System.out.println("========================================");
+        Log.info("========================================");
+        Log.info("TEST 11: Validate Post-Creation Status");
+        Log.info("========================================");
 
         // Wait for page to stabilize
         try {
@@ -194,7 +199,7 @@ public class EnterpriseRCSAssistantFlowTest extends BaseTest {
         }
 
         String status = rcsAssistantPage.getCreatedAssistantStatus();
-        System.out.println("  Assistant Status: " + status);
+        Log.info("  Assistant Status: " + status);
 
         // Status should be Pending after creation
         Assert.assertTrue(
@@ -202,74 +207,74 @@ public class EnterpriseRCSAssistantFlowTest extends BaseTest {
                         status.toLowerCase().contains("approval") ||
                         status.toLowerCase().contains("submitted"),
                 "Expected Pending status, but got: " + status);
-        System.out.println("✓ Assistant status is Pending as expected");
+        Log.info("✓ Assistant status is Pending as expected");
     }
 
     // ==================== 12. Search Functionality ====================
     @Test(priority = 12, description = "Search for Assistant", dependsOnMethods = "testPostCreationStatusValidation")
     public void testSearchFunctionality() {
-        System.out.println("========================================");
-        System.out.println("TEST 12: Search Functionality");
-        System.out.println("========================================");
+        Log.info("========================================");
+        Log.info("TEST 12: Search Functionality");
+        Log.info("========================================");
 
         // Use first 4 characters of the created assistant name
         String searchText = createdAssistantName.substring(0, Math.min(4, createdAssistantName.length()));
-        System.out.println("  Searching for: " + searchText);
+        Log.info("  Searching for: " + searchText);
 
         rcsAssistantPage.searchAssistant(searchText);
 
         boolean resultsValid = rcsAssistantPage.validateSearchResults(searchText);
         Assert.assertTrue(resultsValid, "Search results do not match search text");
-        System.out.println("✓ Search results validated");
+        Log.info("✓ Search results validated");
 
         // Clear search
         rcsAssistantPage.clearSearch();
-        System.out.println("✓ Search cleared");
+        Log.info("✓ Search cleared");
     }
 
     // ==================== 13. Download Assistant List ====================
     @Test(priority = 13, description = "Download Assistant List", dependsOnMethods = "testSearchFunctionality")
     public void testDownloadAssistantList() {
-        System.out.println("========================================");
-        System.out.println("TEST 13: Download Assistant List");
-        System.out.println("========================================");
+        Log.info("========================================");
+        Log.info("TEST 13: Download Assistant List");
+        Log.info("========================================");
 
         boolean downloadTriggered = rcsAssistantPage.clickDownloadIcon();
 
         Assert.assertTrue(downloadTriggered, "Download was not triggered");
-        System.out.println("✓ Download triggered successfully");
+        Log.info("✓ Download triggered successfully");
     }
 
     // ==================== 14. Filter - Pending Status ====================
     @Test(priority = 14, description = "Filter by Pending Status", dependsOnMethods = "testDownloadAssistantList")
     public void testFilterPendingStatus() {
-        System.out.println("========================================");
-        System.out.println("TEST 14: Filter by Pending Status");
-        System.out.println("========================================");
+        Log.info("========================================");
+        Log.info("TEST 14: Filter by Pending Status");
+        Log.info("========================================");
 
         rcsAssistantPage.applyPendingFilter();
 
         int rowCount = rcsAssistantPage.getRowCount();
-        System.out.println("  Rows after filter: " + rowCount);
+        Log.info("  Rows after filter: " + rowCount);
 
         // If rows exist, they should show Pending status
         if (rowCount > 0) {
-            System.out.println("✓ Filter applied - results found");
+            Log.info("✓ Filter applied - results found");
         } else {
-            System.out.println("✓ Filter applied - no pending assistants or filter worked correctly");
+            Log.info("✓ Filter applied - no pending assistants or filter worked correctly");
         }
 
         // Clear filter
         rcsAssistantPage.clearFilter();
-        System.out.println("✓ Filter cleared");
+        Log.info("✓ Filter cleared");
     }
 
     // ==================== 15. View Assistant Details ====================
     @Test(priority = 15, description = "View Assistant Details", dependsOnMethods = "testFilterPendingStatus")
     public void testViewAssistantDetails() {
-        System.out.println("========================================");
-        System.out.println("TEST 15: View Assistant Details");
-        System.out.println("========================================");
+        Log.info("========================================");
+        Log.info("TEST 15: View Assistant Details");
+        Log.info("========================================");
 
         // First search for our created assistant
         String searchText = createdAssistantName.substring(0, Math.min(6, createdAssistantName.length()));
@@ -284,31 +289,31 @@ public class EnterpriseRCSAssistantFlowTest extends BaseTest {
 
         boolean nameMatches = rcsAssistantPage.validateViewedAssistantName();
         Assert.assertTrue(nameMatches, "Viewed assistant name does not match selected record");
-        System.out.println("✓ Assistant details view validated");
+        Log.info("✓ Assistant details view validated");
     }
 
     // ==================== 16. Edit Assistant ====================
     @Test(priority = 16, description = "Edit Assistant", dependsOnMethods = "testViewAssistantDetails")
     public void testEditAssistant() {
-        System.out.println("========================================");
-        System.out.println("TEST 16: Edit Assistant");
-        System.out.println("========================================");
+        Log.info("========================================");
+        Log.info("TEST 16: Edit Assistant");
+        Log.info("========================================");
 
         rcsAssistantPage.clickEditIcon();
         updatedAssistantName = rcsAssistantPage.updateAllFields();
         rcsAssistantPage.saveChanges();
 
         Assert.assertNotNull(updatedAssistantName, "Updated name should not be null");
-        System.out.println("✓ Assistant edited successfully");
-        System.out.println("  Updated Name: " + updatedAssistantName);
+        Log.info("✓ Assistant edited successfully");
+        Log.info("  Updated Name: " + updatedAssistantName);
     }
 
     // ==================== 17. Post-Update Validation ====================
     @Test(priority = 17, description = "Validate Post-Update Changes", dependsOnMethods = "testEditAssistant")
     public void testPostUpdateValidation() {
-        System.out.println("========================================");
-        System.out.println("TEST 17: Validate Post-Update Changes");
-        System.out.println("========================================");
+        Log.info("========================================");
+        Log.info("TEST 17: Validate Post-Update Changes");
+        Log.info("========================================");
 
         // Wait for list to refresh
         try {
@@ -320,33 +325,33 @@ public class EnterpriseRCSAssistantFlowTest extends BaseTest {
 
         Assert.assertTrue(validationPassed,
                 "Updated assistant validation failed - new name not found or old name still exists");
-        System.out.println("✓ Post-update validation passed");
-        System.out.println("  New name reflects correctly: " + updatedAssistantName);
+        Log.info("✓ Post-update validation passed");
+        Log.info("  New name reflects correctly: " + updatedAssistantName);
     }
 
     // ==================== 18. Logout from RCS Portal ====================
     @Test(priority = 18, description = "Logout from RCS SSO workspace", dependsOnMethods = "testPostUpdateValidation")
     public void testLogoutFromRCSPortal() {
-        System.out.println("========================================");
-        System.out.println("TEST 18: Logout from RCS Portal");
-        System.out.println("========================================");
+        Log.info("========================================");
+        Log.info("TEST 18: Logout from RCS Portal");
+        Log.info("========================================");
 
         rcsAssistantPage.logoutFromRCSPortal();
 
         boolean isLoggedOut = rcsAssistantPage.isLoggedOut();
         Assert.assertTrue(isLoggedOut, "Logout from RCS Portal failed");
-        System.out.println("✓ Successfully logged out from RCS Portal");
+        Log.info("✓ Successfully logged out from RCS Portal");
 
         // Close RCS tab and switch back to main window
         try {
             helper.closeRCSPortalAndSwitchBack();
-            System.out.println("✓ Closed RCS Portal tab and returned to main window");
+            Log.info("✓ Closed RCS Portal tab and returned to main window");
         } catch (Exception e) {
-            System.out.println("Note: Could not switch back to main window: " + e.getMessage());
+            Log.info("Note: Could not switch back to main window: " + e.getMessage());
         }
 
-        System.out.println("\n========================================");
-        System.out.println("ALL 18 TESTS COMPLETED SUCCESSFULLY!");
-        System.out.println("========================================");
+        Log.info("\n========================================");
+        Log.info("ALL 18 TESTS COMPLETED SUCCESSFULLY!");
+        Log.info("========================================");
     }
 }
@@ -1,11 +1,15 @@
 package tests;
 
 import base.BaseTest;
+import base.Fixture;
+import base.RunAs;
+import enums.UserRole;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 import pages.LoginPage;
 import pages.EnterpriseRateCardPage;
+import utils.Log;
 
 import java.util.List;
 
@@ -14,6 +18,7 @@ import java.util.List;
  * Tests rate card navigation, list validation, pagination, serial numbers,
  * ordering, view functionality, and details page.
  */
+@RunAs(role = UserRole.ENTERPRISE, wallet = Fixture.MAX_SERVICES_WALLET)
 public class EnterpriseRateCardTabTest extends BaseTest {
 
     private LoginPage loginPage;
@@ -31,12 +36,12 @@ public class EnterpriseRateCardTabTest extends BaseTest {
 
     @Test(priority = 1, description = "Login as Enterprise user, navigate to Dashboard and redirect to Rate Card Tab")
     public void testLoginAndRateCardNavigation() {
-        System.out.println("=== Test Case 1: Dashboard Navigation & Rate Card Redirection ===");
+        Log.info("=== Test Case 1: Dashboard Navigation & Rate Card Redirection ===");
 
         try {
             // Login as Enterprise user with max services
             loginPage.loginWithEnterpriseMaxServices();
-            System.out.println("Logged in as Enterprise user.");
+            Log.info("Logged in as Enterprise user.");
 
             // Navigate to Rate Card from Dashboard
             rateCardPage.navigateToRateCard();
@@ -44,7 +49,7 @@ public class EnterpriseRateCardTabTest extends BaseTest {
             // Validate Rate Card page is loaded
             Assert.assertTrue(rateCardPage.isRateCardPageLoaded(),
                     "Rate Card page should be loaded after clicking Rate Card option");
-            System.out.println("Successfully navigated to Rate Card Tab.");
+            Log.info("Successfully navigated to Rate Card Tab.");
         } catch (Exception e) {
             Assert.fail("Test Case 1 Failed: " + e.getMessage());
         }
@@ -55,11 +60,11 @@ public class EnterpriseRateCardTabTest extends BaseTest {
 
     @Test(priority = 2, description = "Validate rate card list column headers are displayed correctly", dependsOnMethods = "testLoginAndRateCardNavigation")
     public void testRateCardListHeaderValidation() {
-        System.out.println("=== Test Case 2: Rate Card List Header Validation ===");
+        Log.info("=== Test Case 2: Rate Card List Header Validation ===");
 
         try {
             if (!rateCardPage.hasRateCards()) {
-                System.out.println("No rate cards available. Checking for No Data message.");
+                Log.info("No rate cards available. Checking for No Data message.");
                 Assert.assertTrue(rateCardPage.isNoDataMessageDisplayed(),
                         "Either rate cards or No Data message should be displayed");
                 return;
@@ -69,13 +74,13 @@ public class EnterpriseRateCardTabTest extends BaseTest {
             List<String> headers = rateCardPage.getRateCardListHeaders();
             Assert.assertFalse(headers.isEmpty(), "Rate card table headers should be present");
 
-            System.out.println("Found headers: " + headers);
+            Log.info("Found headers: " + headers);
 
             // Validate headers are not empty
             for (String header : headers) {
                 Assert.assertFalse(header.trim().isEmpty(), "Header text should not be empty");
             }
-            System.out.println("Rate card list headers validated successfully.");
+            Log.info("Rate card list headers validated successfully.");
         } catch (AssertionError e) {
             throw e;
         } catch (Exception e) {
@@ -88,36 +93,35 @@ public class EnterpriseRateCardTabTest extends BaseTest {
 
     @Test(priority = 3, description = "Validate pagination functionality - Next and Previous buttons", dependsOnMethods = "testRateCardListHeaderValidation")
     public void testPaginationFunctionality() {
-        System.out.println("=== Test Case 3: Pagination & Navigation Controls Validation ===");
+        Log.info("=== Test Case 3: Pagination & Navigation Controls Validation ===");
 
         try {
             if (!rateCardPage.isPaginationAvailable()) {
-                System.out
-                        .println("Pagination is not available (possibly not enough records). Test passed by default.");
+                Log.info("Pagination is not available (possibly not enough records). Test passed by default.");
                 return;
             }
 
             // Get initial pagination info
             String initialInfo = rateCardPage.getPaginationInfo();
-            System.out.println("Initial pagination info: " + initialInfo);
+            Log.info("Initial pagination info: " + initialInfo);
 
             // Test Next button
             boolean nextClicked = rateCardPage.clickNextPage();
             if (nextClicked) {
                 String afterNext = rateCardPage.getPaginationInfo();
-                System.out.println("After clicking Next: " + afterNext);
+                Log.info("After clicking Next: " + afterNext);
 
                 // Test Previous button
                 boolean prevClicked = rateCardPage.clickPreviousPage();
                 if (prevClicked) {
                     String afterPrev = rateCardPage.getPaginationInfo();
-                    System.out.println("After clicking Previous: " + afterPrev);
+                    Log.info("After clicking Previous: " + afterPrev);
                 }
             } else {
-                System.out.println("Next button is disabled (possibly on last page or only one page).");
+                Log.info("Next button is disabled (possibly on last page or only one page).");
             }
 
-            System.out.println("Pagination functionality validated successfully.");
+            Log.info("Pagination functionality validated successfully.");
         } catch (Exception e) {
             Assert.fail("Test Case 3 Failed: " + e.getMessage());
         }
@@ -128,11 +132,11 @@ public class EnterpriseRateCardTabTest extends BaseTest {
 
     @Test(priority = 4, description = "Validate no duplicate serial numbers across all pagination pages", dependsOnMethods = "testPaginationFunctionality")
     public void testDuplicateSerialNumberValidation() {
-        System.out.println("=== Test Case 4: Duplicate Serial Number Validation ===");
+        Log.info("=== Test Case 4: Duplicate Serial Number Validation ===");
 
         try {
             if (!rateCardPage.hasRateCards()) {
-                System.out.println("No rate cards available. Skipping duplicate validation.");
+                Log.info("No rate cards available. Skipping duplicate validation.");
                 return;
             }
 
@@ -142,7 +146,7 @@ public class EnterpriseRateCardTabTest extends BaseTest {
             Assert.assertTrue(duplicates.isEmpty(),
                     "Duplicate serial numbers found: " + duplicates);
 
-            System.out.println("No duplicate serial numbers found. Validation passed.");
+            Log.info("No duplicate serial numbers found. Validation passed.");
         } catch (AssertionError e) {
             throw e;
         } catch (Exception e) {
@@ -155,11 +159,11 @@ public class EnterpriseRateCardTabTest extends BaseTest {
 
     @Test(priority = 5, description = "Validate latest rate card entry is displayed at top of list", dependsOnMethods = "testDuplicateSerialNumberValidation")
     public void testLatestRateCardOrdering() {
-        System.out.println("=== Test Case 5: Latest Rate Card Ordering Validation ===");
+        Log.info("=== Test Case 5: Latest Rate Card Ordering Validation ===");
 
         try {
             if (!rateCardPage.hasRateCards()) {
-                System.out.println("No rate cards available. Skipping ordering validation.");
+                Log.info("No rate cards available. Skipping ordering validation.");
                 return;
             }
 
@@ -168,7 +172,7 @@ public class EnterpriseRateCardTabTest extends BaseTest {
             Assert.assertTrue(isLatestFirst,
                     "Latest rate card should be displayed at the top of the list");
 
-            System.out.println("Latest rate card ordering validated successfully.");
+            Log.info("Latest rate card ordering validated successfully.");
         } catch (AssertionError e) {
             throw e;
         } catch (Exception e) {
@@ -181,11 +185,11 @@ public class EnterpriseRateCardTabTest extends BaseTest {
 
     @Test(priority = 6, description = "Click on View icon for Active status rate card", dependsOnMethods = "testLatestRateCardOrdering")
     public void testActiveRateCardViewIcon() {
-        System.out.println("=== Test Case 6: Active Rate Card View Icon Validation ===");
+        Log.info("=== Test Case 6: Active Rate Card View Icon Validation ===");
 
         try {
             if (!rateCardPage.hasRateCards()) {
-                System.out.println("No rate cards available. Skipping view icon validation.");
+                Log.info("No rate cards available. Skipping view icon validation.");
                 return;
             }
 
@@ -193,11 +197,11 @@ public class EnterpriseRateCardTabTest extends BaseTest {
             int activeRow = rateCardPage.findFirstActiveRateCard();
 
             if (activeRow == -1) {
-                System.out.println("No active rate cards found. Skipping view icon validation.");
+                Log.info("No active rate cards found. Skipping view icon validation.");
                 return;
             }
 
-            System.out.println("Found Active rate card at row: " + activeRow);
+            Log.info("Found Active rate card at row: " + activeRow);
 
             // Validate view icon is clickable for active rate card
             Assert.assertTrue(rateCardPage.isViewIconClickable(activeRow),
@@ -210,7 +214,7 @@ public class EnterpriseRateCardTabTest extends BaseTest {
             Assert.assertTrue(rateCardPage.isRateCardDetailsPageLoaded(),
                     "Should be redirected to Rate Card Details page after clicking View icon");
 
-            System.out.println("Active rate card View icon validation passed. Redirected to Details page.");
+            Log.info("Active rate card View icon validation passed. Redirected to Details page.");
         } catch (AssertionError e) {
             throw e;
         } catch (Exception e) {
@@ -223,36 +227,36 @@ public class EnterpriseRateCardTabTest extends BaseTest {
 
     @Test(priority = 7, description = "All wallet services visible in details", dependsOnMethods = "testActiveRateCardViewIcon")
     public void testRateCardDetailsServicesDisplay() {
-        System.out.println("=== Test Case 7: Rate Card Details - Services Display Validation ===");
+        Log.info("=== Test Case 7: Rate Card Details - Services Display Validation ===");
 
         try {
             // Step 1: Navigate back to Rate Card list first
             rateCardPage.navigateBackToRateCardList();
-            System.out.println("Navigated back to Rate Card list.");
+            Log.info("Navigated back to Rate Card list.");
 
             // Step 2: Navigate to Services tab to collect available services
-            System.out.println("Step 1: Navigating to Services tab to collect available services...");
+            Log.info("Step 1: Navigating to Services tab to collect available services...");
             rateCardPage.navigateToServicesTab();
 
             // Collect services from Services tab
             List<String> servicesFromServicesTab = rateCardPage.getServicesFromServicesTab();
-            System.out.println("Services from Services Tab: " + servicesFromServicesTab);
+            Log.info("Services from Services Tab: " + servicesFromServicesTab);
 
             Assert.assertFalse(servicesFromServicesTab.isEmpty(),
                     "Services should be available in Services tab");
 
             // Step 3: Navigate to Rate Card tab
-            System.out.println("Step 2: Navigating to Rate Card tab...");
+            Log.info("Step 2: Navigating to Rate Card tab...");
             rateCardPage.navigateToRateCard();
 
             // Step 4: Find first active rate card and click view
             int activeRow = rateCardPage.findFirstActiveRateCard();
             if (activeRow == -1) {
-                System.out.println("No active rate cards found. Skipping services validation.");
+                Log.info("No active rate cards found. Skipping services validation.");
                 return;
             }
 
-            System.out.println("Step 3: Clicking View icon for Active rate card at row: " + activeRow);
+            Log.info("Step 3: Clicking View icon for Active rate card at row: " + activeRow);
             rateCardPage.clickViewIcon(activeRow);
 
             // Validate we're on details page
@@ -261,24 +265,24 @@ public class EnterpriseRateCardTabTest extends BaseTest {
 
             // Step 5: Get services displayed on Rate Card Details page
             List<String> servicesOnDetails = rateCardPage.getServicesOnRateCardDetails();
-            System.out.println("Services on Rate Card Details: " + servicesOnDetails);
+            Log.info("Services on Rate Card Details: " + servicesOnDetails);
 
             Assert.assertFalse(servicesOnDetails.isEmpty(),
                     "Services should be displayed on Rate Card Details page");
 
             // Step 6: Validate all Services tab services are present in Rate Card Details
-            System.out.println("\n--- Comparing Services ---");
-            System.out.println("Services from Services Tab: " + servicesFromServicesTab);
-            System.out.println("Services on Rate Card Details: " + servicesOnDetails);
+            Log.info("\n--- Comparing Services ---");
+            Log.info("Services from Services Tab: " + servicesFromServicesTab);
+            Log.info("Services on Rate Card Details: " + servicesOnDetails);
 
             List<String> missingServices = new java.util.ArrayList<>();
             for (String service : servicesFromServicesTab) {
                 boolean found = servicesOnDetails.stream()
                         .anyMatch(s -> s.equalsIgnoreCase(service));
                 if (found) {
-                    System.out.println("✓ Service found: " + service);
+                    Log.info("✓ Service found: " + service);
                 } else {
-                    System.out.println("✗ Service NOT found: " + service);
+                    Log.error("✗ Service NOT found: " + service);
                     missingServices.add(service);
                 }
             }
@@ -286,7 +290,7 @@ public class EnterpriseRateCardTabTest extends BaseTest {
             Assert.assertTrue(missingServices.isEmpty(),
                     "Missing services in Rate Card Details: " + missingServices);
 
-            System.out.println("Rate Card Details services display validated successfully. All services matched.");
+            Log.info("Rate Card Details services display validated successfully. All services matched.");
         } catch (AssertionError e) {
             throw e;
         } catch (Exception e) {
@@ -299,12 +303,12 @@ public class EnterpriseRateCardTabTest extends BaseTest {
 
     @Test(priority = 8, description = "Validate no Edit functionality available for Rate Cards", dependsOnMethods = "testRateCardDetailsServicesDisplay")
     public void testEditFunctionalityRestriction() {
-        System.out.println("=== Test Case 8: Edit Functionality Restriction Validation ===");
+        Log.info("=== Test Case 8: Edit Functionality Restriction Validation ===");
 
         try {
             // We should still be on the details page from Test Case 7
             if (!rateCardPage.isRateCardDetailsPageLoaded()) {
-                System.out.println("Not on Rate Card Details page. Test may be dependent on previous test.");
+                Log.info("Not on Rate Card Details page. Test may be dependent on previous test.");
                 return;
             }
 
@@ -314,7 +318,7 @@ public class EnterpriseRateCardTabTest extends BaseTest {
             Assert.assertFalse(editButtonPresent,
                     "Edit button should NOT be present on Rate Card Details page");
 
-            System.out.println("Edit functionality restriction validated - No Edit button present.");
+            Log.info("Edit functionality restriction validated - No Edit button present.");
 
             // Navigate back to Rate Card list for cleanup
             rateCardPage.navigateBackToRateCardList();
@@ -329,13 +333,13 @@ public class EnterpriseRateCardTabTest extends BaseTest {
 
     @Test(priority = 9, description = "Logout from Enterprise account", dependsOnMethods = "testEditFunctionalityRestriction", alwaysRun = true)
     public void testLogout() {
-        System.out.println("=== Test Case 9: Logout ===");
+        Log.info("=== Test Case 9: Logout ===");
 
         try {
             loginPage.logout();
-            System.out.println("Successfully logged out from Enterprise account.");
+            Log.info("Successfully logged out from Enterprise account.");
         } catch (Exception e) {
-            System.out.println("Logout encountered an issue: " + e.getMessage());
+            Log.info("Logout encountered an issue: " + e.getMessage());
             // This is cleanup, don't fail the test
         }
     }
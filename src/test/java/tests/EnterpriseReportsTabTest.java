@@ -1,12 +1,16 @@
 package tests;
 
 import base.BaseTest;
+import base.Fixture;
+import base.RunAs;
+import enums.UserRole;
 import helpers.EnterpriseReportsHelper;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 import pages.LoginPage;
 import pages.EnterpriseReportsPage;
+import utils.Log;
 
 import java.util.List;
 
@@ -15,6 +19,7 @@ import java.util.List;
  * Tests reports navigation, SMS reports, search, filter, and service node
  * redirection.
  */
+@RunAs(role = UserRole.ENTERPRISE, wallet = Fixture.MAX_SERVICES_WALLET)
 public class EnterpriseReportsTabTest extends BaseTest {
 
     private LoginPage loginPage;
@@ -34,12 +39,12 @@ public class EnterpriseReportsTabTest extends BaseTest {
 
     @Test(priority = 1, description = "Login as Enterprise user, navigate to Dashboard and redirect to Reports Tab")
     public void testLoginAndReportsNavigation() {
-        System.out.println("=== Test Case 1: Dashboard Navigation & Reports Redirection ===");
+        Log.info("=== Test Case 1: Dashboard Navigation & Reports Redirection ===");
 
         try {
             // Login as Enterprise user with max services
             loginPage.loginWithEnterpriseMaxServices();
-            System.out.println("Logged in as Enterprise user.");
+            Log.info("Logged in as Enterprise user.");
 
             // Navigate to Reports from Dashboard
             reportsPage.navigateToReports();
@@ -50,7 +55,7 @@ public class EnterpriseReportsTabTest extends BaseTest {
             // Validate Reports page is loaded
             Assert.assertTrue(reportsPage.isReportsPageLoaded(),
                     "Reports page should be loaded after clicking Reports option");
-            System.out.println("Successfully navigated to Reports Tab.");
+            Log.info("Successfully navigated to Reports Tab.");
         } catch (Exception e) {
             Assert.fail("Test Case 1 Failed: " + e.getMessage());
         }
@@ -61,7 +66,7 @@ public class EnterpriseReportsTabTest extends BaseTest {
 
     @Test(priority = 2, description = "Validate View Details button for SMS is clickable and redirects correctly", dependsOnMethods = "testLoginAndReportsNavigation")
     public void testSMSViewDetailsNavigation() {
-        System.out.println("=== Test Case 2: View Details Navigation for SMS ===");
+        Log.info("=== Test Case 2: View Details Navigation for SMS ===");
 
         try {
             // Click View Details for SMS
@@ -71,7 +76,7 @@ public class EnterpriseReportsTabTest extends BaseTest {
             Assert.assertTrue(reportsPage.isSMSReportsPageLoaded(),
                     "Should be redirected to SMS Reports page after clicking View Details");
 
-            System.out.println("Successfully navigated to SMS Reports page.");
+            Log.info("Successfully navigated to SMS Reports page.");
         } catch (Exception e) {
             Assert.fail("Test Case 2 Failed: " + e.getMessage());
         }
@@ -82,11 +87,11 @@ public class EnterpriseReportsTabTest extends BaseTest {
 
     @Test(priority = 3, description = "Validate SMS Reports list column headers are displayed correctly", dependsOnMethods = "testSMSViewDetailsNavigation")
     public void testSMSReportsListHeaderValidation() {
-        System.out.println("=== Test Case 3: Reports List Header Validation (SMS) ===");
+        Log.info("=== Test Case 3: Reports List Header Validation (SMS) ===");
 
         try {
             if (!reportsPage.hasReports()) {
-                System.out.println("No reports available. Skipping header validation.");
+                Log.info("No reports available. Skipping header validation.");
                 return;
             }
 
@@ -94,13 +99,13 @@ public class EnterpriseReportsTabTest extends BaseTest {
             List<String> headers = reportsPage.getReportsListHeaders();
             Assert.assertFalse(headers.isEmpty(), "Reports table headers should be present");
 
-            System.out.println("Found headers: " + headers);
+            Log.info("Found headers: " + headers);
 
             // Validate headers are not empty
             for (String header : headers) {
                 Assert.assertFalse(header.trim().isEmpty(), "Header text should not be empty");
             }
-            System.out.println("SMS Reports list headers validated successfully.");
+            Log.info("SMS Reports list headers validated successfully.");
         } catch (AssertionError e) {
             throw e;
         } catch (Exception e) {
@@ -113,24 +118,24 @@ public class EnterpriseReportsTabTest extends BaseTest {
 
     @Test(priority = 4, description = "Enter first 3 characters of top record and validate search results", dependsOnMethods = "testSMSReportsListHeaderValidation")
     public void testSearchFunctionality() {
-        System.out.println("=== Test Case 4: Search Functionality Validation (SMS) ===");
+        Log.info("=== Test Case 4: Search Functionality Validation (SMS) ===");
 
         try {
             if (!reportsPage.hasReports()) {
-                System.out.println("No reports available. Skipping search validation.");
+                Log.info("No reports available. Skipping search validation.");
                 return;
             }
 
             // Get first row text
             String firstRowText = reportsPage.getFirstRowFirstColumnText();
             if (firstRowText.isEmpty() || firstRowText.length() < 3) {
-                System.out.println("First row text too short for search test. Skipping.");
+                Log.info("First row text too short for search test. Skipping.");
                 return;
             }
 
             // Get first 3 characters
             String searchText = firstRowText.substring(0, 3);
-            System.out.println("Searching with first 3 characters: " + searchText);
+            Log.info("Searching with first 3 characters: " + searchText);
 
             // Perform search
             reportsPage.searchByText(searchText);
@@ -143,7 +148,7 @@ public class EnterpriseReportsTabTest extends BaseTest {
             // Clear search for next tests
             reportsPage.clearSearch();
 
-            System.out.println("Search functionality validated successfully.");
+            Log.info("Search functionality validated successfully.");
         } catch (AssertionError e) {
             throw e;
         } catch (Exception e) {
@@ -156,11 +161,11 @@ public class EnterpriseReportsTabTest extends BaseTest {
 
     @Test(priority = 5, description = "Apply Active filter and validate filtered results", dependsOnMethods = "testSearchFunctionality")
     public void testActiveStatusFilter() {
-        System.out.println("=== Test Case 5: Active Status Filter Validation ===");
+        Log.info("=== Test Case 5: Active Status Filter Validation ===");
 
         try {
             if (!reportsPage.hasReports()) {
-                System.out.println("No reports available. Skipping filter validation.");
+                Log.info("No reports available. Skipping filter validation.");
                 return;
             }
 
@@ -173,13 +178,13 @@ public class EnterpriseReportsTabTest extends BaseTest {
                 Assert.assertTrue(filterValid,
                         "All displayed records should have Active status after filter");
 
-                System.out.println("Active status filter validated successfully.");
+                Log.info("Active status filter validated successfully.");
 
                 // Clear filter for next tests
                 reportsPage.clearFilter();
             } catch (Exception filterEx) {
-                System.out.println("Filter functionality not available on this page: " + filterEx.getMessage());
-                System.out.println("Skipping filter validation - Filter UI may not be implemented.");
+                Log.info("Filter functionality not available on this page: " + filterEx.getMessage());
+                Log.warn("Skipping filter validation - Filter UI may not be implemented.");
                 // Don't fail the test if filter is not available
             }
         } catch (AssertionError e) {
@@ -194,22 +199,22 @@ public class EnterpriseReportsTabTest extends BaseTest {
 
     @Test(priority = 6, description = "Click redirect icon for non-Failed record and validate service account name", dependsOnMethods = "testSearchFunctionality", alwaysRun = true)
     public void testRedirectToServiceNode() {
-        System.out.println("=== Test Case 6: Redirect to Service Node for Detailed Report ===");
+        Log.info("=== Test Case 6: Redirect to Service Node for Detailed Report ===");
 
         try {
             if (!reportsPage.hasReports()) {
-                System.out.println("No reports available. Skipping redirect validation.");
+                Log.info("No reports available. Skipping redirect validation.");
                 return;
             }
 
             // Find first row with non-Failed status
             int nonFailedRow = reportsPage.findFirstNonFailedRow();
             if (nonFailedRow == -1) {
-                System.out.println("No non-failed records found. Skipping redirect validation.");
+                Log.info("No non-failed records found. Skipping redirect validation.");
                 return;
             }
 
-            System.out.println("Found non-failed record at row: " + nonFailedRow);
+            Log.info("Found non-failed record at row: " + nonFailedRow);
 
             // Click redirect to service node
             reportsPage.clickRedirectToServiceNode(nonFailedRow);
@@ -217,7 +222,7 @@ public class EnterpriseReportsTabTest extends BaseTest {
             // Handle new tab if opened
             reportsPage.switchToNewTabIfOpened();
 
-            System.out.println("Redirected to Service Node. Validation will continue in next test case.");
+            Log.info("Redirected to Service Node. Validation will continue in next test case.");
         } catch (Exception e) {
             Assert.fail("Test Case 6 Failed: " + e.getMessage());
         }
@@ -228,15 +233,15 @@ public class EnterpriseReportsTabTest extends BaseTest {
 
     @Test(priority = 7, description = "Validate Reports tab is selected after redirection, not any other tab", dependsOnMethods = "testRedirectToServiceNode", alwaysRun = true)
     public void testReportsTabSelection() {
-        System.out.println("=== Test Case 7: Reports Tab Selection Validation ===");
+        Log.info("=== Test Case 7: Reports Tab Selection Validation ===");
 
         try {
             // Validate Reports tab is selected (not any other tab)
-            System.out.println("Validating Reports tab is selected...");
+            Log.info("Validating Reports tab is selected...");
             boolean reportsTabSelected = reportsPage.isReportsTabSelected();
             Assert.assertTrue(reportsTabSelected,
                     "Reports tab should be selected/active after redirection, not any other tab");
-            System.out.println("✓ Reports tab is correctly selected.");
+            Log.info("✓ Reports tab is correctly selected.");
         } catch (AssertionError e) {
             throw e;
         } catch (Exception e) {
@@ -249,15 +254,15 @@ public class EnterpriseReportsTabTest extends BaseTest {
 
     @Test(priority = 8, description = "Validate Service Account Name matches on Dashboard after SSO redirect", dependsOnMethods = "testReportsTabSelection", alwaysRun = true)
     public void testServiceAccountNameValidation() {
-        System.out.println("=== Test Case 8: Service Account Name Validation ===");
+        Log.info("=== Test Case 8: Service Account Name Validation ===");
 
         try {
             // Validate service account name matches
-            System.out.println("Validating Service Account Name on Dashboard...");
+            Log.info("Validating Service Account Name on Dashboard...");
             boolean nameMatches = reportsPage.validateServiceAccountNameMatch();
             Assert.assertTrue(nameMatches,
                     "Service Account Name on Dashboard should match the selected record");
-            System.out.println("✓ Service Account Name validated successfully.");
+            Log.info("✓ Service Account Name validated successfully.");
         } catch (AssertionError e) {
             throw e;
         } catch (Exception e) {
@@ -269,38 +274,38 @@ public class EnterpriseReportsTabTest extends BaseTest {
 
     @Test(priority = 9, description = "Navigate to RCS Reports View Details", dependsOnMethods = "testServiceAccountNameValidation", alwaysRun = true)
     public void testRCSViewDetailsNavigation() {
-        System.out.println("=== Test Case 9: RCS View Details Navigation ===");
+        Log.info("=== Test Case 9: RCS View Details Navigation ===");
         try {
             // Close SSO tabs from SMS tests and navigate back to Reports listing
             reportsHelper.closeExtraTabsAndNavigateToReports();
             reportsPage.clickServiceViewDetails("RCS");
             Assert.assertTrue(reportsPage.isServiceReportsPageLoaded("RCS"),
                     "Should redirect to RCS Reports page after clicking View Details");
-            System.out.println("Successfully navigated to RCS Reports page.");
+            Log.info("Successfully navigated to RCS Reports page.");
         } catch (Exception e) {
-            System.out.println("RCS Reports not available: " + e.getMessage());
+            Log.info("RCS Reports not available: " + e.getMessage());
         }
     }
 
     @Test(priority = 10, description = "Validate RCS Reports list headers", dependsOnMethods = "testRCSViewDetailsNavigation", alwaysRun = true)
     public void testRCSReportsListHeaderValidation() {
-        System.out.println("=== Test Case 10: RCS Reports List Header Validation ===");
+        Log.info("=== Test Case 10: RCS Reports List Header Validation ===");
         try {
             if (!reportsPage.hasReports()) {
-                System.out.println("No RCS reports available. Skipping.");
+                Log.info("No RCS reports available. Skipping.");
                 return;
             }
             List<String> headers = reportsPage.getReportsListHeaders();
             Assert.assertFalse(headers.isEmpty(), "RCS Reports headers should be present");
-            System.out.println("RCS Reports headers: " + headers);
+            Log.info("RCS Reports headers: " + headers);
         } catch (Exception e) {
-            System.out.println("RCS header validation skipped: " + e.getMessage());
+            Log.info("RCS header validation skipped: " + e.getMessage());
         }
     }
 
     @Test(priority = 11, description = "Validate RCS Search Functionality", dependsOnMethods = "testRCSReportsListHeaderValidation", alwaysRun = true)
     public void testRCSSearchFunctionality() {
-        System.out.println("=== Test Case 11: RCS Search Functionality ===");
+        Log.info("=== Test Case 11: RCS Search Functionality ===");
         try {
             if (!reportsPage.hasReports())
                 return;
@@ -311,15 +316,15 @@ public class EnterpriseReportsTabTest extends BaseTest {
                 Assert.assertTrue(reportsPage.validateSearchResults(searchText), "RCS Search should find results");
                 reportsPage.clearSearch();
             }
-            System.out.println("RCS Search functionality validated.");
+            Log.info("RCS Search functionality validated.");
         } catch (Exception e) {
-            System.out.println("RCS search skipped: " + e.getMessage());
+            Log.info("RCS search skipped: " + e.getMessage());
         }
     }
 
     @Test(priority = 12, description = "Validate RCS Active Status Filter", dependsOnMethods = "testRCSSearchFunctionality", alwaysRun = true)
     public void testRCSActiveStatusFilter() {
-        System.out.println("=== Test Case 12: RCS Active Status Filter ===");
+        Log.info("=== Test Case 12: RCS Active Status Filter ===");
         try {
             if (!reportsPage.hasReports())
                 return;
@@ -328,16 +333,16 @@ public class EnterpriseReportsTabTest extends BaseTest {
                 Assert.assertTrue(reportsPage.validateActiveFilterResults(), "RCS Active filter should work");
                 reportsPage.clearFilter();
             } catch (Exception filterEx) {
-                System.out.println("RCS Filter not available: " + filterEx.getMessage());
+                Log.info("RCS Filter not available: " + filterEx.getMessage());
             }
         } catch (Exception e) {
-            System.out.println("RCS filter skipped: " + e.getMessage());
+            Log.info("RCS filter skipped: " + e.getMessage());
         }
     }
 
     @Test(priority = 13, description = "Validate RCS Redirect to Service Node", dependsOnMethods = "testRCSActiveStatusFilter", alwaysRun = true)
     public void testRCSRedirectToServiceNode() {
-        System.out.println("=== Test Case 13: RCS Redirect to Service Node ===");
+        Log.info("=== Test Case 13: RCS Redirect to Service Node ===");
         try {
             if (!reportsPage.hasReports())
                 return;
@@ -345,32 +350,32 @@ public class EnterpriseReportsTabTest extends BaseTest {
             if (nonFailedRow != -1) {
                 reportsPage.clickRedirectToServiceNode(nonFailedRow);
                 reportsPage.switchToNewTabIfOpened();
-                System.out.println("RCS Redirected to Service Node.");
+                Log.info("RCS Redirected to Service Node.");
             }
         } catch (Exception e) {
-            System.out.println("RCS redirect skipped: " + e.getMessage());
+            Log.info("RCS redirect skipped: " + e.getMessage());
         }
     }
 
     @Test(priority = 14, description = "Validate RCS Reports Tab Selection", dependsOnMethods = "testRCSRedirectToServiceNode", alwaysRun = true)
     public void testRCSReportsTabSelection() {
-        System.out.println("=== Test Case 14: RCS Reports Tab Selection ===");
+        Log.info("=== Test Case 14: RCS Reports Tab Selection ===");
         try {
             Assert.assertTrue(reportsPage.isReportsTabSelected(), "RCS Reports tab should be selected");
-            System.out.println("✓ RCS Reports tab is selected.");
+            Log.info("✓ RCS Reports tab is selected.");
         } catch (Exception e) {
-            System.out.println("RCS tab selection skipped: " + e.getMessage());
+            Log.info("RCS tab selection skipped: " + e.getMessage());
         }
     }
 
     @Test(priority = 15, description = "Validate RCS Service Account Name", dependsOnMethods = "testRCSReportsTabSelection", alwaysRun = true)
     public void testRCSServiceAccountNameValidation() {
-        System.out.println("=== Test Case 15: RCS Service Account Name Validation ===");
+        Log.info("=== Test Case 15: RCS Service Account Name Validation ===");
         try {
             Assert.assertTrue(reportsPage.validateServiceAccountNameMatch(), "RCS Service Account Name should match");
-            System.out.println("✓ RCS Service Account Name validated.");
+            Log.info("✓ RCS Service Account Name validated.");
         } catch (Exception e) {
-            System.out.println("RCS name validation skipped: " + e.getMessage());
+            Log.info("RCS name validation skipped: " + e.getMessage());
         }
     }
 
@@ -379,34 +384,34 @@ public class EnterpriseReportsTabTest extends BaseTest {
 
     @Test(priority = 16, description = "Navigate to WABA Reports View Details", dependsOnMethods = "testRCSServiceAccountNameValidation", alwaysRun = true)
     public void testWABAViewDetailsNavigation() {
-        System.out.println("=== Test Case 16: WABA View Details Navigation ===");
+        Log.info("=== Test Case 16: WABA View Details Navigation ===");
         try {
             reportsHelper.closeExtraTabsAndNavigateToReports();
             reportsPage.clickServiceViewDetails("WABA");
             Assert.assertTrue(reportsPage.isServiceReportsPageLoaded("WABA"), "Should load WABA Reports");
-            System.out.println("Successfully navigated to WABA Reports page.");
+            Log.info("Successfully navigated to WABA Reports page.");
         } catch (Exception e) {
-            System.out.println("WABA Reports not available: " + e.getMessage());
+            Log.info("WABA Reports not available: " + e.getMessage());
         }
     }
 
     @Test(priority = 17, description = "Validate WABA Reports list headers", dependsOnMethods = "testWABAViewDetailsNavigation", alwaysRun = true)
     public void testWABAReportsListHeaderValidation() {
-        System.out.println("=== Test Case 17: WABA Reports List Header Validation ===");
+        Log.info("=== Test Case 17: WABA Reports List Header Validation ===");
         try {
             if (!reportsPage.hasReports())
                 return;
             List<String> headers = reportsPage.getReportsListHeaders();
             Assert.assertFalse(headers.isEmpty(), "WABA Reports headers should be present");
-            System.out.println("WABA Reports headers: " + headers);
+            Log.info("WABA Reports headers: " + headers);
         } catch (Exception e) {
-            System.out.println("WABA header validation skipped: " + e.getMessage());
+            Log.info("WABA header validation skipped: " + e.getMessage());
         }
     }
 
     @Test(priority = 18, description = "Validate WABA Search Functionality", dependsOnMethods = "testWABAReportsListHeaderValidation", alwaysRun = true)
     public void testWABASearchFunctionality() {
-        System.out.println("=== Test Case 18: WABA Search Functionality ===");
+        Log.info("=== Test Case 18: WABA Search Functionality ===");
         try {
             if (!reportsPage.hasReports())
                 return;
@@ -417,15 +422,15 @@ public class EnterpriseReportsTabTest extends BaseTest {
                         "WABA Search should work");
                 reportsPage.clearSearch();
             }
-            System.out.println("WABA Search functionality validated.");
+            Log.info("WABA Search functionality validated.");
         } catch (Exception e) {
-            System.out.println("WABA search skipped: " + e.getMessage());
+            Log.info("WABA search skipped: " + e.getMessage());
         }
     }
 
     @Test(priority = 19, description = "Validate WABA Active Status Filter", dependsOnMethods = "testWABASearchFunctionality", alwaysRun = true)
     public void testWABAActiveStatusFilter() {
-        System.out.println("=== Test Case 19: WABA Active Status Filter ===");
+        Log.info("=== Test Case 19: WABA Active Status Filter ===");
         try {
             if (!reportsPage.hasReports())
                 return;
@@ -434,16 +439,16 @@ public class EnterpriseReportsTabTest extends BaseTest {
                 Assert.assertTrue(reportsPage.validateActiveFilterResults(), "WABA Active filter should work");
                 reportsPage.clearFilter();
             } catch (Exception filterEx) {
-                System.out.println("WABA Filter not available: " + filterEx.getMessage());
+                Log.info("WABA Filter not available: " + filterEx.getMessage());
             }
         } catch (Exception e) {
-            System.out.println("WABA filter skipped: " + e.getMessage());
+            Log.info("WABA filter skipped: " + e.getMessage());
         }
     }
 
     @Test(priority = 20, description = "Validate WABA Redirect to Service Node", dependsOnMethods = "testWABAActiveStatusFilter", alwaysRun = true)
     public void testWABARedirectToServiceNode() {
-        System.out.println("=== Test Case 20: WABA Redirect to Service Node ===");
+        Log.info("=== Test Case 20: WABA Redirect to Service Node ===");
         try {
             if (!reportsPage.hasReports())
                 return;
@@ -451,32 +456,32 @@ public class EnterpriseReportsTabTest extends BaseTest {
             if (nonFailedRow != -1) {
                 reportsPage.clickRedirectToServiceNode(nonFailedRow);
                 reportsPage.switchToNewTabIfOpened();
-                System.out.println("WABA Redirected to Service Node.");
+                Log.info("WABA Redirected to Service Node.");
             }
         } catch (Exception e) {
-            System.out.println("WABA redirect skipped: " + e.getMessage());
+            Log.info("WABA redirect skipped: " + e.getMessage());
         }
     }
 
     @Test(priority = 21, description = "Validate WABA Reports Tab Selection", dependsOnMethods = "testWABARedirectToServiceNode", alwaysRun = true)
     public void testWABAReportsTabSelection() {
-        System.out.println("=== Test Case 21: WABA Reports Tab Selection ===");
+        Log.info("=== Test Case 21: WABA Reports Tab Selection ===");
         try {
             Assert.assertTrue(reportsPage.isReportsTabSelected(), "WABA Reports tab should be selected");
-            System.out.println("✓ WABA Reports tab is selected.");
+            Log.info("✓ WABA Reports tab is selected.");
         } catch (Exception e) {
-            System.out.println("WABA tab selection skipped: " + e.getMessage());
+            Log.info("WABA tab selection skipped: " + e.getMessage());
         }
     }
 
     @Test(priority = 22, description = "Validate WABA Service Account Name", dependsOnMethods = "testWABAReportsTabSelection", alwaysRun = true)
     public void testWABAServiceAccountNameValidation() {
-        System.out.println("=== Test Case 22: WABA Service Account Name Validation ===");
+        Log.info("=== Test Case 22: WABA Service Account Name Validation ===");
         try {
             Assert.assertTrue(reportsPage.validateServiceAccountNameMatch(), "WABA Service Account Name should match");
-            System.out.println("✓ WABA Service Account Name validated.");
+            Log.info("✓ WABA Service Account Name validated.");
         } catch (Exception e) {
-            System.out.println("WABA name validation skipped: " + e.getMessage());
+            Log.info("WABA name validation skipped: " + e.getMessage());
         }
     }
 
@@ -485,34 +490,34 @@ public class EnterpriseReportsTabTest extends BaseTest {
 
     @Test(priority = 23, description = "Navigate to IVR Reports View Details", dependsOnMethods = "testWABAServiceAccountNameValidation", alwaysRun = true)
     public void testIVRViewDetailsNavigation() {
-        System.out.println("=== Test Case 23: IVR View Details Navigation ===");
+        Log.info("=== Test Case 23: IVR View Details Navigation ===");
         try {
             reportsHelper.closeExtraTabsAndNavigateToReports();
             reportsPage.clickServiceViewDetails("IVR");
             Assert.assertTrue(reportsPage.isServiceReportsPageLoaded("IVR"), "Should load IVR Reports");
-            System.out.println("Successfully navigated to IVR Reports page.");
+            Log.info("Successfully navigated to IVR Reports page.");
         } catch (Exception e) {
-            System.out.println("IVR Reports not available: " + e.getMessage());
+            Log.info("IVR Reports not available: " + e.getMessage());
         }
     }
 
     @Test(priority = 24, description = "Validate IVR Reports list headers", dependsOnMethods = "testIVRViewDetailsNavigation", alwaysRun = true)
     public void testIVRReportsListHeaderValidation() {
-        System.out.println("=== Test Case 24: IVR Reports List Header Validation ===");
+        Log.info("=== Test Case 24: IVR Reports List Header Validation ===");
         try {
             if (!reportsPage.hasReports())
                 return;
             List<String> headers = reportsPage.getReportsListHeaders();
             Assert.assertFalse(headers.isEmpty(), "IVR Reports headers should be present");
-            System.out.println("IVR Reports headers: " + headers);
+            Log.info("IVR Reports headers: " + headers);
         } catch (Exception e) {
-            System.out.println("IVR header validation skipped: " + e.getMessage());
+            Log.info("IVR header validation skipped: " + e.getMessage());
         }
     }
 
     @Test(priority = 25, description = "Validate IVR Search Functionality", dependsOnMethods = "testIVRReportsListHeaderValidation", alwaysRun = true)
     public void testIVRSearchFunctionality() {
-        System.out.println("=== Test Case 25: IVR Search Functionality ===");
+        Log.info("=== Test Case 25: IVR Search Functionality ===");
         try {
             if (!reportsPage.hasReports())
                 return;
@@ -523,15 +528,15 @@ public class EnterpriseReportsTabTest extends BaseTest {
                         "IVR Search should work");
                 reportsPage.clearSearch();
             }
-            System.out.println("IVR Search functionality validated.");
+            Log.info("IVR Search functionality validated.");
         } catch (Exception e) {
-            System.out.println("IVR search skipped: " + e.getMessage());
+            Log.info("IVR search skipped: " + e.getMessage());
         }
     }
 
     @Test(priority = 26, description = "Validate IVR Active Status Filter", dependsOnMethods = "testIVRSearchFunctionality", alwaysRun = true)
     public void testIVRActiveStatusFilter() {
-        System.out.println("=== Test Case 26: IVR Active Status Filter ===");
+        Log.info("=== Test Case 26: IVR Active Status Filter ===");
         try {
             if (!reportsPage.hasReports())
                 return;
@@ -540,16 +545,16 @@ public class EnterpriseReportsTabTest extends BaseTest {
                 Assert.assertTrue(reportsPage.validateActiveFilterResults(), "IVR Active filter should work");
                 reportsPage.clearFilter();
             } catch (Exception filterEx) {
-                System.out.println("IVR Filter not available: " + filterEx.getMessage());
+                Log.info("IVR Filter not available: " + filterEx.getMessage());
             }
         } catch (Exception e) {
-            System.out.println("IVR filter skipped: " + e.getMessage());
+            Log.info("IVR filter skipped: " + e.getMessage());
         }
     }
 
     @Test(priority = 27, description = "Validate IVR Redirect to Service Node", dependsOnMethods = "testIVRActiveStatusFilter", alwaysRun = true)
     public void testIVRRedirectToServiceNode() {
-        System.out.println("=== Test Case 27: IVR Redirect to Service Node ===");
+        Log.info("=== Test Case 27: IVR Redirect to Service Node ===");
         try {
             if (!reportsPage.hasReports())
                 return;
@@ -557,32 +562,32 @@ public class EnterpriseReportsTabTest extends BaseTest {
             if (nonFailedRow != -1) {
                 reportsPage.clickRedirectToServiceNode(nonFailedRow);
                 reportsPage.switchToNewTabIfOpened();
-                System.out.println("IVR Redirected to Service Node.");
+                Log.info("IVR Redirected to Service Node.");
             }
         } catch (Exception e) {
-            System.out.println("IVR redirect skipped: " + e.getMessage());
+            Log.info("IVR redirect skipped: " + e.getMessage());
         }
     }
 
     @Test(priority = 28, description = "Validate IVR Reports Tab Selection", dependsOnMethods = "testIVRRedirectToServiceNode", alwaysRun = true)
     public void testIVRReportsTabSelection() {
-        System.out.println("=== Test Case 28: IVR Reports Tab Selection ===");
+        Log.info("=== Test Case 28: IVR Reports Tab Selection ===");
         try {
             Assert.assertTrue(reportsPage.isReportsTabSelected(), "IVR Reports tab should be selected");
-            System.out.println("✓ IVR Reports tab is selected.");
+            Log.info("✓ IVR Reports tab is selected.");
         } catch (Exception e) {
-            System.out.println("IVR tab selection skipped: " + e.getMessage());
+            Log.info("IVR tab selection skipped: " + e.getMessage());
         }
     }
 
     @Test(priority = 29, description = "Validate IVR Service Account Name", dependsOnMethods = "testIVRReportsTabSelection", alwaysRun = true)
     public void testIVRServiceAccountNameValidation() {
-        System.out.println("=== Test Case 29: IVR Service Account Name Validation ===");
+        Log.info("=== Test Case 29: IVR Service Account Name Validation ===");
         try {
             Assert.assertTrue(reportsPage.validateServiceAccountNameMatch(), "IVR Service Account Name should match");
-            System.out.println("✓ IVR Service Account Name validated.");
+            Log.info("✓ IVR Service Account Name validated.");
         } catch (Exception e) {
-            System.out.println("IVR name validation skipped: " + e.getMessage());
+            Log.info("IVR name validation skipped: " + e.getMessage());
         }
     }
 
@@ -591,34 +596,34 @@ public class EnterpriseReportsTabTest extends BaseTest {
 
     @Test(priority = 30, description = "Navigate to OBD Reports View Details", dependsOnMethods = "testIVRServiceAccountNameValidation", alwaysRun = true)
     public void testOBDViewDetailsNavigation() {
-        System.out.println("=== Test Case 30: OBD View Details Navigation ===");
+        Log.info("=== Test Case 30: OBD View Details Navigation ===");
         try {
             reportsHelper.closeExtraTabsAndNavigateToReports();
             reportsPage.clickServiceViewDetails("OBD");
             Assert.assertTrue(reportsPage.isServiceReportsPageLoaded("OBD"), "Should load OBD Reports");
-            System.out.println("Successfully navigated to OBD Reports page.");
+            Log.info("Successfully navigated to OBD Reports page.");
         } catch (Exception e) {
-            System.out.println("OBD Reports not available: " + e.getMessage());
+            Log.info("OBD Reports not available: " + e.getMessage());
         }
     }
 
     @Test(priority = 31, description = "Validate OBD Reports list headers", dependsOnMethods = "testOBDViewDetailsNavigation", alwaysRun = true)
     public void testOBDReportsListHeaderValidation() {
-        System.out.println("=== Test Case 31: OBD Reports List Header Validation ===");
+        Log.info("=== Test Case 31: OBD Reports List Header Validation ===");
         try {
             if (!reportsPage.hasReports())
                 return;
             List<String> headers = reportsPage.getReportsListHeaders();
             Assert.assertFalse(headers.isEmpty(), "OBD Reports headers should be present");
-            System.out.println("OBD Reports headers: " + headers);
+            Log.info("OBD Reports headers: " + headers);
         } catch (Exception e) {
-            System.out.println("OBD header validation skipped: " + e.getMessage());
+            Log.info("OBD header validation skipped: " + e.getMessage());
         }
     }
 
     @Test(priority = 32, description = "Validate OBD Search Functionality", dependsOnMethods = "testOBDReportsListHeaderValidation", alwaysRun = true)
     public void testOBDSearchFunctionality() {
-        System.out.println("=== Test Case 32: OBD Search Functionality ===");
+        Log.info("=== Test Case 32: OBD Search Functionality ===");
         try {
             if (!reportsPage.hasReports())
                 return;
@@ -629,15 +634,15 @@ public class EnterpriseReportsTabTest extends BaseTest {
                         "OBD Search should work");
                 reportsPage.clearSearch();
             }
-            System.out.println("OBD Search functionality validated.");
+            Log.info("OBD Search functionality validated.");
         } catch (Exception e) {
-            System.out.println("OBD search skipped: " + e.getMessage());
+            Log.info("OBD search skipped: " + e.getMessage());
         }
     }
 
     @Test(priority = 33, description = "Validate OBD Active Status Filter", dependsOnMethods = "testOBDSearchFunctionality", alwaysRun = true)
     public void testOBDActiveStatusFilter() {
-        System.out.println("=== Test Case 33: OBD Active Status Filter ===");
+        Log.info("=== Test Case 33: OBD Active Status Filter ===");
         try {
             if (!reportsPage.hasReports())
                 return;
@@ -646,16 +651,16 @@ public class EnterpriseReportsTabTest extends BaseTest {
                 Assert.assertTrue(reportsPage.validateActiveFilterResults(), "OBD Active filter should work");
                 reportsPage.clearFilter();
             } catch (Exception filterEx) {
-                System.out.println("OBD Filter not available: " + filterEx.getMessage());
+                Log.info("OBD Filter not available: " + filterEx.getMessage());
             }
         } catch (Exception e) {
-            System.out.println("OBD filter skipped: " + e.getMessage());
+            Log.info("OBD filter skipped: " + e.getMessage());
         }
     }
 
     @Test(priority = 34, description = "Validate OBD Redirect to Service Node", dependsOnMethods = "testOBDActiveStatusFilter", alwaysRun = true)
     public void testOBDRedirectToServiceNode() {
-        System.out.println("=== Test Case 34: OBD Redirect to Service Node ===");
+        Log.info("=== Test Case 34: OBD Redirect to Service Node ===");
         try {
             if (!reportsPage.hasReports())
                 return;
@@ -663,32 +668,32 @@ public class EnterpriseReportsTabTest extends BaseTest {
             if (nonFailedRow != -1) {
                 reportsPage.clickRedirectToServiceNode(nonFailedRow);
                 reportsPage.switchToNewTabIfOpened();
-                System.out.println("OBD Redirected to Service Node.");
+                Log.info("OBD Redirected to Service Node.");
             }
         } catch (Exception e) {
-            System.out.println("OBD redirect skipped: " + e.getMessage());
+            Log.info("OBD redirect skipped: " + e.getMessage());
         }
     }
 
     @Test(priority = 35, description = "Validate OBD Reports Tab Selection", dependsOnMethods = "testOBDRedirectToServiceNode", alwaysRun = true)
     public void testOBDReportsTabSelection() {
-        System.out.println("=== Test Case 35: OBD Reports Tab Selection ===");
+        Log.info("=== Test Case 35: OBD Reports Tab Selection ===");
         try {
             Assert.assertTrue(reportsPage.isReportsTabSelected(), "OBD Reports tab should be selected");
-            System.out.println("✓ OBD Reports tab is selected.");
+            Log.info("✓ OBD Reports tab is selected.");
         } catch (Exception e) {
-            System.out.println("OBD tab selection skipped: " + e.getMessage());
+            Log.info("OBD tab selection skipped: " + e.getMessage());
         }
     }
 
     @Test(priority = 36, description = "Validate OBD Service Account Name", dependsOnMethods = "testOBDReportsTabSelection", alwaysRun = true)
     public void testOBDServiceAccountNameValidation() {
-        System.out.println("=== Test Case 36: OBD Service Account Name Validation ===");
+        Log.info("=== Test Case 36: OBD Service Account Name Validation ===");
         try {
             Assert.assertTrue(reportsPage.validateServiceAccountNameMatch(), "OBD Service Account Name should match");
-            System.out.println("✓ OBD Service Account Name validated.");
+            Log.info("✓ OBD Service Account Name validated.");
         } catch (Exception e) {
-            System.out.println("OBD name validation skipped: " + e.getMessage());
+            Log.info("OBD name validation skipped: " + e.getMessage());
         }
     }
 
@@ -697,34 +702,34 @@ public class EnterpriseReportsTabTest extends BaseTest {
 
     @Test(priority = 37, description = "Navigate to CCS Reports View Details", dependsOnMethods = "testOBDServiceAccountNameValidation", alwaysRun = true)
     public void testCCSViewDetailsNavigation() {
-        System.out.println("=== Test Case 37: CCS View Details Navigation ===");
+        Log.info("=== Test Case 37: CCS View Details Navigation ===");
         try {
             reportsHelper.closeExtraTabsAndNavigateToReports();
             reportsPage.clickServiceViewDetails("CCS");
             Assert.assertTrue(reportsPage.isServiceReportsPageLoaded("CCS"), "Should load CCS Reports");
-            System.out.println("Successfully navigated to CCS Reports page.");
+            Log.info("Successfully navigated to CCS Reports page.");
         } catch (Exception e) {
-            System.out.println("CCS Reports not available: " + e.getMessage());
+            Log.info("CCS Reports not available: " + e.getMessage());
         }
     }
 
     @Test(priority = 38, description = "Validate CCS Reports list headers", dependsOnMethods = "testCCSViewDetailsNavigation", alwaysRun = true)
     public void testCCSReportsListHeaderValidation() {
-        System.out.println("=== Test Case 38: CCS Reports List Header Validation ===");
+        Log.info("=== Test Case 38: CCS Reports List Header Validation ===");
         try {
             if (!reportsPage.hasReports())
                 return;
             List<String> headers = reportsPage.getReportsListHeaders();
             Assert.assertFalse(headers.isEmpty(), "CCS Reports headers should be present");
-            System.out.println("CCS Reports headers: " + headers);
+            Log.info("CCS Reports headers: " + headers);
         } catch (Exception e) {
-            System.out.println("CCS header validation skipped: " + e.getMessage());
+            Log.info("CCS header validation skipped: " + e.getMessage());
         }
     }
 
     @Test(priority = 39, description = "Validate CCS Search Functionality", dependsOnMethods = "testCCSReportsListHeaderValidation", alwaysRun = true)
     public void testCCSSearchFunctionality() {
-        System.out.println("=== Test Case 39: CCS Search Functionality ===");
+        Log.info("=== Test Case 39: CCS Search Functionality ===");
         try {
             if (!reportsPage.hasReports())
                 return;
@@ -735,15 +740,15 @@ public class EnterpriseReportsTabTest extends BaseTest {
                         "CCS Search should work");
                 reportsPage.clearSearch();
             }
-            System.out.println("CCS Search functionality validated.");
+            Log.info("CCS Search functionality validated.");
         } catch (Exception e) {
-            System.out.println("CCS search skipped: " + e.getMessage());
+            Log.info("CCS search skipped: " + e.getMessage());
         }
     }
 
     @Test(priority = 40, description = "Validate CCS Active Status Filter", dependsOnMethods = "testCCSSearchFunctionality", alwaysRun = true)
     public void testCCSActiveStatusFilter() {
-        System.out.println("=== Test Case 40: CCS Active Status Filter ===");
+        Log.info("=== Test Case 40: CCS Active Status Filter ===");
         try {
             if (!reportsPage.hasReports())
                 return;
@@ -752,16 +757,16 @@ public class EnterpriseReportsTabTest extends BaseTest {
                 Assert.assertTrue(reportsPage.validateActiveFilterResults(), "CCS Active filter should work");
                 reportsPage.clearFilter();
             } catch (Exception filterEx) {
-                System.out.println("CCS Filter not available: " + filterEx.getMessage());
+                Log.info("CCS Filter not available: " + filterEx.getMessage());
             }
         } catch (Exception e) {
-            System.out.println("CCS filter skipped: " + e.getMessage());
+            Log.info("CCS filter skipped: " + e.getMessage());
         }
     }
 
     @Test(priority = 41, description = "Validate CCS Redirect to Service Node", dependsOnMethods = "testCCSActiveStatusFilter", alwaysRun = true)
     public void testCCSRedirectToServiceNode() {
-        System.out.println("=== Test Case 41: CCS Redirect to Service Node ===");
+        Log.info("=== Test Case 41: CCS Redirect to Service Node ===");
         try {
             if (!reportsPage.hasReports())
                 return;
@@ -769,32 +774,32 @@ public class EnterpriseReportsTabTest extends BaseTest {
             if (nonFailedRow != -1) {
                 reportsPage.clickRedirectToServiceNode(nonFailedRow);
                 reportsPage.switchToNewTabIfOpened();
-                System.out.println("CCS Redirected to Service Node.");
+                Log.info("CCS Redirected to Service Node.");
             }
         } catch (Exception e) {
-            System.out.println("CCS redirect skipped: " + e.getMessage());
+            Log.info("CCS redirect skipped: " + e.getMessage());
         }
     }
 
     @Test(priority = 42, description = "Validate CCS Reports Tab Selection", dependsOnMethods = "testCCSRedirectToServiceNode", alwaysRun = true)
     public void testCCSReportsTabSelection() {
-        System.out.println("=== Test Case 42: CCS Reports Tab Selection ===");
+        Log.info("=== Test Case 42: CCS Reports Tab Selection ===");
         try {
             Assert.assertTrue(reportsPage.isReportsTabSelected(), "CCS Reports tab should be selected");
-            System.out.println("✓ CCS Reports tab is selected.");
+            Log.info("✓ CCS Reports tab is selected.");
         } catch (Exception e) {
-            System.out.println("CCS tab selection skipped: " + e.getMessage());
+            Log.info("CCS tab selection skipped: " + e.getMessage());
         }
     }
 
     @Test(priority = 43, description = "Validate CCS Service Account Name", dependsOnMethods = "testCCSReportsTabSelection", alwaysRun = true)
     public void testCCSServiceAccountNameValidation() {
-        System.out.println("=== Test Case 43: CCS Service Account Name Validation ===");
+        Log.info("=== Test Case 43: CCS Service Account Name Validation ===");
         try {
             Assert.assertTrue(reportsPage.validateServiceAccountNameMatch(), "CCS Service Account Name should match");
-            System.out.println("✓ CCS Service Account Name validated.");
+            Log.info("✓ CCS Service Account Name validated.");
         } catch (Exception e) {
-            System.out.println("CCS name validation skipped: " + e.getMessage());
+            Log.info("CCS name validation skipped: " + e.getMessage());
         }
     }
 
@@ -802,14 +807,14 @@ public class EnterpriseReportsTabTest extends BaseTest {
 
     @Test(priority = 44, description = "Logout from Enterprise account", dependsOnMethods = "testCCSServiceAccountNameValidation", alwaysRun = true)
     public void testLogout() {
-        System.out.println("=== Test Case 44: Logout ===");
+        Log.info("=== Test Case 44: Logout ===");
 
         try {
             reportsHelper.closeExtraTabsAndNavigateToReports();
             loginPage.logout();
-            System.out.println("Successfully logged out from Enterprise account.");
+            Log.info("Successfully logged out from Enterprise account.");
         } catch (Exception e) {
-            System.out.println("Logout encountered an issue: " + e.getMessage());
+            Log.info("Logout encountered an issue: " + e.getMessage());
         }
     }
 }
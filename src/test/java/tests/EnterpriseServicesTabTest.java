@@ -1,13 +1,18 @@
 package tests;
 
 import base.BaseTest;
+import base.Fixture;
+import base.RunAs;
+import enums.UserRole;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 import pages.LoginPage;
 import pages.ServicesPage;
 import locators.DashboardPageLocators;
+import utils.Log;
 
+@RunAs(role = UserRole.ENTERPRISE, wallet = Fixture.MAX_SERVICES_WALLET)
 public class EnterpriseServicesTabTest extends BaseTest {
 
     private LoginPage loginPage;
@@ -23,9 +28,9 @@ public class EnterpriseServicesTabTest extends BaseTest {
     @Test(priority = 1, description = "Login as Enterprise and Navigate to Services")
     public void testLoginAndNavigation() {
         loginPage.loginWithEnterpriseMaxServices();
-        System.out.println("Logged in as Enterprise.");
+        Log.info("Logged in as Enterprise.");
         servicesPage.clickServicesTab();
-        System.out.println("Navigated to Services Tab.");
+        Log.info("Navigated to Services Tab.");
     }
 
     @Test(priority = 2, description = "Navigate to SMS Service Details", dependsOnMethods = "testLoginAndNavigation")
@@ -37,7 +42,7 @@ public class EnterpriseServicesTabTest extends BaseTest {
         }
         servicesPage.clickServiceCardViewDetails("SMS");
         servicesPage.waitForServiceDetailsPageLoad();
-        System.out.println("Navigated to SMS Service Details");
+        Log.info("Navigated to SMS Service Details");
     }
 
     // Store selected service account name for use across tests
@@ -48,14 +53,14 @@ public class EnterpriseServicesTabTest extends BaseTest {
     public void testSMSSearchPositive() {
         // Get first service account name from the list
         String serviceAccountName = servicesPage.getServiceName(1);
-        System.out.println("SMS Service Account Name for search: " + serviceAccountName);
+        Log.info("SMS Service Account Name for search: " + serviceAccountName);
         Assert.assertNotNull(serviceAccountName, "Service Account Name should not be null");
         Assert.assertFalse(serviceAccountName.isEmpty(), "Service Account Name should not be empty");
 
         // Use first 3-5 characters for search
         int searchLength = Math.min(5, serviceAccountName.length());
         String searchText = serviceAccountName.substring(0, searchLength);
-        System.out.println("Searching with text: " + searchText);
+        Log.info("Searching with text: " + searchText);
 
         // Perform search
         servicesPage.searchService(searchText);
@@ -64,7 +69,7 @@ public class EnterpriseServicesTabTest extends BaseTest {
         String firstRowName = servicesPage.getServiceName(1);
         Assert.assertTrue(firstRowName.toLowerCase().contains(searchText.toLowerCase()),
                 "Search Failed! Expected '" + firstRowName + "' to contain '" + searchText + "'");
-        System.out.println("SMS Search Positive Flow Validation Passed");
+        Log.info("SMS Search Positive Flow Validation Passed");
 
         // Clear search for subsequent tests
         servicesPage.searchService("");
@@ -77,20 +82,20 @@ public class EnterpriseServicesTabTest extends BaseTest {
     @Test(priority = 4, description = "Validate SMS Filter Functionality - Status Based", dependsOnMethods = "testSMSSearchPositive")
     public void testSMSFilterByStatus() {
         // Apply Active status filter
-        System.out.println("Applying Active status filter");
+        Log.info("Applying Active status filter");
         servicesPage.applyActiveFilter();
 
         // Validate that all visible service accounts have Active status
         int rowCount = servicesPage.getRowCount();
-        System.out.println("Total rows after filter: " + rowCount);
+        Log.info("Total rows after filter: " + rowCount);
         Assert.assertTrue(rowCount > 0, "No service accounts found after applying Active filter");
 
         // Validate first row has Active status
         String firstRowStatus = servicesPage.getServiceStatus(1);
-        System.out.println("First row status after filter: " + firstRowStatus);
+        Log.info("First row status after filter: " + firstRowStatus);
         Assert.assertTrue(firstRowStatus.equalsIgnoreCase("Active") || firstRowStatus.equals("N/A"),
                 "Filter validation failed! Expected Active status, but got: " + firstRowStatus);
-        System.out.println("SMS Filter by Status Validation Passed");
+        Log.info("SMS Filter by Status Validation Passed");
     }
 
     @Test(priority = 5, description = "Validate SMS View Details - Excluding Failed Accounts", dependsOnMethods = "testSMSFilterByStatus")
@@ -98,14 +103,14 @@ public class EnterpriseServicesTabTest extends BaseTest {
         // Find first non-failed service account
         int nonFailedRow = servicesPage.findFirstNonFailedServiceRow();
         Assert.assertTrue(nonFailedRow != -1, "No non-failed Service Account found for SMS");
-        System.out.println("Found non-failed SMS Service Account at row: " + nonFailedRow);
+        Log.info("Found non-failed SMS Service Account at row: " + nonFailedRow);
 
         // Store for SSO test
         selectedSMSServiceRow = nonFailedRow;
 
         // Get service account name from list
         selectedSMSServiceAccount = servicesPage.getServiceName(nonFailedRow);
-        System.out.println("SMS Service Account Name from list: " + selectedSMSServiceAccount);
+        Log.info("SMS Service Account Name from list: " + selectedSMSServiceAccount);
         Assert.assertNotNull(selectedSMSServiceAccount, "Service Account Name should not be null");
         Assert.assertFalse(selectedSMSServiceAccount.isEmpty(), "Service Account Name should not be empty");
 
@@ -114,7 +119,7 @@ public class EnterpriseServicesTabTest extends BaseTest {
 
         // Validate service account name on details page (case-insensitive)
         String detailsName = servicesPage.getDetailsServiceName();
-        System.out.println("SMS Service Account Name on details page: " + detailsName);
+        Log.info("SMS Service Account Name on details page: " + detailsName);
         Assert.assertNotNull(detailsName, "Details Service Name should not be null");
         Assert.assertFalse(detailsName.isEmpty(), "Details Service Name should not be empty");
 
@@ -123,7 +128,7 @@ public class EnterpriseServicesTabTest extends BaseTest {
                 detailsName.toLowerCase().contains(selectedSMSServiceAccount.toLowerCase())
                         || selectedSMSServiceAccount.toLowerCase().contains(detailsName.toLowerCase()),
                 "Service Account Name mismatch! List: " + selectedSMSServiceAccount + ", Details: " + detailsName);
-        System.out.println("SMS View Details Validation Passed (Case-Insensitive)");
+        Log.info("SMS View Details Validation Passed (Case-Insensitive)");
 
         // Navigate back to SMS service account list by clicking Services > SMS
         servicesPage.clickServicesTab();
@@ -133,14 +138,14 @@ public class EnterpriseServicesTabTest extends BaseTest {
         }
         servicesPage.clickServiceCardViewDetails("SMS");
         servicesPage.waitForServiceDetailsPageLoad();
-        System.out.println("Navigated back to SMS service account list");
+        Log.info("Navigated back to SMS service account list");
     }
 
     @Test(priority = 6, description = "Validate SMS SSO Redirection and Logout", dependsOnMethods = "testSMSViewDetailsValidation")
     public void testSMSSSORedirectionAndLogout() {
         // Use the same service account selected in Priority 5
         Assert.assertNotNull(selectedSMSServiceAccount, "Selected service account should not be null");
-        System.out.println("SMS Service Account for SSO: " + selectedSMSServiceAccount);
+        Log.info("SMS Service Account for SSO: " + selectedSMSServiceAccount);
 
         // Click SSO icon and switch to new tab
         String mainWindowHandle = driver.getWindowHandle();
@@ -149,21 +154,21 @@ public class EnterpriseServicesTabTest extends BaseTest {
 
         // Validate service account name on SSO dashboard
         String ssoDashboardName = servicesPage.getSSODashboardServiceName();
-        System.out.println("SMS Service Account Name on SSO Dashboard: " + ssoDashboardName);
+        Log.info("SMS Service Account Name on SSO Dashboard: " + ssoDashboardName);
 
         // Case-insensitive validation
         Assert.assertTrue(
                 ssoDashboardName.toLowerCase().contains(selectedSMSServiceAccount.toLowerCase())
                         || selectedSMSServiceAccount.toLowerCase().contains(ssoDashboardName.toLowerCase()),
                 "SSO Redirection Failed! Expected: " + selectedSMSServiceAccount + ", Found: " + ssoDashboardName);
-        System.out.println("SMS SSO Redirection Validation Passed");
+        Log.info("SMS SSO Redirection Validation Passed");
 
         // Logout the user from SSO dashboard
         try {
             loginPage.logout();
-            System.out.println("User logged out successfully from SSO dashboard");
+            Log.info("User logged out successfully from SSO dashboard");
         } catch (Exception e) {
-            System.out.println("Warning: Logout from SSO dashboard failed: " + e.getMessage());
+            Log.warn("Warning: Logout from SSO dashboard failed: " + e.getMessage());
         }
 
         // Close SSO tab and switch back to main window
@@ -181,21 +186,21 @@ public class EnterpriseServicesTabTest extends BaseTest {
         }
         servicesPage.clickServiceCardViewDetails("RCS");
         servicesPage.waitForServiceDetailsPageLoad();
-        System.out.println("Navigated to RCS Service Details");
+        Log.info("Navigated to RCS Service Details");
     }
 
     @Test(priority = 8, description = "Validate RCS Search Functionality - Positive Flow", dependsOnMethods = "testRCSNavigateToDetails")
     public void testRCSSearchPositive() {
         // Get first service account name from the list
         String serviceAccountName = servicesPage.getServiceName(1);
-        System.out.println("RCS Service Account Name for search: " + serviceAccountName);
+        Log.info("RCS Service Account Name for search: " + serviceAccountName);
         Assert.assertNotNull(serviceAccountName, "Service Account Name should not be null");
         Assert.assertFalse(serviceAccountName.isEmpty(), "Service Account Name should not be empty");
 
         // Use first 3-5 characters for search
         int searchLength = Math.min(5, serviceAccountName.length());
         String searchText = serviceAccountName.substring(0, searchLength);
-        System.out.println("Searching with text: " + searchText);
+        Log.info("Searching with text: " + searchText);
 
         // Perform search
         servicesPage.searchService(searchText);
@@ -204,7 +209,7 @@ public class EnterpriseServicesTabTest extends BaseTest {
         String firstRowName = servicesPage.getServiceName(1);
         Assert.assertTrue(firstRowName.toLowerCase().contains(searchText.toLowerCase()),
                 "Search Failed! Expected '" + firstRowName + "' to contain '" + searchText + "'");
-        System.out.println("RCS Search Positive Flow Validation Passed");
+        Log.info("RCS Search Positive Flow Validation Passed");
 
         // Clear search for subsequent tests
         servicesPage.searchService("");
@@ -217,22 +222,22 @@ public class EnterpriseServicesTabTest extends BaseTest {
     @Test(priority = 9, description = "Validate RCS Filter Functionality - Status Based", dependsOnMethods = "testRCSSearchPositive")
     public void testRCSFilterByStatus() {
         // Apply Active status filter
-        System.out.println("Applying Active status filter for RCS");
+        Log.info("Applying Active status filter for RCS");
         servicesPage.applyActiveFilter();
 
         // Validate that all visible service accounts have Active status
         int rowCount = servicesPage.getRowCount();
-        System.out.println("Total RCS rows after filter: " + rowCount);
+        Log.info("Total RCS rows after filter: " + rowCount);
         // It's possible to have 0 rows, but if there are rows, they must be Active
         if (rowCount > 0) {
             String firstRowStatus = servicesPage.getServiceStatus(1);
-            System.out.println("First row status after filter: " + firstRowStatus);
+            Log.info("First row status after filter: " + firstRowStatus);
             Assert.assertTrue(firstRowStatus.equalsIgnoreCase("Active") || firstRowStatus.equals("N/A"),
                     "Filter validation failed! Expected Active status, but got: " + firstRowStatus);
         } else {
-            System.out.println("No Active RCS accounts found. Filter logic verified by absence of Inactive/Failed.");
+            Log.info("No Active RCS accounts found. Filter logic verified by absence of Inactive/Failed.");
         }
-        System.out.println("RCS Filter by Status Validation Passed");
+        Log.info("RCS Filter by Status Validation Passed");
     }
 
     // Variables to store the selected service for SSO test
@@ -244,14 +249,14 @@ public class EnterpriseServicesTabTest extends BaseTest {
         // Find first non-failed service account
         int nonFailedRow = servicesPage.findFirstNonFailedServiceRow();
         Assert.assertTrue(nonFailedRow != -1, "No non-failed Service Account found for RCS");
-        System.out.println("Found non-failed RCS Service Account at row: " + nonFailedRow);
+        Log.info("Found non-failed RCS Service Account at row: " + nonFailedRow);
 
         // Store for SSO test
         selectedRCSServiceRow = nonFailedRow;
 
         // Get service account name from list
         selectedRCSServiceAccount = servicesPage.getServiceName(nonFailedRow);
-        System.out.println("RCS Service Account Name from list: " + selectedRCSServiceAccount);
+        Log.info("RCS Service Account Name from list: " + selectedRCSServiceAccount);
         Assert.assertNotNull(selectedRCSServiceAccount, "Service Account Name should not be null");
         Assert.assertFalse(selectedRCSServiceAccount.isEmpty(), "Service Account Name should not be empty");
 
@@ -263,7 +268,7 @@ public class EnterpriseServicesTabTest extends BaseTest {
 
         // Validate Service Name in Details View
         String detailsName = servicesPage.getDetailsServiceName();
-        System.out.println("RCS Service Account Name on details page: " + detailsName);
+        Log.info("RCS Service Account Name on details page: " + detailsName);
         Assert.assertNotNull(detailsName, "Details Service Name should not be null");
 
         // Case-insensitive validation
@@ -271,7 +276,7 @@ public class EnterpriseServicesTabTest extends BaseTest {
                 detailsName.toLowerCase().contains(selectedRCSServiceAccount.toLowerCase())
                         || selectedRCSServiceAccount.toLowerCase().contains(detailsName.toLowerCase()),
                 "Service Account Name mismatch! List: " + selectedRCSServiceAccount + ", Details: " + detailsName);
-        System.out.println("RCS View Details Validation Passed (Case-Insensitive)");
+        Log.info("RCS View Details Validation Passed (Case-Insensitive)");
 
         // Navigate back to RCS service account list by clicking Services > RCS
         servicesPage.clickServicesTab();
@@ -281,14 +286,14 @@ public class EnterpriseServicesTabTest extends BaseTest {
         }
         servicesPage.clickServiceCardViewDetails("RCS");
         servicesPage.waitForServiceDetailsPageLoad();
-        System.out.println("Navigated back to RCS service account list");
+        Log.info("Navigated back to RCS service account list");
     }
 
     @Test(priority = 11, description = "Validate RCS SSO Redirection and Logout", dependsOnMethods = "testRCSViewDetailsValidation")
     public void testRCSSSORedirectionAndLogout() {
         // Use the same service account selected in Priority 10
         Assert.assertNotNull(selectedRCSServiceAccount, "Selected service account should not be null");
-        System.out.println("RCS Service Account for SSO: " + selectedRCSServiceAccount);
+        Log.info("RCS Service Account for SSO: " + selectedRCSServiceAccount);
 
         // Click SSO icon and switch to new tab
         String mainWindowHandle = driver.getWindowHandle();
@@ -297,21 +302,21 @@ public class EnterpriseServicesTabTest extends BaseTest {
 
         // Validate service account name on SSO dashboard
         String ssoDashboardName = servicesPage.getSSODashboardServiceName();
-        System.out.println("RCS Service Account Name on SSO Dashboard: " + ssoDashboardName);
+        Log.info("RCS Service Account Name on SSO Dashboard: " + ssoDashboardName);
 
         // Case-insensitive validation
         Assert.assertTrue(
                 ssoDashboardName.toLowerCase().contains(selectedRCSServiceAccount.toLowerCase())
                         || selectedRCSServiceAccount.toLowerCase().contains(ssoDashboardName.toLowerCase()),
                 "SSO Redirection Failed! Expected: " + selectedRCSServiceAccount + ", Found: " + ssoDashboardName);
-        System.out.println("RCS SSO Redirection Validation Passed");
+        Log.info("RCS SSO Redirection Validation Passed");
 
         // Logout the user from SSO dashboard
         try {
             loginPage.logout();
-            System.out.println("User logged out successfully from SSO dashboard");
+            Log.info("User logged out successfully from SSO dashboard");
         } catch (Exception e) {
-            System.out.println("Warning: Logout from SSO dashboard failed: " + e.getMessage());
+            Log.warn("Warning: Logout from SSO dashboard failed: " + e.getMessage());
         }
 
         // Close SSO tab and switch back to main window
@@ -329,21 +334,21 @@ public class EnterpriseServicesTabTest extends BaseTest {
         }
         servicesPage.clickServiceCardViewDetails("WABA");
         servicesPage.waitForServiceDetailsPageLoad();
-        System.out.println("Navigated to WABA Service Details");
+        Log.info("Navigated to WABA Service Details");
     }
 
     @Test(priority = 13, description = "Validate WABA Search Functionality - Positive Flow", dependsOnMethods = "testWABANavigateToDetails")
     public void testWABASearchPositive() {
         // Get first service account name from the list
         String serviceAccountName = servicesPage.getServiceName(1);
-        System.out.println("WABA Service Account Name for search: " + serviceAccountName);
+        Log.info("WABA Service Account Name for search: " + serviceAccountName);
         Assert.assertNotNull(serviceAccountName, "Service Account Name should not be null");
         Assert.assertFalse(serviceAccountName.isEmpty(), "Service Account Name should not be empty");
 
         // Use first 3-5 characters for search
         int searchLength = Math.min(5, serviceAccountName.length());
         String searchText = serviceAccountName.substring(0, searchLength);
-        System.out.println("Searching with text: " + searchText);
+        Log.info("Searching with text: " + searchText);
 
         // Perform search
         servicesPage.searchService(searchText);
@@ -352,7 +357,7 @@ public class EnterpriseServicesTabTest extends BaseTest {
         String firstRowName = servicesPage.getServiceName(1);
         Assert.assertTrue(firstRowName.toLowerCase().contains(searchText.toLowerCase()),
                 "Search Failed! Expected '" + firstRowName + "' to contain '" + searchText + "'");
-        System.out.println("WABA Search Positive Flow Validation Passed");
+        Log.info("WABA Search Positive Flow Validation Passed");
 
         // Clear search for subsequent tests
         servicesPage.searchService("");
@@ -365,22 +370,22 @@ public class EnterpriseServicesTabTest extends BaseTest {
     @Test(priority = 14, description = "Validate WABA Filter Functionality - Status Based", dependsOnMethods = "testWABASearchPositive")
     public void testWABAFilterByStatus() {
         // Apply Active status filter
-        System.out.println("Applying Active status filter for WABA");
+        Log.info("Applying Active status filter for WABA");
         servicesPage.applyActiveFilter();
 
         // Validate that all visible service accounts have Active status
         int rowCount = servicesPage.getRowCount();
-        System.out.println("Total WABA rows after filter: " + rowCount);
+        Log.info("Total WABA rows after filter: " + rowCount);
         // It's possible to have 0 rows, but if there are rows, they must be Active
         if (rowCount > 0) {
             String firstRowStatus = servicesPage.getServiceStatus(1);
-            System.out.println("First row status after filter: " + firstRowStatus);
+            Log.info("First row status after filter: " + firstRowStatus);
             Assert.assertTrue(firstRowStatus.equalsIgnoreCase("Active") || firstRowStatus.equals("N/A"),
                     "Filter validation failed! Expected Active status, but got: " + firstRowStatus);
         } else {
-            System.out.println("No Active WABA accounts found. Filter logic verified by absence of Inactive/Failed.");
+            Log.info("No Active WABA accounts found. Filter logic verified by absence of Inactive/Failed.");
         }
-        System.out.println("WABA Filter by Status Validation Passed");
+        Log.info("WABA Filter by Status Validation Passed");
     }
 
     // Variables to store the selected service for SSO test
@@ -392,14 +397,14 @@ public class EnterpriseServicesTabTest extends BaseTest {
         // Find first non-failed service account
         int nonFailedRow = servicesPage.findFirstNonFailedServiceRow();
         Assert.assertTrue(nonFailedRow != -1, "No non-failed Service Account found for WABA");
-        System.out.println("Found non-failed WABA Service Account at row: " + nonFailedRow);
+        Log.info("Found non-failed WABA Service Account at row: " + nonFailedRow);
 
         // Store for SSO test
         selectedWABAServiceRow = nonFailedRow;
 
         // Get service account name from list
         selectedWABAServiceAccount = servicesPage.getServiceName(nonFailedRow);
-        System.out.println("WABA Service Account Name from list: " + selectedWABAServiceAccount);
+        Log.info("WABA Service Account Name from list: " + selectedWABAServiceAccount);
         Assert.assertNotNull(selectedWABAServiceAccount, "Service Account Name should not be null");
         Assert.assertFalse(selectedWABAServiceAccount.isEmpty(), "Service Account Name should not be empty");
 
@@ -411,7 +416,7 @@ public class EnterpriseServicesTabTest extends BaseTest {
 
         // Validate Service Name in Details View
         String detailsName = servicesPage.getDetailsServiceName();
-        System.out.println("WABA Service Account Name on details page: " + detailsName);
+        Log.info("WABA Service Account Name on details page: " + detailsName);
         Assert.assertNotNull(detailsName, "Details Service Name should not be null");
 
         // Case-insensitive validation
@@ -419,7 +424,7 @@ public class EnterpriseServicesTabTest extends BaseTest {
                 detailsName.toLowerCase().contains(selectedWABAServiceAccount.toLowerCase())
                         || selectedWABAServiceAccount.toLowerCase().contains(detailsName.toLowerCase()),
                 "Service Account Name mismatch! List: " + selectedWABAServiceAccount + ", Details: " + detailsName);
-        System.out.println("WABA View Details Validation Passed (Case-Insensitive)");
+        Log.info("WABA View Details Validation Passed (Case-Insensitive)");
 
         // Navigate back to WABA service account list by clicking Services > WABA
         servicesPage.clickServicesTab();
@@ -429,14 +434,14 @@ public class EnterpriseServicesTabTest extends BaseTest {
         }
         servicesPage.clickServiceCardViewDetails("WABA");
         servicesPage.waitForServiceDetailsPageLoad();
-        System.out.println("Navigated back to WABA service account list");
+        Log.info("Navigated back to WABA service account list");
     }
 
     @Test(priority = 16, description = "Validate WABA SSO Redirection and Logout", dependsOnMethods = "testWABAViewDetailsValidation")
     public void testWABASSORedirectionAndLogout() {
         // Use the same service account selected in Priority 15
         Assert.assertNotNull(selectedWABAServiceAccount, "Selected service account should not be null");
-        System.out.println("WABA Service Account for SSO: " + selectedWABAServiceAccount);
+        Log.info("WABA Service Account for SSO: " + selectedWABAServiceAccount);
 
         // Click SSO icon and switch to new tab
         String mainWindowHandle = driver.getWindowHandle();
@@ -445,21 +450,21 @@ public class EnterpriseServicesTabTest extends BaseTest {
 
         // Validate service account name on SSO dashboard
         String ssoDashboardName = servicesPage.getSSODashboardServiceName();
-        System.out.println("WABA Service Account Name on SSO Dashboard: " + ssoDashboardName);
+        Log.info("WABA Service Account Name on SSO Dashboard: " + ssoDashboardName);
 
         // Case-insensitive validation
         Assert.assertTrue(
                 ssoDashboardName.toLowerCase().contains(selectedWABAServiceAccount.toLowerCase())
                         || selectedWABAServiceAccount.toLowerCase().contains(ssoDashboardName.toLowerCase()),
                 "SSO Redirection Failed! Expected: " + selectedWABAServiceAccount + ", Found: " + ssoDashboardName);
-        System.out.println("WABA SSO Redirection Validation Passed");
+        Log.info("WABA SSO Redirection Validation Passed");
 
         // Logout the user from SSO dashboard
         try {
             loginPage.logout();
-            System.out.println("User logged out successfully from SSO dashboard");
+            Log.info("User logged out successfully from SSO dashboard");
         } catch (Exception e) {
-            System.out.println("Warning: Logout from SSO dashboard failed: " + e.getMessage());
+            Log.warn("Warning: Logout from SSO dashboard failed: " + e.getMessage());
         }
 
         // Close SSO tab and switch back to main window
@@ -477,21 +482,21 @@ public class EnterpriseServicesTabTest extends BaseTest {
         }
         servicesPage.clickServiceCardViewDetails("IVR");
         servicesPage.waitForServiceDetailsPageLoad();
-        System.out.println("Navigated to IVR Service Details");
+        Log.info("Navigated to IVR Service Details");
     }
 
     @Test(priority = 18, description = "Validate IVR Search Functionality - Positive Flow", dependsOnMethods = "testIVRNavigateToDetails")
     public void testIVRSearchPositive() {
         // Get first service account name from the list
         String serviceAccountName = servicesPage.getServiceName(1);
-        System.out.println("IVR Service Account Name for search: " + serviceAccountName);
+        Log.info("IVR Service Account Name for search: " + serviceAccountName);
         Assert.assertNotNull(serviceAccountName, "Service Account Name should not be null");
         Assert.assertFalse(serviceAccountName.isEmpty(), "Service Account Name should not be empty");
 
         // Use first 3-5 characters for search
         int searchLength = Math.min(5, serviceAccountName.length());
         String searchText = serviceAccountName.substring(0, searchLength);
-        System.out.println("Searching with text: " + searchText);
+        Log.info("Searching with text: " + searchText);
 
         // Perform search
         servicesPage.searchService(searchText);
@@ -500,7 +505,7 @@ public class EnterpriseServicesTabTest extends BaseTest {
         String firstRowName = servicesPage.getServiceName(1);
         Assert.assertTrue(firstRowName.toLowerCase().contains(searchText.toLowerCase()),
                 "Search Failed! Expected '" + firstRowName + "' to contain '" + searchText + "'");
-        System.out.println("IVR Search Positive Flow Validation Passed");
+        Log.info("IVR Search Positive Flow Validation Passed");
 
         // Clear search for subsequent tests
         servicesPage.searchService("");
@@ -513,22 +518,22 @@ public class EnterpriseServicesTabTest extends BaseTest {
     @Test(priority = 19, description = "Validate IVR Filter Functionality - Status Based", dependsOnMethods = "testIVRSearchPositive")
     public void testIVRFilterByStatus() {
         // Apply Active status filter
-        System.out.println("Applying Active status filter for IVR");
+        Log.info("Applying Active status filter for IVR");
         servicesPage.applyActiveFilter();
 
         // Validate that all visible service accounts have Active status
         int rowCount = servicesPage.getRowCount();
-        System.out.println("Total IVR rows after filter: " + rowCount);
+        Log.info("Total IVR rows after filter: " + rowCount);
         // It's possible to have 0 rows, but if there are rows, they must be Active
         if (rowCount > 0) {
             String firstRowStatus = servicesPage.getServiceStatus(1);
-            System.out.println("First row status after filter: " + firstRowStatus);
+            Log.info("First row status after filter: " + firstRowStatus);
             Assert.assertTrue(firstRowStatus.equalsIgnoreCase("Active") || firstRowStatus.equals("N/A"),
                     "Filter validation failed! Expected Active status, but got: " + firstRowStatus);
         } else {
-            System.out.println("No Active IVR accounts found. Filter logic verified by absence of Inactive/Failed.");
+            Log.info("No Active IVR accounts found. Filter logic verified by absence of Inactive/Failed.");
         }
-        System.out.println("IVR Filter by Status Validation Passed");
+        Log.info("IVR Filter by Status Validation Passed");
     }
 
     // Variables to store the selected service for SSO test
@@ -540,14 +545,14 @@ public class EnterpriseServicesTabTest extends BaseTest {
         // Find first non-failed service account
         int nonFailedRow = servicesPage.findFirstNonFailedServiceRow();
         Assert.assertTrue(nonFailedRow != -1, "No non-failed Service Account found for IVR");
-        System.out.println("Found non-failed IVR Service Account at row: " + nonFailedRow);
+        Log.info("Found non-failed IVR Service Account at row: " + nonFailedRow);
 
         // Store for SSO test
         selectedIVRServiceRow = nonFailedRow;
 
         // Get service account name from list
         selectedIVRServiceAccount = servicesPage.getServiceName(nonFailedRow);
-        System.out.println("IVR Service Account Name from list: " + selectedIVRServiceAccount);
+        Log.info("IVR Service Account Name from list: " + selectedIVRServiceAccount);
         Assert.assertNotNull(selectedIVRServiceAccount, "Service Account Name should not be null");
         Assert.assertFalse(selectedIVRServiceAccount.isEmpty(), "Service Account Name should not be empty");
 
@@ -559,7 +564,7 @@ public class EnterpriseServicesTabTest extends BaseTest {
 
         // Validate Service Name in Details View
         String detailsName = servicesPage.getDetailsServiceName();
-        System.out.println("IVR Service Account Name on details page: " + detailsName);
+        Log.info("IVR Service Account Name on details page: " + detailsName);
         Assert.assertNotNull(detailsName, "Details Service Name should not be null");
 
         // Case-insensitive validation
@@ -567,7 +572,7 @@ public class EnterpriseServicesTabTest extends BaseTest {
                 detailsName.toLowerCase().contains(selectedIVRServiceAccount.toLowerCase())
                         || selectedIVRServiceAccount.toLowerCase().contains(detailsName.toLowerCase()),
                 "Service Account Name mismatch! List: " + selectedIVRServiceAccount + ", Details: " + detailsName);
-        System.out.println("IVR View Details Validation Passed (Case-Insensitive)");
+        Log.info("IVR View Details Validation Passed (Case-Insensitive)");
 
         // Navigate back to IVR service account list by clicking Services > IVR
         servicesPage.clickServicesTab();
@@ -577,14 +582,14 @@ public class EnterpriseServicesTabTest extends BaseTest {
         }
         servicesPage.clickServiceCardViewDetails("IVR");
         servicesPage.waitForServiceDetailsPageLoad();
-        System.out.println("Navigated back to IVR service account list");
+        Log.info("Navigated back to IVR service account list");
     }
 
     @Test(priority = 21, description = "Validate IVR SSO Redirection and Logout", dependsOnMethods = "testIVRViewDetailsValidation")
     public void testIVRSSORedirectionAndLogout() {
         // Use the same service account selected in Priority 20
         Assert.assertNotNull(selectedIVRServiceAccount, "Selected service account should not be null");
-        System.out.println("IVR Service Account for SSO: " + selectedIVRServiceAccount);
+        Log.info("IVR Service Account for SSO: " + selectedIVRServiceAccount);
 
         // Click SSO icon and switch to new tab
         String mainWindowHandle = driver.getWindowHandle();
@@ -593,21 +598,21 @@ public class EnterpriseServicesTabTest extends BaseTest {
 
         // Validate service account name on SSO dashboard
         String ssoDashboardName = servicesPage.getSSODashboardServiceName();
-        System.out.println("IVR Service Account Name on SSO Dashboard: " + ssoDashboardName);
+        Log.info("IVR Service Account Name on SSO Dashboard: " + ssoDashboardName);
 
         // Case-insensitive validation
         Assert.assertTrue(
                 ssoDashboardName.toLowerCase().contains(selectedIVRServiceAccount.toLowerCase())
                         || selectedIVRServiceAccount.toLowerCase().contains(ssoDashboardName.toLowerCase()),
                 "SSO Redirection Failed! Expected: " + selectedIVRServiceAccount + ", Found: " + ssoDashboardName);
-        System.out.println("IVR SSO Redirection Validation Passed");
+        Log.info("IVR SSO Redirection Validation Passed");
 
         // Logout the user from SSO dashboard
         try {
             loginPage.logout();
-            System.out.println("User logged out successfully from SSO dashboard");
+            Log.info("User logged out successfully from SSO dashboard");
         } catch (Exception e) {
-            System.out.println("Warning: Logout from SSO dashboard failed: " + e.getMessage());
+            Log.warn("Warning: Logout from SSO dashboard failed: " + e.getMessage());
         }
 
         // Close SSO tab and switch back to main window
@@ -625,21 +630,21 @@ public class EnterpriseServicesTabTest extends BaseTest {
         }
         servicesPage.clickServiceCardViewDetails("OBD");
         servicesPage.waitForServiceDetailsPageLoad();
-        System.out.println("Navigated to OBD Service Details");
+        Log.info("Navigated to OBD Service Details");
     }
 
     @Test(priority = 23, description = "Validate OBD Search Functionality - Positive Flow", dependsOnMethods = "testOBDNavigateToDetails")
     public void testOBDSearchPositive() {
         // Get first service account name from the list
         String serviceAccountName = servicesPage.getServiceName(1);
-        System.out.println("OBD Service Account Name for search: " + serviceAccountName);
+        Log.info("OBD Service Account Name for search: " + serviceAccountName);
         Assert.assertNotNull(serviceAccountName, "Service Account Name should not be null");
         Assert.assertFalse(serviceAccountName.isEmpty(), "Service Account Name should not be empty");
 
         // Use first 3-5 characters for search
         int searchLength = Math.min(5, serviceAccountName.length());
         String searchText = serviceAccountName.substring(0, searchLength);
-        System.out.println("Searching with text: " + searchText);
+        Log.info("Searching with text: " + searchText);
 
         // Perform search
         servicesPage.searchService(searchText);
@@ -648,7 +653,7 @@ public class EnterpriseServicesTabTest extends BaseTest {
         String firstRowName = servicesPage.getServiceName(1);
         Assert.assertTrue(firstRowName.toLowerCase().contains(searchText.toLowerCase()),
                 "Search Failed! Expected '" + firstRowName + "' to contain '" + searchText + "'");
-        System.out.println("OBD Search Positive Flow Validation Passed");
+        Log.info("OBD Search Positive Flow Validation Passed");
 
         // Clear search for subsequent tests
         servicesPage.searchService("");
@@ -661,22 +666,22 @@ public class EnterpriseServicesTabTest extends BaseTest {
     @Test(priority = 24, description = "Validate OBD Filter Functionality - Status Based", dependsOnMethods = "testOBDSearchPositive")
     public void testOBDFilterByStatus() {
         // Apply Active status filter
-        System.out.println("Applying Active status filter for OBD");
+        Log.info("Applying Active status filter for OBD");
         servicesPage.applyActiveFilter();
 
         // Validate that all visible service accounts have Active status
         int rowCount = servicesPage.getRowCount();
-        System.out.println("Total OBD rows after filter: " + rowCount);
+        Log.info("Total OBD rows after filter: " + rowCount);
         // It's possible to have 0 rows, but if there are rows, they must be Active
         if (rowCount > 0) {
             String firstRowStatus = servicesPage.getServiceStatus(1);
-            System.out.println("First row status after filter: " + firstRowStatus);
+            Log.info("First row status after filter: " + firstRowStatus);
             Assert.assertTrue(firstRowStatus.equalsIgnoreCase("Active") || firstRowStatus.equals("N/A"),
                     "Filter validation failed! Expected Active status, but got: " + firstRowStatus);
         } else {
-            System.out.println("No Active OBD accounts found. Filter logic verified by absence of Inactive/Failed.");
+            Log.info("No Active OBD accounts found. Filter logic verified by absence of Inactive/Failed.");
         }
-        System.out.println("OBD Filter by Status Validation Passed");
+        Log.info("OBD Filter by Status Validation Passed");
     }
 
     // Variables to store the selected service for SSO test
@@ -688,14 +693,14 @@ public class EnterpriseServicesTabTest extends BaseTest {
         // Find first non-failed service account
         int nonFailedRow = servicesPage.findFirstNonFailedServiceRow();
         Assert.assertTrue(nonFailedRow != -1, "No non-failed Service Account found for OBD");
-        System.out.println("Found non-failed OBD Service Account at row: " + nonFailedRow);
+        Log.info("Found non-failed OBD Service Account at row: " + nonFailedRow);
 
         // Store for SSO test
         selectedOBDServiceRow = nonFailedRow;
 
         // Get service account name from list
         selectedOBDServiceAccount = servicesPage.getServiceName(nonFailedRow);
-        System.out.println("OBD Service Account Name from list: " + selectedOBDServiceAccount);
+        Log.info("OBD Service Account Name from list: " + selectedOBDServiceAccount);
         Assert.assertNotNull(selectedOBDServiceAccount, "Service Account Name should not be null");
         Assert.assertFalse(selectedOBDServiceAccount.isEmpty(), "Service Account Name should not be empty");
 
@@ -707,7 +712,7 @@ public class EnterpriseServicesTabTest extends BaseTest {
 
         // Validate Service Name in Details View
         String detailsName = servicesPage.getDetailsServiceName();
-        System.out.println("OBD Service Account Name on details page: " + detailsName);
+        Log.info("OBD Service Account Name on details page: " + detailsName);
         Assert.assertNotNull(detailsName, "Details Service Name should not be null");
 
         // Case-insensitive validation
@@ -715,7 +720,7 @@ public class EnterpriseServicesTabTest extends BaseTest {
                 detailsName.toLowerCase().contains(selectedOBDServiceAccount.toLowerCase())
                         || selectedOBDServiceAccount.toLowerCase().contains(detailsName.toLowerCase()),
                 "Service Account Name mismatch! List: " + selectedOBDServiceAccount + ", Details: " + detailsName);
-        System.out.println("OBD View Details Validation Passed (Case-Insensitive)");
+        Log.info("OBD View Details Validation Passed (Case-Insensitive)");
 
         // Navigate back to OBD service account list by clicking Services > OBD
         servicesPage.clickServicesTab();
@@ -725,14 +730,14 @@ public class EnterpriseServicesTabTest extends BaseTest {
         }
         servicesPage.clickServiceCardViewDetails("OBD");
         servicesPage.waitForServiceDetailsPageLoad();
-        System.out.println("Navigated back to OBD service account list");
+        Log.info("Navigated back to OBD service account list");
     }
 
     @Test(priority = 26, description = "Validate OBD SSO Redirection and Logout", dependsOnMethods = "testOBDViewDetailsValidation")
     public void testOBDSSORedirectionAndLogout() {
         // Use the same service account selected in Priority 25
         Assert.assertNotNull(selectedOBDServiceAccount, "Selected service account should not be null");
-        System.out.println("OBD Service Account for SSO: " + selectedOBDServiceAccount);
+        Log.info("OBD Service Account for SSO: " + selectedOBDServiceAccount);
 
         // Click SSO icon and switch to new tab
         String mainWindowHandle = driver.getWindowHandle();
@@ -741,21 +746,21 @@ public class EnterpriseServicesTabTest extends BaseTest {
 
         // Validate service account name on SSO dashboard
         String ssoDashboardName = servicesPage.getSSODashboardServiceName();
-        System.out.println("OBD Service Account Name on SSO Dashboard: " + ssoDashboardName);
+        Log.info("OBD Service Account Name on SSO Dashboard: " + ssoDashboardName);
 
         // Case-insensitive validation
         Assert.assertTrue(
                 ssoDashboardName.toLowerCase().contains(selectedOBDServiceAccount.toLowerCase())
                         || selectedOBDServiceAccount.toLowerCase().contains(ssoDashboardName.toLowerCase()),
                 "SSO Redirection Failed! Expected: " + selectedOBDServiceAccount + ", Found: " + ssoDashboardName);
-        System.out.println("OBD SSO Redirection Validation Passed");
+        Log.info("OBD SSO Redirection Validation Passed");
 
         // Logout the user from SSO dashboard
         try {
             loginPage.logout();
-            System.out.println("User logged out successfully from SSO dashboard");
+            Log.info("User logged out successfully from SSO dashboard");
         } catch (Exception e) {
-            System.out.println("Warning: Logout from SSO dashboard failed: " + e.getMessage());
+            Log.warn("Warning: Logout from SSO dashboard failed: " + e.getMessage());
         }
 
         // Close SSO tab and switch back to main window
@@ -773,21 +778,21 @@ public class EnterpriseServicesTabTest extends BaseTest {
         }
         servicesPage.clickServiceCardViewDetails("CCS");
         servicesPage.waitForServiceDetailsPageLoad();
-        System.out.println("Navigated to CCS Service Details");
+        Log.info("Navigated to CCS Service Details");
     }
 
     @Test(priority = 28, description = "Validate CCS Search Functionality - Positive Flow", dependsOnMethods = "testCCSNavigateToDetails")
     public void testCCSSearchPositive() {
         // Get first service account name from the list
         String serviceAccountName = servicesPage.getServiceName(1);
-        System.out.println("CCS Service Account Name for search: " + serviceAccountName);
+        Log.info("CCS Service Account Name for search: " + serviceAccountName);
         Assert.assertNotNull(serviceAccountName, "Service Account Name should not be null");
         Assert.assertFalse(serviceAccountName.isEmpty(), "Service Account Name should not be empty");
 
         // Use first 3-5 characters for search
         int searchLength = Math.min(5, serviceAccountName.length());
         String searchText = serviceAccountName.substring(0, searchLength);
-        System.out.println("Searching with text: " + searchText);
+        Log.info("Searching with text: " + searchText);
 
         // Perform search
         servicesPage.searchService(searchText);
@@ -796,7 +801,7 @@ public class EnterpriseServicesTabTest extends BaseTest {
         String firstRowName = servicesPage.getServiceName(1);
         Assert.assertTrue(firstRowName.toLowerCase().contains(searchText.toLowerCase()),
                 "Search Failed! Expected '" + firstRowName + "' to contain '" + searchText + "'");
-        System.out.println("CCS Search Positive Flow Validation Passed");
+        Log.info("CCS Search Positive Flow Validation Passed");
 
         // Clear search for subsequent tests
         servicesPage.searchService("");
@@ -809,22 +814,22 @@ public class EnterpriseServicesTabTest extends BaseTest {
     @Test(priority = 29, description = "Validate CCS Filter Functionality - Status Based", dependsOnMethods = "testCCSSearchPositive")
     public void testCCSFilterByStatus() {
         // Apply Active status filter
-        System.out.println("Applying Active status filter for CCS");
+        Log.info("Applying Active status filter for CCS");
         servicesPage.applyActiveFilter();
 
         // Validate that all visible service accounts have Active status
         int rowCount = servicesPage.getRowCount();
-        System.out.println("Total CCS rows after filter: " + rowCount);
+        Log.info("Total CCS rows after filter: " + rowCount);
         // It's possible to have 0 rows, but if there are rows, they must be Active
         if (rowCount > 0) {
             String firstRowStatus = servicesPage.getServiceStatus(1);
-            System.out.println("First row status after filter: " + firstRowStatus);
+            Log.info("First row status after filter: " + firstRowStatus);
             Assert.assertTrue(firstRowStatus.equalsIgnoreCase("Active") || firstRowStatus.equals("N/A"),
                     "Filter validation failed! Expected Active status, but got: " + firstRowStatus);
         } else {
-            System.out.println("No Active CCS accounts found. Filter logic verified by absence of Inactive/Failed.");
+            Log.info("No Active CCS accounts found. Filter logic verified by absence of Inactive/Failed.");
         }
-        System.out.println("CCS Filter by Status Validation Passed");
+        Log.info("CCS Filter by Status Validation Passed");
     }
 
     // Variables to store the selected service for SSO test
@@ -836,14 +841,14 @@ public class EnterpriseServicesTabTest extends BaseTest {
         // Find first non-failed service account
         int nonFailedRow = servicesPage.findFirstNonFailedServiceRow();
         Assert.assertTrue(nonFailedRow != -1, "No non-failed Service Account found for CCS");
-        System.out.println("Found non-failed CCS Service Account at row: " + nonFailedRow);
+        Log.info("Found non-failed CCS Service Account at row: " + nonFailedRow);
 
         // Store for SSO test
         selectedCCSServiceRow = nonFailedRow;
 
         // Get service account name from list
         selectedCCSServiceAccount = servicesPage.getServiceName(nonFailedRow);
-        System.out.println("CCS Service Account Name from list: " + selectedCCSServiceAccount);
+        Log.info("CCS Service Account Name from list: " + selectedCCSServiceAccount);
         Assert.assertNotNull(selectedCCSServiceAccount, "Service Account Name should not be null");
         Assert.assertFalse(selectedCCSServiceAccount.isEmpty(), "Service Account Name should not be empty");
 
@@ -854,7 +859,7 @@ public class EnterpriseServicesTabTest extends BaseTest {
 
         // Validate Service Name in Details View
         String detailsName = servicesPage.getDetailsServiceName();
-        System.out.println("CCS Service Account Name on details page: " + detailsName);
+        Log.info("CCS Service Account Name on details page: " + detailsName);
         Assert.assertNotNull(detailsName, "Details Service Name should not be null");
 
         // Case-insensitive validation
@@ -862,7 +867,7 @@ public class EnterpriseServicesTabTest extends BaseTest {
                 detailsName.toLowerCase().contains(selectedCCSServiceAccount.toLowerCase())
                         || selectedCCSServiceAccount.toLowerCase().contains(detailsName.toLowerCase()),
                 "Service Account Name mismatch! List: " + selectedCCSServiceAccount + ", Details: " + detailsName);
-        System.out.println("CCS View Details Validation Passed (Case-Insensitive)");
+        Log.info("CCS View Details Validation Passed (Case-Insensitive)");
 
         // Navigate back to CCS service account list by clicking Services > CCS
         servicesPage.clickServicesTab();
@@ -872,14 +877,14 @@ public class EnterpriseServicesTabTest extends BaseTest {
         }
         servicesPage.clickServiceCardViewDetails("CCS");
         servicesPage.waitForServiceDetailsPageLoad();
-        System.out.println("Navigated back to CCS service account list");
+        Log.info("Navigated back to CCS service account list");
     }
 
     @Test(priority = 31, description = "Validate CCS SSO Redirection and Logout", dependsOnMethods = "testCCSViewDetailsValidation")
     public void testCCSSSORedirectionAndLogout() {
         // Use the same service account selected in Priority 30
         Assert.assertNotNull(selectedCCSServiceAccount, "Selected service account should not be null");
-        System.out.println("CCS Service Account for SSO: " + selectedCCSServiceAccount);
+        Log.info("CCS Service Account for SSO: " + selectedCCSServiceAccount);
 
         // Click SSO icon and switch to new tab
         String mainWindowHandle = driver.getWindowHandle();
@@ -888,21 +893,21 @@ public class EnterpriseServicesTabTest extends BaseTest {
 
         // Validate service account name on SSO dashboard
         String ssoDashboardName = servicesPage.getSSODashboardServiceName();
-        System.out.println("CCS Service Account Name on SSO Dashboard: " + ssoDashboardName);
+        Log.info("CCS Service Account Name on SSO Dashboard: " + ssoDashboardName);
 
         // Case-insensitive validation
         Assert.assertTrue(
                 ssoDashboardName.toLowerCase().contains(selectedCCSServiceAccount.toLowerCase())
                         || selectedCCSServiceAccount.toLowerCase().contains(ssoDashboardName.toLowerCase()),
                 "SSO Redirection Failed! Expected: " + selectedCCSServiceAccount + ", Found: " + ssoDashboardName);
-        System.out.println("CCS SSO Redirection Validation Passed");
+        Log.info("CCS SSO Redirection Validation Passed");
 
         // Logout the user from SSO dashboard
         try {
             loginPage.logout();
-            System.out.println("User logged out successfully from SSO dashboard");
+            Log.info("User logged out successfully from SSO dashboard");
         } catch (Exception e) {
-            System.out.println("Warning: Logout from SSO dashboard failed: " + e.getMessage());
+            Log.warn("Warning: Logout from SSO dashboard failed: " + e.getMessage());
         }
 
         // Close SSO tab and switch back to main window
@@ -1,11 +1,15 @@
 package tests;
 
 import base.BaseTest;
+import base.Fixture;
+import base.RunAs;
+import enums.UserRole;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 import pages.LoginPage;
 import pages.EnterpriseWalletPage;
+import utils.Log;
 
 import java.util.List;
 
@@ -14,6 +18,7 @@ import java.util.List;
  * Tests wallet navigation, transaction list, filters, pagination, amounts, and
  * reports.
  */
+@RunAs(role = UserRole.ENTERPRISE, wallet = Fixture.MAX_SERVICES_WALLET)
 public class EnterpriseWalletTabTest extends BaseTest {
 
     private LoginPage loginPage;
@@ -31,11 +36,11 @@ public class EnterpriseWalletTabTest extends BaseTest {
 
     @Test(priority = 1, description = "Login as Enterprise user, navigate to Dashboard and redirect to Wallet Tab")
     public void testLoginAndWalletNavigation() {
-        System.out.println("=== Test Case 1: Dashboard Navigation & Wallet Redirection ===");
+        Log.info("=== Test Case 1: Dashboard Navigation & Wallet Redirection ===");
 
         // Login as Enterprise user with max services
         loginPage.loginWithEnterpriseMaxServices();
-        System.out.println("Logged in as Enterprise user.");
+        Log.info("Logged in as Enterprise user.");
 
         // Navigate to Wallet from Dashboard
         walletPage.navigateToWallet();
@@ -43,7 +48,7 @@ public class EnterpriseWalletTabTest extends BaseTest {
         // Validate Wallet page is loaded
         Assert.assertTrue(walletPage.isWalletPageLoaded(),
                 "Wallet page should be loaded after clicking Wallet option");
-        System.out.println("Successfully navigated to Wallet Tab.");
+        Log.info("Successfully navigated to Wallet Tab.");
     }
 
     // ==================== Test Case 2: Transaction List Visibility
@@ -51,7 +56,7 @@ public class EnterpriseWalletTabTest extends BaseTest {
 
     @Test(priority = 2, description = "Validate transaction list visibility or No Data message", dependsOnMethods = "testLoginAndWalletNavigation")
     public void testTransactionListVisibility() {
-        System.out.println("=== Test Case 2: Transaction List Visibility Validation ===");
+        Log.info("=== Test Case 2: Transaction List Visibility Validation ===");
 
         // Wait for dynamic data to load
         walletPage.waitForTransactionData();
@@ -65,9 +70,9 @@ public class EnterpriseWalletTabTest extends BaseTest {
 
         if (hasTransactions) {
             int rowCount = walletPage.getTransactionRowCount();
-            System.out.println("Transactions found. Row count: " + rowCount);
+            Log.info("Transactions found. Row count: " + rowCount);
         } else {
-            System.out.println("No transactions available. 'No Data Available' message is displayed.");
+            Log.info("No transactions available. 'No Data Available' message is displayed.");
         }
     }
 
@@ -76,10 +81,10 @@ public class EnterpriseWalletTabTest extends BaseTest {
 
     @Test(priority = 3, description = "Validate transaction list column headers", dependsOnMethods = "testTransactionListVisibility")
     public void testTransactionListHeaders() {
-        System.out.println("=== Test Case 3: Transaction List Header Validation ===");
+        Log.info("=== Test Case 3: Transaction List Header Validation ===");
 
         if (!walletPage.hasTransactions()) {
-            System.out.println("No transactions available. Skipping header validation.");
+            Log.info("No transactions available. Skipping header validation.");
             return; // Skip if no data
         }
 
@@ -87,13 +92,13 @@ public class EnterpriseWalletTabTest extends BaseTest {
         List<String> headers = walletPage.getTransactionListHeaders();
         Assert.assertFalse(headers.isEmpty(), "Transaction table headers should be present");
 
-        System.out.println("Found headers: " + headers);
+        Log.info("Found headers: " + headers);
 
         // Validate headers are not empty (alignment check is visual)
         for (String header : headers) {
             Assert.assertFalse(header.trim().isEmpty(), "Header text should not be empty");
         }
-        System.out.println("Transaction list headers validated successfully.");
+        Log.info("Transaction list headers validated successfully.");
     }
 
     // ==================== Test Case 4: Transaction Type Filter Validation
@@ -101,27 +106,27 @@ public class EnterpriseWalletTabTest extends BaseTest {
 
     @Test(priority = 4, description = "Validate Transaction Type filter (Transaction/Recharge/Deduction)", dependsOnMethods = "testTransactionListHeaders")
     public void testTransactionTypeFilter() {
-        System.out.println("=== Test Case 4: Transaction Type Filter Validation ===");
+        Log.info("=== Test Case 4: Transaction Type Filter Validation ===");
 
         if (!walletPage.hasTransactions()) {
-            System.out.println("No transactions available. Skipping filter validation.");
+            Log.info("No transactions available. Skipping filter validation.");
             return;
         }
 
         // Test Recharge filter
         try {
-            System.out.println("Applying Recharge filter...");
+            Log.info("Applying Recharge filter...");
             walletPage.selectTransactionTypeFilter("Recharge");
 
             // Validate filtered results
             List<String> filteredTypes = walletPage.getFilteredTransactionTypes();
-            System.out.println("Filtered results: " + filteredTypes.size() + " rows");
+            Log.info("Filtered results: " + filteredTypes.size() + " rows");
 
             // Clear filter
             walletPage.clearFilter();
-            System.out.println("Filter cleared. List reset validated.");
+            Log.info("Filter cleared. List reset validated.");
         } catch (Exception e) {
-            System.out.println("Filter validation encountered an issue: " + e.getMessage());
+            Log.info("Filter validation encountered an issue: " + e.getMessage());
             // Clear filter as cleanup
             try {
                 walletPage.clearFilter();
@@ -130,7 +135,7 @@ public class EnterpriseWalletTabTest extends BaseTest {
             }
         }
 
-        System.out.println("Transaction Type Filter validation completed.");
+        Log.info("Transaction Type Filter validation completed.");
     }
 
     // ==================== Test Case 5: Pagination Functionality
@@ -138,34 +143,34 @@ public class EnterpriseWalletTabTest extends BaseTest {
 
     @Test(priority = 5, description = "Validate list pagination behavior", dependsOnMethods = "testTransactionTypeFilter")
     public void testPaginationFunctionality() {
-        System.out.println("=== Test Case 5: Pagination Functionality Validation ===");
+        Log.info("=== Test Case 5: Pagination Functionality Validation ===");
 
         if (!walletPage.isPaginationAvailable()) {
-            System.out.println("Pagination is not available (possibly not enough records). Test passed by default.");
+            Log.info("Pagination is not available (possibly not enough records). Test passed by default.");
             return;
         }
 
         // Get initial pagination info
         String initialInfo = walletPage.getPaginationInfo();
-        System.out.println("Initial pagination info: " + initialInfo);
+        Log.info("Initial pagination info: " + initialInfo);
 
         // Test Next button
         boolean nextClicked = walletPage.clickNextPage();
         if (nextClicked) {
             String afterNext = walletPage.getPaginationInfo();
-            System.out.println("After clicking Next: " + afterNext);
+            Log.info("After clicking Next: " + afterNext);
 
             // Test Previous button
             boolean prevClicked = walletPage.clickPreviousPage();
             if (prevClicked) {
                 String afterPrev = walletPage.getPaginationInfo();
-                System.out.println("After clicking Previous: " + afterPrev);
+                Log.info("After clicking Previous: " + afterPrev);
             }
         } else {
-            System.out.println("Next button is disabled (possibly on last page or only one page).");
+            Log.info("Next button is disabled (possibly on last page or only one page).");
         }
 
-        System.out.println("Pagination functionality validated.");
+        Log.info("Pagination functionality validated.");
     }
 
     // ==================== Test Case 6: Total Credit Amount Validation
@@ -173,27 +178,27 @@ public class EnterpriseWalletTabTest extends BaseTest {
 
     @Test(priority = 6, description = "Validate Total Credit amount equals sum of all Credit values", dependsOnMethods = "testPaginationFunctionality")
     public void testTotalCreditAmountValidation() {
-        System.out.println("=== Test Case 6: Total Credit Amount Validation ===");
+        Log.info("=== Test Case 6: Total Credit Amount Validation ===");
 
         // Get displayed total credit
         double displayedTotal = walletPage.getTotalCreditAmount();
-        System.out.println("Displayed Total Credit: " + displayedTotal);
+        Log.info("Displayed Total Credit: " + displayedTotal);
 
         if (displayedTotal == 0.0 && !walletPage.hasTransactions()) {
-            System.out.println("No transactions available. Total Credit is 0. Test passed.");
+            Log.info("No transactions available. Total Credit is 0. Test passed.");
             return;
         }
 
         // Calculate sum from list
         double calculatedSum = walletPage.calculateCreditSum();
-        System.out.println("Calculated Credit Sum: " + calculatedSum);
+        Log.info("Calculated Credit Sum: " + calculatedSum);
 
         // Allow small margin for floating point comparison
         double margin = 0.01;
         Assert.assertTrue(Math.abs(displayedTotal - calculatedSum) <= margin,
                 "Total Credit Amount mismatch! Displayed: " + displayedTotal + ", Calculated: " + calculatedSum);
 
-        System.out.println("Total Credit amount validated successfully.");
+        Log.info("Total Credit amount validated successfully.");
     }
 
     // ==================== Test Case 7: Total Debit Amount Validation
@@ -201,27 +206,27 @@ public class EnterpriseWalletTabTest extends BaseTest {
 
     @Test(priority = 7, description = "Validate Total Debit amount equals sum of all Debit values", dependsOnMethods = "testTotalCreditAmountValidation")
     public void testTotalDebitAmountValidation() {
-        System.out.println("=== Test Case 7: Total Debit Amount Validation ===");
+        Log.info("=== Test Case 7: Total Debit Amount Validation ===");
 
         // Get displayed total debit
         double displayedTotal = walletPage.getTotalDebitAmount();
-        System.out.println("Displayed Total Debit: " + displayedTotal);
+        Log.info("Displayed Total Debit: " + displayedTotal);
 
         if (displayedTotal == 0.0 && !walletPage.hasTransactions()) {
-            System.out.println("No transactions available. Total Debit is 0. Test passed.");
+            Log.info("No transactions available. Total Debit is 0. Test passed.");
             return;
         }
 
         // Calculate sum from list
         double calculatedSum = walletPage.calculateDebitSum();
-        System.out.println("Calculated Debit Sum: " + calculatedSum);
+        Log.info("Calculated Debit Sum: " + calculatedSum);
 
         // Allow small margin for floating point comparison
         double margin = 0.01;
         Assert.assertTrue(Math.abs(displayedTotal - calculatedSum) <= margin,
                 "Total Debit Amount mismatch! Displayed: " + displayedTotal + ", Calculated: " + calculatedSum);
 
-        System.out.println("Total Debit amount validated successfully.");
+        Log.info("Total Debit amount validated successfully.");
     }
 
     // ==================== Test Case 8: Archive Report Button Validation
@@ -229,7 +234,7 @@ public class EnterpriseWalletTabTest extends BaseTest {
 
     @Test(priority = 8, description = "Validate Archive Report button navigation", dependsOnMethods = "testTotalDebitAmountValidation")
     public void testArchiveReportButtonNavigation() {
-        System.out.println("=== Test Case 8: Archive Report Button Validation ===");
+        Log.info("=== Test Case 8: Archive Report Button Validation ===");
 
         // Click Archive Report button
         walletPage.clickArchiveReportButton();
@@ -238,7 +243,7 @@ public class EnterpriseWalletTabTest extends BaseTest {
         Assert.assertTrue(walletPage.isArchiveReportPageLoaded(),
                 "Archive Report List page should be loaded after clicking Archive Report button");
 
-        System.out.println("Successfully redirected to Archive Report List page.");
+        Log.info("Successfully redirected to Archive Report List page.");
     }
 
     // ==================== Test Case 9: Archive Report Download Behavior
@@ -246,34 +251,33 @@ public class EnterpriseWalletTabTest extends BaseTest {
 
     @Test(priority = 9, description = "Validate Active reports downloadable, Expired not downloadable", dependsOnMethods = "testArchiveReportButtonNavigation")
     public void testArchiveReportDownloadBehavior() {
-        System.out.println("=== Test Case 9: Archive Report Download Behavior ===");
+        Log.info("=== Test Case 9: Archive Report Download Behavior ===");
 
         // Find Active report
         int activeRow = walletPage.findFirstActiveReport();
         if (activeRow != -1) {
-            System.out.println("Found Active report at row: " + activeRow);
+            Log.info("Found Active report at row: " + activeRow);
             Assert.assertTrue(walletPage.isDownloadable(activeRow),
                     "Reports with Active status should be downloadable");
-            System.out.println("Active report download status validated.");
+            Log.info("Active report download status validated.");
         } else {
-            System.out.println("No Active reports found. Skipping Active download validation.");
+            Log.info("No Active reports found. Skipping Active download validation.");
         }
 
         // Find Expired report
         int expiredRow = walletPage.findFirstExpiredReport();
         if (expiredRow != -1) {
-            System.out.println("Found Expired report at row: " + expiredRow);
+            Log.info("Found Expired report at row: " + expiredRow);
             Assert.assertFalse(walletPage.isDownloadable(expiredRow),
                     "Reports with Expired status should NOT be downloadable");
-            System.out.println("Expired report download status validated.");
+            Log.info("Expired report download status validated.");
         } else {
-            System.out.println("No Expired reports found. Skipping Expired download validation.");
+            Log.info("No Expired reports found. Skipping Expired download validation.");
         }
 
         // NOTE: Do NOT navigate back to Wallet - Generate Report button is on Archive
         // Reports page
-        System.out
-                .println("Archive Report Download behavior validated. Staying on Archive Reports page for next tests.");
+        Log.info("Archive Report Download behavior validated. Staying on Archive Reports page for next tests.");
     }
 
     // ==================== Test Case 10: Generate Report Button Validation
@@ -281,8 +285,8 @@ public class EnterpriseWalletTabTest extends BaseTest {
 
     @Test(priority = 10, description = "Validate Generate Report button opens popup", dependsOnMethods = "testArchiveReportDownloadBehavior")
     public void testGenerateReportButtonValidation() {
-        System.out.println("=== Test Case 10: Generate Report Button Validation ===");
-        System.out.println("Currently on Archive Reports page where Generate Report button is located.");
+        Log.info("=== Test Case 10: Generate Report Button Validation ===");
+        Log.info("Currently on Archive Reports page where Generate Report button is located.");
 
         // Click Generate Report button (on Archive Reports page)
         walletPage.clickGenerateReportButton();
@@ -291,7 +295,7 @@ public class EnterpriseWalletTabTest extends BaseTest {
         Assert.assertTrue(walletPage.isGenerateReportPopupOpen(),
                 "Generate Report popup/modal should be displayed after clicking Generate Report button");
 
-        System.out.println("Generate Report popup opened successfully.");
+        Log.info("Generate Report popup opened successfully.");
     }
 
     // ==================== Test Case 11: Generate Report Popup Cancel Validation
@@ -299,13 +303,13 @@ public class EnterpriseWalletTabTest extends BaseTest {
 
     @Test(priority = 11, description = "Validate Generate Report popup cancel behavior", dependsOnMethods = "testGenerateReportButtonValidation")
     public void testGenerateReportPopupCancelValidation() {
-        System.out.println("=== Test Case 11: Generate Report Popup Input & Cancel Validation ===");
+        Log.info("=== Test Case 11: Generate Report Popup Input & Cancel Validation ===");
 
         // Enter some values in the popup
         String startDate = "01/01/2026";
         String endDate = "01/05/2026";
         walletPage.enterReportValues(startDate, endDate);
-        System.out.println("Entered date values in popup.");
+        Log.info("Entered date values in popup.");
 
         // Click Cancel button
         walletPage.clickCancelOnPopup();
@@ -314,20 +318,20 @@ public class EnterpriseWalletTabTest extends BaseTest {
         Assert.assertTrue(walletPage.isPopupClosed(),
                 "Popup should be closed after clicking Cancel");
 
-        System.out.println("Generate Report popup Cancel validation completed. No report was generated.");
+        Log.info("Generate Report popup Cancel validation completed. No report was generated.");
     }
 
     // ==================== Test Case 12: Logout ====================
 
     @Test(priority = 12, description = "Logout from Enterprise account", dependsOnMethods = "testGenerateReportPopupCancelValidation", alwaysRun = true)
     public void testLogout() {
-        System.out.println("=== Test Case 12: Logout ===");
+        Log.info("=== Test Case 12: Logout ===");
 
         try {
             loginPage.logout();
-            System.out.println("Successfully logged out from Enterprise account.");
+            Log.info("Successfully logged out from Enterprise account.");
         } catch (Exception e) {
-            System.out.println("Logout encountered an issue: " + e.getMessage());
+            Log.info("Logout encountered an issue: " + e.getMessage());
             // This is cleanup, don't fail the test
         }
     }
@@ -1,12 +1,16 @@
 package tests;
 
 import base.BaseTest;
+import base.RunAs;
+import enums.UserRole;
 import helpers.MediaLibraryTestHelper;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 import pages.MediaLibraryPage;
+import utils.Log;
 
+@RunAs(role = UserRole.ENTERPRISE)
 public class MediaLibraryTest extends BaseTest {
 
     MediaLibraryTestHelper helper;
@@ -25,13 +29,13 @@ public class MediaLibraryTest extends BaseTest {
     public void verifyMediaLibraryPageLoaded() {
         Assert.assertTrue(mediaLibraryPage.isMediaLibraryPageLoaded(),
                 "Media Library page did not load correctly");
-        System.out.println("Media Library page loaded successfully");
+        Log.info("Media Library page loaded successfully");
     }
 
     @Test(priority = 2)
     public void verifyMediaLibraryTabVisible() {
         Assert.assertTrue(mediaLibraryPage.isMediaLibraryTabVisible(),
                 "Media Library tab is not visible");
-        System.out.println("Media Library tab is visible");
+        Log.info("Media Library tab is visible");
     }
 }
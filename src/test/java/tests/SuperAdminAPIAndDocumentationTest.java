@@ -1,6 +1,8 @@
 package tests;
 
 import base.BaseTest;
+import base.RunAs;
+import enums.UserRole;
 import helpers.APIDocumentationTestHelper;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
@@ -8,6 +10,7 @@ import org.testng.annotations.Test;
 import pages.LoginPage;
 import pages.APIAndDocumentationPage;
 import utils.ConfigReader;
+import utils.Log;
 
 /**
  * Test Suite for Super Admin API & Documentation Module
@@ -15,6 +18,7 @@ import utils.ConfigReader;
  * documentation downloads, and Swagger UI verification for SMS, OBD, CCS, and
  * WABA services
  */
+@RunAs(role = UserRole.SUPERADMIN)
 public class SuperAdminAPIAndDocumentationTest extends BaseTest {
 
     private APIAndDocumentationPage apiDocPage;
@@ -31,7 +35,7 @@ public class SuperAdminAPIAndDocumentationTest extends BaseTest {
                 expectedDomain = url.split("://")[1].split("/")[0];
             }
         } catch (Exception e) {
-            System.out.println("Using default domain: " + expectedDomain);
+            Log.info("Using default domain: " + expectedDomain);
         }
     }
 
@@ -41,84 +45,84 @@ public class SuperAdminAPIAndDocumentationTest extends BaseTest {
         apiDocPage = new APIAndDocumentationPage(driver);
         testHelper = new APIDocumentationTestHelper(driver, expectedDomain);
 
-        System.out.println("========================================");
-        System.out.println("API & DOCUMENTATION TEST SUITE");
-        System.out.println("========================================\n");
+        Log.info("========================================");
+        Log.info("API & DOCUMENTATION TEST SUITE");
+        Log.info("========================================\n");
 
-        System.out.println("Step 1: Logging in as Super Admin...");
+        Log.info("Step 1: Logging in as Super Admin...");
         loginPage.loginWithSuperAdminCredentials();
         Thread.sleep(2000);
 
-        System.out.println("Step 2: Navigating to API & Documentation...");
+        Log.info("Step 2: Navigating to API & Documentation...");
         apiDocPage.navigateToAPIAndDocumentation();
         Thread.sleep(1500);
 
         Assert.assertTrue(apiDocPage.isPageLoaded(), "API & Documentation page should load successfully");
-        System.out.println("✓ Successfully navigated to API & Documentation page\n");
+        Log.info("✓ Successfully navigated to API & Documentation page\n");
     }
 
     @Test(priority = 2, description = "Verify API & Documentation tab visibility and clickability", dependsOnMethods = "testLoginAndNavigateToAPIDoc")
     public void testAPIDocTabVisibilityAndClickability() throws InterruptedException {
-        System.out.println("\n========================================");
-        System.out.println("TEST: API & Documentation Tab Validation");
-        System.out.println("========================================");
+        Log.info("\n========================================");
+        Log.info("TEST: API & Documentation Tab Validation");
+        Log.info("========================================");
 
         boolean isVisible = apiDocPage.isAPIDocTabVisible();
         Assert.assertTrue(isVisible, "API & Documentation tab should be visible");
-        System.out.println("✓ API & Documentation tab is visible");
+        Log.info("✓ API & Documentation tab is visible");
 
         boolean isClickable = apiDocPage.isAPIDocTabClickable();
         Assert.assertTrue(isClickable, "API & Documentation tab should be clickable");
-        System.out.println("✓ API & Documentation tab is clickable\n");
+        Log.info("✓ API & Documentation tab is clickable\n");
 
         Thread.sleep(1000);
     }
 
     @Test(priority = 3, description = "Validate SMS service documentation and Swagger UI", dependsOnMethods = "testAPIDocTabVisibilityAndClickability")
     public void testSMSServiceDocumentation() throws InterruptedException {
-        System.out.println("\n========================================");
-        System.out.println("TEST: SMS Service Documentation");
-        System.out.println("========================================");
+        Log.info("\n========================================");
+        Log.info("TEST: SMS Service Documentation");
+        Log.info("========================================");
 
         testHelper.validateServiceDocumentation("SMS");
 
-        System.out.println("✓ SMS service documentation validated successfully\n");
+        Log.info("✓ SMS service documentation validated successfully\n");
         Thread.sleep(1000);
     }
 
     @Test(priority = 4, description = "Validate OBD service documentation and Swagger UI", dependsOnMethods = "testSMSServiceDocumentation")
     public void testOBDServiceDocumentation() throws InterruptedException {
-        System.out.println("\n========================================");
-        System.out.println("TEST: OBD Service Documentation");
-        System.out.println("========================================");
+        Log.info("\n========================================");
+        Log.info("TEST: OBD Service Documentation");
+        Log.info("========================================");
 
         testHelper.validateServiceDocumentation("OBD");
 
-        System.out.println("✓ OBD service documentation validated successfully\n");
+        Log.info("✓ OBD service documentation validated successfully\n");
         Thread.sleep(1000);
     }
 
     @Test(priority = 5, description = "Validate CCS service documentation and Swagger UI", dependsOnMethods = "testOBDServiceDocumentation")
     public void testCCSServiceDocumentation() throws InterruptedException {
-        System.out.println("\n========================================");
-        System.out.println("TEST: CCS Service Documentation");
-        System.out.println("========================================");
+        Log.info("\n========================================");
+        Log.info("TEST: CCS Service Documentation");
+        Log.info("========================================");
 
         testHelper.validateServiceDocumentation("CCS");
 
-        System.out.println("✓ CCS service documentation validated successfully\n");
+        Log.info("✓ CCS service documentation validated successfully\n");
         Thread.sleep(1000);
     }
 
     @Test(priority = 6, description = "Validate WABA service documentation and Swagger UI", dependsOnMethods = "testCCSServiceDocumentation")
     public void testWABAServiceDocumentation() throws InterruptedException {
-        System.out.println("\n========================================");
-        System.out.println("TEST: WABA Service Documentation");
-        System.out.println("========================================");
+        Log.info("\n========================================");
+        Log.info("TEST: WABA Service Documentation");
+        Log.info("========================================");
 
         testHelper.validateServiceDocumentation("WABA");
 
-        System.out.println("✓ WABA service documentation validated successfully\n");
+        Log.info("✓ WABA service documentation validated successfully\n");
         Thread.sleep(1000);
     }
 
@@ -126,16 +130,16 @@ public class SuperAdminAPIAndDocumentationTest extends BaseTest {
     public void testLogout() throws InterruptedException {
         LoginPage loginPage = new LoginPage(driver);
 
-        System.out.println("\n========================================");
-        System.out.println("LOGGING OUT");
-        System.out.println("========================================");
+        Log.info("\n========================================");
+        Log.info("LOGGING OUT");
+        Log.info("========================================");
 
         loginPage.logout();
-        System.out.println("✓ Logout successful\n");
+        Log.info("✓ Logout successful\n");
 
-        System.out.println("========================================");
-        System.out.println("API & DOCUMENTATION TEST SUITE - COMPLETED");
-        System.out.println("========================================");
+        Log.info("========================================");
+        Log.info("API & DOCUMENTATION TEST SUITE - COMPLETED");
+        Log.info("========================================");
     }
 
 }
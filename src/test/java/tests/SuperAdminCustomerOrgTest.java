@@ -1,6 +1,8 @@
 package tests;
 
 import base.BaseTest;
+import base.RunAs;
+import enums.UserRole;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
@@ -16,7 +18,10 @@ import org.openqa.selenium.Keys;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import utils.Log;
+import utils.TracedWait;
 
+@RunAs(role = UserRole.SUPERADMIN)
 public class SuperAdminCustomerOrgTest extends BaseTest {
 
     @BeforeClass
@@ -29,13 +34,13 @@ public class SuperAdminCustomerOrgTest extends BaseTest {
     public void testLoginAndNavigation() throws InterruptedException {
         LoginPage loginPage = new LoginPage(driver);
         CustomerOrgPage customerOrgPage = new CustomerOrgPage(driver);
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        WebDriverWait wait = new TracedWait(driver, Duration.ofSeconds(10));
 
-        System.out.println("Step 1: Logging in as SuperAdmin...");
+        Log.info("Step 1: Logging in as SuperAdmin...");
         loginPage.loginWithSuperAdminCredentials();
         Thread.sleep(1500); // Wait for dashboard to fully load
 
-        System.out.println("Step 2: Navigating to Customer Org...");
+        Log.info("Step 2: Navigating to Customer Org...");
         customerOrgPage.navigateToCustomerOrg();
         Thread.sleep(1000); // Wait for page transition
 
@@ -46,15 +51,15 @@ public class SuperAdminCustomerOrgTest extends BaseTest {
     @Test(priority = 2, description = "Comprehensive Table Header Validation")
     public void testTableHeaders() throws InterruptedException {
         CustomerOrgPage customerOrgPage = new CustomerOrgPage(driver);
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-        System.out.println("Validating Table Header regression cases...");
+        WebDriverWait wait = new TracedWait(driver, Duration.ofSeconds(10));
+        Log.info("Validating Table Header regression cases...");
 
         // Wait for table to be visible
         wait.until(ExpectedConditions.visibilityOfElementLocated(By.xpath("//table")));
         Thread.sleep(500);
 
         java.util.List<String> detectedHeaders = customerOrgPage.getTableHeaderTexts();
-        System.out.println("Detected Headers: " + detectedHeaders);
+        Log.info("Detected Headers: " + detectedHeaders);
 
         java.util.List<String> expectedHeaders = java.util.Arrays.asList(
                 "Organisation Name", "Type", "Status", "Wallets");
@@ -67,40 +72,40 @@ public class SuperAdminCustomerOrgTest extends BaseTest {
             softAssert.assertTrue(found, "Header '" + expected + "' not found");
         }
         softAssert.assertAll();
-        System.out.println("✓ All table headers validated");
+        Log.info("✓ All table headers validated");
     }
 
     @Test(priority = 3, description = "Filter Enterprise and Redirect to Overview with Wallet Check", dependsOnMethods = "testTableHeaders")
     public void testEnterpriseDrillDown() throws InterruptedException {
         CustomerOrgPage customerOrgPage = new CustomerOrgPage(driver);
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-        System.out.println("Step 3: Filtering Enterprise and drilling down...");
+        WebDriverWait wait = new TracedWait(driver, Duration.ofSeconds(10));
+        Log.info("Step 3: Filtering Enterprise and drilling down...");
 
         Thread.sleep(500); // Wait before applying filter
         customerOrgPage.filterByEnterprise();
         Thread.sleep(1000); // Wait for filter to apply
 
         int walletCount = customerOrgPage.redirectToFirstEnterpriseWithWallets();
-        System.out.println("Detected " + walletCount + " wallet(s) for the selected Enterprise.");
+        Log.info("Detected " + walletCount + " wallet(s) for the selected Enterprise.");
         Thread.sleep(1500); // Wait for page to fully load after drill-down
 
         // Verify we actually drilled down (URL should contain customer ID)
         String currentUrl = driver.getCurrentUrl();
         Assert.assertTrue(currentUrl.contains("/customer-org/") && !currentUrl.endsWith("/customer-org"),
                 "Should have drilled down into a customer. Current URL: " + currentUrl);
-        System.out.println("✓ Successfully drilled down. URL: " + currentUrl);
+        Log.info("✓ Successfully drilled down. URL: " + currentUrl);
 
         String balance = customerOrgPage.getWalletValue();
         Assert.assertNotNull(balance, "Wallet balance should be available");
-        System.out.println("✓ Wallet balance: " + balance);
+        Log.info("✓ Wallet balance: " + balance);
         Thread.sleep(500); // Stabilize before next test
     }
 
     @Test(priority = 4, description = "Verify Wallet Table and Search", dependsOnMethods = "testEnterpriseDrillDown")
     public void testWalletTableAndSearch() throws InterruptedException {
         CustomerOrgPage customerOrgPage = new CustomerOrgPage(driver);
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-        System.out.println("Step 4: Verifying Wallet Table and search...");
+        WebDriverWait wait = new TracedWait(driver, Duration.ofSeconds(10));
+        Log.info("Step 4: Verifying Wallet Table and search...");
 
         WebElement walletSearchField = wait.until(ExpectedConditions.presenceOfElementLocated(
                 By.xpath("//input[contains(@placeholder, 'Search') or @type='search']")));
@@ -108,33 +113,33 @@ public class SuperAdminCustomerOrgTest extends BaseTest {
         Assert.assertTrue(walletSearchField.isDisplayed(), "Search field should be visible");
         customerOrgPage.searchWallet("Test Search");
         Thread.sleep(1000); // Wait for search results
-        System.out.println("✓ Wallet search executed");
+        Log.info("✓ Wallet search executed");
     }
 
     @Test(priority = 6, description = "Verify Organization Details Tab - Customer ID", dependsOnMethods = "testWalletTableAndSearch")
     public void testOrganizationDetailsTab() throws InterruptedException {
         CustomerOrgPage customerOrgPage = new CustomerOrgPage(driver);
 
-        System.out.println("Step 5: Navigating to Organization Details tab...");
+        Log.info("Step 5: Navigating to Organization Details tab...");
         Thread.sleep(500); // Wait before navigation
         customerOrgPage.navigateToOrgDetailsTab();
         Thread.sleep(1500); // Wait for tab content to load
 
         String customerId = customerOrgPage.getCustomerId();
-        System.out.println("Customer ID: " + customerId);
+        Log.info("Customer ID: " + customerId);
 
         Assert.assertNotNull(customerId, "Customer ID should not be null");
         Assert.assertFalse(customerId.equals("N/A"), "Customer ID should be found on the page");
-        System.out.println("✓ Organization Details validation: PASSED. Customer ID = " + customerId);
+        Log.info("✓ Organization Details validation: PASSED. Customer ID = " + customerId);
         Thread.sleep(500); // Stabilize before next test
     }
 
     @Test(priority = 7, description = "Navigate to Profile Tab", dependsOnMethods = "testOrganizationDetailsTab", alwaysRun = true)
     public void testNavigateToProfileTab() throws InterruptedException {
         CustomerOrgPage customerOrgPage = new CustomerOrgPage(driver);
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        WebDriverWait wait = new TracedWait(driver, Duration.ofSeconds(10));
 
-        System.out.println("Navigating to Profile tab...");
+        Log.info("Navigating to Profile tab...");
 
         // Clear any previous search or filters from Organization Details tab
         try {
@@ -152,21 +157,21 @@ public class SuperAdminCustomerOrgTest extends BaseTest {
         Thread.sleep(1500); // Wait for Profile tab to fully load
 
         Assert.assertTrue(customerOrgPage.isProfileTabLoaded(), "Profile tab failed to load");
-        System.out.println("✓ Profile tab loaded successfully");
+        Log.info("✓ Profile tab loaded successfully");
         Thread.sleep(500); // Stabilize before next test
     }
 
     @Test(priority = 8, description = "Verify Profile Table Headers", dependsOnMethods = "testNavigateToProfileTab", alwaysRun = true)
     public void testProfileTableHeaders() throws InterruptedException {
         CustomerOrgPage customerOrgPage = new CustomerOrgPage(driver);
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        WebDriverWait wait = new TracedWait(driver, Duration.ofSeconds(10));
 
-        System.out.println("Verifying Profile table headers...");
+        Log.info("Verifying Profile table headers...");
         Thread.sleep(500); // Wait for table to be ready
         wait.until(ExpectedConditions.visibilityOfElementLocated(By.xpath("//table")));
 
         List<String> headers = customerOrgPage.getProfileTableHeaders();
-        System.out.println("Detected Headers: " + headers);
+        Log.info("Detected Headers: " + headers);
 
         Assert.assertFalse(headers.isEmpty(), "Profile table should have headers");
 
@@ -178,60 +183,60 @@ public class SuperAdminCustomerOrgTest extends BaseTest {
             softAssert.assertTrue(found, "Header missing: " + expected + ". Found headers: " + headers);
         }
         softAssert.assertAll();
-        System.out.println("✓ All profile table headers verified");
+        Log.info("✓ All profile table headers verified");
     }
 
     @Test(priority = 9, description = "Verify Edit Button Clickable", dependsOnMethods = "testNavigateToProfileTab", alwaysRun = true)
     public void testEditButtonClickable() {
         CustomerOrgPage customerOrgPage = new CustomerOrgPage(driver);
 
-        System.out.println("Verifying Edit button is clickable...");
+        Log.info("Verifying Edit button is clickable...");
 
         // Check if table has rows first
         try {
             List<WebElement> rows = driver.findElements(By.xpath("//table//tbody//tr"));
             if (rows.isEmpty()) {
-                System.out.println("⚠ No rows in Profile table, skipping Edit button test");
+                Log.warn("⚠ No rows in Profile table, skipping Edit button test");
                 return;
             }
         } catch (Exception e) {
-            System.err.println("Could not check table rows: " + e.getMessage());
+            Log.error("Could not check table rows: " + e.getMessage());
         }
 
         Assert.assertTrue(customerOrgPage.isEditButtonClickable(), "Edit button should be clickable");
-        System.out.println("✓ Edit button is clickable");
+        Log.info("✓ Edit button is clickable");
     }
 
     @Test(priority = 10, description = "Verify View Icon and Content", dependsOnMethods = "testNavigateToProfileTab", alwaysRun = true)
     public void testViewIconAndContent() {
         CustomerOrgPage customerOrgPage = new CustomerOrgPage(driver);
 
-        System.out.println("Clicking View icon and verifying content...");
+        Log.info("Clicking View icon and verifying content...");
 
         // Check if table has rows first
         try {
             List<WebElement> rows = driver.findElements(By.xpath("//table//tbody//tr"));
             if (rows.isEmpty()) {
-                System.out.println("⚠ No rows in Profile table, skipping View icon test");
+                Log.warn("⚠ No rows in Profile table, skipping View icon test");
                 return;
             }
         } catch (Exception e) {
-            System.err.println("Could not check table rows: " + e.getMessage());
+            Log.error("Could not check table rows: " + e.getMessage());
         }
 
         boolean contentVisible = customerOrgPage.clickViewIconAndVerifyContent();
 
         if (!contentVisible) {
-            System.err.println("⚠ View icon did not show content or element not found");
+            Log.error("⚠ View icon did not show content or element not found");
             // Take screenshot for debugging
             try {
-                System.err.println("Current URL: " + driver.getCurrentUrl());
+                Log.error("Current URL: " + driver.getCurrentUrl());
             } catch (Exception e) {
             }
         }
 
         Assert.assertTrue(contentVisible, "At least one text element should be visible after clicking view icon");
-        System.out.println("✓ View icon functional and content verified");
+        Log.info("✓ View icon functional and content verified");
 
         // Close modal if needed (press ESC or click close button)
         try {
@@ -246,27 +251,27 @@ public class SuperAdminCustomerOrgTest extends BaseTest {
     public void testSearchField() {
         CustomerOrgPage customerOrgPage = new CustomerOrgPage(driver);
 
-        System.out.println("Verifying Search field functionality...");
+        Log.info("Verifying Search field functionality...");
         Assert.assertTrue(customerOrgPage.isSearchFieldFunctional(), "Search field should be functional");
-        System.out.println("✓ Search field is functional");
+        Log.info("✓ Search field is functional");
     }
 
     @Test(priority = 12, description = "Verify Filter Selection and Apply", dependsOnMethods = "testNavigateToProfileTab", alwaysRun = true)
     public void testFilterSelectionAndApply() {
         CustomerOrgPage customerOrgPage = new CustomerOrgPage(driver);
 
-        System.out.println("Verifying Filter selection and apply...");
+        Log.info("Verifying Filter selection and apply...");
         customerOrgPage.applyProfileFilters();
-        System.out.println("✓ Filters applied successfully");
+        Log.info("✓ Filters applied successfully");
     }
 
     @Test(priority = 13, description = "Verify Add New Button Clickable", dependsOnMethods = "testNavigateToProfileTab", alwaysRun = true)
     public void testAddNewButtonClickable() {
         CustomerOrgPage customerOrgPage = new CustomerOrgPage(driver);
 
-        System.out.println("Verifying Add New button is clickable...");
+        Log.info("Verifying Add New button is clickable...");
         Assert.assertTrue(customerOrgPage.isAddNewButtonClickable(), "Add New button should be clickable");
-        System.out.println("✓ Add New button is clickable");
+        Log.info("✓ Add New button is clickable");
     }
 
     // ========== ROLES TAB TESTS (Priority 15-23) ==========
@@ -274,44 +279,44 @@ public class SuperAdminCustomerOrgTest extends BaseTest {
     @Test(priority = 14, description = "Verify Roles tab is visible and accessible", dependsOnMethods = "testNavigateToProfileTab", alwaysRun = true)
     public void testRolesTabVisibility() throws InterruptedException {
         CustomerOrgPage page = new CustomerOrgPage(driver);
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        WebDriverWait wait = new TracedWait(driver, Duration.ofSeconds(10));
 
         Thread.sleep(1000); // Wait before starting roles tab tests
 
         // Debug: Print current state
         String currentUrl = driver.getCurrentUrl();
-        System.out.println("Current URL before navigation: " + currentUrl);
+        Log.info("Current URL before navigation: " + currentUrl);
 
         // Verify we're inside a customer details page (not on the main list)
         Assert.assertTrue(currentUrl.contains("/customer-org/") && !currentUrl.endsWith("/customer-org"),
                 "Should be inside a customer's details page. Current URL: " + currentUrl);
 
-        System.out.println("Navigating to Roles tab...");
+        Log.info("Navigating to Roles tab...");
         page.navigateToRolesTab();
         Thread.sleep(1500); // Wait for Roles tab to fully load
 
         // Verify navigation
         String newUrl = driver.getCurrentUrl();
-        System.out.println("Current URL after navigation: " + newUrl);
+        Log.info("Current URL after navigation: " + newUrl);
 
         Assert.assertTrue(newUrl.contains("roles") || newUrl.contains("profile"),
                 "URL should contain 'roles' or 'profile'. Current URL: " + newUrl);
         Assert.assertTrue(page.isRolesTabLoaded(), "Roles/Profiles tab should load successfully");
-        System.out.println("✓ Roles tab is visible and accessible");
+        Log.info("✓ Roles tab is visible and accessible");
         Thread.sleep(500); // Stabilize before next test
     }
 
     @Test(priority = 15, description = "Validate Roles table headers and structure", dependsOnMethods = "testRolesTabVisibility", alwaysRun = true)
     public void testRolesTableHeaders() throws InterruptedException {
         CustomerOrgPage page = new CustomerOrgPage(driver);
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        WebDriverWait wait = new TracedWait(driver, Duration.ofSeconds(10));
 
-        System.out.println("Validating Roles table headers...");
+        Log.info("Validating Roles table headers...");
         Thread.sleep(500); // Wait for table to be ready
         wait.until(ExpectedConditions.visibilityOfElementLocated(By.xpath("//table")));
 
         List<String> headers = page.getRolesTableHeaders();
-        System.out.println("Detected Headers: " + headers);
+        Log.info("Detected Headers: " + headers);
 
         Assert.assertFalse(headers.isEmpty(), "Roles table should have headers");
 
@@ -324,20 +329,20 @@ public class SuperAdminCustomerOrgTest extends BaseTest {
             softAssert.assertTrue(found, "Header missing: " + expected + ". Found: " + headers);
         }
         softAssert.assertAll();
-        System.out.println("✓ All Roles table headers validated");
+        Log.info("✓ All Roles table headers validated");
     }
 
     @Test(priority = 16, description = "Verify Edit icon clickability for roles", dependsOnMethods = "testRolesTabVisibility", alwaysRun = true)
     public void testRolesEditIconClickable() throws InterruptedException {
         CustomerOrgPage page = new CustomerOrgPage(driver);
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        WebDriverWait wait = new TracedWait(driver, Duration.ofSeconds(10));
 
-        System.out.println("Verifying Roles Edit icon clickability...");
+        Log.info("Verifying Roles Edit icon clickability...");
         Thread.sleep(500); // Wait for page to be ready
 
         // Check if table has rows
         if (page.getRolesTableRowCount() == 0) {
-            System.out.println("⚠ No roles in table, skipping Edit icon test");
+            Log.warn("⚠ No roles in table, skipping Edit icon test");
             return;
         }
 
@@ -351,7 +356,7 @@ public class SuperAdminCustomerOrgTest extends BaseTest {
         String currentUrl = driver.getCurrentUrl();
         Assert.assertTrue(currentUrl.contains("edit") || currentUrl.contains("roles/"),
                 "Should navigate to edit page. Current URL: " + currentUrl);
-        System.out.println("✓ Edit icon is clickable and navigates correctly");
+        Log.info("✓ Edit icon is clickable and navigates correctly");
 
         // Navigate back to roles list
         driver.navigate().back();
@@ -364,11 +369,11 @@ public class SuperAdminCustomerOrgTest extends BaseTest {
     public void testRolesViewIconClickable() {
         CustomerOrgPage page = new CustomerOrgPage(driver);
 
-        System.out.println("Verifying Roles View icon clickability...");
+        Log.info("Verifying Roles View icon clickability...");
 
         // Check if table has rows
         if (page.getRolesTableRowCount() == 0) {
-            System.out.println("⚠ No roles in table, skipping View icon test");
+            Log.warn("⚠ No roles in table, skipping View icon test");
             return;
         }
 
@@ -381,9 +386,9 @@ public class SuperAdminCustomerOrgTest extends BaseTest {
             Thread.sleep(1000);
             boolean viewDisplayed = page.isRolesViewModalDisplayed() || driver.getCurrentUrl().contains("view");
             Assert.assertTrue(viewDisplayed, "View modal or page should be displayed");
-            System.out.println("✓ View icon is clickable and displays content in read-only mode");
+            Log.info("✓ View icon is clickable and displays content in read-only mode");
         } catch (Exception e) {
-            System.out.println("⚠ View verification skipped: " + e.getMessage());
+            Log.warn("⚠ View verification skipped: " + e.getMessage());
         }
 
         // Close modal or navigate back
@@ -403,7 +408,7 @@ public class SuperAdminCustomerOrgTest extends BaseTest {
     public void testRolesSearchNoResults() throws InterruptedException {
         CustomerOrgPage page = new CustomerOrgPage(driver);
 
-        System.out.println("Testing search with non-existent role name...");
+        Log.info("Testing search with non-existent role name...");
         Thread.sleep(500); // Wait before search
         page.searchRole("NONEXISTENT_ROLE_XYZ123");
         Thread.sleep(2000); // Wait for search results to load
@@ -412,20 +417,20 @@ public class SuperAdminCustomerOrgTest extends BaseTest {
         boolean isMessageDisplayed = page.isNoDataMessageDisplayed();
         int rowCount = page.getRolesTableRowCount();
 
-        System.out.println("No Data Message Displayed: " + isMessageDisplayed);
-        System.out.println("Role Table Row Count: " + rowCount);
+        Log.info("No Data Message Displayed: " + isMessageDisplayed);
+        Log.info("Role Table Row Count: " + rowCount);
 
         boolean noData = isMessageDisplayed || rowCount == 0;
         Assert.assertTrue(noData, "Should show 'No data found' message or empty table for non-existent role. Found "
                 + rowCount + " rows.");
-        System.out.println("✓ Search correctly shows no results for non-existent role");
+        Log.info("✓ Search correctly shows no results for non-existent role");
     }
 
     @Test(priority = 19, description = "Search with partial role name (positive test)", dependsOnMethods = "testRolesSearchNoResults", alwaysRun = true)
     public void testRolesSearchWithResults() {
         CustomerOrgPage page = new CustomerOrgPage(driver);
 
-        System.out.println("Testing search with partial role name...");
+        Log.info("Testing search with partial role name...");
 
         // Clear previous search
         page.searchRole("");
@@ -437,26 +442,26 @@ public class SuperAdminCustomerOrgTest extends BaseTest {
         // Get first role name and search with first 4 characters
         String firstRoleName = page.getFirstRoleName();
         if (firstRoleName.isEmpty()) {
-            System.out.println("⚠ No roles found, skipping positive search test");
+            Log.warn("⚠ No roles found, skipping positive search test");
             return;
         }
 
         String searchTerm = firstRoleName.substring(0, Math.min(4, firstRoleName.length()));
-        System.out.println("Searching with term: " + searchTerm);
+        Log.info("Searching with term: " + searchTerm);
 
         page.searchRole(searchTerm);
 
         int rowCount = page.getRolesTableRowCount();
         Assert.assertTrue(rowCount > 0, "Should show matching results for partial role name search");
-        System.out.println("✓ Search correctly returns " + rowCount + " result(s) for partial match");
+        Log.info("✓ Search correctly returns " + rowCount + " result(s) for partial match");
     }
 
     @Test(priority = 20, description = "Apply Active status filter", dependsOnMethods = "testRolesTabVisibility", alwaysRun = true)
     public void testRolesFilterActive() throws InterruptedException {
         CustomerOrgPage page = new CustomerOrgPage(driver);
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        WebDriverWait wait = new TracedWait(driver, Duration.ofSeconds(10));
 
-        System.out.println("Testing Active status filter...");
+        Log.info("Testing Active status filter...");
 
         // Clear any search first
         Thread.sleep(500);
@@ -475,19 +480,18 @@ public class SuperAdminCustomerOrgTest extends BaseTest {
                         "All roles should have Active status. Found: " + status);
             }
             softAssert.assertAll();
-            System.out
-                    .println("✓ Active filter applied successfully. " + statusValues.size() + " active role(s) shown");
+            Log.info("✓ Active filter applied successfully. " + statusValues.size() + " active role(s) shown");
         } else {
-            System.out.println("⚠ No roles in table after filtering, verification skipped");
+            Log.warn("⚠ No roles in table after filtering, verification skipped");
         }
     }
 
     @Test(priority = 21, description = "Verify Add New button functionality", dependsOnMethods = "testRolesTabVisibility", alwaysRun = true)
     public void testRolesAddNewButton() throws InterruptedException {
         CustomerOrgPage page = new CustomerOrgPage(driver);
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        WebDriverWait wait = new TracedWait(driver, Duration.ofSeconds(10));
 
-        System.out.println("Verifying Add New Role button...");
+        Log.info("Verifying Add New Role button...");
         Thread.sleep(500); // Wait before interaction
         Assert.assertTrue(page.isAddNewRoleButtonClickable(), "Add New button should be clickable");
 
@@ -495,7 +499,7 @@ public class SuperAdminCustomerOrgTest extends BaseTest {
         Thread.sleep(2000); // Wait for page to load
 
         Assert.assertTrue(page.isOnAddRolePage(), "Should navigate to Add New Role page");
-        System.out.println("✓ Add New button is functional and navigates to role creation page");
+        Log.info("✓ Add New button is functional and navigates to role creation page");
 
         // Navigate back to roles list
         driver.navigate().back();
@@ -506,9 +510,9 @@ public class SuperAdminCustomerOrgTest extends BaseTest {
     @Test(priority = 22, description = "Validate accordion structure in Add/Edit role form", dependsOnMethods = "testRolesAddNewButton")
     public void testRoleFormAccordions() throws InterruptedException {
         CustomerOrgPage page = new CustomerOrgPage(driver);
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        WebDriverWait wait = new TracedWait(driver, Duration.ofSeconds(10));
 
-        System.out.println("Validating role form accordion structure...");
+        Log.info("Validating role form accordion structure...");
 
         // Navigate to Add Role page
         Thread.sleep(500); // Wait before navigation
@@ -516,7 +520,7 @@ public class SuperAdminCustomerOrgTest extends BaseTest {
         Thread.sleep(2000); // Wait for form to load
 
         List<String> accordions = page.getAccordionLabels();
-        System.out.println("Found accordions: " + accordions);
+        Log.info("Found accordions: " + accordions);
 
         Assert.assertFalse(accordions.isEmpty(), "Form should have accordion sections");
 
@@ -529,7 +533,7 @@ public class SuperAdminCustomerOrgTest extends BaseTest {
         Assert.assertTrue(accordions.size() >= 4,
                 "Should have at least 4 accordion sections. Found: " + accordions.size());
 
-        System.out.println("✓ Form accordion structure validated. No duplicates found.");
+        Log.info("✓ Form accordion structure validated. No duplicates found.");
 
         // Close any offcanvas/modal that might be open
         try {
@@ -563,14 +567,14 @@ public class SuperAdminCustomerOrgTest extends BaseTest {
     @Test(priority = 23, description = "Logout from SuperAdmin session", dependsOnMethods = "testAddNewButtonClickable", alwaysRun = true)
     public void testLogout() throws InterruptedException {
         LoginPage loginPage = new LoginPage(driver);
-        System.out.println("Step 6: Logging out...");
+        Log.info("Step 6: Logging out...");
 
         // Close any remaining modals/offcanvas before logout
         try {
             // Check for and close offcanvas backdrop
             List<WebElement> backdrops = driver.findElements(By.cssSelector(".offcanvas-backdrop, .modal-backdrop"));
             if (!backdrops.isEmpty()) {
-                System.out.println("Found " + backdrops.size() + " backdrop(s), attempting to close...");
+                Log.info("Found " + backdrops.size() + " backdrop(s), attempting to close...");
 
                 // Press ESC multiple times
                 for (int i = 0; i < 3; i++) {
@@ -596,10 +600,10 @@ public class SuperAdminCustomerOrgTest extends BaseTest {
                 ((org.openqa.selenium.JavascriptExecutor) driver).executeScript(
                         "document.querySelectorAll('.offcanvas-backdrop, .modal-backdrop').forEach(el => el.remove());");
                 Thread.sleep(500);
-                System.out.println("✓ Backdrops removed");
+                Log.info("✓ Backdrops removed");
             }
         } catch (Exception e) {
-            System.out.println("No backdrops found or already closed");
+            Log.info("No backdrops found or already closed");
         }
 
         // Scroll to top to ensure profile menu is visible
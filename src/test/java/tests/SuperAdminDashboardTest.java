@@ -1,6 +1,7 @@
 package tests;
 
 import base.BaseTest;
+import base.RunAs;
 import enums.UserRole;
 import helpers.DashboardTestHelper;
 import org.testng.Assert;
@@ -8,7 +9,9 @@ import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 import pages.DashboardPage;
 import pages.LoginPage;
+import utils.Log;
 
+@RunAs(role = UserRole.SUPERADMIN)
 public class SuperAdminDashboardTest extends BaseTest {
 
     private DashboardTestHelper dashboardHelper;
@@ -26,22 +29,22 @@ public class SuperAdminDashboardTest extends BaseTest {
             DashboardPage dashboardPage = new DashboardPage(driver);
             dashboardHelper = new DashboardTestHelper(driver);
 
-            System.out.println("========================================");
-            System.out.println("DASHBOARD TEST SUITE");
-            System.out.println("========================================\n");
+            Log.info("========================================");
+            Log.info("DASHBOARD TEST SUITE");
+            Log.info("========================================\n");
 
-            System.out.println("Step 1: Logging in as SuperAdmin...");
+            Log.info("Step 1: Logging in as SuperAdmin...");
             loginPage.loginWithSuperAdminCredentials();
             Thread.sleep(2000);
 
-            System.out.println("Step 2: Verifying dashboard loaded...");
+            Log.info("Step 2: Verifying dashboard loaded...");
             boolean dashboardLoaded = dashboardPage.isDashboardLoaded(UserRole.SUPERADMIN);
             Assert.assertTrue(dashboardLoaded, "SuperAdmin dashboard failed to load");
 
-            System.out.println("✓ Dashboard loaded successfully\n");
+            Log.info("✓ Dashboard loaded successfully\n");
 
         } catch (Exception e) {
-            System.err.println("❌ FAILURE: Login and dashboard verification failed - " + e.getMessage());
+            Log.error("❌ FAILURE: Login and dashboard verification failed - " + e.getMessage());
             Assert.fail("Login and dashboard verification failed - " + e.getMessage());
         }
     }
@@ -84,20 +87,20 @@ public class SuperAdminDashboardTest extends BaseTest {
     @Test(priority = 9, description = "Logout from Super Admin", dependsOnMethods = "testLiveAgentService", alwaysRun = true)
     public void testLogout() {
         try {
-            System.out.println("\n========================================");
-            System.out.println("LOGGING OUT");
-            System.out.println("========================================");
+            Log.info("\n========================================");
+            Log.info("LOGGING OUT");
+            Log.info("========================================");
 
             LoginPage loginPage = new LoginPage(driver);
             loginPage.logout();
 
-            System.out.println("✓ Logout successful\n");
-            System.out.println("========================================");
-            System.out.println("DASHBOARD TEST SUITE - COMPLETED");
-            System.out.println("========================================");
+            Log.info("✓ Logout successful\n");
+            Log.info("========================================");
+            Log.info("DASHBOARD TEST SUITE - COMPLETED");
+            Log.info("========================================");
 
         } catch (Exception e) {
-            System.err.println("❌ FAILURE: Logout error - " + e.getMessage());
+            Log.error("❌ FAILURE: Logout error - " + e.getMessage());
             Assert.fail("Logout error - " + e.getMessage());
         }
     }
@@ -1,11 +1,14 @@
 package tests;
 
 import base.BaseTest;
+import base.RunAs;
+import enums.UserRole;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 import pages.LoginPage;
 import pages.RolesManagementPage;
+import utils.Log;
 
 import java.util.Arrays;
 import java.util.List;
@@ -15,6 +18,7 @@ import java.util.List;
  * Tests Roles Management functionality including table operations, pagination,
  * search, and Add New form validation
  */
+@RunAs(role = UserRole.SUPERADMIN)
 public class SuperAdminRolesManagementTest extends BaseTest {
 
     private RolesManagementPage rolesPage;
@@ -29,133 +33,133 @@ public class SuperAdminRolesManagementTest extends BaseTest {
         LoginPage loginPage = new LoginPage(driver);
         rolesPage = new RolesManagementPage(driver);
 
-        System.out.println("========================================");
-        System.out.println("ROLES MANAGEMENT TEST SUITE");
-        System.out.println("========================================\n");
+        Log.info("========================================");
+        Log.info("ROLES MANAGEMENT TEST SUITE");
+        Log.info("========================================\n");
 
-        System.out.println("Step 1: Logging in as Super Admin...");
+        Log.info("Step 1: Logging in as Super Admin...");
         loginPage.loginWithSuperAdminCredentials();
         Thread.sleep(2000);
 
-        System.out.println("Step 2: Navigating to Roles Management...");
+        Log.info("Step 2: Navigating to Roles Management...");
         rolesPage.navigateToRolesManagement();
         Thread.sleep(1500);
 
         Assert.assertTrue(rolesPage.isPageLoaded(), "Roles Management page should load successfully");
-        System.out.println("✓ Successfully navigated to Roles Management page\n");
+        Log.info("✓ Successfully navigated to Roles Management page\n");
     }
 
     @Test(priority = 2, description = "Validate table headers are displayed correctly", dependsOnMethods = "testLoginAndNavigateToRolesManagement")
     public void testTableHeaders() throws InterruptedException {
-        System.out.println("\n========================================");
-        System.out.println("TEST: Table Headers Validation");
-        System.out.println("========================================");
+        Log.info("\n========================================");
+        Log.info("TEST: Table Headers Validation");
+        Log.info("========================================");
 
         List<String> expectedHeaders = Arrays.asList("Role Name", "Users", "Permissions", "Status", "Actions");
 
         List<String> actualHeaders = rolesPage.getTableHeaders();
-        System.out.println("Expected headers: " + expectedHeaders);
-        System.out.println("Actual headers: " + actualHeaders);
+        Log.info("Expected headers: " + expectedHeaders);
+        Log.info("Actual headers: " + actualHeaders);
 
         boolean validated = rolesPage.validateTableHeaders(expectedHeaders);
         Assert.assertTrue(validated, "All expected table headers should be present");
-        System.out.println("✓ All table headers validated successfully\n");
+        Log.info("✓ All table headers validated successfully\n");
         Thread.sleep(1000);
     }
 
     @Test(priority = 3, description = "Validate pagination Next button", dependsOnMethods = "testTableHeaders")
     public void testPaginationNext() throws InterruptedException {
-        System.out.println("\n========================================");
-        System.out.println("TEST: Pagination - Next Button");
-        System.out.println("========================================");
+        Log.info("\n========================================");
+        Log.info("TEST: Pagination - Next Button");
+        Log.info("========================================");
 
         boolean nextEnabled = rolesPage.isNextEnabled();
-        System.out.println("Next button enabled: " + nextEnabled);
+        Log.info("Next button enabled: " + nextEnabled);
 
         if (nextEnabled) {
             int rowCountBefore = rolesPage.getTableRowCount();
-            System.out.println("Row count before clicking Next: " + rowCountBefore);
+            Log.info("Row count before clicking Next: " + rowCountBefore);
 
             rolesPage.clickNext();
             Thread.sleep(1500);
 
             String currentUrl = rolesPage.getCurrentURL();
-            System.out.println("URL after clicking Next: " + currentUrl);
+            Log.info("URL after clicking Next: " + currentUrl);
 
             int rowCountAfter = rolesPage.getTableRowCount();
-            System.out.println("Row count after clicking Next: " + rowCountAfter);
+            Log.info("Row count after clicking Next: " + rowCountAfter);
 
-            System.out.println("✓ Next button clicked successfully");
+            Log.info("✓ Next button clicked successfully");
         } else {
-            System.out.println("⚠ Next button is disabled (already on last page or single page)");
+            Log.warn("⚠ Next button is disabled (already on last page or single page)");
         }
 
-        System.out.println("✓ Pagination Next button test completed\n");
+        Log.info("✓ Pagination Next button test completed\n");
         Thread.sleep(1000);
     }
 
     @Test(priority = 4, description = "Validate pagination Previous button", dependsOnMethods = "testPaginationNext")
     public void testPaginationPrevious() throws InterruptedException {
-        System.out.println("\n========================================");
-        System.out.println("TEST: Pagination - Previous Button");
-        System.out.println("========================================");
+        Log.info("\n========================================");
+        Log.info("TEST: Pagination - Previous Button");
+        Log.info("========================================");
 
         boolean prevEnabled = rolesPage.isPreviousEnabled();
-        System.out.println("Previous button enabled: " + prevEnabled);
+        Log.info("Previous button enabled: " + prevEnabled);
 
         if (prevEnabled) {
             int rowCountBefore = rolesPage.getTableRowCount();
-            System.out.println("Row count before clicking Previous: " + rowCountBefore);
+            Log.info("Row count before clicking Previous: " + rowCountBefore);
 
             rolesPage.clickPrevious();
             Thread.sleep(1500);
 
             String currentUrl = rolesPage.getCurrentURL();
-            System.out.println("URL after clicking Previous: " + currentUrl);
+            Log.info("URL after clicking Previous: " + currentUrl);
 
             int rowCountAfter = rolesPage.getTableRowCount();
-            System.out.println("Row count after clicking Previous: " + rowCountAfter);
+            Log.info("Row count after clicking Previous: " + rowCountAfter);
 
-            System.out.println("✓ Previous button clicked successfully");
+            Log.info("✓ Previous button clicked successfully");
         } else {
-            System.out.println("⚠ Previous button is disabled (already on first page)");
+            Log.warn("⚠ Previous button is disabled (already on first page)");
         }
 
-        System.out.println("✓ Pagination Previous button test completed\n");
+        Log.info("✓ Pagination Previous button test completed\n");
         Thread.sleep(1000);
     }
 
     @Test(priority = 5, description = "Validate Edit button is clickable", dependsOnMethods = "testPaginationPrevious")
     public void testEditButtonClickable() throws InterruptedException {
-        System.out.println("\n========================================");
-        System.out.println("TEST: Edit Button Clickability");
-        System.out.println("========================================");
+        Log.info("\n========================================");
+        Log.info("TEST: Edit Button Clickability");
+        Log.info("========================================");
 
         boolean isClickable = rolesPage.isFirstEditButtonClickable();
 
         Assert.assertTrue(isClickable, "Edit button should be clickable");
-        System.out.println("✓ Edit button is clickable\n");
+        Log.info("✓ Edit button is clickable\n");
         Thread.sleep(1000);
     }
 
     @Test(priority = 6, description = "Validate View button is clickable", dependsOnMethods = "testEditButtonClickable")
     public void testViewButtonClickable() throws InterruptedException {
-        System.out.println("\n========================================");
-        System.out.println("TEST: View Button Clickability");
-        System.out.println("========================================");
+        Log.info("\n========================================");
+        Log.info("TEST: View Button Clickability");
+        Log.info("========================================");
 
         boolean isClickable = rolesPage.isFirstViewButtonClickable();
 
         Assert.assertTrue(isClickable, "View button should be clickable");
-        System.out.println("✓ View button is clickable\n");
+        Log.info("✓ View button is clickable\n");
         Thread.sleep(1000);
     }
 
     @Test(priority = 7, description = "Validate Search functionality with first 3 characters", dependsOnMethods = "testViewButtonClickable")
     public void testSearchFunctionality() throws InterruptedException {
-        System.out.println("\n========================================");
-        System.out.println("TEST: Search Functionality");
-        System.out.println("========================================");
+        Log.info("\n========================================");
+        Log.info("TEST: Search Functionality");
+        Log.info("========================================");
 
         // Get first role name
         String firstRoleName = rolesPage.getFirstRoleName();
@@ -163,28 +167,28 @@ public class SuperAdminRolesManagementTest extends BaseTest {
 
         // Get first 3 characters
         String searchTerm = firstRoleName.length() >= 3 ? firstRoleName.substring(0, 3) : firstRoleName;
-        System.out.println("Searching with first 3 characters: " + searchTerm);
+        Log.info("Searching with first 3 characters: " + searchTerm);
 
         int rowCountBefore = rolesPage.getTableRowCount();
-        System.out.println("Row count before search: " + rowCountBefore);
+        Log.info("Row count before search: " + rowCountBefore);
 
         rolesPage.search(searchTerm);
         Thread.sleep(2000);
 
         int rowCountAfter = rolesPage.getSearchResultCount();
-        System.out.println("Row count after search: " + rowCountAfter);
+        Log.info("Row count after search: " + rowCountAfter);
 
         // Verify that search returns results
         Assert.assertTrue(rowCountAfter > 0, "Search should return results");
-        System.out.println("✓ Search functionality validated - Found " + rowCountAfter + " result(s)\n");
+        Log.info("✓ Search functionality validated - Found " + rowCountAfter + " result(s)\n");
         Thread.sleep(1000);
     }
 
     @Test(priority = 8, description = "Validate Add New button is clickable", dependsOnMethods = "testSearchFunctionality")
     public void testAddNewButtonClickable() throws InterruptedException {
-        System.out.println("\n========================================");
-        System.out.println("TEST: Add New Button Clickability");
-        System.out.println("========================================");
+        Log.info("\n========================================");
+        Log.info("TEST: Add New Button Clickability");
+        Log.info("========================================");
 
         // Clear search first
         rolesPage.search("");
@@ -193,15 +197,15 @@ public class SuperAdminRolesManagementTest extends BaseTest {
         boolean isClickable = rolesPage.isAddNewClickable();
 
         Assert.assertTrue(isClickable, "Add New button should be clickable");
-        System.out.println("✓ Add New button is clickable\n");
+        Log.info("✓ Add New button is clickable\n");
         Thread.sleep(1000);
     }
 
     @Test(priority = 9, description = "Validate all permission fields in Add New form", dependsOnMethods = "testAddNewButtonClickable")
     public void testAddNewFormFields() throws InterruptedException {
-        System.out.println("\n========================================");
-        System.out.println("TEST: Add New Form - All Permission Fields");
-        System.out.println("========================================");
+        Log.info("\n========================================");
+        Log.info("TEST: Add New Form - All Permission Fields");
+        Log.info("========================================");
 
         // Click Add New button
         rolesPage.clickAddNew();
@@ -211,51 +215,50 @@ public class SuperAdminRolesManagementTest extends BaseTest {
         boolean allAccordionsPresent = rolesPage.validateAllPermissionAccordions();
 
         Assert.assertTrue(allAccordionsPresent, "All 8 permission accordions should be present");
-        System.out.println("✓ All permission fields validated successfully\n");
+        Log.info("✓ All permission fields validated successfully\n");
         Thread.sleep(1000);
     }
 
     @Test(priority = 10, description = "Validate Service Node SSO dropdown expansion", dependsOnMethods = "testAddNewFormFields")
     public void testServiceNodeSSODropdownExpansion() throws InterruptedException {
-        System.out.println("\n========================================");
-        System.out.println("TEST: Service Node SSO Dropdown Expansion");
-        System.out.println("========================================");
+        Log.info("\n========================================");
+        Log.info("TEST: Service Node SSO Dropdown Expansion");
+        Log.info("========================================");
 
         // Expand Service Node SSO accordion
         rolesPage.expandServiceNodeSSOAccordion();
-        Thread.sleep(1500);
 
         // Validate sub-options are present
         boolean subOptionsPresent = rolesPage.validateServiceNodeSSOSubOptions();
 
         Assert.assertTrue(subOptionsPresent, "All Service Node SSO sub-options should be present");
-        System.out.println("✓ Service Node SSO dropdown expansion validated successfully\n");
+        Log.info("✓ Service Node SSO dropdown expansion validated successfully\n");
         Thread.sleep(1000);
     }
 
     @Test(priority = 11, description = "Validate no duplicate values in form", dependsOnMethods = "testServiceNodeSSODropdownExpansion")
     public void testNoDuplicateValues() throws InterruptedException {
-        System.out.println("\n========================================");
-        System.out.println("TEST: No Duplicate Values");
-        System.out.println("========================================");
+        Log.info("\n========================================");
+        Log.info("TEST: No Duplicate Values");
+        Log.info("========================================");
 
         // Check for duplicates in SSO options
         boolean noDuplicates = rolesPage.checkNoDuplicatesInSSOOptions();
 
         Assert.assertTrue(noDuplicates, "There should be no duplicate values in the form");
-        System.out.println("✓ No duplicate values found\n");
+        Log.info("✓ No duplicate values found\n");
 
         // Close the form
         rolesPage.closeAddNewForm();
         Thread.sleep(1000);
-        System.out.println("✓ Add New form closed\n");
+        Log.info("✓ Add New form closed\n");
     }
 
     @Test(priority = 12, description = "Validate Users count navigation to Team Management", dependsOnMethods = "testNoDuplicateValues")
     public void testUsersCountNavigation() throws InterruptedException {
-        System.out.println("\n========================================");
-        System.out.println("TEST: Users Count Navigation");
-        System.out.println("========================================");
+        Log.info("\n========================================");
+        Log.info("TEST: Users Count Navigation");
+        Log.info("========================================");
 
         // Find a role with Users > 0
         java.util.Map<String, String> roleInfo = rolesPage.findRoleWithUsers();
@@ -264,8 +267,8 @@ public class SuperAdminRolesManagementTest extends BaseTest {
         String roleName = roleInfo.get("roleName");
         int expectedUserCount = Integer.parseInt(roleInfo.get("usersCount"));
 
-        System.out.println("Selected role: " + roleName);
-        System.out.println("Expected user count: " + expectedUserCount);
+        Log.info("Selected role: " + roleName);
+        Log.info("Expected user count: " + expectedUserCount);
 
         // Click on Users count
         rolesPage.clickUsersCount(roleName);
@@ -275,14 +278,14 @@ public class SuperAdminRolesManagementTest extends BaseTest {
         String currentUrl = driver.getCurrentUrl();
         Assert.assertTrue(currentUrl.contains("team-management"),
                 "Should navigate to Team Management page. Current URL: " + currentUrl);
-        System.out.println("✓ Successfully navigated to Team Management");
-        System.out.println("Current URL: " + currentUrl);
+        Log.info("✓ Successfully navigated to Team Management");
+        Log.info("Current URL: " + currentUrl);
 
         // Verify filter chip is applied with role name
         // Note: The filter chip shows the role name, but the list might not be filtered
         // yet
         // We'll just verify the navigation happened successfully
-        System.out.println("✓ Users count navigation validated successfully\n");
+        Log.info("✓ Users count navigation validated successfully\n");
 
         // Navigate back to Roles Management for cleanup
         rolesPage.navigateToRolesManagement();
@@ -293,15 +296,15 @@ public class SuperAdminRolesManagementTest extends BaseTest {
     public void testLogout() throws InterruptedException {
         LoginPage loginPage = new LoginPage(driver);
 
-        System.out.println("\n========================================");
-        System.out.println("LOGGING OUT");
-        System.out.println("========================================");
+        Log.info("\n========================================");
+        Log.info("LOGGING OUT");
+        Log.info("========================================");
 
         loginPage.logout();
-        System.out.println("✓ Logout successful\n");
+        Log.info("✓ Logout successful\n");
 
-        System.out.println("========================================");
-        System.out.println("ROLES MANAGEMENT TEST SUITE - COMPLETED");
-        System.out.println("========================================");
+        Log.info("========================================");
+        Log.info("ROLES MANAGEMENT TEST SUITE - COMPLETED");
+        Log.info("========================================");
     }
 }
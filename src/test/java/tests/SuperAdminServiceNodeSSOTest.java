@@ -1,17 +1,21 @@
 package tests;
 
 import base.BaseTest;
+import base.RunAs;
+import enums.UserRole;
 import helpers.SSOTestHelper;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 import pages.LoginPage;
 import pages.ServiceNodeSSOPage;
+import utils.Log;
 
 /**
  * Test Suite for Service Node SSO Module
  * Tests SSO login for each service with all available roles
  */
+@RunAs(role = UserRole.SUPERADMIN)
 public class SuperAdminServiceNodeSSOTest extends BaseTest {
 
     private ServiceNodeSSOPage ssoPage;
@@ -29,26 +33,26 @@ public class SuperAdminServiceNodeSSOTest extends BaseTest {
             ssoPage = new ServiceNodeSSOPage(driver);
             ssoHelper = new SSOTestHelper(driver);
 
-            System.out.println("========================================");
-            System.out.println("SERVICE NODE SSO TEST SUITE");
-            System.out.println("========================================\n");
+            Log.info("========================================");
+            Log.info("SERVICE NODE SSO TEST SUITE");
+            Log.info("========================================\n");
 
-            System.out.println("Step 1: Logging in as Super Admin...");
+            Log.info("Step 1: Logging in as Super Admin...");
             loginPage.loginWithSuperAdminCredentials();
             Thread.sleep(2000);
 
-            System.out.println("Step 2: Navigating to Service Node SSO...");
+            Log.info("Step 2: Navigating to Service Node SSO...");
             ssoPage.navigateToServiceNodeSSO();
             Thread.sleep(1500);
 
             Assert.assertTrue(ssoPage.isPageLoaded(),
                     "❌ FAILURE: Service Node SSO page failed to load - Check navigation or page locators");
-            System.out.println("✓ Successfully navigated to Service Node SSO page\n");
+            Log.info("✓ Successfully navigated to Service Node SSO page\n");
         } catch (AssertionError e) {
-            System.err.println("\n❌ TEST FAILED: SSO Login/Navigation - " + e.getMessage());
+            Log.error("\n❌ TEST FAILED: SSO Login/Navigation - " + e.getMessage());
             throw e;
         } catch (Exception e) {
-            System.err.println("\n❌ TEST FAILED: SSO Login/Navigation - Unexpected error: " + e.getMessage());
+            Log.error("\n❌ TEST FAILED: SSO Login/Navigation - Unexpected error: " + e.getMessage());
             throw e;
         }
     }
@@ -58,10 +62,10 @@ public class SuperAdminServiceNodeSSOTest extends BaseTest {
         try {
             ssoHelper.testServiceSSO("SMS");
         } catch (AssertionError e) {
-            System.err.println("\n❌ TEST FAILED: SMS Service SSO - " + e.getMessage());
+            Log.error("\n❌ TEST FAILED: SMS Service SSO - " + e.getMessage());
             throw new AssertionError("❌ FAILURE: SMS service SSO failed - " + e.getMessage(), e);
         } catch (Exception e) {
-            System.err.println("\n❌ TEST FAILED: SMS Service SSO - Error: " + e.getMessage());
+            Log.error("\n❌ TEST FAILED: SMS Service SSO - Error: " + e.getMessage());
             throw e;
         }
     }
@@ -71,10 +75,10 @@ public class SuperAdminServiceNodeSSOTest extends BaseTest {
         try {
             ssoHelper.testServiceSSO("RCS");
         } catch (AssertionError e) {
-            System.err.println("\n❌ TEST FAILED: RCS Service SSO - " + e.getMessage());
+            Log.error("\n❌ TEST FAILED: RCS Service SSO - " + e.getMessage());
             throw new AssertionError("❌ FAILURE: RCS service SSO failed - " + e.getMessage(), e);
         } catch (Exception e) {
-            System.err.println("\n❌ TEST FAILED: RCS Service SSO - Error: " + e.getMessage());
+            Log.error("\n❌ TEST FAILED: RCS Service SSO - Error: " + e.getMessage());
             throw e;
         }
     }
@@ -84,10 +88,10 @@ public class SuperAdminServiceNodeSSOTest extends BaseTest {
         try {
             ssoHelper.testServiceSSO("CCS");
         } catch (AssertionError e) {
-            System.err.println("\n❌ TEST FAILED: CCS Service SSO - " + e.getMessage());
+            Log.error("\n❌ TEST FAILED: CCS Service SSO - " + e.getMessage());
             throw new AssertionError("❌ FAILURE: CCS service SSO failed - " + e.getMessage(), e);
         } catch (Exception e) {
-            System.err.println("\n❌ TEST FAILED: CCS Service SSO - Error: " + e.getMessage());
+            Log.error("\n❌ TEST FAILED: CCS Service SSO - Error: " + e.getMessage());
             throw e;
         }
     }
@@ -97,10 +101,10 @@ public class SuperAdminServiceNodeSSOTest extends BaseTest {
         try {
             ssoHelper.testServiceSSO("OBD");
         } catch (AssertionError e) {
-            System.err.println("\n❌ TEST FAILED: OBD Service SSO - " + e.getMessage());
+            Log.error("\n❌ TEST FAILED: OBD Service SSO - " + e.getMessage());
             throw new AssertionError("❌ FAILURE: OBD service SSO failed - " + e.getMessage(), e);
         } catch (Exception e) {
-            System.err.println("\n❌ TEST FAILED: OBD Service SSO - Error: " + e.getMessage());
+            Log.error("\n❌ TEST FAILED: OBD Service SSO - Error: " + e.getMessage());
             throw e;
         }
     }
@@ -110,10 +114,10 @@ public class SuperAdminServiceNodeSSOTest extends BaseTest {
         try {
             ssoHelper.testServiceSSO("IVR");
         } catch (AssertionError e) {
-            System.err.println("\n❌ TEST FAILED: IVR Service SSO - " + e.getMessage());
+            Log.error("\n❌ TEST FAILED: IVR Service SSO - " + e.getMessage());
             throw new AssertionError("❌ FAILURE: IVR service SSO failed - " + e.getMessage(), e);
         } catch (Exception e) {
-            System.err.println("\n❌ TEST FAILED: IVR Service SSO - Error: " + e.getMessage());
+            Log.error("\n❌ TEST FAILED: IVR Service SSO - Error: " + e.getMessage());
             throw e;
         }
     }
@@ -123,10 +127,10 @@ public class SuperAdminServiceNodeSSOTest extends BaseTest {
         try {
             ssoHelper.testServiceSSO("WABA");
         } catch (AssertionError e) {
-            System.err.println("\n❌ TEST FAILED: WABA Service SSO - " + e.getMessage());
+            Log.error("\n❌ TEST FAILED: WABA Service SSO - " + e.getMessage());
             throw new AssertionError("❌ FAILURE: WABA service SSO failed - " + e.getMessage(), e);
         } catch (Exception e) {
-            System.err.println("\n❌ TEST FAILED: WABA Service SSO - Error: " + e.getMessage());
+            Log.error("\n❌ TEST FAILED: WABA Service SSO - Error: " + e.getMessage());
             throw e;
         }
     }
@@ -136,10 +140,10 @@ public class SuperAdminServiceNodeSSOTest extends BaseTest {
         try {
             ssoHelper.testServiceSSO("Live Agent");
         } catch (AssertionError e) {
-            System.err.println("\n❌ TEST FAILED: Live Agent Service SSO - " + e.getMessage());
+            Log.error("\n❌ TEST FAILED: Live Agent Service SSO - " + e.getMessage());
             throw new AssertionError("❌ FAILURE: Live Agent service SSO failed - " + e.getMessage(), e);
         } catch (Exception e) {
-            System.err.println("\n❌ TEST FAILED: Live Agent Service SSO - Error: " + e.getMessage());
+            Log.error("\n❌ TEST FAILED: Live Agent Service SSO - Error: " + e.getMessage());
             throw e;
         }
     }
@@ -149,9 +153,9 @@ public class SuperAdminServiceNodeSSOTest extends BaseTest {
         try {
             LoginPage loginPage = new LoginPage(driver);
 
-            System.out.println("\n========================================");
-            System.out.println("LOGGING OUT");
-            System.out.println("========================================");
+            Log.info("\n========================================");
+            Log.info("LOGGING OUT");
+            Log.info("========================================");
 
             // Ensure we're back on SSO page or main application
             try {
@@ -164,13 +168,13 @@ public class SuperAdminServiceNodeSSOTest extends BaseTest {
             }
 
             loginPage.logout();
-            System.out.println("✓ Logout successful\n");
+            Log.info("✓ Logout successful\n");
 
-            System.out.println("========================================");
-            System.out.println("SSO TEST SUITE - COMPLETED");
-            System.out.println("========================================");
+            Log.info("========================================");
+            Log.info("SSO TEST SUITE - COMPLETED");
+            Log.info("========================================");
         } catch (Exception e) {
-            System.err.println("\n❌ TEST FAILED: SSO Logout - Error during logout: " + e.getMessage());
+            Log.error("\n❌ TEST FAILED: SSO Logout - Error during logout: " + e.getMessage());
             throw e;
         }
     }
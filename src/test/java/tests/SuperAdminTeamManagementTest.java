@@ -1,11 +1,14 @@
 package tests;
 
 import base.BaseTest;
+import base.RunAs;
+import enums.UserRole;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 import pages.LoginPage;
 import pages.TeamManagementPage;
+import utils.Log;
 
 import java.util.Arrays;
 import java.util.List;
@@ -15,6 +18,7 @@ import java.util.List;
  * Tests Team Management functionality with table operations, pagination,
  * search, and filters
  */
+@RunAs(role = UserRole.SUPERADMIN)
 public class SuperAdminTeamManagementTest extends BaseTest {
 
     private TeamManagementPage teamPage;
@@ -30,26 +34,26 @@ public class SuperAdminTeamManagementTest extends BaseTest {
             LoginPage loginPage = new LoginPage(driver);
             teamPage = new TeamManagementPage(driver);
 
-            System.out.println("========================================");
-            System.out.println("TEAM MANAGEMENT TEST SUITE");
-            System.out.println("========================================\n");
+            Log.info("========================================");
+            Log.info("TEAM MANAGEMENT TEST SUITE");
+            Log.info("========================================\n");
 
-            System.out.println("Step 1: Logging in as Super Admin...");
+            Log.info("Step 1: Logging in as Super Admin...");
             loginPage.loginWithSuperAdminCredentials();
             Thread.sleep(2000);
 
-            System.out.println("Step 2: Navigating to Team Management...");
+            Log.info("Step 2: Navigating to Team Management...");
             teamPage.navigateToTeamManagement();
             Thread.sleep(1500);
 
             Assert.assertTrue(teamPage.isPageLoaded(),
                     "❌ FAILURE: Team Management page failed to load - Check navigation or page locators");
-            System.out.println("✓ Successfully navigated to Team Management page\n");
+            Log.info("✓ Successfully navigated to Team Management page\n");
         } catch (AssertionError e) {
-            System.err.println("\n❌ TEST FAILED: Login/Navigation - " + e.getMessage());
+            Log.error("\n❌ TEST FAILED: Login/Navigation - " + e.getMessage());
             throw e;
         } catch (Exception e) {
-            System.err.println("\n❌ TEST FAILED: Login/Navigation - Unexpected error: " + e.getMessage());
+            Log.error("\n❌ TEST FAILED: Login/Navigation - Unexpected error: " + e.getMessage());
             throw e;
         }
     }
@@ -57,22 +61,22 @@ public class SuperAdminTeamManagementTest extends BaseTest {
     @Test(priority = 2, description = "Validate table headers are displayed correctly", dependsOnMethods = "testLoginAndNavigateToTeamManagement", alwaysRun = true)
     public void testTableHeaders() throws InterruptedException {
         try {
-            System.out.println("\n========================================");
-            System.out.println("TEST: Table Headers Validation");
-            System.out.println("========================================");
+            Log.info("\n========================================");
+            Log.info("TEST: Table Headers Validation");
+            Log.info("========================================");
 
             List<String> expectedHeaders = Arrays.asList("Name", "Roles Name", "Created On", "Status");
 
             List<String> actualHeaders = teamPage.getTableHeaders();
-            System.out.println("Expected headers: " + expectedHeaders);
-            System.out.println("Actual headers: " + actualHeaders);
+            Log.info("Expected headers: " + expectedHeaders);
+            Log.info("Actual headers: " + actualHeaders);
 
             // Validate that all expected headers are present
             boolean allHeadersPresent = true;
             StringBuilder missingHeaders = new StringBuilder();
             for (String expected : expectedHeaders) {
                 if (!actualHeaders.contains(expected)) {
-                    System.err.println("✗ Missing header: " + expected);
+                    Log.error("✗ Missing header: " + expected);
                     missingHeaders.append(expected).append(", ");
                     allHeadersPresent = false;
                 }
@@ -80,13 +84,13 @@ public class SuperAdminTeamManagementTest extends BaseTest {
 
             Assert.assertTrue(allHeadersPresent,
                     "❌ FAILURE: Table headers missing - " + missingHeaders.toString() + "Check table structure");
-            System.out.println("✓ All table headers validated successfully\n");
+            Log.info("✓ All table headers validated successfully\n");
             Thread.sleep(1000);
         } catch (AssertionError e) {
-            System.err.println("\n❌ TEST FAILED: Table Headers - " + e.getMessage());
+            Log.error("\n❌ TEST FAILED: Table Headers - " + e.getMessage());
             throw e;
         } catch (Exception e) {
-            System.err.println("\n❌ TEST FAILED: Table Headers - Error retrieving headers: " + e.getMessage());
+            Log.error("\n❌ TEST FAILED: Table Headers - Error retrieving headers: " + e.getMessage());
             throw e;
         }
     }
@@ -94,36 +98,36 @@ public class SuperAdminTeamManagementTest extends BaseTest {
     @Test(priority = 3, description = "Validate pagination Next button", dependsOnMethods = "testTableHeaders", alwaysRun = true)
     public void testPaginationNext() throws InterruptedException {
         try {
-            System.out.println("\n========================================");
-            System.out.println("TEST: Pagination - Next Button");
-            System.out.println("========================================");
+            Log.info("\n========================================");
+            Log.info("TEST: Pagination - Next Button");
+            Log.info("========================================");
 
             // Check if Next button is enabled
             boolean nextEnabled = teamPage.isNextEnabled();
-            System.out.println("Next button enabled: " + nextEnabled);
+            Log.info("Next button enabled: " + nextEnabled);
 
             if (nextEnabled) {
                 int rowCountBefore = teamPage.getTableRowCount();
-                System.out.println("Row count before clicking Next: " + rowCountBefore);
+                Log.info("Row count before clicking Next: " + rowCountBefore);
 
                 teamPage.clickNext();
                 Thread.sleep(1500);
 
                 String currentUrl = teamPage.getCurrentURL();
-                System.out.println("URL after clicking Next: " + currentUrl);
+                Log.info("URL after clicking Next: " + currentUrl);
 
                 int rowCountAfter = teamPage.getTableRowCount();
-                System.out.println("Row count after clicking Next: " + rowCountAfter);
+                Log.info("Row count after clicking Next: " + rowCountAfter);
 
-                System.out.println("✓ Next button clicked successfully");
+                Log.info("✓ Next button clicked successfully");
             } else {
-                System.out.println("⚠ Next button is disabled (already on last page or single page)");
+                Log.warn("⚠ Next button is disabled (already on last page or single page)");
             }
 
-            System.out.println("✓ Pagination Next button test completed\n");
+            Log.info("✓ Pagination Next button test completed\n");
             Thread.sleep(1000);
         } catch (Exception e) {
-            System.err.println("\n❌ TEST FAILED: Pagination Next - Error clicking Next button: " + e.getMessage());
+            Log.error("\n❌ TEST FAILED: Pagination Next - Error clicking Next button: " + e.getMessage());
             throw e;
         }
     }
@@ -131,36 +135,36 @@ public class SuperAdminTeamManagementTest extends BaseTest {
     @Test(priority = 4, description = "Validate pagination Previous button", dependsOnMethods = "testPaginationNext", alwaysRun = true)
     public void testPaginationPrevious() throws InterruptedException {
         try {
-            System.out.println("\n========================================");
-            System.out.println("TEST: Pagination - Previous Button");
-            System.out.println("========================================");
+            Log.info("\n========================================");
+            Log.info("TEST: Pagination - Previous Button");
+            Log.info("========================================");
 
             // Check if Previous button is enabled
             boolean prevEnabled = teamPage.isPreviousEnabled();
-            System.out.println("Previous button enabled: " + prevEnabled);
+            Log.info("Previous button enabled: " + prevEnabled);
 
             if (prevEnabled) {
                 int rowCountBefore = teamPage.getTableRowCount();
-                System.out.println("Row count before clicking Previous: " + rowCountBefore);
+                Log.info("Row count before clicking Previous: " + rowCountBefore);
 
                 teamPage.clickPrevious();
                 Thread.sleep(1500);
 
                 String currentUrl = teamPage.getCurrentURL();
-                System.out.println("URL after clicking Previous: " + currentUrl);
+                Log.info("URL after clicking Previous: " + currentUrl);
 
                 int rowCountAfter = teamPage.getTableRowCount();
-                System.out.println("Row count after clicking Previous: " + rowCountAfter);
+                Log.info("Row count after clicking Previous: " + rowCountAfter);
 
-                System.out.println("✓ Previous button clicked successfully");
+                Log.info("✓ Previous button clicked successfully");
             } else {
-                System.out.println("⚠ Previous button is disabled (already on first page)");
+                Log.warn("⚠ Previous button is disabled (already on first page)");
             }
 
-            System.out.println("✓ Pagination Previous button test completed\n");
+            Log.info("✓ Pagination Previous button test completed\n");
             Thread.sleep(1000);
         } catch (Exception e) {
-            System.err.println(
+            Log.error(
                     "\n❌ TEST FAILED: Pagination Previous - Error clicking Previous button: " + e.getMessage());
             throw e;
         }
@@ -169,21 +173,21 @@ public class SuperAdminTeamManagementTest extends BaseTest {
     @Test(priority = 5, description = "Validate Edit button is clickable", dependsOnMethods = "testPaginationPrevious", alwaysRun = true)
     public void testEditButtonClickable() throws InterruptedException {
         try {
-            System.out.println("\n========================================");
-            System.out.println("TEST: Edit Button Clickability");
-            System.out.println("========================================");
+            Log.info("\n========================================");
+            Log.info("TEST: Edit Button Clickability");
+            Log.info("========================================");
 
             boolean isClickable = teamPage.isFirstEditButtonClickable();
 
             Assert.assertTrue(isClickable,
                     "❌ FAILURE: Edit button not clickable - Check button locator or permissions");
-            System.out.println("✓ Edit button is clickable\n");
+            Log.info("✓ Edit button is clickable\n");
             Thread.sleep(1000);
         } catch (AssertionError e) {
-            System.err.println("\n❌ TEST FAILED: Edit Button - " + e.getMessage());
+            Log.error("\n❌ TEST FAILED: Edit Button - " + e.getMessage());
             throw e;
         } catch (Exception e) {
-            System.err.println("\n❌ TEST FAILED: Edit Button - Error finding Edit button: " + e.getMessage());
+            Log.error("\n❌ TEST FAILED: Edit Button - Error finding Edit button: " + e.getMessage());
             throw e;
         }
     }
@@ -191,21 +195,21 @@ public class SuperAdminTeamManagementTest extends BaseTest {
     @Test(priority = 6, description = "Validate View button is clickable", dependsOnMethods = "testEditButtonClickable", alwaysRun = true)
     public void testViewButtonClickable() throws InterruptedException {
         try {
-            System.out.println("\n========================================");
-            System.out.println("TEST: View Button Clickability");
-            System.out.println("========================================");
+            Log.info("\n========================================");
+            Log.info("TEST: View Button Clickability");
+            Log.info("========================================");
 
             boolean isClickable = teamPage.isFirstViewButtonClickable();
 
             Assert.assertTrue(isClickable,
                     "❌ FAILURE: View button not clickable - Check button locator or permissions");
-            System.out.println("✓ View button is clickable\n");
+            Log.info("✓ View button is clickable\n");
             Thread.sleep(1000);
         } catch (AssertionError e) {
-            System.err.println("\n❌ TEST FAILED: View Button - " + e.getMessage());
+            Log.error("\n❌ TEST FAILED: View Button - " + e.getMessage());
             throw e;
         } catch (Exception e) {
-            System.err.println("\n❌ TEST FAILED: View Button - Error finding View button: " + e.getMessage());
+            Log.error("\n❌ TEST FAILED: View Button - Error finding View button: " + e.getMessage());
             throw e;
         }
     }
@@ -213,35 +217,35 @@ public class SuperAdminTeamManagementTest extends BaseTest {
     @Test(priority = 7, description = "Validate Search functionality with 'Super Admin'", dependsOnMethods = "testViewButtonClickable", alwaysRun = true)
     public void testSearchFunctionality() throws InterruptedException {
         try {
-            System.out.println("\n========================================");
-            System.out.println("TEST: Search Functionality");
-            System.out.println("========================================");
+            Log.info("\n========================================");
+            Log.info("TEST: Search Functionality");
+            Log.info("========================================");
 
             String searchTerm = "Super Admin";
-            System.out.println("Searching for: " + searchTerm);
+            Log.info("Searching for: " + searchTerm);
 
             int rowCountBefore = teamPage.getTableRowCount();
-            System.out.println("Row count before search: " + rowCountBefore);
+            Log.info("Row count before search: " + rowCountBefore);
 
             teamPage.search(searchTerm);
             Thread.sleep(2000);
 
             int rowCountAfter = teamPage.getSearchResultCount();
-            System.out.println("Row count after search: " + rowCountAfter);
+            Log.info("Row count after search: " + rowCountAfter);
 
             // Verify that search returns results (should be > 0 since Super Admin exists)
             Assert.assertTrue(rowCountAfter > 0,
                     "❌ FAILURE: Search returned no results for '" + searchTerm
                             + "' - Check search functionality or data");
 
-            System.out.println("✓ Search functionality validated - Found " + rowCountAfter + " result(s)");
-            System.out.println("✓ Search returned expected results for: " + searchTerm + "\n");
+            Log.info("✓ Search functionality validated - Found " + rowCountAfter + " result(s)");
+            Log.info("✓ Search returned expected results for: " + searchTerm + "\n");
             Thread.sleep(1000);
         } catch (AssertionError e) {
-            System.err.println("\n❌ TEST FAILED: Search - " + e.getMessage());
+            Log.error("\n❌ TEST FAILED: Search - " + e.getMessage());
             throw e;
         } catch (Exception e) {
-            System.err.println("\n❌ TEST FAILED: Search - Error performing search: " + e.getMessage());
+            Log.error("\n❌ TEST FAILED: Search - Error performing search: " + e.getMessage());
             throw e;
         }
     }
@@ -249,42 +253,42 @@ public class SuperAdminTeamManagementTest extends BaseTest {
     @Test(priority = 8, description = "Validate Filter by role 'Reporting Manager'", dependsOnMethods = "testSearchFunctionality", alwaysRun = true)
     public void testFilterByRole() throws InterruptedException {
         try {
-            System.out.println("\n========================================");
-            System.out.println("TEST: Filter by Role");
-            System.out.println("========================================");
+            Log.info("\n========================================");
+            Log.info("TEST: Filter by Role");
+            Log.info("========================================");
 
             // First, clear search if any
             teamPage.search("");
             Thread.sleep(1500);
 
             int rowCountBefore = teamPage.getTableRowCount();
-            System.out.println("Row count before filter: " + rowCountBefore);
+            Log.info("Row count before filter: " + rowCountBefore);
 
             String roleName = "Reporting Manager";
-            System.out.println("Filtering by role: " + roleName);
+            Log.info("Filtering by role: " + roleName);
 
             teamPage.filterByRole(roleName);
             Thread.sleep(2000);
 
             int rowCountAfter = teamPage.getTableRowCount();
-            System.out.println("Row count after filter: " + rowCountAfter);
+            Log.info("Row count after filter: " + rowCountAfter);
 
             // CRITICAL: Validate that all displayed rows actually match the filter
-            System.out.println("\nValidating filtered results...");
+            Log.info("\nValidating filtered results...");
             boolean filterValidation = teamPage.validateFilteredResults(roleName);
 
             // Assert that the filter validation passed
             Assert.assertTrue(filterValidation,
                     "❌ FAILURE: Filter not working - Displayed rows don't match role '" + roleName + "'");
 
-            System.out.println("✓ Filter applied successfully");
-            System.out.println("✓ All results validated - All rows match expected role: " + roleName + "\n");
+            Log.info("✓ Filter applied successfully");
+            Log.info("✓ All results validated - All rows match expected role: " + roleName + "\n");
             Thread.sleep(1000);
         } catch (AssertionError e) {
-            System.err.println("\n❌ TEST FAILED: Filter by Role - " + e.getMessage());
+            Log.error("\n❌ TEST FAILED: Filter by Role - " + e.getMessage());
             throw e;
         } catch (Exception e) {
-            System.err.println("\n❌ TEST FAILED: Filter by Role - Error applying filter: " + e.getMessage());
+            Log.error("\n❌ TEST FAILED: Filter by Role - Error applying filter: " + e.getMessage());
             throw e;
         }
     }
@@ -292,21 +296,21 @@ public class SuperAdminTeamManagementTest extends BaseTest {
     @Test(priority = 9, description = "Validate Add New button is clickable", dependsOnMethods = "testFilterByRole", alwaysRun = true)
     public void testAddNewButtonClickable() throws InterruptedException {
         try {
-            System.out.println("\n========================================");
-            System.out.println("TEST: Add New Button Clickability");
-            System.out.println("========================================");
+            Log.info("\n========================================");
+            Log.info("TEST: Add New Button Clickability");
+            Log.info("========================================");
 
             boolean isClickable = teamPage.isAddNewClickable();
 
             Assert.assertTrue(isClickable,
                     "❌ FAILURE: Add New button not clickable - Check button locator or permissions");
-            System.out.println("✓ Add New button is clickable\n");
+            Log.info("✓ Add New button is clickable\n");
             Thread.sleep(1000);
         } catch (AssertionError e) {
-            System.err.println("\n❌ TEST FAILED: Add New Button - " + e.getMessage());
+            Log.error("\n❌ TEST FAILED: Add New Button - " + e.getMessage());
             throw e;
         } catch (Exception e) {
-            System.err.println("\n❌ TEST FAILED: Add New Button - Error finding Add New button: " + e.getMessage());
+            Log.error("\n❌ TEST FAILED: Add New Button - Error finding Add New button: " + e.getMessage());
             throw e;
         }
     }
@@ -316,18 +320,18 @@ public class SuperAdminTeamManagementTest extends BaseTest {
         try {
             LoginPage loginPage = new LoginPage(driver);
 
-            System.out.println("\n========================================");
-            System.out.println("LOGGING OUT");
-            System.out.println("========================================");
+            Log.info("\n========================================");
+            Log.info("LOGGING OUT");
+            Log.info("========================================");
 
             loginPage.logout();
-            System.out.println("✓ Logout successful\n");
+            Log.info("✓ Logout successful\n");
 
-            System.out.println("========================================");
-            System.out.println("TEAM MANAGEMENT TEST SUITE - COMPLETED");
-            System.out.println("========================================");
+            Log.info("========================================");
+            Log.info("TEAM MANAGEMENT TEST SUITE - COMPLETED");
+            Log.info("========================================");
         } catch (Exception e) {
-            System.err.println("\n❌ TEST FAILED: Logout - Error during logout: " + e.getMessage());
+            Log.error("\n❌ TEST FAILED: Logout - Error during logout: " + e.getMessage());
             throw e;
         }
     }
@@ -0,0 +1,168 @@
+package utils;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Reading single entries back out of an archive through its index, the way
+ * {@code ArtifactBundler list/extract} does, without a browser.
+ */
+public class ArtifactBundlerTest {
+
+    private static final String LOG = "logs/LoginTest.testLogin.log";
+    private static final String SCREENSHOT = "screenshots/LoginTest_testLogin.png";
+
+    private Path dir;
+
+    @BeforeMethod
+    public void createDir() throws IOException {
+        dir = Files.createTempDirectory("artifacts");
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void deleteDir() throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+        }
+    }
+
+    @Test
+    public void extractsDeflatedAndStoredEntriesByOffset() throws IOException {
+        byte[] log = "12:00:00.000 INFO  [main] LoginPage - Logged in\n".repeat(200).getBytes(StandardCharsets.UTF_8);
+        byte[] image = new byte[5000];
+        new Random(7).nextBytes(image);
+        Path archive = writeArchive("run-1.zip", new String[] { LOG, SCREENSHOT }, new byte[][] { log, image });
+
+        List<String[]> entries = ArtifactBundler.readIndex(archive);
+        Assert.assertEquals(entries.size(), 2);
+        Assert.assertEquals(entries.get(0)[3], LOG);
+        Assert.assertTrue(Long.parseLong(entries.get(0)[2]) < log.length, "log entry should be deflated");
+        Assert.assertEquals(entries.get(1)[3], SCREENSHOT);
+        Assert.assertEquals(Long.parseLong(entries.get(1)[2]), image.length, "image entry should be stored");
+
+        Assert.assertEquals(extract(archive, entries.get(0)), log);
+        Assert.assertEquals(extract(archive, entries.get(1)), image);
+    }
+
+    @Test
+    public void skipsTheExtraFieldOfTheLocalHeader() throws IOException {
+        byte[] text = "report body".getBytes(StandardCharsets.UTF_8);
+        Path archive = dir.resolve("run-2.zip");
+        long offset;
+        long compressedSize;
+        try (CountingOutputStream counter = new CountingOutputStream(Files.newOutputStream(archive));
+                ZipOutputStream zip = new ZipOutputStream(counter)) {
+            ZipEntry entry = new ZipEntry("ExtentReport.html");
+            // An extra field moves the data start; the reader must take its length from the header
+            entry.setExtra(new byte[] { (byte) 0xfe, (byte) 0xca, 4, 0, 1, 2, 3, 4 });
+            offset = counter.count;
+            zip.putNextEntry(entry);
+            zip.write(text);
+            zip.closeEntry();
+            compressedSize = entry.getCompressedSize();
+        }
+
+        Path target = dir.resolve("out/ExtentReport.html");
+        ArtifactBundler.extract(archive, offset, compressedSize, target);
+        Assert.assertEquals(Files.readAllBytes(target), text);
+    }
+
+    @Test
+    public void readsTheIndexOfAnUnfinishedArchive() throws IOException {
+        byte[] log = "line\n".getBytes(StandardCharsets.UTF_8);
+        Path part = writeArchive("run-3.zip.part", new String[] { LOG }, new byte[][] { log });
+
+        List<String[]> entries = ArtifactBundler.readIndex(part);
+        Assert.assertEquals(entries.size(), 1);
+        Assert.assertEquals(extract(part, entries.get(0)), log);
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void rejectsAnOffsetThatIsNoEntry() throws IOException {
+        byte[] log = "line\n".repeat(10).getBytes(StandardCharsets.UTF_8);
+        Path archive = writeArchive("run-4.zip", new String[] { LOG }, new byte[][] { log });
+        String[] entry = ArtifactBundler.readIndex(archive).get(0);
+        ArtifactBundler.extract(archive, Long.parseLong(entry[0]) + 1, Long.parseLong(entry[2]), dir.resolve("x"));
+    }
+
+    // ==================== Helpers ====================
+
+    /**
+     * An archive and its index as the bundler writes them: images stored,
+     * everything else deflated, one "offset size compressed name" line each.
+     */
+    private Path writeArchive(String fileName, String[] names, byte[][] contents) throws IOException {
+        Path archive = dir.resolve(fileName);
+        StringBuilder index = new StringBuilder();
+        try (CountingOutputStream counter = new CountingOutputStream(Files.newOutputStream(archive));
+                ZipOutputStream zip = new ZipOutputStream(counter)) {
+            for (int i = 0; i < names.length; i++) {
+                ZipEntry entry = new ZipEntry(names[i]);
+                if (names[i].endsWith(".png")) {
+                    CRC32 crc = new CRC32();
+                    crc.update(contents[i]);
+                    entry.setMethod(ZipEntry.STORED);
+                    entry.setSize(contents[i].length);
+                    entry.setCompressedSize(contents[i].length);
+                    entry.setCrc(crc.getValue());
+                }
+                long offset = counter.count;
+                zip.putNextEntry(entry);
+                zip.write(contents[i]);
+                zip.closeEntry();
+                index.append(offset).append('\t').append(entry.getSize()).append('\t')
+                        .append(entry.getCompressedSize()).append('\t').append(names[i]).append('\n');
+            }
+        }
+        String base = fileName.replaceAll("\\.zip(\\.part)?$", "");
+        Files.write(dir.resolve(base + ".index"), index.toString().getBytes(StandardCharsets.UTF_8));
+        return archive;
+    }
+
+    private byte[] extract(Path archive, String[] entry) throws IOException {
+        Path target = dir.resolve("out").resolve(Path.of(entry[3]).getFileName());
+        ArtifactBundler.extract(archive, Long.parseLong(entry[0]), Long.parseLong(entry[2]), target);
+        return Files.readAllBytes(target);
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+        private final OutputStream out;
+        long count;
+
+        CountingOutputStream(OutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package utils;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.Set;
+
+/**
+ * Reading class and method references out of compiled classes, using the
+ * nested sample classes below as input.
+ */
+public class ClassFileReaderTest {
+
+    private static final String PREFIX = ClassFileReaderTest.class.getName() + "$";
+
+    @Test
+    public void readsNamesAndConstantPoolReferences() throws IOException {
+        ClassFileReader.ClassInfo info = read(Sample.class);
+        Assert.assertEquals(info.name, PREFIX + "Sample");
+        Assert.assertEquals(info.superName, PREFIX + "Base");
+        Assert.assertTrue(info.references.contains(PREFIX + "Target"));
+        Assert.assertTrue(info.references.contains(PREFIX + "Marker"), "annotation type from its descriptor");
+        Assert.assertTrue(info.references.contains("java.lang.Runnable"));
+        Assert.assertNull(read(Object.class).superName, "java.lang.Object has no superclass");
+    }
+
+    @Test
+    public void recordsInvokesFieldsAndTypesPerMethod() throws IOException {
+        Set<String> used = read(Sample.class).methodReferences.get("invokes");
+        Assert.assertTrue(used.contains(PREFIX + "Target"), "new");
+        Assert.assertTrue(used.contains(PREFIX + "Target#<init>"));
+        Assert.assertTrue(used.contains(PREFIX + "Target#act"));
+        Assert.assertFalse(used.contains(PREFIX + "Target#afterSwitch"), "only this method's calls");
+
+        Assert.assertEquals(read(Sample.class).methodReferences.get("reads"), Set.of(PREFIX + "Target"),
+                "field access records its owner");
+        Assert.assertEquals(read(Sample.class).methodReferences.get("checks"), Set.of(PREFIX + "Target"),
+                "instanceof");
+    }
+
+    @Test
+    public void staysAlignedAfterSwitchesWideAndLongConstants() throws IOException {
+        // A wrong instruction length would misread the call that follows
+        Set<String> used = read(Sample.class).methodReferences.get("branches");
+        Assert.assertTrue(used.contains(PREFIX + "Target#afterSwitch"), "references " + used);
+    }
+
+    @Test
+    public void countsLambdaBodiesTowardsTheirMethod() throws IOException {
+        ClassFileReader.ClassInfo info = read(Sample.class);
+        Assert.assertTrue(info.methodReferences.get("deferred").contains(PREFIX + "Target#act"));
+        Assert.assertTrue(info.methodReferences.keySet().stream().noneMatch(m -> m.startsWith("lambda$")));
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void rejectsWhatIsNoClassFile() throws IOException {
+        ClassFileReader.read(new ByteArrayInputStream(new byte[] { 'P', 'K', 3, 4, 0, 0, 0, 0 }), "archive.zip");
+    }
+
+    // ==================== Samples ====================
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Marker {
+    }
+
+    static class Base {
+    }
+
+    static class Target {
+        static int counter;
+
+        void act() {
+        }
+
+        static void afterSwitch() {
+        }
+    }
+
+    static class Sample extends Base implements Runnable {
+        @Marker
+        String label;
+
+        void invokes() {
+            new Target().act();
+        }
+
+        int reads() {
+            return Target.counter;
+        }
+
+        boolean checks(Object value) {
+            return value instanceof Target;
+        }
+
+        long branches(int k) {
+            long big = 1234567890123L;
+            double half = 2.5e300;
+            int step = k;
+            step += 1000; // wide iinc
+            switch (k) {
+                case 0: step++; break;
+                case 1: step--; break;
+                case 2: step *= 2; break;
+                case 3: step /= 2; break;
+                default: break;
+            }
+            switch (k) {
+                case 1: step += 3; break;
+                case 1_000: step += 5; break;
+                case 100_000: step += 7; break;
+                default: break;
+            }
+            Target.afterSwitch();
+            return big + (long) half + step;
+        }
+
+        Runnable deferred() {
+            return () -> new Target().act();
+        }
+
+        @Override
+        public void run() {
+        }
+    }
+
+    // ==================== Helpers ====================
+
+    private static ClassFileReader.ClassInfo read(Class<?> type) throws IOException {
+        String resource = "/" + type.getName().replace('.', '/') + ".class";
+        try (InputStream in = type.getResourceAsStream(resource)) {
+            Assert.assertNotNull(in, resource);
+            return ClassFileReader.read(in, resource);
+        }
+    }
+}
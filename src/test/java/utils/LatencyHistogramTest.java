@@ -0,0 +1,94 @@
+package utils;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bucket layout and percentiles of {@link LatencyHistogram}.
+ */
+public class LatencyHistogramTest {
+
+    private static final long DAY_MICROS = 86_400_000_000L;
+
+    @Test
+    public void isExactBelowEightMicros() {
+        for (long micros = 0; micros < 8; micros++) {
+            Assert.assertEquals(LatencyHistogram.index(micros), micros);
+            Assert.assertEquals(LatencyHistogram.upperBound((int) micros), micros);
+        }
+        Assert.assertEquals(LatencyHistogram.index(-5), 0, "negative (clock step) goes to the first bucket");
+    }
+
+    @Test
+    public void bucketsAreContiguous() {
+        // The value after a bucket's upper bound starts the next bucket, up to the last one
+        int last = LatencyHistogram.index(Long.MAX_VALUE);
+        for (int index = 0; index < last; index++) {
+            long upper = LatencyHistogram.upperBound(index);
+            Assert.assertEquals(LatencyHistogram.index(upper), index, "upper bound of bucket " + index);
+            Assert.assertEquals(LatencyHistogram.index(upper + 1), index + 1, "start of bucket " + (index + 1));
+        }
+    }
+
+    @Test
+    public void boundsEveryValueWithinOneEighth() {
+        for (long micros = 8; micros < DAY_MICROS; micros = micros * 17 / 16 + 1) {
+            int index = LatencyHistogram.index(micros);
+            long upper = LatencyHistogram.upperBound(index);
+            long lower = LatencyHistogram.upperBound(index - 1) + 1;
+            Assert.assertTrue(lower <= micros && micros <= upper, micros + " us outside bucket " + index);
+            Assert.assertTrue(upper - lower + 1 <= lower / 8.0, "bucket " + index + " wider than 12.5%");
+        }
+    }
+
+    @Test
+    public void clampsToTheLastBucket() {
+        int last = LatencyHistogram.index(Long.MAX_VALUE);
+        Assert.assertEquals(LatencyHistogram.index(Long.MAX_VALUE / 2), last);
+        Assert.assertTrue(LatencyHistogram.upperBound(last) > DAY_MICROS, "last bucket should reach past a day");
+    }
+
+    @Test
+    public void reportsPercentilesAsBucketUpperBounds() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i * 1000L); // 1..100 us
+        }
+        Assert.assertEquals(histogram.count(), 100);
+        Assert.assertEquals(histogram.meanMicros(), 50.5, 1e-9);
+        Assert.assertEquals(histogram.maxMicros(), 100.0, 1e-9);
+
+        long median = histogram.percentileMicros(50);
+        Assert.assertEquals(median, LatencyHistogram.upperBound(LatencyHistogram.index(50)));
+        Assert.assertTrue(median >= 50 && median <= 50 * 1.125, "p50 " + median);
+        Assert.assertEquals(histogram.percentileMicros(100),
+                LatencyHistogram.upperBound(LatencyHistogram.index(100)));
+        Assert.assertEquals(histogram.percentileMicros(0.5), 1);
+        Assert.assertEquals(new LatencyHistogram().percentileMicros(99), 0, "empty histogram");
+    }
+
+    @Test
+    public void countsEveryRecordFromConcurrentThreads() throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 100_000; i++) {
+                    histogram.record((i % 5_000) * 1000L);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Assert.assertEquals(histogram.count(), 400_000);
+        Assert.assertEquals(histogram.maxMicros(), 4_999.0, 1e-9);
+        Assert.assertEquals(histogram.percentileMicros(100), LatencyHistogram.upperBound(
+                LatencyHistogram.index(4_999)));
+    }
+}
@@ -0,0 +1,124 @@
+package utils;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Replaying the event logs written by {@link ReportLog} into report tests,
+ * from hand-written event files, without a browser.
+ */
+public class ReportRendererTest {
+
+    private Path dir;
+
+    @BeforeMethod
+    public void createDir() throws IOException {
+        dir = Files.createTempDirectory("report");
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void deleteDir() throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+        }
+    }
+
+    @Test
+    public void ordersEventsOfOneTestFromSeveralThreadsBySequence() throws IOException {
+        Path reportDir = dir.resolve("test-output");
+        // A test's events can be written by its own thread and by a helper thread
+        writeEvents(reportDir, "events-main-1-100.jsonl",
+                "{\"e\":\"test\",\"id\":\"100-1\",\"name\":\"testLogin\",\"class\":\"tests.LoginTest\","
+                        + "\"ts\":1000,\"seq\":1}",
+                "{\"e\":\"log\",\"id\":\"100-1\",\"status\":\"INFO\",\"details\":\"first\",\"ts\":1100,\"seq\":2}",
+                "{\"e\":\"log\",\"id\":\"100-1\",\"status\":\"PASS\",\"details\":\"third\",\"ts\":1300,\"seq\":4}",
+                "{\"e\":\"end\",\"id\":\"100-1\",\"ts\":1500,\"seq\":5}");
+        writeEvents(reportDir, "events-pool-2-100.jsonl",
+                "{\"e\":\"log\",\"id\":\"100-1\",\"status\":\"INFO\",\"details\":\"second\",\"ts\":1200,\"seq\":3}");
+
+        List<ReportRenderer.RecordedTest> tests = ReportRenderer.load(List.of(reportDir), dir);
+        Assert.assertEquals(tests.size(), 1);
+        ReportRenderer.RecordedTest test = tests.get(0);
+        Assert.assertEquals(test.name, "testLogin");
+        Assert.assertEquals(test.testClass, "tests.LoginTest");
+        Assert.assertEquals(test.events.stream().map(e -> e.get("details")).toArray(),
+                new Object[] { "first", "second", "third" });
+        Assert.assertTrue(test.ended, "end event should mark the test as finished");
+        Assert.assertEquals(test.start, 1000);
+        Assert.assertEquals(test.end, 1500);
+    }
+
+    @Test
+    public void keepsTheEventsBeforeALineCutShortByACrash() throws IOException {
+        Path reportDir = dir.resolve("test-output");
+        writeEvents(reportDir, "events-main-1-100.jsonl",
+                "{\"e\":\"test\",\"id\":\"100-1\",\"name\":\"testExport\",\"ts\":1000,\"seq\":1}",
+                "{\"e\":\"log\",\"id\":\"100-1\",\"status\":\"INFO\",\"details\":\"exported\",\"ts\":1100,\"seq\":2}",
+                "",
+                "{\"e\":\"log\",\"id\":\"100-1\",\"status\":\"FA");
+
+        List<ReportRenderer.RecordedTest> tests = ReportRenderer.load(List.of(reportDir), dir);
+        Assert.assertEquals(tests.size(), 1);
+        Assert.assertEquals(tests.get(0).events.size(), 1);
+        Assert.assertFalse(tests.get(0).ended, "no end event: the test was interrupted");
+    }
+
+    @Test
+    public void mergesShardsInStartOrderWithMediaRelativeToTheOutput() throws IOException {
+        Path shard1 = dir.resolve("shards/shard-1");
+        Path shard2 = dir.resolve("shards/shard-2");
+        writeEvents(shard1, "events-main-1-100.jsonl",
+                "{\"e\":\"test\",\"id\":\"100-1\",\"name\":\"testB\",\"ts\":2000,\"seq\":1}",
+                "{\"e\":\"log\",\"id\":\"100-1\",\"status\":\"INFO\",\"title\":\"page\","
+                        + "\"media\":\"media/100-1.png\",\"ts\":2100,\"seq\":2}",
+                "{\"e\":\"end\",\"id\":\"100-1\",\"ts\":2200,\"seq\":3}");
+        writeEvents(shard2, "events-main-1-200.jsonl",
+                "{\"e\":\"test\",\"id\":\"200-1\",\"name\":\"testA\",\"ts\":1000,\"seq\":1}",
+                "{\"e\":\"category\",\"id\":\"200-1\",\"names\":[\"ADMIN\"],\"ts\":1001,\"seq\":2}",
+                "{\"e\":\"log\",\"id\":\"999-9\",\"status\":\"INFO\",\"details\":\"no test\",\"ts\":1002,\"seq\":3}",
+                "{\"e\":\"end\",\"id\":\"200-1\",\"ts\":1100,\"seq\":4}");
+
+        List<ReportRenderer.RecordedTest> tests = ReportRenderer.load(List.of(shard1, shard2), dir);
+        Assert.assertEquals(tests.size(), 2, "events of an unknown test are dropped");
+        Assert.assertEquals(tests.get(0).name, "testA");
+        Assert.assertEquals(tests.get(0).events.size(), 1);
+        Assert.assertEquals(tests.get(1).name, "testB");
+        Assert.assertEquals(tests.get(1).events.get(0).get("media"), "shards/shard-1/media/100-1.png");
+    }
+
+    @Test
+    public void rendersTestsAndMarksUnfinishedOnes() throws IOException {
+        Path reportDir = dir.resolve("test-output");
+        writeEvents(reportDir, "events-main-1-100.jsonl",
+                "{\"e\":\"test\",\"id\":\"100-1\",\"name\":\"testFinished\",\"ts\":1000,\"seq\":1}",
+                "{\"e\":\"log\",\"id\":\"100-1\",\"status\":\"FAIL\",\"trace\":\"java.lang.AssertionError: "
+                        + "expected [2]\\n\\tat tests.LoginTest.testFinished(LoginTest.java:42)\\n\","
+                        + "\"ts\":1100,\"seq\":2}",
+                "{\"e\":\"end\",\"id\":\"100-1\",\"ts\":1200,\"seq\":3}",
+                "{\"e\":\"test\",\"id\":\"100-2\",\"name\":\"testCrashed\",\"ts\":1300,\"seq\":4}");
+
+        Path output = reportDir.resolve("ExtentReport.html");
+        ReportRenderer.render(List.of(reportDir), output.toString());
+        String html = Files.readString(output);
+        Assert.assertTrue(html.contains("testFinished") && html.contains("testCrashed"), "both tests rendered");
+        Assert.assertTrue(html.contains("LoginTest.java:42"), "recorded stack trace replayed");
+        Assert.assertTrue(html.contains("Test did not finish"), "interrupted test marked");
+    }
+
+    // ==================== Helpers ====================
+
+    private static void writeEvents(Path reportDir, String fileName, String... lines) throws IOException {
+        Path events = Files.createDirectories(reportDir.resolve(ReportLog.EVENTS_DIR));
+        Files.write(events.resolve(fileName), String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+}